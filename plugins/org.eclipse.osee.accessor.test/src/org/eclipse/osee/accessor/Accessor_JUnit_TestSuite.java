@@ -0,0 +1,31 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.accessor;
+
+import org.eclipse.osee.accessor.internal.ArtifactAccessorFactoryTest;
+import org.eclipse.osee.accessor.internal.ArtifactAccessorImplTest;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+/**
+ * Test Suite to run all the pure JUnit test suites in this bundle.
+ *
+ * @author agent
+ */
+@RunWith(Suite.class)
+@Suite.SuiteClasses({ArtifactAccessorFactoryTest.class, ArtifactAccessorImplTest.class})
+public class Accessor_JUnit_TestSuite {
+   // Test Suite
+}
@@ -0,0 +1,107 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.accessor.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import org.eclipse.osee.accessor.types.ArtifactAccessorResult;
+import org.eclipse.osee.framework.core.data.ApplicabilityToken;
+import org.eclipse.osee.framework.core.data.ArtifactReadable;
+import org.junit.Test;
+
+/**
+ * Test Case for {@link ArtifactAccessorFactory}
+ *
+ * @author agent
+ */
+public class ArtifactAccessorFactoryTest {
+
+   public static class Result implements ArtifactAccessorResult {
+      private final ArtifactReadable artifact;
+      private ApplicabilityToken applicability;
+
+      public Result() {
+         this(null);
+      }
+
+      public Result(ArtifactReadable artifact) {
+         this.artifact = artifact;
+      }
+
+      public ArtifactReadable getArtifact() {
+         return artifact;
+      }
+
+      public ApplicabilityToken getApplicability() {
+         return applicability;
+      }
+
+      public void setApplicability(ApplicabilityToken applicability) {
+         this.applicability = applicability;
+      }
+   }
+
+   public static class ResultWithoutDefault implements ArtifactAccessorResult {
+      public ResultWithoutDefault(ArtifactReadable artifact) {
+         // only the artifact constructor
+      }
+   }
+
+   public static class ResultWithoutArtifact implements ArtifactAccessorResult {
+      // only the default constructor
+   }
+
+   @Test
+   public void testCreate() throws Exception {
+      ArtifactReadable artifact = mock(ArtifactReadable.class);
+      ArtifactAccessorFactory<Result> factory = ArtifactAccessorFactory.forType(Result.class);
+
+      Result result = factory.create(artifact);
+      assertSame(artifact, result.getArtifact());
+      assertNull(factory.createDefault().getArtifact());
+      assertEquals(Result.class, factory.getType());
+   }
+
+   @Test
+   public void testSetApplicability() throws Exception {
+      ArtifactAccessorFactory<Result> factory = ArtifactAccessorFactory.forType(Result.class);
+      ApplicabilityToken applicability = ApplicabilityToken.valueOf(5L, "Config = A");
+
+      assertTrue(factory.hasApplicabilitySetter());
+      Result result = factory.create(mock(ArtifactReadable.class));
+      factory.setApplicability(result, applicability);
+      assertSame(applicability, result.getApplicability());
+      assertFalse(ArtifactAccessorFactory.forType(ResultWithoutDefault.class).hasApplicabilitySetter());
+   }
+
+   @Test
+   public void testFactoryIsSharedPerType() throws Exception {
+      assertSame(ArtifactAccessorFactory.forType(Result.class), ArtifactAccessorFactory.forType(Result.class));
+   }
+
+   @Test(expected = NoSuchMethodException.class)
+   public void testMissingArtifactConstructor() throws Exception {
+      ArtifactAccessorFactory.forType(ResultWithoutArtifact.class);
+   }
+
+   @Test(expected = NoSuchMethodException.class)
+   public void testMissingDefaultConstructor() throws Exception {
+      ArtifactAccessorFactory.forType(ResultWithoutDefault.class).createDefault();
+   }
+}
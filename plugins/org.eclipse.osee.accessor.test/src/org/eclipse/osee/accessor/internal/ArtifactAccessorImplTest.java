@@ -0,0 +1,206 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.accessor.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.osee.accessor.internal.ArtifactAccessorFactoryTest.Result;
+import org.eclipse.osee.accessor.types.ArtifactAccessorResult;
+import org.eclipse.osee.framework.core.data.ApplicabilityToken;
+import org.eclipse.osee.framework.core.data.ArtifactId;
+import org.eclipse.osee.framework.core.data.ArtifactReadable;
+import org.eclipse.osee.framework.core.data.ArtifactTypeToken;
+import org.eclipse.osee.framework.core.data.BranchId;
+import org.eclipse.osee.framework.core.enums.CoreArtifactTypes;
+import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
+import org.eclipse.osee.orcs.OrcsApi;
+import org.eclipse.osee.orcs.search.ApplicabilityQuery;
+import org.eclipse.osee.orcs.search.QueryBuilder;
+import org.eclipse.osee.orcs.search.QueryFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test Case for {@link ArtifactAccessorImpl}
+ *
+ * @author agent
+ */
+public class ArtifactAccessorImplTest {
+
+   private static final BranchId BRANCH = BranchId.valueOf(570L);
+   private static final ArtifactTypeToken TYPE = CoreArtifactTypes.Artifact;
+
+   public static class FailingResult implements ArtifactAccessorResult {
+      public FailingResult(ArtifactReadable artifact) {
+         throw new IllegalStateException("constructor failed");
+      }
+   }
+
+   private OrcsApi orcsApi;
+   private QueryBuilder query;
+   private ApplicabilityQuery applicabilityQuery;
+   private ArtifactReadable artifact;
+
+   @Before
+   public void setUp() {
+      orcsApi = mock(OrcsApi.class);
+      QueryFactory queryFactory = mock(QueryFactory.class);
+      applicabilityQuery = mock(ApplicabilityQuery.class);
+      query = mock(QueryBuilder.class, invocation -> {
+         if (invocation.getMethod().getReturnType().isAssignableFrom(QueryBuilder.class)) {
+            return invocation.getMock();
+         }
+         return RETURNS_DEFAULTS.answer(invocation);
+      });
+      when(orcsApi.getQueryFactory()).thenReturn(queryFactory);
+      when(queryFactory.fromBranch(any(BranchId.class), any(ArtifactId.class))).thenReturn(query);
+      when(queryFactory.applicabilityQuery()).thenReturn(applicabilityQuery);
+
+      artifact = mock(ArtifactReadable.class);
+      when(artifact.isValid()).thenReturn(true);
+   }
+
+   @Test
+   public void testGetSetsApplicability() throws Exception {
+      ApplicabilityToken applicability = ApplicabilityToken.valueOf(5L, "Config = A");
+      when(query.asArtifactOrSentinel()).thenReturn(artifact);
+      when(applicabilityQuery.getApplicabilityToken(artifact, BRANCH)).thenReturn(applicability);
+
+      Result result = new ArtifactAccessorImpl<Result>(TYPE, orcsApi) {
+         // generic type captured by the subclass
+      }.get(BRANCH, ArtifactId.valueOf(7L));
+
+      assertSame(artifact, result.getArtifact());
+      assertSame(applicability, result.getApplicability());
+   }
+
+   @Test
+   public void testGetMissingArtifactReturnsDefault() throws Exception {
+      when(query.asArtifactOrSentinel()).thenReturn(ArtifactReadable.SENTINEL);
+
+      Result result = new ArtifactAccessorImpl<Result>(TYPE, orcsApi) {
+         // generic type captured by the subclass
+      }.get(BRANCH, ArtifactId.valueOf(7L));
+
+      assertNull(result.getArtifact());
+   }
+
+   @Test
+   public void testGetAll() throws Exception {
+      ArtifactReadable invalid = mock(ArtifactReadable.class);
+      when(query.asArtifacts()).thenReturn(Arrays.asList(artifact, invalid, artifact));
+      when(query.areApplicabilityTokensIncluded()).thenReturn(true);
+
+      Collection<Result> results = new ArtifactAccessorImpl<Result>(TYPE, orcsApi) {
+         // generic type captured by the subclass
+      }.getAll(BRANCH);
+
+      assertEquals(2, results.size());
+      Iterator<Result> iterator = results.iterator();
+      assertSame(artifact, iterator.next().getArtifact());
+      assertNull(iterator.next().getApplicability());
+   }
+
+   @Test
+   public void testStreamAllLoadsArtifactsAsConsumed() {
+      List<ArtifactId> artIds = new ArrayList<>();
+      Map<ArtifactId, ArtifactReadable> artifacts = new HashMap<>();
+      for (long id = 1; id <= 1100; id++) {
+         ArtifactId artId = ArtifactId.valueOf(id);
+         artIds.add(artId);
+         // artifact 3 was deleted after the ids were selected
+         if (id != 3) {
+            ArtifactReadable artifact = mock(ArtifactReadable.class);
+            when(artifact.isValid()).thenReturn(true);
+            artifacts.put(artId, artifact);
+         }
+      }
+      List<Collection<ArtifactId>> batches = new ArrayList<>();
+      when(query.asArtifactIds()).thenReturn(artIds);
+      when(query.andIds(anyCollection())).thenAnswer(invocation -> {
+         batches.add(new ArrayList<>(invocation.getArgument(0)));
+         return query;
+      });
+      when(query.asArtifactMap()).thenAnswer(invocation -> {
+         Map<ArtifactId, ArtifactReadable> batch = new HashMap<>();
+         for (ArtifactId artId : batches.get(batches.size() - 1)) {
+            if (artifacts.containsKey(artId)) {
+               batch.put(artId, artifacts.get(artId));
+            }
+         }
+         return batch;
+      });
+
+      Iterator<Result> results = new ArtifactAccessorImpl<Result>(TYPE, orcsApi) {
+         // generic type captured by the subclass
+      }.streamAll(BRANCH, ArtifactId.SENTINEL).iterator();
+
+      assertEquals(0, batches.size());
+      assertSame(artifacts.get(artIds.get(0)), results.next().getArtifact());
+      assertSame(artifacts.get(artIds.get(1)), results.next().getArtifact());
+      assertSame(artifacts.get(artIds.get(3)), results.next().getArtifact());
+      assertEquals(1, batches.size());
+      assertEquals(artIds.subList(0, 500), batches.get(0));
+
+      int count = 3;
+      for (; results.hasNext(); count++) {
+         assertSame(artifacts.get(artIds.get(count + 1)), results.next().getArtifact());
+      }
+      assertEquals(1099, count);
+      assertFalse(results.hasNext());
+      assertEquals(3, batches.size());
+      assertEquals(artIds.subList(1000, 1100), batches.get(2));
+   }
+
+   @Test
+   public void testConstructorExceptionIsWrapped() throws Exception {
+      when(query.asArtifactOrSentinel()).thenReturn(artifact);
+      try {
+         new ArtifactAccessorImpl<FailingResult>(TYPE, orcsApi) {
+            // generic type captured by the subclass
+         }.get(BRANCH, ArtifactId.valueOf(7L));
+         fail("Expected InvocationTargetException");
+      } catch (InvocationTargetException ex) {
+         assertEquals("constructor failed", ex.getCause().getMessage());
+      }
+   }
+
+   @Test(expected = OseeCoreException.class)
+   public void testApplicabilityQueryExceptionIsNotWrapped() throws Exception {
+      when(query.asArtifactOrSentinel()).thenReturn(artifact);
+      when(applicabilityQuery.getApplicabilityToken(artifact, BRANCH)).thenThrow(
+         new OseeCoreException("applicability query failed"));
+
+      new ArtifactAccessorImpl<Result>(TYPE, orcsApi) {
+         // generic type captured by the subclass
+      }.get(BRANCH, ArtifactId.valueOf(7L));
+   }
+}
@@ -14,6 +14,7 @@ package org.eclipse.osee.accessor;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
+import java.util.stream.Stream;
 import org.eclipse.osee.accessor.types.ArtifactMatch;
 import org.eclipse.osee.accessor.types.AttributeQuery;
 import org.eclipse.osee.framework.core.data.ArtifactId;
@@ -100,6 +101,22 @@ public interface ArtifactAccessor<T> {
       ArtifactId viewId) throws InstantiationException, IllegalAccessException, IllegalArgumentException,
       InvocationTargetException, NoSuchMethodException, SecurityException;
 
+   /**
+    * Same results as {@link #getAll(BranchId, ArtifactId)}, but only the ids are selected up front; the artifacts are
+    * loaded in batches and their results created as the stream is consumed, so a caller that pages or serializes the
+    * results does not hold all of them at once
+    */
+   Stream<T> streamAll(BranchId branch, ArtifactId viewId);
+
+   /**
+    * Same results as
+    * {@link #getAll(BranchId, Collection, String, Collection, long, long, AttributeTypeId, ArtifactId)}, loaded in
+    * batches as the stream is consumed
+    */
+   Stream<T> streamAll(BranchId branch, Collection<FollowRelation> followRelations, String filter,
+      Collection<AttributeTypeId> attributes, long pageCount, long pageSize, AttributeTypeId orderByAttribute,
+      ArtifactId viewId);
+
    Collection<T> getAllByFilter(BranchId branch, String filter, Collection<AttributeTypeId> attributes)
       throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException,
       NoSuchMethodException, SecurityException;
@@ -0,0 +1,191 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+package org.eclipse.osee.accessor.internal;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.eclipse.osee.framework.core.data.ApplicabilityToken;
+import org.eclipse.osee.framework.core.data.ArtifactReadable;
+import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
+
+/**
+ * Creates accessor result objects without per artifact reflection. The constructors and applicability setter of each
+ * result type are looked up once and bound to functional interfaces with {@link LambdaMetafactory}, so creating a
+ * result costs the same as calling its constructor directly. Factories are shared through a {@link ClassValue} keyed by
+ * result type, which does not keep a result type's class loader from being collected.
+ *
+ * @author agent
+ * @param <T> Class for storing/presenting artifact
+ */
+public final class ArtifactAccessorFactory<T> {
+
+   private static final ClassValue<ArtifactAccessorFactory<?>> factories = new ClassValue<ArtifactAccessorFactory<?>>() {
+      @Override
+      protected ArtifactAccessorFactory<?> computeValue(Class<?> type) {
+         try {
+            return new ArtifactAccessorFactory<>(type);
+         } catch (NoSuchMethodException ex) {
+            throw new MissingConstructorException(ex);
+         }
+      }
+   };
+
+   private static final class MissingConstructorException extends RuntimeException {
+      private static final long serialVersionUID = 1L;
+
+      private MissingConstructorException(NoSuchMethodException cause) {
+         super(cause);
+      }
+   }
+
+   private final Class<T> type;
+   private final Function<ArtifactReadable, T> constructor;
+   private final Supplier<T> defaultConstructor;
+   private final MethodHandle applicabilitySetter;
+
+   private ArtifactAccessorFactory(Class<T> type) throws NoSuchMethodException {
+      this.type = type;
+      MethodHandles.Lookup lookup = lookupIn(type);
+      constructor = bindConstructor(lookup, type);
+      defaultConstructor = bindDefaultConstructor(lookup, type);
+      applicabilitySetter = findApplicabilitySetter(lookup, type);
+   }
+
+   /**
+    * @throws NoSuchMethodException if the type does not have a public constructor taking an {@link ArtifactReadable}
+    */
+   @SuppressWarnings("unchecked")
+   public static <T> ArtifactAccessorFactory<T> forType(Class<T> type) throws NoSuchMethodException {
+      try {
+         return (ArtifactAccessorFactory<T>) factories.get(type);
+      } catch (MissingConstructorException ex) {
+         throw (NoSuchMethodException) ex.getCause();
+      }
+   }
+
+   /**
+    * The lambda classes are defined in the result type's class loader so they can see the result type even though this
+    * bundle cannot
+    */
+   private static MethodHandles.Lookup lookupIn(Class<?> type) {
+      try {
+         return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+      } catch (IllegalAccessException ex) {
+         return MethodHandles.publicLookup();
+      }
+   }
+
+   @SuppressWarnings("unchecked")
+   private static <T> Function<ArtifactReadable, T> bindConstructor(MethodHandles.Lookup lookup, Class<T> type)
+      throws NoSuchMethodException {
+      MethodHandle handle = findConstructor(lookup, type, ArtifactReadable.class);
+      try {
+         return (Function<ArtifactReadable, T>) LambdaMetafactory.metafactory(lookup, "apply",
+            MethodType.methodType(Function.class), MethodType.methodType(Object.class, Object.class), handle,
+            handle.type()).getTarget().invoke();
+      } catch (Throwable ex) {
+         MethodHandle generic = handle.asType(MethodType.methodType(Object.class, ArtifactReadable.class));
+         return artifact -> (T) invoke(generic, artifact);
+      }
+   }
+
+   @SuppressWarnings("unchecked")
+   private static <T> Supplier<T> bindDefaultConstructor(MethodHandles.Lookup lookup, Class<T> type) {
+      MethodHandle handle;
+      try {
+         handle = findConstructor(lookup, type);
+      } catch (NoSuchMethodException ex) {
+         return null;
+      }
+      try {
+         return (Supplier<T>) LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class),
+            MethodType.methodType(Object.class), handle, handle.type()).getTarget().invoke();
+      } catch (Throwable ex) {
+         MethodHandle generic = handle.asType(MethodType.methodType(Object.class));
+         return () -> (T) invoke(generic);
+      }
+   }
+
+   private static MethodHandle findConstructor(MethodHandles.Lookup lookup, Class<?> type, Class<?>... parameters)
+      throws NoSuchMethodException {
+      try {
+         return lookup.findConstructor(type, MethodType.methodType(void.class, parameters));
+      } catch (IllegalAccessException ex) {
+         NoSuchMethodException noAccess = new NoSuchMethodException(type.getName() + " constructor is not accessible");
+         noAccess.initCause(ex);
+         throw noAccess;
+      }
+   }
+
+   private static MethodHandle findApplicabilitySetter(MethodHandles.Lookup lookup, Class<?> type) {
+      for (Method method : type.getMethods()) {
+         if (method.getName().startsWith("set") && method.getName().endsWith(
+            "Applicability") && method.getParameterTypes().length == 1 && void.class.equals(method.getReturnType())) {
+            try {
+               return lookup.unreflect(method).asType(MethodType.methodType(void.class, Object.class, Object.class));
+            } catch (IllegalAccessException ex) {
+               throw new OseeCoreException(ex, "Applicability setter %s of %s is not accessible", method.getName(),
+                  type.getName());
+            }
+         }
+      }
+      return null;
+   }
+
+   private static Object invoke(MethodHandle handle, Object... arguments) {
+      try {
+         return handle.invokeWithArguments(arguments);
+      } catch (RuntimeException | Error ex) {
+         throw ex;
+      } catch (Throwable ex) {
+         throw new OseeCoreException(ex);
+      }
+   }
+
+   public Class<T> getType() {
+      return type;
+   }
+
+   public T create(ArtifactReadable artifact) {
+      return constructor.apply(artifact);
+   }
+
+   /**
+    * @throws NoSuchMethodException if the type does not have a public no argument constructor
+    */
+   public T createDefault() throws NoSuchMethodException {
+      if (defaultConstructor == null) {
+         throw new NoSuchMethodException(type.getName() + ".<init>()");
+      }
+      return defaultConstructor.get();
+   }
+
+   public boolean hasApplicabilitySetter() {
+      return applicabilitySetter != null;
+   }
+
+   public void setApplicability(T result, ApplicabilityToken applicability) {
+      try {
+         applicabilitySetter.invokeExact((Object) result, (Object) applicability);
+      } catch (RuntimeException | Error ex) {
+         throw ex;
+      } catch (Throwable ex) {
+         throw new OseeCoreException(ex);
+      }
+   }
+}
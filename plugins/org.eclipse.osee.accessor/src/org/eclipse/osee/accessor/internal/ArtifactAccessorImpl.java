@@ -13,18 +13,26 @@
 package org.eclipse.osee.accessor.internal;
 
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.eclipse.osee.accessor.ArtifactAccessor;
 import org.eclipse.osee.accessor.types.ArtifactAccessorResult;
 import org.eclipse.osee.accessor.types.ArtifactMatch;
 import org.eclipse.osee.accessor.types.AttributeQuery;
 import org.eclipse.osee.accessor.types.AttributeQueryElement;
 import org.eclipse.osee.accessor.types.RelatedArtifact;
+import org.eclipse.osee.framework.core.data.ApplicabilityToken;
 import org.eclipse.osee.framework.core.data.ArtifactId;
 import org.eclipse.osee.framework.core.data.ArtifactReadable;
 import org.eclipse.osee.framework.core.data.ArtifactTypeToken;
@@ -33,6 +41,7 @@ import org.eclipse.osee.framework.core.data.BranchId;
 import org.eclipse.osee.framework.core.data.RelationTypeSide;
 import org.eclipse.osee.framework.core.enums.QueryOption;
 import org.eclipse.osee.framework.core.enums.RelationSide;
+import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
 import org.eclipse.osee.framework.jdk.core.util.SortOrder;
 import org.eclipse.osee.framework.jdk.core.util.Strings;
 import org.eclipse.osee.orcs.OrcsApi;
@@ -46,14 +55,25 @@ import org.eclipse.osee.orcs.search.QueryBuilder;
  * @param <T> Class for storing/presenting artifact
  */
 public class ArtifactAccessorImpl<T extends ArtifactAccessorResult> implements ArtifactAccessor<T> {
+   private static final int STREAM_BATCH_SIZE = 500;
    private ArtifactTypeToken artifactType = ArtifactTypeToken.SENTINEL;
    private OrcsApi orcsApi;
+   private volatile ArtifactAccessorFactory<T> factory;
 
    @SuppressWarnings("unchecked")
    private Class<T> getType() {
       return (Class<T>) ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0];
    }
 
+   private ArtifactAccessorFactory<T> getFactory() throws NoSuchMethodException {
+      ArtifactAccessorFactory<T> factory = this.factory;
+      if (factory == null) {
+         factory = ArtifactAccessorFactory.forType(getType());
+         this.factory = factory;
+      }
+      return factory;
+   }
+
    public ArtifactAccessorImpl(ArtifactTypeToken artifactType, OrcsApi orcsApi) {
       this.setArtifactType(artifactType);
       this.bindOrcsApi(orcsApi);
@@ -77,39 +97,42 @@ public class ArtifactAccessorImpl<T extends ArtifactAccessorResult> implements A
       this.artifactType = artifactType;
    }
 
-   @SuppressWarnings("unused")
-   private boolean hasSetApplic(Class<?> type) {
-      if (getSetApplic(type) != null) {
-         return true;
+   /**
+    * Exceptions thrown by the result's constructor or applicability setter are reported as
+    * {@link InvocationTargetException} as they were when the results were created reflectively; exceptions from the
+    * applicability query are not wrapped
+    */
+   private T create(ArtifactAccessorFactory<T> factory, ArtifactReadable artifact, boolean setApplicability,
+      BranchId branch) throws InvocationTargetException {
+      ApplicabilityToken applicability = null;
+      if (setApplicability) {
+         applicability = orcsApi.getQueryFactory().applicabilityQuery().getApplicabilityToken(artifact, branch);
       }
-      return false;
-   }
-
-   private Method getSetApplic(Class<?> type) {
-      for (Method method : type.getMethods()) {
-         if (method.getName().startsWith("set") && method.getParameterTypes().length == 1 && void.class.equals(
-            method.getReturnType())) {
-            //is a setter
-            if (method.getName().endsWith("Applicability")) {
-               return method;
-            }
+      try {
+         T returnObj = factory.create(artifact);
+         if (setApplicability) {
+            factory.setApplicability(returnObj, applicability);
          }
+         return returnObj;
+      } catch (RuntimeException ex) {
+         throw new InvocationTargetException(ex);
       }
-      return null;
+   }
+
+   private boolean isApplicabilitySetNeeded(ArtifactAccessorFactory<T> factory, QueryBuilder query) {
+      return factory.hasApplicabilitySetter() && !query.areApplicabilityTokensIncluded();
    }
 
    private Collection<T> fetchCollection(QueryBuilder query, BranchId branch)
       throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException,
       NoSuchMethodException, SecurityException {
-      List<T> artifactList = new LinkedList<T>();
-      for (ArtifactReadable artifact : query.asArtifacts()) {
+      ArtifactAccessorFactory<T> factory = getFactory();
+      boolean setApplicability = isApplicabilitySetNeeded(factory, query);
+      List<ArtifactReadable> artifacts = query.asArtifacts();
+      List<T> artifactList = new ArrayList<T>(artifacts.size());
+      for (ArtifactReadable artifact : artifacts) {
          if (artifact.isValid()) {
-            T returnObj = this.getType().getDeclaredConstructor(ArtifactReadable.class).newInstance(artifact);
-            if (getSetApplic(this.getType()) != null && !query.areApplicabilityTokensIncluded()) {
-               getSetApplic(this.getType()).invoke(returnObj,
-                  orcsApi.getQueryFactory().applicabilityQuery().getApplicabilityToken(artifact, branch));
-            }
-            artifactList.add(returnObj);
+            artifactList.add(create(factory, artifact, setApplicability, branch));
          }
       }
       return artifactList;
@@ -117,16 +140,16 @@ public class ArtifactAccessorImpl<T extends ArtifactAccessorResult> implements A
 
    private T fetchSingle(QueryBuilder query, BranchId branch) throws InstantiationException, IllegalAccessException,
       IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
+      ArtifactAccessorFactory<T> factory = getFactory();
       ArtifactReadable artifact = query.asArtifactOrSentinel();
       if (artifact.isValid()) {
-         T returnObj = this.getType().getDeclaredConstructor(ArtifactReadable.class).newInstance(artifact);
-         if (getSetApplic(this.getType()) != null && !query.areApplicabilityTokensIncluded()) {
-            getSetApplic(this.getType()).invoke(returnObj,
-               orcsApi.getQueryFactory().applicabilityQuery().getApplicabilityToken(artifact, branch));
-         }
-         return returnObj;
+         return create(factory, artifact, isApplicabilitySetNeeded(factory, query), branch);
+      }
+      try {
+         return factory.createDefault();
+      } catch (RuntimeException ex) {
+         throw new InvocationTargetException(ex);
       }
-      return this.getType().getDeclaredConstructor().newInstance();
    }
 
    @Override
@@ -284,6 +307,90 @@ public class ArtifactAccessorImpl<T extends ArtifactAccessorResult> implements A
       Collection<AttributeTypeId> attributes, long pageCount, long pageSize, AttributeTypeId orderByAttribute,
       ArtifactId viewId) throws InstantiationException, IllegalAccessException, IllegalArgumentException,
       InvocationTargetException, NoSuchMethodException, SecurityException {
+      QueryBuilder query = buildGetAllQuery(branch, filter, attributes, pageCount, pageSize, orderByAttribute, viewId);
+      for (FollowRelation rel : followRelations) {
+         query = buildFollowRelationQuery(query, rel);
+      }
+      return fetchCollection(query, branch);
+   }
+
+   @Override
+   public Stream<T> streamAll(BranchId branch, ArtifactId viewId) {
+      return this.streamAll(branch, new LinkedList<>(), "", new LinkedList<>(), 0L, 0L, AttributeTypeId.SENTINEL,
+         viewId);
+   }
+
+   @Override
+   public Stream<T> streamAll(BranchId branch, Collection<FollowRelation> followRelations, String filter,
+      Collection<AttributeTypeId> attributes, long pageCount, long pageSize, AttributeTypeId orderByAttribute,
+      ArtifactId viewId) {
+      ArtifactAccessorFactory<T> factory;
+      try {
+         factory = getFactory();
+      } catch (NoSuchMethodException ex) {
+         throw OseeCoreException.wrap(ex);
+      }
+      ArtifactId view = viewId == null ? ArtifactId.SENTINEL : viewId;
+      List<ArtifactId> artIds =
+         buildGetAllQuery(branch, filter, attributes, pageCount, pageSize, orderByAttribute, view).asArtifactIds();
+      Iterator<T> results = new Iterator<T>() {
+         private Map<ArtifactId, ArtifactReadable> batch;
+         private int batchEnd = 0;
+         private int index = 0;
+         private T next;
+
+         @Override
+         public boolean hasNext() {
+            while (next == null && index < artIds.size()) {
+               if (index == batchEnd) {
+                  batchEnd = Math.min(index + STREAM_BATCH_SIZE, artIds.size());
+                  batch = loadBatch(artIds.subList(index, batchEnd), followRelations, branch, view);
+               }
+               ArtifactReadable artifact = batch.get(artIds.get(index++));
+               if (artifact != null && artifact.isValid()) {
+                  try {
+                     next = create(factory, artifact, false, branch);
+                  } catch (InvocationTargetException ex) {
+                     throw OseeCoreException.wrap(ex);
+                  }
+               }
+            }
+            return next != null;
+         }
+
+         @Override
+         public T next() {
+            if (!hasNext()) {
+               throw new NoSuchElementException();
+            }
+            T result = next;
+            next = null;
+            return result;
+         }
+      };
+      return StreamSupport.stream(
+         Spliterators.spliteratorUnknownSize(results, Spliterator.ORDERED | Spliterator.NONNULL), false);
+   }
+
+   /**
+    * Loads the given artifacts with their applicability and the relations to follow from them; an artifact deleted
+    * since its id was selected is left out
+    */
+   private Map<ArtifactId, ArtifactReadable> loadBatch(List<ArtifactId> artIds,
+      Collection<FollowRelation> followRelations, BranchId branch, ArtifactId viewId) {
+      QueryBuilder query =
+         orcsApi.getQueryFactory().fromBranch(branch, viewId).includeApplicabilityTokens().andIds(artIds);
+      for (FollowRelation rel : followRelations) {
+         query = buildFollowRelationQuery(query, rel);
+      }
+      return query.asArtifactMap();
+   }
+
+   /**
+    * Selects the artifacts returned by getAll, without the relations to follow from them
+    */
+   private QueryBuilder buildGetAllQuery(BranchId branch, String filter, Collection<AttributeTypeId> attributes,
+      long pageCount, long pageSize, AttributeTypeId orderByAttribute, ArtifactId viewId) {
       viewId = viewId == null ? ArtifactId.SENTINEL : viewId;
       QueryBuilder query =
          orcsApi.getQueryFactory().fromBranch(branch, viewId).includeApplicabilityTokens().andIsOfType(artifactType);
@@ -298,10 +405,7 @@ public class ArtifactAccessorImpl<T extends ArtifactAccessorResult> implements A
       if (pageCount != 0L && pageSize != 0L) {
          query = query.isOnPage(pageCount, pageSize);
       }
-      for (FollowRelation rel : followRelations) {
-         query = buildFollowRelationQuery(query, rel);
-      }
-      return fetchCollection(query, branch);
+      return query;
    }
 
    @Override
@@ -100,6 +100,12 @@ public interface ActivityLog {
 
    List<String> getGarbageCollectionStats();
 
+   /**
+    * @return the depth of the write buffer, the number of entries dropped when it was full and the time spent writing
+    * entries to the datastore
+    */
+   ActivityLogStatistics getStatistics();
+
    // when using ActivityLog for server side reports, use the ActivityLog's logger for debugging
    Log getDebugLogger();
 
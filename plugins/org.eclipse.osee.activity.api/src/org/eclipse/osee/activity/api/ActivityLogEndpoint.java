@@ -42,6 +42,16 @@ public interface ActivityLogEndpoint {
    @Produces({MediaType.APPLICATION_JSON})
    ActivityEntry getEntry(@PathParam("entry-id") ActivityEntryId entryId);
 
+   /**
+    * Get the state of the activity log's write buffer
+    *
+    * @return JSON stream containing queue depth, dropped entry counts and flush latency
+    */
+   @GET
+   @Path("/statistics")
+   @Produces({MediaType.APPLICATION_JSON})
+   ActivityLogStatistics getStatistics();
+
    /**
     * Create a new activity entry
     *
@@ -0,0 +1,145 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.activity.api;
+
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Snapshot of the activity log's write buffer
+ *
+ * @author agent
+ */
+@XmlRootElement
+public class ActivityLogStatistics {
+   private int queueDepth;
+   private int queueCapacity;
+   private String overflowPolicy;
+   private long droppedEntries;
+   private long sampledOutEntries;
+   private long writtenEntries;
+   private long failedEntries;
+   private long flushCount;
+   private long lastFlushMillis;
+   private long maxFlushMillis;
+   private long totalFlushMillis;
+
+   /**
+    * Entries and status updates waiting to be written
+    */
+   public int getQueueDepth() {
+      return queueDepth;
+   }
+
+   public void setQueueDepth(int queueDepth) {
+      this.queueDepth = queueDepth;
+   }
+
+   public int getQueueCapacity() {
+      return queueCapacity;
+   }
+
+   public void setQueueCapacity(int queueCapacity) {
+      this.queueCapacity = queueCapacity;
+   }
+
+   public String getOverflowPolicy() {
+      return overflowPolicy;
+   }
+
+   public void setOverflowPolicy(String overflowPolicy) {
+      this.overflowPolicy = overflowPolicy;
+   }
+
+   /**
+    * Entries and status updates discarded because the buffer was full
+    */
+   public long getDroppedEntries() {
+      return droppedEntries;
+   }
+
+   public void setDroppedEntries(long droppedEntries) {
+      this.droppedEntries = droppedEntries;
+   }
+
+   /**
+    * Entries discarded by the sample overflow policy while the buffer was filling up
+    */
+   public long getSampledOutEntries() {
+      return sampledOutEntries;
+   }
+
+   public void setSampledOutEntries(long sampledOutEntries) {
+      this.sampledOutEntries = sampledOutEntries;
+   }
+
+   public long getWrittenEntries() {
+      return writtenEntries;
+   }
+
+   public void setWrittenEntries(long writtenEntries) {
+      this.writtenEntries = writtenEntries;
+   }
+
+   /**
+    * Entries and status updates lost because writing them to the datastore failed
+    */
+   public long getFailedEntries() {
+      return failedEntries;
+   }
+
+   public void setFailedEntries(long failedEntries) {
+      this.failedEntries = failedEntries;
+   }
+
+   public long getFlushCount() {
+      return flushCount;
+   }
+
+   public void setFlushCount(long flushCount) {
+      this.flushCount = flushCount;
+   }
+
+   public long getLastFlushMillis() {
+      return lastFlushMillis;
+   }
+
+   public void setLastFlushMillis(long lastFlushMillis) {
+      this.lastFlushMillis = lastFlushMillis;
+   }
+
+   public long getMaxFlushMillis() {
+      return maxFlushMillis;
+   }
+
+   public void setMaxFlushMillis(long maxFlushMillis) {
+      this.maxFlushMillis = maxFlushMillis;
+   }
+
+   public long getTotalFlushMillis() {
+      return totalFlushMillis;
+   }
+
+   public void setTotalFlushMillis(long totalFlushMillis) {
+      this.totalFlushMillis = totalFlushMillis;
+   }
+
+   public long getAverageFlushMillis() {
+      return flushCount > 0 ? totalFlushMillis / flushCount : 0;
+   }
+
+   @Override
+   public String toString() {
+      return "ActivityLogStatistics [queue=" + queueDepth + "/" + queueCapacity + ", policy=" + overflowPolicy + ", dropped=" + droppedEntries + ", sampledOut=" + sampledOutEntries + ", written=" + writtenEntries + ", failed=" + failedEntries + ", flushes=" + flushCount + ", lastFlush=" + lastFlushMillis + "ms, maxFlush=" + maxFlushMillis + "ms]";
+   }
+}
@@ -0,0 +1,31 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.activity;
+
+import org.eclipse.osee.activity.internal.ActivityLogWriterTest;
+import org.eclipse.osee.activity.internal.ActivityRingBufferTest;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+/**
+ * Test Suite to run all the pure JUnit test suites in this bundle.
+ *
+ * @author agent
+ */
+@RunWith(Suite.class)
+@Suite.SuiteClasses({ActivityLogWriterTest.class, ActivityRingBufferTest.class})
+public class Activity_JUnit_TestSuite {
+   // Test Suite
+}
@@ -0,0 +1,268 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.activity.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.MockitoAnnotations.initMocks;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.osee.activity.ActivityStorage;
+import org.eclipse.osee.activity.api.ActivityLog;
+import org.eclipse.osee.activity.api.ActivityLogStatistics;
+import org.eclipse.osee.activity.internal.ActivityLogImpl.LogEntry;
+import org.eclipse.osee.activity.internal.ActivityLogWriter.OverflowPolicy;
+import org.eclipse.osee.logger.Log;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+/**
+ * Test Case for {@link ActivityLogWriter}
+ *
+ * @author agent
+ */
+public class ActivityLogWriterTest {
+
+   private static final Integer STARTED_STATUS = 0;
+
+   // @formatter:off
+   @Mock private Log logger;
+   @Mock private ActivityStorage storage;
+   // @formatter:on
+
+   private final List<Object[]> inserted = Collections.synchronizedList(new ArrayList<>());
+   private final List<Object[]> updated = Collections.synchronizedList(new ArrayList<>());
+   private final AtomicLong ids = new AtomicLong(1);
+
+   @Before
+   public void setUp() {
+      initMocks(this);
+      doAnswer(invocation -> {
+         Iterable<Object[]> rows = invocation.getArgument(0);
+         int count = 0;
+         for (Object[] row : rows) {
+            inserted.add(row);
+            count++;
+         }
+         return count;
+      }).when(storage).addEntries(any());
+      doAnswer(invocation -> {
+         Iterable<Object[]> rows = invocation.getArgument(0);
+         int count = 0;
+         for (Object[] row : rows) {
+            updated.add(row);
+            count++;
+         }
+         return count;
+      }).when(storage).updateEntries(any());
+   }
+
+   @Test
+   public void testUpdateFoldedIntoInsertOfSameBatch() {
+      ActivityLogWriter writer = newWriter(16, OverflowPolicy.DROP, 1, 16);
+      Object[] entry = newEntry(STARTED_STATUS);
+      Long entryId = LogEntry.ENTRY_ID.from(entry);
+      Long otherId = 999L;
+
+      assertTrue(writer.addEntry(entry));
+      assertTrue(writer.updateEntry(entryId, ActivityLog.COMPLETE_STATUS, 25L));
+      assertTrue(writer.updateEntry(otherId, ActivityLog.COMPLETE_STATUS, 5L));
+      assertTrue(writer.updateEntry(otherId, ActivityLog.ABNORMALLY_ENDED_STATUS, 7L));
+
+      // one insert carrying its update, and one update
+      assertEquals(2, writer.flush());
+
+      assertEquals(1, inserted.size());
+      assertEquals(ActivityLog.COMPLETE_STATUS, inserted.get(0)[LogEntry.STATUS.ordinal()]);
+      assertEquals(25L, inserted.get(0)[LogEntry.DURATION.ordinal()]);
+      // only the latest update of an entry that is not in the batch is written
+      assertEquals(1, updated.size());
+      assertEquals(ActivityLog.ABNORMALLY_ENDED_STATUS, updated.get(0)[0]);
+      assertEquals(7L, updated.get(0)[1]);
+      assertEquals(otherId, updated.get(0)[2]);
+   }
+
+   @Test
+   public void testDropPolicyDropsEverythingOnceFull() {
+      ActivityLogWriter writer = newWriter(4, OverflowPolicy.DROP, 1, 4);
+      for (int index = 0; index < 4; index++) {
+         assertTrue(writer.addEntry(newEntry(STARTED_STATUS)));
+      }
+      assertFalse(writer.addEntry(newEntry(STARTED_STATUS)));
+      assertFalse(writer.addEntry(newEntry(ActivityLog.ABNORMALLY_ENDED_STATUS)));
+      assertFalse(writer.updateEntry(1L, ActivityLog.COMPLETE_STATUS, 1L));
+
+      ActivityLogStatistics statistics = writer.getStatistics();
+      assertEquals(3, statistics.getDroppedEntries());
+      assertEquals(0, statistics.getSampledOutEntries());
+      assertEquals(4, statistics.getQueueDepth());
+
+      assertEquals(4, writer.flush());
+      assertTrue(writer.addEntry(newEntry(STARTED_STATUS)));
+   }
+
+   @Test
+   public void testSamplePolicyKeepsOneInRateOnceHalfFull() {
+      ActivityLogWriter writer = newWriter(16, OverflowPolicy.SAMPLE, 4, 16);
+      for (int index = 0; index < 8; index++) {
+         assertTrue(writer.addEntry(newEntry(STARTED_STATUS)));
+      }
+      int kept = 0;
+      for (int index = 0; index < 8; index++) {
+         if (writer.addEntry(newEntry(STARTED_STATUS))) {
+            kept++;
+         }
+      }
+      assertEquals(2, kept);
+      assertEquals(6, writer.getStatistics().getSampledOutEntries());
+
+      // abnormal ends and updates are never sampled out
+      assertTrue(writer.addEntry(newEntry(ActivityLog.ABNORMALLY_ENDED_STATUS)));
+      assertTrue(writer.updateEntry(1L, ActivityLog.COMPLETE_STATUS, 1L));
+      assertEquals(6, writer.getStatistics().getSampledOutEntries());
+      assertEquals(0, writer.getStatistics().getDroppedEntries());
+   }
+
+   @Test
+   public void testFlushWritesOnlyRowsWaitingWhenItStarted() throws Exception {
+      ActivityLogWriter writer = newWriter(64, OverflowPolicy.DROP, 1, 1);
+      // a producer that adds a new entry for every batch written would keep an unbounded flush running forever
+      doAnswer(invocation -> {
+         Iterable<Object[]> rows = invocation.getArgument(0);
+         for (Object[] row : rows) {
+            inserted.add(row);
+         }
+         writer.addEntry(newEntry(STARTED_STATUS));
+         return 1;
+      }).when(storage).addEntries(any());
+      for (int index = 0; index < 10; index++) {
+         writer.addEntry(newEntry(STARTED_STATUS));
+      }
+
+      assertEquals(10, writer.flush());
+      assertEquals(10, inserted.size());
+      assertEquals(10, writer.getStatistics().getQueueDepth());
+   }
+
+   @Test
+   public void testFailedWriteIsCounted() {
+      ActivityLogWriter writer = newWriter(16, OverflowPolicy.DROP, 1, 16);
+      doAnswer(invocation -> {
+         throw new IllegalStateException("datastore down");
+      }).when(storage).addEntries(any());
+      writer.addEntry(newEntry(STARTED_STATUS));
+      writer.addEntry(newEntry(STARTED_STATUS));
+
+      assertEquals(0, writer.flush());
+      assertEquals(2, writer.getStatistics().getFailedEntries());
+      assertEquals(0, writer.getStatistics().getWrittenEntries());
+      verify(storage, never()).updateEntries(any());
+   }
+
+   @Test
+   public void testConcurrentProducersAndFlusher() throws Exception {
+      int producers = 4;
+      int perProducer = 5000;
+      ActivityLogWriter writer = newWriter(256, OverflowPolicy.DROP, 1, 32);
+      ExecutorService executor = Executors.newFixedThreadPool(producers + 1);
+      CountDownLatch start = new CountDownLatch(1);
+      AtomicBoolean producing = new AtomicBoolean(true);
+      try {
+         List<Future<?>> futures = new ArrayList<>();
+         for (int producer = 0; producer < producers; producer++) {
+            futures.add(executor.submit(() -> {
+               start.await();
+               for (int index = 0; index < perProducer; index++) {
+                  Object[] entry = newEntry(STARTED_STATUS);
+                  while (!writer.addEntry(entry)) {
+                     Thread.yield();
+                  }
+                  Long entryId = LogEntry.ENTRY_ID.from(entry);
+                  while (!writer.updateEntry(entryId, ActivityLog.COMPLETE_STATUS, 1L)) {
+                     Thread.yield();
+                  }
+               }
+               return null;
+            }));
+         }
+         Future<?> flusher = executor.submit(() -> {
+            while (producing.get()) {
+               writer.flush();
+            }
+            return null;
+         });
+
+         start.countDown();
+         for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+         }
+         producing.set(false);
+         flusher.get(60, TimeUnit.SECONDS);
+         writer.flush();
+      } finally {
+         executor.shutdownNow();
+      }
+
+      int total = producers * perProducer;
+      Set<Object> insertedIds = new HashSet<>();
+      for (Object[] row : inserted) {
+         assertTrue(insertedIds.add(row[LogEntry.ENTRY_ID.ordinal()]));
+      }
+      assertEquals(total, insertedIds.size());
+
+      // every entry ends complete, either folded into its insert or through a separate update
+      Set<Object> completed = new HashSet<>();
+      for (Object[] row : inserted) {
+         if (ActivityLog.COMPLETE_STATUS.equals(row[LogEntry.STATUS.ordinal()])) {
+            completed.add(row[LogEntry.ENTRY_ID.ordinal()]);
+         }
+      }
+      for (Object[] row : updated) {
+         completed.add(row[2]);
+      }
+      assertEquals(insertedIds, completed);
+
+      ActivityLogStatistics statistics = writer.getStatistics();
+      // producers retried their dropped rows, so nothing is missing
+      assertEquals(0, statistics.getQueueDepth());
+      assertEquals(inserted.size() + updated.size(), statistics.getWrittenEntries());
+      assertTrue(statistics.getMaxFlushMillis() >= statistics.getLastFlushMillis());
+   }
+
+   private ActivityLogWriter newWriter(int capacity, OverflowPolicy policy, int sampleRate, int batchSize) {
+      return new ActivityLogWriter(logger, storage, capacity, policy, sampleRate, batchSize);
+   }
+
+   private Object[] newEntry(Integer status) {
+      Long entryId = ids.getAndIncrement();
+      return new Object[] {entryId, 0L, 1L, 2L, 3L, 4L, 5L, 0L, status, "message"};
+   }
+}
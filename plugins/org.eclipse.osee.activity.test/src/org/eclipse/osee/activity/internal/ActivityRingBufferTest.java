@@ -0,0 +1,111 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.activity.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+/**
+ * Test Case for {@link ActivityRingBuffer}
+ *
+ * @author agent
+ */
+public class ActivityRingBufferTest {
+
+   @Test
+   public void testCapacityRoundedUpToPowerOfTwo() {
+      assertEquals(8, new ActivityRingBuffer<Long>(5).capacity());
+      assertEquals(8, new ActivityRingBuffer<Long>(8).capacity());
+      assertEquals(2, new ActivityRingBuffer<Long>(0).capacity());
+   }
+
+   @Test
+   public void testFullBufferRefusesUntilPolled() {
+      ActivityRingBuffer<Long> buffer = new ActivityRingBuffer<>(4);
+      for (long value = 0; value < 4; value++) {
+         assertTrue(buffer.offer(value));
+      }
+      assertFalse(buffer.offer(4L));
+      assertEquals(4, buffer.size());
+
+      assertEquals(Long.valueOf(0L), buffer.poll());
+      assertTrue(buffer.offer(4L));
+      for (long value = 1; value <= 4; value++) {
+         assertEquals(Long.valueOf(value), buffer.poll());
+      }
+      assertNull(buffer.poll());
+      assertTrue(buffer.isEmpty());
+   }
+
+   @Test
+   public void testConcurrentProducersWithOneConsumer() throws Exception {
+      int producers = 4;
+      int perProducer = 20000;
+      ActivityRingBuffer<Long> buffer = new ActivityRingBuffer<>(64);
+      ExecutorService executor = Executors.newFixedThreadPool(producers);
+      CountDownLatch start = new CountDownLatch(1);
+      try {
+         List<Future<?>> futures = new ArrayList<>();
+         for (int producer = 0; producer < producers; producer++) {
+            long base = producer * (long) perProducer;
+            futures.add(executor.submit(() -> {
+               start.await();
+               for (long value = base; value < base + perProducer; value++) {
+                  while (!buffer.offer(value)) {
+                     Thread.yield();
+                  }
+               }
+               return null;
+            }));
+         }
+
+         Set<Long> consumed = new HashSet<>();
+         long[] lastByProducer = new long[producers];
+         Arrays.fill(lastByProducer, -1L);
+         start.countDown();
+         while (consumed.size() < producers * perProducer) {
+            Long value = buffer.poll();
+            if (value == null) {
+               Thread.yield();
+               continue;
+            }
+            assertTrue("duplicate " + value, consumed.add(value));
+            // each producer's values come out in the order they went in
+            int producer = (int) (value / perProducer);
+            assertTrue(value > lastByProducer[producer]);
+            lastByProducer[producer] = value;
+         }
+         for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+         }
+         assertTrue(buffer.isEmpty());
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+}
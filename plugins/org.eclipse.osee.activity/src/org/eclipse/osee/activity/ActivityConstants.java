@@ -37,11 +37,19 @@ public final class ActivityConstants {
    public static String ACTIVITY_LOGGER__STACKTRACE_LINE_COUNT = qualify("stacktrace.line.count");
    public static String ACTIVITY_LOGGER__CLEANER_KEEP_DAYS = qualify("cleaner.keep.days");
    public static String ACTIVITY_LOGGER__ENABLED = qualify("enabled");
+   public static String ACTIVITY_LOGGER__BUFFER_CAPACITY = qualify("buffer.capacity");
+   public static String ACTIVITY_LOGGER__BATCH_SIZE = qualify("batch.size");
+   public static String ACTIVITY_LOGGER__OVERFLOW_POLICY = qualify("overflow.policy");
+   public static String ACTIVITY_LOGGER__SAMPLE_RATE = qualify("sample.rate");
 
    public static long DEFAULT_ACTIVITY_LOGGER__WRITE_RATE_IN_MILLIS = 3000L;
    public static int DEFAULT_ACTIVITY_LOGGER__STACKTRACE_LINE_COUNT = 5;
    public static int DEFAULT_ACTIVITY_LOGGER__CLEANER_KEEP_DAYS = 365;
    public static boolean DEFAULT_ACTIVITY_LOGGER__ENABLED = true;
+   public static int DEFAULT_ACTIVITY_LOGGER__BUFFER_CAPACITY = 16384;
+   public static int DEFAULT_ACTIVITY_LOGGER__BATCH_SIZE = 500;
+   public static String DEFAULT_ACTIVITY_LOGGER__OVERFLOW_POLICY = "DROP";
+   public static int DEFAULT_ACTIVITY_LOGGER__SAMPLE_RATE = 10;
 
    public static final String HTTP_HEADER__ACTIVITY_ENTRY_ID = "X-osee-activity-log-entryId";
    public static final String ERROR_MSG__MISSING_ACTIVITY_HEADER =
@@ -13,13 +13,21 @@
 
 package org.eclipse.osee.activity.internal;
 
+import static org.eclipse.osee.activity.ActivityConstants.ACTIVITY_LOGGER__BATCH_SIZE;
+import static org.eclipse.osee.activity.ActivityConstants.ACTIVITY_LOGGER__BUFFER_CAPACITY;
 import static org.eclipse.osee.activity.ActivityConstants.ACTIVITY_LOGGER__CLEANER_EXECUTOR_ID;
 import static org.eclipse.osee.activity.ActivityConstants.ACTIVITY_LOGGER__CLEANER_KEEP_DAYS;
 import static org.eclipse.osee.activity.ActivityConstants.ACTIVITY_LOGGER__ENABLED;
 import static org.eclipse.osee.activity.ActivityConstants.ACTIVITY_LOGGER__EXECUTOR_ID;
+import static org.eclipse.osee.activity.ActivityConstants.ACTIVITY_LOGGER__OVERFLOW_POLICY;
+import static org.eclipse.osee.activity.ActivityConstants.ACTIVITY_LOGGER__SAMPLE_RATE;
 import static org.eclipse.osee.activity.ActivityConstants.ACTIVITY_LOGGER__STACKTRACE_LINE_COUNT;
 import static org.eclipse.osee.activity.ActivityConstants.ACTIVITY_LOGGER__WRITE_RATE_IN_MILLIS;
+import static org.eclipse.osee.activity.ActivityConstants.DEFAULT_ACTIVITY_LOGGER__BATCH_SIZE;
+import static org.eclipse.osee.activity.ActivityConstants.DEFAULT_ACTIVITY_LOGGER__BUFFER_CAPACITY;
 import static org.eclipse.osee.activity.ActivityConstants.DEFAULT_ACTIVITY_LOGGER__CLEANER_KEEP_DAYS;
+import static org.eclipse.osee.activity.ActivityConstants.DEFAULT_ACTIVITY_LOGGER__OVERFLOW_POLICY;
+import static org.eclipse.osee.activity.ActivityConstants.DEFAULT_ACTIVITY_LOGGER__SAMPLE_RATE;
 import static org.eclipse.osee.activity.ActivityConstants.DEFAULT_ACTIVITY_LOGGER__STACKTRACE_LINE_COUNT;
 import static org.eclipse.osee.activity.ActivityConstants.DEFAULT_ACTIVITY_LOGGER__WRITE_RATE_IN_MILLIS;
 import static org.eclipse.osee.activity.ActivityConstants.DEFAULT_CLIENT_ID;
@@ -42,13 +50,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.eclipse.osee.activity.ActivityConstants;
 import org.eclipse.osee.activity.ActivityStorage;
 import org.eclipse.osee.activity.api.ActivityEntry;
 import org.eclipse.osee.activity.api.ActivityEntryId;
 import org.eclipse.osee.activity.api.ActivityLog;
+import org.eclipse.osee.activity.api.ActivityLogStatistics;
 import org.eclipse.osee.activity.api.ThreadStats;
+import org.eclipse.osee.activity.internal.ActivityLogWriter.OverflowPolicy;
 import org.eclipse.osee.framework.core.data.ActivityTypeId;
 import org.eclipse.osee.framework.core.data.ActivityTypeToken;
 import org.eclipse.osee.framework.core.data.CoreActivityTypes;
@@ -56,7 +68,6 @@ import org.eclipse.osee.framework.core.data.UserId;
 import org.eclipse.osee.framework.core.enums.SystemUser;
 import org.eclipse.osee.framework.core.executor.ExecutorAdmin;
 import org.eclipse.osee.framework.core.server.IApplicationServerManager;
-import org.eclipse.osee.framework.jdk.core.type.DrainingIterator;
 import org.eclipse.osee.framework.jdk.core.type.Id;
 import org.eclipse.osee.framework.jdk.core.type.OseeArgumentException;
 import org.eclipse.osee.framework.jdk.core.util.Collections;
@@ -69,7 +80,7 @@ import org.eclipse.osee.logger.Log;
 /**
  * @author Ryan D. Brooks
  */
-public class ActivityLogImpl implements ActivityLog, Runnable {
+public class ActivityLogImpl implements ActivityLog {
 
    public static enum LogEntry {
       ENTRY_ID,
@@ -106,17 +117,17 @@ public class ActivityLogImpl implements ActivityLog, Runnable {
 
    private final ConcurrentHashMap<Long, ActivityTypeToken> types = new ConcurrentHashMap<>(30);
 
-   private final ConcurrentHashMap<Long, Object[]> newEntities = new ConcurrentHashMap<>();
-   private final ConcurrentHashMap<Long, Object[]> updatedEntities = new ConcurrentHashMap<>();
+   private final AtomicBoolean flushPending = new AtomicBoolean();
    private final ThreadActivity threadActivity = new ThreadActivity();
    private Log logger;
    private ExecutorAdmin executorAdmin;
    private ActivityStorage storage;
 
    private ActivityMonitor activityMonitor;
+   private ActivityLogWriter writer;
+   private ScheduledFuture<?> flushTask;
    private volatile long freshnessMillis;
    private volatile int exceptionLineCount;
-   private volatile long lastFlushTime;
    private volatile int cleanerKeepDays;
    private volatile boolean enabled = ActivityConstants.DEFAULT_ACTIVITY_LOGGER__ENABLED;
    private IApplicationServerManager applicationServerManager;
@@ -146,6 +157,8 @@ public class ActivityLogImpl implements ActivityLog, Runnable {
       for (ActivityTypeToken type : CoreActivityTypes.getTypes()) {
          types.put(type.getId(), type);
       }
+      int capacity = get(properties, ACTIVITY_LOGGER__BUFFER_CAPACITY, DEFAULT_ACTIVITY_LOGGER__BUFFER_CAPACITY);
+      writer = new ActivityLogWriter(logger, storage, capacity, OverflowPolicy.DROP, 1, 1);
       update(properties);
 
       host = applicationServerManager.getServerUri().toString();
@@ -223,7 +236,11 @@ public class ActivityLogImpl implements ActivityLog, Runnable {
    }
 
    public void stop() {
-      flush(true);
+      if (flushTask != null) {
+         flushTask.cancel(false);
+         flushTask = null;
+      }
+      flush();
       try {
          executorAdmin.shutdown(ACTIVITY_LOGGER__EXECUTOR_ID);
       } catch (Throwable th) {
@@ -245,7 +262,12 @@ public class ActivityLogImpl implements ActivityLog, Runnable {
       if (Strings.isValid(value)) {
          enabled = Boolean.valueOf(value);
       }
+      String policy = get(properties, ACTIVITY_LOGGER__OVERFLOW_POLICY, DEFAULT_ACTIVITY_LOGGER__OVERFLOW_POLICY);
+      int sampleRate = get(properties, ACTIVITY_LOGGER__SAMPLE_RATE, DEFAULT_ACTIVITY_LOGGER__SAMPLE_RATE);
+      int batchSize = get(properties, ACTIVITY_LOGGER__BATCH_SIZE, DEFAULT_ACTIVITY_LOGGER__BATCH_SIZE);
       //@formatter:on
+      writer.configure(OverflowPolicy.fromString(policy), sampleRate, batchSize);
+      scheduleFlush();
 
       if (newCleanerKeepDays != cleanerKeepDays) {
          cleanerKeepDays = newCleanerKeepDays;
@@ -253,6 +275,14 @@ public class ActivityLogImpl implements ActivityLog, Runnable {
       }
    }
 
+   private synchronized void scheduleFlush() {
+      if (flushTask != null) {
+         flushTask.cancel(false);
+      }
+      flushTask = executorAdmin.scheduleWithFixedDelay("Activity Log flush to datastore", this::flush, freshnessMillis,
+         freshnessMillis, TimeUnit.MILLISECONDS);
+   }
+
    private void clean() {
       storage.cleanEntries(cleanerKeepDays);
    }
@@ -352,7 +382,7 @@ public class ActivityLogImpl implements ActivityLog, Runnable {
 
       // this is the parent entry so it must be inserted first (because the entry writing is asynchronous
       entry = new Object[] {entryId, parentId, type, accountId, serverId, clientId, startTime, duration, status, msg};
-      newEntities.put(entryId, entry);
+      writer.addEntry(entry);
 
       if (fullMsg != null && fullMsg.length() > JdbcConstants.JDBC__MAX_VARCHAR_LENGTH) {
          Long parentCursor = entryId;
@@ -370,11 +400,11 @@ public class ActivityLogImpl implements ActivityLog, Runnable {
                duration,
                status,
                fullMsg.substring(i, Math.min(fullMsg.length(), i + JdbcConstants.JDBC__MAX_VARCHAR_LENGTH))};
-            newEntities.put(continueEntryId, continueEntry);
+            writer.addEntry(continueEntry);
             parentCursor = continueEntryId;
          }
       }
-      flush(false);
+      requestFlush();
 
       return entry;
    }
@@ -404,18 +434,8 @@ public class ActivityLogImpl implements ActivityLog, Runnable {
       boolean modified = false;
       if (isEnabled()) {
          try {
-            if (!updateIfNew(entryId, status)) {
-               Object[] data = updatedEntities.get(entryId);
-               if (data == null || !(data.length >= LogEntry.STATUS.ordinal())) {
-                  addUpdatedEntryToMap(entryId, status);
-               } else {
-                  data[LogEntry.STATUS.ordinal()] = status;
-                  if (!updatedEntities.containsKey(entryId)) {
-                     addUpdatedEntryToMap(entryId, status);
-                  }
-               }
-               modified = true;
-            }
+            modified = writer.updateEntry(entryId, status, computeDuration());
+            requestFlush();
          } catch (Throwable th) {
             logger.error(th, "Error in ActivityLog.updateEntry");
          }
@@ -423,10 +443,6 @@ public class ActivityLogImpl implements ActivityLog, Runnable {
       return modified;
    }
 
-   private void addUpdatedEntryToMap(Long entryId, Integer status) {
-      updatedEntities.put(entryId, new Object[] {status, computeDuration(), entryId});
-   }
-
    private Long computeDuration() {
       return computeDuration(activityMonitor.getThreadRootEntry());
    }
@@ -440,56 +456,40 @@ public class ActivityLogImpl implements ActivityLog, Runnable {
    }
 
    /**
-    * If the status has changed for an entry that has not yet been written to the datastore, update in memory and return
-    * true if it has not yet been drained and written to the datastore
+    * Writes the buffered entries, or discards them while logging is disabled
     */
-   private boolean updateIfNew(Long entryId, Integer status) {
-      Object[] data = newEntities.get(entryId);
-      if (data == null) {
-         return false;
-      } else {
-         data[LogEntry.STATUS.ordinal()] = status;
-         data[LogEntry.DURATION.ordinal()] = computeDuration();
-         return newEntities.containsKey(entryId);
-      }
-   }
-
-   @Override
-   public void run() {
-      if (isEnabled()) {
-         if (!newEntities.isEmpty()) {
-            try {
-               storage.addEntries(new DrainingIterator<>(newEntities.values().iterator()));
-            } catch (Throwable ex) {
-               logger.error(ex, "Exception while storing updates to the activity log");
-            }
-         }
-         if (!updatedEntities.isEmpty()) {
-            try {
-               storage.updateEntries(new DrainingIterator<>(updatedEntities.values().iterator()));
-            } catch (Throwable ex) {
-               logger.error(ex, "Exception while storing updates to the activity log");
-            }
+   private void flush() {
+      flushPending.set(false);
+      try {
+         if (isEnabled()) {
+            writer.flush();
+         } else {
+            writer.clear();
          }
-      } else {
-         newEntities.clear();
-         updatedEntities.clear();
+      } catch (Throwable ex) {
+         logger.error(ex, "Exception while flushing the activity log");
       }
    }
 
-   private void flush(boolean force) {
-      long currentTime = System.currentTimeMillis();
-      if (force || currentTime - lastFlushTime > freshnessMillis) {
+   /**
+    * Starts a flush ahead of the schedule once a full batch is waiting; never waits for the flush itself
+    */
+   private void requestFlush() {
+      if (writer.isFlushNeeded() && flushPending.compareAndSet(false, true)) {
          try {
-            executorAdmin.submit("Activity Log flush to datastore", this);
+            executorAdmin.submit("Activity Log flush to datastore", this::flush);
          } catch (Exception ex) {
-            logger.error(ex, "Error scheduling activity log callable");
-         } finally {
-            lastFlushTime = currentTime;
+            flushPending.set(false);
+            logger.error(ex, "Error scheduling activity log flush");
          }
       }
    }
 
+   @Override
+   public ActivityLogStatistics getStatistics() {
+      return writer.getStatistics();
+   }
+
    @Override
    public void completeEntry(Long entryId) {
       updateEntry(entryId, COMPLETE_STATUS);
@@ -0,0 +1,283 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.activity.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.eclipse.osee.activity.ActivityStorage;
+import org.eclipse.osee.activity.api.ActivityLog;
+import org.eclipse.osee.activity.api.ActivityLogStatistics;
+import org.eclipse.osee.activity.internal.ActivityLogImpl.LogEntry;
+import org.eclipse.osee.logger.Log;
+
+/**
+ * Buffers new entries and status updates in an {@link ActivityRingBuffer} so logging never waits on the datastore.
+ * {@link #flush()} drains the buffer in batches: status updates for entries in the same batch are folded into the
+ * inserted rows, the remaining updates are reduced to the latest per entry, and each batch is written with one insert
+ * and one update call. Each flush writes at most the rows that were waiting when it started, so producers that keep
+ * up with the writer cannot keep a flush running.
+ *
+ * @author agent
+ */
+public class ActivityLogWriter {
+
+   public static enum OverflowPolicy {
+      /**
+       * Accept everything until the buffer is full, then drop whatever does not fit
+       */
+      DROP,
+      /**
+       * Once the buffer is half full, keep only one in every sample rate new entries so the buffer has room for a longer
+       * burst. Entries that ended abnormally and status updates are never sampled out, but like everything else they are
+       * dropped when the buffer is full.
+       */
+      SAMPLE;
+
+      public static OverflowPolicy fromString(String value) {
+         for (OverflowPolicy policy : values()) {
+            if (policy.name().equalsIgnoreCase(value)) {
+               return policy;
+            }
+         }
+         return DROP;
+      }
+   }
+
+   private final Log logger;
+   private final ActivityStorage storage;
+   private final ActivityRingBuffer<PendingRow> buffer;
+   private final ReentrantLock flushLock = new ReentrantLock();
+
+   private volatile OverflowPolicy policy;
+   private volatile int sampleRate;
+   private volatile int batchSize;
+
+   private final AtomicLong sampleCounter = new AtomicLong();
+   private final LongAdder dropped = new LongAdder();
+   private final LongAdder sampledOut = new LongAdder();
+   private final LongAdder written = new LongAdder();
+   private final LongAdder failed = new LongAdder();
+   private final LongAdder flushCount = new LongAdder();
+   private final LongAdder totalFlushMillis = new LongAdder();
+   private final LongAccumulator maxFlushMillis = new LongAccumulator(Math::max, 0L);
+   private volatile long lastFlushMillis;
+
+   public ActivityLogWriter(Log logger, ActivityStorage storage, int capacity, OverflowPolicy policy, int sampleRate, int batchSize) {
+      this.logger = logger;
+      this.storage = storage;
+      this.buffer = new ActivityRingBuffer<>(capacity);
+      configure(policy, sampleRate, batchSize);
+   }
+
+   public void configure(OverflowPolicy policy, int sampleRate, int batchSize) {
+      this.policy = policy;
+      this.sampleRate = Math.max(1, sampleRate);
+      this.batchSize = Math.max(1, batchSize);
+   }
+
+   /**
+    * @return false if the entry was dropped
+    */
+   public boolean addEntry(Object[] entry) {
+      if (policy == OverflowPolicy.SAMPLE && buffer.size() * 2 >= buffer.capacity() && !isAbnormal(entry)) {
+         if (sampleCounter.incrementAndGet() % sampleRate != 0) {
+            sampledOut.increment();
+            return false;
+         }
+      }
+      return offer(PendingRow.newEntry(entry));
+   }
+
+   /**
+    * @return false if the update was dropped
+    */
+   public boolean updateEntry(Long entryId, Integer status, Long duration) {
+      return offer(PendingRow.newUpdate(entryId, status, duration));
+   }
+
+   private boolean offer(PendingRow row) {
+      if (buffer.offer(row)) {
+         return true;
+      }
+      dropped.increment();
+      return false;
+   }
+
+   private static boolean isAbnormal(Object[] entry) {
+      Object status = entry[LogEntry.STATUS.ordinal()];
+      return status instanceof Integer && (Integer) status >= ActivityLog.ABNORMALLY_ENDED_STATUS;
+   }
+
+   /**
+    * @return true once enough rows are waiting to fill a batch
+    */
+   public boolean isFlushNeeded() {
+      return buffer.size() >= batchSize;
+   }
+
+   /**
+    * Writes the rows in the buffer when the flush starts; rows added during the flush are left for the next one.
+    * Returns immediately if another thread is already flushing.
+    *
+    * @return the number of rows written
+    */
+   public int flush() {
+      if (!flushLock.tryLock()) {
+         return 0;
+      }
+      try {
+         long start = System.currentTimeMillis();
+         int total = 0;
+         List<Object[]> inserts = new ArrayList<>();
+         Map<Long, Object[]> insertsById = new HashMap<>();
+         Map<Long, Object[]> updates = new LinkedHashMap<>();
+         int remaining = buffer.size();
+         while (remaining > 0) {
+            int taken = 0;
+            int limit = Math.min(batchSize, remaining);
+            PendingRow row;
+            while (taken < limit && (row = buffer.poll()) != null) {
+               taken++;
+               if (row.isUpdate()) {
+                  Object[] inserted = insertsById.get(row.entryId);
+                  if (inserted == null) {
+                     updates.put(row.entryId, row.toUpdateRow());
+                  } else {
+                     inserted[LogEntry.STATUS.ordinal()] = row.status;
+                     inserted[LogEntry.DURATION.ordinal()] = row.duration;
+                  }
+               } else {
+                  inserts.add(row.entry);
+                  insertsById.put(LogEntry.ENTRY_ID.from(row.entry), row.entry);
+               }
+            }
+            if (taken == 0) {
+               // the oldest slot is still being filled by a producer
+               break;
+            }
+            remaining -= taken;
+            total += write(inserts, updates.values());
+            inserts.clear();
+            insertsById.clear();
+            updates.clear();
+         }
+         long elapsed = System.currentTimeMillis() - start;
+         flushCount.increment();
+         totalFlushMillis.add(elapsed);
+         lastFlushMillis = elapsed;
+         maxFlushMillis.accumulate(elapsed);
+         return total;
+      } finally {
+         flushLock.unlock();
+      }
+   }
+
+   private int write(List<Object[]> inserts, Collection<Object[]> updates) {
+      int count = 0;
+      if (!inserts.isEmpty()) {
+         try {
+            storage.addEntries(inserts);
+            count += inserts.size();
+         } catch (Throwable ex) {
+            failed.add(inserts.size());
+            logger.error(ex, "Exception while storing new entries to the activity log");
+         }
+      }
+      if (!updates.isEmpty()) {
+         try {
+            storage.updateEntries(updates);
+            count += updates.size();
+         } catch (Throwable ex) {
+            failed.add(updates.size());
+            logger.error(ex, "Exception while storing updates to the activity log");
+         }
+      }
+      written.add(count);
+      return count;
+   }
+
+   /**
+    * Discards everything in the buffer
+    */
+   public void clear() {
+      flushLock.lock();
+      try {
+         while (buffer.poll() != null) {
+            // discard
+         }
+      } finally {
+         flushLock.unlock();
+      }
+   }
+
+   public ActivityLogStatistics getStatistics() {
+      ActivityLogStatistics statistics = new ActivityLogStatistics();
+      statistics.setQueueDepth(buffer.size());
+      statistics.setQueueCapacity(buffer.capacity());
+      statistics.setOverflowPolicy(policy.name());
+      statistics.setDroppedEntries(dropped.sum());
+      statistics.setSampledOutEntries(sampledOut.sum());
+      statistics.setWrittenEntries(written.sum());
+      statistics.setFailedEntries(failed.sum());
+      statistics.setFlushCount(flushCount.sum());
+      statistics.setLastFlushMillis(lastFlushMillis);
+      statistics.setMaxFlushMillis(maxFlushMillis.get());
+      statistics.setTotalFlushMillis(totalFlushMillis.sum());
+      return statistics;
+   }
+
+   /**
+    * A new entry or a status update waiting in the buffer
+    */
+   private static final class PendingRow {
+      private final Object[] entry;
+      private final Long entryId;
+      private final Integer status;
+      private final Long duration;
+
+      private PendingRow(Object[] entry, Long entryId, Integer status, Long duration) {
+         this.entry = entry;
+         this.entryId = entryId;
+         this.status = status;
+         this.duration = duration;
+      }
+
+      private static PendingRow newEntry(Object[] entry) {
+         return new PendingRow(entry, null, null, null);
+      }
+
+      private static PendingRow newUpdate(Long entryId, Integer status, Long duration) {
+         return new PendingRow(null, entryId, status, duration);
+      }
+
+      private boolean isUpdate() {
+         return entry == null;
+      }
+
+      /**
+       * @return the row in the column order of {@link ActivityStorage#updateEntries(Iterable)}
+       */
+      private Object[] toUpdateRow() {
+         return new Object[] {status, duration, entryId};
+      }
+   }
+}
@@ -0,0 +1,98 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.activity.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed size ring buffer that any number of threads can add to without locking or waiting, and that one thread at a
+ * time drains. Each slot carries a sequence number telling producers whether the slot is free for the position they
+ * claimed and telling the consumer whether the slot has been filled, so a full buffer simply refuses the element.
+ *
+ * @author agent
+ */
+public final class ActivityRingBuffer<T> {
+
+   private final int mask;
+   private final AtomicReferenceArray<T> slots;
+   private final AtomicLongArray sequences;
+   private final AtomicLong tail = new AtomicLong();
+   private volatile long head;
+
+   public ActivityRingBuffer(int requestedCapacity) {
+      int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity) - 1) << 1;
+      mask = capacity - 1;
+      slots = new AtomicReferenceArray<>(capacity);
+      sequences = new AtomicLongArray(capacity);
+      for (int index = 0; index < capacity; index++) {
+         sequences.set(index, index);
+      }
+   }
+
+   /**
+    * @return false without waiting if the buffer is full
+    */
+   public boolean offer(T element) {
+      long position = tail.get();
+      while (true) {
+         int index = (int) position & mask;
+         long difference = sequences.get(index) - position;
+         if (difference == 0) {
+            if (tail.compareAndSet(position, position + 1)) {
+               slots.set(index, element);
+               sequences.set(index, position + 1);
+               return true;
+            }
+            position = tail.get();
+         } else if (difference < 0) {
+            return false;
+         } else {
+            position = tail.get();
+         }
+      }
+   }
+
+   /**
+    * Must only be called by one thread at a time
+    *
+    * @return the oldest element or null if the buffer is empty or the oldest slot is still being filled
+    */
+   public T poll() {
+      long position = head;
+      int index = (int) position & mask;
+      if (sequences.get(index) != position + 1) {
+         return null;
+      }
+      T element = slots.get(index);
+      slots.set(index, null);
+      sequences.set(index, position + mask + 1);
+      head = position + 1;
+      return element;
+   }
+
+   public int size() {
+      long size = tail.get() - head;
+      return (int) Math.max(0, Math.min(size, capacity()));
+   }
+
+   public int capacity() {
+      return mask + 1;
+   }
+
+   public boolean isEmpty() {
+      return size() == 0;
+   }
+}
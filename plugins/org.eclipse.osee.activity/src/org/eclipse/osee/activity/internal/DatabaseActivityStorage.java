@@ -13,7 +13,10 @@
 
 package org.eclipse.osee.activity.internal;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import org.eclipse.osee.activity.ActivityStorage;
@@ -25,6 +28,7 @@ import org.eclipse.osee.framework.core.exception.OseeNotFoundException;
 import org.eclipse.osee.framework.jdk.core.type.MutableBoolean;
 import org.eclipse.osee.framework.jdk.core.util.Lib;
 import org.eclipse.osee.jdbc.JdbcClient;
+import org.eclipse.osee.jdbc.JdbcDbType;
 import org.eclipse.osee.jdbc.JdbcService;
 import org.eclipse.osee.jdbc.JdbcStatement;
 
@@ -35,8 +39,17 @@ public class DatabaseActivityStorage implements ActivityStorage {
 
    private static final String SELECT_ENTRY = "SELECT * FROM osee_activity WHERE entry_id = ?";
 
-   private static final String INSERT_ENTRIES =
-      "INSERT INTO osee_activity (entry_id, parent_id, type_id, account_id, server_id, client_id, start_timestamp, duration, status, msg_args) VALUES (?,?,?,?,?,?,?,?,?,?)";
+   private static final String INSERT_ENTRIES_PREFIX =
+      "INSERT INTO osee_activity (entry_id, parent_id, type_id, account_id, server_id, client_id, start_timestamp, duration, status, msg_args) VALUES ";
+   private static final String ENTRY_VALUES = "(?,?,?,?,?,?,?,?,?,?)";
+   private static final String INSERT_ENTRIES = INSERT_ENTRIES_PREFIX + ENTRY_VALUES;
+
+   /**
+    * Number of entries inserted by each multi-row insert statement
+    */
+   private static final int ROWS_PER_INSERT = 50;
+   private static final String INSERT_ENTRIES_MULTI_ROW = INSERT_ENTRIES_PREFIX + String.join(",",
+      Collections.nCopies(ROWS_PER_INSERT, ENTRY_VALUES));
 
    private static final String UPDATE_ENTRIES = "UPDATE osee_activity set status = ?, duration = ? where entry_id = ?";
 
@@ -80,9 +93,41 @@ public class DatabaseActivityStorage implements ActivityStorage {
       return entry;
    }
 
+   /**
+    * Groups the entries into multi-row insert statements of {@value #ROWS_PER_INSERT} rows, except on Oracle which does
+    * not support multi-row <code>VALUES</code>. Entries left over are inserted one row per batch statement.
+    */
    @Override
    public int addEntries(Iterable<Object[]> newEntries) {
-      return jdbcClient.runBatchUpdate(INSERT_ENTRIES, newEntries);
+      if (jdbcClient.getDbType().equals(JdbcDbType.oracle)) {
+         return jdbcClient.runBatchUpdate(INSERT_ENTRIES, newEntries);
+      }
+      List<Object[]> groups = new ArrayList<>();
+      List<Object[]> remainder = new ArrayList<>(ROWS_PER_INSERT);
+      for (Object[] entry : newEntries) {
+         remainder.add(entry);
+         if (remainder.size() == ROWS_PER_INSERT) {
+            groups.add(flatten(remainder));
+            remainder.clear();
+         }
+      }
+      int updated = 0;
+      if (!groups.isEmpty()) {
+         updated += jdbcClient.runBatchUpdate(INSERT_ENTRIES_MULTI_ROW, groups);
+      }
+      if (!remainder.isEmpty()) {
+         updated += jdbcClient.runBatchUpdate(INSERT_ENTRIES, remainder);
+      }
+      return updated;
+   }
+
+   private static Object[] flatten(List<Object[]> entries) {
+      int width = entries.get(0).length;
+      Object[] values = new Object[entries.size() * width];
+      for (int index = 0; index < entries.size(); index++) {
+         System.arraycopy(entries.get(index), 0, values, index * width, width);
+      }
+      return values;
    }
 
    @Override
@@ -18,6 +18,7 @@ import org.eclipse.osee.activity.api.ActivityEntry;
 import org.eclipse.osee.activity.api.ActivityEntryId;
 import org.eclipse.osee.activity.api.ActivityLog;
 import org.eclipse.osee.activity.api.ActivityLogEndpoint;
+import org.eclipse.osee.activity.api.ActivityLogStatistics;
 import org.eclipse.osee.framework.core.data.ActivityTypeId;
 import org.eclipse.osee.framework.core.data.ActivityTypeToken;
 import org.eclipse.osee.framework.jdk.core.util.Conditions;
@@ -39,6 +40,11 @@ public final class ActivityLogResource implements ActivityLogEndpoint {
       return activityLog.getEntry(entryId);
    }
 
+   @Override
+   public ActivityLogStatistics getStatistics() {
+      return activityLog.getStatistics();
+   }
+
    @Override
    public ActivityEntryId createEntry(ActivityTypeId type, Long parentId, Integer status, String message) {
       Long entryId = activityLog.createEntry(activityLog.getActivityType(type), parentId, status, message);
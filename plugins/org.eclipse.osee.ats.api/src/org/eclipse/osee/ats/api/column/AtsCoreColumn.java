@@ -14,8 +14,11 @@
 package org.eclipse.osee.ats.api.column;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.Collection;
+import java.util.Collections;
 import org.eclipse.osee.ats.api.AtsApi;
 import org.eclipse.osee.ats.api.IAtsObject;
+import org.eclipse.osee.framework.core.data.RelationTypeSide;
 
 /**
  * @author Donald G. Dunne
@@ -41,6 +44,15 @@ public class AtsCoreColumn {
       return "";
    }
 
+   /**
+    * Relations this column follows from the work item. Used to load the related artifacts for a whole result set in
+    * one query before the column is computed over it; see {@link IAtsColumnService#getColumnTexts}.
+    */
+   @JsonIgnore
+   public Collection<RelationTypeSide> getRequiredRelationTypes() {
+      return Collections.emptyList();
+   }
+
    @JsonIgnore
    public String getColumnType() {
       return getClass().getSimpleName();
@@ -16,12 +16,15 @@ package org.eclipse.osee.ats.api.column;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import org.eclipse.nebula.widgets.xviewer.core.model.XViewerColumn;
 import org.eclipse.osee.ats.api.IAtsObject;
 import org.eclipse.osee.ats.api.IAtsWorkItem;
 import org.eclipse.osee.ats.api.config.AtsConfigurations;
 import org.eclipse.osee.ats.api.util.ColumnType;
 import org.eclipse.osee.framework.core.data.AttributeTypeToken;
+import org.eclipse.osee.framework.core.data.RelationTypeSide;
 import org.eclipse.osee.framework.jdk.core.result.XResultData;
 
 /**
@@ -63,4 +66,15 @@ public interface IAtsColumnService {
 
    String getColumnsJson();
 
+   /**
+    * Computes the given columns over all of the objects, one column at a time with each column run as a task on the
+    * executor. Callers should first load the relations named by {@link #getRequiredRelationTypes(Collection)} for the
+    * whole set.
+    *
+    * @return cell text indexed by object then column
+    */
+   String[][] getColumnTexts(List<String> columnIds, List<? extends IAtsObject> atsObjects, Executor executor);
+
+   Set<RelationTypeSide> getRequiredRelationTypes(Collection<String> columnIds);
+
 }
@@ -22,6 +22,7 @@ import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import org.eclipse.osee.ats.api.ai.ActionableItem;
 import org.eclipse.osee.ats.api.branch.BranchData;
@@ -73,6 +74,16 @@ public interface AtsConfigEndpointApi {
    @Produces(MediaType.APPLICATION_JSON)
    public AtsConfigurations getWithPend();
 
+   /**
+    * @return changes made to AtsConfigurations since the given version, as returned by AtsConfigurations.getVersion(),
+    * after bringing the server cache up to date with the database. If the server no longer holds that version, the
+    * full AtsConfigurations is returned in the delta instead.
+    */
+   @GET
+   @Path("delta")
+   @Produces(MediaType.APPLICATION_JSON)
+   public AtsConfigurationsDelta getDelta(@QueryParam("since") long since);
+
    @GET
    @Path("image")
    @Produces(MediaType.APPLICATION_JSON)
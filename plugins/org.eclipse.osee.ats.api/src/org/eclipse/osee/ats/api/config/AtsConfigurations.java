@@ -51,6 +51,46 @@ public class AtsConfigurations {
    private Map<Long, Long> teamDefToProgram = new HashMap<>();
    private Map<Long, Long> featureToAgileTeam = new HashMap<>();
    private Map<String, String> atsConfig = new HashMap<>();
+   private long version;
+
+   /**
+    * @return a configurations with its own maps holding the same configuration objects, to be changed and published in
+    * place of this one
+    */
+   public AtsConfigurations copy() {
+      AtsConfigurations copy = new AtsConfigurations();
+      copy.views = views;
+      copy.colorColumns = colorColumns;
+      copy.topActionableItem = topActionableItem;
+      copy.topTeamDefinition = topTeamDefinition;
+      copy.validStateNames = validStateNames;
+      copy.idToAi = new HashMap<>(idToAi);
+      copy.idToTeamDef = new HashMap<>(idToTeamDef);
+      copy.idToVersion = new HashMap<>(idToVersion);
+      copy.idToUser = new HashMap<>(idToUser);
+      copy.idToProgram = new HashMap<>(idToProgram);
+      copy.idToAgileTeam = new HashMap<>(idToAgileTeam);
+      copy.idToAgileFeature = new HashMap<>(idToAgileFeature);
+      copy.userIdToUserArtId = new HashMap<>(userIdToUserArtId);
+      copy.userNameToUserArtId = new HashMap<>(userNameToUserArtId);
+      copy.teamDefToAgileTeam = new HashMap<>(teamDefToAgileTeam);
+      copy.teamDefToProgram = new HashMap<>(teamDefToProgram);
+      copy.featureToAgileTeam = new HashMap<>(featureToAgileTeam);
+      copy.atsConfig = new HashMap<>(atsConfig);
+      copy.version = version;
+      return copy;
+   }
+
+   /**
+    * @return id of the COMMON transaction these configurations were loaded as of
+    */
+   public long getVersion() {
+      return version;
+   }
+
+   public void setVersion(long version) {
+      this.version = version;
+   }
 
    public AtsViews getViews() {
       return views;
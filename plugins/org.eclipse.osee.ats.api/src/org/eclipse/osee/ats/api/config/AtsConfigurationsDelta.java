@@ -0,0 +1,270 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.ats.api.config;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.eclipse.osee.ats.api.agile.JaxAgileFeatureGroup;
+import org.eclipse.osee.ats.api.agile.JaxAgileTeam;
+import org.eclipse.osee.ats.api.ai.ActionableItem;
+import org.eclipse.osee.ats.api.program.JaxProgram;
+import org.eclipse.osee.ats.api.user.AtsUser;
+import org.eclipse.osee.ats.api.version.Version;
+
+/**
+ * Changes between two versions of {@link AtsConfigurations}. Entries that were added or reloaded are sent in full, entries
+ * that went away are listed by id, and the small derived lookup maps are sent whole. When the client's version is no
+ * longer known to the server, {@link #getConfigurations()} holds the full configurations instead.
+ *
+ * @author agent
+ */
+public class AtsConfigurationsDelta {
+
+   private long fromVersion;
+   private long toVersion;
+   private AtsConfigurations configurations;
+   private Map<Long, ActionableItem> idToAi = new HashMap<>();
+   private Map<Long, TeamDefinition> idToTeamDef = new HashMap<>();
+   private Map<Long, Version> idToVersion = new HashMap<>();
+   private Map<Long, AtsUser> idToUser = new HashMap<>();
+   private Map<Long, JaxProgram> idToProgram = new HashMap<>();
+   private Map<Long, JaxAgileTeam> idToAgileTeam = new HashMap<>();
+   private Map<Long, JaxAgileFeatureGroup> idToAgileFeature = new HashMap<>();
+   private List<Long> removed = new ArrayList<>();
+   private Map<String, Long> userIdToUserArtId = new HashMap<>();
+   private Map<String, Long> userNameToUserArtId = new HashMap<>();
+   private Map<Long, Long> teamDefToAgileTeam = new HashMap<>();
+   private Map<Long, Long> teamDefToProgram = new HashMap<>();
+   private Map<Long, Long> featureToAgileTeam = new HashMap<>();
+
+   public static AtsConfigurationsDelta full(AtsConfigurations current) {
+      AtsConfigurationsDelta delta = new AtsConfigurationsDelta();
+      delta.toVersion = current.getVersion();
+      delta.configurations = current;
+      return delta;
+   }
+
+   /**
+    * Both configurations must come from the same loader so that an entry which did not change is the same object in
+    * both
+    */
+   public static AtsConfigurationsDelta compute(AtsConfigurations previous, AtsConfigurations current) {
+      AtsConfigurationsDelta delta = new AtsConfigurationsDelta();
+      delta.fromVersion = previous.getVersion();
+      delta.toVersion = current.getVersion();
+      delta.diff(previous.getIdToAi(), current.getIdToAi(), delta.idToAi);
+      delta.diff(previous.getIdToTeamDef(), current.getIdToTeamDef(), delta.idToTeamDef);
+      delta.diff(previous.getIdToVersion(), current.getIdToVersion(), delta.idToVersion);
+      delta.diff(previous.getIdToUser(), current.getIdToUser(), delta.idToUser);
+      delta.diff(previous.getIdToProgram(), current.getIdToProgram(), delta.idToProgram);
+      delta.diff(previous.getIdToAgileTeam(), current.getIdToAgileTeam(), delta.idToAgileTeam);
+      delta.diff(previous.getIdToAgileFeature(), current.getIdToAgileFeature(), delta.idToAgileFeature);
+      delta.userIdToUserArtId = current.getUserIdToUserArtId();
+      delta.userNameToUserArtId = current.getUserNameToUserArtId();
+      delta.teamDefToAgileTeam = current.getTeamDefToAgileTeam();
+      delta.teamDefToProgram = current.getTeamDefToProgram();
+      delta.featureToAgileTeam = current.getFeatureToAgileTeam();
+      return delta;
+   }
+
+   private <T> void diff(Map<Long, T> previous, Map<Long, T> current, Map<Long, T> changed) {
+      for (Entry<Long, T> entry : current.entrySet()) {
+         if (previous.get(entry.getKey()) != entry.getValue()) {
+            changed.put(entry.getKey(), entry.getValue());
+         }
+      }
+      for (Long id : previous.keySet()) {
+         if (!current.containsKey(id)) {
+            removed.add(id);
+         }
+      }
+   }
+
+   /**
+    * @return new configurations made of the base with this delta applied; the base is not changed
+    */
+   public AtsConfigurations applyTo(AtsConfigurations base) {
+      if (configurations != null) {
+         return configurations;
+      }
+      AtsConfigurations result = base.copy();
+      for (Long id : removed) {
+         result.getIdToAi().remove(id);
+         result.getIdToTeamDef().remove(id);
+         result.getIdToVersion().remove(id);
+         result.getIdToUser().remove(id);
+         result.getIdToProgram().remove(id);
+         result.getIdToAgileTeam().remove(id);
+         result.getIdToAgileFeature().remove(id);
+      }
+      result.getIdToAi().putAll(idToAi);
+      result.getIdToTeamDef().putAll(idToTeamDef);
+      result.getIdToVersion().putAll(idToVersion);
+      result.getIdToUser().putAll(idToUser);
+      result.getIdToProgram().putAll(idToProgram);
+      result.getIdToAgileTeam().putAll(idToAgileTeam);
+      result.getIdToAgileFeature().putAll(idToAgileFeature);
+      result.setUserIdToUserArtId(new HashMap<>(userIdToUserArtId));
+      result.setUserNameToUserArtId(new HashMap<>(userNameToUserArtId));
+      result.setTeamDefToAgileTeam(new HashMap<>(teamDefToAgileTeam));
+      result.setTeamDefToProgram(new HashMap<>(teamDefToProgram));
+      result.setFeatureToAgileTeam(new HashMap<>(featureToAgileTeam));
+      result.setVersion(toVersion);
+      return result;
+   }
+
+   @JsonIgnore
+   public boolean isEmpty() {
+      return configurations == null && removed.isEmpty() && idToAi.isEmpty() && idToTeamDef.isEmpty() && idToVersion.isEmpty() && idToUser.isEmpty() && idToProgram.isEmpty() && idToAgileTeam.isEmpty() && idToAgileFeature.isEmpty();
+   }
+
+   public long getFromVersion() {
+      return fromVersion;
+   }
+
+   public void setFromVersion(long fromVersion) {
+      this.fromVersion = fromVersion;
+   }
+
+   public long getToVersion() {
+      return toVersion;
+   }
+
+   public void setToVersion(long toVersion) {
+      this.toVersion = toVersion;
+   }
+
+   /**
+    * @return the full configurations when the delta could not be computed from the requested version, otherwise null
+    */
+   public AtsConfigurations getConfigurations() {
+      return configurations;
+   }
+
+   public void setConfigurations(AtsConfigurations configurations) {
+      this.configurations = configurations;
+   }
+
+   public Map<Long, ActionableItem> getIdToAi() {
+      return idToAi;
+   }
+
+   public void setIdToAi(Map<Long, ActionableItem> idToAi) {
+      this.idToAi = idToAi;
+   }
+
+   public Map<Long, TeamDefinition> getIdToTeamDef() {
+      return idToTeamDef;
+   }
+
+   public void setIdToTeamDef(Map<Long, TeamDefinition> idToTeamDef) {
+      this.idToTeamDef = idToTeamDef;
+   }
+
+   public Map<Long, Version> getIdToVersion() {
+      return idToVersion;
+   }
+
+   public void setIdToVersion(Map<Long, Version> idToVersion) {
+      this.idToVersion = idToVersion;
+   }
+
+   public Map<Long, AtsUser> getIdToUser() {
+      return idToUser;
+   }
+
+   public void setIdToUser(Map<Long, AtsUser> idToUser) {
+      this.idToUser = idToUser;
+   }
+
+   public Map<Long, JaxProgram> getIdToProgram() {
+      return idToProgram;
+   }
+
+   public void setIdToProgram(Map<Long, JaxProgram> idToProgram) {
+      this.idToProgram = idToProgram;
+   }
+
+   public Map<Long, JaxAgileTeam> getIdToAgileTeam() {
+      return idToAgileTeam;
+   }
+
+   public void setIdToAgileTeam(Map<Long, JaxAgileTeam> idToAgileTeam) {
+      this.idToAgileTeam = idToAgileTeam;
+   }
+
+   public Map<Long, JaxAgileFeatureGroup> getIdToAgileFeature() {
+      return idToAgileFeature;
+   }
+
+   public void setIdToAgileFeature(Map<Long, JaxAgileFeatureGroup> idToAgileFeature) {
+      this.idToAgileFeature = idToAgileFeature;
+   }
+
+   /**
+    * @return ids of entries of any kind that are no longer in the configurations
+    */
+   public List<Long> getRemoved() {
+      return removed;
+   }
+
+   public void setRemoved(List<Long> removed) {
+      this.removed = removed;
+   }
+
+   public Map<String, Long> getUserIdToUserArtId() {
+      return userIdToUserArtId;
+   }
+
+   public void setUserIdToUserArtId(Map<String, Long> userIdToUserArtId) {
+      this.userIdToUserArtId = userIdToUserArtId;
+   }
+
+   public Map<String, Long> getUserNameToUserArtId() {
+      return userNameToUserArtId;
+   }
+
+   public void setUserNameToUserArtId(Map<String, Long> userNameToUserArtId) {
+      this.userNameToUserArtId = userNameToUserArtId;
+   }
+
+   public Map<Long, Long> getTeamDefToAgileTeam() {
+      return teamDefToAgileTeam;
+   }
+
+   public void setTeamDefToAgileTeam(Map<Long, Long> teamDefToAgileTeam) {
+      this.teamDefToAgileTeam = teamDefToAgileTeam;
+   }
+
+   public Map<Long, Long> getTeamDefToProgram() {
+      return teamDefToProgram;
+   }
+
+   public void setTeamDefToProgram(Map<Long, Long> teamDefToProgram) {
+      this.teamDefToProgram = teamDefToProgram;
+   }
+
+   public Map<Long, Long> getFeatureToAgileTeam() {
+      return featureToAgileTeam;
+   }
+
+   public void setFeatureToAgileTeam(Map<Long, Long> featureToAgileTeam) {
+      this.featureToAgileTeam = featureToAgileTeam;
+   }
+
+}
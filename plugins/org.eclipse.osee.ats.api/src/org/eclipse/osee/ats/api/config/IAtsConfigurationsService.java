@@ -31,6 +31,12 @@ public interface IAtsConfigurationsService {
     */
    AtsConfigurations getConfigurationsWithPend();
 
+   /**
+    * @return changes to the configurations since the given version, or the full configurations if that version is not
+    * known
+    */
+   AtsConfigurationsDelta getConfigurationsDelta(long sinceVersion);
+
    IAtsConfigTx createConfigTx(String string);
 
    void setAtsApi(AtsApi atsApi);
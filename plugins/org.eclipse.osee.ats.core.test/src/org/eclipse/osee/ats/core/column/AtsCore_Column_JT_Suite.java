@@ -13,6 +13,7 @@
 
 package org.eclipse.osee.ats.core.column;
 
+import org.eclipse.osee.ats.core.internal.column.AtsColumnServiceTest;
 import org.eclipse.osee.ats.core.internal.column.TeamColumnUtilityTest;
 import org.eclipse.osee.framework.jdk.core.util.OseeProperties;
 import org.junit.AfterClass;
@@ -22,6 +23,7 @@ import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+   AtsColumnServiceTest.class,
    BacklogColumnTest.class,
    CountryColumnTest.class,
    InsertionColumnTest.class,
@@ -0,0 +1,123 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.ats.core.internal.column;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.eclipse.osee.ats.api.AtsApi;
+import org.eclipse.osee.ats.api.IAtsObject;
+import org.eclipse.osee.ats.api.IAtsWorkItem;
+import org.eclipse.osee.ats.api.column.AtsColumnTokensDefault;
+import org.eclipse.osee.ats.api.column.AtsCoreColumn;
+import org.eclipse.osee.ats.core.column.AtsIdColumn;
+import org.eclipse.osee.ats.core.column.TitleColumn;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @tests AtsColumnService
+ * @author agent
+ */
+public class AtsColumnServiceTest {
+
+   private static final String FAILING_COLUMN = "test.failing";
+   private static final String UNKNOWN_COLUMN = "test.unknown";
+
+   private final Map<String, AtsCoreColumn> columns = new HashMap<>();
+   private AtsColumnService columnService;
+   private List<IAtsWorkItem> workItems;
+
+   @Before
+   public void setup() {
+      AtsApi atsApi = mock(AtsApi.class);
+      columns.put(AtsColumnTokensDefault.TitleColumn.getId(), new TitleColumn(atsApi));
+      columns.put(AtsColumnTokensDefault.AtsIdColumn.getId(), new AtsIdColumn(atsApi));
+      columnService = new AtsColumnService(atsApi) {
+         @Override
+         public AtsCoreColumn getColumn(String id) {
+            return columns.get(id);
+         }
+      };
+
+      workItems = new ArrayList<>();
+      for (int i = 0; i < 50; i++) {
+         IAtsWorkItem workItem = mock(IAtsWorkItem.class);
+         when(workItem.getName()).thenReturn("Workflow " + i);
+         if (i % 7 == 0) {
+            when(workItem.getAtsId()).thenThrow(new IllegalStateException("no id " + i));
+         } else {
+            when(workItem.getAtsId()).thenReturn("ATS" + i);
+         }
+         workItems.add(workItem);
+      }
+   }
+
+   @Test
+   public void testColumnTextsMatchColumnText() {
+      List<String> columnIds = Arrays.asList(AtsColumnTokensDefault.TitleColumn.getId(), UNKNOWN_COLUMN,
+         AtsColumnTokensDefault.AtsIdColumn.getId(), AtsColumnTokensDefault.TitleColumn.getId());
+
+      assertMatchesColumnText(columnIds, columnService.getColumnTexts(columnIds, workItems, Runnable::run));
+
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      try {
+         assertMatchesColumnText(columnIds, columnService.getColumnTexts(columnIds, workItems, executor));
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+
+   @Test
+   public void testNoColumnsOrObjects() {
+      Assert.assertEquals(0, columnService.getColumnTexts(Arrays.asList(), workItems, Runnable::run)[0].length);
+      Assert.assertEquals(0, columnService.getColumnTexts(Arrays.asList(AtsColumnTokensDefault.TitleColumn.getId()),
+         new ArrayList<>(), Runnable::run).length);
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testColumnFailureIsRethrown() {
+      columns.put(FAILING_COLUMN, new AtsCoreColumn(null, null) {
+         @Override
+         public String getColumnText(IAtsObject atsObject) {
+            throw new IllegalArgumentException("column failed");
+         }
+      });
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      try {
+         columnService.getColumnTexts(Arrays.asList(AtsColumnTokensDefault.TitleColumn.getId(), FAILING_COLUMN),
+            workItems, executor);
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+
+   private void assertMatchesColumnText(List<String> columnIds, String[][] cells) {
+      Assert.assertEquals(workItems.size(), cells.length);
+      for (int row = 0; row < workItems.size(); row++) {
+         Assert.assertEquals(columnIds.size(), cells[row].length);
+         for (int col = 0; col < columnIds.size(); col++) {
+            Assert.assertEquals(columnService.getColumnText(columnIds.get(col), workItems.get(row)), cells[row][col]);
+         }
+      }
+   }
+}
@@ -13,12 +13,16 @@
 
 package org.eclipse.osee.ats.core.column;
 
+import java.util.Arrays;
+import java.util.Collection;
 import org.eclipse.osee.ats.api.AtsApi;
 import org.eclipse.osee.ats.api.IAtsObject;
 import org.eclipse.osee.ats.api.IAtsWorkItem;
 import org.eclipse.osee.ats.api.column.AtsColumnTokensDefault;
+import org.eclipse.osee.ats.api.data.AtsRelationTypes;
 import org.eclipse.osee.ats.api.workflow.IAtsTeamWorkflow;
 import org.eclipse.osee.ats.core.column.model.AtsCoreCodeColumn;
+import org.eclipse.osee.framework.core.data.RelationTypeSide;
 
 /**
  * @author Donald G. Dunne
@@ -29,6 +33,11 @@ public class ParentTitleColumn extends AtsCoreCodeColumn {
       super(AtsColumnTokensDefault.ParentTitleColumn, atsApi);
    }
 
+   @Override
+   public Collection<RelationTypeSide> getRequiredRelationTypes() {
+      return Arrays.asList(AtsRelationTypes.TeamWfToTask_TeamWorkflow, AtsRelationTypes.TeamWorkflowToReview_TeamWorkflow);
+   }
+
    @Override
    protected String getText(IAtsObject atsObject) throws Exception {
       String result = null;
@@ -13,6 +13,8 @@
 
 package org.eclipse.osee.ats.core.column;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import org.eclipse.osee.ats.api.AtsApi;
@@ -36,6 +38,11 @@ public class RelationColumn extends AtsCoreCodeColumn {
       this.relationTypeSide = relationTypeSide;
    }
 
+   @Override
+   public Collection<RelationTypeSide> getRequiredRelationTypes() {
+      return Arrays.asList(relationTypeSide);
+   }
+
    @Override
    public String getText(IAtsObject atsObject) throws Exception {
       String result = "";
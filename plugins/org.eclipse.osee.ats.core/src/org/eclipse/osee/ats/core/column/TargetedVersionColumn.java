@@ -13,15 +13,19 @@
 
 package org.eclipse.osee.ats.core.column;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import org.eclipse.osee.ats.api.AtsApi;
 import org.eclipse.osee.ats.api.IAtsObject;
 import org.eclipse.osee.ats.api.IAtsWorkItem;
 import org.eclipse.osee.ats.api.column.AtsColumnTokensDefault;
+import org.eclipse.osee.ats.api.data.AtsRelationTypes;
 import org.eclipse.osee.ats.api.workflow.IAtsAction;
 import org.eclipse.osee.ats.api.workflow.IAtsTeamWorkflow;
 import org.eclipse.osee.ats.core.column.model.AtsCoreCodeColumn;
+import org.eclipse.osee.framework.core.data.RelationTypeSide;
 import org.eclipse.osee.framework.jdk.core.util.Collections;
 import org.eclipse.osee.framework.jdk.core.util.Strings;
 
@@ -34,6 +38,11 @@ public class TargetedVersionColumn extends AtsCoreCodeColumn {
       super(AtsColumnTokensDefault.TargetedVersionColumn, atsApi);
    }
 
+   @Override
+   public Collection<RelationTypeSide> getRequiredRelationTypes() {
+      return Arrays.asList(AtsRelationTypes.TeamWorkflowTargetedForVersion_Version);
+   }
+
    @Override
    public String getText(IAtsObject atsObject) throws Exception {
       String result = "";
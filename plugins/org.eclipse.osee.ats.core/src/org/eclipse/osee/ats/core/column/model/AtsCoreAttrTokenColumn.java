@@ -13,6 +13,7 @@
 
 package org.eclipse.osee.ats.core.column.model;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -21,11 +22,13 @@ import org.eclipse.osee.ats.api.IAtsObject;
 import org.eclipse.osee.ats.api.IAtsWorkItem;
 import org.eclipse.osee.ats.api.column.AtsCoreAttrTokColumnToken;
 import org.eclipse.osee.ats.api.column.AtsCoreColumn;
+import org.eclipse.osee.ats.api.data.AtsRelationTypes;
 import org.eclipse.osee.ats.api.workflow.IAtsAction;
 import org.eclipse.osee.ats.api.workflow.IAtsTeamWorkflow;
 import org.eclipse.osee.ats.core.internal.column.AtsColumnService;
 import org.eclipse.osee.framework.core.data.AttributeTypeToken;
 import org.eclipse.osee.framework.core.data.DisplayHint;
+import org.eclipse.osee.framework.core.data.RelationTypeSide;
 import org.eclipse.osee.framework.jdk.core.util.Collections;
 import org.eclipse.osee.framework.jdk.core.util.Strings;
 
@@ -52,6 +55,15 @@ public class AtsCoreAttrTokenColumn extends AtsCoreColumn {
       return getColumnText(atsObject, columnToken.getAttrTypeId(), isActionRollup(), isInheritParent(), atsApi);
    }
 
+   @Override
+   public Collection<RelationTypeSide> getRequiredRelationTypes() {
+      if (isInheritParent()) {
+         return Arrays.asList(AtsRelationTypes.TeamWfToTask_TeamWorkflow,
+            AtsRelationTypes.TeamWorkflowToReview_TeamWorkflow);
+      }
+      return super.getRequiredRelationTypes();
+   }
+
    private Boolean isInheritParent() {
       Boolean inheritParent = columnToken.isInheritParent();
       return inheritParent == null ? false : inheritParent;
@@ -16,6 +16,7 @@ package org.eclipse.osee.ats.core.config;
 import java.util.regex.Pattern;
 import org.eclipse.osee.ats.api.AtsApi;
 import org.eclipse.osee.ats.api.config.AtsConfigurations;
+import org.eclipse.osee.ats.api.config.AtsConfigurationsDelta;
 import org.eclipse.osee.ats.api.config.IAtsConfigurationsService;
 import org.eclipse.osee.ats.api.config.tx.IAtsConfigTx;
 import org.eclipse.osee.ats.api.data.AtsArtifactToken;
@@ -28,7 +29,7 @@ import org.eclipse.osee.framework.core.data.ArtifactId;
  */
 public abstract class AbstractAtsConfigurationService implements IAtsConfigurationsService {
 
-   protected AtsConfigurations atsConfigurations;
+   protected volatile AtsConfigurations atsConfigurations;
    protected AtsApi atsApi;
    public static Pattern keyValuePattern = Pattern.compile("^(.*)=(.*)", Pattern.DOTALL);
 
@@ -37,6 +38,11 @@ public abstract class AbstractAtsConfigurationService implements IAtsConfigurati
       this.atsApi = atsApi;
    }
 
+   @Override
+   public AtsConfigurationsDelta getConfigurationsDelta(long sinceVersion) {
+      return AtsConfigurationsDelta.full(getConfigurations());
+   }
+
    @Override
    public IAtsConfigTx createConfigTx(String name) {
       return new AtsConfigTxImpl(name, atsApi);
@@ -17,10 +17,14 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import org.eclipse.nebula.widgets.xviewer.core.model.XViewerColumn;
 import org.eclipse.osee.ats.api.AtsApi;
 import org.eclipse.osee.ats.api.IAtsObject;
@@ -80,10 +84,12 @@ import org.eclipse.osee.ats.core.internal.AtsApiService;
 import org.eclipse.osee.framework.core.data.ArtifactTypeToken;
 import org.eclipse.osee.framework.core.data.AttributeTypeGeneric;
 import org.eclipse.osee.framework.core.data.AttributeTypeToken;
+import org.eclipse.osee.framework.core.data.RelationTypeSide;
 import org.eclipse.osee.framework.core.enums.CoreArtifactTypes;
 import org.eclipse.osee.framework.core.exception.OseeTypeDoesNotExist;
 import org.eclipse.osee.framework.core.util.JsonUtil;
 import org.eclipse.osee.framework.jdk.core.result.XResultData;
+import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
 import org.eclipse.osee.framework.jdk.core.util.Lib;
 import org.eclipse.osee.framework.jdk.core.util.Strings;
 
@@ -343,6 +349,44 @@ public class AtsColumnService implements IAtsColumnService {
       return result;
    }
 
+   @Override
+   public String[][] getColumnTexts(List<String> columnIds, List<? extends IAtsObject> atsObjects, Executor executor) {
+      // resolve on this thread since column lookup is not thread safe
+      AtsCoreColumn[] columns = new AtsCoreColumn[columnIds.size()];
+      for (int col = 0; col < columns.length; col++) {
+         columns[col] = getColumn(columnIds.get(col));
+      }
+      String[][] cells = new String[atsObjects.size()][columns.length];
+      CompletableFuture<?>[] futures = new CompletableFuture<?>[columns.length];
+      for (int col = 0; col < columns.length; col++) {
+         int column = col;
+         futures[col] = CompletableFuture.runAsync(() -> {
+            for (int row = 0; row < cells.length; row++) {
+               cells[row][column] = columns[column] == null ? "Unhandled Column" : columns[column].getColumnText(
+                  atsObjects.get(row));
+            }
+         }, executor);
+      }
+      try {
+         CompletableFuture.allOf(futures).join();
+      } catch (CompletionException ex) {
+         throw OseeCoreException.wrap(ex.getCause());
+      }
+      return cells;
+   }
+
+   @Override
+   public Set<RelationTypeSide> getRequiredRelationTypes(Collection<String> columnIds) {
+      Set<RelationTypeSide> relationTypes = new LinkedHashSet<>();
+      for (String columnId : columnIds) {
+         AtsCoreColumn column = getColumn(columnId);
+         if (column != null) {
+            relationTypes.addAll(column.getRequiredRelationTypes());
+         }
+      }
+      return relationTypes;
+   }
+
    @Override
    public AtsCoreColumn getColumn(AtsCoreColumnToken columnId) {
       return getColumn(columnId.getId());
@@ -389,6 +389,7 @@ public final class AtsNavigateViewItems implements XNavigateItemProvider {
          items.add(new CreateAtsConfiguration());
          items.add(new XNavigateItemBlam(new ConvertWorkflowStatesBlam(), TOP_ADMIN));
          items.add(new DisplayCurrentOseeEventListeners());
+         items.add(new DisplayArtifactCacheStatistics());
          items.add(new XNavigateItemBlam(new CreateAtsBaselineBranchBlam(), TOP_ADMIN));
          items.add(new XNavigateItemAction(new OpenChangeReportByTransactionIdAction(), FrameworkImage.BRANCH_CHANGE,
             TOP_ADMIN));
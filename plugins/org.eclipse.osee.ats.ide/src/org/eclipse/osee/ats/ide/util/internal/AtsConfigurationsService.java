@@ -36,6 +36,8 @@ import org.eclipse.osee.framework.jdk.core.result.XResultData;
  */
 public class AtsConfigurationsService extends AbstractAtsConfigurationService {
    private Supplier<AtsConfigurations> configurationsCache;
+   // last configurations received from the server; later loads only ask for what changed since its version
+   private volatile AtsConfigurations loaded;
    // NOTE: No constructor cause loaded by OSGI before AtsApi
 
    @Override
@@ -72,7 +74,13 @@ public class AtsConfigurationsService extends AbstractAtsConfigurationService {
       if (iAtsClient != null) {
          IAtsServerEndpointProvider serverEndpoints = iAtsClient.getServerEndpoints();
          AtsConfigEndpointApi configEndpoint = serverEndpoints.getConfigEndpoint();
-         AtsConfigurations configs = configEndpoint.get();
+         AtsConfigurations previous = loaded;
+         AtsConfigurations configs;
+         if (previous == null || previous.getVersion() <= 0 || previous.getUsers().isEmpty()) {
+            configs = configEndpoint.get();
+         } else {
+            configs = configEndpoint.getDelta(previous.getVersion()).applyTo(previous);
+         }
          for (Version version : configs.getIdToVersion().values()) {
             version.setAtsApi(AtsApiService.get());
          }
@@ -85,6 +93,7 @@ public class AtsConfigurationsService extends AbstractAtsConfigurationService {
          for (AtsUser user : configs.getUsers()) {
             user.setAtsApi(AtsApiService.get());
          }
+         loaded = configs;
          return configs;
       }
       return new AtsConfigurations();
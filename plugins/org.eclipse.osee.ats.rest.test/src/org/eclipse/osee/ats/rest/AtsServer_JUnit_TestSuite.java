@@ -13,6 +13,7 @@
 
 package org.eclipse.osee.ats.rest;
 
+import org.eclipse.osee.ats.rest.internal.config.AtsImpl_Config_Suite;
 import org.eclipse.osee.ats.rest.internal.notify.AtsImpl_Notify_Suite;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -21,7 +22,7 @@ import org.junit.runners.Suite;
  * @author Donald G. Dunne
  */
 @RunWith(Suite.class)
-@Suite.SuiteClasses({AtsImpl_Notify_Suite.class})
+@Suite.SuiteClasses({AtsImpl_Config_Suite.class, AtsImpl_Notify_Suite.class})
 public class AtsServer_JUnit_TestSuite {
    // Test Suite
 }
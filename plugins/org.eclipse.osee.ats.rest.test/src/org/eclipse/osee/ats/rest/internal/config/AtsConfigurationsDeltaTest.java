@@ -0,0 +1,110 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.ats.rest.internal.config;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.eclipse.osee.ats.api.ai.ActionableItem;
+import org.eclipse.osee.ats.api.config.AtsConfigurations;
+import org.eclipse.osee.ats.api.config.AtsConfigurationsDelta;
+import org.eclipse.osee.ats.api.user.AtsUser;
+import org.eclipse.osee.ats.api.version.Version;
+import org.eclipse.osee.framework.core.data.ArtifactToken;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @tests AtsConfigurationsDelta
+ * @author agent
+ */
+public class AtsConfigurationsDeltaTest {
+
+   private AtsConfigurations previous;
+   private AtsConfigurations current;
+
+   @Before
+   public void setup() {
+      previous = new AtsConfigurations();
+      previous.setVersion(10L);
+      previous.addAi(new ActionableItem(ArtifactToken.valueOf(1L, "AI 1"), null));
+      previous.addAi(new ActionableItem(ArtifactToken.valueOf(2L, "AI 2"), null));
+      previous.addVersion(new Version(ArtifactToken.valueOf(3L, "Version 3"), null));
+      previous.addUser(new AtsUser(4L, "Joe", "joe", "joe@example.com", true));
+      previous.getTeamDefToProgram().put(5L, 6L);
+
+      current = previous.copy();
+      current.setVersion(11L);
+      current.getIdToAi().remove(2L);
+      current.addAi(new ActionableItem(ArtifactToken.valueOf(1L, "AI 1 renamed"), null));
+      current.addVersion(new Version(ArtifactToken.valueOf(7L, "Version 7"), null));
+      current.addUser(new AtsUser(8L, "Kay", "kay", "kay@example.com", true));
+      current.getTeamDefToProgram().put(5L, 9L);
+   }
+
+   @Test
+   public void testCompute() {
+      AtsConfigurationsDelta delta = AtsConfigurationsDelta.compute(previous, current);
+
+      Assert.assertFalse(delta.isEmpty());
+      Assert.assertNull(delta.getConfigurations());
+      Assert.assertEquals(10L, delta.getFromVersion());
+      Assert.assertEquals(11L, delta.getToVersion());
+      Assert.assertEquals(Collections.singleton(1L), delta.getIdToAi().keySet());
+      Assert.assertSame(current.getIdToAi().get(1L), delta.getIdToAi().get(1L));
+      Assert.assertEquals(Collections.singleton(7L), delta.getIdToVersion().keySet());
+      Assert.assertEquals(Collections.singleton(8L), delta.getIdToUser().keySet());
+      Assert.assertEquals(Arrays.asList(2L), delta.getRemoved());
+      Assert.assertEquals(Long.valueOf(9L), delta.getTeamDefToProgram().get(5L));
+   }
+
+   @Test
+   public void testApplyTo() {
+      AtsConfigurations applied = AtsConfigurationsDelta.compute(previous, current).applyTo(previous);
+
+      Assert.assertEquals(11L, applied.getVersion());
+      Assert.assertEquals(current.getIdToAi(), applied.getIdToAi());
+      Assert.assertEquals(current.getIdToVersion(), applied.getIdToVersion());
+      Assert.assertEquals(current.getIdToUser(), applied.getIdToUser());
+      Assert.assertEquals(current.getUserIdToUserArtId(), applied.getUserIdToUserArtId());
+      Assert.assertEquals(current.getUserNameToUserArtId(), applied.getUserNameToUserArtId());
+      Assert.assertEquals(current.getTeamDefToProgram(), applied.getTeamDefToProgram());
+
+      // the base is not changed
+      Assert.assertEquals(10L, previous.getVersion());
+      Assert.assertEquals("AI 1", previous.getIdToAi().get(1L).getName());
+      Assert.assertTrue(previous.getIdToAi().containsKey(2L));
+      Assert.assertFalse(previous.getIdToVersion().containsKey(7L));
+      Assert.assertEquals(Long.valueOf(6L), previous.getTeamDefToProgram().get(5L));
+   }
+
+   @Test
+   public void testUnchangedIsEmpty() {
+      AtsConfigurations copy = previous.copy();
+      AtsConfigurationsDelta delta = AtsConfigurationsDelta.compute(previous, copy);
+
+      Assert.assertTrue(delta.isEmpty());
+      Assert.assertEquals(previous.getIdToAi(), delta.applyTo(previous).getIdToAi());
+   }
+
+   @Test
+   public void testFull() {
+      AtsConfigurationsDelta delta = AtsConfigurationsDelta.full(current);
+
+      Assert.assertFalse(delta.isEmpty());
+      Assert.assertEquals(11L, delta.getToVersion());
+      Assert.assertSame(current, delta.applyTo(previous));
+   }
+}
@@ -0,0 +1,109 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.ats.rest.internal.config;
+
+import org.eclipse.osee.ats.api.config.AtsConfigurations;
+import org.eclipse.osee.ats.rest.internal.config.DerivedConfigEntries.DerivedMap;
+import org.eclipse.osee.framework.core.data.ArtifactId;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @tests DerivedConfigEntries
+ * @author agent
+ */
+public class DerivedConfigEntriesTest {
+
+   private static final Long TEAM_DEF = 10L;
+   private static final Long PROGRAM_A = 20L;
+   private static final Long PROGRAM_B = 21L;
+   private static final Long AGILE_TEAM = 30L;
+   private static final Long AGILE_TEAM_2 = 31L;
+
+   private AtsConfigurations configs;
+   private DerivedConfigEntries entries;
+
+   @Before
+   public void setup() {
+      configs = new AtsConfigurations();
+      entries = new DerivedConfigEntries();
+   }
+
+   @Test
+   public void testRemoveRestoresOverwrittenEntry() {
+      // the program names the team definition, then the team definition names another program
+      entries.put(configs, DerivedMap.TeamDefToProgram, ArtifactId.valueOf(PROGRAM_A), TEAM_DEF, PROGRAM_A);
+      entries.put(configs, DerivedMap.TeamDefToProgram, ArtifactId.valueOf(TEAM_DEF), TEAM_DEF, PROGRAM_B);
+      Assert.assertEquals(PROGRAM_B, configs.getTeamDefToProgram().get(TEAM_DEF));
+
+      entries.remove(configs, TEAM_DEF);
+      Assert.assertFalse(configs.getTeamDefToProgram().containsKey(TEAM_DEF));
+
+      entries.restore(configs);
+      Assert.assertEquals(PROGRAM_A, configs.getTeamDefToProgram().get(TEAM_DEF));
+   }
+
+   @Test
+   public void testRemoveKeepsEntryOfOtherSource() {
+      entries.put(configs, DerivedMap.TeamDefToProgram, ArtifactId.valueOf(TEAM_DEF), TEAM_DEF, PROGRAM_B);
+      entries.put(configs, DerivedMap.TeamDefToProgram, ArtifactId.valueOf(PROGRAM_A), TEAM_DEF, PROGRAM_A);
+
+      entries.remove(configs, TEAM_DEF);
+      Assert.assertEquals(PROGRAM_A, configs.getTeamDefToProgram().get(TEAM_DEF));
+
+      entries.restore(configs);
+      Assert.assertEquals(PROGRAM_A, configs.getTeamDefToProgram().get(TEAM_DEF));
+   }
+
+   @Test
+   public void testReloadedSourceIsNotOverwrittenByRestore() {
+      entries.put(configs, DerivedMap.TeamDefToAgileTeam, ArtifactId.valueOf(AGILE_TEAM), TEAM_DEF, AGILE_TEAM);
+      entries.put(configs, DerivedMap.TeamDefToAgileTeam, ArtifactId.valueOf(AGILE_TEAM_2), TEAM_DEF, AGILE_TEAM_2);
+
+      // the second agile team is reloaded and no longer names the team definition
+      entries.remove(configs, AGILE_TEAM_2);
+      entries.restore(configs);
+      Assert.assertEquals(AGILE_TEAM, configs.getTeamDefToAgileTeam().get(TEAM_DEF));
+
+      // the first agile team is reloaded and now names another team definition
+      entries.remove(configs, AGILE_TEAM);
+      entries.put(configs, DerivedMap.TeamDefToAgileTeam, ArtifactId.valueOf(AGILE_TEAM), PROGRAM_A, AGILE_TEAM);
+      entries.restore(configs);
+      Assert.assertFalse(configs.getTeamDefToAgileTeam().containsKey(TEAM_DEF));
+      Assert.assertEquals(AGILE_TEAM, configs.getTeamDefToAgileTeam().get(PROGRAM_A));
+      Assert.assertTrue(configs.getTeamDefToProgram().isEmpty());
+      Assert.assertTrue(configs.getFeatureToAgileTeam().isEmpty());
+   }
+
+   @Test
+   public void testEntriesFollowCopies() {
+      entries.put(configs, DerivedMap.FeatureToAgileTeam, ArtifactId.valueOf(AGILE_TEAM), PROGRAM_A, AGILE_TEAM);
+      AtsConfigurations copy = configs.copy();
+
+      entries.remove(copy, AGILE_TEAM);
+      Assert.assertTrue(copy.getFeatureToAgileTeam().isEmpty());
+      Assert.assertEquals(AGILE_TEAM, configs.getFeatureToAgileTeam().get(PROGRAM_A));
+   }
+
+   @Test
+   public void testClear() {
+      entries.put(configs, DerivedMap.TeamDefToProgram, ArtifactId.valueOf(PROGRAM_A), TEAM_DEF, PROGRAM_A);
+      entries.clear();
+
+      entries.remove(configs, PROGRAM_A);
+      Assert.assertEquals(PROGRAM_A, configs.getTeamDefToProgram().get(TEAM_DEF));
+   }
+}
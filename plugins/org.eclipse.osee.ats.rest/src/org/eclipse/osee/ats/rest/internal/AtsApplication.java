@@ -148,7 +148,7 @@ public class AtsApplication extends Application {
       // Endpoints
       // NOTE: @Consumes(MediaType.APPLICATION_JSON) doesn't work with GET, must be PUT
       singletons.add(new AtsActionEndpointImpl(atsApiServer, orcsApi));
-      singletons.add(new AtsWorldEndpointImpl(atsApiServer));
+      singletons.add(new AtsWorldEndpointImpl(atsApiServer, executorAdmin));
       singletons.add(new AtsWorkTypeEndpointImpl());
       singletons.add(new AtsHealthEndpointImpl(orcsApi, atsApiServer, jdbcService));
       singletons.add(new AtsWorkDefEndpointImpl(atsApiServer, orcsApi));
@@ -26,6 +26,7 @@ import org.eclipse.osee.ats.api.column.AtsColumnUtil;
 import org.eclipse.osee.ats.api.column.AtsCoreAttrTokColumnToken;
 import org.eclipse.osee.ats.api.config.AtsConfigEndpointApi;
 import org.eclipse.osee.ats.api.config.AtsConfigurations;
+import org.eclipse.osee.ats.api.config.AtsConfigurationsDelta;
 import org.eclipse.osee.ats.api.config.ColumnAlign;
 import org.eclipse.osee.ats.api.config.TeamDefinition;
 import org.eclipse.osee.ats.api.data.AtsArtifactImages;
@@ -127,6 +128,11 @@ public final class AtsConfigEndpointImpl implements AtsConfigEndpointApi {
       return atsApi.getConfigService().getConfigurationsWithPend();
    }
 
+   @Override
+   public AtsConfigurationsDelta getDelta(long since) {
+      return atsApi.getConfigService().getConfigurationsDelta(since);
+   }
+
    @Override
    public ViewModel getNewSource() {
       return new ViewModel("templates/newConfigBranch.html");
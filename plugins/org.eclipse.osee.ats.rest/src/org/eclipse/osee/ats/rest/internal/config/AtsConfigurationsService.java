@@ -22,15 +22,22 @@ import static org.eclipse.osee.ats.api.data.AtsArtifactTypes.Version;
 import static org.eclipse.osee.ats.api.data.AtsRelationTypes.TeamActionableItem_ActionableItem;
 import static org.eclipse.osee.ats.api.data.AtsRelationTypes.TeamDefinitionToVersion_Version;
 import static org.eclipse.osee.framework.core.enums.CoreArtifactTypes.User;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import org.eclipse.osee.ats.api.AtsApi;
 import org.eclipse.osee.ats.api.agile.JaxAgileFeatureGroup;
 import org.eclipse.osee.ats.api.agile.JaxAgileTeam;
 import org.eclipse.osee.ats.api.ai.ActionableItem;
 import org.eclipse.osee.ats.api.config.AtsConfigurations;
+import org.eclipse.osee.ats.api.config.AtsConfigurationsDelta;
 import org.eclipse.osee.ats.api.config.AtsViews;
 import org.eclipse.osee.ats.api.config.TeamDefinition;
 import org.eclipse.osee.ats.api.data.AtsArtifactToken;
@@ -42,20 +49,26 @@ import org.eclipse.osee.ats.api.user.AtsUser;
 import org.eclipse.osee.ats.api.version.Version;
 import org.eclipse.osee.ats.core.agile.AgileFactory;
 import org.eclipse.osee.ats.core.config.AbstractAtsConfigurationService;
+import org.eclipse.osee.ats.rest.internal.config.DerivedConfigEntries.DerivedMap;
 import org.eclipse.osee.framework.core.data.ArtifactId;
 import org.eclipse.osee.framework.core.data.ArtifactReadable;
 import org.eclipse.osee.framework.core.data.ArtifactToken;
+import org.eclipse.osee.framework.core.data.ArtifactTypeToken;
 import org.eclipse.osee.framework.core.data.AttributeTypeToken;
+import org.eclipse.osee.framework.core.data.TransactionId;
 import org.eclipse.osee.framework.core.enums.CoreArtifactTypes;
 import org.eclipse.osee.framework.core.enums.CoreAttributeTypes;
 import org.eclipse.osee.framework.core.enums.CoreBranches;
 import org.eclipse.osee.framework.core.enums.CoreRelationTypes;
+import org.eclipse.osee.framework.core.model.change.ChangeItem;
 import org.eclipse.osee.framework.jdk.core.result.XConsoleLogger;
 import org.eclipse.osee.framework.jdk.core.result.XResultData;
 import org.eclipse.osee.framework.jdk.core.type.ResultSet;
 import org.eclipse.osee.framework.jdk.core.util.ElapsedTime;
 import org.eclipse.osee.framework.jdk.core.util.Strings;
 import org.eclipse.osee.orcs.OrcsApi;
+import org.eclipse.osee.orcs.data.TransactionReadable;
+import org.eclipse.osee.orcs.search.Operator;
 import org.eclipse.osee.orcs.search.QueryBuilder;
 
 /**
@@ -65,7 +78,26 @@ import org.eclipse.osee.orcs.search.QueryBuilder;
  */
 public class AtsConfigurationsService extends AbstractAtsConfigurationService {
 
+   private static final List<ArtifactTypeToken> CONFIG_ARTIFACT_TYPES =
+      Arrays.asList(TeamDefinition, ActionableItem, Version, User, AgileTeam, AgileFeatureGroup, Program);
+   private static final int MAX_INCREMENTAL_ARTIFACTS = 500;
+   private static final int MAX_INCREMENTAL_TRANSACTIONS = 200;
+   private static final int MAX_RETAINED_VERSIONS = 16;
+
    private final OrcsApi orcsApi;
+   /**
+    * recent configurations by version so clients can be sent just what changed since the version they hold
+    */
+   private final Map<Long, AtsConfigurations> versionToConfigurations =
+      new LinkedHashMap<Long, AtsConfigurations>(MAX_RETAINED_VERSIONS, 0.75f, false) {
+         private static final long serialVersionUID = 1L;
+
+         @Override
+         protected boolean removeEldestEntry(Map.Entry<Long, AtsConfigurations> eldest) {
+            return size() > MAX_RETAINED_VERSIONS;
+         }
+      };
+   private final DerivedConfigEntries derivedEntries = new DerivedConfigEntries();
 
    public AtsConfigurationsService(AtsApi atsApi, OrcsApi orcsApi) {
       this.orcsApi = orcsApi;
@@ -91,17 +123,38 @@ public class AtsConfigurationsService extends AbstractAtsConfigurationService {
       return atsConfigurations != null;
    }
 
+   /**
+    * Not synchronized when the configurations are already as of the head of COMMON, so concurrent requests only wait
+    * on the monitor when there is something to refresh
+    */
    @Override
    public AtsConfigurations getConfigurationsWithPend() {
-      AtsConfigurations configs = load(true);
-      return configs;
+      AtsConfigurations configs = atsConfigurations;
+      if (configs != null && configs.getVersion() > 0 && orcsApi.getAdminOps().isDataStoreInitialized()) {
+         if (configs.getVersion() == getHeadTransaction().getId()) {
+            return configs;
+         }
+      }
+      return refresh();
+   }
+
+   @Override
+   public synchronized AtsConfigurationsDelta getConfigurationsDelta(long sinceVersion) {
+      AtsConfigurations current = refresh();
+      AtsConfigurations previous = versionToConfigurations.get(sinceVersion);
+      if (previous == null) {
+         return AtsConfigurationsDelta.full(current);
+      }
+      return AtsConfigurationsDelta.compute(previous, current);
    }
 
    private synchronized AtsConfigurations load(boolean reload) {
       // fast design of get() depends on re-checking atsConfigurations == null here
       if (reload || atsConfigurations == null) {
          if (orcsApi.getAdminOps().isDataStoreInitialized()) {
-            atsConfigurations = getAtsConfigurationsFromDb();
+            versionToConfigurations.clear();
+            derivedEntries.clear();
+            publish(getAtsConfigurationsFromDb());
          } else {
             // just return an empty one if database is being initialized so don't get NPE
             atsConfigurations = new AtsConfigurations();
@@ -110,6 +163,118 @@ public class AtsConfigurationsService extends AbstractAtsConfigurationService {
       return atsConfigurations;
    }
 
+   /**
+    * Brings the configurations up to date with the head of COMMON by reloading only the configuration artifacts changed
+    * since the loaded transaction. The changes are made to a copy that then replaces the current configurations, so
+    * readers never see a partially updated one. When more than {@link #MAX_INCREMENTAL_TRANSACTIONS} transactions were
+    * made to COMMON since then, comparing them would cost more than a full load, so a full load is done instead.
+    */
+   private synchronized AtsConfigurations refresh() {
+      AtsConfigurations current = atsConfigurations;
+      if (current == null || current.getVersion() <= 0 || !orcsApi.getAdminOps().isDataStoreInitialized()) {
+         return load(true);
+      }
+      TransactionReadable headTx = getHeadTransaction();
+      if (current.getVersion() == headTx.getId()) {
+         return current;
+      }
+      TransactionId loadedTx = TransactionId.valueOf(current.getVersion());
+      if (orcsApi.getQueryFactory().transactionQuery().andBranch(CoreBranches.COMMON).andTxId(Operator.GREATER_THAN,
+         loadedTx.getIdIntValue()).getCount() > MAX_INCREMENTAL_TRANSACTIONS) {
+         return load(true);
+      }
+      try {
+         Set<Long> changedIds = getChangedConfigIds(current, headTx);
+         if (changedIds == null) {
+            return load(true);
+         }
+         AtsConfigurations configs = current.copy();
+         if (!changedIds.isEmpty()) {
+            reloadArtifacts(configs, changedIds);
+         }
+         configs.setVersion(headTx.getId());
+         publish(configs);
+         return configs;
+      } catch (Exception ex) {
+         XConsoleLogger.err("Exception refreshing ATS configurations; reloading " + ex.getLocalizedMessage());
+         return load(true);
+      }
+   }
+
+   private void publish(AtsConfigurations configs) {
+      versionToConfigurations.put(configs.getVersion(), configs);
+      atsConfigurations = configs;
+   }
+
+   private TransactionReadable getHeadTransaction() {
+      return orcsApi.getQueryFactory().transactionQuery().andIsHead(CoreBranches.COMMON).getResults().getExactlyOne();
+   }
+
+   /**
+    * @return ids of the artifacts in the configurations, or of a configuration type, changed after the configurations
+    * were loaded; null if too much changed or the AtsConfig artifact changed so that a full load is needed
+    */
+   private Set<Long> getChangedConfigIds(AtsConfigurations current, TransactionReadable headTx) {
+      Set<Long> changedIds = new HashSet<>();
+      for (ChangeItem change : orcsApi.getTransactionFactory().compareTxs(TransactionId.valueOf(current.getVersion()),
+         headTx)) {
+         for (ArtifactId artifact : Arrays.asList(change.getArtId(), change.getArtIdB())) {
+            if (artifact != null && artifact.isValid()) {
+               if (AtsArtifactToken.AtsConfig.equals(artifact)) {
+                  return null;
+               }
+               if (isLoaded(current, artifact.getId())) {
+                  changedIds.add(artifact.getId());
+               }
+            }
+         }
+         if (change.getChangeType().isArtifactChange() && orcsApi.tokenService().getArtifactTypeOrSentinel(
+            change.getItemTypeId().getId()).inheritsFromAny(CONFIG_ARTIFACT_TYPES)) {
+            changedIds.add(change.getArtId().getId());
+         }
+         if (changedIds.size() > MAX_INCREMENTAL_ARTIFACTS) {
+            return null;
+         }
+      }
+      return changedIds;
+   }
+
+   private boolean isLoaded(AtsConfigurations configs, Long id) {
+      return configs.getIdToTeamDef().containsKey(id) || configs.getIdToAi().containsKey(
+         id) || configs.getIdToVersion().containsKey(id) || configs.getIdToUser().containsKey(
+            id) || configs.getIdToProgram().containsKey(id) || configs.getIdToAgileTeam().containsKey(
+               id) || configs.getIdToAgileFeature().containsKey(id);
+   }
+
+   private void reloadArtifacts(AtsConfigurations configs, Set<Long> changedIds) {
+      List<ArtifactId> artifacts = new ArrayList<>(changedIds.size());
+      for (Long id : changedIds) {
+         configs.getIdToTeamDef().remove(id);
+         configs.getIdToAi().remove(id);
+         configs.getIdToVersion().remove(id);
+         configs.getIdToUser().remove(id);
+         configs.getIdToProgram().remove(id);
+         configs.getIdToAgileTeam().remove(id);
+         configs.getIdToAgileFeature().remove(id);
+         derivedEntries.remove(configs, id);
+         artifacts.add(ArtifactId.valueOf(id));
+      }
+
+      ElapsedTime time = new ElapsedTime("Server ACS - reloadArtifacts", false);
+      time.off();
+      ResultSet<ArtifactReadable> results = orcsApi.getQueryFactory().fromBranch(CoreBranches.COMMON).andIds(
+         artifacts).andIsOfType(CONFIG_ARTIFACT_TYPES).getResults();
+      processConfigQueryResults(configs, new HashMap<>(), time, results);
+
+      // restore entries of unchanged artifacts that were overwritten by the entries just removed
+      derivedEntries.restore(configs);
+      configs.setUserIdToUserArtId(new HashMap<>());
+      configs.setUserNameToUserArtId(new HashMap<>());
+      for (AtsUser user : new ArrayList<>(configs.getUsers())) {
+         configs.addUser(user);
+      }
+   }
+
    private AtsConfigurations getAtsConfigurationsFromDb() {
 
       // load ats branch configurations
@@ -122,10 +287,12 @@ public class AtsConfigurationsService extends AbstractAtsConfigurationService {
          time.off(); // Turn on to debug (change above to false so doesn't log begin)
       }
 
+      // taken before the query so changes made during the load are applied by the next refresh
+      configs.setVersion(getHeadTransaction().getId());
+
       ElapsedTime time2 = new ElapsedTime("Server ACS - query", debugOn);
       QueryBuilder query = orcsApi.getQueryFactory().fromBranch(CoreBranches.COMMON);
-      ResultSet<ArtifactReadable> results = query.andIsOfType(TeamDefinition, ActionableItem, Version, User, AgileTeam,
-         AgileFeatureGroup, Program).getResults();
+      ResultSet<ArtifactReadable> results = query.andIsOfType(CONFIG_ARTIFACT_TYPES).getResults();
       processConfigQueryResults(configs, idToArtifact, time2, results);
       time2.end();
 
@@ -164,7 +331,7 @@ public class AtsConfigurationsService extends AbstractAtsConfigurationService {
                ArtifactId program = atsApi.getAttributeResolver().getSoleAttributeValue(art,
                   AtsAttributeTypes.ProgramId, ArtifactId.SENTINEL);
                if (program.isValid()) {
-                  configs.getTeamDefToProgram().put(teamDef.getId(), program.getId());
+                  derivedEntries.put(configs, DerivedMap.TeamDefToProgram, art, teamDef.getId(), program.getId());
                }
                teamDef.setAtsApi(atsApi);
             } else if (art.isOfType(ActionableItem)) {
@@ -199,7 +366,8 @@ public class AtsConfigurationsService extends AbstractAtsConfigurationService {
                Collection<ArtifactToken> atsTeams =
                   atsApi.getRelationResolver().getRelated(art, AtsRelationTypes.AgileTeamToAtsTeam_AtsTeam);
                for (ArtifactToken teamDef : atsTeams) {
-                  configs.getTeamDefToAgileTeam().put(teamDef.getId(), agileTeam.getId());
+                  derivedEntries.put(configs, DerivedMap.TeamDefToAgileTeam, art, teamDef.getId(),
+                     agileTeam.getId());
                }
             } else if (art.isOfType(AtsArtifactTypes.AgileFeatureGroup)) {
                JaxAgileFeatureGroup feature =
@@ -209,7 +377,7 @@ public class AtsConfigurationsService extends AbstractAtsConfigurationService {
                   atsApi.getRelationResolver().getRelated(art, AtsRelationTypes.AgileTeamToFeatureGroup_AgileTeam);
                if (!agileTeams.isEmpty()) {
                   ArtifactToken agileTeam = agileTeams.iterator().next();
-                  configs.getFeatureToAgileTeam().put(feature.getId(), agileTeam.getId());
+                  derivedEntries.put(configs, DerivedMap.FeatureToAgileTeam, art, feature.getId(), agileTeam.getId());
                }
             } else if (art.isOfType(AtsArtifactTypes.Program)) {
                JaxProgram program = JaxProgram.create(art, atsApi);
@@ -217,14 +385,15 @@ public class AtsConfigurationsService extends AbstractAtsConfigurationService {
                ArtifactId teamDef = atsApi.getAttributeResolver().getSoleAttributeValue(art,
                   AtsAttributeTypes.TeamDefinitionReference, ArtifactId.SENTINEL);
                if (teamDef.isValid()) {
-                  configs.getTeamDefToProgram().put(teamDef.getId(), program.getId());
+                  derivedEntries.put(configs, DerivedMap.TeamDefToProgram, art, teamDef.getId(), program.getId());
                } else {
                   Collection<ArtifactToken> related =
                      atsApi.getRelationResolver().getRelated(art, CoreRelationTypes.SupportingInfo_IsSupportedBy);
                   if (!related.isEmpty()) {
                      for (ArtifactToken relArt : related) {
                         if (relArt.isOfType(AtsArtifactTypes.TeamDefinition)) {
-                           configs.getTeamDefToProgram().put(relArt.getId(), program.getId());
+                           derivedEntries.put(configs, DerivedMap.TeamDefToProgram, art, relArt.getId(),
+                              program.getId());
                         }
                      }
                   }
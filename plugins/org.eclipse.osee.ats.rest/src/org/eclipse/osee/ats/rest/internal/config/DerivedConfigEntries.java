@@ -0,0 +1,97 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.ats.rest.internal.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.osee.ats.api.config.AtsConfigurations;
+import org.eclipse.osee.framework.core.data.ArtifactId;
+
+/**
+ * Remembers the artifact each derived lookup map entry of {@link AtsConfigurations} was loaded from, so that the entry
+ * can be dropped when that artifact changes and restored when it was overwritten by an artifact that changed.
+ *
+ * @author agent
+ */
+final class DerivedConfigEntries {
+
+   /**
+    * Derived lookup maps that are filled in from more than one kind of artifact
+    */
+   enum DerivedMap {
+      TeamDefToProgram,
+      TeamDefToAgileTeam,
+      FeatureToAgileTeam;
+
+      Map<Long, Long> of(AtsConfigurations configs) {
+         switch (this) {
+            case TeamDefToProgram:
+               return configs.getTeamDefToProgram();
+            case TeamDefToAgileTeam:
+               return configs.getTeamDefToAgileTeam();
+            default:
+               return configs.getFeatureToAgileTeam();
+         }
+      }
+   }
+
+   private static final class DerivedEntry {
+      private final DerivedMap map;
+      private final Long key;
+      private final Long value;
+
+      private DerivedEntry(DerivedMap map, Long key, Long value) {
+         this.map = map;
+         this.key = key;
+         this.value = value;
+      }
+   }
+
+   private final Map<Long, List<DerivedEntry>> sourceToEntries = new HashMap<>();
+
+   void put(AtsConfigurations configs, DerivedMap map, ArtifactId source, Long key, Long value) {
+      map.of(configs).put(key, value);
+      sourceToEntries.computeIfAbsent(source.getId(), id -> new ArrayList<>()).add(new DerivedEntry(map, key, value));
+   }
+
+   /**
+    * Removes the entries loaded from the source artifact that still hold the value it put
+    */
+   void remove(AtsConfigurations configs, Long sourceId) {
+      List<DerivedEntry> entries = sourceToEntries.remove(sourceId);
+      if (entries != null) {
+         for (DerivedEntry entry : entries) {
+            entry.map.of(configs).remove(entry.key, entry.value);
+         }
+      }
+   }
+
+   /**
+    * Puts back the entries of the remaining source artifacts whose keys were left empty by {@link #remove}
+    */
+   void restore(AtsConfigurations configs) {
+      for (List<DerivedEntry> entries : sourceToEntries.values()) {
+         for (DerivedEntry entry : entries) {
+            entry.map.of(configs).putIfAbsent(entry.key, entry.value);
+         }
+      }
+   }
+
+   void clear() {
+      sourceToEntries.clear();
+   }
+}
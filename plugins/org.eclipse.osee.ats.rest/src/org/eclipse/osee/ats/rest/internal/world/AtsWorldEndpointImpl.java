@@ -50,6 +50,7 @@ import org.eclipse.osee.framework.core.data.ArtifactId;
 import org.eclipse.osee.framework.core.data.ArtifactReadable;
 import org.eclipse.osee.framework.core.data.TransactionToken;
 import org.eclipse.osee.framework.core.enums.CoreAttributeTypes;
+import org.eclipse.osee.framework.core.executor.ExecutorAdmin;
 import org.eclipse.osee.framework.core.util.JsonUtil;
 import org.eclipse.osee.framework.jdk.core.result.ResultRows;
 import org.eclipse.osee.framework.jdk.core.result.XResultData;
@@ -66,12 +67,14 @@ public class AtsWorldEndpointImpl implements AtsWorldEndpointApi {
 
    private final AtsApiServer atsApiServer;
    private final AtsApi atsApi;
+   private final ExecutorAdmin executorAdmin;
    public final static List<String> namespaces =
       Arrays.asList("WorldXViewer", "BacklogXViewer", "SprintXViewer", "GoalXViewer", "TaskXViewer");
 
-   public AtsWorldEndpointImpl(AtsApiServer atsApiServer) {
+   public AtsWorldEndpointImpl(AtsApiServer atsApiServer, ExecutorAdmin executorAdmin) {
       this.atsApiServer = atsApiServer;
       this.atsApi = atsApiServer;
+      this.executorAdmin = executorAdmin;
    }
 
    @Override
@@ -441,14 +444,14 @@ public class AtsWorldEndpointImpl implements AtsWorldEndpointApi {
 
    @Override
    public ResultRows search(AtsSearchData atsSearchData) {
-      AtsWorldResultRowOperation op = new AtsWorldResultRowOperation(atsApi, atsSearchData);
+      AtsWorldResultRowOperation op = new AtsWorldResultRowOperation(atsApiServer, executorAdmin, atsSearchData);
       ResultRows rows = op.run();
       return rows;
    }
 
    @Override
    public ResultRows searchNew(AtsSearchData atsSearchData) {
-      AtsWorldResultRowOperation op = new AtsWorldResultRowOperation(atsApi, atsSearchData);
+      AtsWorldResultRowOperation op = new AtsWorldResultRowOperation(atsApiServer, executorAdmin, atsSearchData);
       op.setNew(true);
       ResultRows rows = op.run();
       return rows;
@@ -14,35 +14,47 @@
 package org.eclipse.osee.ats.rest.internal.world;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.eclipse.nebula.widgets.xviewer.core.model.XViewerColumn;
-import org.eclipse.osee.ats.api.AtsApi;
 import org.eclipse.osee.ats.api.IAtsWorkItem;
 import org.eclipse.osee.ats.api.data.AtsArtifactTypes;
 import org.eclipse.osee.ats.api.query.AtsSearchData;
 import org.eclipse.osee.ats.api.query.AtsSearchDataResults;
 import org.eclipse.osee.ats.api.workdef.StateType;
+import org.eclipse.osee.ats.rest.AtsApiServer;
 import org.eclipse.osee.framework.core.data.ArtifactId;
+import org.eclipse.osee.framework.core.data.ArtifactReadable;
 import org.eclipse.osee.framework.core.data.ArtifactToken;
+import org.eclipse.osee.framework.core.data.RelationTypeSide;
+import org.eclipse.osee.framework.core.executor.ExecutorAdmin;
 import org.eclipse.osee.framework.jdk.core.result.ResultRow;
 import org.eclipse.osee.framework.jdk.core.result.ResultRows;
 import org.eclipse.osee.framework.jdk.core.result.XResultData;
+import org.eclipse.osee.orcs.search.QueryBuilder;
 
 /**
  * @author Donald G. Dunne
  */
 public class AtsWorldResultRowOperation {
 
-   private final AtsApi atsApi;
+   private final AtsApiServer atsApi;
+   private final ExecutorAdmin executorAdmin;
    private final AtsSearchData atsSearchData;
    private boolean teamWfsInState;
 
-   public AtsWorldResultRowOperation(AtsApi atsApi, AtsSearchData atsSearchData) {
+   public AtsWorldResultRowOperation(AtsApiServer atsApi, ExecutorAdmin executorAdmin, AtsSearchData atsSearchData) {
       this.atsApi = atsApi;
+      this.executorAdmin = executorAdmin;
       this.atsSearchData = atsSearchData;
       AtsArtifactTypes.Action.getName();
    }
 
+   /**
+    * Loads the result artifacts again in one query that also follows every relation the shown columns declare, then
+    * computes the cells a column at a time over the prefetched work items
+    */
    public ResultRows run() {
       ResultRows rows = new ResultRows();
       if (atsSearchData.getCustomizeData() == null || atsSearchData.getCustomizeData().getColumnData().getColumns().isEmpty()) {
@@ -51,24 +63,59 @@ public class AtsWorldResultRowOperation {
       }
 
       AtsSearchDataResults results = getArtifacts();
-      List<XViewerColumn> showCols = new ArrayList<>();
+      List<String> showColIds = new ArrayList<>();
       for (XViewerColumn col : atsSearchData.getCustomizeData().getColumnData().getColumns()) {
          if (col.isShow()) {
-            showCols.add(col);
+            showColIds.add(col.getId());
          }
       }
+
+      List<ArtifactToken> workflowArts = new ArrayList<>();
+      for (ArtifactToken art : results.getArtifacts()) {
+         if (art.isOfType(AtsArtifactTypes.AbstractWorkflowArtifact)) {
+            workflowArts.add(art);
+         }
+      }
+      Map<Long, ArtifactToken> prefetched = prefetch(workflowArts, showColIds);
+      List<IAtsWorkItem> workItems = new ArrayList<>(workflowArts.size());
+      for (ArtifactToken art : workflowArts) {
+         workItems.add(atsApi.getWorkItemService().getWorkItem(prefetched.getOrDefault(art.getId(), art)));
+      }
+      String[][] cells = atsApi.getColumnService().getColumnTexts(showColIds, workItems,
+         column -> executorAdmin.submit("ATS World Column", column));
+
+      int workItemIndex = 0;
       for (ArtifactToken art : results.getArtifacts()) {
          ResultRow row = new ResultRow(art.getId(), atsApi.getAtsBranch().getId());
          rows.add(row);
-         for (XViewerColumn col : showCols) {
-            if (col.isShow()) {
-               addCellData(atsApi, art, row, col);
+         if (art.isOfType(AtsArtifactTypes.AbstractWorkflowArtifact)) {
+            for (String value : cells[workItemIndex++]) {
+               row.addValue(value);
+            }
+         } else {
+            for (int i = 0; i < showColIds.size(); i++) {
+               row.addValue("");
             }
          }
       }
       return rows;
    }
 
+   private Map<Long, ArtifactToken> prefetch(List<ArtifactToken> workflowArts, List<String> colIds) {
+      Map<Long, ArtifactToken> prefetched = new HashMap<>(workflowArts.size() * 2);
+      if (!workflowArts.isEmpty()) {
+         QueryBuilder query =
+            atsApi.getOrcsApi().getQueryFactory().fromBranch(atsApi.getAtsBranch()).andIds(workflowArts);
+         for (RelationTypeSide relationType : atsApi.getColumnService().getRequiredRelationTypes(colIds)) {
+            query.followFork(relationType);
+         }
+         for (ArtifactReadable art : query.asArtifacts()) {
+            prefetched.put(art.getId(), art);
+         }
+      }
+      return prefetched;
+   }
+
    private AtsSearchDataResults getArtifacts() {
       if (teamWfsInState) {
          StringBuilder sb = new StringBuilder("\'");
@@ -92,15 +139,6 @@ public class AtsWorldResultRowOperation {
       }
    }
 
-   private void addCellData(AtsApi atsApi, ArtifactToken art, ResultRow row, XViewerColumn xCol) {
-      String value = "";
-      if (art.isOfType(AtsArtifactTypes.AbstractWorkflowArtifact)) {
-         IAtsWorkItem workItem = atsApi.getWorkItemService().getWorkItem(art);
-         value = atsApi.getColumnService().getColumnText(xCol.getId(), workItem);
-      }
-      row.addValue(value);
-   }
-
    public void setNew(boolean teamWfsInState) {
       this.teamWfsInState = teamWfsInState;
    }
@@ -15,9 +15,11 @@ package org.eclipse.osee.define.operations.api.publisher.publishing;
 
 import java.util.List;
 import java.util.Set;
+import javax.ws.rs.core.Response;
 
 import org.apache.cxf.jaxrs.ext.multipart.Attachment;
 import org.eclipse.osee.define.rest.api.publisher.publishing.LinkHandlerResult;
+import org.eclipse.osee.define.rest.api.publisher.publishing.PublishingCompression;
 import org.eclipse.osee.define.rest.api.publisher.publishing.PublishingRequestData;
 import org.eclipse.osee.define.rest.api.publisher.publishing.WordUpdateChange;
 import org.eclipse.osee.define.rest.api.publisher.publishing.WordUpdateData;
@@ -88,6 +90,17 @@ public interface PublishingOperations {
 
    public Attachment msWordPreview(PublishingRequestData msWordPreviewRequest);
 
+   /**
+    * Publishes the same document as {@link #msWordPreview(PublishingRequestData)} as a {@link Response} that renders
+    * the document while it is being written to the client.
+    *
+    * @param msWordPreviewRequest the {@link PublishingRequestData} structure containing the publishing parameters.
+    * @param compression the {@link PublishingCompression} to apply to the document as it is written.
+    * @return a {@link Response} with a streaming entity for the published document.
+    */
+
+   public Response msWordPreviewStream(PublishingRequestData msWordPreviewRequest, PublishingCompression compression);
+
    /**
     * Publishes the content of an artifact's {@link CoreAttributeTypes.WholeWordContent} attribute.
     *
@@ -17,6 +17,10 @@ import java.io.InputStream;
 import java.util.Objects;
 import java.util.Optional;
 import javax.activation.DataHandler;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import org.apache.cxf.jaxrs.ext.multipart.Attachment;
 import org.apache.cxf.jaxrs.ext.multipart.AttachmentBuilder;
 import org.apache.cxf.jaxrs.ext.multipart.ContentDisposition;
@@ -30,6 +34,7 @@ import org.eclipse.osee.framework.core.data.BranchId;
 import org.eclipse.osee.framework.core.data.BranchToken;
 import org.eclipse.osee.framework.core.publishing.DataAccessOperations;
 import org.eclipse.osee.framework.core.publishing.FilenameFactory;
+import org.eclipse.osee.framework.jdk.core.type.Pair;
 import org.eclipse.osee.framework.jdk.core.util.Message;
 import org.eclipse.osee.framework.jdk.core.util.Strings;
 import org.eclipse.osee.orcs.OrcsApi;
@@ -211,6 +216,77 @@ public class AttachmentFactory {
       }
       //@formatter:on
 
+      var names = this.getBranchAndArtifactNames(branchId, artifactId);
+
+      var attachment = this.create(inputStream, id, names.getFirst(), names.getSecond(), segments);
+
+      return attachment;
+   }
+
+   /**
+    * Creates a new {@link Response} that writes the <code>streamingOutput</code> to the client as an attachment with
+    * the following filename:
+    *
+    * <pre>
+    * &lt;artifact-name&gt; "-" { &lt;segmentN&gt; }{0,N-1} &lt;date-segment&gt; "-" &lt;random-segment&gt; "." &lt;suffix&gt; &lt;compression-suffix&gt;
+    * </pre>
+    *
+    * The custom header {@link #BRANCH_HEADER} is set to the branch name.
+    *
+    * @param streamingOutput the {@link StreamingOutput} that renders the document as it is written to the client.
+    * @param compressionSuffix a suffix appended to the filename for a compressed document, may be empty.
+    * @param branchId the {@link BranchId} for the OSEE Artifact the document is rendered from.
+    * @param artifactId the {@link ArtifactId} for the OSEE Artifact the document is rendered from.
+    * @param segments additional filename segments.
+    * @return the newly created {@link Response}.
+    * @throws UnsupportedOperationException when the factory was not created with the {@link DataAccessOperations}.
+    */
+
+   public Response createStreamingResponse(StreamingOutput streamingOutput, String compressionSuffix,
+      BranchId branchId, ArtifactId artifactId, CharSequence... segments) {
+
+      if (Objects.isNull(this.dataAccessOperations)) {
+         throw new UnsupportedOperationException(
+            "AttachementFactory:createStreamingResponse, the factory was not created with the \"DataAccessOperations\".");
+      }
+
+      var names = this.getBranchAndArtifactNames(branchId, artifactId);
+
+      var responseBuilder = Response.ok(streamingOutput, MediaType.APPLICATION_OCTET_STREAM_TYPE);
+
+      //@formatter:off
+      var filename = names.getSecond();
+      var newSegments =
+         ( Strings.isValid( filename ) && Objects.nonNull( segments ) )
+            ? this.newSegments( filename,  segments )
+            : Strings.isValid( filename )
+                 ? new CharSequence[] { filename }
+                 : segments;
+
+      this
+         .getContentDisposition( compressionSuffix, newSegments )
+         .ifPresent( ( contentDisposition ) -> responseBuilder.header( HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString() ) );
+
+      this
+         .getBranchHeaderValue( names.getFirst() )
+         .ifPresent( ( branchHeaderValue ) -> responseBuilder.header( AttachmentFactory.BRANCH_HEADER, branchHeaderValue ) );
+      //@formatter:on
+
+      return responseBuilder.build();
+   }
+
+   /**
+    * Looks up the short name of the branch and the name of the artifact for use in the attachment filename and
+    * headers.
+    *
+    * @param branchId the {@link BranchId} of the branch.
+    * @param artifactId the {@link ArtifactId} of the artifact.
+    * @return a {@link Pair} of the branch short name, which may be <code>null</code>, and the artifact name, which is
+    * the default name when the artifact is not found.
+    */
+
+   private Pair<String, String> getBranchAndArtifactNames(BranchId branchId, ArtifactId artifactId) {
+
       String branchName;
       String artifactName;
 
@@ -233,9 +309,7 @@ public class AttachmentFactory {
       }
       //@formatter:on
 
-      var attachment = this.create(inputStream, id, branchName, artifactName, segments);
-
-      return attachment;
+      return new Pair<>(branchName, artifactName);
    }
 
    /**
@@ -335,6 +409,20 @@ public class AttachmentFactory {
     */
 
    private Optional<ContentDisposition> getContentDisposition(CharSequence... segments) {
+      return this.getContentDisposition("", segments);
+   }
+
+   /**
+    * Creates the prefix and filename string for a {@link ContentDisposition} header with <code>extraSuffix</code>
+    * appended to the filename.
+    *
+    * @param extraSuffix appended after the factory's filename suffix, may be empty.
+    * @param segments the segments to build the filename from.
+    * @return when a name is successfully created, an {@link Optional} with the content disposition header string;
+    * otherwise, an empty {@link Optional}.
+    */
+
+   private Optional<ContentDisposition> getContentDisposition(String extraSuffix, CharSequence... segments) {
 
       var cleanFileName = FilenameFactory.create(this.suffix, segments);
 
@@ -347,6 +435,7 @@ public class AttachmentFactory {
          new StringBuilder( AttachmentFactory.BUFFER_SIZE )
                .append( AttachmentFactory.ATTACHMENT_TEMPLATE )
                .append( cleanFileName )
+               .append( Objects.nonNull( extraSuffix ) ? extraSuffix : "" )
                .toString()
                ;
       //@formatter:on
@@ -0,0 +1,90 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.define.rest.api.publisher.publishing;
+
+/**
+ * Enumeration of the compression applied to a published document as it is streamed to the client.
+ *
+ * @author agent
+ */
+
+public enum PublishingCompression {
+
+   /**
+    * The document is sent as rendered.
+    */
+
+   NONE(""),
+
+   /**
+    * The document is sent as a GZIP stream.
+    */
+
+   GZIP(".gz"),
+
+   /**
+    * The document is sent as the only entry of a ZIP archive.
+    */
+
+   ZIP(".zip");
+
+   /**
+    * Gets the {@link PublishingCompression} member with a name matching <code>value</code> ignoring case. This method
+    * is used by JAX-RS to convert query parameters.
+    *
+    * @param value the name of the compression.
+    * @return the matching {@link PublishingCompression} member or {@link #NONE} when <code>value</code> is
+    * <code>null</code> or blank.
+    * @throws IllegalArgumentException when <code>value</code> does not name a {@link PublishingCompression} member.
+    */
+
+   public static PublishingCompression fromString(String value) {
+
+      if ((value == null) || value.isBlank()) {
+         return NONE;
+      }
+
+      for (var compression : PublishingCompression.values()) {
+         if (compression.name().equalsIgnoreCase(value.trim())) {
+            return compression;
+         }
+      }
+
+      throw new IllegalArgumentException("PublishingCompression::fromString, unknown compression \"" + value + "\".");
+   }
+
+   /**
+    * Saves the suffix appended to the document's filename.
+    */
+
+   private final String filenameSuffix;
+
+   private PublishingCompression(String filenameSuffix) {
+      this.filenameSuffix = filenameSuffix;
+   }
+
+   /**
+    * Gets the suffix appended to the filename of a document sent with this compression.
+    *
+    * @return the filename suffix, empty for {@link #NONE}.
+    */
+
+   public String getFilenameSuffix() {
+      return this.filenameSuffix;
+   }
+
+}
+
+/* EOF */
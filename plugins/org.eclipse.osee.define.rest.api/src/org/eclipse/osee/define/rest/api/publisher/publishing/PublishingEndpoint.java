@@ -168,6 +168,32 @@ public interface PublishingEndpoint {
          );
    //@formatter:on
 
+   /**
+    * Publishes the same document as {@link #msWordPreview(PublishingRequestData)} but streams it to the client as each
+    * artifact is rendered instead of building the whole document on the server first. The server holds at most a small
+    * fixed size buffer of the rendered document at a time; the artifacts to publish are still loaded before rendering
+    * starts. Publishing stops when the client disconnects. There is no endpoint to cancel a publish or query its
+    * progress; progress is written to the server log.
+    *
+    * @param msWordPreviewRequestData the {@link PublishingRequestData} structure containing the publishing parameters.
+    * @param compression the {@link PublishingCompression} applied to the document as it is streamed. When not
+    * specified the document is sent uncompressed.
+    * @return a {@link Response} streaming the published document as an attachment.
+    */
+
+   //@formatter:off
+   @POST
+   @Path("msWordPreview/stream")
+   @Consumes({MediaType.MULTIPART_FORM_DATA})
+   @Produces({MediaType.APPLICATION_OCTET_STREAM})
+   Response
+      msWordPreviewStream
+         (
+            @Multipart ( value = "msWordPreviewRequestData", type = MediaType.APPLICATION_JSON ) PublishingRequestData         msWordPreviewRequestData,
+            @QueryParam( "compression" ) @DefaultValue( "NONE" )                                 PublishingCompression         compression
+         );
+   //@formatter:on
+
    @GET
    @Path("msWordTemplatePublish/{branch}/{template}/{artifact}/{view}")
    @Consumes({MediaType.APPLICATION_JSON})
@@ -0,0 +1,165 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.define.operations.publisher.publishing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipInputStream;
+import org.eclipse.osee.define.rest.api.publisher.publishing.PublishingCompression;
+import org.eclipse.osee.framework.core.data.ArtifactId;
+import org.eclipse.osee.framework.core.publishing.PublishingArtifact;
+import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
+import org.eclipse.osee.framework.jdk.core.util.Lib;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test Case for {@link PublishingStreamingOutput}
+ *
+ * @author agent
+ */
+
+public class PublishingStreamingOutputTest {
+
+   private static final int ARTIFACT_COUNT = 100;
+   private static final List<ArtifactId> ARTIFACTS = List.of(ArtifactId.valueOf(1L));
+
+   private WordTemplateProcessorServer processor;
+   private PublishingArtifact artifact;
+   private String expected;
+
+   @SuppressWarnings("unchecked")
+   @Before
+   public void setUp() {
+      processor = mock(WordTemplateProcessorServer.class);
+      artifact = mock(PublishingArtifact.class);
+      var listener = new AtomicReference<Consumer<PublishingArtifact>>();
+      when(processor.onArtifactPublished(any())).thenAnswer(invocation -> {
+         listener.set(invocation.getArgument(0));
+         return processor;
+      });
+
+      var content = new StringBuilder();
+      for (int i = 0; i < ARTIFACT_COUNT; i++) {
+         content.append("<w:p>artifact ").append(i).append("</w:p>");
+      }
+      expected = content.toString();
+
+      doAnswer(invocation -> {
+         Writer writer = invocation.getArgument(1);
+         for (int i = 0; i < ARTIFACT_COUNT; i++) {
+            writer.write("<w:p>artifact " + i + "</w:p>");
+            listener.get().accept(artifact);
+         }
+         return null;
+      }).when(processor).applyTemplate(any(), any());
+   }
+
+   @Test
+   public void testUncompressed() throws IOException {
+      var output = new ByteArrayOutputStream();
+      var streamingOutput =
+         new PublishingStreamingOutput(null, processor, ARTIFACTS, PublishingCompression.NONE, "document.xml");
+      streamingOutput.write(output);
+
+      assertEquals(expected, output.toString(StandardCharsets.UTF_8));
+      assertEquals(ARTIFACT_COUNT, streamingOutput.getArtifactCount());
+      assertEquals(output.size(), streamingOutput.getBytesWritten());
+   }
+
+   @Test
+   public void testGzip() throws IOException {
+      var output = new ByteArrayOutputStream();
+      new PublishingStreamingOutput(null, processor, ARTIFACTS, PublishingCompression.GZIP, "document.xml").write(
+         output);
+
+      try (var inputStream = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+         assertEquals(expected, new String(Lib.inputStreamToBytes(inputStream), StandardCharsets.UTF_8));
+      }
+   }
+
+   @Test
+   public void testZip() throws IOException {
+      var output = new ByteArrayOutputStream();
+      new PublishingStreamingOutput(null, processor, ARTIFACTS, PublishingCompression.ZIP, "document.xml").write(
+         output);
+
+      try (var inputStream = new ZipInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+         assertEquals("document.xml", inputStream.getNextEntry().getName());
+         assertEquals(expected, new String(Lib.inputStreamToBytes(inputStream), StandardCharsets.UTF_8));
+      }
+   }
+
+   @Test
+   public void testContentIsFlushedWhilePublishing() throws IOException {
+      var flushedBeforeEnd = new long[1];
+      var output = new ByteArrayOutputStream() {
+         @Override
+         public void flush() {
+            flushedBeforeEnd[0] = Math.max(flushedBeforeEnd[0], size());
+         }
+      };
+      new PublishingStreamingOutput(null, processor, ARTIFACTS, PublishingCompression.NONE, "document.xml").write(
+         output);
+
+      assertTrue(flushedBeforeEnd[0] > 0);
+   }
+
+   @Test(expected = IOException.class)
+   public void testClientDisconnectStopsPublish() throws IOException {
+      OutputStream output = new OutputStream() {
+         @Override
+         public void write(int b) throws IOException {
+            throw new IOException("Connection reset");
+         }
+      };
+      new PublishingStreamingOutput(null, processor, ARTIFACTS, PublishingCompression.NONE, "document.xml").write(
+         output);
+   }
+
+   @Test
+   public void testInterruptStopsPublish() throws IOException {
+      var streamingOutput =
+         new PublishingStreamingOutput(null, processor, ARTIFACTS, PublishingCompression.NONE, "document.xml");
+      Thread.currentThread().interrupt();
+      try {
+         streamingOutput.write(new ByteArrayOutputStream());
+         fail("Expected the publish to stop");
+      } catch (OseeCoreException e) {
+         assertTrue(streamingOutput.isStopped());
+         assertEquals(0, streamingOutput.getArtifactCount());
+      } finally {
+         Thread.interrupted();
+      }
+   }
+
+}
+
+/* EOF */
@@ -0,0 +1,27 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.define.operations.publisher.publishing;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+/**
+ * @author agent
+ */
+@RunWith(Suite.class)
+@Suite.SuiteClasses({PublishingStreamingOutputTest.class})
+public class PublishingTestSuite {
+   // Test Suite
+}
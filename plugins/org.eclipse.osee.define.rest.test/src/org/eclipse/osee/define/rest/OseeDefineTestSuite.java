@@ -13,6 +13,7 @@
 
 package org.eclipse.osee.define.rest;
 
+import org.eclipse.osee.define.operations.publisher.publishing.PublishingTestSuite;
 import org.eclipse.osee.define.rest.internal.DefineReportInternalTestSuite;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -21,7 +22,7 @@ import org.junit.runners.Suite;
  * @author David W. Miller
  */
 @RunWith(Suite.class)
-@Suite.SuiteClasses({DefineReportInternalTestSuite.class})
+@Suite.SuiteClasses({DefineReportInternalTestSuite.class, PublishingTestSuite.class})
 public class OseeDefineTestSuite {
    // Test Suite
 }
@@ -20,6 +20,7 @@ import java.io.OutputStreamWriter;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import javax.ws.rs.core.Response;
 import org.apache.cxf.jaxrs.ext.multipart.Attachment;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
@@ -33,6 +34,7 @@ import org.eclipse.osee.define.operations.markdown.MarkdownCleaner;
 import org.eclipse.osee.define.operations.markdown.MarkdownConverter;
 import org.eclipse.osee.define.rest.api.ArtifactUrlServer;
 import org.eclipse.osee.define.rest.api.publisher.publishing.LinkHandlerResult;
+import org.eclipse.osee.define.rest.api.publisher.publishing.PublishingCompression;
 import org.eclipse.osee.define.rest.api.publisher.publishing.PublishingRequestData;
 import org.eclipse.osee.define.rest.api.publisher.publishing.WordUpdateChange;
 import org.eclipse.osee.define.rest.api.publisher.publishing.WordUpdateData;
@@ -513,7 +515,53 @@ public class PublishingOperationsImpl implements PublishingOperations {
       //@formatter:on
    }
 
-   private ByteArrayInputStream processPublishingRequest(PublishingRequestData publishingRequestData,
+   /**
+    * {@inheritDoc}
+    *
+    * @param msWordPreviewRequestData the {@link PublishingRequestData} structure containing the publishing parameters.
+    * @param compression the {@link PublishingCompression} to apply to the document as it is written.
+    * @return a {@link Response} with a {@link PublishingStreamingOutput} entity.
+    * @throws IllegalArgumentException when the parameter <code>msWordPreviewRequestData</code> is <code>null</code> or
+    * invalid according to {@link PublishingRequestData#isValid}.
+    */
+
+   @Override
+   public Response msWordPreviewStream(PublishingRequestData msWordPreviewRequestData,
+      PublishingCompression compression) {
+
+      //@formatter:off
+      var publishingRendererOptions = msWordPreviewRequestData.getPublishingRendererOptions();
+      var firstArtifactId = msWordPreviewRequestData.getArtifactIds().get(0);
+      var publishingCompression = Objects.nonNull( compression ) ? compression : PublishingCompression.NONE;
+
+      var processor = this.createPublishingProcessor( msWordPreviewRequestData, publishingRendererOptions );
+
+      var streamingOutput =
+         new PublishingStreamingOutput
+                (
+                   this.logger,
+                   processor,
+                   msWordPreviewRequestData.getArtifactIds(),
+                   publishingCompression,
+                   "MsWordPreview.xml"
+                );
+
+      return
+         this.attachmentFactory.createStreamingResponse
+            (
+               streamingOutput,
+               publishingCompression.getFilenameSuffix(),
+               publishingRendererOptions.getRendererOptionValue( RendererOption.BRANCH ),
+               firstArtifactId
+            );
+      //@formatter:on
+   }
+
+   /**
+    * Validates the request, finds its publishing template, and creates a processor configured to publish it.
+    */
+
+   private WordTemplateProcessorServer createPublishingProcessor(PublishingRequestData publishingRequestData,
       RendererMap publishingRendererOptions) {
 
       //@formatter:off
@@ -531,7 +579,6 @@ public class PublishingOperationsImpl implements PublishingOperations {
          );
 
       var publishingTemplateRequest = publishingRequestData.getPublishingTemplateRequest();
-      var publishArtifacts = publishingRequestData.getArtifactIds();
 
       var publishingTemplate =
          this.templateManagerOperations
@@ -552,15 +599,7 @@ public class PublishingOperationsImpl implements PublishingOperations {
          throw new OseeCoreException( message );
       }
 
-
-      var outputStream = new ByteArrayOutputStream() {
-         byte[] getBuffer() {
-            return this.buf;
-         }
-      };
-
-      try ( var writer = new OutputStreamWriter(outputStream) ) {
-
+      return
          new GeneralPublishingWordTemplateProcessorServer
                 (
                   this.orcsApi,
@@ -573,10 +612,28 @@ public class PublishingOperationsImpl implements PublishingOperations {
                    publishingTemplate,
                    publishingRendererOptions,
                    publishingRequestData.getDesktopClientLoopbackUrl()
-                )
+                );
+      //@formatter:on
+   }
+
+   private ByteArrayInputStream processPublishingRequest(PublishingRequestData publishingRequestData,
+      RendererMap publishingRendererOptions) {
+
+      var processor = this.createPublishingProcessor(publishingRequestData, publishingRendererOptions);
+
+      var outputStream = new ByteArrayOutputStream() {
+         byte[] getBuffer() {
+            return this.buf;
+         }
+      };
+
+      //@formatter:off
+      try ( var writer = new OutputStreamWriter(outputStream) ) {
+
+         processor
              .applyTemplate
                 (
-                   publishArtifacts,
+                   publishingRequestData.getArtifactIds(),
                    writer
                 );
 
@@ -621,8 +678,7 @@ public class PublishingOperationsImpl implements PublishingOperations {
       //data = WordCoreUtilServer.removeNewLines(data);
 
       // if no extra paragraphs have been added this will replace the normal footer
-      var charSequenceData = WordCoreUtil.removeFootersAndNoDataRightsStatements(data);
-      data = WordCoreUtil.replaceEmptySectionBreaksWithPageBreaks(charSequenceData).toString();
+      data = WordCoreUtil.cleanupFootersAndSectionBreaks(data).toString();
 
       if (!data.contains("<w:tbl>")) {
          int lastIndex = data.lastIndexOf("<w:p wsp:rsidR=");
@@ -0,0 +1,207 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.define.operations.publisher.publishing;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import javax.ws.rs.core.StreamingOutput;
+import org.eclipse.osee.define.rest.api.publisher.publishing.PublishingCompression;
+import org.eclipse.osee.framework.core.data.ArtifactId;
+import org.eclipse.osee.framework.core.publishing.PublishingArtifact;
+import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
+import org.eclipse.osee.logger.Log;
+
+/**
+ * Writes a published document to the client while it is being rendered. The processor's output goes through a fixed
+ * size buffer, and the optional compression stream, straight to the response, so the rendered document is never held
+ * on the server. The artifacts to publish are still loaded before rendering starts. The buffer is flushed every
+ * {@link #FLUSH_INTERVAL} artifacts so the client receives the document as it is produced, and progress is written to
+ * the server log every {@link #PROGRESS_INTERVAL} artifacts.
+ * <p>
+ * The publish stops at the next artifact when the writing thread is interrupted or when writing to the client fails,
+ * such as when the client disconnects.
+ *
+ * @author agent
+ */
+
+public class PublishingStreamingOutput implements StreamingOutput {
+
+   /**
+    * The size in characters of the buffer between the processor and the response.
+    */
+
+   static final int BUFFER_SIZE = 64 * 1024;
+
+   /**
+    * The number of artifacts written between flushes to the client.
+    */
+
+   static final int FLUSH_INTERVAL = 16;
+
+   /**
+    * The number of artifacts written between progress log messages.
+    */
+
+   static final int PROGRESS_INTERVAL = 500;
+
+   private final Log logger;
+   private final WordTemplateProcessorServer processor;
+   private final List<ArtifactId> publishArtifactIds;
+   private final PublishingCompression compression;
+   private final String entryName;
+
+   private volatile long artifactCount;
+   private volatile long bytesWritten;
+   private volatile boolean stopped;
+
+   /**
+    * Creates a {@link StreamingOutput} for a publish.
+    *
+    * @param logger the {@link Log} for progress messages, may be <code>null</code>.
+    * @param processor a configured {@link WordTemplateProcessorServer}.
+    * @param publishArtifactIds the artifacts to publish.
+    * @param compression the {@link PublishingCompression} to apply.
+    * @param entryName the name of the document within a {@link PublishingCompression#ZIP} archive.
+    */
+
+   public PublishingStreamingOutput(Log logger, WordTemplateProcessorServer processor, List<ArtifactId> publishArtifactIds, PublishingCompression compression, String entryName) {
+      this.logger = logger;
+      this.processor = Objects.requireNonNull(processor);
+      this.publishArtifactIds = Objects.requireNonNull(publishArtifactIds);
+      this.compression = Objects.nonNull(compression) ? compression : PublishingCompression.NONE;
+      this.entryName = entryName;
+   }
+
+   @Override
+   public void write(OutputStream output) throws IOException {
+
+      var countingStream = new FilterOutputStream(output) {
+
+         @Override
+         public void write(int b) throws IOException {
+            this.out.write(b);
+            PublishingStreamingOutput.this.bytesWritten++;
+         }
+
+         @Override
+         public void write(byte[] bytes, int offset, int length) throws IOException {
+            this.out.write(bytes, offset, length);
+            PublishingStreamingOutput.this.bytesWritten += length;
+         }
+      };
+
+      try (var compressedStream = this.openCompressedStream(countingStream);
+         Writer writer = new BufferedWriter(new OutputStreamWriter(compressedStream, StandardCharsets.UTF_8),
+            PublishingStreamingOutput.BUFFER_SIZE)) {
+
+         this.processor.onArtifactPublished((artifact) -> this.artifactPublished(artifact, writer));
+
+         this.processor.applyTemplate(this.publishArtifactIds, writer);
+
+         writer.flush();
+
+         if (compressedStream instanceof ZipOutputStream) {
+            ((ZipOutputStream) compressedStream).closeEntry();
+         }
+
+      } catch (UncheckedIOException e) {
+         throw e.getCause();
+      }
+
+      this.logProgress("finished");
+   }
+
+   private OutputStream openCompressedStream(OutputStream output) throws IOException {
+      switch (this.compression) {
+         case GZIP:
+            return new GZIPOutputStream(output, PublishingStreamingOutput.BUFFER_SIZE);
+         case ZIP:
+            var zipStream = new ZipOutputStream(output, StandardCharsets.UTF_8);
+            zipStream.putNextEntry(new ZipEntry(this.entryName));
+            return zipStream;
+         default:
+            return output;
+      }
+   }
+
+   private void artifactPublished(PublishingArtifact artifact, Writer writer) {
+
+      if (this.stopped || Thread.currentThread().isInterrupted()) {
+         this.stopped = true;
+         throw new OseeCoreException("PublishingStreamingOutput::artifactPublished, publish interrupted after %d artifacts.",
+            this.artifactCount);
+      }
+
+      var count = ++this.artifactCount;
+
+      if (count % PublishingStreamingOutput.FLUSH_INTERVAL == 0) {
+         try {
+            writer.flush();
+         } catch (IOException e) {
+            this.stopped = true;
+            throw new UncheckedIOException(e);
+         }
+      }
+
+      if (count % PublishingStreamingOutput.PROGRESS_INTERVAL == 0) {
+         this.logProgress("in progress");
+      }
+   }
+
+   private void logProgress(String state) {
+      if (Objects.nonNull(this.logger)) {
+         this.logger.info("Streaming publish %s: %d artifacts, %d bytes written", state, this.artifactCount,
+            this.bytesWritten);
+      }
+   }
+
+   /**
+    * @return <code>true</code> when the publish was stopped by an interrupt or a failed write to the client.
+    */
+
+   public boolean isStopped() {
+      return this.stopped;
+   }
+
+   /**
+    * @return the number of artifacts written so far.
+    */
+
+   public long getArtifactCount() {
+      return this.artifactCount;
+   }
+
+   /**
+    * @return the number of bytes sent to the client so far, after compression.
+    */
+
+   public long getBytesWritten() {
+      return this.bytesWritten;
+   }
+
+}
+
+/* EOF */
@@ -147,9 +147,7 @@ public class WordTemplateContentRendererHandler {
       }
 
       // if no extra paragraphs have been added this will replace the normal footer
-      data = WordCoreUtil.removeFootersAndNoDataRightsStatements(data);
-      data = WordCoreUtil.removeProofErrors(data);
-      data = WordCoreUtil.replaceEmptySectionBreaksWithPageBreaks(data).toString();
+      data = WordCoreUtil.cleanupArtifactContent(data);
 
       var dataString = data.toString();
 
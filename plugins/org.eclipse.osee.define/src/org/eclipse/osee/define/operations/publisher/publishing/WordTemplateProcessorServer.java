@@ -118,6 +118,15 @@ public class WordTemplateProcessorServer implements ToMessage {
 
    protected final Map<ApplicabilityId, Boolean> applicabilityMap = new HashMap<>();
 
+   /**
+    * Called after each artifact and its children have been written to the publishing appender. Used to report progress
+    * and flush streamed output.
+    */
+
+   protected Consumer<PublishingArtifact> artifactPublishedListener = (artifact) -> {
+      /* no-op by default */
+   };
+
    protected Map<ApplicabilityId, ApplicabilityToken> applicabilityTokens;
 
    protected List<AttributeOptions> attributeOptionsList;
@@ -540,6 +549,18 @@ public class WordTemplateProcessorServer implements ToMessage {
 
    }
 
+   /**
+    * Sets the listener called after each artifact has been written.
+    *
+    * @param artifactPublishedListener the listener, may throw to stop the publish.
+    * @return this {@link WordTemplateProcessorServer}.
+    */
+
+   public WordTemplateProcessorServer onArtifactPublished(Consumer<PublishingArtifact> artifactPublishedListener) {
+      this.artifactPublishedListener = Objects.requireNonNull(artifactPublishedListener);
+      return this;
+   }
+
    public WordTemplateProcessorServer configure(PublishingTemplate publishingTemplate, RendererMap publishingOptions,
       String desktopClientLoopbackUrl) {
 
@@ -1118,6 +1139,8 @@ public class WordTemplateProcessorServer implements ToMessage {
 
       this.processedArtifactTracker.setOk(artifact);
 
+      this.artifactPublishedListener.accept(artifact);
+
    }
    //@formatter:on
 
@@ -31,6 +31,7 @@ import org.eclipse.osee.define.operations.markdown.MarkdownConverter;
 import org.eclipse.osee.define.operations.publisher.publishing.PublishingPermissions;
 import org.eclipse.osee.define.operations.publisher.publishing.UserNotAuthorizedForPublishingException;
 import org.eclipse.osee.define.rest.api.publisher.publishing.LinkHandlerResult;
+import org.eclipse.osee.define.rest.api.publisher.publishing.PublishingCompression;
 import org.eclipse.osee.define.rest.api.publisher.publishing.PublishingEndpoint;
 import org.eclipse.osee.define.rest.api.publisher.publishing.PublishingRequestData;
 import org.eclipse.osee.define.rest.api.publisher.publishing.WordUpdateChange;
@@ -332,6 +333,41 @@ public class PublishingEndpointImpl implements PublishingEndpoint {
       }
    }
 
+   /**
+    * {@inheritDoc}
+    *
+    * @throws NotAuthorizedException when the user is not an active login user.
+    * @throws BadRequestException when the operation's method indicates any arguments were illegal.
+    * @throws ServerErrorException when an unaccounted for exception is thrown by the operations method.
+    */
+
+   @Override
+   public Response msWordPreviewStream(PublishingRequestData msWordPreviewRequestData,
+      PublishingCompression compression) {
+
+      try {
+         PublishingPermissions.verifyNonGroup();
+         //@formatter:off
+         return
+            this.defineOperations
+               .getPublisherOperations()
+               .getPublishingOperations()
+               .msWordPreviewStream
+                  (
+                     msWordPreviewRequestData,
+                     compression
+                  );
+         //@formatter:on
+      } catch (UserNotAuthorizedForPublishingException e) {
+         throw new NotAuthorizedException(e.getMessage(), Response.status(Response.Status.UNAUTHORIZED).build(), e);
+      } catch (IllegalArgumentException iae) {
+         throw new BadRequestException(iae.getMessage(), Response.status(Response.Status.BAD_REQUEST).build(), iae);
+      } catch (Exception e) {
+         throw new ServerErrorException(e.getMessage(), Response.status(Response.Status.INTERNAL_SERVER_ERROR).build(),
+            e);
+      }
+   }
+
    /**
     * {@inheritDoc}
     *
@@ -13,6 +13,7 @@
 
 package org.eclipse.osee.disposition.rest.importer;
 
+import org.eclipse.osee.disposition.rest.internal.importer.coverage.LisFileParserTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
@@ -24,7 +25,8 @@ import org.junit.runners.Suite;
    DiscrepancyParserTest.class,
    DispoItemDataCopierTest.class,
    AnnotationCopierTest.class,
-   DispoSetCopierTest.class})
+   DispoSetCopierTest.class,
+   LisFileParserTest.class})
 public class ImporterTestSuite {
    // Test Suite
 }
@@ -17,6 +17,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -38,6 +42,8 @@ import org.eclipse.osee.disposition.model.DispoSet;
 import org.eclipse.osee.disposition.model.DispoSetData;
 import org.eclipse.osee.disposition.model.DispoSetDescriptorData;
 import org.eclipse.osee.disposition.model.Note;
+import org.eclipse.osee.disposition.model.OperationReport;
+import org.eclipse.osee.disposition.rest.DispoApiConfiguration;
 import org.eclipse.osee.disposition.rest.internal.importer.DispoImporterFactory;
 import org.eclipse.osee.disposition.rest.internal.importer.TmoImporter;
 import org.eclipse.osee.disposition.rest.internal.importer.coverage.LisFileParser;
@@ -48,6 +54,7 @@ import org.eclipse.osee.framework.core.data.BranchToken;
 import org.eclipse.osee.framework.core.data.UserId;
 import org.eclipse.osee.framework.core.enums.DemoUsers;
 import org.eclipse.osee.framework.jdk.core.type.Identifiable;
+import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
 import org.eclipse.osee.logger.Log;
 import org.eclipse.osee.orcs.OrcsApi;
 import org.junit.Before;
@@ -448,4 +455,55 @@ public class DispoApiTest {
       actual = dispoApi.deleteDispoAnnotation(branch, itemId.getGuid(), expectedId, "name", false);
       assertTrue(actual);
    }
+
+   @Test
+   public void testWriteImportedItemsInBatches() {
+      dispoApi.setConfig(DispoApiConfiguration.newBuilder().importBatchSize(2).build());
+      when(storage.findDispoSetsById(branch, setId.getGuid())).thenReturn(dispoSet);
+      List<DispoItem> itemsToCreate = newItems(5);
+      List<DispoItem> itemsToEdit = newItems(3);
+
+      OperationReport report = new OperationReport();
+      dispoApi.writeImportedItems(branch, setId.getGuid(), itemsToCreate, itemsToEdit, report);
+
+      verify(storage).createDispoItems(branch, dispoSet, itemsToCreate.subList(0, 2));
+      verify(storage).createDispoItems(branch, dispoSet, itemsToCreate.subList(2, 4));
+      verify(storage).createDispoItems(branch, dispoSet, itemsToCreate.subList(4, 5));
+      verify(storage).updateDispoItems(branch, itemsToEdit.subList(0, 2), true, "Import");
+      verify(storage).updateDispoItems(branch, itemsToEdit.subList(2, 3), true, "Import");
+      assertEquals("Created 5 of 5 items", report.getEntries().get(2).getMessage());
+      assertEquals("Updated 3 of 3 items", report.getEntries().get(4).getMessage());
+      assertFalse(report.getStatus().isFailed());
+   }
+
+   @Test
+   public void testWriteImportedItemsStopsAtFailedBatch() {
+      dispoApi.setConfig(DispoApiConfiguration.newBuilder().importBatchSize(2).build());
+      when(storage.findDispoSetsById(branch, setId.getGuid())).thenReturn(dispoSet);
+      List<DispoItem> itemsToCreate = newItems(5);
+      List<DispoItem> itemsToEdit = newItems(3);
+      doThrow(new OseeCoreException("write failed")).when(storage).createDispoItems(branch, dispoSet,
+         itemsToCreate.subList(2, 4));
+
+      OperationReport report = new OperationReport();
+      dispoApi.writeImportedItems(branch, setId.getGuid(), itemsToCreate, itemsToEdit, report);
+
+      verify(storage, times(2)).createDispoItems(any(), any(), any());
+      verify(storage, never()).updateDispoItems(any(), any(), anyBoolean(), any());
+      assertEquals(2, report.getEntries().size());
+      assertEquals("Created 2 of 5 items", report.getEntries().get(0).getMessage());
+      assertTrue(report.getEntries().get(1).getMessage().startsWith(
+         "Import stopped after creating 2 of 5 items and updating 0 of 3 items"));
+      assertTrue(report.getStatus().isFailed());
+   }
+
+   private List<DispoItem> newItems(int count) {
+      List<DispoItem> items = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+         DispoItemData item = new DispoItemData();
+         item.setName("item" + i);
+         items.add(item);
+      }
+      return items;
+   }
 }
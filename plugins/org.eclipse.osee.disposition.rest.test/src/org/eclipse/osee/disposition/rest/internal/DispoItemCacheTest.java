@@ -0,0 +1,124 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.disposition.rest.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.osee.disposition.model.Discrepancy;
+import org.eclipse.osee.disposition.model.DispoAnnotationData;
+import org.eclipse.osee.framework.core.data.ArtifactReadable;
+import org.eclipse.osee.framework.core.data.AttributeReadable;
+import org.eclipse.osee.framework.core.data.BranchToken;
+import org.eclipse.osee.framework.core.data.GammaId;
+import org.eclipse.osee.framework.core.enums.CoreAttributeTypes;
+import org.eclipse.osee.framework.jdk.core.type.ResultSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * @author agent
+ */
+public class DispoItemCacheTest {
+
+   private static final String ANNOTATIONS_JSON =
+      "[{\"guid\":\"a1\",\"locationRefs\":\"1-3\",\"idsOfCoveredDiscrepancies\":[\"d1\"]}]";
+   private static final String DISCREPANCIES_JSON = "{\"d1\":{\"id\":\"d1\",\"location\":\"2\",\"text\":\"missed\"}}";
+
+   // @formatter:off
+   @Mock private ArtifactReadable item;
+   @Mock private AttributeReadable<Object> annotationsAttribute;
+   @Mock private AttributeReadable<Object> discrepanciesAttribute;
+   @Mock private ResultSet<AttributeReadable<Object>> annotationsResult;
+   @Mock private ResultSet<AttributeReadable<Object>> discrepanciesResult;
+   // @formatter:on
+
+   private DispoItemCache cache;
+
+   @Before
+   public void setup() {
+      MockitoAnnotations.initMocks(this);
+      cache = new DispoItemCache();
+
+      when(item.getBranch()).thenReturn(BranchToken.create(5L, "branch"));
+      when(item.getId()).thenReturn(77L);
+
+      doReturn(annotationsResult).when(item).getAttributes(CoreAttributeTypes.CoverageAnnotationsJson);
+      when(annotationsResult.size()).thenReturn(1);
+      when(annotationsResult.getExactlyOne()).thenReturn(annotationsAttribute);
+      when(annotationsAttribute.getGammaId()).thenReturn(GammaId.valueOf(11L));
+      when(annotationsAttribute.getValue()).thenReturn(ANNOTATIONS_JSON);
+
+      doReturn(discrepanciesResult).when(item).getAttributes(CoreAttributeTypes.CoverageDiscrepanciesJson);
+      when(discrepanciesResult.size()).thenReturn(1);
+      when(discrepanciesResult.getExactlyOne()).thenReturn(discrepanciesAttribute);
+      when(discrepanciesAttribute.getGammaId()).thenReturn(GammaId.valueOf(12L));
+      when(discrepanciesAttribute.getValue()).thenReturn(DISCREPANCIES_JSON);
+   }
+
+   @Test
+   public void testAnnotationsParsedOncePerGamma() {
+      List<DispoAnnotationData> first = cache.getAnnotations(item);
+      List<DispoAnnotationData> second = cache.getAnnotations(item);
+
+      verify(annotationsAttribute, times(1)).getValue();
+      assertEquals(1, second.size());
+      assertEquals("a1", second.get(0).getGuid());
+      assertEquals("1-3", second.get(0).getLocationRefs());
+      assertNotSame(first.get(0), second.get(0));
+
+      when(annotationsAttribute.getGammaId()).thenReturn(GammaId.valueOf(13L));
+      cache.getAnnotations(item);
+      verify(annotationsAttribute, times(2)).getValue();
+   }
+
+   @Test
+   public void testChangesToReturnedValuesDoNotReachCache() {
+      List<DispoAnnotationData> annotations = cache.getAnnotations(item);
+      annotations.get(0).setLocationRefs("9");
+      annotations.get(0).getIdsOfCoveredDiscrepancies().add("d2");
+      annotations.add(new DispoAnnotationData());
+
+      Map<String, Discrepancy> discrepancies = cache.getDiscrepancies(item);
+      discrepancies.get("d1").setText("changed");
+      discrepancies.clear();
+
+      List<DispoAnnotationData> again = cache.getAnnotations(item);
+      assertEquals(1, again.size());
+      assertEquals("1-3", again.get(0).getLocationRefs());
+      assertEquals(1, again.get(0).getIdsOfCoveredDiscrepancies().size());
+
+      Map<String, Discrepancy> discrepanciesAgain = cache.getDiscrepancies(item);
+      assertEquals(1, discrepanciesAgain.size());
+      assertEquals("missed", discrepanciesAgain.get("d1").getText());
+      assertEquals(2, cache.size());
+   }
+
+   @Test
+   public void testUncommittedAttributeIsNotCached() {
+      when(annotationsAttribute.getGammaId()).thenReturn(GammaId.SENTINEL);
+      cache.getAnnotations(item);
+      cache.getAnnotations(item);
+
+      verify(annotationsAttribute, times(2)).getValue();
+      assertEquals(0, cache.size());
+   }
+}
@@ -23,6 +23,7 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
    DispoApiTest.class,
    DispoConnectorTest.class,
+   DispoItemCacheTest.class,
    LocationRangesCompressorTest.class,
    DispoResolutionValidatorTest.class})
 public class InternalTestSuite {
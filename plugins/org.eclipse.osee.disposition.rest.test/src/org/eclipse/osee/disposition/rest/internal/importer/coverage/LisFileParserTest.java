@@ -0,0 +1,237 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.disposition.rest.internal.importer.coverage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.eclipse.osee.disposition.model.Discrepancy;
+import org.eclipse.osee.disposition.model.DispoAnnotationData;
+import org.eclipse.osee.disposition.model.DispoItem;
+import org.eclipse.osee.disposition.model.OperationReport;
+import org.eclipse.osee.disposition.model.OperationSummaryEntry;
+import org.eclipse.osee.disposition.rest.DispoApiConfiguration;
+import org.eclipse.osee.disposition.rest.internal.DispoConnector;
+import org.eclipse.osee.disposition.rest.internal.DispoDataFactory;
+import org.eclipse.osee.framework.core.data.ArtifactReadable;
+import org.eclipse.osee.framework.core.executor.ExecutorAdmin;
+import org.eclipse.osee.logger.Log;
+import org.eclipse.osee.vcast.VCastDataStore;
+import org.eclipse.osee.vcast.model.VCastCoverageType;
+import org.eclipse.osee.vcast.model.VCastFunction;
+import org.eclipse.osee.vcast.model.VCastInstrumentedFile;
+import org.eclipse.osee.vcast.model.VCastMcdcCoveragePairRow;
+import org.eclipse.osee.vcast.model.VCastSourceFileJoin;
+import org.eclipse.osee.vcast.model.VCastStatementCoverage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * @author agent
+ */
+public class LisFileParserTest {
+
+   private static final int FILE_COUNT = 6;
+   private static final String PROCESSED_SUMMARY = "Processed ";
+
+   // @formatter:off
+   @Mock private Log logger;
+   @Mock private DispoDataFactory dataFactory;
+   @Mock private ExecutorAdmin executor;
+   @Mock private VCastDataStore dataStore;
+   @Mock private ArtifactReadable programConfig;
+   // @formatter:on
+
+   @Rule
+   public TemporaryFolder folder = new TemporaryFolder();
+
+   private ExecutorService pool;
+   private final List<VCastInstrumentedFile> instrumentedFiles = new ArrayList<>();
+
+   @SuppressWarnings("unchecked")
+   @Before
+   public void setup() throws IOException {
+      MockitoAnnotations.initMocks(this);
+      pool = Executors.newFixedThreadPool(4);
+      when(executor.submit(anyString(), any(Callable.class))).thenAnswer(
+         invocation -> pool.submit((Callable<Object>) invocation.getArgument(1)));
+
+      when(dataStore.getIsMCDC()).thenReturn(true);
+      for (int i = 0; i < FILE_COUNT; i++) {
+         VCastInstrumentedFile instrumentedFile =
+            new VCastInstrumentedFile(i, i, 1, i, VCastCoverageType.STATEMENT, "unit_" + i + ".lis", 0);
+         instrumentedFiles.add(instrumentedFile);
+         when(dataStore.getSourceFileJoin(instrumentedFile)).thenReturn(
+            new VCastSourceFileJoin(i, "unit_" + i + ".adb", "unit_" + i, 0, "unit_" + i + ".adb", i));
+         VCastFunction foo = new VCastFunction(i * 10 + 1, i, 1, "Foo", "Foo", 4, 2, 2);
+         VCastFunction bar = new VCastFunction(i * 10 + 2, i, 2, "Bar", "Bar", 2, 1, 0);
+         when(dataStore.getFunctions(instrumentedFile)).thenReturn(Arrays.asList(foo, bar));
+         when(dataStore.getStatementCoverageLines(foo)).thenReturn(fooStatements(foo));
+         when(dataStore.getStatementCoverageLines(bar)).thenReturn(
+            Collections.singletonList(new VCastStatementCoverage(i * 100 + 5, bar.getId(), 2, 0, 1)));
+      }
+      when(dataStore.getAllInstrumentedFiles()).thenReturn(instrumentedFiles);
+   }
+
+   @After
+   public void tearDown() {
+      pool.shutdownNow();
+   }
+
+   @Test
+   public void testThreadedImportMatchesSequential() throws IOException {
+      for (int i = 0; i < FILE_COUNT; i++) {
+         // unit_5 is left without a LIS file so both imports report it
+         if (i != 5) {
+            writeLisFile(i);
+         }
+      }
+
+      OperationReport sequentialReport = new OperationReport();
+      List<DispoItem> sequential = runImport(1, sequentialReport);
+      OperationReport threadedReport = new OperationReport();
+      List<DispoItem> threaded = runImport(3, threadedReport);
+
+      assertEquals((FILE_COUNT - 1) * 2, sequential.size());
+      assertEquals(describeItems(sequential), describeItems(threaded));
+      assertEquals(describeEntries(sequentialReport), describeEntries(threadedReport));
+      assertTrue(describeEntries(threadedReport).contains("VCast|Could not find file: unit_5.lis|ERROR"));
+      assertTrue(hasEntry(sequentialReport, "using 1 threads"));
+      assertTrue(hasEntry(threadedReport, "using 3 threads"));
+
+      // the pair rows read for the function end up as pair annotations on the condition
+      boolean hasPairAnnotations = false;
+      for (String item : describeItems(threaded)) {
+         hasPairAnnotations |= item.contains("pairs[");
+      }
+      assertTrue(hasPairAnnotations);
+   }
+
+   @Test
+   public void testFailedWorkerKeepsEntries() throws IOException {
+      writeLisFile(1);
+      when(dataStore.getFunctions(instrumentedFiles.get(1))).thenThrow(new IllegalStateException("worker failure"));
+
+      OperationReport report = new OperationReport();
+      runImport(2, report);
+
+      // unit_0 was reported by the worker before it failed on unit_1
+      List<String> entries = describeEntries(report);
+      assertTrue(entries.contains("VCast|Could not find file: unit_0.lis|ERROR"));
+      assertTrue(entries.contains("VCast|Could not find file: unit_4.lis|ERROR"));
+      assertFalse(entries.contains("VCast|Could not find file: unit_2.lis|ERROR"));
+      assertTrue(hasEntry(report, "worker failure"));
+      assertTrue(report.getStatus().isFailed());
+   }
+
+   private List<DispoItem> runImport(int threads, OperationReport report) {
+      DispoApiConfiguration config = DispoApiConfiguration.newBuilder().importThreads(threads).build();
+      LisFileParser parser = new LisFileParser(logger, dataFactory, config, new DispoConnector(), executor);
+      return parser.importDirectory(Collections.emptyMap(), folder.getRoot(), dataStore, report, programConfig);
+   }
+
+   private Collection<VCastStatementCoverage> fooStatements(VCastFunction foo) {
+      int base = foo.getId() * 10;
+      ArrayList<VCastMcdcCoveragePairRow> rows = new ArrayList<>();
+      rows.add(new VCastMcdcCoveragePairRow(base + 1, base, 1, 1, 1, 1));
+      rows.add(new VCastMcdcCoveragePairRow(base + 2, base, 2, 0, 0, 1));
+      rows.add(new VCastMcdcCoveragePairRow(base + 3, base, 3, 0, 1, 1));
+      rows.add(new VCastMcdcCoveragePairRow(base + 4, base, 4, 0, 0, 1));
+      return Arrays.asList( //
+         new VCastStatementCoverage(base + 1, foo.getId(), 2, 0, 1), //
+         new VCastStatementCoverage(base + 2, foo.getId(), 3, 0, 1, true, "1 (Pa)", "a", 2, 1, rows), //
+         new VCastStatementCoverage(base + 3, foo.getId(), 3, 0, 1, true, "2 (Pb)", "b", 2, 2, rows), //
+         new VCastStatementCoverage(base + 4, foo.getId(), 4, 0, 1));
+   }
+
+   private void writeLisFile(int index) throws IOException {
+      String text = String.join("\n", //
+         "1 1 procedure Foo is", //
+         "1 2    X := 1;", //
+         "1 3    if A and B then", //
+         "   EXCEPTION", //
+         "1 4    Y := 2;", //
+         "   END Foo;", //
+         "2 1 procedure Bar is", //
+         "2 2    Z := " + index + ";", //
+         "   END Bar;");
+      Files.write(new File(folder.getRoot(), "unit_" + index + ".lis").toPath(), text.getBytes(StandardCharsets.UTF_8));
+   }
+
+   private List<String> describeItems(List<DispoItem> items) {
+      List<String> descriptions = new ArrayList<>();
+      for (DispoItem item : items) {
+         List<String> discrepancies = new ArrayList<>();
+         for (Discrepancy discrepancy : item.getDiscrepanciesList().values()) {
+            List<String> pairs = new ArrayList<>();
+            if (discrepancy.getPairAnnotations() != null) {
+               for (DispoAnnotationData pair : discrepancy.getPairAnnotations().values()) {
+                  pairs.add(pair.getLocationRefs() + "=" + pair.getIsRowCovered() + pair.getPairedWith());
+               }
+            }
+            Collections.sort(pairs);
+            discrepancies.add(discrepancy.getLocation() + ":" + discrepancy.getText() + (pairs.isEmpty() ? "" : " pairs" + pairs));
+         }
+         Collections.sort(discrepancies);
+         List<String> annotations = new ArrayList<>();
+         for (DispoAnnotationData annotation : item.getAnnotationsList()) {
+            annotations.add(annotation.getLocationRefs() + ":" + annotation.getResolutionType());
+         }
+         Collections.sort(annotations);
+         descriptions.add(String.format("%s|%s|%s|%s|%s|%s", item.getName(), item.getFileNumber(),
+            item.getMethodNumber(), item.getTotalPoints(), discrepancies, annotations));
+      }
+      Collections.sort(descriptions);
+      return descriptions;
+   }
+
+   private List<String> describeEntries(OperationReport report) {
+      List<String> entries = new ArrayList<>();
+      for (OperationSummaryEntry entry : report.getEntries()) {
+         if (!entry.getMessage().startsWith(PROCESSED_SUMMARY)) {
+            entries.add(entry.getName() + "|" + entry.getMessage() + "|" + entry.getSeverity());
+         }
+      }
+      return entries;
+   }
+
+   private boolean hasEntry(OperationReport report, String message) {
+      for (OperationSummaryEntry entry : report.getEntries()) {
+         if (entry.getMessage().contains(message)) {
+            return true;
+         }
+      }
+      return false;
+   }
+}
@@ -22,9 +22,16 @@ public class DispoApiConfiguration {
 
    private String fileExtRegex;
    private String resultsFileExtRegex;
+   private int importThreads;
+   private int importBatchSize;
 
    static String FILE_EXT_REGEX = "dispo.api.file.ext.regex";
    static String RESULTS_FILE_EXT_REGEX = "dispo.api.results.file.ext.regex";
+   static String IMPORT_THREADS = "dispo.api.import.threads";
+   static String IMPORT_BATCH_SIZE = "dispo.api.import.batch.size";
+
+   static int DEFAULT_IMPORT_THREADS = 8;
+   static int DEFAULT_IMPORT_BATCH_SIZE = 500;
 
    private DispoApiConfiguration() {
       //Builder Class
@@ -46,10 +53,34 @@ public class DispoApiConfiguration {
       this.resultsFileExtRegex = resultsFileExtRegex;
    }
 
+   /**
+    * @return the number of instrumented files an import processes at the same time
+    */
+   public int getImportThreads() {
+      return importThreads;
+   }
+
+   public void setImportThreads(int importThreads) {
+      this.importThreads = importThreads;
+   }
+
+   /**
+    * @return the number of imported items written in each transaction
+    */
+   public int getImportBatchSize() {
+      return importBatchSize;
+   }
+
+   public void setImportBatchSize(int importBatchSize) {
+      this.importBatchSize = importBatchSize;
+   }
+
    public DispoApiConfiguration copy() {
       DispoApiConfiguration data = new DispoApiConfiguration();
       data.fileExtRegex = this.fileExtRegex;
       data.resultsFileExtRegex = this.resultsFileExtRegex;
+      data.importThreads = this.importThreads;
+      data.importBatchSize = this.importBatchSize;
       return data;
    }
 
@@ -68,6 +99,11 @@ public class DispoApiConfiguration {
    public static final class DispoApiConfigurationBuilder {
       private final DispoApiConfiguration config = new DispoApiConfiguration();
 
+      public DispoApiConfigurationBuilder() {
+         config.setImportThreads(DEFAULT_IMPORT_THREADS);
+         config.setImportBatchSize(DEFAULT_IMPORT_BATCH_SIZE);
+      }
+
       public DispoApiConfiguration build() {
          return config.copy();
       }
@@ -75,6 +111,8 @@ public class DispoApiConfiguration {
       public DispoApiConfigurationBuilder properties(Map<String, Object> props) {
          fileExtRegex(get(props, FILE_EXT_REGEX, ""));
          resultsFileExtRegex(get(props, RESULTS_FILE_EXT_REGEX, ""));
+         importThreads(get(props, IMPORT_THREADS, DEFAULT_IMPORT_THREADS));
+         importBatchSize(get(props, IMPORT_BATCH_SIZE, DEFAULT_IMPORT_BATCH_SIZE));
          return this;
       }
 
@@ -88,6 +126,25 @@ public class DispoApiConfiguration {
          return this;
       }
 
+      public DispoApiConfigurationBuilder importThreads(int importThreads) {
+         config.setImportThreads(Math.max(1, importThreads));
+         return this;
+      }
+
+      public DispoApiConfigurationBuilder importBatchSize(int importBatchSize) {
+         config.setImportBatchSize(Math.max(1, importBatchSize));
+         return this;
+      }
+
+      private static int get(Map<String, Object> props, String key, int defaultValue) {
+         String value = get(props, key, "");
+         try {
+            return value.isEmpty() ? defaultValue : Integer.parseInt(value.trim());
+         } catch (NumberFormatException ex) {
+            return defaultValue;
+         }
+      }
+
       private static String get(Map<String, Object> props, String key, String defaultValue) {
          String toReturn = defaultValue;
          Object object = props != null ? props.get(key) : null;
@@ -764,6 +764,38 @@ public class DispoApiImpl implements DispoApi {
       return getQuery().isUniqueSetName(branch, name);
    }
 
+   /**
+    * Writes the imported items in transactions of {@link DispoApiConfiguration#getImportBatchSize()} items. A failed
+    * batch stops the write but the batches before it stay committed, so the report records how far it got. Importing
+    * again picks the committed items up as existing items and updates them, then creates the ones still missing.
+    */
+   void writeImportedItems(BranchId branch, String setId, List<DispoItem> itemsToCreate, List<DispoItem> itemsToEdit,
+      OperationReport report) {
+      int batchSize = Math.max(1, config.getImportBatchSize());
+      int created = 0;
+      int updated = 0;
+      try {
+         while (created < itemsToCreate.size()) {
+            int end = Math.min(created + batchSize, itemsToCreate.size());
+            createDispoItems(branch, setId, itemsToCreate.subList(created, end));
+            created = end;
+            report.addEntry("INFO", String.format("Created %d of %d items", created, itemsToCreate.size()),
+               DispoSummarySeverity.IGNORE);
+         }
+         while (updated < itemsToEdit.size()) {
+            int end = Math.min(updated + batchSize, itemsToEdit.size());
+            editDispoItems(branch, setId, itemsToEdit.subList(updated, end), true, "Import");
+            updated = end;
+            report.addEntry("INFO", String.format("Updated %d of %d items", updated, itemsToEdit.size()),
+               DispoSummarySeverity.IGNORE);
+         }
+      } catch (Exception ex) {
+         report.addEntry("Import", String.format(
+            "Import stopped after creating %d of %d items and updating %d of %d items, import again to write the rest: [%s]",
+            created, itemsToCreate.size(), updated, itemsToEdit.size(), ex.getMessage()), DispoSummarySeverity.ERROR);
+      }
+   }
+
    private void runOperation(BranchId branch, DispoSet setToEdit, DispoSetData newSet, boolean isIterative) {
       OperationReport report = new OperationReport();
       String operation = newSet.getOperation();
@@ -822,12 +854,7 @@ public class DispoApiImpl implements DispoApi {
             }
 
             if (!report.getStatus().isFailed()) {
-               if (itemsToCreate.size() > 0) {
-                  createDispoItems(branch, setToEdit.getGuid(), itemsToCreate);
-               }
-               if (itemsToEdit.size() > 0) {
-                  editDispoItems(branch, setToEdit.getGuid(), itemsToEdit, true, "Import");
-               }
+               writeImportedItems(branch, setToEdit.getGuid(), itemsToCreate, itemsToEdit, report);
             }
 
             updateAllDispoItems(branch, setToEdit.getGuid());
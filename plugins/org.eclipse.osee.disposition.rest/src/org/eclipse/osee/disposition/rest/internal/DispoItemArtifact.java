@@ -32,6 +32,7 @@ import org.eclipse.osee.framework.jdk.core.type.BaseIdentity;
 public class DispoItemArtifact extends BaseIdentity<String> implements DispoItem {
 
    private final ArtifactReadable artifact;
+   private final DispoItemCache itemCache;
    private Boolean isIncludeDetails;
 
    public static DispoItemArtifact SENTINEL = valueOf(ArtifactReadable.SENTINEL);
@@ -52,8 +53,13 @@ public class DispoItemArtifact extends BaseIdentity<String> implements DispoItem
    }
 
    public DispoItemArtifact(ArtifactReadable artifact) {
+      this(artifact, null);
+   }
+
+   public DispoItemArtifact(ArtifactReadable artifact, DispoItemCache itemCache) {
       super(artifact.getIdString());
       this.artifact = artifact;
+      this.itemCache = itemCache;
    }
 
    @Override
@@ -72,12 +78,18 @@ public class DispoItemArtifact extends BaseIdentity<String> implements DispoItem
 
    @Override
    public Map<String, Discrepancy> getDiscrepanciesList() {
+      if (itemCache != null) {
+         return itemCache.getDiscrepancies(artifact);
+      }
       String discrepanciesJson = artifact.getSoleAttributeAsString(CoreAttributeTypes.CoverageDiscrepanciesJson, "{}");
       return DispoUtil.jsonStringToDiscrepanciesMap(discrepanciesJson);
    }
 
    @Override
    public List<DispoAnnotationData> getAnnotationsList() {
+      if (itemCache != null) {
+         return itemCache.getAnnotations(artifact);
+      }
       String annotationsList = artifact.getSoleAttributeAsString(CoreAttributeTypes.CoverageAnnotationsJson, "[]");
       return DispoUtil.jsonStringToList(annotationsList, DispoAnnotationData.class);
    }
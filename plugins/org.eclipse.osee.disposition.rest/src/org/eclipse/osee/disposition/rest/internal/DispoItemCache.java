@@ -0,0 +1,168 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.disposition.rest.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+import org.eclipse.osee.disposition.model.Discrepancy;
+import org.eclipse.osee.disposition.model.DispoAnnotationData;
+import org.eclipse.osee.disposition.rest.util.DispoUtil;
+import org.eclipse.osee.framework.core.data.ArtifactReadable;
+import org.eclipse.osee.framework.core.data.AttributeReadable;
+import org.eclipse.osee.framework.core.data.AttributeTypeToken;
+import org.eclipse.osee.framework.core.data.GammaId;
+import org.eclipse.osee.framework.core.enums.CoreAttributeTypes;
+import org.eclipse.osee.framework.jdk.core.type.ResultSet;
+
+/**
+ * Discrepancies and annotations parsed from the JSON attributes of disposition items, kept by branch, item, and gamma of
+ * the attribute so an item is parsed again only after it is edited. Callers change the maps and lists they are given,
+ * so each call returns a copy of the cached values, which is far cheaper than parsing the JSON again.
+ *
+ * @author agent
+ */
+public class DispoItemCache {
+
+   private static final int DEFAULT_CAPACITY = 20000;
+
+   private static final class Key {
+      private final long branch;
+      private final long item;
+      private final long gamma;
+
+      private Key(long branch, long item, long gamma) {
+         this.branch = branch;
+         this.item = item;
+         this.gamma = gamma;
+      }
+
+      @Override
+      public int hashCode() {
+         return Long.hashCode(gamma) * 31 + Long.hashCode(item);
+      }
+
+      @Override
+      public boolean equals(Object obj) {
+         if (obj instanceof Key) {
+            Key other = (Key) obj;
+            return gamma == other.gamma && item == other.item && branch == other.branch;
+         }
+         return false;
+      }
+   }
+
+   private final Map<Key, Object> entries;
+
+   public DispoItemCache() {
+      this(DEFAULT_CAPACITY);
+   }
+
+   public DispoItemCache(int capacity) {
+      entries = Collections.synchronizedMap(new LinkedHashMap<Key, Object>(1024, 0.75f, true) {
+         private static final long serialVersionUID = 1L;
+
+         @Override
+         protected boolean removeEldestEntry(Entry<Key, Object> eldest) {
+            return size() > capacity;
+         }
+      });
+   }
+
+   public Map<String, Discrepancy> getDiscrepancies(ArtifactReadable item) {
+      @SuppressWarnings("unchecked")
+      Map<String, Discrepancy> discrepancies = (Map<String, Discrepancy>) get(item,
+         CoreAttributeTypes.CoverageDiscrepanciesJson, "{}", DispoUtil::jsonStringToDiscrepanciesMap);
+      Map<String, Discrepancy> copy = new HashMap<>((int) (discrepancies.size() / 0.75f) + 1);
+      for (Entry<String, Discrepancy> entry : discrepancies.entrySet()) {
+         copy.put(entry.getKey(), copy(entry.getValue()));
+      }
+      return copy;
+   }
+
+   public List<DispoAnnotationData> getAnnotations(ArtifactReadable item) {
+      @SuppressWarnings("unchecked")
+      List<DispoAnnotationData> annotations = (List<DispoAnnotationData>) get(item,
+         CoreAttributeTypes.CoverageAnnotationsJson, "[]",
+         json -> DispoUtil.jsonStringToList(json, DispoAnnotationData.class));
+      List<DispoAnnotationData> copy = new ArrayList<>(annotations.size());
+      for (DispoAnnotationData annotation : annotations) {
+         copy.add(copy(annotation));
+      }
+      return copy;
+   }
+
+   private Object get(ArtifactReadable item, AttributeTypeToken attributeType, String defaultJson,
+      Function<String, Object> parser) {
+      ResultSet<? extends AttributeReadable<Object>> attributes = item.getAttributes(attributeType);
+      if (attributes.size() != 1) {
+         // let the artifact apply its usual default or report more than one attribute
+         return parser.apply(item.getSoleAttributeAsString(attributeType, defaultJson));
+      }
+      AttributeReadable<Object> attribute = attributes.getExactlyOne();
+      GammaId gamma = attribute.getGammaId();
+      if (gamma == null || gamma.isInvalid()) {
+         return parser.apply(String.valueOf(attribute.getValue()));
+      }
+      Key key = new Key(item.getBranch().getId(), item.getId(), gamma.getId());
+      Object parsed = entries.get(key);
+      if (parsed == null) {
+         parsed = parser.apply(String.valueOf(attribute.getValue()));
+         entries.put(key, parsed);
+      }
+      return parsed;
+   }
+
+   private static Discrepancy copy(Discrepancy discrepancy) {
+      Discrepancy copy = new Discrepancy();
+      copy.setId(discrepancy.getId());
+      copy.setText(discrepancy.getText());
+      copy.setLocation(discrepancy.getLocation());
+      copy.setDevNotes(discrepancy.getDevNotes());
+      copy.setIsOverloadedCondition(discrepancy.getIsOverloadedCondition());
+      Map<Integer, DispoAnnotationData> pairAnnotations = discrepancy.getPairAnnotations();
+      if (pairAnnotations != null) {
+         Map<Integer, DispoAnnotationData> pairCopies = new HashMap<>();
+         for (Entry<Integer, DispoAnnotationData> entry : pairAnnotations.entrySet()) {
+            pairCopies.put(entry.getKey(), entry.getValue() == null ? null : copy(entry.getValue()));
+         }
+         copy.setPairAnnotations(pairCopies);
+      }
+      return copy;
+   }
+
+   private static DispoAnnotationData copy(DispoAnnotationData annotation) {
+      DispoAnnotationData copy = new DispoAnnotationData(annotation);
+      if (annotation.getIdsOfCoveredDiscrepancies() != null) {
+         copy.setIdsOfCoveredDiscrepancies(new ArrayList<>(annotation.getIdsOfCoveredDiscrepancies()));
+      }
+      if (annotation.getPairedWith() != null) {
+         copy.setPairedWith(new ArrayList<>(annotation.getPairedWith()));
+      }
+      return copy;
+   }
+
+   public void clear() {
+      entries.clear();
+   }
+
+   public int size() {
+      return entries.size();
+   }
+}
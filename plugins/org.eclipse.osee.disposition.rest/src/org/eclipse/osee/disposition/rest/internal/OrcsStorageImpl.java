@@ -67,6 +67,7 @@ import org.eclipse.osee.orcs.transaction.TransactionFactory;
  */
 public class OrcsStorageImpl implements Storage {
    private final OrcsApi orcsApi;
+   private final DispoItemCache itemCache = new DispoItemCache();
    public static final BranchToken dispoParent = BranchToken.create(5781701693103907161L, "Dispo Parent");
 
    public OrcsStorageImpl(OrcsApi orcsApi) {
@@ -226,7 +227,7 @@ public class OrcsStorageImpl implements Storage {
 
       List<DispoItem> toReturn = new ArrayList<>();
       for (ArtifactReadable art : setArt.getChildren()) {
-         DispoItemArtifact dispoItemArtifact = new DispoItemArtifact(art);
+         DispoItemArtifact dispoItemArtifact = new DispoItemArtifact(art, itemCache);
          dispoItemArtifact.setIsIncludeDetails(isDetailed);
          toReturn.add(dispoItemArtifact);
       }
@@ -468,18 +469,27 @@ public class OrcsStorageImpl implements Storage {
          needsRerun = newItemData.getNeedsRerun();
       }
 
-      DispoItemArtifact origItem = new DispoItemArtifact(currentItemArt);
+      DispoItemArtifact origItem = new DispoItemArtifact(currentItemArt, itemCache);
 
       if (name != null && !name.equals(origItem.getName())) {
          tx.setName(currentItemArt, name);
       }
-      if (newDiscrepancies != null && !newDiscrepancies.equals(origItem.getDiscrepanciesList())) {
-         tx.setSoleAttributeFromString(currentItemArt, CoreAttributeTypes.CoverageDiscrepanciesJson,
-            JsonUtil.toJson(newDiscrepancies));
+      // compare as json since the parsed discrepancies and annotations do not implement equals
+      if (newDiscrepancies != null) {
+         String discrepanciesJson = JsonUtil.toJson(newDiscrepancies);
+         if (!discrepanciesJson.equals(
+            currentItemArt.getSoleAttributeAsString(CoreAttributeTypes.CoverageDiscrepanciesJson, "{}"))) {
+            tx.setSoleAttributeFromString(currentItemArt, CoreAttributeTypes.CoverageDiscrepanciesJson,
+               discrepanciesJson);
+         }
       }
-      if (newAnnotations != null && !newAnnotations.equals(origItem.getAnnotationsList())) {
-         tx.setSoleAttributeFromString(currentItemArt, CoreAttributeTypes.CoverageAnnotationsJson,
-            JsonUtil.toJson(newAnnotations));
+      if (newAnnotations != null) {
+         String annotationsJson = JsonUtil.toJson(newAnnotations);
+         if (!annotationsJson.equals(
+            currentItemArt.getSoleAttributeAsString(CoreAttributeTypes.CoverageAnnotationsJson, "[]"))) {
+            tx.setSoleAttributeFromString(currentItemArt, CoreAttributeTypes.CoverageAnnotationsJson,
+               annotationsJson);
+         }
       }
       if (assignee != null && !assignee.equals("UnAssigned") && !assignee.equals(origItem.getAssignee())) {
          tx.setSoleAttributeFromString(currentItemArt, CoreAttributeTypes.CoverageAssignee, assignee);
@@ -604,7 +614,7 @@ public class OrcsStorageImpl implements Storage {
          .getResults();
 
       for (ArtifactReadable art : dispoArtifacts) {
-         DispoItemArtifact dispoItem = new DispoItemArtifact(art);
+         DispoItemArtifact dispoItem = new DispoItemArtifact(art, itemCache);
          dispoItem.setIsIncludeDetails(isDetailed);
          toReturn.add(dispoItem);
       }
@@ -616,7 +626,7 @@ public class OrcsStorageImpl implements Storage {
    public @NonNull DispoItem findDispoItemById(BranchId branch, String itemId) {
       DispoItem toReturn = null;
       ArtifactReadable dispoArtifact = findDispoArtifact(branch, itemId);
-      toReturn = new DispoItemArtifact(dispoArtifact);
+      toReturn = new DispoItemArtifact(dispoArtifact, itemCache);
       return toReturn;
    }
 
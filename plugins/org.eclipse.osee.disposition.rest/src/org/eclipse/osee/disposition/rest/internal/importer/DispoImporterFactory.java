@@ -55,7 +55,7 @@ public class DispoImporterFactory {
          case TMZ:
             return new TmzImporter(logger, dataFactory, jaxRsApi);
          case LIS:
-            return new LisFileParser(logger, dataFactory, config, connector);
+            return new LisFileParser(logger, dataFactory, config, connector, executor);
          default:
             throw new OseeArgumentException("Unsupported format type: [%s]", format);
       }
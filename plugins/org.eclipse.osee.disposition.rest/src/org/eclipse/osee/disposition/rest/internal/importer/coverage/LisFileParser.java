@@ -18,6 +18,7 @@ import static org.eclipse.osee.disposition.model.DispoStrings.Test_Unit_Resoluti
 import static org.eclipse.osee.disposition.model.DispoSummarySeverity.ERROR;
 import static org.eclipse.osee.disposition.model.DispoSummarySeverity.WARNING;
 import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Table;
 import com.google.common.collect.TreeBasedTable;
@@ -38,6 +39,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.eclipse.osee.disposition.model.Discrepancy;
@@ -47,6 +51,7 @@ import org.eclipse.osee.disposition.model.DispoItemData;
 import org.eclipse.osee.disposition.model.DispoStrings;
 import org.eclipse.osee.disposition.model.DispoSummarySeverity;
 import org.eclipse.osee.disposition.model.OperationReport;
+import org.eclipse.osee.disposition.model.OperationSummaryEntry;
 import org.eclipse.osee.disposition.rest.DispoApiConfiguration;
 import org.eclipse.osee.disposition.rest.DispoImporterApi;
 import org.eclipse.osee.disposition.rest.internal.DispoConnector;
@@ -55,6 +60,7 @@ import org.eclipse.osee.disposition.rest.internal.importer.DispoSetCopier;
 import org.eclipse.osee.disposition.rest.util.DispoUtil;
 import org.eclipse.osee.framework.core.data.ArtifactReadable;
 import org.eclipse.osee.framework.core.enums.CoreAttributeTypes;
+import org.eclipse.osee.framework.core.executor.ExecutorAdmin;
 import org.eclipse.osee.framework.core.util.Result;
 import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
 import org.eclipse.osee.framework.jdk.core.type.Pair;
@@ -93,20 +99,25 @@ public class LisFileParser implements DispoImporterApi {
    private static final Pattern fileMethod3LineNumberPattern = Pattern.compile("\\s*([0-9]+)\\s+([0-9]+)\\s+([0-9]+)");
    private final static Pattern fileMethod4LineNumberPlusTokenPattern =
       Pattern.compile("\\s*([0-9]+)\\s+([0-9]+)\\s+([0-9]+)\\s+(T|F)");
-   private final Map<String, DispoItemData> datIdToItem = new HashMap<>();
-   private final Set<String> datIdsCoveredByException = new HashSet<>();
+   private static final Map<Integer, Table<Integer, Integer, Boolean>> conditionCountToTruthTable =
+      new ConcurrentHashMap<>();
+
+   private final Map<String, DispoItemData> datIdToItem = new ConcurrentHashMap<>();
+   private final Set<String> datIdsCoveredByException = ConcurrentHashMap.newKeySet();
    private final Set<String> alreadyUsedDatIds = new HashSet<>();
    private final Set<String> alreadyUsedFileNames = new HashSet<>();
 
    private final DispoConnector dispoConnector;
    private final DispoApiConfiguration config;
+   private final ExecutorAdmin executor;
 
    private String vCastDir;
 
-   public LisFileParser(Log logger, DispoDataFactory dataFactory, DispoApiConfiguration config, DispoConnector connector) {
+   public LisFileParser(Log logger, DispoDataFactory dataFactory, DispoApiConfiguration config, DispoConnector connector, ExecutorAdmin executor) {
       this.dataFactory = dataFactory;
       this.config = config;
       this.dispoConnector = connector;
+      this.executor = executor;
    }
 
    @Override
@@ -114,14 +125,21 @@ public class LisFileParser implements DispoImporterApi {
       Log logger, ArtifactReadable programConfig) {
 
       //Get information from cover.db file in vcast output
-      vCastDir = filesDir.getAbsolutePath();
-      File f = new File(vCastDir + File.separator + "cover.db");
+      File vCastDirFile = filesDir;
+      File f = new File(vCastDirFile, "cover.db");
       if (!f.exists()) {
-         vCastDir = filesDir.getAbsolutePath() + File.separator + "vcast";
-         f = new File(vCastDir + File.separator + "cover.db");
+         vCastDirFile = new File(filesDir, "vcast");
+         f = new File(vCastDirFile, "cover.db");
       }
       VCastDataStore dataStore = VCastClient.newDataStore(f.getAbsolutePath(), logger);
 
+      return importDirectory(exisitingItems, vCastDirFile, dataStore, report, programConfig);
+   }
+
+   List<DispoItem> importDirectory(Map<String, DispoItem> exisitingItems, File vCastDirFile, VCastDataStore dataStore,
+      OperationReport report, ArtifactReadable programConfig) {
+      vCastDir = vCastDirFile.getAbsolutePath();
+
       dataStore.setIsMCDC();
       dataStore.setIsBranch();
 
@@ -130,9 +148,7 @@ public class LisFileParser implements DispoImporterApi {
       HashMap<String, File> nameToFileMap = createNameToFileMap(report);
 
       //Query cover.db database based on instrumented LIS files
-      for (VCastInstrumentedFile instrumentedFile : instrumentedFiles) {
-         processInstrumented(dataStore, instrumentedFile, nameToFileMap, report);
-      }
+      processAllInstrumented(dataStore, instrumentedFiles, nameToFileMap, report);
 
       Collection<VCastResult> results = getResultFiles(dataStore);
       for (VCastResult result : results) {
@@ -364,6 +380,65 @@ public class LisFileParser implements DispoImporterApi {
       return instrumentedFiles;
    }
 
+   /**
+    * Splits the instrumented files among up to {@link DispoApiConfiguration#getImportThreads()} workers. Each worker
+    * reports into its own {@link OperationReport} since reports are not thread safe; the entries are merged into the
+    * import report once all workers are done, including those of a worker that failed part way through its files.
+    */
+   private void processAllInstrumented(VCastDataStore dataStore, Collection<VCastInstrumentedFile> instrumentedFiles,
+      HashMap<String, File> nameToFileMap, OperationReport report) {
+      long startTime = System.currentTimeMillis();
+      List<VCastInstrumentedFile> files = new ArrayList<>(instrumentedFiles);
+      int numThreads = Math.max(1, Math.min(config.getImportThreads(), files.size()));
+
+      if (numThreads == 1 || executor == null) {
+         numThreads = 1;
+         for (VCastInstrumentedFile instrumentedFile : files) {
+            processInstrumented(dataStore, instrumentedFile, nameToFileMap, report);
+         }
+      } else {
+         int partitionSize = (files.size() + numThreads - 1) / numThreads;
+         List<OperationReport> workerReports = new ArrayList<>();
+         List<Future<OperationReport>> futures = new ArrayList<>();
+         for (int start = 0; start < files.size(); start += partitionSize) {
+            List<VCastInstrumentedFile> sublist = files.subList(start, Math.min(start + partitionSize, files.size()));
+            OperationReport workerReport = new OperationReport();
+            workerReports.add(workerReport);
+            futures.add(executor.submit("Dispo lis importer", () -> {
+               for (VCastInstrumentedFile instrumentedFile : sublist) {
+                  processInstrumented(dataStore, instrumentedFile, nameToFileMap, workerReport);
+               }
+               return workerReport;
+            }));
+         }
+         for (int i = 0; i < futures.size(); i++) {
+            try {
+               futures.get(i).get();
+               addWorkerEntries(workerReports.get(i), report);
+            } catch (ExecutionException ex) {
+               // Keep what the worker reported for the files it got through before failing
+               addWorkerEntries(workerReports.get(i), report);
+               report.addEntry("VCast",
+                  String.format("Error while processing instrumented files: [%s]", ex.getCause()), ERROR);
+            } catch (InterruptedException ex) {
+               Thread.currentThread().interrupt();
+               report.addEntry("VCast",
+                  String.format("Interrupted while processing instrumented files: [%s]", ex.getMessage()), ERROR);
+            }
+         }
+      }
+      report.addEntry("INFO",
+         String.format("Processed %d instrumented files into %d items using %d threads in %d ms", files.size(),
+            datIdToItem.size(), numThreads, System.currentTimeMillis() - startTime),
+         DispoSummarySeverity.IGNORE);
+   }
+
+   private void addWorkerEntries(OperationReport workerReport, OperationReport report) {
+      for (OperationSummaryEntry entry : workerReport.getEntries()) {
+         report.addEntry(entry.getName(), entry.getMessage(), entry.getSeverity());
+      }
+   }
+
    private void processInstrumented(VCastDataStore dataStore, VCastInstrumentedFile instrumentedFile,
       HashMap<String, File> nameToFileMap, OperationReport report) {
       VCastSourceFileJoin sourceFile = null;
@@ -406,8 +481,8 @@ public class LisFileParser implements DispoImporterApi {
             }
 
             for (VCastFunction function : functions) {
-               processFunction(instrumentedFile, lisFileParser, fileNum, dataStore, instrumentedFile, function,
-                  dataStore.getIsMCDC(), report);
+               processFunction(instrumentedFile, sourceFile, lisFileParser, fileNum, dataStore, instrumentedFile,
+                  function, dataStore.getIsMCDC(), report);
             }
          } else {
             report.addEntry("VCast", String.format("Could not find file: %s", normalizedName), ERROR);
@@ -415,14 +490,13 @@ public class LisFileParser implements DispoImporterApi {
       }
    }
 
-   private void processFunction(VCastInstrumentedFile lisFile, VCastLisFileParser lisFileParser, int fileNum,
-      VCastDataStore dataStore, VCastInstrumentedFile instrumentedFile, VCastFunction function, boolean isMCDCFile,
-      OperationReport report) {
+   private void processFunction(VCastInstrumentedFile lisFile, VCastSourceFileJoin sourceFileJoin,
+      VCastLisFileParser lisFileParser, int fileNum, VCastDataStore dataStore, VCastInstrumentedFile instrumentedFile,
+      VCastFunction function, boolean isMCDCFile, OperationReport report) {
       int functionNum = function.getFindex();
       String itemName = "";
       DispoItemData newItem = new DispoItemData();
       newItem.setAnnotationsList(new ArrayList<DispoAnnotationData>());
-      VCastSourceFileJoin sourceFileJoin = dataStore.getSourceFileJoin(lisFile);
       Objects.requireNonNull(sourceFileJoin, "sourceFileJoin can not be null");
       itemName = sourceFileJoin.getDisplayName() + "." + function.getName();
       newItem.setName(itemName);
@@ -572,7 +646,15 @@ public class LisFileParser implements DispoImporterApi {
       }
    }
 
-   private Table<Integer, Integer, Boolean> mcdcTruthTable(int numberOfConditions) {
+   /**
+    * The truth table only depends on the number of conditions so it is built once per condition count and shared
+    */
+   private static Table<Integer, Integer, Boolean> mcdcTruthTable(int numberOfConditions) {
+      return conditionCountToTruthTable.computeIfAbsent(numberOfConditions,
+         count -> ImmutableTable.copyOf(createMcdcTruthTable(count)));
+   }
+
+   private static Table<Integer, Integer, Boolean> createMcdcTruthTable(int numberOfConditions) {
       Table<Integer, Integer, Boolean> truthTable = TreeBasedTable.create();
       ArrayList<Integer> current = new ArrayList<>();
       ArrayList<Integer> holding = new ArrayList<>();
@@ -585,7 +667,7 @@ public class LisFileParser implements DispoImporterApi {
       return mcdcTruthTableRec(truthTable, current, holding, numberOfConditions, rowNumber);
    }
 
-   private Table<Integer, Integer, Boolean> mcdcTruthTableRec(Table<Integer, Integer, Boolean> truthTable,
+   private static Table<Integer, Integer, Boolean> mcdcTruthTableRec(Table<Integer, Integer, Boolean> truthTable,
       List<Integer> current, List<Integer> holding, int numberOfConditions, int rowNumber) {
 
       try {
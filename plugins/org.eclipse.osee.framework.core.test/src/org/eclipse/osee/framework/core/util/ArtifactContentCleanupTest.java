@@ -0,0 +1,222 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.framework.core.util;
+
+import java.util.Random;
+import org.eclipse.osee.framework.core.publishing.WordCoreUtil;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * JUnit tests comparing {@link WordCoreUtil#cleanupArtifactContent} and
+ * {@link WordCoreUtil#cleanupFootersAndSectionBreaks} with the chained passes they replace.
+ *
+ * @author agent
+ */
+
+public class ArtifactContentCleanupTest {
+
+   private static final int PASSES = 5;
+
+   //@formatter:off
+   private static final String PARAGRAPH =
+      "<w:p wsp:rsidR=\"00A1\"><w:pPr><w:pStyle w:val=\"BodyText\"/></w:pPr>" +
+      "<w:r><w:t>The system shall </w:t></w:r><w:proofErr w:type=\"spellStart\"/>" +
+      "<w:r><w:t>comunicate</w:t></w:r><w:proofErr w:type=\"spellEnd\"/>" +
+      "<w:r><w:t> with the ground station.</w:t></w:r></w:p>";
+
+   private static final String SECTION_BREAK =
+      "<w:p wsp:rsidR=\"00A2\"><w:pPr><w:sectPr wsp:rsidR=\"00A2\"><w:type w:val=\"next-page\"/>" +
+      "<w:pgSz w:w=\"12240\" w:h=\"15840\"/><w:pgMar w:top=\"1440\" w:right=\"1440\" w:bottom=\"1440\" w:left=\"1440\"/>" +
+      "<w:cols w:space=\"720\"/></w:sectPr></w:pPr></w:p>";
+
+   private static final String NO_DATA_RIGHTS =
+      "<w:p><w:pPr><w:jc w:val=\"center\"/></w:pPr><w:r><w:t>NO DATA RIGHTS ARTIFACT FOUND</w:t></w:r></w:p>";
+
+   private static final String FOOTER =
+      "<w:sectPr wsp:rsidR=\"00A3\"><w:ftr w:type=\"odd\"><w:p><w:r><w:t>Footer</w:t></w:r></w:p></w:ftr>" +
+      "<w:pgSz w:w=\"12240\" w:h=\"15840\"/></w:sectPr>";
+
+   private static final String FOOTER_IN_PARAGRAPH =
+      "<w:p wsp:rsidR=\"00A4\"><w:pPr><w:spacing w:after=\"0\"></w:spacing><w:sectPr wsp:rsidR=\"00A4\">" +
+      "<w:ftr w:type=\"odd\"><w:p><w:r><w:t>Footer</w:t></w:r></w:p></w:ftr>" +
+      "<w:pgSz w:w=\"12240\" w:h=\"15840\"/></w:sectPr></w:pPr></w:p>";
+   //@formatter:on
+
+   private static CharSequence chainedArtifactCleanup(CharSequence input) {
+      var output = WordCoreUtil.removeFootersAndNoDataRightsStatements(input);
+      output = WordCoreUtil.removeProofErrors(output);
+      return WordCoreUtil.replaceEmptySectionBreaksWithPageBreaks(output);
+   }
+
+   private static CharSequence chainedFooterCleanup(CharSequence input) {
+      var output = WordCoreUtil.removeFootersAndNoDataRightsStatements(input);
+      return WordCoreUtil.replaceEmptySectionBreaksWithPageBreaks(output);
+   }
+
+   private static String artifactContent(int paragraphCount) {
+      var content = new StringBuilder();
+      for (int i = 0; i < paragraphCount; i++) {
+         content.append(PARAGRAPH);
+         if (i % 10 == 9) {
+            content.append(SECTION_BREAK);
+         }
+      }
+      return content.toString();
+   }
+
+   @Test
+   public void cleanupArtifactContentMatchesChainedCleanup() {
+      //@formatter:off
+      var inputs =
+         new String[]
+         {
+            PARAGRAPH,
+            PARAGRAPH + SECTION_BREAK + PARAGRAPH,
+            PARAGRAPH + NO_DATA_RIGHTS + PARAGRAPH,
+            artifactContent(25) + FOOTER,
+            artifactContent(25) + FOOTER_IN_PARAGRAPH,
+            NO_DATA_RIGHTS + artifactContent(12) + SECTION_BREAK + FOOTER_IN_PARAGRAPH,
+            artifactContent(12) + NO_DATA_RIGHTS + FOOTER_IN_PARAGRAPH
+         };
+      //@formatter:on
+
+      for (var input : inputs) {
+         Assert.assertEquals(chainedArtifactCleanup(input).toString(),
+            WordCoreUtil.cleanupArtifactContent(input).toString());
+         Assert.assertEquals(chainedFooterCleanup(input).toString(),
+            WordCoreUtil.cleanupFootersAndSectionBreaks(input).toString());
+      }
+
+      var output = WordCoreUtil.cleanupArtifactContent(PARAGRAPH + SECTION_BREAK + FOOTER).toString();
+      Assert.assertFalse(output.contains("proofErr"));
+      Assert.assertFalse(output.contains("w:ftr"));
+      Assert.assertTrue(output.contains("<w:br w:type=\"page\"/>"));
+   }
+
+   @Test
+   public void unchangedInputIsReturned() {
+      var input = "<w:p><w:r><w:t>Nothing to clean</w:t></w:r></w:p>";
+      Assert.assertSame(input, WordCoreUtil.cleanupArtifactContent(input));
+   }
+
+   @Test
+   public void overlappingMatchesMatchChainedCleanup() {
+      //@formatter:off
+      var proofErrInSectionBreak =
+         "<w:p><w:pPr><w:sectPr wsp:rsidR=\"00A5\"><w:proofErr w:type=\"gramStart\"/><w:type w:val=\"next-page\"/>" +
+         "<w:proofErr w:type=\"gramEnd\"/><w:pgSz w:w=\"12240\" w:h=\"15840\"/></w:pgSz><w:proofErr w:type=\"spellStart\"/>" +
+         "<w:pgMar w:top=\"1440\"/><w:cols w:space=\"720\"/><w:proofErr w:type=\"spellEnd\"/></w:sectPr></w:pPr></w:p>";
+
+      var footerBeforeFooterInParagraph =
+         "<w:sectPr wsp:rsidR=\"00A6\"><w:ftr w:type=\"odd\"><w:p><w:r><w:t>First</w:t></w:r></w:p></w:ftr>" +
+         PARAGRAPH + FOOTER_IN_PARAGRAPH;
+
+      var footerExposingSectionBreak =
+         "<w:sectPr wsp:rsidR=\"00A7\">" + FOOTER +
+         "<w:pgSz w:w=\"12240\" w:h=\"15840\"/><w:pgMar w:top=\"1440\"/><w:cols w:space=\"720\"/></w:sectPr>";
+
+      var inputs =
+         new String[]
+         {
+            PARAGRAPH + proofErrInSectionBreak + PARAGRAPH,
+            footerBeforeFooterInParagraph,
+            PARAGRAPH + footerExposingSectionBreak + PARAGRAPH,
+            footerExposingSectionBreak + proofErrInSectionBreak + footerBeforeFooterInParagraph
+         };
+      //@formatter:on
+
+      for (var input : inputs) {
+         var expected = chainedArtifactCleanup(input).toString();
+         Assert.assertEquals(expected, WordCoreUtil.cleanupArtifactContent(input).toString());
+         Assert.assertEquals(chainedFooterCleanup(input).toString(),
+            WordCoreUtil.cleanupFootersAndSectionBreaks(input).toString());
+      }
+   }
+
+   @Test
+   public void mixedContentMatchesChainedCleanup() {
+      //@formatter:off
+      var pieces =
+         new String[]
+         {
+            PARAGRAPH,
+            SECTION_BREAK,
+            FOOTER,
+            FOOTER_IN_PARAGRAPH,
+            NO_DATA_RIGHTS,
+            "<w:proofErr w:type=\"spellStart\"/>",
+            "</w:proofErr>",
+            "<w:p><w:pPr>",
+            "<w:sectPr wsp:rsidR=\"00A9\">",
+            "<w:ftr w:type=\"odd\">",
+            "</w:ftr>",
+            "<w:type w:val=\"next-page\"/>",
+            "<w:pgSz w:w=\"12240\"/>",
+            "<w:pgMar w:top=\"1440\"/>",
+            "<w:cols w:space=\"720\"/>",
+            "</w:sectPr>",
+            "</w:pPr></w:p>"
+         };
+      //@formatter:on
+
+      var random = new Random(15L);
+      for (int i = 0; i < 2_000; i++) {
+         var input = new StringBuilder();
+         for (int j = random.nextInt(24); j >= 0; j--) {
+            input.append(pieces[random.nextInt(pieces.length)]);
+         }
+         Assert.assertEquals(input.toString(), chainedArtifactCleanup(input).toString(),
+            WordCoreUtil.cleanupArtifactContent(input).toString());
+         Assert.assertEquals(input.toString(), chainedFooterCleanup(input).toString(),
+            WordCoreUtil.cleanupFootersAndSectionBreaks(input).toString());
+      }
+   }
+
+   /**
+    * Times the single pass against the chained passes on artifact content with proof reading errors and section
+    * breaks. Run by hand when changing the cleanup patterns.
+    */
+
+   @Ignore
+   @Test
+   public void cleanupThroughput() {
+      var input = artifactContent(5_000);
+      long chainedNanos = 0;
+      long singlePassNanos = 0;
+      // first pass warms up both paths
+      for (int pass = 0; pass <= PASSES; pass++) {
+         long start = System.nanoTime();
+         var chained = chainedArtifactCleanup(input).toString();
+         long chainedTime = System.nanoTime() - start;
+
+         start = System.nanoTime();
+         var singlePass = WordCoreUtil.cleanupArtifactContent(input).toString();
+         long singlePassTime = System.nanoTime() - start;
+
+         Assert.assertEquals(chained, singlePass);
+         if (pass > 0) {
+            chainedNanos += chainedTime;
+            singlePassNanos += singlePassTime;
+         }
+      }
+      System.out.printf("Artifact content cleanup of %d characters x %d: chained [%d ms] single pass [%d ms]\n",
+         input.length(), PASSES, chainedNanos / 1000000, singlePassNanos / 1000000);
+   }
+
+}
+
+/* EOF */
@@ -23,6 +23,7 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
    AbstractOperationTest.class,
+   ArtifactContentCleanupTest.class,
    ConditionsTest.class,
    ManifestTest.class,
    WordCoreUtilTest.class,
@@ -333,6 +333,14 @@ public class WordCoreUtil {
          );
    //@formatter:on
 
+   /**
+    * Pattern used to test for text every footer and no data rights statement removal pattern requires before applying
+    * {@link #removeFootersAndNoDataRightsStatements}.
+    */
+
+   private static final Pattern FOOTER_OR_DATA_RIGHTS_NO_ARTIFACT_FOUND_TEST_PATTERN =
+      Pattern.compile("<w:ftr|NO DATA RIGHTS ARTIFACT FOUND");
+
    /**
     * The default font name
     */
@@ -1292,6 +1300,43 @@ public class WordCoreUtil {
          );
    //@formatter:on
 
+   /**
+    * {@link Pattern} matching the same empty section breaks as {@link #SECTION_EMPTY_BREAK_REMOVAL_PATTERN} when
+    * proof reading error tags appear between the section break's tags. Replacing these matches with page breaks gives
+    * the same result as removing the proof reading error tags first.
+    */
+
+   private static final String PROOF_ERRS = "(?:<w:proofErr[^>]+>|</w:proofErr>)*+";
+
+   //@formatter:off
+   private static final Pattern SECTION_EMPTY_BREAK_WITH_PROOF_ERRORS_REMOVAL_PATTERN =
+      Pattern.compile
+         (
+              "<w:sectPr[^>]*>" + PROOF_ERRS
+            + "(<w:type[^>]*>"  + PROOF_ERRS + "(</w:type>"  + PROOF_ERRS + ")*)*"
+            + "<w:pgSz[^>]*>"   + PROOF_ERRS + "(</w:pgSz>"  + PROOF_ERRS + ")*"
+            + "<w:pgMar[^>]*>"  + PROOF_ERRS + "(</w:pgMar>" + PROOF_ERRS + ")*"
+            + "<w:cols[^>]*>"   + PROOF_ERRS + "(</w:cols>"  + PROOF_ERRS + ")*"
+            + "</w:sectPr>"
+         );
+   //@formatter:on
+
+   /**
+    * {@link Pattern} matching either an empty section break, captured in group 1, or a proof reading error tag. The two
+    * can not start at the same position, so one pass with this pattern removes the same tags and replaces the same
+    * section breaks as {@link #removeProofErrors} followed by {@link #replaceEmptySectionBreaksWithPageBreaks}. This
+    * must be declared after the {@link Pattern} it combines.
+    */
+
+   //@formatter:off
+   private static final Pattern PROOF_ERR_OR_SECTION_EMPTY_BREAK_PATTERN =
+      Pattern.compile
+         (
+              "(" + WordCoreUtil.SECTION_EMPTY_BREAK_WITH_PROOF_ERRORS_REMOVAL_PATTERN.pattern() + ")"
+            + "|<w:proofErr[^>]+>|</w:proofErr>"
+         );
+   //@formatter:on
+
    /**
     * Word ML section end
     */
@@ -1940,6 +1985,69 @@ public class WordCoreUtil {
       return output;
    }
 
+   /**
+    * Cleans up the Word ML content of an artifact for publishing. The result is the same as applying
+    * {@link #removeFootersAndNoDataRightsStatements}, {@link #removeProofErrors}, and
+    * {@link #replaceEmptySectionBreaksWithPageBreaks} one after the other. Footer and no data rights statement matches
+    * may span the other matches, so they are still removed in separate passes, which are skipped when the content has no
+    * footer or statement. The proof reading error tags are removed and the empty section breaks replaced in a single
+    * pass, with section breaks also matched across proof reading error tags.
+    *
+    * @param input the Word ML to be processed.
+    * @return the Word ML with footers, no data rights statements, and proof reading error tags removed and with empty
+    * section breaks replaced with page breaks. When no changes are made the provided {@link CharSequence},
+    * <code>input</code>, is returned.
+    */
+
+   public static CharSequence cleanupArtifactContent(CharSequence input) {
+
+      var output = WordCoreUtil.removeFootersAndNoDataRightsStatementsWhenPresent(input);
+
+      //@formatter:off
+      return
+         WordCoreUtil.replacer
+            (
+               output,
+               WordCoreUtil.PROOF_ERR_OR_SECTION_EMPTY_BREAK_PATTERN,
+               ( matcher ) ->
+               {
+                  return
+                     Objects.nonNull( matcher.group( 1 ) )
+                        ? WordCoreUtil.PAGE_BREAK
+                        : new StringBuilder();
+               }
+            );
+      //@formatter:on
+   }
+
+   /**
+    * Removes footers and no data rights statements and replaces empty section breaks with page breaks. The result is
+    * the same as applying {@link #removeFootersAndNoDataRightsStatements} and then
+    * {@link #replaceEmptySectionBreaksWithPageBreaks}; the footer passes are skipped when the content has no footer or
+    * no data rights statement.
+    *
+    * @param input the Word ML to be processed.
+    * @return the Word ML with footers and no data rights statements removed and with empty section breaks replaced with
+    * page breaks. When no changes are made the provided {@link CharSequence}, <code>input</code>, is returned.
+    */
+
+   public static CharSequence cleanupFootersAndSectionBreaks(CharSequence input) {
+
+      var output = WordCoreUtil.removeFootersAndNoDataRightsStatementsWhenPresent(input);
+
+      return WordCoreUtil.replaceEmptySectionBreaksWithPageBreaks(output);
+   }
+
+   private static CharSequence removeFootersAndNoDataRightsStatementsWhenPresent(CharSequence input) {
+
+      //@formatter:off
+      return
+         WordCoreUtil.FOOTER_OR_DATA_RIGHTS_NO_ARTIFACT_FOUND_TEST_PATTERN.matcher( input ).find()
+            ? WordCoreUtil.removeFootersAndNoDataRightsStatements( input )
+            : input;
+      //@formatter:on
+   }
+
    /**
     * Removes footers from the Word ML and replaces page size tags.
     *
@@ -22,6 +22,9 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
    CompositeKeyHashMapTest.class,
+   LongArrayListTest.class,
+   LongHashMapTest.class,
+   LongHashSetTest.class,
    MatchLocationTest.class,
    PairTest.class,
    PropertyStoreTest.class,
@@ -0,0 +1,70 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.framework.jdk.core.type;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Test Case for {@link LongArrayList}
+ *
+ * @author agent
+ */
+public class LongArrayListTest {
+
+   @Test
+   public void testAddGetSort() {
+      LongArrayList list = new LongArrayList(1);
+      for (long value = 100; value > 0; value--) {
+         list.add(value);
+      }
+      list.add(Id.valueOf(0L));
+      assertEquals(101, list.size());
+      assertEquals(100L, list.get(0));
+      assertEquals(0L, list.get(100));
+      assertTrue(list.contains(50L));
+      assertFalse(list.contains(101L));
+
+      list.sort();
+      assertEquals(0L, list.get(0));
+      assertEquals(50, list.indexOf(50L));
+      assertEquals(50L, list.set(50, 500L));
+      assertEquals(500L, list.get(50));
+
+      list.clear();
+      assertTrue(list.isEmpty());
+   }
+
+   @Test(expected = IndexOutOfBoundsException.class)
+   public void testGetPastSize() {
+      LongArrayList list = new LongArrayList();
+      list.add(1L);
+      list.get(1);
+   }
+
+   @Test
+   public void testAsList() {
+      LongArrayList list = LongArrayList.of(Arrays.asList(Id.valueOf(3L), Id.valueOf(1L)));
+      assertArrayEquals(new long[] {3L, 1L}, list.toArray());
+
+      List<Id> view = list.asList(Id::valueOf);
+      assertEquals(Arrays.asList(Id.valueOf(3L), Id.valueOf(1L)), view);
+   }
+}
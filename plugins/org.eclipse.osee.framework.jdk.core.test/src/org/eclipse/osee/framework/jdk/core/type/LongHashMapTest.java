@@ -0,0 +1,125 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.framework.jdk.core.type;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Test Case for {@link LongHashMap}
+ *
+ * @author agent
+ */
+public class LongHashMapTest {
+
+   @Test
+   public void testPutGetRemove() {
+      LongHashMap<String> map = new LongHashMap<>();
+      assertNull(map.put(0L, "zero"));
+      assertNull(map.put(Id.valueOf(7L), "seven"));
+      assertEquals("zero", map.put(0L, "nothing"));
+      assertEquals(2, map.size());
+
+      assertEquals("nothing", map.get(0L));
+      assertEquals("seven", map.get(Id.valueOf(7L)));
+      assertNull(map.get(8L));
+      assertEquals("default", map.getOrDefault(8L, "default"));
+      assertTrue(map.containsKey(7L));
+
+      assertEquals("eight", map.computeIfAbsent(8L, key -> "eight"));
+      assertEquals("eight", map.computeIfAbsent(8L, key -> "other"));
+
+      assertEquals("seven", map.remove(7L));
+      assertNull(map.remove(7L));
+      assertFalse(map.containsKey(7L));
+      assertEquals(2, map.size());
+
+      map.clear();
+      assertTrue(map.isEmpty());
+   }
+
+   @Test(expected = NullPointerException.class)
+   public void testNullValue() {
+      new LongHashMap<String>().put(1L, null);
+   }
+
+   @Test
+   public void testMatchesHashMap() {
+      Random random = new Random(11);
+      LongHashMap<Integer> map = new LongHashMap<>(4);
+      Map<Long, Integer> expected = new HashMap<>();
+      for (int i = 0; i < 200_000; i++) {
+         long key = random.nextInt(20_000);
+         if (random.nextInt(3) == 0) {
+            assertEquals(expected.remove(key), map.remove(key));
+         } else {
+            assertEquals(expected.put(key, i), map.put(key, i));
+         }
+      }
+      assertEquals(expected.size(), map.size());
+      for (long key = 0; key < 20_000; key++) {
+         assertEquals(expected.get(key), map.get(key));
+      }
+      Map<Long, Integer> iterated = new HashMap<>();
+      map.forEach((key, value) -> assertNull(iterated.put(key, value)));
+      assertEquals(expected, iterated);
+      assertEquals(expected.size(), map.keySet().size());
+      assertEquals(expected.size(), map.values().size());
+   }
+
+   @Test
+   public void testAsMap() {
+      LongHashMap<String> map = new LongHashMap<>();
+      map.put(1L, "one");
+      map.put(2L, "two");
+      Map<Id, String> view = map.asMap(Id::valueOf);
+
+      assertEquals(2, view.size());
+      assertEquals("one", view.get(Id.valueOf(1L)));
+      assertEquals("two", view.get(2L));
+      assertTrue(view.containsKey(Id.valueOf(2L)));
+      for (Map.Entry<Id, String> entry : view.entrySet()) {
+         assertEquals(entry.getValue(), map.get(entry.getKey()));
+      }
+
+      view.put(Id.valueOf(3L), "three");
+      assertEquals("three", map.get(3L));
+      view.remove(Id.valueOf(1L));
+      assertFalse(map.containsKey(1L));
+   }
+
+   @Test
+   public void testFootprintOfMillionIds() {
+      int entries = LongHashSetTest.MILLION;
+      LongHashMap<String> map = new LongHashMap<>();
+      for (long id = 1; id <= entries; id++) {
+         map.put(id, "value");
+      }
+      assertEquals(entries, map.size());
+      assertEquals(LongHashing.tableSize(entries, 0.5f), map.capacity());
+
+      // parallel key and value arrays against a HashMap<Long, V> table, nodes and boxed keys
+      long longMapBytes = (long) map.capacity() * (Long.BYTES + LongHashSetTest.REFERENCE_BYTES);
+      long boxedBytes = (long) LongHashSetTest.hashMapTableSize(entries) * LongHashSetTest.REFERENCE_BYTES + //
+         (long) entries * (LongHashSetTest.NODE_BYTES + LongHashSetTest.BOXED_LONG_BYTES);
+      assertTrue(longMapBytes * 2 < boxedBytes);
+   }
+}
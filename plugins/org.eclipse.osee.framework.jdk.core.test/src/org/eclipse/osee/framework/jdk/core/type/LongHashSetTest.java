@@ -0,0 +1,143 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.framework.jdk.core.type;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+/**
+ * Test Case for {@link LongHashSet}
+ *
+ * @author agent
+ */
+public class LongHashSetTest {
+
+   static final int MILLION = 1_000_000;
+   // object sizes on a 64 bit JVM with compressed references
+   static final int REFERENCE_BYTES = 4;
+   static final int NODE_BYTES = 32;
+   static final int BOXED_LONG_BYTES = 16;
+
+   @Test
+   public void testAddContainsRemove() {
+      LongHashSet set = new LongHashSet();
+      assertTrue(set.isEmpty());
+      assertTrue(set.add(5L));
+      assertFalse(set.add(5L));
+      assertTrue(set.add(0L));
+      assertTrue(set.add(-1L));
+      assertTrue(set.add(Id.valueOf(42L)));
+      assertEquals(4, set.size());
+
+      assertTrue(set.contains(0L));
+      assertTrue(set.contains(-1L));
+      assertTrue(set.contains(Id.valueOf(5L)));
+      assertFalse(set.contains(6L));
+
+      assertTrue(set.remove(0L));
+      assertFalse(set.remove(0L));
+      assertFalse(set.contains(0L));
+      assertTrue(set.remove(Id.valueOf(42L)));
+      assertEquals(2, set.size());
+
+      long[] values = set.toArray();
+      Arrays.sort(values);
+      assertArrayEquals(new long[] {-1L, 5L}, values);
+
+      set.clear();
+      assertTrue(set.isEmpty());
+      assertFalse(set.contains(5L));
+   }
+
+   @Test
+   public void testMatchesHashSet() {
+      Random random = new Random(7);
+      LongHashSet set = new LongHashSet(4);
+      Set<Long> expected = new HashSet<>();
+      for (int i = 0; i < 200_000; i++) {
+         // a narrow range forces collisions, growth and removal of keys in the middle of probe sequences
+         long key = random.nextInt(20_000) - 100;
+         if (random.nextInt(3) == 0) {
+            assertEquals(expected.remove(key), set.remove(key));
+         } else {
+            assertEquals(expected.add(key), set.add(key));
+         }
+      }
+      assertEquals(expected.size(), set.size());
+      for (long key = -100; key < 19_900; key++) {
+         assertEquals(expected.contains(key), set.contains(key));
+      }
+
+      Set<Long> iterated = new HashSet<>();
+      PrimitiveIterator.OfLong iterator = set.iterator();
+      while (iterator.hasNext()) {
+         assertTrue(iterated.add(iterator.nextLong()));
+      }
+      assertEquals(expected, iterated);
+   }
+
+   @Test
+   public void testAsSet() {
+      LongHashSet set = LongHashSet.of(Arrays.asList(Id.valueOf(1L), Id.valueOf(2L), Id.valueOf(2L)));
+      Set<Id> view = set.asSet(Id::valueOf);
+
+      assertEquals(2, view.size());
+      assertTrue(view.contains(Id.valueOf(1L)));
+      assertTrue(view.contains(2L));
+      assertFalse(view.contains("1"));
+      assertEquals(new HashSet<>(Arrays.asList(Id.valueOf(1L), Id.valueOf(2L))), new HashSet<>(view));
+
+      view.add(Id.valueOf(3L));
+      assertTrue(set.contains(3L));
+      view.remove(Id.valueOf(1L));
+      assertFalse(set.contains(1L));
+   }
+
+   @Test
+   public void testFootprintOfMillionIds() {
+      LongHashSet set = new LongHashSet();
+      for (long id = 1; id <= MILLION; id++) {
+         set.add(id);
+      }
+      assertEquals(MILLION, set.size());
+      assertEquals(LongHashing.tableSize(MILLION, 0.5f), set.capacity());
+
+      long longSetBytes = (long) set.capacity() * Long.BYTES;
+      // a HashSet<Long> holds a table reference, a HashMap.Node and a boxed Long per id
+      long boxedBytes =
+         (long) hashMapTableSize(MILLION) * REFERENCE_BYTES + (long) MILLION * (NODE_BYTES + BOXED_LONG_BYTES);
+      assertEquals(16L * 1024 * 1024, longSetBytes);
+      assertTrue(longSetBytes * 3 < boxedBytes);
+   }
+
+   /**
+    * Table length java.util.HashMap grows to for the given number of entries at its default 0.75 load factor
+    */
+   static int hashMapTableSize(int entries) {
+      int tableSize = 16;
+      while (entries > tableSize * 0.75f) {
+         tableSize <<= 1;
+      }
+      return tableSize;
+   }
+}
@@ -15,6 +15,7 @@ package org.eclipse.osee.framework.jdk.core.util;
 
 import org.eclipse.osee.framework.jdk.core.util.annotation.AnnotationTestSuite;
 import org.eclipse.osee.framework.jdk.core.util.io.IoTestSuite;
+import org.eclipse.osee.framework.jdk.core.util.io.excel.ExcelWorkbookWriterTest;
 import org.eclipse.osee.framework.jdk.core.util.io.excel.pojo.ExcelPojoTestSuite;
 import org.eclipse.osee.framework.jdk.core.util.regex.RegexTestSuite;
 import org.eclipse.osee.framework.jdk.core.util.xml.XmlTestSuite;
@@ -29,6 +30,7 @@ import org.junit.runners.Suite;
    AnnotationTestSuite.class,
    IoTestSuite.class,
    ExcelPojoTestSuite.class,
+   ExcelWorkbookWriterTest.class,
    XmlTestSuite.class,
    CollectionsTest.class,
    CompareTest.class,
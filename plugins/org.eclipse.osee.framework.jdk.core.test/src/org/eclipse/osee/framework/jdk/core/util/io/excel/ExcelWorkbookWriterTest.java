@@ -0,0 +1,146 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.framework.jdk.core.util.io.excel;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFColor;
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.eclipse.osee.framework.jdk.core.type.OseeArgumentException;
+import org.eclipse.osee.framework.jdk.core.util.io.excel.ExcelWorkbookWriter.CELLSTYLE;
+import org.eclipse.osee.framework.jdk.core.util.io.excel.ExcelWorkbookWriter.HyperLinkType;
+import org.eclipse.osee.framework.jdk.core.util.io.excel.ExcelWorkbookWriter.WorkbookFormat;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class ExcelWorkbookWriterTest {
+
+   private static final int ROW_COUNT = 5_000;
+
+   private static XSSFWorkbook writeSheets(ExcelWorkbookWriter writer, ByteArrayOutputStream output) throws Exception {
+      writer.createRandomAccessSheet("Summary");
+      writer.createSheet("Data");
+      for (int i = 0; i < ROW_COUNT; i++) {
+         writer.writeRow(i, new Object[] {"row " + i, i, i * 0.5}, CELLSTYLE.BORDER_ALL);
+      }
+      writer.writeCell(ROW_COUNT, 0, "first", "'Summary'!A1", HyperLinkType.SHEET, CELLSTYLE.HYPERLINK);
+      writer.addMergedRegion(ROW_COUNT, ROW_COUNT, 0, 2);
+      writer.setTabColor(CELLSTYLE.GREEN);
+      writer.setColumnWidth(0, 6000);
+
+      writer.setActiveSheet("Summary");
+      writer.writeCell(5, 0, "written first");
+      writer.writeCell(0, 0, "written last", CELLSTYLE.BOLD);
+      writer.writeCellStringWithSuperscript(1, 0, "Message1", 7, 8, CELLSTYLE.GREEN);
+      writer.autoSizeAllColumns(1);
+
+      writer.writeWorkbook();
+      writer.closeWorkbook();
+      return new XSSFWorkbook(new ByteArrayInputStream(output.toByteArray()));
+   }
+
+   private static void assertWorkbook(XSSFWorkbook workbook) {
+      Assert.assertEquals(2, workbook.getNumberOfSheets());
+      Assert.assertEquals("Summary", workbook.getSheetName(0));
+      Assert.assertEquals("Data", workbook.getSheetName(1));
+
+      XSSFSheet data = workbook.getSheet("Data");
+      Assert.assertEquals(ROW_COUNT, data.getLastRowNum());
+      Assert.assertEquals("row 4321", data.getRow(4321).getCell(0).getStringCellValue());
+      Assert.assertEquals(4321.0, data.getRow(4321).getCell(1).getNumericCellValue(), 0.0);
+      Assert.assertEquals(2160.5, data.getRow(4321).getCell(2).getNumericCellValue(), 0.0);
+      Cell link = data.getRow(ROW_COUNT).getCell(0);
+      Assert.assertNotNull(link.getHyperlink());
+      Assert.assertEquals("'Summary'!A1", link.getHyperlink().getAddress());
+      Assert.assertEquals(BorderStyle.THIN, data.getRow(4321).getCell(0).getCellStyle().getBorderTop());
+      Assert.assertEquals(1, data.getNumMergedRegions());
+      Assert.assertEquals(6000, data.getColumnWidth(0));
+      XSSFColor tabColor = data.getTabColor();
+      Assert.assertNotNull(tabColor);
+
+      Sheet summary = workbook.getSheet("Summary");
+      Assert.assertEquals("written last", summary.getRow(0).getCell(0).getStringCellValue());
+      Assert.assertEquals("written first", summary.getRow(5).getCell(0).getStringCellValue());
+      Assert.assertEquals(2, summary.getRow(1).getCell(0).getRichStringCellValue().numFormattingRuns());
+   }
+
+   @Test
+   public void testInMemory() throws Exception {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      ExcelWorkbookWriter writer = new ExcelWorkbookWriter(output, WorkbookFormat.XLSX);
+      Assert.assertFalse(writer.isStreaming());
+      try (XSSFWorkbook workbook = writeSheets(writer, output)) {
+         assertWorkbook(workbook);
+      }
+   }
+
+   @Test
+   public void testStreaming() throws Exception {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      ExcelWorkbookWriter writer = new ExcelWorkbookWriter(output, 50);
+      Assert.assertTrue(writer.isStreaming());
+      try (XSSFWorkbook workbook = writeSheets(writer, output)) {
+         assertWorkbook(workbook);
+      }
+   }
+
+   @Test(expected = OseeArgumentException.class)
+   public void testStreamedRowAlreadyWritten() {
+      ExcelWorkbookWriter writer = new ExcelWorkbookWriter(new ByteArrayOutputStream(), 10);
+      try {
+         writer.createSheet("Data");
+         for (int i = 0; i < 100; i++) {
+            writer.writeCell(i, 0, "row " + i);
+         }
+         writer.writeCell(0, 1, "too late");
+      } finally {
+         writer.closeWorkbook();
+      }
+   }
+
+   @Test
+   public void testStreamedRowsAreWritten() throws Exception {
+      int rows = 20_000;
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      ExcelWorkbookWriter writer = new ExcelWorkbookWriter(output, ExcelWorkbookWriter.DEFAULT_ROW_ACCESS_WINDOW_SIZE);
+      writer.createSheet("Data");
+      for (int i = 0; i < rows; i++) {
+         writer.writeRow(i, new Object[] {"element " + i, i, "description of element " + i, i * 8});
+      }
+      writer.writeWorkbook();
+      writer.closeWorkbook();
+
+      try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(output.toByteArray()))) {
+         XSSFSheet data = workbook.getSheet("Data");
+         Assert.assertEquals(rows - 1, data.getLastRowNum());
+         for (int i = 0; i < rows; i++) {
+            XSSFRow row = data.getRow(i);
+            Assert.assertEquals(4, row.getLastCellNum());
+            Assert.assertEquals("element " + i, row.getCell(0).getStringCellValue());
+            Assert.assertEquals(i, row.getCell(1).getNumericCellValue(), 0.0);
+            Assert.assertEquals("description of element " + i, row.getCell(2).getStringCellValue());
+            Assert.assertEquals(i * 8, row.getCell(3).getNumericCellValue(), 0.0);
+         }
+      }
+   }
+}
@@ -0,0 +1,145 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.framework.jdk.core.type;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+/**
+ * Growable list of long ids backed by a long array. Use {@link #asList(LongFunction)} to hand the ids to an API that
+ * expects a {@link List} of tokens.
+ *
+ * @author agent
+ */
+public class LongArrayList {
+
+   private long[] elements;
+   private int size;
+
+   public LongArrayList() {
+      this(16);
+   }
+
+   public LongArrayList(int initialCapacity) {
+      elements = new long[Math.max(1, initialCapacity)];
+   }
+
+   public static LongArrayList of(Iterable<? extends Id> ids) {
+      LongArrayList list = new LongArrayList();
+      list.addAll(ids);
+      return list;
+   }
+
+   public void add(long value) {
+      if (size == elements.length) {
+         elements = Arrays.copyOf(elements, size + (size >> 1) + 1);
+      }
+      elements[size++] = value;
+   }
+
+   public void add(Id id) {
+      add(id.getId());
+   }
+
+   public void addAll(Iterable<? extends Id> ids) {
+      for (Id id : ids) {
+         add(id.getId());
+      }
+   }
+
+   public long get(int index) {
+      if (index < 0 || index >= size) {
+         throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+      }
+      return elements[index];
+   }
+
+   public long set(int index, long value) {
+      long previous = get(index);
+      elements[index] = value;
+      return previous;
+   }
+
+   public int indexOf(long value) {
+      for (int index = 0; index < size; index++) {
+         if (elements[index] == value) {
+            return index;
+         }
+      }
+      return -1;
+   }
+
+   public boolean contains(long value) {
+      return indexOf(value) >= 0;
+   }
+
+   public int size() {
+      return size;
+   }
+
+   public boolean isEmpty() {
+      return size == 0;
+   }
+
+   public void clear() {
+      size = 0;
+   }
+
+   public void sort() {
+      Arrays.sort(elements, 0, size);
+   }
+
+   public void forEach(LongConsumer consumer) {
+      for (int index = 0; index < size; index++) {
+         consumer.accept(elements[index]);
+      }
+   }
+
+   public long[] toArray() {
+      return Arrays.copyOf(elements, size);
+   }
+
+   /**
+    * @return a read only view of this list as tokens created on demand by the factory
+    */
+   public <T extends Id> List<T> asList(LongFunction<T> factory) {
+      return new AbstractList<T>() {
+         @Override
+         public T get(int index) {
+            return factory.apply(LongArrayList.this.get(index));
+         }
+
+         @Override
+         public int size() {
+            return size;
+         }
+      };
+   }
+
+   @Override
+   public String toString() {
+      StringBuilder builder = new StringBuilder("[");
+      for (int index = 0; index < size; index++) {
+         if (index > 0) {
+            builder.append(", ");
+         }
+         builder.append(elements[index]);
+      }
+      return builder.append(']').toString();
+   }
+}
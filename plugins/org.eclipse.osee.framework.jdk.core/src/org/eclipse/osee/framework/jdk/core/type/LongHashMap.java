@@ -0,0 +1,350 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.framework.jdk.core.type;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongFunction;
+
+/**
+ * Map from long ids to values held in parallel open addressing arrays, so keys are never boxed and no entry objects
+ * are allocated. Null values are not allowed; an empty slot is one without a value. Use {@link #asMap(LongFunction)} to
+ * hand the entries to an API that expects a {@link Map} keyed by tokens.
+ *
+ * @author agent
+ */
+public class LongHashMap<V> {
+
+   public interface EntryConsumer<V> {
+      void accept(long key, V value);
+   }
+
+   private static final float LOAD_FACTOR = 0.5f;
+
+   private long[] keys;
+   private Object[] values;
+   private int mask;
+   private int shift;
+   private int size;
+
+   public LongHashMap() {
+      this(16);
+   }
+
+   public LongHashMap(int expectedSize) {
+      allocate(LongHashing.tableSize(expectedSize, LOAD_FACTOR));
+   }
+
+   private void allocate(int capacity) {
+      keys = new long[capacity];
+      values = new Object[capacity];
+      mask = capacity - 1;
+      shift = Long.numberOfLeadingZeros(mask);
+   }
+
+   private int indexOf(long key) {
+      int index = LongHashing.index(key, shift);
+      while (values[index] != null) {
+         if (keys[index] == key) {
+            return index;
+         }
+         index = (index + 1) & mask;
+      }
+      return -1;
+   }
+
+   @SuppressWarnings("unchecked")
+   public V get(long key) {
+      int index = indexOf(key);
+      return index < 0 ? null : (V) values[index];
+   }
+
+   public V get(Id id) {
+      return get(id.getId());
+   }
+
+   public V getOrDefault(long key, V defaultValue) {
+      V value = get(key);
+      return value == null ? defaultValue : value;
+   }
+
+   public boolean containsKey(long key) {
+      return indexOf(key) >= 0;
+   }
+
+   public boolean containsKey(Id id) {
+      return containsKey(id.getId());
+   }
+
+   /**
+    * @return the previous value for the key or null if there was none
+    */
+   @SuppressWarnings("unchecked")
+   public V put(long key, V value) {
+      Objects.requireNonNull(value, "LongHashMap does not allow null values");
+      int index = LongHashing.index(key, shift);
+      Object current;
+      while ((current = values[index]) != null) {
+         if (keys[index] == key) {
+            values[index] = value;
+            return (V) current;
+         }
+         index = (index + 1) & mask;
+      }
+      keys[index] = key;
+      values[index] = value;
+      if (++size > keys.length * LOAD_FACTOR) {
+         rehash(keys.length << 1);
+      }
+      return null;
+   }
+
+   public V put(Id id, V value) {
+      return put(id.getId(), value);
+   }
+
+   public V computeIfAbsent(long key, LongFunction<? extends V> function) {
+      V value = get(key);
+      if (value == null) {
+         value = function.apply(key);
+         if (value != null) {
+            put(key, value);
+         }
+      }
+      return value;
+   }
+
+   /**
+    * @return the removed value or null if the key was not in the map
+    */
+   @SuppressWarnings("unchecked")
+   public V remove(long key) {
+      int index = indexOf(key);
+      if (index < 0) {
+         return null;
+      }
+      V value = (V) values[index];
+      shiftEntries(index);
+      size--;
+      return value;
+   }
+
+   public V remove(Id id) {
+      return remove(id.getId());
+   }
+
+   /**
+    * Closes the gap left by a removed entry by moving back any following entry whose probe sequence passes through the
+    * gap
+    */
+   private void shiftEntries(int gap) {
+      int index = gap;
+      while (true) {
+         index = (index + 1) & mask;
+         if (values[index] == null) {
+            keys[gap] = 0L;
+            values[gap] = null;
+            return;
+         }
+         int home = LongHashing.index(keys[index], shift);
+         if (gap <= index ? gap >= home || home > index : gap >= home && home > index) {
+            keys[gap] = keys[index];
+            values[gap] = values[index];
+            gap = index;
+         }
+      }
+   }
+
+   private void rehash(int capacity) {
+      long[] oldKeys = keys;
+      Object[] oldValues = values;
+      allocate(capacity);
+      for (int oldIndex = 0; oldIndex < oldValues.length; oldIndex++) {
+         if (oldValues[oldIndex] != null) {
+            int index = LongHashing.index(oldKeys[oldIndex], shift);
+            while (values[index] != null) {
+               index = (index + 1) & mask;
+            }
+            keys[index] = oldKeys[oldIndex];
+            values[index] = oldValues[oldIndex];
+         }
+      }
+   }
+
+   public int size() {
+      return size;
+   }
+
+   /**
+    * @return the length of the backing table, for tests that check its footprint
+    */
+   int capacity() {
+      return keys.length;
+   }
+
+   public boolean isEmpty() {
+      return size == 0;
+   }
+
+   public void clear() {
+      Arrays.fill(keys, 0L);
+      Arrays.fill(values, null);
+      size = 0;
+   }
+
+   @SuppressWarnings("unchecked")
+   public void forEach(EntryConsumer<? super V> consumer) {
+      for (int index = 0; index < values.length; index++) {
+         if (values[index] != null) {
+            consumer.accept(keys[index], (V) values[index]);
+         }
+      }
+   }
+
+   public LongHashSet keySet() {
+      LongHashSet keySet = new LongHashSet(size);
+      forEach((key, value) -> keySet.add(key));
+      return keySet;
+   }
+
+   /**
+    * @return a view of the values; the view reflects later changes to this map
+    */
+   public Collection<V> values() {
+      return new AbstractCollection<V>() {
+         @Override
+         public Iterator<V> iterator() {
+            return new SlotIterator<V>() {
+               @Override
+               @SuppressWarnings("unchecked")
+               V get(int index) {
+                  return (V) values[index];
+               }
+            };
+         }
+
+         @Override
+         public int size() {
+            return size;
+         }
+      };
+   }
+
+   /**
+    * @return a view of this map keyed by tokens created on demand by the factory; the view reflects later changes to
+    * this map
+    */
+   public <K extends Id> Map<K, V> asMap(LongFunction<K> factory) {
+      return new AbstractMap<K, V>() {
+         @Override
+         public Set<Map.Entry<K, V>> entrySet() {
+            return new AbstractSet<Map.Entry<K, V>>() {
+               @Override
+               public Iterator<Map.Entry<K, V>> iterator() {
+                  return new SlotIterator<Map.Entry<K, V>>() {
+                     @Override
+                     @SuppressWarnings("unchecked")
+                     Map.Entry<K, V> get(int index) {
+                        return new AbstractMap.SimpleImmutableEntry<>(factory.apply(keys[index]), (V) values[index]);
+                     }
+                  };
+               }
+
+               @Override
+               public int size() {
+                  return size;
+               }
+            };
+         }
+
+         @Override
+         public V get(Object object) {
+            Long key = LongHashing.toKey(object);
+            return key == null ? null : LongHashMap.this.get(key.longValue());
+         }
+
+         @Override
+         public boolean containsKey(Object object) {
+            Long key = LongHashing.toKey(object);
+            return key != null && LongHashMap.this.containsKey(key.longValue());
+         }
+
+         @Override
+         public V put(K key, V value) {
+            return LongHashMap.this.put(key.getId(), value);
+         }
+
+         @Override
+         public V remove(Object object) {
+            Long key = LongHashing.toKey(object);
+            return key == null ? null : LongHashMap.this.remove(key.longValue());
+         }
+
+         @Override
+         public int size() {
+            return size;
+         }
+      };
+   }
+
+   private abstract class SlotIterator<T> implements Iterator<T> {
+      private int index = nextIndex(0);
+
+      private int nextIndex(int start) {
+         int next = start;
+         while (next < values.length && values[next] == null) {
+            next++;
+         }
+         return next;
+      }
+
+      abstract T get(int index);
+
+      @Override
+      public boolean hasNext() {
+         return index < values.length;
+      }
+
+      @Override
+      public T next() {
+         if (!hasNext()) {
+            throw new NoSuchElementException();
+         }
+         T next = get(index);
+         index = nextIndex(index + 1);
+         return next;
+      }
+   }
+
+   @Override
+   public String toString() {
+      StringBuilder builder = new StringBuilder("{");
+      forEach((key, value) -> {
+         if (builder.length() > 1) {
+            builder.append(", ");
+         }
+         builder.append(key).append('=').append(value);
+      });
+      return builder.append('}').toString();
+   }
+}
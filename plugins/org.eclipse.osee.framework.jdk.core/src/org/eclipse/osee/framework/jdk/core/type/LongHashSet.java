@@ -0,0 +1,318 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.framework.jdk.core.type;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+/**
+ * Set of long ids held in a single open addressing table so that a million ids take a few megabytes instead of the
+ * tens of megabytes a {@link java.util.HashSet} of boxed ids or {@link Id} tokens takes. Use {@link #asSet(LongFunction)}
+ * to hand the ids to an API that expects a {@link Set} of tokens.
+ *
+ * @author agent
+ */
+public class LongHashSet {
+
+   private static final long FREE = 0L;
+   private static final float LOAD_FACTOR = 0.5f;
+
+   private long[] keys;
+   private int mask;
+   private int shift;
+   private int size;
+   private boolean hasFreeKey;
+
+   public LongHashSet() {
+      this(16);
+   }
+
+   public LongHashSet(int expectedSize) {
+      allocate(LongHashing.tableSize(expectedSize, LOAD_FACTOR));
+   }
+
+   public static LongHashSet of(Iterable<? extends Id> ids) {
+      LongHashSet set = new LongHashSet();
+      set.addAll(ids);
+      return set;
+   }
+
+   private void allocate(int capacity) {
+      keys = new long[capacity];
+      mask = capacity - 1;
+      shift = Long.numberOfLeadingZeros(mask);
+   }
+
+   /**
+    * @return true if the id was not already in the set
+    */
+   public boolean add(long key) {
+      if (key == FREE) {
+         if (hasFreeKey) {
+            return false;
+         }
+         hasFreeKey = true;
+         size++;
+         return true;
+      }
+      int index = LongHashing.index(key, shift);
+      long current;
+      while ((current = keys[index]) != FREE) {
+         if (current == key) {
+            return false;
+         }
+         index = (index + 1) & mask;
+      }
+      keys[index] = key;
+      if (++size > keys.length * LOAD_FACTOR) {
+         rehash(keys.length << 1);
+      }
+      return true;
+   }
+
+   public boolean add(Id id) {
+      return add(id.getId());
+   }
+
+   public void addAll(Iterable<? extends Id> ids) {
+      for (Id id : ids) {
+         add(id.getId());
+      }
+   }
+
+   public boolean contains(long key) {
+      if (key == FREE) {
+         return hasFreeKey;
+      }
+      int index = LongHashing.index(key, shift);
+      long current;
+      while ((current = keys[index]) != FREE) {
+         if (current == key) {
+            return true;
+         }
+         index = (index + 1) & mask;
+      }
+      return false;
+   }
+
+   public boolean contains(Id id) {
+      return contains(id.getId());
+   }
+
+   /**
+    * @return true if the id was in the set
+    */
+   public boolean remove(long key) {
+      if (key == FREE) {
+         if (hasFreeKey) {
+            hasFreeKey = false;
+            size--;
+            return true;
+         }
+         return false;
+      }
+      int index = LongHashing.index(key, shift);
+      long current;
+      while ((current = keys[index]) != FREE) {
+         if (current == key) {
+            shiftKeys(index);
+            size--;
+            return true;
+         }
+         index = (index + 1) & mask;
+      }
+      return false;
+   }
+
+   public boolean remove(Id id) {
+      return remove(id.getId());
+   }
+
+   /**
+    * Closes the gap left by a removed key by moving back any following key whose probe sequence passes through the gap
+    */
+   private void shiftKeys(int gap) {
+      int index = gap;
+      while (true) {
+         index = (index + 1) & mask;
+         long current = keys[index];
+         if (current == FREE) {
+            keys[gap] = FREE;
+            return;
+         }
+         int home = LongHashing.index(current, shift);
+         if (gap <= index ? gap >= home || home > index : gap >= home && home > index) {
+            keys[gap] = current;
+            gap = index;
+         }
+      }
+   }
+
+   private void rehash(int capacity) {
+      long[] oldKeys = keys;
+      allocate(capacity);
+      for (long key : oldKeys) {
+         if (key != FREE) {
+            int index = LongHashing.index(key, shift);
+            while (keys[index] != FREE) {
+               index = (index + 1) & mask;
+            }
+            keys[index] = key;
+         }
+      }
+   }
+
+   public int size() {
+      return size;
+   }
+
+   /**
+    * @return the length of the backing table, for tests that check its footprint
+    */
+   int capacity() {
+      return keys.length;
+   }
+
+   public boolean isEmpty() {
+      return size == 0;
+   }
+
+   public void clear() {
+      Arrays.fill(keys, FREE);
+      hasFreeKey = false;
+      size = 0;
+   }
+
+   public void forEach(LongConsumer consumer) {
+      if (hasFreeKey) {
+         consumer.accept(FREE);
+      }
+      for (long key : keys) {
+         if (key != FREE) {
+            consumer.accept(key);
+         }
+      }
+   }
+
+   public long[] toArray() {
+      long[] array = new long[size];
+      int index = 0;
+      if (hasFreeKey) {
+         array[index++] = FREE;
+      }
+      for (long key : keys) {
+         if (key != FREE) {
+            array[index++] = key;
+         }
+      }
+      return array;
+   }
+
+   public PrimitiveIterator.OfLong iterator() {
+      return new PrimitiveIterator.OfLong() {
+         private int index = hasFreeKey ? -1 : nextIndex(0);
+
+         private int nextIndex(int start) {
+            int next = start;
+            while (next < keys.length && keys[next] == FREE) {
+               next++;
+            }
+            return next;
+         }
+
+         @Override
+         public boolean hasNext() {
+            return index < keys.length;
+         }
+
+         @Override
+         public long nextLong() {
+            if (!hasNext()) {
+               throw new NoSuchElementException();
+            }
+            long key = index < 0 ? FREE : keys[index];
+            index = nextIndex(index + 1);
+            return key;
+         }
+      };
+   }
+
+   /**
+    * @return a view of this set as tokens created on demand by the factory; the view reflects later changes to this set
+    */
+   public <T extends Id> Set<T> asSet(LongFunction<T> factory) {
+      return new AbstractSet<T>() {
+         @Override
+         public Iterator<T> iterator() {
+            PrimitiveIterator.OfLong iterator = LongHashSet.this.iterator();
+            return new Iterator<T>() {
+               @Override
+               public boolean hasNext() {
+                  return iterator.hasNext();
+               }
+
+               @Override
+               public T next() {
+                  return factory.apply(iterator.nextLong());
+               }
+            };
+         }
+
+         @Override
+         public boolean contains(Object object) {
+            Long key = LongHashing.toKey(object);
+            return key != null && LongHashSet.this.contains(key.longValue());
+         }
+
+         @Override
+         public boolean add(T id) {
+            return LongHashSet.this.add(id.getId());
+         }
+
+         @Override
+         public boolean remove(Object object) {
+            Long key = LongHashing.toKey(object);
+            return key != null && LongHashSet.this.remove(key.longValue());
+         }
+
+         @Override
+         public void clear() {
+            LongHashSet.this.clear();
+         }
+
+         @Override
+         public int size() {
+            return size;
+         }
+      };
+   }
+
+   @Override
+   public String toString() {
+      StringBuilder builder = new StringBuilder("[");
+      forEach(key -> {
+         if (builder.length() > 1) {
+            builder.append(", ");
+         }
+         builder.append(key);
+      });
+      return builder.append(']').toString();
+   }
+}
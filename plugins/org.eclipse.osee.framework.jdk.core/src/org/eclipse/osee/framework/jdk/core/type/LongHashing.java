@@ -0,0 +1,62 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.framework.jdk.core.type;
+
+/**
+ * Table sizing and hashing shared by the primitive long collections
+ *
+ * @author agent
+ */
+final class LongHashing {
+
+   private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+   private static final int MAX_CAPACITY = 1 << 30;
+
+   private LongHashing() {
+      // Utility class
+   }
+
+   /**
+    * @return the power of two table length that holds the expected number of keys without exceeding the load factor
+    */
+   static int tableSize(int expectedSize, float loadFactor) {
+      long needed = (long) Math.ceil(Math.max(2, expectedSize) / loadFactor);
+      if (needed >= MAX_CAPACITY) {
+         return MAX_CAPACITY;
+      }
+      return Math.max(4, Integer.highestOneBit((int) needed - 1) << 1);
+   }
+
+   /**
+    * Fibonacci hashing spreads sequential ids, which is what database ids usually are, evenly over the table
+    *
+    * @param shift 64 minus the number of bits in the table index
+    */
+   static int index(long key, int shift) {
+      return (int) ((key * GOLDEN_RATIO) >>> shift);
+   }
+
+   /**
+    * @return the long value of an {@link Id} or boxed integral number, or null for anything else
+    */
+   static Long toKey(Object object) {
+      if (object instanceof Id) {
+         return ((Id) object).getId();
+      } else if (object instanceof Long || object instanceof Integer) {
+         return ((Number) object).longValue();
+      }
+      return null;
+   }
+}
@@ -36,6 +36,8 @@ import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
 import org.apache.poi.xssf.usermodel.XSSFColor;
 import org.apache.poi.xssf.usermodel.XSSFRichTextString;
@@ -46,10 +48,19 @@ import org.eclipse.osee.framework.jdk.core.util.DateUtil;
 import org.eclipse.osee.framework.jdk.core.util.Strings;
 
 /**
+ * Writes XLS and XLSX workbooks. By default the whole workbook is built in memory before it is written. The streaming
+ * mode, available for XLSX, keeps only a window of the most recent rows of each sheet in memory and spills older rows
+ * to a compressed temporary file, so very large workbooks can be written with a small, fixed amount of memory. In
+ * streaming mode rows must be written in ascending order and only rows still in the window can be changed; sheets that
+ * are filled in any other order, or that need exact auto sizing or rich text, should be created with
+ * {@link #createRandomAccessSheet(String)}.
+ *
  * @author Ryan T. Baldwin
  */
 public class ExcelWorkbookWriter {
 
+   public static final int DEFAULT_ROW_ACCESS_WINDOW_SIZE = 100;
+
    private final OutputStream outputStream;
    private final Workbook workbook;
    private final WorkbookFormat format;
@@ -68,6 +79,26 @@ public class ExcelWorkbookWriter {
       this.cellStyles = new HashMap<>();
    }
 
+   /**
+    * Creates a writer in streaming mode
+    *
+    * @param rowAccessWindowSize number of rows of each streamed sheet kept in memory
+    */
+   public ExcelWorkbookWriter(OutputStream outputStream, int rowAccessWindowSize) {
+      if (rowAccessWindowSize < 1) {
+         throw new OseeArgumentException("Row access window size must be positive, not %s", rowAccessWindowSize);
+      }
+      this.outputStream = outputStream;
+      this.workbook = new SXSSFWorkbook(new XSSFWorkbook(), rowAccessWindowSize, true, false);
+      this.format = WorkbookFormat.XLSX;
+      this.sheets = new HashMap<>();
+      this.cellStyles = new HashMap<>();
+   }
+
+   public boolean isStreaming() {
+      return workbook instanceof SXSSFWorkbook;
+   }
+
    public void writeWorkbook() {
       try {
          workbook.write(outputStream);
@@ -78,6 +109,9 @@ public class ExcelWorkbookWriter {
 
    public void closeWorkbook() {
       try {
+         if (isStreaming()) {
+            ((SXSSFWorkbook) workbook).dispose();
+         }
          workbook.close();
       } catch (IOException ex) {
          System.out.println(ex);
@@ -91,6 +125,22 @@ public class ExcelWorkbookWriter {
       activeSheet = sheet;
    }
 
+   /**
+    * Creates a sheet whose rows all stay in memory so they can be written in any order. In streaming mode the sheet is
+    * created directly in the underlying XSSF workbook, so it also supports exact auto sizing and rich text; otherwise
+    * this is the same as {@link #createSheet(String)}.
+    */
+   public void createRandomAccessSheet(String sheetName) {
+      if (!isStreaming()) {
+         createSheet(sheetName);
+         return;
+      }
+      Sheet sheet = getXSSFWorkbook().createSheet(sheetName);
+      sheet.setZoom(defaultZoom);
+      sheets.put(sheetName, sheet);
+      activeSheet = sheet;
+   }
+
    public void setActiveSheet(String sheetName) {
       if (sheets.containsKey(sheetName)) {
          activeSheet = sheets.get(sheetName);
@@ -103,9 +153,13 @@ public class ExcelWorkbookWriter {
       if (!isXSSF() || style == null || style.equals(CELLSTYLE.NONE)) {
          return;
       }
-      XSSFSheet sheet = (XSSFSheet) activeSheet;
       IndexedColors color = getIndexedColor(style);
-      sheet.setTabColor(new XSSFColor(color, ((XSSFWorkbook) workbook).getStylesSource().getIndexedColors()));
+      XSSFColor tabColor = new XSSFColor(color, getXSSFWorkbook().getStylesSource().getIndexedColors());
+      if (activeSheet instanceof SXSSFSheet) {
+         ((SXSSFSheet) activeSheet).setTabColor(tabColor);
+      } else {
+         ((XSSFSheet) activeSheet).setTabColor(tabColor);
+      }
    }
 
    public List<String> getSheetNames() {
@@ -152,15 +206,17 @@ public class ExcelWorkbookWriter {
 
    public void setRowHeight(int rowIndex, int height) {
       checkActiveSheet();
-      Row row = activeSheet.getRow(rowIndex);
-      if (row == null) {
-         row = activeSheet.createRow(rowIndex);
-      }
-      row.setHeight((short) height);
+      getRow(rowIndex).setHeight((short) height);
    }
 
+   /**
+    * On a streamed sheet only the rows still in memory are measured
+    */
    public void autoSizeAllColumns(int numColumns) {
       checkActiveSheet();
+      if (activeSheet instanceof SXSSFSheet) {
+         ((SXSSFSheet) activeSheet).trackAllColumnsForAutoSizing();
+      }
       for (int i = 0; i < numColumns; i++) {
          activeSheet.autoSizeColumn(i);
       }
@@ -215,6 +271,9 @@ public class ExcelWorkbookWriter {
       }
    }
 
+   /**
+    * The superscript formatting is lost on a streamed sheet because streamed cells hold plain strings
+    */
    public void writeCellStringWithSuperscript(int rowIndex, int cellIndex, String value, int superscriptStart,
       int superscriptEnd, CELLSTYLE superscriptColor, CELLSTYLE... styles) {
       Cell cell = getCell(rowIndex, cellIndex);
@@ -240,11 +299,20 @@ public class ExcelWorkbookWriter {
 
    private Cell getCell(int rowIndex, int cellIndex) {
       checkActiveSheet();
+      return getRow(rowIndex).createCell(cellIndex);
+   }
+
+   private Row getRow(int rowIndex) {
       Row row = activeSheet.getRow(rowIndex);
       if (row == null) {
+         if (activeSheet instanceof SXSSFSheet && rowIndex <= ((SXSSFSheet) activeSheet).getLastFlushedRowNum()) {
+            throw new OseeArgumentException(
+               "Row %s of sheet %s has already been streamed to disk; create the sheet with createRandomAccessSheet to write rows out of order",
+               rowIndex, activeSheet.getSheetName());
+         }
          row = activeSheet.createRow(rowIndex);
       }
-      return row.createCell(cellIndex);
+      return row;
    }
 
    private CellStyle createCellStyle(CELLSTYLE... styles) {
@@ -404,6 +472,9 @@ public class ExcelWorkbookWriter {
    }
 
    private XSSFWorkbook getXSSFWorkbook() {
+      if (isStreaming()) {
+         return ((SXSSFWorkbook) workbook).getXSSFWorkbook();
+      }
       return (XSSFWorkbook) workbook;
    }
 
@@ -13,6 +13,7 @@
 
 package org.eclipse.osee.framework.skynet.core;
 
+import org.eclipse.osee.framework.skynet.core.artifact.ArtifactTestSuite;
 import org.eclipse.osee.framework.skynet.core.artifact.search.ArtifactSearchTestSuite;
 import org.eclipse.osee.framework.skynet.core.event.EventTestSuite;
 import org.eclipse.osee.framework.skynet.core.httpRequests.CommitBranchHttpRequestOperationTest;
@@ -28,6 +29,7 @@ import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+   ArtifactTestSuite.class,
    ArtifactSearchTestSuite.class,
    EventTestSuite.class,
    CommitBranchHttpRequestOperationTest.class,
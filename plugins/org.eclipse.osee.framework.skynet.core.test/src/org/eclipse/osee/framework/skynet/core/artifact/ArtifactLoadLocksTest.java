@@ -0,0 +1,136 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.framework.skynet.core.artifact;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import org.eclipse.osee.framework.core.data.ArtifactToken;
+import org.eclipse.osee.framework.core.enums.CoreBranches;
+import org.junit.Test;
+
+/**
+ * Test Case for {@link ArtifactLoadLocks}
+ *
+ * @author agent
+ */
+public class ArtifactLoadLocksTest {
+
+   private static final ArtifactToken ARTIFACT = ArtifactToken.valueOf(11L, CoreBranches.COMMON);
+
+   @Test
+   public void testClaimAndRelease() {
+      ArtifactLoadLocks loadLocks = new ArtifactLoadLocks();
+      Map<ArtifactToken, ReentrantLock> locks = new HashMap<>();
+
+      assertTrue(loadLocks.claim(ARTIFACT, locks));
+      // the claiming thread may claim again while it holds the lock
+      assertTrue(loadLocks.claim(ARTIFACT, locks));
+      assertTrue(locks.isEmpty());
+      assertEquals(1, loadLocks.size());
+
+      loadLocks.release(ARTIFACT);
+      assertEquals(0, loadLocks.size());
+   }
+
+   @Test
+   public void testOtherThreadWaitsForLoad() throws Exception {
+      ArtifactLoadLocks loadLocks = new ArtifactLoadLocks();
+      assertTrue(loadLocks.claim(ARTIFACT, new HashMap<>()));
+
+      ExecutorService executor = Executors.newSingleThreadExecutor();
+      try {
+         Map<ArtifactToken, ReentrantLock> locks = new HashMap<>();
+         assertFalse(executor.submit(() -> loadLocks.claim(ARTIFACT, locks)).get());
+         ReentrantLock lock = locks.get(ARTIFACT);
+         assertTrue(lock.isLocked());
+
+         // a thread that does not hold the lock can not release it
+         executor.submit(() -> loadLocks.release(ARTIFACT)).get();
+         assertEquals(1, loadLocks.size());
+
+         Future<Boolean> waiter = executor.submit(() -> {
+            lock.lock();
+            lock.unlock();
+            return true;
+         });
+         loadLocks.release(ARTIFACT);
+         assertTrue(waiter.get(10, TimeUnit.SECONDS));
+         assertFalse(lock.isLocked());
+         assertEquals(0, loadLocks.size());
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+
+   @Test
+   public void testConcurrentClaimsLoadOnce() throws Exception {
+      int threads = 8;
+      int rounds = 200;
+      ArtifactLoadLocks loadLocks = new ArtifactLoadLocks();
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      try {
+         for (int round = 0; round < rounds; round++) {
+            ArtifactToken artifact = ArtifactToken.valueOf(round + 1, CoreBranches.COMMON);
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch claimed = new CountDownLatch(threads);
+            AtomicInteger loaders = new AtomicInteger();
+            Callable<ReentrantLock> claim = () -> {
+               Map<ArtifactToken, ReentrantLock> locks = new HashMap<>();
+               start.await();
+               boolean load = loadLocks.claim(artifact, locks);
+               claimed.countDown();
+               if (load) {
+                  loaders.incrementAndGet();
+                  claimed.await();
+                  loadLocks.release(artifact);
+                  return null;
+               }
+               return locks.get(artifact);
+            };
+            Future<?>[] futures = new Future<?>[threads];
+            for (int i = 0; i < threads; i++) {
+               futures[i] = executor.submit(claim);
+            }
+            start.countDown();
+            ReentrantLock loaderLock = null;
+            for (Future<?> future : futures) {
+               ReentrantLock lock = (ReentrantLock) future.get(10, TimeUnit.SECONDS);
+               if (lock != null) {
+                  if (loaderLock != null) {
+                     assertSame(loaderLock, lock);
+                  }
+                  loaderLock = lock;
+               }
+            }
+            assertEquals(1, loaders.get());
+            assertEquals(0, loadLocks.size());
+         }
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+}
@@ -0,0 +1,28 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.framework.skynet.core.artifact;
+
+import org.eclipse.osee.framework.skynet.core.artifact.cache.ArtifactIdCacheTest;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+@Suite.SuiteClasses({ArtifactIdCacheTest.class, ArtifactLoadLocksTest.class})
+/**
+ * @author agent
+ */
+public class ArtifactTestSuite {
+   // Test Suite
+}
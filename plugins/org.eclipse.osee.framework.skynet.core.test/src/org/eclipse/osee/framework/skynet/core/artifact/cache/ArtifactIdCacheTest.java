@@ -0,0 +1,160 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.framework.skynet.core.artifact.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import org.eclipse.osee.framework.core.data.ArtifactId;
+import org.eclipse.osee.framework.core.data.ArtifactToken;
+import org.eclipse.osee.framework.core.data.BranchToken;
+import org.eclipse.osee.framework.core.enums.CoreArtifactTypes;
+import org.eclipse.osee.framework.skynet.core.artifact.Artifact;
+import org.junit.Test;
+
+/**
+ * Test Case for {@link ArtifactIdCache}
+ *
+ * @author agent
+ */
+public class ArtifactIdCacheTest {
+
+   private static final BranchToken BRANCH_A = BranchToken.create(3001L, "Branch A");
+   private static final BranchToken BRANCH_B = BranchToken.create(3002L, "Branch B");
+
+   private static ArtifactIdCache newCache(int recentCapacity) {
+      return new ArtifactIdCache(16, recentCapacity, Collections.singleton(CoreArtifactTypes.User));
+   }
+
+   private static Artifact artifact(long id, BranchToken branch, boolean isDirty) {
+      Artifact artifact = new Artifact(id, branch);
+      if (isDirty) {
+         artifact.setArtifactType(CoreArtifactTypes.GeneralData);
+      }
+      return artifact;
+   }
+
+   @Test
+   public void testGetByIdAndGuid() {
+      ArtifactIdCache cache = newCache(100);
+      Artifact artifact = artifact(5L, BRANCH_A, false);
+      cache.cache(artifact);
+
+      assertSame(artifact, cache.getById(ArtifactToken.valueOf(5L, BRANCH_A)));
+      assertSame(artifact, cache.getByGuid(artifact.getGuid(), BRANCH_A));
+      assertNull(cache.getById(ArtifactToken.valueOf(5L, BRANCH_B)));
+      assertNull(cache.getById(ArtifactToken.valueOf(6L, BRANCH_A)));
+
+      ArtifactCacheStatistics statistics = cache.getStatistics();
+      assertEquals(2, statistics.getHits());
+      assertEquals(2, statistics.getMisses());
+   }
+
+   @Test
+   public void testRecentTierKeyedByBranch() {
+      ArtifactIdCache cache = newCache(100);
+      Artifact onA = artifact(5L, BRANCH_A, false);
+      Artifact onB = artifact(5L, BRANCH_B, false);
+      cache.cache(onA);
+      cache.cache(onB);
+
+      assertEquals(2, cache.getStatistics().getRecentSize());
+      assertSame(onA, cache.getById(ArtifactToken.valueOf(5L, BRANCH_A)));
+      assertSame(onB, cache.getById(ArtifactToken.valueOf(5L, BRANCH_B)));
+   }
+
+   @Test
+   public void testDeCacheBranch() {
+      ArtifactIdCache cache = newCache(100);
+      Artifact onA = artifact(5L, BRANCH_A, false);
+      Artifact dirtyOnA = artifact(6L, BRANCH_A, true);
+      Artifact onB = artifact(5L, BRANCH_B, false);
+      cache.cache(onA);
+      cache.cache(dirtyOnA);
+      cache.cache(onB);
+
+      cache.deCache(BRANCH_A);
+
+      assertNull(cache.getById(ArtifactToken.valueOf(5L, BRANCH_A)));
+      assertNull(cache.getById(ArtifactToken.valueOf(6L, BRANCH_A)));
+      assertSame(onB, cache.getById(ArtifactToken.valueOf(5L, BRANCH_B)));
+      ArtifactCacheStatistics statistics = cache.getStatistics();
+      assertEquals(1, statistics.getRecentSize());
+      assertEquals(1, statistics.getBranches());
+      assertEquals(2, statistics.getBranchEvictions());
+   }
+
+   @Test
+   public void testDeCacheArtifact() {
+      ArtifactIdCache cache = newCache(100);
+      Artifact onA = artifact(5L, BRANCH_A, false);
+      Artifact onB = artifact(5L, BRANCH_B, false);
+      cache.cache(onA);
+      cache.cache(onB);
+
+      cache.deCache(onA);
+
+      assertNull(cache.getById(ArtifactToken.valueOf(5L, BRANCH_A)));
+      assertNull(cache.getByGuid(onA.getGuid(), BRANCH_A));
+      assertSame(onB, cache.getById(ArtifactToken.valueOf(5L, BRANCH_B)));
+      assertEquals(1, cache.getStatistics().getRecentSize());
+   }
+
+   @Test
+   public void testRecentTierIsBounded() {
+      ArtifactIdCache cache = newCache(32);
+      for (long id = 1; id <= 500; id++) {
+         cache.cache(artifact(id, BRANCH_A, false));
+      }
+
+      ArtifactCacheStatistics statistics = cache.getStatistics();
+      assertTrue(statistics.getRecentSize() <= 32);
+      assertEquals(500 - statistics.getRecentSize(), statistics.getRecentEvictions());
+   }
+
+   @Test
+   public void testDirtiesAndEternalTypesAreHeldStrongly() {
+      ArtifactIdCache cache = newCache(0);
+      Artifact dirty = artifact(5L, BRANCH_A, true);
+      Artifact user = new Artifact(6L, BRANCH_A, CoreArtifactTypes.User);
+
+      assertSame(dirty, cache.cache(dirty));
+      assertSame(user, cache.cache(user));
+      assertTrue(cache.cache(artifact(7L, BRANCH_A, false)) instanceof WeakReference);
+      assertEquals(Collections.singletonList(dirty), new ArrayList<>(cache.getAllDirties()));
+   }
+
+   @Test
+   public void testViewsAreCachedSeparately() {
+      ArtifactIdCache cache = newCache(100);
+      BranchToken view = BranchToken.create(BRANCH_A.getId(), "Branch A", ArtifactId.valueOf(77L));
+      Artifact onBranch = artifact(5L, BRANCH_A, false);
+      Artifact onView = artifact(5L, view, false);
+      cache.cache(onBranch);
+      cache.cache(onView);
+
+      assertSame(onBranch, cache.getById(ArtifactToken.valueOf(5L, BRANCH_A)));
+      assertSame(onView, cache.getById(ArtifactToken.valueOf(5L, view)));
+      assertEquals(2, cache.getStatistics().getRecentSize());
+
+      cache.deCache(BRANCH_A);
+      assertNull(cache.getById(ArtifactToken.valueOf(5L, view)));
+      assertEquals(0, cache.getStatistics().getRecentSize());
+   }
+}
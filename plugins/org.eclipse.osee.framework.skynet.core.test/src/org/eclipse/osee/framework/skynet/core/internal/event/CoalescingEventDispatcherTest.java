@@ -0,0 +1,188 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.framework.skynet.core.internal.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.osee.framework.core.data.ArtifactTypeToken;
+import org.eclipse.osee.framework.core.data.BranchId;
+import org.eclipse.osee.framework.core.data.IdeClientSession;
+import org.eclipse.osee.framework.core.data.TransactionToken;
+import org.eclipse.osee.framework.core.event.FrameworkEvent;
+import org.eclipse.osee.framework.skynet.core.event.EventSystemPreferences;
+import org.eclipse.osee.framework.skynet.core.event.listener.IEventListener;
+import org.eclipse.osee.framework.skynet.core.event.model.ArtifactEvent;
+import org.eclipse.osee.framework.skynet.core.event.model.ArtifactEvent.ArtifactEventType;
+import org.eclipse.osee.framework.skynet.core.event.model.EventBasicGuidArtifact;
+import org.eclipse.osee.framework.skynet.core.event.model.EventModType;
+import org.eclipse.osee.framework.skynet.core.event.model.Sender;
+import org.eclipse.osee.framework.skynet.core.event.model.TransactionEvent;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test Case for {@link CoalescingEventDispatcher}
+ *
+ * @author agent
+ */
+public class CoalescingEventDispatcherTest {
+
+   private static final BranchId BRANCH_1 = BranchId.valueOf(11L);
+   private static final BranchId BRANCH_2 = BranchId.valueOf(12L);
+
+   private ScheduledExecutorService executor;
+   private EventSystemPreferences preferences;
+   private CoalescingEventDispatcher dispatcher;
+   private Sender sender;
+
+   @Before
+   public void setup() {
+      executor = Executors.newScheduledThreadPool(2, new OseeEventThreadFactory("Test Event Dispatch"));
+      preferences = new EventSystemPreferences();
+      preferences.setCoalesceWindowMillis(100);
+      dispatcher = new CoalescingEventDispatcher(preferences, executor);
+      IdeClientSession session = new IdeClientSession();
+      session.setId("test session");
+      sender = Sender.createSender("test", session);
+   }
+
+   @After
+   public void tearDown() {
+      executor.shutdownNow();
+   }
+
+   @Test
+   public void testCoalesceWithinWindow() throws InterruptedException {
+      RecordingHandler handler = new RecordingHandler(1);
+      IEventListener listener = new IEventListener() {
+         // recorded by the handler
+      };
+
+      List<String> guids = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+         ArtifactEvent event = new ArtifactEvent(BRANCH_1, TransactionToken.valueOf(i + 1, BRANCH_1),
+            ArtifactEventType.UPDATE_ARTIFACTS);
+         EventBasicGuidArtifact guidArt =
+            new EventBasicGuidArtifact(EventModType.Added, BRANCH_1, ArtifactTypeToken.SENTINEL);
+         guids.add(guidArt.getGuid());
+         event.addArtifact(guidArt);
+         if (i > 0) {
+            // the same change reported again must only be delivered once
+            event.addArtifact(new EventBasicGuidArtifact(EventModType.Added, BRANCH_1, ArtifactTypeToken.SENTINEL,
+               guids.get(i - 1)));
+         }
+         dispatcher.dispatch(listener, handler, sender, event);
+      }
+      handler.await();
+
+      Assert.assertEquals(1, handler.events.size());
+      ArtifactEvent delivered = (ArtifactEvent) handler.events.get(0);
+      Assert.assertEquals(100, delivered.getArtifacts().size());
+      Assert.assertEquals(Long.valueOf(100), delivered.getTransactionId().getId());
+      for (int i = 0; i < 100; i++) {
+         Assert.assertEquals(guids.get(i), delivered.getArtifacts().get(i).getGuid());
+      }
+
+      ListenerDispatchStatistics statistics = dispatcher.getStatistics().get(0);
+      Assert.assertEquals(1, statistics.getDelivered());
+      Assert.assertEquals(99, statistics.getCoalesced());
+      Assert.assertTrue(statistics.getLastLagMillis() >= 0);
+   }
+
+   @Test
+   public void testOrderKeptAcrossBranchesAndTypes() throws InterruptedException {
+      RecordingHandler handler = new RecordingHandler(4);
+      IEventListener listener = new IEventListener() {
+         // recorded by the handler
+      };
+
+      dispatcher.dispatch(listener, handler, sender, new ArtifactEvent(BRANCH_1));
+      dispatcher.dispatch(listener, handler, sender, new ArtifactEvent(BRANCH_2));
+      dispatcher.dispatch(listener, handler, sender, new ArtifactEvent(BRANCH_2));
+      dispatcher.dispatch(listener, handler, sender, new TransactionEvent());
+      dispatcher.dispatch(listener, handler, sender, new ArtifactEvent(BRANCH_1));
+      handler.await();
+
+      Assert.assertEquals(4, handler.events.size());
+      Assert.assertEquals(BRANCH_1, ((ArtifactEvent) handler.events.get(0)).getBranch());
+      Assert.assertEquals(BRANCH_2, ((ArtifactEvent) handler.events.get(1)).getBranch());
+      Assert.assertTrue(handler.events.get(2) instanceof TransactionEvent);
+      Assert.assertEquals(BRANCH_1, ((ArtifactEvent) handler.events.get(3)).getBranch());
+   }
+
+   @Test
+   public void testSlowListenerDoesNotDelayOthers() throws InterruptedException {
+      CountDownLatch release = new CountDownLatch(1);
+      RecordingHandler slowHandler = new RecordingHandler(1) {
+         @Override
+         public void handle(IEventListener listener, Sender sender, FrameworkEvent event) {
+            try {
+               release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+               Thread.currentThread().interrupt();
+            }
+            super.handle(listener, sender, event);
+         }
+      };
+      RecordingHandler fastHandler = new RecordingHandler(1);
+      IEventListener slowListener = new IEventListener() {
+         // blocks until released
+      };
+      IEventListener fastListener = new IEventListener() {
+         // recorded by the handler
+      };
+
+      dispatcher.dispatch(slowListener, slowHandler, sender, new ArtifactEvent(BRANCH_1));
+      dispatcher.dispatch(fastListener, fastHandler, sender, new ArtifactEvent(BRANCH_1));
+
+      fastHandler.await();
+      Assert.assertEquals(1, fastHandler.events.size());
+      Assert.assertTrue(slowHandler.events.isEmpty());
+
+      release.countDown();
+      slowHandler.await();
+      Assert.assertEquals(1, slowHandler.events.size());
+   }
+
+   private static class RecordingHandler implements EventHandlerLocal<IEventListener, FrameworkEvent> {
+      private final List<FrameworkEvent> events = Collections.synchronizedList(new ArrayList<>());
+      private final CountDownLatch delivered;
+
+      public RecordingHandler(int expected) {
+         delivered = new CountDownLatch(expected);
+      }
+
+      @Override
+      public void handle(IEventListener listener, Sender sender, FrameworkEvent event) {
+         events.add(event);
+         delivered.countDown();
+      }
+
+      @Override
+      public void send(Transport transport, Sender sender, FrameworkEvent event) {
+         // only used for local dispatch
+      }
+
+      public void await() throws InterruptedException {
+         Assert.assertTrue("events were not delivered", delivered.await(10, TimeUnit.SECONDS));
+      }
+   }
+}
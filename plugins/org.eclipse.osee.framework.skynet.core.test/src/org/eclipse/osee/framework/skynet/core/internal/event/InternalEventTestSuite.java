@@ -17,7 +17,10 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
-@Suite.SuiteClasses({EventHandlersTest.class, EventListenerRegistryTest.class})
+@Suite.SuiteClasses({
+   CoalescingEventDispatcherTest.class,
+   EventHandlersTest.class,
+   EventListenerRegistryTest.class})
 /**
  * @author Roberto E. Escobar
  */
@@ -0,0 +1,128 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.framework.skynet.core.relation;
+
+import static org.eclipse.osee.framework.core.enums.CoreBranches.COMMON;
+import static org.eclipse.osee.framework.core.enums.CoreRelationTypes.DefaultHierarchical;
+import static org.eclipse.osee.framework.core.enums.CoreRelationTypes.Dependency;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.osee.framework.core.data.ApplicabilityId;
+import org.eclipse.osee.framework.core.data.ArtifactToken;
+import org.eclipse.osee.framework.core.data.GammaId;
+import org.eclipse.osee.framework.core.data.RelationId;
+import org.eclipse.osee.framework.core.data.RelationTypeToken;
+import org.eclipse.osee.framework.core.enums.DeletionFlag;
+import org.eclipse.osee.framework.core.enums.ModificationType;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class RelationCacheTest {
+   private final ArtifactToken parent = ArtifactToken.valueOf(11L, COMMON);
+   private final ArtifactToken child1 = ArtifactToken.valueOf(12L, COMMON);
+   private final ArtifactToken child2 = ArtifactToken.valueOf(13L, COMMON);
+   private RelationCache cache;
+   private long nextId;
+
+   @Before
+   public void setup() {
+      cache = new RelationCache();
+      nextId = 100;
+   }
+
+   private RelationLink link(RelationTypeToken relationType, ArtifactToken artifactA, ArtifactToken artifactB) {
+      long id = nextId++;
+      return new RelationLink(artifactA, artifactB, COMMON, relationType, RelationId.valueOf(id), GammaId.valueOf(id),
+         "", ModificationType.NEW, ApplicabilityId.BASE);
+   }
+
+   private void cacheBothSides(RelationLink relation) {
+      cache.cache(relation.getArtifactIdA(), relation);
+      cache.cache(relation.getArtifactIdB(), relation);
+   }
+
+   @Test
+   public void testPartitionsByType() {
+      RelationLink hierarchy1 = link(DefaultHierarchical, parent, child1);
+      RelationLink hierarchy2 = link(DefaultHierarchical, parent, child2);
+      RelationLink dependency = link(Dependency, parent, child1);
+      cacheBothSides(hierarchy1);
+      cacheBothSides(hierarchy2);
+      cacheBothSides(dependency);
+
+      Assert.assertEquals(Arrays.asList(hierarchy1, hierarchy2), cache.getAllByType(parent, DefaultHierarchical));
+      Assert.assertEquals(Arrays.asList(dependency), cache.getAllByType(parent, Dependency));
+      Assert.assertEquals(Arrays.asList(hierarchy1, dependency), cache.getAll(child1));
+      Assert.assertNull(cache.getAllByType(child2, Dependency));
+      Assert.assertEquals(3, cache.getRelationCount(parent));
+      Assert.assertFalse(cache.cache(parent, hierarchy1));
+      Assert.assertEquals(3, cache.getRelationCount(parent));
+   }
+
+   @Test
+   public void testSnapshotUnchangedByLaterWrites() {
+      RelationLink hierarchy1 = link(DefaultHierarchical, parent, child1);
+      cacheBothSides(hierarchy1);
+      List<RelationLink> snapshot = cache.getAllByType(parent, DefaultHierarchical);
+
+      RelationLink hierarchy2 = link(DefaultHierarchical, parent, child2);
+      cacheBothSides(hierarchy2);
+      cache.deCache(child1);
+
+      Assert.assertEquals(Arrays.asList(hierarchy1), snapshot);
+      Assert.assertEquals(Arrays.asList(hierarchy2), cache.getAllByType(parent, DefaultHierarchical));
+      Assert.assertTrue(cache.getAll(child1).isEmpty());
+      try {
+         snapshot.add(hierarchy2);
+         Assert.fail("Expected snapshot to be unmodifiable");
+      } catch (UnsupportedOperationException ex) {
+         // expected
+      }
+   }
+
+   @Test
+   public void testCacheAll() {
+      List<RelationLink> links = new ArrayList<>();
+      for (int index = 0; index < 100; index++) {
+         links.add(link(DefaultHierarchical, parent, ArtifactToken.valueOf(1000L + index, COMMON)));
+      }
+      links.add(link(Dependency, parent, child1));
+      links.add(links.get(50));
+
+      Assert.assertEquals(101, cache.cacheAll(parent, links));
+      Assert.assertEquals(0, cache.cacheAll(parent, links.subList(0, 40)));
+      Assert.assertEquals(links.subList(0, 100), cache.getAllByType(parent, DefaultHierarchical));
+      Assert.assertEquals(101, cache.getRelations(parent, DeletionFlag.EXCLUDE_DELETED).size());
+   }
+
+   @Test
+   public void testFindFirst() {
+      RelationLink hierarchy1 = link(DefaultHierarchical, parent, child1);
+      RelationLink hierarchy2 = link(DefaultHierarchical, parent, child2);
+      cacheBothSides(hierarchy1);
+      cacheBothSides(hierarchy2);
+
+      Assert.assertFalse(cache.anyMatch(parent, RelationLink::isDirty));
+      hierarchy2.setDirty();
+      Assert.assertSame(hierarchy2, cache.findFirst(parent, RelationLink::isDirty));
+      Assert.assertSame(hierarchy1, cache.getLoadedRelation(DefaultHierarchical, parent, child1, COMMON));
+      Assert.assertSame(hierarchy2,
+         cache.getByRelIdOnArtifact(RelationId.valueOf(hierarchy2.getId()), parent, child2, COMMON));
+   }
+}
@@ -19,7 +19,8 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
-@Suite.SuiteClasses({RelationOrderTestSuite.class, RelationSorterTestSuite.class, RelationTypeSideSorterTest.class})
+@Suite.SuiteClasses({RelationOrderTestSuite.class, RelationSorterTestSuite.class, RelationTypeSideSorterTest.class,
+   RelationCacheTest.class})
 /**
  * @author Roberto E. Escobar
  */
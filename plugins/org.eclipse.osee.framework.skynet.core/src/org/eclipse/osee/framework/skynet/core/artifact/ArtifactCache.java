@@ -21,6 +21,7 @@ import org.eclipse.osee.framework.core.data.ArtifactToken;
 import org.eclipse.osee.framework.core.data.BranchId;
 import org.eclipse.osee.framework.core.data.BranchToken;
 import org.eclipse.osee.framework.core.model.event.DefaultBasicGuidArtifact;
+import org.eclipse.osee.framework.skynet.core.artifact.cache.ArtifactCacheStatistics;
 import org.eclipse.osee.framework.skynet.core.artifact.cache.ArtifactIdCache;
 
 /**
@@ -28,7 +29,8 @@ import org.eclipse.osee.framework.skynet.core.artifact.cache.ArtifactIdCache;
  */
 public final class ArtifactCache {
 
-   private static final ArtifactIdCache ID_CACHE = new ArtifactIdCache(2000);
+   private static final ArtifactIdCache ID_CACHE =
+      new ArtifactIdCache(2000, Integer.getInteger("osee.artifact.cache.recent.size", 20000));
 
    private ArtifactCache() {
    }
@@ -68,11 +70,11 @@ public final class ArtifactCache {
     * @param branch of which artifacts (all) will be de-cache'ed.
     */
    public static void deCache(BranchId branch) {
-      for (Artifact artifact : ID_CACHE.getAll()) {
-         if (artifact.isOnBranch(branch)) {
-            ID_CACHE.deCache(artifact);
-         }
-      }
+      ID_CACHE.deCache(branch);
+   }
+
+   public static ArtifactCacheStatistics getStatistics() {
+      return ID_CACHE.getStatistics();
    }
 
    public static Collection<Artifact> getDirtyArtifacts() {
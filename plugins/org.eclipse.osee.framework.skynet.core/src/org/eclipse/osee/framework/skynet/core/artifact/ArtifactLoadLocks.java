@@ -0,0 +1,68 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.framework.skynet.core.artifact;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.eclipse.osee.framework.core.data.ArtifactToken;
+
+/**
+ * Per artifact locks that let exactly one thread load an artifact that is not in the cache while other threads
+ * requesting it wait for that load
+ *
+ * @author agent
+ */
+final class ArtifactLoadLocks {
+
+   private final ConcurrentHashMap<ArtifactToken, ReentrantLock> loadingActiveMap = new ConcurrentHashMap<>(1000);
+
+   /**
+    * Claims the load of the artifact for this thread unless another thread has already claimed it, in which case the
+    * other thread's lock is added to <code>locks</code> so the caller can wait for that load
+    *
+    * @return true if this thread should load the artifact
+    */
+   boolean claim(ArtifactToken artifact, Map<ArtifactToken, ReentrantLock> locks) {
+      ReentrantLock newLock = new ReentrantLock();
+      newLock.lock();
+      // when no other lock is present, this thread should load the artifact
+      ReentrantLock lock = loadingActiveMap.putIfAbsent(artifact, newLock);
+      if (lock != null) {
+         newLock.unlock();
+         if (!lock.isHeldByCurrentThread()) {
+            // another thread is loading the artifact, do not load it
+            locks.put(artifact, lock);
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * Releases the load lock of the artifact if it is held by this thread; locks held by other threads loading the same
+    * artifact are left in place
+    */
+   void release(ArtifactToken artifact) {
+      ReentrantLock lock = loadingActiveMap.get(artifact);
+      if (lock != null && lock.isHeldByCurrentThread() && loadingActiveMap.remove(artifact, lock)) {
+         lock.unlock();
+      }
+   }
+
+   int size() {
+      return loadingActiveMap.size();
+   }
+}
@@ -57,8 +57,7 @@ import org.eclipse.osee.jdbc.JdbcStatement;
  */
 public final class ArtifactLoader {
 
-   private static final ConcurrentHashMap<ArtifactToken, ReentrantLock> loadingActiveMap =
-      new ConcurrentHashMap<>(1000);
+   private static final ArtifactLoadLocks loadLocks = new ArtifactLoadLocks();
 
    private static final OrcsTokenService tokenService =
       OsgiUtil.getService(ArtifactLoader.class, OrcsTokenService.class);
@@ -99,9 +98,7 @@ public final class ArtifactLoader {
             Artifact active = null;
 
             if (reload == LoadType.INCLUDE_CACHE) {
-               synchronized (ArtifactCache.class) {
-                  active = ArtifactCache.getActive(artifact);
-               }
+               active = ArtifactCache.getActive(artifact);
             }
 
             boolean doNotLoad = determineIfIShouldLoad(artifacts, allowDeleted, locks, artifact, active);
@@ -119,7 +116,7 @@ public final class ArtifactLoader {
             // remove and unlock locks this thread created but didn't load
             if (artifacts.size() != numRequested) {
                for (ArtifactToken artifact : toLoad) {
-                  removeAndUnlock(artifact);
+                  loadLocks.release(artifact);
                   locks.remove(artifact);
                }
             }
@@ -128,34 +125,12 @@ public final class ArtifactLoader {
       }
    }
 
-   private static void removeAndUnlock(ArtifactToken artifact) {
-      ReentrantLock lock = null;
-      synchronized (loadingActiveMap) {
-         lock = loadingActiveMap.remove(artifact);
-      }
-      if (lock != null && lock.isLocked()) {
-         lock.unlock();
-      }
-   }
-
    private static boolean determineIfIShouldLoad(Set<Artifact> artifacts, DeletionFlag allowDeleted,
       ConcurrentHashMap<ArtifactToken, ReentrantLock> locks, ArtifactToken artifact, Artifact active) {
       boolean doNotLoad = false;
       //not in the cache
       if (active == null) {
-         synchronized (loadingActiveMap) {
-            ReentrantLock lock = loadingActiveMap.get(artifact);
-            // this thread should load the artifact
-            if (lock == null) {
-               lock = new ReentrantLock();
-               lock.lock();
-               loadingActiveMap.put(artifact, lock);
-            } else if (!lock.isHeldByCurrentThread()) {
-               // another thread is loading the artifact, do not load it
-               locks.put(artifact, lock);
-               doNotLoad = true;
-            }
-         }
+         doNotLoad = !loadLocks.claim(artifact, locks);
       } else {
          // artifact is in the cache, do not load it
          if (!active.isDeleted() || active.isDeleted() && allowDeleted == DeletionFlag.INCLUDE_DELETED) {
@@ -372,7 +347,7 @@ public final class ArtifactLoader {
 
       if (!historical) {
          for (Artifact artifact : artifacts) {
-            removeAndUnlock(artifact);
+            loadLocks.release(artifact);
          }
       }
    }
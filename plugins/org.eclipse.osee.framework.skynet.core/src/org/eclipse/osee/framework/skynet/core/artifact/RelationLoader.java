@@ -15,7 +15,9 @@ package org.eclipse.osee.framework.skynet.core.artifact;
 
 import static org.eclipse.osee.framework.core.enums.LoadLevel.ARTIFACT_AND_ATTRIBUTE_DATA;
 import static org.eclipse.osee.framework.core.enums.LoadLevel.ARTIFACT_DATA;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import org.eclipse.osee.framework.core.OrcsTokenService;
 import org.eclipse.osee.framework.core.data.ApplicabilityId;
 import org.eclipse.osee.framework.core.data.ArtifactId;
@@ -28,6 +30,7 @@ import org.eclipse.osee.framework.core.enums.LoadLevel;
 import org.eclipse.osee.framework.core.enums.ModificationType;
 import org.eclipse.osee.framework.core.sql.OseeSql;
 import org.eclipse.osee.framework.skynet.core.internal.ServiceUtil;
+import org.eclipse.osee.framework.skynet.core.relation.RelationLink;
 import org.eclipse.osee.framework.skynet.core.relation.RelationManager;
 import org.eclipse.osee.framework.skynet.core.utility.ConnectionHandler;
 import org.eclipse.osee.jdbc.JdbcStatement;
@@ -47,6 +50,7 @@ class RelationLoader {
          return; // TODO: someday we might have a use for historical relations, but not now
       }
 
+      List<RelationLink> loaded = new ArrayList<>(artifacts.size() * 4);
       JdbcStatement chStmt = ConnectionHandler.getStatement();
       try {
          String sqlQuery = ServiceUtil.getSql(OseeSql.LOAD_RELATIONS);
@@ -63,8 +67,8 @@ class RelationLoader {
             ModificationType modificationType = ModificationType.valueOf(chStmt.getInt("mod_type"));
             ApplicabilityId applicabilityId = ApplicabilityId.valueOf(chStmt.getLong("app_id"));
 
-            RelationManager.getOrCreate(aArtifactId, bArtifactId, relationType, relationId, gammaId, rationale,
-               modificationType, applicabilityId, 0, ArtifactId.SENTINEL);
+            loaded.add(RelationManager.getOrNew(aArtifactId, bArtifactId, relationType, relationId, gammaId, rationale,
+               modificationType, applicabilityId, 0, ArtifactId.SENTINEL));
          }
       } finally {
          chStmt.close();
@@ -85,12 +89,13 @@ class RelationLoader {
             ModificationType modificationType = ModificationType.valueOf(chStmt.getInt("mod_type"));
             ApplicabilityId applicabilityId = ApplicabilityId.valueOf(chStmt.getLong("app_id"));
 
-            RelationManager.getOrCreate(aArtifactId, bArtifactId, relationType, RelationId.valueOf(0L), gammaId, "",
-               modificationType, applicabilityId, relOrder, relArtId);
+            loaded.add(RelationManager.getOrNew(aArtifactId, bArtifactId, relationType, RelationId.valueOf(0L),
+               gammaId, "", modificationType, applicabilityId, relOrder, relArtId));
          }
       } finally {
          chStmt.close();
       }
+      RelationManager.manageRelations(loaded);
 
       for (Artifact artifact : artifacts) {
          artifact.setLinksLoaded(true);
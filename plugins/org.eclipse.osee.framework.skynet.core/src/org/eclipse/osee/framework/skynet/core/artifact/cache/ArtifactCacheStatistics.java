@@ -0,0 +1,104 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.framework.skynet.core.artifact.cache;
+
+/**
+ * Snapshot of the client artifact cache counters
+ *
+ * @author agent
+ */
+public final class ArtifactCacheStatistics {
+   private final long hits;
+   private final long misses;
+   private final long recentEvictions;
+   private final long collected;
+   private final long branchEvictions;
+   private final int branches;
+   private final int size;
+   private final int recentSize;
+   private final int recentCapacity;
+
+   public ArtifactCacheStatistics(long hits, long misses, long recentEvictions, long collected, long branchEvictions, int branches, int size, int recentSize, int recentCapacity) {
+      this.hits = hits;
+      this.misses = misses;
+      this.recentEvictions = recentEvictions;
+      this.collected = collected;
+      this.branchEvictions = branchEvictions;
+      this.branches = branches;
+      this.size = size;
+      this.recentSize = recentSize;
+      this.recentCapacity = recentCapacity;
+   }
+
+   public long getHits() {
+      return hits;
+   }
+
+   public long getMisses() {
+      return misses;
+   }
+
+   public double getHitRatio() {
+      long requests = hits + misses;
+      return requests == 0 ? 0.0 : (double) hits / requests;
+   }
+
+   /**
+    * Non-dirty artifacts no longer held strongly because more recently used artifacts filled the strong tier
+    */
+   public long getRecentEvictions() {
+      return recentEvictions;
+   }
+
+   /**
+    * Weakly held artifacts removed from the cache after being garbage collected
+    */
+   public long getCollected() {
+      return collected;
+   }
+
+   /**
+    * Artifacts removed by de-caching a whole branch
+    */
+   public long getBranchEvictions() {
+      return branchEvictions;
+   }
+
+   public int getBranches() {
+      return branches;
+   }
+
+   /**
+    * Entries in the cache including weakly held artifacts that may not have been collected yet
+    */
+   public int getSize() {
+      return size;
+   }
+
+   public int getRecentSize() {
+      return recentSize;
+   }
+
+   public int getRecentCapacity() {
+      return recentCapacity;
+   }
+
+   @Override
+   public String toString() {
+      return String.format(
+         "Hits: [%s]\nMisses: [%s]\nHit Ratio: [%.3f]\nEntries: [%s] on [%s] branches\nStrongly Held Recent: [%s] of [%s]\nRecent Evictions: [%s]\nCollected: [%s]\nBranch Evictions: [%s]\n",
+         hits, misses, getHitRatio(), size, branches, recentSize, recentCapacity, recentEvictions, collected,
+         branchEvictions);
+   }
+}
@@ -13,24 +13,46 @@
 
 package org.eclipse.osee.framework.skynet.core.artifact.cache;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.Map.Entry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.osee.framework.core.data.ArtifactId;
 import org.eclipse.osee.framework.core.data.ArtifactToken;
+import org.eclipse.osee.framework.core.data.ArtifactTypeId;
 import org.eclipse.osee.framework.core.data.BranchId;
-import org.eclipse.osee.framework.jdk.core.type.CompositeKeyHashMap;
-import org.eclipse.osee.framework.jdk.core.type.Pair;
 import org.eclipse.osee.framework.skynet.core.artifact.Artifact;
 import org.eclipse.osee.framework.skynet.core.artifact.factory.ArtifactFactoryManager;
 
 /**
+ * Artifacts are held in one segment per branch so a branch can be dropped in constant time. Dirty artifacts and
+ * artifacts of eternal types are held strongly; all other artifacts are held weakly, with the most recently used of
+ * them also held strongly in a size bounded, lock striped tier so that an open ATS world is not reloaded after every
+ * garbage collection. Entries for collected artifacts are removed as the cache is updated.
+ *
  * @author Roberto E. Escobar
  */
 public class ArtifactIdCache {
-   private final ConcurrentHashMap<ArtifactToken, Object> idCache;
-   private final CompositeKeyHashMap<String, BranchId, Object> guidCache;
+   private static final int RECENT_STRIPES = 16;
+
+   private final int initialCapacity;
+   private final int recentCapacity;
+   private final ConcurrentHashMap<Long, BranchSegment> segments = new ConcurrentHashMap<>();
+   private final ReferenceQueue<Artifact> collectedQueue = new ReferenceQueue<>();
+   private final RecentStripe[] recent;
+   private volatile Collection<ArtifactTypeId> eternalArtifactTypes;
+
+   private final LongAdder hits = new LongAdder();
+   private final LongAdder misses = new LongAdder();
+   private final LongAdder recentEvictions = new LongAdder();
+   private final LongAdder collected = new LongAdder();
+   private final LongAdder branchEvictions = new LongAdder();
 
    private static enum FilterType {
       ONLY_DIRTIES,
@@ -38,28 +60,99 @@ public class ArtifactIdCache {
    }
 
    public ArtifactIdCache(int initialCapacity) {
-      idCache = new ConcurrentHashMap<>(initialCapacity);
-      guidCache = new CompositeKeyHashMap<>(initialCapacity, true);
+      this(initialCapacity, 0);
+   }
+
+   /**
+    * @param recentCapacity the number of most recently used non-dirty artifacts held strongly
+    */
+   public ArtifactIdCache(int initialCapacity, int recentCapacity) {
+      this(initialCapacity, recentCapacity, null);
+   }
+
+   /**
+    * @param eternalArtifactTypes the types held strongly, or <code>null</code> to read them from the
+    * {@link ArtifactFactoryManager} when first needed
+    */
+   ArtifactIdCache(int initialCapacity, int recentCapacity, Collection<ArtifactTypeId> eternalArtifactTypes) {
+      this.eternalArtifactTypes = eternalArtifactTypes;
+      this.initialCapacity = initialCapacity;
+      this.recentCapacity = recentCapacity;
+      recent = new RecentStripe[RECENT_STRIPES];
+      int stripeCapacity = (recentCapacity + RECENT_STRIPES - 1) / RECENT_STRIPES;
+      for (int i = 0; i < RECENT_STRIPES; i++) {
+         recent[i] = new RecentStripe(stripeCapacity);
+      }
    }
 
    public Artifact getById(ArtifactToken artifact) {
-      return asArtifact(idCache.get(artifact));
+      BranchId branch = artifact.getBranch();
+      return get(branch, new Key(artifact.getId(), branch));
    }
 
    public Artifact getByGuid(String artGuid, BranchId branch) {
-      return asArtifact(guidCache.get(artGuid, branch));
+      return get(branch, new Key(artGuid, branch));
+   }
+
+   private Artifact get(BranchId branch, Key key) {
+      BranchSegment segment = segments.get(branch.getId());
+      Object object = segment == null ? null : segment.get(key);
+      Artifact artifact = asArtifact(object);
+      if (artifact == null) {
+         misses.increment();
+      } else {
+         hits.increment();
+         if (object instanceof CachedReference) {
+            touch(key.id instanceof String ? new Key(artifact.getId(), branch) : key, artifact);
+         }
+      }
+      return artifact;
    }
 
    public Object cache(Artifact artifact) {
-      Object object = asCacheObject(artifact);
-      idCache.put(artifact, object);
-      guidCache.put(artifact.getGuid(), artifact.getBranch(), object);
+      expungeCollected();
+      BranchId branch = artifact.getBranch();
+      Key idKey = new Key(artifact.getId(), branch);
+      Key guidKey = new Key(artifact.getGuid(), branch);
+      Object object = asCacheObject(artifact, idKey, guidKey);
+      BranchSegment segment = segments.computeIfAbsent(branch.getId(), id -> new BranchSegment(initialCapacity));
+      segment.byId.put(idKey, object);
+      segment.byGuid.put(guidKey, object);
+      if (object instanceof CachedReference) {
+         touch(idKey, artifact);
+      }
       return object;
    }
 
    public void deCache(Artifact artifact) {
-      idCache.remove(artifact);
-      guidCache.removeAndGet(artifact.getGuid(), artifact.getBranch());
+      BranchId branch = artifact.getBranch();
+      Key idKey = new Key(artifact.getId(), branch);
+      BranchSegment segment = segments.get(branch.getId());
+      if (segment != null) {
+         segment.byId.remove(idKey);
+         segment.byGuid.remove(new Key(artifact.getGuid(), branch));
+      }
+      RecentStripe stripe = getStripe(idKey);
+      synchronized (stripe) {
+         stripe.remove(idKey, artifact);
+      }
+   }
+
+   /**
+    * Drops every artifact on the branch (in all views). The branch's segment is dropped in constant time; the size
+    * bounded recent tier is scanned to release the branch's strongly held artifacts.
+    */
+   public void deCache(BranchId branch) {
+      BranchSegment segment = segments.remove(branch.getId());
+      if (segment != null) {
+         branchEvictions.add(segment.byId.size());
+      }
+      Long branchId = branch.getId();
+      for (RecentStripe stripe : recent) {
+         synchronized (stripe) {
+            stripe.keySet().removeIf(key -> key.branchId.equals(branchId));
+         }
+      }
    }
 
    public Collection<Artifact> getAll() {
@@ -85,23 +178,34 @@ public class ArtifactIdCache {
 
    private Collection<Artifact> getItems(FilterType filterType) {
       Collection<Artifact> artifacts = new HashSet<>();
-      for (Entry<Pair<String, BranchId>, Object> entry : guidCache.entrySet()) {
-         Artifact art = asArtifact(entry.getValue());
-         if (!isFiltered(art, filterType)) {
-            artifacts.add(art);
+      for (BranchSegment segment : segments.values()) {
+         for (Object value : segment.byId.values()) {
+            Artifact art = asArtifact(value);
+            if (!isFiltered(art, filterType)) {
+               artifacts.add(art);
+            }
          }
       }
       return artifacts;
    }
 
-   private Object asCacheObject(Artifact artifact) {
-      if (ArtifactFactoryManager.getEternalArtifactTypes().contains(artifact.getArtifactType())) {
+   private Object asCacheObject(Artifact artifact, Key idKey, Key guidKey) {
+      if (getEternalArtifactTypes().contains(artifact.getArtifactType())) {
          return artifact;
       } else if (artifact.isDirty()) {
          return artifact;
       } else {
-         return new WeakReference<>(artifact);
+         return new CachedReference(artifact, collectedQueue, idKey, guidKey);
+      }
+   }
+
+   private Collection<ArtifactTypeId> getEternalArtifactTypes() {
+      Collection<ArtifactTypeId> types = eternalArtifactTypes;
+      if (types == null) {
+         types = ArtifactFactoryManager.getEternalArtifactTypes();
+         eternalArtifactTypes = types;
       }
+      return types;
    }
 
    @SuppressWarnings("unchecked")
@@ -119,7 +223,9 @@ public class ArtifactIdCache {
 
    @SuppressWarnings("unchecked")
    public void updateReferenceType(ArtifactToken token) {
-      Object obj = idCache.get(token);
+      BranchId branch = token.getBranch();
+      BranchSegment segment = segments.get(branch.getId());
+      Object obj = segment == null ? null : segment.get(new Key(token.getId(), branch));
       if (obj != null) {
          if (obj instanceof Artifact) {
             Artifact artifact = (Artifact) obj;
@@ -136,10 +242,55 @@ public class ArtifactIdCache {
       }
    }
 
+   private RecentStripe getStripe(Key idKey) {
+      return recent[idKey.hashCode() & RECENT_STRIPES - 1];
+   }
+
+   private void touch(Key idKey, Artifact artifact) {
+      if (recentCapacity > 0) {
+         RecentStripe stripe = getStripe(idKey);
+         synchronized (stripe) {
+            stripe.put(idKey, artifact);
+         }
+      }
+   }
+
+   /**
+    * Removes the entries of weakly held artifacts that have been garbage collected
+    */
+   private void expungeCollected() {
+      Reference<? extends Artifact> reference;
+      while ((reference = collectedQueue.poll()) != null) {
+         CachedReference cached = (CachedReference) reference;
+         BranchSegment segment = segments.get(cached.idKey.branchId);
+         if (segment != null) {
+            segment.byId.remove(cached.idKey, cached);
+            segment.byGuid.remove(cached.guidKey, cached);
+         }
+         collected.increment();
+      }
+   }
+
    public int size() {
       return getAll().size();
    }
 
+   public ArtifactCacheStatistics getStatistics() {
+      expungeCollected();
+      int entries = 0;
+      for (BranchSegment segment : segments.values()) {
+         entries += segment.byId.size();
+      }
+      int recentSize = 0;
+      for (RecentStripe stripe : recent) {
+         synchronized (stripe) {
+            recentSize += stripe.size();
+         }
+      }
+      return new ArtifactCacheStatistics(hits.sum(), misses.sum(), recentEvictions.sum(), collected.sum(),
+         branchEvictions.sum(), segments.size(), entries, recentSize, recentCapacity);
+   }
+
    @Override
    public String toString() {
       StringBuilder builder = new StringBuilder();
@@ -148,4 +299,80 @@ public class ArtifactIdCache {
       return builder.toString();
    }
 
-}
\ No newline at end of file
+   /**
+    * Identifies an artifact by id or guid together with its branch and branch view
+    */
+   private static final class Key {
+      private final Object id;
+      private final Long branchId;
+      private final Long viewId;
+
+      public Key(Object id, BranchId branch) {
+         this.id = id;
+         this.branchId = branch.getId();
+         ArtifactId view = branch.getViewId();
+         this.viewId = view == null ? ArtifactId.SENTINEL.getId() : view.getId();
+      }
+
+      @Override
+      public int hashCode() {
+         return 31 * (31 * id.hashCode() + branchId.hashCode()) + viewId.hashCode();
+      }
+
+      @Override
+      public boolean equals(Object obj) {
+         if (obj instanceof Key) {
+            Key other = (Key) obj;
+            return id.equals(other.id) && branchId.equals(other.branchId) && Objects.equals(viewId, other.viewId);
+         }
+         return false;
+      }
+   }
+
+   private static final class BranchSegment {
+      private final ConcurrentHashMap<Key, Object> byId;
+      private final ConcurrentHashMap<Key, Object> byGuid;
+
+      public BranchSegment(int initialCapacity) {
+         byId = new ConcurrentHashMap<>(initialCapacity);
+         byGuid = new ConcurrentHashMap<>(initialCapacity);
+      }
+
+      public Object get(Key key) {
+         return key.id instanceof String ? byGuid.get(key) : byId.get(key);
+      }
+   }
+
+   private static final class CachedReference extends WeakReference<Artifact> {
+      private final Key idKey;
+      private final Key guidKey;
+
+      public CachedReference(Artifact artifact, ReferenceQueue<Artifact> queue, Key idKey, Key guidKey) {
+         super(artifact, queue);
+         this.idKey = idKey;
+         this.guidKey = guidKey;
+      }
+   }
+
+   /**
+    * One stripe of the strongly held recently used artifacts, in least recently used order
+    */
+   private final class RecentStripe extends LinkedHashMap<Key, Artifact> {
+      private static final long serialVersionUID = 1L;
+      private final int capacity;
+
+      public RecentStripe(int capacity) {
+         super(16, 0.75f, true);
+         this.capacity = capacity;
+      }
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Artifact> eldest) {
+         if (size() > capacity) {
+            recentEvictions.increment();
+            return true;
+         }
+         return false;
+      }
+   }
+}
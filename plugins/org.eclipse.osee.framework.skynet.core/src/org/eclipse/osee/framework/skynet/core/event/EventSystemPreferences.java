@@ -26,6 +26,9 @@ public final class EventSystemPreferences {
    private boolean enableRemoteEventLoopback = false;
    private boolean disableEvents = false;
    private boolean pendRunning = false;
+   private volatile boolean coalesceEvents = Boolean.getBoolean("osee.event.coalesce");
+   private volatile long coalesceWindowMillis = Long.getLong("osee.event.coalesce.window", 50L);
+   private volatile int listenerQueueCapacity = Integer.getInteger("osee.event.listener.queue.capacity", 1000);
 
    public boolean isDisableEvents() {
       return disableEvents;
@@ -54,6 +57,34 @@ public final class EventSystemPreferences {
       return pendRunning;
    }
 
+   /**
+    * If true, artifact and transaction events for normal priority listeners are queued per listener and events arriving
+    * within the coalesce window are delivered as one event. Priority listeners are always called back directly.
+    */
+   public void setCoalesceEvents(boolean coalesceEvents) {
+      this.coalesceEvents = coalesceEvents;
+   }
+
+   public boolean isCoalesceEvents() {
+      return coalesceEvents;
+   }
+
+   public void setCoalesceWindowMillis(long coalesceWindowMillis) {
+      this.coalesceWindowMillis = coalesceWindowMillis;
+   }
+
+   public long getCoalesceWindowMillis() {
+      return coalesceWindowMillis;
+   }
+
+   public void setListenerQueueCapacity(int listenerQueueCapacity) {
+      this.listenerQueueCapacity = listenerQueueCapacity;
+   }
+
+   public int getListenerQueueCapacity() {
+      return listenerQueueCapacity;
+   }
+
    public String getEventDebug() {
       return System.getProperty("eventDebug");
    }
@@ -231,6 +231,17 @@ public final class OseeEventManager {
       return toReturn;
    }
 
+   // Return report showing dispatch lag of each listener when event coalescing is enabled
+   public static String getDispatchReport() {
+      String toReturn = null;
+      if (OseeEventManager.isEventManagerConnected()) {
+         toReturn = getEventService().getDispatchReport();
+      } else {
+         toReturn = "Event system is NOT active";
+      }
+      return toReturn;
+   }
+
    public static List<IEventFilter> getEventFiltersForBranch(final BranchId branch) {
       try {
          List<IEventFilter> eventFilters = new ArrayList<>(2);
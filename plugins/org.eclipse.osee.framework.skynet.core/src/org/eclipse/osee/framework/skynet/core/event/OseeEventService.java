@@ -38,6 +38,11 @@ public interface OseeEventService {
 
    void removeListener(EventQosType qos, IEventListener listener);
 
+   /**
+    * @return per listener dispatch lag and coalescing counts for events delivered while coalescing is enabled
+    */
+   String getDispatchReport();
+
    /**
     * Kick a commit event to this local client to update artifact model for committed artifacts. This is needed cause
     * commit is made on server, but clients need to be notified of updates to commited branch artifact model.
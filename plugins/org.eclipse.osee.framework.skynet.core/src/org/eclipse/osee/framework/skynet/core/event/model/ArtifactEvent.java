@@ -16,7 +16,10 @@ package org.eclipse.osee.framework.skynet.core.event.model;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
 import org.eclipse.osee.framework.core.data.ArtifactTypeToken;
@@ -302,6 +305,54 @@ public class ArtifactEvent implements FrameworkEvent, HasNetworkSender, HasBranc
       return false;
    }
 
+   /**
+    * @return true if this event and the newer event can be delivered to a listener as one event
+    */
+   public boolean isCoalescableWith(ArtifactEvent newer) {
+      return branch.equals(newer.branch) && reloadEvent == newer.reloadEvent;
+   }
+
+   /**
+    * Combines this event with a newer event on the same branch into a new event carrying the newer event's transaction
+    * and network sender. Neither event is modified. Artifact and relation changes present in both are kept once, and
+    * the attribute changes of an artifact modified by both events are combined.
+    */
+   public ArtifactEvent coalesce(ArtifactEvent newer) {
+      ArtifactEvent coalesced = new ArtifactEvent(branch, newer.transaction, reloadEvent);
+      coalesced.setNetworkSender(newer.networkSender);
+
+      Map<EventBasicGuidArtifact, EventBasicGuidArtifact> guidArts = new LinkedHashMap<>();
+      addCoalesced(guidArts, artifacts);
+      addCoalesced(guidArts, newer.artifacts);
+      coalesced.artifacts.addAll(guidArts.values());
+
+      Set<EventBasicGuidRelation> guidRels = new LinkedHashSet<>(relations);
+      guidRels.addAll(newer.relations);
+      coalesced.relations.addAll(guidRels);
+
+      coalesced.relationReorderRecords.addAll(relationReorderRecords);
+      coalesced.relationReorderRecords.addAll(newer.relationReorderRecords);
+      return coalesced;
+   }
+
+   private static void addCoalesced(Map<EventBasicGuidArtifact, EventBasicGuidArtifact> guidArts,
+      List<EventBasicGuidArtifact> toAdd) {
+      for (EventBasicGuidArtifact guidArt : toAdd) {
+         EventBasicGuidArtifact existing = guidArts.get(guidArt);
+         if (existing == null) {
+            guidArts.put(guidArt, guidArt);
+         } else if (existing instanceof EventModifiedBasicGuidArtifact) {
+            if (guidArt instanceof EventModifiedBasicGuidArtifact) {
+               List<AttributeChange> attributeChanges =
+                  new ArrayList<>(((EventModifiedBasicGuidArtifact) existing).getAttributeChanges());
+               attributeChanges.addAll(((EventModifiedBasicGuidArtifact) guidArt).getAttributeChanges());
+               guidArts.put(guidArt, new EventModifiedBasicGuidArtifact(existing.getBranch(),
+                  existing.getArtifactType(), existing.getGuid(), attributeChanges));
+            }
+         }
+      }
+   }
+
    @Override
    public String toString() {
       try {
@@ -80,6 +80,26 @@ public class TransactionEvent implements FrameworkEvent, HasNetworkSender {
       this.eventType = eventType;
    }
 
+   /**
+    * @return true if this event and the newer event can be delivered to a listener as one event
+    */
+   public boolean isCoalescableWith(TransactionEvent newer) {
+      return eventType == newer.eventType;
+   }
+
+   /**
+    * Combines this event with a newer event of the same type into a new event carrying the transaction changes of both
+    * and the newer event's network sender. Neither event is modified.
+    */
+   public TransactionEvent coalesce(TransactionEvent newer) {
+      TransactionEvent coalesced = new TransactionEvent();
+      coalesced.setEventType(eventType);
+      coalesced.setNetworkSender(newer.networkSender);
+      coalesced.transactions.addAll(transactions);
+      coalesced.transactions.addAll(newer.transactions);
+      return coalesced;
+   }
+
    @Override
    public String toString() {
       return "TransactionEvent [type=" + eventType + ", sender=" + networkSender + ", txs=" + transactions + "]";
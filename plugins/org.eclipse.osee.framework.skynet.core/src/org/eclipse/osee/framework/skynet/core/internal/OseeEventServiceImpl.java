@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.logging.Level;
 import org.eclipse.osee.framework.core.OrcsTokenService;
@@ -44,6 +45,7 @@ import org.eclipse.osee.framework.skynet.core.event.model.BranchEvent;
 import org.eclipse.osee.framework.skynet.core.event.model.RemoteEventServiceEventType;
 import org.eclipse.osee.framework.skynet.core.event.model.Sender;
 import org.eclipse.osee.framework.skynet.core.event.model.TransactionEvent;
+import org.eclipse.osee.framework.skynet.core.internal.event.CoalescingEventDispatcher;
 import org.eclipse.osee.framework.skynet.core.internal.event.ConnectionListenerImpl;
 import org.eclipse.osee.framework.skynet.core.internal.event.EventHandlers;
 import org.eclipse.osee.framework.skynet.core.internal.event.EventListenerRegistry;
@@ -79,6 +81,7 @@ public class OseeEventServiceImpl implements OseeEventService {
    private EventTransport eventTransport;
    private ConnectionListenerImpl connectionStatus;
    private ExecutorService executor;
+   private ScheduledExecutorService dispatchExecutor;
    private OrcsTokenService tokenService;
    private final List<ServiceReference<IEventListener>> pendingServices = new CopyOnWriteArrayList<>();
 
@@ -150,8 +153,10 @@ public class OseeEventServiceImpl implements OseeEventService {
       registerEventHandlers(handlers);
 
       executor = createExecutor("Osee Client Events");
+      dispatchExecutor = createDispatchExecutor("Osee Client Event Dispatch");
       listeners.addListener(EventQosType.PRIORITY, new TopicEventAdmin());
-      eventTransport = new EventTransport(preferences, handlers, listeners, executor, messagingService);
+      eventTransport = new EventTransport(preferences, handlers, listeners, executor,
+         new CoalescingEventDispatcher(preferences, dispatchExecutor), messagingService);
       connectionStatus = new ConnectionListenerImpl(preferences, eventTransport);
 
       Runnable runnable = new Runnable() {
@@ -192,6 +197,9 @@ public class OseeEventServiceImpl implements OseeEventService {
       if (executor != null) {
          executor.shutdown();
       }
+      if (dispatchExecutor != null) {
+         dispatchExecutor.shutdown();
+      }
       deregisterEventHandlers(handlers);
       eventTransport = null;
    }
@@ -248,6 +256,11 @@ public class OseeEventServiceImpl implements OseeEventService {
       return Executors.newFixedThreadPool(numberOfProcessors, threadFactory);
    }
 
+   private ScheduledExecutorService createDispatchExecutor(String threadPrefix) {
+      int numberOfProcessors = Math.min(Runtime.getRuntime().availableProcessors(), 4);
+      return Executors.newScheduledThreadPool(numberOfProcessors, new OseeEventThreadFactory(threadPrefix));
+   }
+
    @Override
    public boolean isConnected() {
       return eventTransport.isConnected();
@@ -278,6 +291,11 @@ public class OseeEventServiceImpl implements OseeEventService {
       listeners.removeListener(qos, listener);
    }
 
+   @Override
+   public String getDispatchReport() {
+      return eventTransport.getDispatchReport();
+   }
+
    @Override
    public void sendCommitEvent(Class<?> class1, ArtifactEvent artifactEvent) {
       eventTransport.sendCommitEvent(class1, artifactEvent);
@@ -0,0 +1,288 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.framework.skynet.core.internal.event;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.eclipse.osee.framework.core.event.EventUtil;
+import org.eclipse.osee.framework.core.event.FrameworkEvent;
+import org.eclipse.osee.framework.skynet.core.event.EventSystemPreferences;
+import org.eclipse.osee.framework.skynet.core.event.listener.IEventListener;
+import org.eclipse.osee.framework.skynet.core.event.model.ArtifactEvent;
+import org.eclipse.osee.framework.skynet.core.event.model.Sender;
+import org.eclipse.osee.framework.skynet.core.event.model.TransactionEvent;
+
+/**
+ * Delivers events to each listener from its own bounded queue so a slow listener only delays itself. The first event
+ * queued for an idle listener is held for the coalesce window; an {@link ArtifactEvent} or {@link TransactionEvent}
+ * arriving while a compatible event from the same session is still waiting is folded into that event, so a listener
+ * that falls behind during a commit or remote event storm receives a few large events instead of thousands of small
+ * ones. Events for one listener are always delivered in the order they were queued.
+ *
+ * @author agent
+ */
+public class CoalescingEventDispatcher {
+
+   private static final int MAX_DELIVERIES_PER_RUN = 64;
+   private static final long QUEUE_FULL_WAIT_MILLIS = 1000L;
+   private static final long LAG_WARNING_MILLIS = 1000L;
+
+   private static final ThreadLocal<Boolean> dispatchThread = new ThreadLocal<>();
+
+   private final EventSystemPreferences preferences;
+   private final ScheduledExecutorService executor;
+   private final Map<IEventListener, ListenerQueue> queues = new ConcurrentHashMap<>();
+   private final Map<String, ListenerDispatchStatistics> statistics = new ConcurrentHashMap<>();
+
+   public CoalescingEventDispatcher(EventSystemPreferences preferences, ScheduledExecutorService executor) {
+      this.preferences = preferences;
+      this.executor = executor;
+   }
+
+   public <L extends IEventListener, E extends FrameworkEvent> void dispatch(L listener, EventHandlerLocal<L, E> handler,
+      Sender sender, E event) {
+      if (executor.isShutdown()) {
+         deliver(listener, handler, sender, event);
+      } else {
+         while (!queues.computeIfAbsent(listener, ListenerQueue::new).enqueue(handler, sender, event)) {
+            // the queue drained and was retired after it was looked up
+         }
+      }
+   }
+
+   @SuppressWarnings("unchecked")
+   private static void deliver(IEventListener listener, EventHandlerLocal<?, ?> handler, Sender sender,
+      FrameworkEvent event) {
+      try {
+         ((EventHandlerLocal<IEventListener, FrameworkEvent>) handler).handle(listener, sender, event);
+      } catch (Exception ex) {
+         EventUtil.eventLog(ex, "IEM: Error processing - listener[%s] event[%s]", listener, event);
+      }
+   }
+
+   private ListenerDispatchStatistics getStatistics(IEventListener listener) {
+      return statistics.computeIfAbsent(listener.getClass().getName(), ListenerDispatchStatistics::new);
+   }
+
+   /**
+    * @return statistics for each listener class that has been dispatched to, sorted by listener name
+    */
+   public List<ListenerDispatchStatistics> getStatistics() {
+      List<ListenerDispatchStatistics> values = new ArrayList<>(statistics.values());
+      Collections.sort(values, (a, b) -> a.getListenerName().compareTo(b.getListenerName()));
+      return values;
+   }
+
+   /**
+    * @return events waiting in the queues of the listeners of each class
+    */
+   public Map<String, Integer> getQueueDepths() {
+      Map<String, Integer> depths = new HashMap<>();
+      for (ListenerQueue queue : queues.values()) {
+         depths.merge(queue.statistics.getListenerName(), queue.size(), Integer::sum);
+      }
+      return depths;
+   }
+
+   public String getReport() {
+      Map<String, Integer> depths = getQueueDepths();
+      StringBuilder report = new StringBuilder();
+      for (ListenerDispatchStatistics stats : getStatistics()) {
+         report.append(stats).append(" queued[").append(depths.getOrDefault(stats.getListenerName(), 0)).append(
+            "]\n");
+      }
+      return report.toString();
+   }
+
+   private static boolean isSameSession(Sender sender, Sender other) {
+      return Objects.equals(sender.getOseeSession().getId(), other.getOseeSession().getId());
+   }
+
+   private static final class PendingEvent {
+      private final EventHandlerLocal<?, ?> handler;
+      private final long queuedNanos;
+      private Sender sender;
+      private FrameworkEvent event;
+
+      public PendingEvent(EventHandlerLocal<?, ?> handler, Sender sender, FrameworkEvent event) {
+         this.handler = handler;
+         this.sender = sender;
+         this.event = event;
+         this.queuedNanos = System.nanoTime();
+      }
+
+      /**
+       * @return true if the newer event was folded into this one
+       */
+      public boolean coalesce(EventHandlerLocal<?, ?> newerHandler, Sender newerSender, FrameworkEvent newerEvent) {
+         if (handler != newerHandler || !isSameSession(sender, newerSender)) {
+            return false;
+         }
+         if (event instanceof ArtifactEvent && newerEvent instanceof ArtifactEvent) {
+            ArtifactEvent artifactEvent = (ArtifactEvent) event;
+            if (artifactEvent.isCoalescableWith((ArtifactEvent) newerEvent)) {
+               event = artifactEvent.coalesce((ArtifactEvent) newerEvent);
+               sender = newerSender;
+               return true;
+            }
+         } else if (event instanceof TransactionEvent && newerEvent instanceof TransactionEvent) {
+            TransactionEvent transactionEvent = (TransactionEvent) event;
+            if (transactionEvent.isCoalescableWith((TransactionEvent) newerEvent)) {
+               event = transactionEvent.coalesce((TransactionEvent) newerEvent);
+               sender = newerSender;
+               return true;
+            }
+         }
+         return false;
+      }
+   }
+
+   private final class ListenerQueue implements Runnable {
+      private final IEventListener listener;
+      private final ListenerDispatchStatistics statistics;
+      private final ArrayDeque<PendingEvent> pending = new ArrayDeque<>();
+      private final ReentrantLock lock = new ReentrantLock();
+      private final Condition notFull = lock.newCondition();
+      private boolean scheduled;
+      private boolean retired;
+
+      public ListenerQueue(IEventListener listener) {
+         this.listener = listener;
+         this.statistics = getStatistics(listener);
+      }
+
+      public int size() {
+         lock.lock();
+         try {
+            return pending.size();
+         } finally {
+            lock.unlock();
+         }
+      }
+
+      /**
+       * Waits for up to {@link #QUEUE_FULL_WAIT_MILLIS} while the queue is full and then queues the event regardless,
+       * so a listener that raises events while handling one can never dead lock on its own queue.
+       *
+       * @return false if this queue has been retired and the event was not queued
+       */
+      public boolean enqueue(EventHandlerLocal<?, ?> handler, Sender sender, FrameworkEvent event) {
+         lock.lock();
+         try {
+            if (retired) {
+               return false;
+            }
+            PendingEvent tail = pending.peekLast();
+            if (tail != null && tail.coalesce(handler, sender, event)) {
+               statistics.recordCoalesced();
+               return true;
+            }
+            int capacity = preferences.getListenerQueueCapacity();
+            if (pending.size() >= capacity && dispatchThread.get() == null) {
+               long remainingNanos = TimeUnit.MILLISECONDS.toNanos(QUEUE_FULL_WAIT_MILLIS);
+               try {
+                  while (pending.size() >= capacity && remainingNanos > 0) {
+                     remainingNanos = notFull.awaitNanos(remainingNanos);
+                  }
+               } catch (InterruptedException ex) {
+                  Thread.currentThread().interrupt();
+               }
+            }
+            if (pending.size() >= capacity) {
+               statistics.recordOverflow();
+            }
+            pending.addLast(new PendingEvent(handler, sender, event));
+            statistics.recordQueueDepth(pending.size());
+            if (!scheduled) {
+               try {
+                  executor.schedule(this, preferences.getCoalesceWindowMillis(), TimeUnit.MILLISECONDS);
+                  scheduled = true;
+               } catch (RejectedExecutionException ex) {
+                  EventUtil.eventLog(ex, "IEM: Event dispatch is shut down - listener[%s]", listener);
+               }
+            }
+            return true;
+         } finally {
+            lock.unlock();
+         }
+      }
+
+      @Override
+      public void run() {
+         dispatchThread.set(Boolean.TRUE);
+         try {
+            for (int count = 0; count < MAX_DELIVERIES_PER_RUN; count++) {
+               PendingEvent next;
+               lock.lock();
+               try {
+                  next = pending.pollFirst();
+                  if (next == null) {
+                     scheduled = false;
+                     retired = true;
+                     queues.remove(listener, this);
+                     return;
+                  }
+                  notFull.signalAll();
+               } finally {
+                  lock.unlock();
+               }
+               long lagMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - next.queuedNanos);
+               statistics.recordDelivery(lagMillis);
+               if (lagMillis > LAG_WARNING_MILLIS) {
+                  EventUtil.eventLog("IEM: dispatch lag [%s ms] - listener[%s] event[%s]", lagMillis,
+                     statistics.getListenerName(), next.event.getClass().getSimpleName());
+               }
+               deliver(listener, next.handler, next.sender, next.event);
+            }
+            // give other listeners a turn before continuing
+            executor.execute(this);
+         } catch (RejectedExecutionException ex) {
+            drainOnShutdown();
+         } finally {
+            dispatchThread.remove();
+         }
+      }
+
+      private void drainOnShutdown() {
+         PendingEvent next;
+         while (true) {
+            lock.lock();
+            try {
+               next = pending.pollFirst();
+               if (next == null) {
+                  scheduled = false;
+                  retired = true;
+                  queues.remove(listener, this);
+                  return;
+               }
+               notFull.signalAll();
+            } finally {
+               lock.unlock();
+            }
+            deliver(listener, next.handler, next.sender, next.event);
+         }
+      }
+   }
+}
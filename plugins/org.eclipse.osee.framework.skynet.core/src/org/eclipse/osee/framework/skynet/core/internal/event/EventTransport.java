@@ -51,15 +51,17 @@ public class EventTransport implements Transport, IFrameworkEventListener {
    private final EventHandlers handlers;
    private final EventListenerRegistry listenerRegistry;
    private final ExecutorService executorService;
+   private final CoalescingEventDispatcher dispatcher;
    private final IOseeCoreModelEventService messagingService;
    private volatile boolean connectionStatus;
 
-   public EventTransport(EventSystemPreferences preferences, EventHandlers handlers, EventListenerRegistry listenerRegistry, ExecutorService executorService, IOseeCoreModelEventService messagingService) {
+   public EventTransport(EventSystemPreferences preferences, EventHandlers handlers, EventListenerRegistry listenerRegistry, ExecutorService executorService, CoalescingEventDispatcher dispatcher, IOseeCoreModelEventService messagingService) {
       super();
       this.preferences = preferences;
       this.handlers = handlers;
       this.listenerRegistry = listenerRegistry;
       this.executorService = executorService;
+      this.dispatcher = dispatcher;
       this.messagingService = messagingService;
       this.connectionStatus = false;
    }
@@ -167,19 +169,34 @@ public class EventTransport implements Transport, IFrameworkEventListener {
       Conditions.checkNotNull(handler, "localEventHandler", "No local event handler available for event [%s]",
          event.getClass().getName());
       EventUtil.eventLog("IEM: processing event [%s]", event);
+      boolean coalesce = preferences.isCoalesceEvents() && !preferences.isPendRunning();
       for (EventQosType qos : EventQosType.values()) {
          Collection<L> listeners = listenerRegistry.getListeners(qos, event);
-         for (L listener : listeners) {
-            try {
-               handler.handle(listener, sender, event);
-            } catch (Exception ex) {
-               EventUtil.eventLog(ex, "IEM: Error processing - qos[%s] event[%s]", qos, event);
+         // priority listeners (caches) are always updated before normal listeners see the event
+         if (coalesce && qos == EventQosType.NORMAL) {
+            for (L listener : listeners) {
+               dispatcher.dispatch(listener, handler, sender, event);
+            }
+         } else {
+            for (L listener : listeners) {
+               try {
+                  handler.handle(listener, sender, event);
+               } catch (Exception ex) {
+                  EventUtil.eventLog(ex, "IEM: Error processing - qos[%s] event[%s]", qos, event);
+               }
             }
          }
       }
       EventUtil.eventLog("IEM: processed event [%s]", event);
    }
 
+   /**
+    * @return per listener dispatch lag and coalescing counts for events delivered while coalescing is enabled
+    */
+   public String getDispatchReport() {
+      return dispatcher.getReport();
+   }
+
    @Override
    public void sendRemote(final RemoteEvent remoteEvent) {
       if (isConnected()) {
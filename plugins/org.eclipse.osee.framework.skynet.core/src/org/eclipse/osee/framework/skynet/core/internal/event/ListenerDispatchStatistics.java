@@ -0,0 +1,110 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.framework.skynet.core.internal.event;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dispatch counters for the listeners of one class when events are delivered through a
+ * {@link CoalescingEventDispatcher}
+ *
+ * @author agent
+ */
+public final class ListenerDispatchStatistics {
+   private final String listenerName;
+   private final LongAdder delivered = new LongAdder();
+   private final LongAdder coalesced = new LongAdder();
+   private final LongAdder overflowed = new LongAdder();
+   private final LongAdder totalLagMillis = new LongAdder();
+   private volatile long lastLagMillis;
+   private volatile long maxLagMillis;
+   private volatile int maxQueueDepth;
+
+   public ListenerDispatchStatistics(String listenerName) {
+      this.listenerName = listenerName;
+   }
+
+   void recordDelivery(long lagMillis) {
+      delivered.increment();
+      totalLagMillis.add(lagMillis);
+      lastLagMillis = lagMillis;
+      if (lagMillis > maxLagMillis) {
+         maxLagMillis = lagMillis;
+      }
+   }
+
+   void recordCoalesced() {
+      coalesced.increment();
+   }
+
+   void recordOverflow() {
+      overflowed.increment();
+   }
+
+   void recordQueueDepth(int queueDepth) {
+      if (queueDepth > maxQueueDepth) {
+         maxQueueDepth = queueDepth;
+      }
+   }
+
+   public String getListenerName() {
+      return listenerName;
+   }
+
+   /**
+    * Events handed to the listener, each possibly standing for several coalesced events
+    */
+   public long getDelivered() {
+      return delivered.sum();
+   }
+
+   /**
+    * Events folded into an event already waiting in the listener's queue
+    */
+   public long getCoalesced() {
+      return coalesced.sum();
+   }
+
+   /**
+    * Events queued beyond the queue capacity after waiting for the listener to catch up
+    */
+   public long getOverflowed() {
+      return overflowed.sum();
+   }
+
+   /**
+    * Time from an event being queued until it was handed to the listener
+    */
+   public long getLastLagMillis() {
+      return lastLagMillis;
+   }
+
+   public long getMaxLagMillis() {
+      return maxLagMillis;
+   }
+
+   public long getAverageLagMillis() {
+      long count = delivered.sum();
+      return count > 0 ? totalLagMillis.sum() / count : 0;
+   }
+
+   public int getMaxQueueDepth() {
+      return maxQueueDepth;
+   }
+
+   @Override
+   public String toString() {
+      return "listener[" + listenerName + "] delivered[" + getDelivered() + "] coalesced[" + getCoalesced() + "] overflowed[" + getOverflowed() + "] lag[last " + lastLagMillis + "ms, avg " + getAverageLagMillis() + "ms, max " + maxLagMillis + "ms] maxQueueDepth[" + maxQueueDepth + "]";
+   }
+}
@@ -13,12 +13,19 @@
 
 package org.eclipse.osee.framework.skynet.core.relation;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import org.eclipse.osee.framework.core.data.ArtifactId;
 import org.eclipse.osee.framework.core.data.ArtifactToken;
@@ -28,59 +35,74 @@ import org.eclipse.osee.framework.core.data.RelationId;
 import org.eclipse.osee.framework.core.data.RelationTypeToken;
 import org.eclipse.osee.framework.core.enums.DeletionFlag;
 import org.eclipse.osee.framework.core.enums.RelationSide;
-import org.eclipse.osee.framework.jdk.core.type.CompositeKeyHashMap;
 import org.eclipse.osee.framework.logging.OseeLog;
 import org.eclipse.osee.framework.skynet.core.internal.Activator;
 import org.eclipse.osee.framework.skynet.core.relation.RelationFilterUtil.RelationMatcher;
 
 /**
+ * Holds the loaded relations of each artifact as an adjacency node of link arrays partitioned by relation type. A
+ * partition is never changed once published: adding a link publishes a new partition over the same array (reusing its
+ * spare capacity) and removing a link publishes one over a copy, so readers work from whatever partition they read
+ * without locking, and {@link #getAllByType(ArtifactToken, RelationTypeToken)}, {@link #forEach} and
+ * {@link #anyMatch} allocate nothing. Writers lock only the adjacency node of the artifact they change.
+ *
  * @author Roberto E. Escobar
+ * @author Ryan D. Brooks
  */
 public class RelationCache {
-   private final CompositeKeyHashMap<ArtifactToken, RelationTypeToken, List<RelationLink>> relationsByType =
-      new CompositeKeyHashMap<>(1024, true);
+   private static final Partition[] NO_PARTITIONS = new Partition[0];
+   private static final int LINEAR_SEARCH_LIMIT = 32;
 
-   public void deCache(ArtifactToken artifact) {
-      Collection<List<RelationLink>> removeValues = relationsByType.removeValues(artifact);
+   private final ConcurrentHashMap<ArtifactToken, Adjacency> adjacencies = new ConcurrentHashMap<>(1024);
 
-      if (removeValues != null) {
-         for (List<RelationLink> relations : removeValues) {
-            for (RelationLink relation : relations) {
-               removeSingleRelation(artifact, relation);
+   /**
+    * Removes the relations of the given artifact and removes those same links from the artifacts on their other side
+    */
+   public void deCache(ArtifactToken artifact) {
+      Adjacency adjacency = adjacencies.remove(artifact);
+      if (adjacency != null) {
+         for (Partition partition : adjacency.partitions) {
+            for (int index = 0; index < partition.size; index++) {
+               RelationLink relation = partition.links[index];
+               Adjacency other = adjacencies.get(relation.getOtherSideArtifact(artifact));
+               if (other != null) {
+                  other.remove(relation);
+               }
             }
          }
       }
    }
 
-   private void removeSingleRelation(ArtifactToken artifact, RelationLink relation) {
-      ArtifactToken otherArtifact = relation.getOtherSideArtifact(artifact);
-      List<RelationLink> relations = relationsByType.get(otherArtifact, relation.getRelationType());
-      if (relations != null) {
-         relations.remove(relation);
-      }
+   /**
+    * @return false if an equal link was already cached for the artifact
+    */
+   public boolean cache(ArtifactToken artifact, RelationLink newRelation) {
+      return adjacencies.computeIfAbsent(artifact, key -> new Adjacency()).add(newRelation);
    }
 
-   public void cache(ArtifactToken artifact, RelationLink newRelation) {
-      RelationTypeToken relationType = newRelation.getRelationType();
-      List<RelationLink> selectedRelations = getAllByType(artifact, relationType);
-      if (selectedRelations == null) {
-         selectedRelations = new CopyOnWriteArrayList<>();
-         relationsByType.put(artifact, relationType, selectedRelations);
-      }
-      if (selectedRelations.contains(newRelation)) {
-         OseeLog.logf(Activator.class, Level.SEVERE,
-            "Duplicate relationByType objects for same relation for Relation [%s] Artifact [%s]", newRelation,
-            artifact);
+   /**
+    * Adds a batch of links to the artifact's adjacency node under one lock, skipping links equal to ones already
+    * cached
+    *
+    * @return the number of links added
+    */
+   public int cacheAll(ArtifactToken artifact, Collection<RelationLink> newRelations) {
+      if (newRelations.isEmpty()) {
+         return 0;
       }
-      selectedRelations.add(newRelation);
+      return adjacencies.computeIfAbsent(artifact, key -> new Adjacency()).addAll(newRelations);
    }
 
    public List<RelationLink> getAll(ArtifactToken artifact) {
       return getRelations(artifact, DeletionFlag.INCLUDE_DELETED);
    }
 
+   /**
+    * @return an unmodifiable snapshot of the cached links of the given type or null if there are none
+    */
    public List<RelationLink> getAllByType(ArtifactToken artifact, RelationTypeToken relationType) {
-      return relationsByType.get(artifact, relationType);
+      Adjacency adjacency = adjacencies.get(artifact);
+      return adjacency == null ? null : adjacency.getPartition(relationType);
    }
 
    public List<RelationLink> getRelations(ArtifactToken artifact, DeletionFlag deletionFlag) {
@@ -90,17 +112,58 @@ public class RelationCache {
       return linksFound;
    }
 
+   public void forEach(ArtifactToken artifact, Consumer<RelationLink> consumer) {
+      Adjacency adjacency = adjacencies.get(artifact);
+      if (adjacency != null) {
+         for (Partition partition : adjacency.partitions) {
+            for (int index = 0; index < partition.size; index++) {
+               consumer.accept(partition.links[index]);
+            }
+         }
+      }
+   }
+
+   public boolean anyMatch(ArtifactToken artifact, Predicate<RelationLink> predicate) {
+      return findFirst(artifact, predicate) != null;
+   }
+
+   public RelationLink findFirst(ArtifactToken artifact, Predicate<RelationLink> predicate) {
+      Adjacency adjacency = adjacencies.get(artifact);
+      if (adjacency != null) {
+         for (Partition partition : adjacency.partitions) {
+            RelationLink relation = partition.findFirst(predicate);
+            if (relation != null) {
+               return relation;
+            }
+         }
+      }
+      return null;
+   }
+
+   public int getRelationCount(ArtifactToken artifact) {
+      int count = 0;
+      Adjacency adjacency = adjacencies.get(artifact);
+      if (adjacency != null) {
+         for (Partition partition : adjacency.partitions) {
+            count += partition.size;
+         }
+      }
+      return count;
+   }
+
    private void findRelations(Collection<RelationLink> linksFound, ArtifactToken artifact,
       RelationTypeToken relationType, RelationMatcher matcher) {
-      List<RelationLink> sourceLink = relationsByType.get(artifact, relationType);
-      RelationFilterUtil.filter(sourceLink, linksFound, matcher);
+      RelationFilterUtil.filter(getAllByType(artifact, relationType), linksFound, matcher);
    }
 
    private void findRelations(Collection<RelationLink> linksFound, ArtifactToken artifact, RelationMatcher matcher) {
-      List<List<RelationLink>> values = relationsByType.getValues(artifact);
-      if (values != null) {
-         for (List<RelationLink> linksSource : values) {
-            RelationFilterUtil.filter(linksSource, linksFound, matcher);
+      Adjacency adjacency = adjacencies.get(artifact);
+      if (adjacency != null) {
+         for (Partition partition : adjacency.partitions) {
+            RelationFilterUtil.filter(partition, linksFound, matcher);
+            if (!linksFound.isEmpty() && !matcher.isFindNextAllowed()) {
+               break;
+            }
          }
       }
    }
@@ -174,4 +237,176 @@ public class RelationCache {
       }
       return links.isEmpty() ? null : links.iterator().next();
    }
-}
\ No newline at end of file
+
+   /**
+    * The links of one artifact; partitions is replaced, never changed in place, while holding this node's lock
+    */
+   private static final class Adjacency {
+      private volatile Partition[] partitions = NO_PARTITIONS;
+
+      Partition getPartition(RelationTypeToken relationType) {
+         for (Partition partition : partitions) {
+            if (partition.relationType.equals(relationType)) {
+               return partition;
+            }
+         }
+         return null;
+      }
+
+      private static int indexOf(Partition[] partitions, RelationTypeToken relationType) {
+         for (int index = 0; index < partitions.length; index++) {
+            if (partitions[index].relationType.equals(relationType)) {
+               return index;
+            }
+         }
+         return -1;
+      }
+
+      synchronized boolean add(RelationLink relation) {
+         Partition[] current = partitions;
+         int index = indexOf(current, relation.getRelationType());
+         Partition[] updated;
+         if (index < 0) {
+            updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = Partition.of(relation);
+         } else {
+            Partition partition = current[index];
+            if (partition.contains(relation)) {
+               return false;
+            }
+            updated = current.clone();
+            updated[index] = partition.append(relation);
+         }
+         partitions = updated;
+         return true;
+      }
+
+      synchronized int addAll(Collection<RelationLink> relations) {
+         Partition[] updated = partitions.clone();
+         Map<RelationTypeToken, Set<RelationLink>> largePartitionMembers = new HashMap<>();
+         int added = 0;
+         for (RelationLink relation : relations) {
+            RelationTypeToken relationType = relation.getRelationType();
+            int index = indexOf(updated, relationType);
+            if (index < 0) {
+               updated = Arrays.copyOf(updated, updated.length + 1);
+               updated[updated.length - 1] = Partition.of(relation);
+               added++;
+            } else {
+               Partition partition = updated[index];
+               boolean present;
+               if (partition.size < LINEAR_SEARCH_LIMIT) {
+                  present = partition.contains(relation);
+               } else {
+                  present = !largePartitionMembers.computeIfAbsent(relationType, key -> new HashSet<>(partition)).add(
+                     relation);
+               }
+               if (!present) {
+                  updated[index] = partition.append(relation);
+                  added++;
+               }
+            }
+         }
+         if (added > 0) {
+            partitions = updated;
+         }
+         return added;
+      }
+
+      synchronized void remove(RelationLink relation) {
+         Partition[] current = partitions;
+         int index = indexOf(current, relation.getRelationType());
+         if (index >= 0) {
+            Partition partition = current[index].without(relation);
+            if (partition != current[index]) {
+               Partition[] updated;
+               if (partition.size == 0) {
+                  updated = new Partition[current.length - 1];
+                  System.arraycopy(current, 0, updated, 0, index);
+                  System.arraycopy(current, index + 1, updated, index, updated.length - index);
+               } else {
+                  updated = current.clone();
+                  updated[index] = partition;
+               }
+               partitions = updated;
+            }
+         }
+      }
+   }
+
+   /**
+    * Immutable view of the first size links of an array that may be shared with the partition it was appended from;
+    * slots past size belong to whichever partition appends next
+    */
+   private static final class Partition extends AbstractList<RelationLink> implements RandomAccess {
+      private final RelationTypeToken relationType;
+      private final RelationLink[] links;
+      private final int size;
+
+      private Partition(RelationTypeToken relationType, RelationLink[] links, int size) {
+         this.relationType = relationType;
+         this.links = links;
+         this.size = size;
+      }
+
+      static Partition of(RelationLink relation) {
+         RelationLink[] links = new RelationLink[4];
+         links[0] = relation;
+         return new Partition(relation.getRelationType(), links, 1);
+      }
+
+      Partition append(RelationLink relation) {
+         RelationLink[] target = links;
+         if (size == target.length) {
+            target = Arrays.copyOf(links, size + (size >> 1) + 1);
+         }
+         target[size] = relation;
+         return new Partition(relationType, target, size + 1);
+      }
+
+      Partition without(RelationLink relation) {
+         for (int index = 0; index < size; index++) {
+            if (links[index].equals(relation)) {
+               RelationLink[] target = new RelationLink[Math.max(4, size - 1)];
+               System.arraycopy(links, 0, target, 0, index);
+               System.arraycopy(links, index + 1, target, index, size - index - 1);
+               return new Partition(relationType, target, size - 1);
+            }
+         }
+         return this;
+      }
+
+      RelationLink findFirst(Predicate<RelationLink> predicate) {
+         for (int index = 0; index < size; index++) {
+            RelationLink relation = links[index];
+            if (predicate.test(relation)) {
+               return relation;
+            }
+         }
+         return null;
+      }
+
+      @Override
+      public boolean contains(Object object) {
+         for (int index = 0; index < size; index++) {
+            if (links[index].equals(object)) {
+               return true;
+            }
+         }
+         return false;
+      }
+
+      @Override
+      public RelationLink get(int index) {
+         if (index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+         }
+         return links[index];
+      }
+
+      @Override
+      public int size() {
+         return size;
+      }
+   }
+}
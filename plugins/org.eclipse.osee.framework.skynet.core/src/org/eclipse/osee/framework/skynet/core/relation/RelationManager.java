@@ -19,11 +19,13 @@ import static org.eclipse.osee.framework.core.enums.RelationSorter.PREEXISTING;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.osee.framework.core.data.ApplicabilityId;
@@ -79,30 +81,41 @@ public class RelationManager {
    public static void manageRelation(RelationLink newRelation, RelationSide relationSide) {
       Artifact artifact = ArtifactCache.getActive(newRelation.getArtifactId(relationSide), newRelation.getBranch());
       if (artifact != null) {
-         List<RelationLink> artifactsRelations = relationCache.getAll(artifact);
-         if (artifactsRelations == null) {
-            artifactsRelations = new CopyOnWriteArrayList<>();
-         }
-
-         // Verify that relation is unique by aArtId, bArtId and relTypeId; Needs to be cleaned up in DB, Only log problem.
-         // Need to do this check before to catch the relations that are .equal but not ==
-         for (RelationLink relation : artifactsRelations) {
-            if (relation.getArtifactIdA().equals(newRelation.getArtifactIdA()) && relation.getArtifactIdB().equals(
-               newRelation.getArtifactIdB()) && relation.getRelationType().equals(
-                  newRelation.getRelationType()) && relation != newRelation) {
-               OseeLog.logf(Activator.class, Level.WARNING,
-                  "Duplicate relation objects for same relation for RELATION 1 [%s] RELATION 2 [%s]", relation,
-                  newRelation);
+         List<RelationLink> artifactsRelations = relationCache.getAllByType(artifact, newRelation.getRelationType());
+         if (artifactsRelations != null) {
+            // Verify that relation is unique by aArtId, bArtId and relTypeId; Needs to be cleaned up in DB, Only log problem.
+            // Need to do this check before to catch the relations that are .equal but not ==
+            for (RelationLink relation : artifactsRelations) {
+               if (relation.getArtifactIdA().equals(newRelation.getArtifactIdA()) && relation.getArtifactIdB().equals(
+                  newRelation.getArtifactIdB()) && relation != newRelation) {
+                  OseeLog.logf(Activator.class, Level.WARNING,
+                     "Duplicate relation objects for same relation for RELATION 1 [%s] RELATION 2 [%s]", relation,
+                     newRelation);
+               }
             }
          }
+         // a relation link that is already managed is left as is
+         relationCache.cache(artifact, newRelation);
+      }
+   }
 
-         if (artifactsRelations.contains(newRelation)) {
-            // Always want to return if relation link is already managed
-            return;
+   /**
+    * Bulk form of {@link #manageRelation(RelationLink, RelationSide)} for links just loaded from the database: the
+    * links are grouped by the loaded artifact on each side and each group is added to the cache under a single lock.
+    * Links equal to ones already cached are skipped.
+    */
+   public static synchronized void manageRelations(Collection<RelationLink> newRelations) {
+      Map<Artifact, List<RelationLink>> linksByArtifact = new HashMap<>();
+      for (RelationLink newRelation : newRelations) {
+         for (RelationSide side : RelationSide.values()) {
+            Artifact artifact = ArtifactCache.getActive(newRelation.getArtifactId(side), newRelation.getBranch());
+            if (artifact != null) {
+               linksByArtifact.computeIfAbsent(artifact, key -> new ArrayList<>()).add(newRelation);
+            }
          }
-
-         artifactsRelations.add(newRelation);
-         relationCache.cache(artifact, newRelation);
+      }
+      for (Entry<Artifact, List<RelationLink>> entry : linksByArtifact.entrySet()) {
+         relationCache.cacheAll(entry.getKey(), entry.getValue());
       }
    }
 
@@ -144,6 +157,7 @@ public class RelationManager {
             getRelatedArtifactIds(selectedRelations, relationSide, DeletionFlag.EXCLUDE_DELETED), artifact.getBranch());
 
          if (Objects.nonNull(relationType) && relationType.isNewRelationTable()) {
+            selectedRelations = new ArrayList<>(selectedRelations);
             Collections.sort(selectedRelations, (r1, r2) -> r1.getRelOrder() - r2.getRelOrder());
          }
          for (RelationLink relation : selectedRelations) {
@@ -351,30 +365,20 @@ public class RelationManager {
    }
 
    public static boolean hasDirtyLinks(Artifact artifact) {
-      List<RelationLink> selectedRelations = relationCache.getAll(artifact);
-      for (RelationLink relation : selectedRelations) {
-         if (relation.isDirty()) {
-            return true;
-         }
-      }
-      return false;
+      return relationCache.anyMatch(artifact, RelationLink::isDirty);
    }
 
    /*
     * Return what relation is dirty otherwise null
     */
    public static String reportHasDirtyLinks(Artifact artifact) {
-      List<RelationLink> selectedRelations = relationCache.getAll(artifact);
-      if (selectedRelations != null) {
-         for (RelationLink relation : selectedRelations) {
-            if (relation.isDirty()) {
-               try {
-                  return String.format("Relation\n\n[%s]\n\naSide [%s]\n\nbSide [%s]", relation,
-                     relation.getArtifactIdA(), relation.getArtifactIdB());
-               } catch (OseeCoreException ex) {
-                  OseeLog.log(Activator.class, Level.SEVERE, ex);
-               }
-            }
+      RelationLink relation = relationCache.findFirst(artifact, RelationLink::isDirty);
+      if (relation != null) {
+         try {
+            return String.format("Relation\n\n[%s]\n\naSide [%s]\n\nbSide [%s]", relation, relation.getArtifactIdA(),
+               relation.getArtifactIdB());
+         } catch (OseeCoreException ex) {
+            OseeLog.log(Activator.class, Level.SEVERE, ex);
          }
       }
       return null;
@@ -646,6 +650,20 @@ public class RelationManager {
    public static synchronized RelationLink getOrCreate(ArtifactToken aArtifactId, ArtifactToken bArtifactId,
       RelationTypeToken relationType, RelationId relationId, GammaId gammaId, String rationale,
       ModificationType modificationType, ApplicabilityId applicabilityId, int relOrder, ArtifactId relArtId) {
+      RelationLink relation = getOrNew(aArtifactId, bArtifactId, relationType, relationId, gammaId, rationale,
+         modificationType, applicabilityId, relOrder, relArtId);
+      manageRelation(relation, RelationSide.SIDE_A);
+      manageRelation(relation, RelationSide.SIDE_B);
+
+      return relation;
+   }
+
+   /**
+    * Return existing RelationLink or a new one that is not yet managed; see {@link #manageRelations(Collection)}
+    */
+   public static RelationLink getOrNew(ArtifactToken aArtifactId, ArtifactToken bArtifactId,
+      RelationTypeToken relationType, RelationId relationId, GammaId gammaId, String rationale,
+      ModificationType modificationType, ApplicabilityId applicabilityId, int relOrder, ArtifactId relArtId) {
 
       BranchToken branch = aArtifactId.getBranch();
       RelationLink relation = null;
@@ -663,9 +681,6 @@ public class RelationManager {
                modificationType, applicabilityId);
          }
       }
-      manageRelation(relation, RelationSide.SIDE_A);
-      manageRelation(relation, RelationSide.SIDE_B);
-
       return relation;
    }
 
@@ -0,0 +1,205 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.jdbc.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.eclipse.osee.jdbc.JdbcClientBuilder;
+import org.eclipse.osee.jdbc.JdbcClientConfig;
+import org.eclipse.osee.jdbc.JdbcConstants.PoolExhaustedAction;
+import org.eclipse.osee.jdbc.JdbcPoolConfig;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test Case for {@link ConcurrentConnectionPool}
+ *
+ * @author agent
+ */
+public class ConcurrentConnectionPoolTest {
+
+   private final List<Connection> physicalConnections = new ArrayList<>();
+   private JdbcConnectionFactory connectionFactory;
+   private JdbcConnectionInfo dbInfo;
+
+   @Before
+   public void setup() throws SQLException {
+      physicalConnections.clear();
+      dbInfo = JdbcUtil.newConnectionInfo("driver", "jdbc:test:pool", new Properties(), false);
+      connectionFactory = mock(JdbcConnectionFactory.class, invocation -> {
+         if ("getConnection".equals(invocation.getMethod().getName())) {
+            Connection connection = mock(Connection.class);
+            when(connection.getAutoCommit()).thenReturn(true);
+            when(connection.isValid(anyInt())).thenReturn(true);
+            physicalConnections.add(connection);
+            return connection;
+         }
+         return null;
+      });
+   }
+
+   private ConcurrentConnectionPool newPool(JdbcClientBuilder builder) {
+      JdbcClientConfig config = builder.dbDriver("driver").dbUri("jdbc:test:pool");
+      JdbcPoolConfig poolConfig = config.getPoolConfig();
+      return new ConcurrentConnectionPool("test", poolConfig, connectionFactory, dbInfo, null, false);
+   }
+
+   @Test
+   public void testReturnedConnectionIsReused() throws SQLException {
+      ConcurrentConnectionPool pool = newPool(JdbcClientBuilder.newBuilder());
+
+      Connection first = pool.getConnection();
+      assertEquals(1, pool.getNumActive());
+      first.close();
+      assertEquals(0, pool.getNumActive());
+      assertEquals(1, pool.getNumIdle());
+
+      Connection second = pool.getConnection();
+      assertEquals(1, physicalConnections.size());
+      assertTrue(first.isClosed());
+      assertFalse(second.isClosed());
+      second.close();
+   }
+
+   @Test
+   public void testReturnedHandleIsUnusable() throws SQLException {
+      ConcurrentConnectionPool pool = newPool(JdbcClientBuilder.newBuilder());
+
+      Connection connection = pool.getConnection();
+      connection.close();
+      connection.close();
+      assertEquals(1, pool.getNumIdle());
+      try {
+         connection.createStatement();
+         fail("Expected exception using a returned connection");
+      } catch (SQLException ex) {
+         // Expected
+      }
+   }
+
+   @Test
+   public void testConnectionExceptionDiscardsConnection() throws SQLException {
+      ConcurrentConnectionPool pool = newPool(JdbcClientBuilder.newBuilder());
+
+      Connection connection = pool.getConnection();
+      when(physicalConnections.get(0).createStatement()).thenThrow(new SQLException("lost", "08006"));
+      try {
+         connection.createStatement();
+         fail("Expected connection exception");
+      } catch (SQLException ex) {
+         assertEquals("08006", ex.getSQLState());
+      }
+      connection.close();
+      assertEquals(0, pool.getNumIdle());
+      verify(physicalConnections.get(0)).close();
+   }
+
+   @Test
+   public void testFailWhenExhausted() throws SQLException {
+      ConcurrentConnectionPool pool = newPool(
+         JdbcClientBuilder.newBuilder().poolMaxActiveConnections(1).poolExhaustedAction(
+            PoolExhaustedAction.WHEN_EXHAUSTED_FAIL));
+
+      Connection connection = pool.getConnection();
+      try {
+         pool.getConnection();
+         fail("Expected pool exhausted");
+      } catch (SQLTransientConnectionException ex) {
+         // Expected
+      }
+      connection.close();
+      pool.getConnection().close();
+      assertEquals(1, physicalConnections.size());
+   }
+
+   @Test
+   public void testBlockTimesOutWhenExhausted() throws SQLException {
+      ConcurrentConnectionPool pool = newPool(JdbcClientBuilder.newBuilder().poolMaxActiveConnections(
+         1).poolMaxWaitForConnection(20L).poolExhaustedAction(PoolExhaustedAction.WHEN_EXHAUSTED_BLOCK));
+
+      pool.getConnection();
+      long start = System.currentTimeMillis();
+      try {
+         pool.getConnection();
+         fail("Expected pool exhausted");
+      } catch (SQLTransientConnectionException ex) {
+         assertTrue(System.currentTimeMillis() - start >= 20L);
+      }
+      assertEquals(0, pool.getNumWaiting());
+   }
+
+   @Test
+   public void testAbandonedConnectionReclaimed() throws SQLException {
+      ConcurrentConnectionPool pool = newPool(JdbcClientBuilder.newBuilder().poolMaxActiveConnections(
+         1).poolAbandonedRemovalEnabled(true).poolAbandonedRemovalTimeout(1));
+
+      Connection leaked = pool.getConnection();
+      pool.maintain();
+      assertEquals(1, pool.getNumActive());
+
+      pool.maintain(System.currentTimeMillis() + 2000L);
+      assertEquals(0, pool.getNumActive());
+      verify(physicalConnections.get(0)).close();
+
+      // Permit was released so the pool is usable again; the late close is ignored
+      pool.getConnection();
+      leaked.close();
+      assertEquals(1, pool.getNumActive());
+   }
+
+   @Test
+   public void testIdleValidationEvictsBrokenConnection() throws SQLException {
+      ConcurrentConnectionPool pool = newPool(
+         JdbcClientBuilder.newBuilder().poolTestWhileIdeEnabled(true).poolTimeBetweenEvictionCheckMillis(0L));
+
+      pool.getConnection().close();
+      Connection physical = physicalConnections.get(0);
+      when(physical.isValid(anyInt())).thenReturn(false);
+
+      pool.maintain();
+      assertEquals(0, pool.getNumIdle());
+      verify(physical).close();
+   }
+
+   @Test
+   public void testStatistics() throws SQLException {
+      ConcurrentConnectionPool pool = newPool(JdbcClientBuilder.newBuilder());
+      pool.getConnection().close();
+      pool.getConnection();
+
+      Map<String, String> stats = new LinkedHashMap<>();
+      pool.getStatistics(stats, "db.pool.0");
+      assertEquals("test", stats.get("db.pool.0.id"));
+      assertEquals("1", stats.get("db.pool.0.active"));
+      assertEquals("0", stats.get("db.pool.0.idle"));
+      assertEquals("1", stats.get("db.pool.0.created"));
+      assertEquals("2", stats.get("db.pool.0.borrow.micros.histogram.count"));
+      assertEquals("1", stats.get("db.pool.0.active.histogram.max"));
+      assertTrue(stats.containsKey("db.pool.0.waiting.histogram.p99"));
+   }
+}
@@ -21,7 +21,7 @@ import org.junit.runners.Suite;
  * @author Roberto E. Escobar
  */
 @RunWith(Suite.class)
-@Suite.SuiteClasses({OsgiJunitTestSuite.class})
+@Suite.SuiteClasses({ConcurrentConnectionPoolTest.class, JdbcSequenceProviderTest.class, OsgiJunitTestSuite.class})
 public class InternalTestSuite {
    // Test Suite
 }
@@ -0,0 +1,121 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.jdbc.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.osee.jdbc.JdbcClient;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test Case for {@link JdbcSequenceProvider}
+ *
+ * @author agent
+ */
+public class JdbcSequenceProviderTest {
+
+   private static final String SEQUENCE = "TEST_SEQ";
+
+   private final AtomicLong lastSequence = new AtomicLong(-1L);
+   private final AtomicInteger updates = new AtomicInteger();
+   private JdbcSequenceProvider provider;
+   private JdbcClient client;
+
+   @Before
+   public void setup() {
+      provider = new JdbcSequenceProvider();
+      client = mock(JdbcClient.class, invocation -> {
+         Object[] args = invocation.getArguments();
+         switch (invocation.getMethod().getName()) {
+            case "fetch":
+               long current = lastSequence.get();
+               return current < 0 ? args[0] : current;
+            case "runPreparedUpdate":
+               String sql = (String) args[0];
+               if (sql.startsWith("INSERT")) {
+                  lastSequence.set(((Number) args[1]).longValue());
+                  return 1;
+               }
+               updates.incrementAndGet();
+               long expected = ((Number) args[3]).longValue();
+               return lastSequence.compareAndSet(expected, ((Number) args[1]).longValue()) ? 1 : 0;
+            default:
+               return null;
+         }
+      });
+   }
+
+   @Test
+   public void testNonAggressiveReservesOneAtATime() {
+      assertEquals(1L, provider.getNextSequence(client, SEQUENCE, false));
+      assertEquals(2L, provider.getNextSequence(client, SEQUENCE, false));
+      assertEquals(3L, provider.getNextSequence(client, SEQUENCE, false));
+      assertEquals(3L, lastSequence.get());
+      assertEquals(3, updates.get());
+   }
+
+   @Test
+   public void testConcurrentAllocationIsUnique() throws Exception {
+      int threads = 8;
+      int perThread = 5000;
+      Set<Long> ids = ConcurrentHashMap.newKeySet();
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      try {
+         List<Future<?>> futures = new ArrayList<>();
+         for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+               for (int j = 0; j < perThread; j++) {
+                  ids.add(provider.getNextSequence(client, SEQUENCE, true));
+               }
+            }));
+         }
+         for (Future<?> future : futures) {
+            future.get();
+         }
+      } finally {
+         executor.shutdown();
+      }
+
+      assertEquals(threads * perThread, ids.size());
+      for (Long id : ids) {
+         assertTrue(id > 0 && id <= lastSequence.get());
+      }
+      assertTrue("prefetch should grow with the allocation rate", updates.get() < threads * perThread / 10);
+   }
+
+   @Test
+   public void testStatistics() {
+      for (int i = 0; i < 10; i++) {
+         provider.getNextSequence(client, SEQUENCE, true);
+      }
+      Map<String, String> stats = provider.getStatistics();
+      assertEquals("10", stats.get("db.sequence.TEST_SEQ.allocations"));
+      assertTrue(Long.parseLong(stats.get("db.sequence.TEST_SEQ.refills")) >= 1);
+
+      provider.invalidate();
+      assertTrue(provider.getStatistics().isEmpty());
+   }
+}
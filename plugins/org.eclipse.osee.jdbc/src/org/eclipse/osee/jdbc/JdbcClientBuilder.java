@@ -18,7 +18,10 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.osee.framework.jdk.core.util.Strings;
 import org.eclipse.osee.jdbc.JdbcConstants.JdbcDriverType;
+import org.eclipse.osee.jdbc.JdbcConstants.JdbcPoolType;
 import org.eclipse.osee.jdbc.JdbcConstants.PoolExhaustedAction;
+import org.eclipse.osee.jdbc.internal.ConcurrentPoolFactory;
+import org.eclipse.osee.jdbc.internal.DbcpPoolFactory;
 import org.eclipse.osee.jdbc.internal.JdbcClientImpl;
 import org.eclipse.osee.jdbc.internal.JdbcConnectionFactory;
 import org.eclipse.osee.jdbc.internal.JdbcConnectionFactoryManager;
@@ -107,7 +110,12 @@ public final class JdbcClientBuilder extends JdbcClientConfig {
 
       JdbcConnectionProvider connectionProvider;
       if (poolConfig.isPoolEnabled()) {
-         PoolFactory poolFactory = new PoolFactory(manager, poolConfig);
+         PoolFactory poolFactory;
+         if (JdbcPoolType.concurrent == poolConfig.getPoolType()) {
+            poolFactory = new ConcurrentPoolFactory(manager, poolConfig);
+         } else {
+            poolFactory = new DbcpPoolFactory(manager, poolConfig);
+         }
          connectionProvider = new PooledConnectionProvider(poolFactory);
       } else {
          connectionProvider = new SimpleConnectionProvider(manager);
@@ -190,6 +198,11 @@ public final class JdbcClientBuilder extends JdbcClientConfig {
       return this;
    }
 
+   public JdbcClientBuilder poolType(JdbcPoolType value) {
+      getPoolConfig().setPoolType(value);
+      return this;
+   }
+
    public JdbcClientBuilder poolLifo(boolean value) {
       getPoolConfig().setPoolLifo(value);
       return this;
@@ -52,6 +52,7 @@ public final class JdbcConstants {
    public static final String JDBC__CONNECTION_PASSWORD = CLIENT_NAMESPACE + "db.password";
 
    public static final String JDBC_POOL__ENABLED = POOL_NAMESPACE + "enabled";
+   public static final String JDBC_POOL__TYPE = POOL_NAMESPACE + "type";
    public static final String JDBC_POOL__CONFIG_FILE_URI = POOL_NAMESPACE + "config.file.uri";
    public static final String JDBC_POOL__PREPARED_STATEMENTS_ALLOWED = POOL_NAMESPACE + "prepared.statements.allowed";
    public static final String JDBC_POOL__VALIDATION_QUERY_TIMEOUT_SECS = POOL_NAMESPACE + "validation.query.timeout.secs";
@@ -85,6 +86,7 @@ public final class JdbcConstants {
    public static final String DEFAULT_JDBC__CONNECTION_PASSWORD = "";
 
    public static final boolean DEFAULT_JDBC_POOL__ENABLED = true;
+   public static final JdbcPoolType DEFAULT_JDBC_POOL__TYPE = JdbcPoolType.dbcp;
    public static final String DEFAULT_JDBC_POOL__CONFIG_FILE_URI = null;
    public static final String DEFAULT_JDBC_POOL__CONNECTION_DRIVER = "org.apache.commons.dbcp.PoolingDriver";
    public static final String DEFAUT_JDBC_POOL__CONNECTION_ID = "jdbc:apache:commons:dbcp:";
@@ -180,6 +182,22 @@ public final class JdbcConstants {
       }
    }
 
+   public static enum JdbcPoolType {
+      dbcp, // commons-dbcp PoolingDriver
+      concurrent; // in-process pool with lock-free borrow path and usage histograms
+
+      public static JdbcPoolType fromString(String value) {
+         JdbcPoolType toReturn = DEFAULT_JDBC_POOL__TYPE;
+         for (JdbcPoolType type : JdbcPoolType.values()) {
+            if (type.name().equalsIgnoreCase(value)) {
+               toReturn = type;
+               break;
+            }
+         }
+         return toReturn;
+      }
+   }
+
    public static enum JdbcDriverType {
       oracle_thin("oracle.jdbc.OracleDriver", "jdbc:oracle:thin", "%s:@%s:%s:%s"),
       postgresql("org.postgresql.Driver", "jdbc:postgresql", "%s://%s:%s/%s"),
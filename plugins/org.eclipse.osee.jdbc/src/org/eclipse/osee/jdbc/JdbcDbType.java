@@ -16,6 +16,7 @@ package org.eclipse.osee.jdbc;
 import static org.eclipse.osee.jdbc.JdbcException.newJdbcException;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.Collections;
 import org.eclipse.osee.framework.jdk.core.type.BaseId;
 import org.eclipse.osee.framework.jdk.core.type.OseeArgumentException;
 
@@ -140,6 +141,30 @@ public class JdbcDbType extends BaseId {
       }
    }
 
+   /**
+    * Databases that accept a java.sql.Array bound to a single parameter and can expand it into rows with UNNEST. Oracle
+    * is excluded since it requires a schema level collection type and driver specific array creation.
+    */
+   public boolean isArrayBindingSupported() {
+      return matches(postgresql, hsql);
+   }
+
+   /**
+    * @return a table expression which expands arrayCount bigint array parameters (bound as long[]) into rows of
+    * arrayCount columns
+    */
+   public String getUnnestSql(int arrayCount) {
+      String parameter;
+      if (equals(postgresql)) {
+         parameter = "?::bigint[]";
+      } else if (equals(hsql)) {
+         parameter = "CAST(? AS BIGINT ARRAY)";
+      } else {
+         throw newJdbcException("Array binding is not supported for db [%s]", this);
+      }
+      return "unnest(" + String.join(", ", Collections.nCopies(arrayCount, parameter)) + ")";
+   }
+
    /**
     * return union keyword in recursive query using a Common Table Expression (WITH statement). Oracle requires UNION
     * ALL (does not support UNION in a recursive CTE). HSQLDB version 2.3.2+ hangs indefinitely when UNION ALL is used.
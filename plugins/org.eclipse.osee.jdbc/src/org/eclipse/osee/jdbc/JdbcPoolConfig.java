@@ -36,6 +36,7 @@ import static org.eclipse.osee.jdbc.JdbcConstants.DEFAULT_JDBC_POOL__TEST_ON_BOR
 import static org.eclipse.osee.jdbc.JdbcConstants.DEFAULT_JDBC_POOL__TEST_ON_RETURN;
 import static org.eclipse.osee.jdbc.JdbcConstants.DEFAULT_JDBC_POOL__TEST_WHILE_IDLE;
 import static org.eclipse.osee.jdbc.JdbcConstants.DEFAULT_JDBC_POOL__TIME_BETWEEN_EVICTION_RUNS_MILLIS;
+import static org.eclipse.osee.jdbc.JdbcConstants.DEFAULT_JDBC_POOL__TYPE;
 import static org.eclipse.osee.jdbc.JdbcConstants.DEFAULT_JDBC_POOL__VALIDATION_QUERY_TIMEOUT_SECS;
 import static org.eclipse.osee.jdbc.JdbcConstants.DEFAULT_JDBC_POOL__WHEN_EXHAUSTED_ACTION;
 import static org.eclipse.osee.jdbc.JdbcConstants.JDBC_POOL__CONFIG_FILE_URI;
@@ -61,6 +62,7 @@ import static org.eclipse.osee.jdbc.JdbcConstants.JDBC_POOL__TEST_ON_BORROW;
 import static org.eclipse.osee.jdbc.JdbcConstants.JDBC_POOL__TEST_ON_RETURN;
 import static org.eclipse.osee.jdbc.JdbcConstants.JDBC_POOL__TEST_WHILE_IDLE;
 import static org.eclipse.osee.jdbc.JdbcConstants.JDBC_POOL__TIME_BETWEEN_EVICTION_RUNS_MILLIS;
+import static org.eclipse.osee.jdbc.JdbcConstants.JDBC_POOL__TYPE;
 import static org.eclipse.osee.jdbc.JdbcConstants.JDBC_POOL__VALIDATION_QUERY_TIMEOUT_SECS;
 import static org.eclipse.osee.jdbc.JdbcConstants.JDBC_POOL__WHEN_EXHAUSTED_ACTION;
 import static org.eclipse.osee.jdbc.JdbcException.newJdbcException;
@@ -69,6 +71,7 @@ import static org.eclipse.osee.jdbc.internal.JdbcUtil.getBoolean;
 import static org.eclipse.osee.jdbc.internal.JdbcUtil.getExhaustedAction;
 import static org.eclipse.osee.jdbc.internal.JdbcUtil.getInt;
 import static org.eclipse.osee.jdbc.internal.JdbcUtil.getLong;
+import static org.eclipse.osee.jdbc.internal.JdbcUtil.getJdbcPoolType;
 import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.InputStream;
@@ -79,6 +82,7 @@ import java.util.Map;
 import java.util.Properties;
 import org.eclipse.osee.framework.jdk.core.util.Lib;
 import org.eclipse.osee.framework.jdk.core.util.Strings;
+import org.eclipse.osee.jdbc.JdbcConstants.JdbcPoolType;
 import org.eclipse.osee.jdbc.JdbcConstants.PoolExhaustedAction;
 
 /**
@@ -87,6 +91,7 @@ import org.eclipse.osee.jdbc.JdbcConstants.PoolExhaustedAction;
 public class JdbcPoolConfig {
 
    private boolean poolEnabled;
+   private JdbcPoolType poolType;
    private String poolConfigUri;
    private boolean poolPreparedStatementsAllowed;
    private int poolValidationQueryTimeoutSecs;
@@ -119,6 +124,7 @@ public class JdbcPoolConfig {
 
    void reset() {
       setPoolEnabled(DEFAULT_JDBC_POOL__ENABLED);
+      setPoolType(DEFAULT_JDBC_POOL__TYPE);
       setPoolConfigUri(DEFAULT_JDBC_POOL__CONFIG_FILE_URI);
       setPoolAbandonedLoggingEnabled(DEFAULT_JDBC_POOL__LOG_ABANDONED);
       setPoolAbandonedRemovalEnabled(DEFAULT_JDBC_POOL__REMOVE_ABANDONED);
@@ -149,6 +155,10 @@ public class JdbcPoolConfig {
       return poolEnabled;
    }
 
+   public JdbcPoolType getPoolType() {
+      return poolType;
+   }
+
    public String getPoolConfigUri() {
       return poolConfigUri;
    }
@@ -257,6 +267,10 @@ public class JdbcPoolConfig {
       this.poolEnabled = poolEnabled;
    }
 
+   void setPoolType(JdbcPoolType poolType) {
+      this.poolType = poolType;
+   }
+
    void setPoolConfigUri(String poolConfigUri) {
       if (poolConfigUri != null && !poolConfigUri.equals(this.poolConfigUri)) {
          readPoolConfig(poolConfigUri);
@@ -359,6 +373,7 @@ public class JdbcPoolConfig {
    void readProperties(Map<String, Object> src) {
       //@formatter:off
       setPoolEnabled(getBoolean(src, JDBC_POOL__ENABLED, DEFAULT_JDBC_POOL__ENABLED));
+      setPoolType(getJdbcPoolType(src, JDBC_POOL__TYPE, DEFAULT_JDBC_POOL__TYPE));
       setPoolConfigUri(get(src, JDBC_POOL__CONFIG_FILE_URI, DEFAULT_JDBC_POOL__CONFIG_FILE_URI));
       setPoolAbandonedLoggingEnabled(getBoolean(src, JDBC_POOL__LOG_ABANDONED, DEFAULT_JDBC_POOL__LOG_ABANDONED));
       setPoolAbandonedRemovalEnabled(getBoolean(src, JDBC_POOL__REMOVE_ABANDONED, DEFAULT_JDBC_POOL__REMOVE_ABANDONED));
@@ -389,6 +404,7 @@ public class JdbcPoolConfig {
    protected JdbcPoolConfig copy() {
       JdbcPoolConfig data = new JdbcPoolConfig();
       data.poolEnabled = this.poolEnabled;
+      data.poolType = this.poolType;
       data.poolConfigUri = this.poolConfigUri;
       data.poolPreparedStatementsAllowed = this.poolPreparedStatementsAllowed;
       data.poolValidationQueryTimeoutSecs = this.poolValidationQueryTimeoutSecs;
@@ -418,6 +434,7 @@ public class JdbcPoolConfig {
 
    protected void copy(JdbcPoolConfig other) {
       this.poolEnabled = other.poolEnabled;
+      this.poolType = other.poolType;
       this.poolConfigUri = other.poolConfigUri;
       this.poolPreparedStatementsAllowed = other.poolPreparedStatementsAllowed;
       this.poolValidationQueryTimeoutSecs = other.poolValidationQueryTimeoutSecs;
@@ -475,6 +492,7 @@ public class JdbcPoolConfig {
          }
 
          //@formatter:off
+         setPoolType(JdbcPoolType.fromString(getObj(props, "poolType", DEFAULT_JDBC_POOL__TYPE.name())));
          setPoolAbandonedLoggingEnabled(getBooleanObj(props, "logAbandoned", DEFAULT_JDBC_POOL__LOG_ABANDONED));
          setPoolAbandonedRemovalEnabled(getBooleanObj(props, "removeAbandoned", DEFAULT_JDBC_POOL__REMOVE_ABANDONED));
          setPoolAbandonedRemovalTimeout(getIntObj(props, "removeAbandonedTimeout", DEFAULT_JDBC_POOL__REMOVE_ABANDONED_TIMEOUT));
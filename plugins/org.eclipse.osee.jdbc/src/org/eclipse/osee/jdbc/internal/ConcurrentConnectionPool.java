@@ -0,0 +1,470 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.jdbc.internal;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+import org.eclipse.osee.framework.logging.OseeLog;
+import org.eclipse.osee.jdbc.JdbcConstants.PoolExhaustedAction;
+import org.eclipse.osee.jdbc.JdbcPoolConfig;
+
+/**
+ * Connection pool whose borrow path is a semaphore permit plus a poll of a lock-free deque of idle connections.
+ * Validation and idle eviction are left to the maintenance task so a borrow never waits on a round trip to the
+ * database unless test on borrow is explicitly enabled. Connections held past the abandoned timeout are reported and,
+ * when configured, reclaimed.
+ *
+ * @author agent
+ */
+public class ConcurrentConnectionPool implements DataSource {
+
+   private final String poolId;
+   private final JdbcPoolConfig config;
+   private final JdbcConnectionFactory connectionFactory;
+   private final JdbcConnectionInfo dbInfo;
+   private final String validationQuery;
+   private final boolean txIsolationLevelSupported;
+   private final Semaphore permits;
+
+   private final ConcurrentLinkedDeque<PooledConnection> idle = new ConcurrentLinkedDeque<>();
+   private final Set<PooledConnection> borrowed = ConcurrentHashMap.newKeySet();
+   private final AtomicInteger idleCount = new AtomicInteger();
+   private final AtomicInteger activeCount = new AtomicInteger();
+   private final AtomicInteger waitingCount = new AtomicInteger();
+   private final AtomicInteger totalCount = new AtomicInteger();
+
+   private final LongAdder created = new LongAdder();
+   private final LongAdder destroyed = new LongAdder();
+   private final LongAdder exhausted = new LongAdder();
+   private final LongAdder abandoned = new LongAdder();
+   private final LongAdder validationFailures = new LongAdder();
+
+   private final PoolHistogram activeHistogram = new PoolHistogram();
+   private final PoolHistogram idleHistogram = new PoolHistogram();
+   private final PoolHistogram waitingHistogram = new PoolHistogram();
+   private final PoolHistogram borrowMicrosHistogram = new PoolHistogram();
+
+   private volatile boolean closed;
+   private PrintWriter logWriter;
+
+   public ConcurrentConnectionPool(String poolId, JdbcPoolConfig config, JdbcConnectionFactory connectionFactory, JdbcConnectionInfo dbInfo, String validationQuery, boolean txIsolationLevelSupported) {
+      this.poolId = poolId;
+      this.config = config;
+      this.connectionFactory = connectionFactory;
+      this.dbInfo = dbInfo;
+      this.validationQuery = validationQuery;
+      this.txIsolationLevelSupported = txIsolationLevelSupported;
+
+      int maxActive = config.getPoolMaxActiveConnections();
+      boolean isBounded = maxActive > 0 && PoolExhaustedAction.WHEN_EXHAUSTED_GROW != config.getPoolExhaustedAction();
+      this.permits = isBounded ? new Semaphore(maxActive) : null;
+   }
+
+   public String getPoolId() {
+      return poolId;
+   }
+
+   public int getNumActive() {
+      return activeCount.get();
+   }
+
+   public int getNumIdle() {
+      return idleCount.get();
+   }
+
+   public int getNumWaiting() {
+      return waitingCount.get();
+   }
+
+   @Override
+   public Connection getConnection() throws SQLException {
+      if (closed) {
+         throw new SQLException(String.format("Connection pool [%s] has been closed", poolId));
+      }
+      long start = System.nanoTime();
+      acquirePermit();
+      PooledConnection pooled;
+      try {
+         pooled = takeIdle();
+         if (pooled == null) {
+            pooled = createConnection();
+         }
+      } catch (SQLException | RuntimeException ex) {
+         releasePermit();
+         throw ex;
+      }
+      pooled.lastBorrowed = System.currentTimeMillis();
+      pooled.abandonReported = false;
+      if (config.isPoolAbandonedLoggingEnabled()) {
+         pooled.borrowTrace = new Throwable("Connection borrowed by thread " + Thread.currentThread().getName());
+      }
+      borrowed.add(pooled);
+      int active = activeCount.incrementAndGet();
+
+      borrowMicrosHistogram.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+      sample(active);
+      return pooled.newHandle();
+   }
+
+   @Override
+   public Connection getConnection(String username, String password) throws SQLException {
+      throw new SQLFeatureNotSupportedException("Pooled connections use the configured credentials");
+   }
+
+   private void acquirePermit() throws SQLException {
+      if (permits == null || permits.tryAcquire()) {
+         return;
+      }
+      if (PoolExhaustedAction.WHEN_EXHAUSTED_BLOCK == config.getPoolExhaustedAction()) {
+         waitingCount.incrementAndGet();
+         try {
+            long maxWait = config.getPoolMaxWaitForConnection();
+            if (maxWait <= 0) {
+               permits.acquire();
+               return;
+            } else if (permits.tryAcquire(maxWait, TimeUnit.MILLISECONDS)) {
+               return;
+            }
+         } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(String.format("Interrupted waiting for connection from pool [%s]", poolId), ex);
+         } finally {
+            waitingCount.decrementAndGet();
+         }
+      }
+      exhausted.increment();
+      throw new SQLTransientConnectionException(String.format("Connection pool [%s] exhausted - max active [%s]",
+         poolId, config.getPoolMaxActiveConnections()));
+   }
+
+   private void releasePermit() {
+      if (permits != null) {
+         permits.release();
+      }
+   }
+
+   private PooledConnection takeIdle() {
+      PooledConnection pooled;
+      while ((pooled = config.isPoolLifo() ? idle.pollFirst() : idle.pollLast()) != null) {
+         idleCount.decrementAndGet();
+         if (!config.isPoolTestOnBorrowEnabled() || validate(pooled)) {
+            break;
+         }
+         destroy(pooled);
+      }
+      return pooled;
+   }
+
+   private PooledConnection createConnection() throws SQLException {
+      Connection connection = connectionFactory.getConnection(dbInfo);
+      try {
+         if (txIsolationLevelSupported) {
+            connection.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+         }
+      } catch (SQLException ex) {
+         closeQuietly(connection);
+         throw ex;
+      }
+      created.increment();
+      totalCount.incrementAndGet();
+      return new PooledConnection(connection);
+   }
+
+   private void release(PooledConnection pooled) {
+      if (!borrowed.remove(pooled)) {
+         // Already reclaimed as abandoned
+         return;
+      }
+      activeCount.decrementAndGet();
+      try {
+         int maxIdle = config.getPoolMaxIdleConnections();
+         boolean reusable = !closed && !pooled.broken && (maxIdle < 0 || idleCount.get() < maxIdle) && reset(pooled);
+         if (reusable && config.isPoolTestOnReturnEnabled()) {
+            reusable = validate(pooled);
+         }
+         if (reusable) {
+            pooled.lastReturned = System.currentTimeMillis();
+            pooled.borrowTrace = null;
+            idleCount.incrementAndGet();
+            idle.offerFirst(pooled);
+         } else {
+            destroy(pooled);
+         }
+      } finally {
+         releasePermit();
+      }
+   }
+
+   private boolean reset(PooledConnection pooled) {
+      Connection connection = pooled.connection;
+      try {
+         if (!connection.getAutoCommit()) {
+            connection.rollback();
+            connection.setAutoCommit(true);
+         }
+         connection.clearWarnings();
+         return true;
+      } catch (SQLException ex) {
+         return false;
+      }
+   }
+
+   private boolean validate(PooledConnection pooled) {
+      Connection connection = pooled.connection;
+      int timeoutSecs = Math.max(0, config.getPoolValidationQueryTimeoutSecs());
+      boolean isValid;
+      try {
+         if (validationQuery == null) {
+            isValid = connection.isValid(timeoutSecs);
+         } else {
+            try (Statement stmt = connection.createStatement()) {
+               stmt.setQueryTimeout(timeoutSecs);
+               try (ResultSet rs = stmt.executeQuery(validationQuery)) {
+                  isValid = rs.next();
+               }
+            }
+         }
+      } catch (SQLException ex) {
+         isValid = false;
+      }
+      if (isValid) {
+         pooled.lastValidated = System.currentTimeMillis();
+      } else {
+         validationFailures.increment();
+      }
+      return isValid;
+   }
+
+   private void destroy(PooledConnection pooled) {
+      totalCount.decrementAndGet();
+      destroyed.increment();
+      closeQuietly(pooled.connection);
+   }
+
+   private void sample(int active) {
+      activeHistogram.record(active);
+      idleHistogram.record(idleCount.get());
+      waitingHistogram.record(waitingCount.get());
+   }
+
+   /**
+    * Runs on the pool maintenance thread every {@link JdbcPoolConfig#getPoolTimeBetweenEvictionCheckMillis()}
+    */
+   public void maintain() {
+      maintain(System.currentTimeMillis());
+   }
+
+   void maintain(long now) {
+      if (closed) {
+         return;
+      }
+      reclaimAbandoned(now);
+      evictIdle(now);
+      ensureMinIdle();
+      sample(activeCount.get());
+   }
+
+   private void reclaimAbandoned(long now) {
+      boolean logAbandoned = config.isPoolAbandonedLoggingEnabled();
+      boolean removeAbandoned = config.isPoolAbandonedRemovalEnabled();
+      long timeoutMillis = TimeUnit.SECONDS.toMillis(config.getPoolAbandonedRemovalTimeout());
+      if (timeoutMillis <= 0 || !logAbandoned && !removeAbandoned) {
+         return;
+      }
+      for (PooledConnection pooled : borrowed) {
+         long heldMillis = now - pooled.lastBorrowed;
+         if (heldMillis > timeoutMillis && !pooled.abandonReported) {
+            pooled.abandonReported = true;
+            abandoned.increment();
+            if (logAbandoned) {
+               OseeLog.logf(ConcurrentConnectionPool.class, Level.WARNING, pooled.borrowTrace,
+                  "Connection in pool [%s] has been held for [%s] ms", poolId, heldMillis);
+            }
+            if (removeAbandoned && borrowed.remove(pooled)) {
+               activeCount.decrementAndGet();
+               destroy(pooled);
+               releasePermit();
+            }
+         }
+      }
+   }
+
+   private void evictIdle(long now) {
+      long minEvictableIdle = config.getPoolMinEvictableIdleTimeMillis();
+      long softMinEvictableIdle = config.getPoolSoftMinEvictableTimeoutMillis();
+      long evictionInterval = config.getPoolTimeBetweenEvictionCheckMillis();
+      int minIdle = config.getPoolMinIdleConnections();
+      boolean testWhileIdle = config.isPoolTestWhileIdeEnabled();
+      int numTests = config.getPoolNumberTestsPerEvictionRun();
+      int testLimit = numTests > 0 ? numTests : Integer.MAX_VALUE;
+
+      int tested = 0;
+      // Oldest idle connections sit at the tail of the deque
+      for (Iterator<PooledConnection> iterator = idle.descendingIterator(); iterator.hasNext();) {
+         PooledConnection pooled = iterator.next();
+         long idleMillis = now - pooled.lastReturned;
+         boolean isExpired = minEvictableIdle > 0 && idleMillis > minEvictableIdle;
+         isExpired |= softMinEvictableIdle > 0 && idleMillis > softMinEvictableIdle && idleCount.get() > minIdle;
+         boolean needsTest = testWhileIdle && tested < testLimit && now - Math.max(pooled.lastReturned,
+            pooled.lastValidated) >= evictionInterval;
+         if ((isExpired || needsTest) && idle.removeFirstOccurrence(pooled)) {
+            idleCount.decrementAndGet();
+            if (isExpired) {
+               destroy(pooled);
+            } else {
+               tested++;
+               if (validate(pooled)) {
+                  idleCount.incrementAndGet();
+                  idle.offerLast(pooled);
+               } else {
+                  destroy(pooled);
+               }
+            }
+         }
+      }
+   }
+
+   private void ensureMinIdle() {
+      int minIdle = config.getPoolMinIdleConnections();
+      int maxActive = config.getPoolMaxActiveConnections();
+      while (!closed && idleCount.get() < minIdle && (maxActive <= 0 || totalCount.get() < maxActive)) {
+         try {
+            PooledConnection pooled = createConnection();
+            pooled.lastReturned = System.currentTimeMillis();
+            idleCount.incrementAndGet();
+            idle.offerLast(pooled);
+         } catch (Exception ex) {
+            OseeLog.log(ConcurrentConnectionPool.class, Level.WARNING, ex);
+            break;
+         }
+      }
+   }
+
+   public void close() {
+      closed = true;
+      PooledConnection pooled;
+      while ((pooled = idle.pollFirst()) != null) {
+         idleCount.decrementAndGet();
+         destroy(pooled);
+      }
+   }
+
+   public void getStatistics(Map<String, String> stats, String prefix) {
+      stats.put(prefix + ".id", poolId);
+      stats.put(prefix + ".active", String.valueOf(activeCount.get()));
+      stats.put(prefix + ".idle", String.valueOf(idleCount.get()));
+      stats.put(prefix + ".waiting", String.valueOf(waitingCount.get()));
+      stats.put(prefix + ".max.active", String.valueOf(config.getPoolMaxActiveConnections()));
+      stats.put(prefix + ".created", String.valueOf(created.sum()));
+      stats.put(prefix + ".destroyed", String.valueOf(destroyed.sum()));
+      stats.put(prefix + ".exhausted", String.valueOf(exhausted.sum()));
+      stats.put(prefix + ".abandoned", String.valueOf(abandoned.sum()));
+      stats.put(prefix + ".validation.failures", String.valueOf(validationFailures.sum()));
+      activeHistogram.writeTo(stats, prefix + ".active.histogram");
+      idleHistogram.writeTo(stats, prefix + ".idle.histogram");
+      waitingHistogram.writeTo(stats, prefix + ".waiting.histogram");
+      borrowMicrosHistogram.writeTo(stats, prefix + ".borrow.micros.histogram");
+   }
+
+   private static void closeQuietly(Connection connection) {
+      try {
+         connection.close();
+      } catch (SQLException ex) {
+         // Do nothing on close exception
+      }
+   }
+
+   @Override
+   public PrintWriter getLogWriter() {
+      return logWriter;
+   }
+
+   @Override
+   public void setLogWriter(PrintWriter out) {
+      this.logWriter = out;
+   }
+
+   @Override
+   public void setLoginTimeout(int seconds) {
+      // Connections are created through the configured connection factory
+   }
+
+   @Override
+   public int getLoginTimeout() {
+      return 0;
+   }
+
+   @Override
+   public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+      throw new SQLFeatureNotSupportedException();
+   }
+
+   @Override
+   public <T> T unwrap(Class<T> iface) throws SQLException {
+      if (iface.isInstance(this)) {
+         return iface.cast(this);
+      }
+      throw new SQLException(String.format("[%s] is not a wrapper for [%s]", getClass().getSimpleName(), iface));
+   }
+
+   @Override
+   public boolean isWrapperFor(Class<?> iface) {
+      return iface.isInstance(this);
+   }
+
+   private final class PooledConnection {
+      private final Connection connection;
+      private volatile long lastBorrowed;
+      private volatile long lastReturned;
+      private volatile long lastValidated;
+      private volatile boolean abandonReported;
+      private volatile boolean broken;
+      private Throwable borrowTrace;
+
+      public PooledConnection(Connection connection) {
+         this.connection = connection;
+      }
+
+      public Connection newHandle() {
+         return new PooledConnectionHandle(connection) {
+            @Override
+            protected void onClose() {
+               release(PooledConnection.this);
+            }
+
+            @Override
+            protected void onConnectionException() {
+               broken = true;
+            }
+         };
+      }
+   }
+}
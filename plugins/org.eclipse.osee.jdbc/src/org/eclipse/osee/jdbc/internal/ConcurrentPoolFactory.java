@@ -0,0 +1,99 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.jdbc.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.eclipse.osee.jdbc.JdbcConstants.JdbcPoolType;
+import org.eclipse.osee.jdbc.JdbcPoolConfig;
+import org.eclipse.osee.jdbc.internal.JdbcConnectionFactoryManager.MetaData;
+
+/**
+ * Creates {@link ConcurrentConnectionPool}s and runs their idle validation, eviction and leak detection on a single
+ * daemon maintenance thread.
+ *
+ * @author agent
+ */
+public class ConcurrentPoolFactory implements PoolFactory {
+
+   private final Map<String, ConcurrentConnectionPool> pools = new ConcurrentHashMap<>();
+   private final Map<String, ScheduledFuture<?>> maintenanceTasks = new ConcurrentHashMap<>();
+   private final JdbcConnectionFactoryManager manager;
+   private final JdbcPoolConfig poolConfiguration;
+   private final ScheduledThreadPoolExecutor maintenanceExecutor;
+
+   public ConcurrentPoolFactory(JdbcConnectionFactoryManager manager, JdbcPoolConfig poolConfiguration) {
+      this.manager = manager;
+      this.poolConfiguration = poolConfiguration;
+      this.maintenanceExecutor = new ScheduledThreadPoolExecutor(1, runnable -> {
+         Thread thread = new Thread(runnable, "osee.jdbc.pool.maintenance");
+         thread.setDaemon(true);
+         return thread;
+      });
+      maintenanceExecutor.setRemoveOnCancelPolicy(true);
+   }
+
+   @Override
+   public Callable<DataSource> createDataSourceFetcher(JdbcConnectionInfo dbInfo) {
+      return () -> {
+         MetaData metadata = manager.getMetaData(dbInfo);
+         JdbcConnectionFactory connectionFactory = manager.getFactory(dbInfo.getDriver());
+
+         String poolId = dbInfo.getId();
+         ConcurrentConnectionPool pool = new ConcurrentConnectionPool(poolId, poolConfiguration, connectionFactory,
+            dbInfo, metadata.getValidationQuery(), metadata.isTxIsolationLevelSupported());
+         pools.put(poolId, pool);
+
+         long interval = poolConfiguration.getPoolTimeBetweenEvictionCheckMillis();
+         if (interval > 0) {
+            ScheduledFuture<?> task =
+               maintenanceExecutor.scheduleWithFixedDelay(pool::maintain, interval, interval, TimeUnit.MILLISECONDS);
+            maintenanceTasks.put(poolId, task);
+         }
+         return pool;
+      };
+   }
+
+   @Override
+   public void disposePools(Iterable<String> keys) {
+      for (String key : keys) {
+         ScheduledFuture<?> task = maintenanceTasks.remove(key);
+         if (task != null) {
+            task.cancel(false);
+         }
+         ConcurrentConnectionPool pool = pools.remove(key);
+         if (pool != null) {
+            pool.close();
+         }
+      }
+   }
+
+   @Override
+   public Map<String, String> getPoolStats() {
+      Map<String, String> stats = new LinkedHashMap<>();
+      stats.put("db.pool.type", JdbcPoolType.concurrent.name());
+      int count = 0;
+      for (ConcurrentConnectionPool pool : pools.values()) {
+         pool.getStatistics(stats, String.format("db.pool.%s", count));
+         count++;
+      }
+      return stats;
+   }
+}
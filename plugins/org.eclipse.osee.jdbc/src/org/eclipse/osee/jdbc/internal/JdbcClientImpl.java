@@ -22,6 +22,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -336,7 +337,9 @@ public final class JdbcClientImpl implements JdbcClient {
 
    @Override
    public Map<String, String> getStatistics() throws JdbcException {
-      return connectionProvider.getStatistics();
+      Map<String, String> stats = new LinkedHashMap<>(connectionProvider.getStatistics());
+      stats.putAll(sequenceProvider.getStatistics());
+      return stats;
    }
 
    @Override
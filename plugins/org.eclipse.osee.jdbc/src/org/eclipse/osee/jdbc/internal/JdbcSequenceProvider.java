@@ -13,11 +13,28 @@
 
 package org.eclipse.osee.jdbc.internal;
 
-import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import org.eclipse.osee.framework.core.data.OseeData;
 import org.eclipse.osee.jdbc.JdbcClient;
 
 /**
+ * Hands out ids from blocks reserved in osee_sequence. Each sequence allocates from its current block with a single
+ * atomic increment; only the thread that exhausts a block takes the per sequence monitor to install the next one. For
+ * aggressively fetched sequences the next block is reserved in the background once a quarter of the current block
+ * remains, and the block size follows the observed allocation rate so that a block lasts about
+ * TARGET_BLOCK_DURATION_MILLIS.
+ *
  * @author Ryan D. Brooks
  */
 public class JdbcSequenceProvider {
@@ -26,49 +43,64 @@ public class JdbcSequenceProvider {
    private static final String UPDATE_SEQUENCE =
       "UPDATE osee_sequence SET last_sequence = ? WHERE sequence_name = ? AND last_sequence = ?";
 
-   private final HashMap<String, SequenceRange> sequences = new HashMap<>(30);
+   private static final int MAX_PREFETCH_SIZE = 10000;
+   private static final long TARGET_BLOCK_DURATION_MILLIS = 5000L;
+   private static final int REFILL_REMAINING_DIVISOR = 4;
+
+   private final ConcurrentHashMap<String, Sequence> sequences = new ConcurrentHashMap<>(30);
+   private final ExecutorService refillExecutor;
+
+   public JdbcSequenceProvider() {
+      ThreadPoolExecutor executor =
+         new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "osee.jdbc.sequence.refill");
+            thread.setDaemon(true);
+            return thread;
+         });
+      executor.allowCoreThreadTimeOut(true);
+      refillExecutor = executor;
+   }
 
-   public synchronized void invalidate() {
+   public void invalidate() {
       sequences.clear();
    }
 
-   public synchronized long getNextSequence(JdbcClient client, String sequenceName, boolean aggressiveFetch) {
-      SequenceRange range = getRange(sequenceName);
-      if (range.lastAvailable == 0) {
-         long lastValue = -1L;
-         boolean gotSequence = false;
-         while (!gotSequence) {
-            long currentValue = client.fetch(lastValue, QUERY_SEQUENCE, sequenceName);
-            if (currentValue == lastValue) {
-               internalInitializeSequence(client, sequenceName);
-               lastValue = 0;
-            } else {
-               lastValue = currentValue;
-            }
-            gotSequence =
-               client.runPreparedUpdate(UPDATE_SEQUENCE, lastValue + range.prefetchSize, sequenceName, lastValue) == 1;
-         }
-         range.updateRange(lastValue, aggressiveFetch);
-      }
-      range.currentValue++;
-      if (range.currentValue == range.lastAvailable) {
-         range.lastAvailable = 0;
+   public long getNextSequence(JdbcClient client, String sequenceName, boolean aggressiveFetch) {
+      return sequences.computeIfAbsent(sequenceName, Sequence::new).next(client, aggressiveFetch);
+   }
+
+   public Map<String, String> getStatistics() {
+      Map<String, String> stats = new TreeMap<>();
+      for (Sequence sequence : sequences.values()) {
+         String prefix = "db.sequence." + sequence.name;
+         double seconds = Math.max(1L, System.currentTimeMillis() - sequence.createdMillis) / 1000.0;
+         long allocations = sequence.allocations.sum();
+         stats.put(prefix + ".allocations", String.valueOf(allocations));
+         stats.put(prefix + ".allocation.rate", String.format("%.2f/s", allocations / seconds));
+         stats.put(prefix + ".refills", String.valueOf(sequence.refills.sum()));
+         stats.put(prefix + ".refills.background", String.valueOf(sequence.backgroundRefills.sum()));
+         stats.put(prefix + ".prefetch.size", String.valueOf(sequence.prefetchSize));
       }
-      return range.currentValue;
+      return stats;
    }
 
-   private SequenceRange getRange(String sequenceName) {
-      SequenceRange range = sequences.get(sequenceName);
-      if (range == null) {
-         range = new SequenceRange();
-         sequences.put(sequenceName, range);
+   private static long reserveBlock(JdbcClient client, String sequenceName, int size) {
+      long lastValue = -1L;
+      boolean gotSequence = false;
+      while (!gotSequence) {
+         long currentValue = client.fetch(lastValue, QUERY_SEQUENCE, sequenceName);
+         if (currentValue == lastValue) {
+            internalInitializeSequence(client, sequenceName);
+            lastValue = 0;
+         } else {
+            lastValue = currentValue;
+         }
+         gotSequence = client.runPreparedUpdate(UPDATE_SEQUENCE, lastValue + size, sequenceName, lastValue) == 1;
       }
-      return range;
+      return lastValue;
    }
 
-   private void internalInitializeSequence(JdbcClient client, String sequenceName) {
-      SequenceRange range = getRange(sequenceName);
-      range.lastAvailable = 0;
+   private static void internalInitializeSequence(JdbcClient client, String sequenceName) {
       int initalValue = 0;
       if (sequenceName.equals(OseeData.ART_ID_SEQ)) {
          initalValue = 200000;
@@ -76,22 +108,120 @@ public class JdbcSequenceProvider {
       client.runPreparedUpdate(INSERT_SEQUENCE, initalValue, sequenceName);
    }
 
-   private static final class SequenceRange {
-      private long currentValue;
-      private long lastAvailable;
-      private int prefetchSize;
+   /**
+    * Values (lastValue, lastAvailable] reserved in osee_sequence; refillAt is the value whose allocation triggers the
+    * background reservation of the next block
+    */
+   private static final class Block {
+      private final AtomicLong currentValue;
+      private final long lastAvailable;
+      private final long refillAt;
+
+      public Block(long lastValue, long lastAvailable, long refillAt) {
+         this.currentValue = new AtomicLong(lastValue);
+         this.lastAvailable = lastAvailable;
+         this.refillAt = refillAt;
+      }
+   }
+
+   /**
+    * The monitor of a Sequence guards only the installation of a new block; sizing uses its own lock since the
+    * background refill computes a size while an exhausted thread may hold the monitor waiting for that refill.
+    */
+   private final class Sequence {
+      private final String name;
+      private final long createdMillis = System.currentTimeMillis();
+      private final AtomicReference<Block> block = new AtomicReference<>(new Block(0, 0, 0));
+      private final AtomicReference<CompletableFuture<Block>> pending = new AtomicReference<>();
+      private final LongAdder allocations = new LongAdder();
+      private final LongAdder refills = new LongAdder();
+      private final LongAdder backgroundRefills = new LongAdder();
+      private final Object sizingLock = new Object();
+      private volatile int prefetchSize = 1;
+      private long lastSizingMillis = System.currentTimeMillis();
+      private long lastSizingAllocations;
+
+      public Sequence(String name) {
+         this.name = name;
+      }
+
+      public long next(JdbcClient client, boolean aggressiveFetch) {
+         while (true) {
+            Block current = block.get();
+            long value = current.currentValue.incrementAndGet();
+            if (value <= current.lastAvailable) {
+               allocations.increment();
+               if (aggressiveFetch && value == current.refillAt) {
+                  scheduleRefill(client);
+               }
+               return value;
+            }
+            refill(client, current, aggressiveFetch);
+         }
+      }
+
+      private synchronized void refill(JdbcClient client, Block exhausted, boolean aggressiveFetch) {
+         if (block.get() != exhausted) {
+            return;
+         }
+         Block next = takePending();
+         if (next == null) {
+            next = newBlock(client, aggressiveFetch);
+         }
+         block.set(next);
+      }
+
+      private Block takePending() {
+         CompletableFuture<Block> future = pending.getAndSet(null);
+         if (future != null) {
+            try {
+               return future.join();
+            } catch (CompletionException ex) {
+               // Reserve the block synchronously instead
+            }
+         }
+         return null;
+      }
+
+      private void scheduleRefill(JdbcClient client) {
+         CompletableFuture<Block> future = new CompletableFuture<>();
+         if (pending.compareAndSet(null, future)) {
+            backgroundRefills.increment();
+            refillExecutor.execute(() -> {
+               try {
+                  future.complete(newBlock(client, true));
+               } catch (Throwable th) {
+                  future.completeExceptionally(th);
+               }
+            });
+         }
+      }
 
-      public SequenceRange() {
-         this.prefetchSize = 1;
+      private Block newBlock(JdbcClient client, boolean aggressiveFetch) {
+         int size = aggressiveFetch ? computePrefetchSize() : 1;
+         long lastValue = reserveBlock(client, name, size);
+         refills.increment();
+         return new Block(lastValue, lastValue + size, lastValue + size - size / REFILL_REMAINING_DIVISOR);
       }
 
-      public void updateRange(long lastValue, boolean aggressiveFetch) {
-         currentValue = lastValue;
-         lastAvailable = lastValue + prefetchSize;
+      /**
+       * Sizes the next block to cover TARGET_BLOCK_DURATION_MILLIS at the allocation rate seen since the last block was
+       * sized. The size at most halves per block so a short lull does not discard the learned rate.
+       */
+      private int computePrefetchSize() {
+         synchronized (sizingLock) {
+            long now = System.currentTimeMillis();
+            long allocated = allocations.sum();
+            long elapsed = Math.max(1L, now - lastSizingMillis);
+            double ratePerMilli = (double) (allocated - lastSizingAllocations) / elapsed;
+            long target = (long) (ratePerMilli * TARGET_BLOCK_DURATION_MILLIS);
 
-         if (aggressiveFetch) {
-            prefetchSize *= 2; // next time grab twice as many
+            int size = (int) Math.min(MAX_PREFETCH_SIZE, Math.max(target, prefetchSize / 2));
+            prefetchSize = Math.max(1, size);
+            lastSizingMillis = now;
+            lastSizingAllocations = allocated;
+            return prefetchSize;
          }
       }
    }
-}
\ No newline at end of file
+}
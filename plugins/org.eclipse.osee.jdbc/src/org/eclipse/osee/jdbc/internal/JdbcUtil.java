@@ -31,6 +31,7 @@ import org.eclipse.osee.framework.jdk.core.type.Identity;
 import org.eclipse.osee.framework.jdk.core.util.Strings;
 import org.eclipse.osee.framework.jdk.core.util.network.PortUtil;
 import org.eclipse.osee.jdbc.JdbcConstants;
+import org.eclipse.osee.jdbc.JdbcConstants.JdbcPoolType;
 import org.eclipse.osee.jdbc.JdbcConstants.PoolExhaustedAction;
 import org.eclipse.osee.jdbc.JdbcException;
 import org.eclipse.osee.jdbc.SQL3DataType;
@@ -106,6 +107,13 @@ public final class JdbcUtil {
          } else if (dataValue instanceof String) {
             statement.setString(preparedIndex, (String) dataValue);
 
+         } else if (dataValue instanceof long[]) {
+            long[] values = (long[]) dataValue;
+            Long[] boxed = new Long[values.length];
+            for (int i = 0; i < values.length; i++) {
+               boxed[i] = values[i];
+            }
+            statement.setArray(preparedIndex, statement.getConnection().createArrayOf("BIGINT", boxed));
          } else {
             statement.setObject(preparedIndex, dataValue);
          }
@@ -224,6 +232,11 @@ public final class JdbcUtil {
       return PoolExhaustedAction.fromString(toReturn);
    }
 
+   public static JdbcPoolType getJdbcPoolType(Map<String, Object> props, String key, JdbcPoolType defaultValue) {
+      String toReturn = get(props, key, String.valueOf(defaultValue));
+      return JdbcPoolType.fromString(toReturn);
+   }
+
    public static int getRandomPort() {
       PortUtil port = PortUtil.getInstance();
       try {
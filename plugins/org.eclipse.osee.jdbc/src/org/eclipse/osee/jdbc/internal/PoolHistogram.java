@@ -0,0 +1,95 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.jdbc.internal;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram with power-of-two buckets. Recording is a couple of striped counter increments so it can sit on
+ * the connection borrow path; reported percentiles are the upper bound of the bucket they fall in.
+ *
+ * @author agent
+ */
+public final class PoolHistogram {
+
+   private static final int BUCKET_COUNT = Long.SIZE;
+
+   private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+   private final LongAdder count = new LongAdder();
+   private final LongAdder sum = new LongAdder();
+   private final LongAccumulator max = new LongAccumulator(Long::max, 0L);
+
+   public PoolHistogram() {
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+         buckets[i] = new LongAdder();
+      }
+   }
+
+   public void record(long value) {
+      long toRecord = Math.max(0L, value);
+      buckets[bucketOf(toRecord)].increment();
+      count.increment();
+      sum.add(toRecord);
+      max.accumulate(toRecord);
+   }
+
+   public long getCount() {
+      return count.sum();
+   }
+
+   public long getMax() {
+      return max.get();
+   }
+
+   public double getMean() {
+      long total = count.sum();
+      return total == 0 ? 0.0 : (double) sum.sum() / total;
+   }
+
+   public long getPercentile(double fraction) {
+      long total = count.sum();
+      if (total == 0) {
+         return 0L;
+      }
+      long rank = Math.max(1L, (long) Math.ceil(total * fraction));
+      long maxValue = max.get();
+      long seen = 0;
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+         seen += buckets[i].sum();
+         if (seen >= rank) {
+            return Math.min(maxValue, upperBound(i));
+         }
+      }
+      return maxValue;
+   }
+
+   public void writeTo(Map<String, String> stats, String prefix) {
+      stats.put(prefix + ".count", String.valueOf(getCount()));
+      stats.put(prefix + ".mean", String.format("%.2f", getMean()));
+      stats.put(prefix + ".p50", String.valueOf(getPercentile(0.50)));
+      stats.put(prefix + ".p95", String.valueOf(getPercentile(0.95)));
+      stats.put(prefix + ".p99", String.valueOf(getPercentile(0.99)));
+      stats.put(prefix + ".max", String.valueOf(getMax()));
+   }
+
+   private static int bucketOf(long value) {
+      return Math.min(BUCKET_COUNT - 1, Long.SIZE - Long.numberOfLeadingZeros(value));
+   }
+
+   private static long upperBound(int bucket) {
+      return bucket == 0 ? 0L : (1L << bucket) - 1L;
+   }
+}
@@ -0,0 +1,561 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.jdbc.internal;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * Connection handed out for one borrow from a {@link ConcurrentConnectionPool}. Calls are delegated directly to the
+ * pooled connection; closing the handle returns the connection to the pool instead of closing it, and any further use
+ * of the handle fails so a caller holding on to it can not reach the next borrower's session.
+ *
+ * @author agent
+ */
+abstract class PooledConnectionHandle implements Connection {
+
+   private static final String CONNECTION_EXCEPTION_SQL_STATE = "08";
+
+   private final Connection connection;
+   private volatile boolean isReturned;
+
+   protected PooledConnectionHandle(Connection connection) {
+      this.connection = connection;
+   }
+
+   /**
+    * Called once when the handle is closed
+    */
+   protected abstract void onClose();
+
+   /**
+    * Called when a call fails with a connection exception (SQLState class 08) so the connection is not reused
+    */
+   protected abstract void onConnectionException();
+
+   private Connection connection() throws SQLException {
+      if (isReturned) {
+         throw new SQLException("Connection has already been returned to the pool");
+      }
+      return connection;
+   }
+
+   private SQLException checked(SQLException ex) {
+      String sqlState = ex.getSQLState();
+      if (sqlState != null && sqlState.startsWith(CONNECTION_EXCEPTION_SQL_STATE)) {
+         onConnectionException();
+      }
+      return ex;
+   }
+
+   @Override
+   public Statement createStatement() throws SQLException {
+      try {
+         return connection().createStatement();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public PreparedStatement prepareStatement(String sql) throws SQLException {
+      try {
+         return connection().prepareStatement(sql);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public CallableStatement prepareCall(String sql) throws SQLException {
+      try {
+         return connection().prepareCall(sql);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public String nativeSQL(String sql) throws SQLException {
+      try {
+         return connection().nativeSQL(sql);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public void setAutoCommit(boolean autoCommit) throws SQLException {
+      try {
+         connection().setAutoCommit(autoCommit);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public boolean getAutoCommit() throws SQLException {
+      try {
+         return connection().getAutoCommit();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public void commit() throws SQLException {
+      try {
+         connection().commit();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public void rollback() throws SQLException {
+      try {
+         connection().rollback();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public void close() {
+      if (!isReturned) {
+         isReturned = true;
+         onClose();
+      }
+   }
+
+   @Override
+   public boolean isClosed() throws SQLException {
+      return isReturned || connection.isClosed();
+   }
+
+   @Override
+   public DatabaseMetaData getMetaData() throws SQLException {
+      try {
+         return connection().getMetaData();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public void setReadOnly(boolean readOnly) throws SQLException {
+      try {
+         connection().setReadOnly(readOnly);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public boolean isReadOnly() throws SQLException {
+      try {
+         return connection().isReadOnly();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public void setCatalog(String catalog) throws SQLException {
+      try {
+         connection().setCatalog(catalog);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public String getCatalog() throws SQLException {
+      try {
+         return connection().getCatalog();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public void setTransactionIsolation(int level) throws SQLException {
+      try {
+         connection().setTransactionIsolation(level);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public int getTransactionIsolation() throws SQLException {
+      try {
+         return connection().getTransactionIsolation();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public SQLWarning getWarnings() throws SQLException {
+      try {
+         return connection().getWarnings();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public void clearWarnings() throws SQLException {
+      try {
+         connection().clearWarnings();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+      try {
+         return connection().createStatement(resultSetType, resultSetConcurrency);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+      try {
+         return connection().prepareStatement(sql, resultSetType, resultSetConcurrency);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+      try {
+         return connection().prepareCall(sql, resultSetType, resultSetConcurrency);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public Map<String, Class<?>> getTypeMap() throws SQLException {
+      try {
+         return connection().getTypeMap();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+      try {
+         connection().setTypeMap(map);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public void setHoldability(int holdability) throws SQLException {
+      try {
+         connection().setHoldability(holdability);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public int getHoldability() throws SQLException {
+      try {
+         return connection().getHoldability();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public Savepoint setSavepoint() throws SQLException {
+      try {
+         return connection().setSavepoint();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public Savepoint setSavepoint(String name) throws SQLException {
+      try {
+         return connection().setSavepoint(name);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public void rollback(Savepoint savepoint) throws SQLException {
+      try {
+         connection().rollback(savepoint);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+      try {
+         connection().releaseSavepoint(savepoint);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+      try {
+         return connection().createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+      try {
+         return connection().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+      try {
+         return connection().prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+      try {
+         return connection().prepareStatement(sql, autoGeneratedKeys);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+      try {
+         return connection().prepareStatement(sql, columnIndexes);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+      try {
+         return connection().prepareStatement(sql, columnNames);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public Clob createClob() throws SQLException {
+      try {
+         return connection().createClob();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public Blob createBlob() throws SQLException {
+      try {
+         return connection().createBlob();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public NClob createNClob() throws SQLException {
+      try {
+         return connection().createNClob();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public SQLXML createSQLXML() throws SQLException {
+      try {
+         return connection().createSQLXML();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public boolean isValid(int timeout) throws SQLException {
+      try {
+         return connection().isValid(timeout);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public void setClientInfo(String name, String value) throws SQLClientInfoException {
+      if (isReturned) {
+         throw new SQLClientInfoException();
+      }
+      connection.setClientInfo(name, value);
+   }
+
+   @Override
+   public void setClientInfo(Properties properties) throws SQLClientInfoException {
+      if (isReturned) {
+         throw new SQLClientInfoException();
+      }
+      connection.setClientInfo(properties);
+   }
+
+   @Override
+   public String getClientInfo(String name) throws SQLException {
+      try {
+         return connection().getClientInfo(name);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public Properties getClientInfo() throws SQLException {
+      try {
+         return connection().getClientInfo();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+      try {
+         return connection().createArrayOf(typeName, elements);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+      try {
+         return connection().createStruct(typeName, attributes);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public void setSchema(String schema) throws SQLException {
+      try {
+         connection().setSchema(schema);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public String getSchema() throws SQLException {
+      try {
+         return connection().getSchema();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public void abort(Executor executor) throws SQLException {
+      try {
+         connection().abort(executor);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+      try {
+         connection().setNetworkTimeout(executor, milliseconds);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public int getNetworkTimeout() throws SQLException {
+      try {
+         return connection().getNetworkTimeout();
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public <T> T unwrap(Class<T> iface) throws SQLException {
+      try {
+         return connection().unwrap(iface);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public boolean isWrapperFor(Class<?> iface) throws SQLException {
+      try {
+         return connection().isWrapperFor(iface);
+      } catch (SQLException ex) {
+         throw checked(ex);
+      }
+   }
+
+   @Override
+   public String toString() {
+      return String.format("PooledConnection returned [%s]", isReturned);
+   }
+}
@@ -190,8 +190,10 @@ public class MimIcdGenerator {
             }
          });
 
-      // Write sheets
-      ExcelWorkbookWriter writer = new ExcelWorkbookWriter(outputStream, WorkbookFormat.XLSX);
+      // Write sheets. Structure sheets are streamed; the summary sheets are filled out of order and auto sized, so
+      // they are created as random access sheets that stay in memory
+      ExcelWorkbookWriter writer =
+         new ExcelWorkbookWriter(outputStream, ExcelWorkbookWriter.DEFAULT_ROW_ACCESS_WINDOW_SIZE);
       writer.setDefaultZoom(80);
       createChangeHistory(writer, currentBranch, conn.getId(), diff);
 
@@ -649,7 +651,7 @@ public class MimIcdGenerator {
    }
 
    private void createChangeSummary(ExcelWorkbookWriter writer, MimChangeSummary summary) {
-      writer.createSheet("Change Summary");
+      writer.createRandomAccessSheet("Change Summary");
 
       String[] headers = {
          "Item Type",
@@ -764,7 +766,7 @@ public class MimIcdGenerator {
    }
 
    private void createStructureNamesSheet(ExcelWorkbookWriter writer) {
-      writer.createSheet("Structure Names");
+      writer.createRandomAccessSheet("Structure Names");
    }
 
    private void writeStructureNamesSheet(ExcelWorkbookWriter writer,
@@ -833,7 +835,7 @@ public class MimIcdGenerator {
    }
 
    private void createStructureSummarySheet(ExcelWorkbookWriter writer) {
-      writer.createSheet("Structure Summary");
+      writer.createRandomAccessSheet("Structure Summary");
    }
 
    private void writeStructureSummarySheet(ExcelWorkbookWriter writer, List<ArtifactReadable> messages,
@@ -1817,7 +1819,7 @@ public class MimIcdGenerator {
          e -> secondaryNode.equals(e.getRelated(CoreRelationTypes.InterfaceMessagePubNode_Node).getAtMostOneOrDefault(
             ArtifactReadable.SENTINEL))).collect(Collectors.toList());
 
-      writer.createSheet("Message and SubMessage Summary");
+      writer.createRandomAccessSheet("Message and SubMessage Summary");
 
       writer.addMergedRegion("A1:E1");
       writer.addMergedRegion("F1:J1");
@@ -1979,7 +1981,7 @@ public class MimIcdGenerator {
    }
 
    private void createUnitsAndTypesSheet(ExcelWorkbookWriter writer) {
-      writer.createSheet("Units and Types");
+      writer.createRandomAccessSheet("Units and Types");
    }
 
    private void writeUnitsAndTypesSheet(ExcelWorkbookWriter writer, BranchId branch, ArtifactId view,
@@ -59,6 +59,19 @@ public class OptionsUtilTest {
       assertEquals(LoadLevel.ARTIFACT_AND_ATTRIBUTE_DATA, OptionsUtil.getLoadLevel(options));
    }
 
+   @Test
+   public void testSetGetLoadParallelism() {
+      assertEquals(1, OptionsUtil.getLoadParallelism(options));
+      assertEquals(6, OptionsUtil.getLoadParallelism(options, 6));
+
+      OptionsUtil.setLoadParallelism(options, 4);
+      assertEquals(4, OptionsUtil.getLoadParallelism(options));
+      assertEquals(4, OptionsUtil.getLoadParallelism(options, 6));
+
+      OptionsUtil.setLoadParallelism(options, 0);
+      assertEquals(1, OptionsUtil.getLoadParallelism(options));
+   }
+
    @Test
    public void testSetGetFromTransaction() {
       assertEquals(TransactionId.SENTINEL, OptionsUtil.getFromTransaction(options));
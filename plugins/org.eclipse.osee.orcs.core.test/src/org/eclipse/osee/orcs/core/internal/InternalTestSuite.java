@@ -17,6 +17,7 @@ import org.eclipse.osee.orcs.core.internal.artifact.ArtifactTestSuite;
 import org.eclipse.osee.orcs.core.internal.attribute.AttributeTestSuite;
 import org.eclipse.osee.orcs.core.internal.branch.BranchTestSuite;
 import org.eclipse.osee.orcs.core.internal.graph.GraphTestSuite;
+import org.eclipse.osee.orcs.core.internal.loader.LoaderTestSuite;
 import org.eclipse.osee.orcs.core.internal.proxy.impl.ProxyImplTestSuite;
 import org.eclipse.osee.orcs.core.internal.relation.RelationTestSuite;
 import org.eclipse.osee.orcs.core.internal.search.QueryTestSuite;
@@ -34,6 +35,7 @@ import org.junit.runners.Suite;
    AttributeTestSuite.class,
    BranchTestSuite.class,
    GraphTestSuite.class,
+   LoaderTestSuite.class,
    RelationTestSuite.class,
    ProxyImplTestSuite.class,
    QueryTestSuite.class,
@@ -0,0 +1,290 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.core.internal.loader;
+
+import static org.eclipse.osee.framework.core.enums.CoreBranches.COMMON;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.eclipse.osee.framework.core.data.ArtifactId;
+import org.eclipse.osee.framework.core.data.GammaId;
+import org.eclipse.osee.framework.core.data.TransactionId;
+import org.eclipse.osee.framework.core.enums.CoreAttributeTypes;
+import org.eclipse.osee.framework.core.enums.LoadLevel;
+import org.eclipse.osee.orcs.OrcsSession;
+import org.eclipse.osee.orcs.core.ds.ArtifactData;
+import org.eclipse.osee.orcs.core.ds.AttributeData;
+import org.eclipse.osee.orcs.core.ds.DataFactory;
+import org.eclipse.osee.orcs.core.ds.DataLoader;
+import org.eclipse.osee.orcs.core.ds.DataLoaderFactory;
+import org.eclipse.osee.orcs.core.ds.LoadDataHandler;
+import org.eclipse.osee.orcs.core.ds.LoadDescription;
+import org.eclipse.osee.orcs.core.ds.Options;
+import org.eclipse.osee.orcs.core.ds.OptionsUtil;
+import org.eclipse.osee.orcs.core.ds.RelationData;
+import org.eclipse.osee.orcs.core.ds.VersionData;
+import org.eclipse.osee.orcs.core.internal.transaction.TxDataLoaderImpl.TransactionProvider;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+/**
+ * Test Case for {@link CachingDataLoader}
+ *
+ * @author agent
+ */
+public class CachingDataLoaderTest {
+
+   private static final TransactionId TX = TransactionId.valueOf(42);
+   private static final ArtifactId ART_1 = ArtifactId.valueOf(5);
+   private static final ArtifactId ART_2 = ArtifactId.valueOf(6);
+
+   // @formatter:off
+   @Mock private DataLoaderFactory delegateFactory;
+   @Mock private DataLoader delegate;
+   @Mock private DataFactory dataFactory;
+   @Mock private TransactionProvider txProvider;
+   @Mock private OrcsSession session;
+   @Mock private LoadDescription description;
+   @Mock private LoadDataHandler handler;
+   @Mock private ArtifactData artifact1;
+   @Mock private ArtifactData artifact2;
+   @Mock private AttributeData<String> attribute1;
+   @Mock private RelationData relation;
+   // @formatter:on
+
+   private ArtifactDataCache cache;
+   private CachingDataLoaderFactory factory;
+
+   @Before
+   public void setUp() {
+      initMocks(this);
+      cache = new ArtifactDataCache(100);
+      factory = new CachingDataLoaderFactory(delegateFactory, cache, dataFactory, txProvider);
+
+      when(delegateFactory.newDataLoaderFromIds(any(), any(), anyCollection())).thenReturn(delegate);
+      when(dataFactory.clone(any(ArtifactData.class))).thenAnswer(invocation -> invocation.getArgument(0));
+      when(dataFactory.clone(any(AttributeData.class))).thenAnswer(invocation -> invocation.getArgument(0));
+      when(dataFactory.clone(any(RelationData.class))).thenAnswer(invocation -> invocation.getArgument(0));
+      when(description.getTransaction()).thenReturn(TX);
+      when(txProvider.getHeadTransaction(session, COMMON)).thenReturn(TX);
+
+      when(artifact1.getId()).thenReturn(ART_1.getId());
+      when(artifact2.getId()).thenReturn(ART_2.getId());
+      when(attribute1.getArtifactId()).thenReturn(ART_1);
+      VersionData version = mock(VersionData.class);
+      when(version.getGammaId()).thenReturn(GammaId.valueOf(77));
+      when(relation.getVersion()).thenReturn(version);
+      when(relation.getArtifactIdA()).thenReturn(ART_1);
+      when(relation.getArtifactIdB()).thenReturn(ART_2);
+
+      doAnswer(invocation -> {
+         LoadDataHandler target = invocation.getArgument(1);
+         target.onLoadStart();
+         target.onLoadDescription(description);
+         target.onData(artifact1);
+         target.onData(artifact2);
+         target.onData(attribute1);
+         target.onData(relation);
+         target.onData(relation);
+         target.onLoadEnd();
+         return null;
+      }).when(delegate).load(any(), any(LoadDataHandler.class));
+   }
+
+   private DataLoader newLoader(Collection<ArtifactId> ids) {
+      return factory.newDataLoaderFromIds(session, COMMON, ids).withLoadLevel(LoadLevel.ALL);
+   }
+
+   @Test
+   public void testHistoricalLoadServedFromCache() {
+      newLoader(Arrays.asList(ART_2, ART_1)).fromTransaction(TX).load(handler);
+      newLoader(Arrays.asList(ART_1, ART_2)).fromTransaction(TX).load(handler);
+
+      verify(delegateFactory, times(1)).newDataLoaderFromIds(any(), any(), anyCollection());
+      verify(txProvider, never()).getHeadTransaction(any(), any());
+      verify(handler, times(2)).onData(artifact1);
+      verify(handler, times(2)).onData(attribute1);
+      // each load delivers the relation once per requested side
+      verify(handler, times(4)).onData(relation);
+
+      ArgumentCaptor<LoadDescription> captor = ArgumentCaptor.forClass(LoadDescription.class);
+      verify(handler, times(2)).onLoadDescription(captor.capture());
+      assertEquals(TX, captor.getValue().getTransaction());
+
+      assertEquals(2, cache.getHits());
+      assertEquals(2, cache.getMisses());
+      assertEquals(2, cache.getEntries());
+   }
+
+   @Test
+   public void testPartialHitLoadsOnlyMisses() {
+      newLoader(Collections.singleton(ART_1)).fromTransaction(TX).load(handler);
+      newLoader(Arrays.asList(ART_1, ART_2)).fromTransaction(TX).load(handler);
+
+      verify(delegateFactory).newDataLoaderFromIds(session, COMMON, Arrays.asList(ART_1));
+      verify(delegateFactory).newDataLoaderFromIds(session, COMMON, Arrays.asList(ART_2));
+      assertEquals(1, cache.getHits());
+   }
+
+   @Test
+   public void testHeadLoadInvalidatedByCommit() {
+      newLoader(Collections.singleton(ART_1)).load(handler);
+      newLoader(Collections.singleton(ART_1)).load(handler);
+      verify(delegateFactory, times(1)).newDataLoaderFromIds(any(), any(), anyCollection());
+
+      cache.invalidate(COMMON);
+      assertEquals(0, cache.getEntries());
+
+      newLoader(Collections.singleton(ART_1)).load(handler);
+      verify(delegateFactory, times(2)).newDataLoaderFromIds(any(), any(), anyCollection());
+   }
+
+   @Test
+   public void testInPlaceRewriteClearsHistoricalEntries() {
+      newLoader(Collections.singleton(ART_1)).fromTransaction(TX).load(handler);
+      assertEquals(1, cache.getEntries());
+
+      cache.invalidateAll();
+      assertEquals(0, cache.getEntries());
+
+      newLoader(Collections.singleton(ART_1)).fromTransaction(TX).load(handler);
+      verify(delegateFactory, times(2)).newDataLoaderFromIds(any(), any(), anyCollection());
+   }
+
+   @Test
+   public void testRewriteDuringLoadIsNotCached() {
+      doAnswer(invocation -> {
+         LoadDataHandler target = invocation.getArgument(1);
+         target.onLoadStart();
+         target.onLoadDescription(description);
+         target.onData(artifact1);
+         cache.invalidateAll();
+         target.onLoadEnd();
+         return null;
+      }).when(delegate).load(any(), any(LoadDataHandler.class));
+
+      newLoader(Collections.singleton(ART_1)).fromTransaction(TX).load(handler);
+      verify(handler).onData(artifact1);
+      assertEquals(0, cache.getEntries());
+   }
+
+   @Test
+   public void testDisabledByDefault() {
+      ArtifactDataCache defaultCache = new ArtifactDataCache(ArtifactDataCache.DEFAULT_CACHE_CAPACITY);
+      CachingDataLoaderFactory defaultFactory =
+         new CachingDataLoaderFactory(delegateFactory, defaultCache, dataFactory, txProvider);
+
+      assertEquals(false, defaultCache.isEnabled());
+      assertEquals(delegate, defaultFactory.newDataLoaderFromIds(session, COMMON, Collections.singleton(ART_1)));
+      verify(txProvider, never()).getHeadTransaction(any(), any());
+   }
+
+   @Test
+   public void testHeadMovedDuringLoadIsNotCached() {
+      when(txProvider.getHeadTransaction(session, COMMON)).thenReturn(TransactionId.valueOf(41));
+
+      newLoader(Collections.singleton(ART_1)).load(handler);
+      assertEquals(0, cache.getEntries());
+   }
+
+   @Test
+   public void testHeadAndHistoricalLoadsCachedApart() {
+      Options[] delegateOptions = new Options[1];
+      doAnswer(invocation -> {
+         delegateOptions[0] = invocation.getArgument(0);
+         return delegate;
+      }).when(delegate).setOptions(any());
+      doAnswer(invocation -> {
+         // the data store marks version data historical only for historical loads
+         ArtifactData artifact = mock(ArtifactData.class);
+         VersionData version = mock(VersionData.class);
+         when(artifact.getId()).thenReturn(ART_1.getId());
+         when(artifact.getVersion()).thenReturn(version);
+         when(version.isHistorical()).thenReturn(OptionsUtil.isHistorical(delegateOptions[0]));
+         LoadDataHandler target = invocation.getArgument(1);
+         target.onLoadStart();
+         target.onLoadDescription(description);
+         target.onData(artifact);
+         target.onLoadEnd();
+         return null;
+      }).when(delegate).load(any(), any(LoadDataHandler.class));
+
+      LoadDataHandler headHandler = mock(LoadDataHandler.class);
+      newLoader(Collections.singleton(ART_1)).load(headHandler);
+      LoadDataHandler historicalHandler = mock(LoadDataHandler.class);
+      newLoader(Collections.singleton(ART_1)).fromTransaction(TX).load(historicalHandler);
+      LoadDataHandler replayHandler = mock(LoadDataHandler.class);
+      newLoader(Collections.singleton(ART_1)).fromTransaction(TX).load(replayHandler);
+
+      verify(delegateFactory, times(2)).newDataLoaderFromIds(any(), any(), anyCollection());
+      assertEquals(2, cache.getEntries());
+      assertEquals(false, deliveredArtifact(headHandler).getVersion().isHistorical());
+      assertEquals(true, deliveredArtifact(historicalHandler).getVersion().isHistorical());
+      assertEquals(true, deliveredArtifact(replayHandler).getVersion().isHistorical());
+   }
+
+   private ArtifactData deliveredArtifact(LoadDataHandler target) {
+      ArgumentCaptor<ArtifactData> captor = ArgumentCaptor.forClass(ArtifactData.class);
+      verify(target).onData(captor.capture());
+      return captor.getValue();
+   }
+
+   @Test
+   public void testTypeRestrictedLoadBypassesCache() {
+      newLoader(Collections.singleton(ART_1)).fromTransaction(TX).withAttributeTypes(CoreAttributeTypes.Name).load(
+         handler);
+      newLoader(Collections.singleton(ART_1)).fromTransaction(TX).withAttributeTypes(CoreAttributeTypes.Name).load(
+         handler);
+
+      verify(delegateFactory, times(2)).newDataLoaderFromIds(any(), any(), anyCollection());
+      verify(delegate, times(2)).withAttributeTypes(Collections.singleton(CoreAttributeTypes.Name));
+      assertEquals(0, cache.getEntries());
+   }
+
+   @Test
+   public void testLeastRecentlyUsedEviction() {
+      ArtifactDataCache small = new ArtifactDataCache(4);
+      ArtifactDataCache.Key key1 = new ArtifactDataCache.Key(COMMON, TX, ArtifactId.SENTINEL, ART_1, 0);
+      ArtifactDataCache.Key key2 = new ArtifactDataCache.Key(COMMON, TX, ArtifactId.SENTINEL, ART_2, 0);
+      ArtifactDataCache.Key key3 = new ArtifactDataCache.Key(COMMON, TX, ArtifactId.SENTINEL, ArtifactId.valueOf(7), 0);
+
+      long generation = small.getGeneration();
+      List<RelationData> noRelations = Collections.emptyList();
+      small.put(key1, new ArtifactDataCache.Entry(artifact1, Arrays.asList(attribute1), noRelations, false),
+         generation);
+      small.put(key2, new ArtifactDataCache.Entry(artifact2, Collections.emptyList(), noRelations, false), generation);
+      small.get(key1);
+      small.put(key3, new ArtifactDataCache.Entry(null, Collections.emptyList(), noRelations, false), generation);
+      small.put(key3, new ArtifactDataCache.Entry(artifact2, Collections.emptyList(), Arrays.asList(relation), false),
+         generation);
+
+      assertEquals(1, small.getEvictions());
+      assertEquals(4, small.getWeight());
+      assertEquals(null, small.get(key2));
+      assertEquals(artifact1, small.get(key1).getArtifact());
+   }
+}
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.util.Collection;
 import java.util.Collections;
@@ -38,6 +39,7 @@ import org.eclipse.osee.orcs.core.ds.TupleDataFactory;
 import org.eclipse.osee.orcs.core.ds.TxDataStore;
 import org.eclipse.osee.orcs.core.internal.artifact.ArtifactFactory;
 import org.eclipse.osee.orcs.core.internal.graph.GraphData;
+import org.eclipse.osee.orcs.core.internal.loader.ArtifactDataCache;
 import org.eclipse.osee.orcs.core.internal.proxy.ExternalArtifactManager;
 import org.eclipse.osee.orcs.core.internal.relation.RelationManager;
 import org.eclipse.osee.orcs.core.internal.transaction.TxDataManager.TxDataLoader;
@@ -74,6 +76,7 @@ public class TxCallableFactoryTest {
    @Mock private GraphData graph;
    @Mock private TxDataStore txDataStore;
    @Mock private ArtifactReadable groupArtifact;
+   @Mock private ArtifactDataCache artifactCache;
    @Captor private ArgumentCaptor<TransactionData> txData;
    // @formatter:on
 
@@ -86,7 +89,7 @@ public class TxCallableFactoryTest {
       MockitoAnnotations.initMocks(this);
       txManager =
          new TxDataManager(proxyManager, artifactFactory, relationManager, tupleFactory, categoryFactory, loader);
-      txFactory = new TxCallableFactory(logger, txDataStore, txManager);
+      txFactory = new TxCallableFactory(logger, txDataStore, txManager, artifactCache);
       data = new TxData(session, graph);
       when(graph.getBranch()).thenReturn(COMMON);
 
@@ -100,6 +103,7 @@ public class TxCallableFactoryTest {
       when(txDataStore.purgeTransactions(session, transactions)).thenReturn(callable);
 
       txFactory.purgeTransactions(session, transactions).call();
+      verify(artifactCache).invalidateAll();
    }
 
    @Test
@@ -133,13 +137,14 @@ public class TxCallableFactoryTest {
       assertEquals(COMMON, data.getBranch());
       assertEquals(SystemUser.OseeSystem, data.getAuthor());
       assertEquals("My Comment", data.getComment());
+      verify(artifactCache).invalidate(COMMON);
    }
 
    @Test
    public void testCommitErrorDuringRollback() throws Exception {
       TxDataManager manager = mock(TxDataManager.class);
 
-      TxCallableFactory factory = new TxCallableFactory(logger, txDataStore, manager);
+      TxCallableFactory factory = new TxCallableFactory(logger, txDataStore, manager, artifactCache);
 
       Exception exception = new IllegalStateException("onCommit Exception");
 
@@ -13,6 +13,10 @@
 
 package org.eclipse.osee.orcs.core.ds;
 
+import java.util.Collections;
+import java.util.List;
+import org.eclipse.osee.orcs.statistics.IndexerStageStatistics;
+
 /**
  * @author Roberto E. Escobar
  */
@@ -21,6 +25,7 @@ public class IndexerData {
    private long totalTags;
    private long totalItemsInQueue;
    private int workersInQueue;
+   private List<IndexerStageStatistics> stageStatistics = Collections.emptyList();
 
    public IndexerData() {
       super();
@@ -50,8 +55,16 @@ public class IndexerData {
       this.totalItemsInQueue = totalItemsInQueue;
    }
 
+   public List<IndexerStageStatistics> getStageStatistics() {
+      return stageStatistics;
+   }
+
+   public void setStageStatistics(List<IndexerStageStatistics> stageStatistics) {
+      this.stageStatistics = stageStatistics;
+   }
+
    @Override
    public String toString() {
-      return "IndexerData [totalTags=" + totalTags + ", totalItemsInQueue=" + totalItemsInQueue + ", workersInQueue=" + workersInQueue + "]";
+      return "IndexerData [totalTags=" + totalTags + ", totalItemsInQueue=" + totalItemsInQueue + ", workersInQueue=" + workersInQueue + ", stages=" + stageStatistics + "]";
    }
 }
@@ -47,6 +47,7 @@ public final class OptionsUtil {
    private static final String INCLUDE_LATEST_TRANSACTION_DETAILS = "include.latest.transaction.details";
    private static final String MAX_TIME = "max.time";
    private static final String LEGACY_POST_PROCESSING = "legacy_post_processing";
+   private static final String LOAD_PARALLELISM = "load.parallelism";
 
    public static Options createBranchOptions() {
       Options options = new Options();
@@ -158,6 +159,28 @@ public final class OptionsUtil {
       options.put(LOAD_LEVEL, loadLevel.name());
    }
 
+   /**
+    * @return maximum number of artifact id ranges loaded concurrently; 1 (the default) loads sequentially
+    */
+   public static int getLoadParallelism(Options options) {
+      return getLoadParallelism(options, 1);
+   }
+
+   /**
+    * @return maximum number of artifact id ranges loaded concurrently, or defaultParallelism when not set
+    */
+   public static int getLoadParallelism(Options options, int defaultParallelism) {
+      int parallelism = defaultParallelism;
+      if (!options.isEmpty(LOAD_PARALLELISM)) {
+         parallelism = Math.max(1, options.getInt(LOAD_PARALLELISM));
+      }
+      return parallelism;
+   }
+
+   public static void setLoadParallelism(Options options, int parallelism) {
+      options.put(LOAD_PARALLELISM, parallelism);
+   }
+
    public static void setMaxTime(Options options, Date maxTime) {
       options.put(MAX_TIME, maxTime);
    }
@@ -13,6 +13,7 @@
 
 package org.eclipse.osee.orcs.core.ds;
 
+import java.util.Map;
 import org.eclipse.osee.framework.core.OrcsTokenService;
 import org.eclipse.osee.jdbc.JdbcService;
 
@@ -29,4 +30,17 @@ public interface OrcsDataStore {
 
    JdbcService getJdbcService();
 
+   /**
+    * @return rows reclaimed from each join table by the scheduled join cleaner, keyed by join table name
+    */
+   Map<String, Long> getJoinCleanupReclaimedRows();
+
+   /**
+    * Registers a listener run after data store work that rewrites or removes existing rows without creating a
+    * transaction, such as type and attribute purges, relation consolidation and tx_current repair
+    */
+   void addRewriteListener(Runnable listener);
+
+   void removeRewriteListener(Runnable listener);
+
 }
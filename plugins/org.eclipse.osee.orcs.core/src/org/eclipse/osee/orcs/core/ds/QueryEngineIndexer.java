@@ -33,6 +33,8 @@ public interface QueryEngineIndexer {
 
    CancellableCallable<IndexerData> getIndexerData(OrcsSession session);
 
+   void clearStatistics();
+
    CancellableCallable<Integer> deleteIndexByQueryId(OrcsSession session, int queueId);
 
    CancellableCallable<Integer> purgeAllIndexes(OrcsSession session);
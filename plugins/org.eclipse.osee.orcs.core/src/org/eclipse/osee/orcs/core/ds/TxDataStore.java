@@ -22,6 +22,7 @@ import org.eclipse.osee.framework.core.data.TransactionId;
 import org.eclipse.osee.framework.core.model.change.ChangeItem;
 import org.eclipse.osee.orcs.OrcsSession;
 import org.eclipse.osee.orcs.search.QueryFactory;
+import org.eclipse.osee.orcs.statistics.TransactionStatistics;
 
 /**
  * @author Roberto E. Escobar
@@ -44,4 +45,8 @@ public interface TxDataStore {
    Callable<List<ChangeItem>> getArtifactHistory(OrcsSession session, QueryFactory queryFactory, ArtifactId artifact,
       BranchId branch);
 
+   TransactionStatistics getStatistics();
+
+   void clearStatistics();
+
 }
\ No newline at end of file
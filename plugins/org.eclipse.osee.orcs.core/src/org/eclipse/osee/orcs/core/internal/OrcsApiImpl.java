@@ -35,6 +35,7 @@ import org.eclipse.osee.orcs.OrcsSession;
 import org.eclipse.osee.orcs.OrcsTypes;
 import org.eclipse.osee.orcs.ResourcesOperations;
 import org.eclipse.osee.orcs.SystemProperties;
+import org.eclipse.osee.orcs.core.ds.DataLoaderFactory;
 import org.eclipse.osee.orcs.core.ds.DataModule;
 import org.eclipse.osee.orcs.core.ds.OrcsDataStore;
 import org.eclipse.osee.orcs.core.internal.access.AccessControlServiceImpl;
@@ -48,6 +49,8 @@ import org.eclipse.osee.orcs.core.internal.graph.GraphFactory;
 import org.eclipse.osee.orcs.core.internal.graph.GraphProvider;
 import org.eclipse.osee.orcs.core.internal.graph.impl.GraphFactoryImpl;
 import org.eclipse.osee.orcs.core.internal.indexer.IndexerModule;
+import org.eclipse.osee.orcs.core.internal.loader.ArtifactDataCache;
+import org.eclipse.osee.orcs.core.internal.loader.CachingDataLoaderFactory;
 import org.eclipse.osee.orcs.core.internal.proxy.ExternalArtifactManager;
 import org.eclipse.osee.orcs.core.internal.proxy.impl.ExternalArtifactManagerImpl;
 import org.eclipse.osee.orcs.core.internal.relation.RelationFactory;
@@ -86,6 +89,8 @@ public class OrcsApiImpl extends OseeApiBase implements OrcsApi {
 
    private TxDataManager txDataManager;
    private TxCallableFactory txCallableFactory;
+   private ArtifactDataCache artifactCache;
+   private Runnable artifactCacheRewriteListener;
    private OrcsApplicabilityOps applicability;
 
    /**
@@ -155,7 +160,22 @@ public class OrcsApiImpl extends OseeApiBase implements OrcsApi {
 
       };
 
-      RelationNodeLoader nodeLoader = new RelationNodeLoaderImpl(module.getDataLoaderFactory(), graphBuilderFactory);
+      TransactionProvider txProvider = new TransactionProvider() {
+
+         @Override
+         public TransactionId getHeadTransaction(OrcsSession session, BranchId branch) {
+            QueryFactory queryFactory = queryModule.createQueryFactory(session);
+            return queryFactory.transactionQuery().andIsHead(branch).getResults().getExactlyOne();
+         }
+      };
+
+      artifactCache = new ArtifactDataCache(getArtifactCacheCapacity());
+      artifactCacheRewriteListener = artifactCache::invalidateAll;
+      dataStore.addRewriteListener(artifactCacheRewriteListener);
+      DataLoaderFactory dataLoaderFactory = new CachingDataLoaderFactory(module.getDataLoaderFactory(), artifactCache,
+         module.getDataFactory(), txProvider);
+
+      RelationNodeLoader nodeLoader = new RelationNodeLoaderImpl(dataLoaderFactory, graphBuilderFactory);
       RelationManager relationManager = RelationManagerFactory.createRelationManager(logger, tokenService(),
          relationFactory, nodeLoader, queryModuleProvider);
 
@@ -168,20 +188,12 @@ public class OrcsApiImpl extends OseeApiBase implements OrcsApi {
       };
 
       proxyManager = new ExternalArtifactManagerImpl(relationManager, tokenService());
-      TransactionProvider txProvider = new TransactionProvider() {
 
-         @Override
-         public TransactionId getHeadTransaction(OrcsSession session, BranchId branch) {
-            QueryFactory queryFactory = queryModule.createQueryFactory(session);
-            return queryFactory.transactionQuery().andIsHead(branch).getResults().getExactlyOne();
-         }
-      };
-
-      TxDataLoader txDataLoader = new TxDataLoaderImpl(module.getDataLoaderFactory(), graphFactory, graphBuilderFactory,
-         graphProvider, txProvider);
+      TxDataLoader txDataLoader =
+         new TxDataLoaderImpl(dataLoaderFactory, graphFactory, graphBuilderFactory, graphProvider, txProvider);
       txDataManager = new TxDataManager(proxyManager, artifactFactory, relationManager, module.getDataFactory(),
          module.getDataFactory(), txDataLoader);
-      txCallableFactory = new TxCallableFactory(logger, module.getTxDataStore(), txDataManager);
+      txCallableFactory = new TxCallableFactory(logger, module.getTxDataStore(), txDataManager, artifactCache);
 
       queryModule = new QueryModule(this, logger, module.getQueryEngine(), graphBuilderFactory, graphProvider,
          tokenService(), proxyManager);
@@ -208,6 +220,12 @@ public class OrcsApiImpl extends OseeApiBase implements OrcsApi {
       queryModule = null;
       txDataManager = null;
       txCallableFactory = null;
+      if (artifactCache != null) {
+         dataStore.removeRewriteListener(artifactCacheRewriteListener);
+         artifactCacheRewriteListener = null;
+         artifactCache.invalidateAll();
+         artifactCache = null;
+      }
       module = null;
       systemSession = null;
 
@@ -252,7 +270,20 @@ public class OrcsApiImpl extends OseeApiBase implements OrcsApi {
    @Override
    public OrcsPerformance getOrcsPerformance() {
       OrcsSession session = getSession();
-      return new OrcsPerformanceImpl(logger, session, indexerModule);
+      return new OrcsPerformanceImpl(logger, session, indexerModule, artifactCache, module.getTxDataStore(),
+         dataStore);
+   }
+
+   private long getArtifactCacheCapacity() {
+      long capacity = ArtifactDataCache.DEFAULT_CACHE_CAPACITY;
+      try {
+         String value = properties.getCachedValue(ArtifactDataCache.CACHE_CAPACITY_KEY, String.valueOf(capacity));
+         capacity = Long.parseLong(value.trim());
+      } catch (Exception ex) {
+         logger.warn(ex, "Invalid [%s] - using default artifact cache capacity [%s]",
+            ArtifactDataCache.CACHE_CAPACITY_KEY, capacity);
+      }
+      return capacity;
    }
 
    @Override
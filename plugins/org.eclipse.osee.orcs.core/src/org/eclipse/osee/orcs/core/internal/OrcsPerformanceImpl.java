@@ -13,11 +13,17 @@
 
 package org.eclipse.osee.orcs.core.internal;
 
+import java.util.Map;
 import org.eclipse.osee.logger.Log;
 import org.eclipse.osee.orcs.OrcsPerformance;
 import org.eclipse.osee.orcs.OrcsSession;
+import org.eclipse.osee.orcs.core.ds.OrcsDataStore;
+import org.eclipse.osee.orcs.core.ds.TxDataStore;
 import org.eclipse.osee.orcs.core.internal.indexer.IndexerModule;
+import org.eclipse.osee.orcs.core.internal.loader.ArtifactDataCache;
+import org.eclipse.osee.orcs.statistics.ArtifactCacheStatistics;
 import org.eclipse.osee.orcs.statistics.IndexerStatistics;
+import org.eclipse.osee.orcs.statistics.TransactionStatistics;
 
 /**
  * @author Roberto E. Escobar
@@ -25,10 +31,16 @@ import org.eclipse.osee.orcs.statistics.IndexerStatistics;
 public class OrcsPerformanceImpl implements OrcsPerformance {
    private final IndexerModule indexerModule;
    private final OrcsSession session;
+   private final ArtifactDataCache artifactCache;
+   private final TxDataStore txDataStore;
+   private final OrcsDataStore dataStore;
 
-   public OrcsPerformanceImpl(Log logger, OrcsSession session, IndexerModule indexerModule) {
+   public OrcsPerformanceImpl(Log logger, OrcsSession session, IndexerModule indexerModule, ArtifactDataCache artifactCache, TxDataStore txDataStore, OrcsDataStore dataStore) {
       this.session = session;
       this.indexerModule = indexerModule;
+      this.artifactCache = artifactCache;
+      this.txDataStore = txDataStore;
+      this.dataStore = dataStore;
    }
 
    @Override
@@ -40,4 +52,29 @@ public class OrcsPerformanceImpl implements OrcsPerformance {
    public void clearIndexerStatistics() {
       indexerModule.clearStatistics(session);
    }
-}
\ No newline at end of file
+
+   @Override
+   public ArtifactCacheStatistics getArtifactCacheStatistics() {
+      return artifactCache;
+   }
+
+   @Override
+   public void clearArtifactCacheStatistics() {
+      artifactCache.clearStatistics();
+   }
+
+   @Override
+   public TransactionStatistics getTransactionStatistics() {
+      return txDataStore.getStatistics();
+   }
+
+   @Override
+   public void clearTransactionStatistics() {
+      txDataStore.clearStatistics();
+   }
+
+   @Override
+   public Map<String, Long> getJoinCleanupStatistics() {
+      return dataStore.getJoinCleanupReclaimedRows();
+   }
+}
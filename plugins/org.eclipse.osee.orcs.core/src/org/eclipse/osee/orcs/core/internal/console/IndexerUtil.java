@@ -15,6 +15,7 @@ package org.eclipse.osee.orcs.core.internal.console;
 
 import org.eclipse.osee.console.admin.Console;
 import org.eclipse.osee.orcs.statistics.IndexerItemStatistics;
+import org.eclipse.osee.orcs.statistics.IndexerStageStatistics;
 import org.eclipse.osee.orcs.statistics.IndexerStatistics;
 
 /**
@@ -44,6 +45,12 @@ public final class IndexerUtil {
       console.writeln("Total Query Ids Waiting to be Processed - [%d]", stats.getWorkersInQueue());
       console.writeln("Total Query Ids in Tag Queue Table - [%d]", stats.getTotalQueryIdsInQueue());
       console.writeln("Total Tags in System - [%d]", stats.getTagsInSystem());
+      for (IndexerStageStatistics stage : stats.getStageStatistics()) {
+         console.writeln(
+            "Stage [%s] - workers: [%d] queue: [%d of %d] tasks: [%d] items: [%d] busy: [%d] ms - [%.1f] items/s",
+            stage.getName(), stage.getWorkers(), stage.getQueueDepth(), stage.getQueueCapacity(),
+            stage.getTasksProcessed(), stage.getItemsProcessed(), stage.getBusyTime(), stage.getThroughput());
+      }
    }
 
    private static String toString(IndexerItemStatistics item) {
@@ -16,6 +16,7 @@ package org.eclipse.osee.orcs.core.internal.console;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import org.eclipse.osee.console.admin.Console;
 import org.eclipse.osee.console.admin.ConsoleCommand;
@@ -23,7 +24,9 @@ import org.eclipse.osee.console.admin.ConsoleParameters;
 import org.eclipse.osee.framework.core.executor.CancellableCallable;
 import org.eclipse.osee.orcs.OrcsApi;
 import org.eclipse.osee.orcs.OrcsPerformance;
+import org.eclipse.osee.orcs.statistics.ArtifactCacheStatistics;
 import org.eclipse.osee.orcs.statistics.IndexerStatistics;
+import org.eclipse.osee.orcs.statistics.TransactionStatistics;
 
 /**
  * @author Roberto E. Escobar
@@ -35,6 +38,9 @@ public class PerformanceInfoCommand implements ConsoleCommand {
    private enum StatsType {
       QUERY,
       INDEXER,
+      CACHE,
+      TRANSACTION,
+      JOIN,
       ALL
    }
 
@@ -58,7 +64,7 @@ public class PerformanceInfoCommand implements ConsoleCommand {
 
    @Override
    public String getUsage() {
-      return "[statusId=<[QUERY|INDEXER|ALL],..>] [reset=<TRUE|FALSE>]";
+      return "[statusId=<[QUERY|INDEXER|CACHE|TRANSACTION|JOIN|ALL],..>] [reset=<TRUE|FALSE>]";
    }
 
    private Collection<StatsType> toStatusTypes(String[] stats) {
@@ -126,7 +132,60 @@ public class PerformanceInfoCommand implements ConsoleCommand {
             IndexerStatistics indexerStats = performance.getIndexerStatistics();
             IndexerUtil.writeStatistics(console, indexerStats);
          }
+
+         if (isResetAllowed(StatsType.CACHE)) {
+            performance.clearArtifactCacheStatistics();
+         }
+
+         if (isWriteAllowed(StatsType.CACHE)) {
+            writeStatistics(performance.getArtifactCacheStatistics());
+         }
+
+         if (isResetAllowed(StatsType.TRANSACTION)) {
+            performance.clearTransactionStatistics();
+         }
+
+         if (isWriteAllowed(StatsType.TRANSACTION)) {
+            writeStatistics(performance.getTransactionStatistics());
+         }
+
+         if (isWriteAllowed(StatsType.JOIN)) {
+            writeJoinCleanupStatistics(performance.getJoinCleanupStatistics());
+         }
          return Boolean.TRUE;
       }
+
+      private void writeStatistics(ArtifactCacheStatistics stats) {
+         console.writeln("\n----------------------------------------------");
+         console.writeln("               Artifact Cache Stats");
+         console.writeln("----------------------------------------------");
+         console.writeln("Hits: [%d] Misses: [%d] Hit Ratio: [%.2f]", stats.getHits(), stats.getMisses(),
+            stats.getHitRatio());
+         console.writeln("Evictions: [%d] Invalidations: [%d]", stats.getEvictions(), stats.getInvalidations());
+         console.writeln("Entries: [%d] Rows: [%d] of [%d]", stats.getEntries(), stats.getWeight(),
+            stats.getCapacity());
+      }
+
+      private void writeJoinCleanupStatistics(Map<String, Long> reclaimedRows) {
+         console.writeln("\n----------------------------------------------");
+         console.writeln("               Join Cleanup Stats");
+         console.writeln("----------------------------------------------");
+         long total = 0;
+         for (Map.Entry<String, Long> entry : reclaimedRows.entrySet()) {
+            console.writeln("Table: [%s] Reclaimed Rows: [%d]", entry.getKey(), entry.getValue());
+            total += entry.getValue();
+         }
+         console.writeln("Total Reclaimed Rows: [%d]", total);
+      }
+
+      private void writeStatistics(TransactionStatistics stats) {
+         console.writeln("\n----------------------------------------------");
+         console.writeln("               Transaction Write Stats");
+         console.writeln("----------------------------------------------");
+         console.writeln("Transactions: [%d] Lookups: [%d] Lookup Round Trips: [%d]", stats.getTransactions(),
+            stats.getLookups(), stats.getLookupRoundTrips());
+         console.writeln("Round Trips Saved: [%d] Last: [%d] Max: [%d]", stats.getRoundTripsSaved(),
+            stats.getLastRoundTripsSaved(), stats.getMaxRoundTripsSaved());
+      }
    }
-}
\ No newline at end of file
+}
@@ -84,6 +84,7 @@ public class IndexerModule {
 
    public void clearStatistics(OrcsSession session) {
       statistics.clear();
+      queryIndexer.clearStatistics();
    }
 
    public QueryIndexer createQueryIndexer(OrcsSession session, OrcsTokenService tokenService) {
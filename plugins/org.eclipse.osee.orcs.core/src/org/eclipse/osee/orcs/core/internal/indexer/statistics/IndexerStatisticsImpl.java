@@ -13,8 +13,11 @@
 
 package org.eclipse.osee.orcs.core.internal.indexer.statistics;
 
+import java.util.Collections;
+import java.util.List;
 import org.eclipse.osee.orcs.core.ds.IndexerData;
 import org.eclipse.osee.orcs.statistics.IndexerItemStatistics;
+import org.eclipse.osee.orcs.statistics.IndexerStageStatistics;
 import org.eclipse.osee.orcs.statistics.IndexerStatistics;
 
 /**
@@ -129,6 +132,11 @@ public class IndexerStatisticsImpl implements Cloneable, IndexerStatistics {
       return indexerData != null ? indexerData.getTotalItemsInQueue() : -1;
    }
 
+   @Override
+   public List<IndexerStageStatistics> getStageStatistics() {
+      return indexerData != null ? indexerData.getStageStatistics() : Collections.emptyList();
+   }
+
    @Override
    protected IndexerStatistics clone() {
       IndexerStatisticsImpl other = new IndexerStatisticsImpl();
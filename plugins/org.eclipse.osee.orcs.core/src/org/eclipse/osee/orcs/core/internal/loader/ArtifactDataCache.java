@@ -0,0 +1,296 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.core.internal.loader;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.osee.framework.core.data.ArtifactId;
+import org.eclipse.osee.framework.core.data.BranchId;
+import org.eclipse.osee.framework.core.data.TransactionId;
+import org.eclipse.osee.orcs.core.ds.ArtifactData;
+import org.eclipse.osee.orcs.core.ds.AttributeData;
+import org.eclipse.osee.orcs.core.ds.RelationData;
+import org.eclipse.osee.orcs.statistics.ArtifactCacheStatistics;
+
+/**
+ * Size bounded, least recently used cache of the data loaded for an artifact at a given branch and transaction. Data
+ * loaded at a fixed transaction never changes and is kept until evicted; data loaded at the head of a branch is dropped
+ * when a transaction is committed on that branch. Work that rewrites rows in place without a transaction (purges,
+ * relation consolidation, tx_current repair) clears the whole cache. Capacity is measured in data rows (the artifact
+ * plus its attributes and relations) and a capacity of zero disables the cache.
+ * <p>
+ * The cache is disabled by default: it only sees commits and rewrites made by this server, so it must not be enabled
+ * when several servers write to the same database.
+ *
+ * @author agent
+ */
+public class ArtifactDataCache implements ArtifactCacheStatistics {
+
+   public static final String CACHE_CAPACITY_KEY = "orcs.artifact.cache.capacity";
+   public static final long DEFAULT_CACHE_CAPACITY = 0L;
+
+   private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(1024, 0.75f, true);
+   private final Map<Long, Set<Key>> headKeysByBranch = new HashMap<>();
+   private final long capacity;
+   private long weight;
+   private long generation;
+
+   private final LongAdder hits = new LongAdder();
+   private final LongAdder misses = new LongAdder();
+   private final LongAdder evictions = new LongAdder();
+   private final LongAdder invalidations = new LongAdder();
+
+   public ArtifactDataCache(long capacity) {
+      this.capacity = Math.max(0L, capacity);
+   }
+
+   public boolean isEnabled() {
+      return capacity > 0;
+   }
+
+   public Entry get(Key key) {
+      Entry entry;
+      synchronized (entries) {
+         entry = entries.get(key);
+      }
+      if (entry != null) {
+         hits.increment();
+      } else {
+         misses.increment();
+      }
+      return entry;
+   }
+
+   /**
+    * @return a value that changes whenever the whole cache is invalidated; read it before loading and pass it to
+    * {@link #put(Key, Entry, long)} so data loaded across an in-place rewrite is not stored
+    */
+   public long getGeneration() {
+      synchronized (entries) {
+         return generation;
+      }
+   }
+
+   public void put(Key key, Entry entry, long loadGeneration) {
+      if (!isEnabled() || entry.getWeight() > capacity) {
+         return;
+      }
+      synchronized (entries) {
+         if (loadGeneration != generation) {
+            return;
+         }
+         Entry previous = entries.put(key, entry);
+         if (previous != null) {
+            weight -= previous.getWeight();
+         }
+         weight += entry.getWeight();
+         if (entry.isHead()) {
+            headKeysByBranch.computeIfAbsent(key.branchId, branchId -> new HashSet<>()).add(key);
+         }
+         Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+         while (weight > capacity && iterator.hasNext()) {
+            Map.Entry<Key, Entry> eldest = iterator.next();
+            iterator.remove();
+            removed(eldest.getKey(), eldest.getValue());
+            evictions.increment();
+         }
+      }
+   }
+
+   /**
+    * Drops the data loaded at the head of the branch; data loaded at a fixed transaction is unaffected.
+    */
+   public void invalidate(BranchId branch) {
+      synchronized (entries) {
+         Set<Key> keys = headKeysByBranch.remove(branch.getId());
+         if (keys != null) {
+            for (Key key : keys) {
+               Entry entry = entries.remove(key);
+               if (entry != null) {
+                  weight -= entry.getWeight();
+                  invalidations.increment();
+               }
+            }
+         }
+      }
+   }
+
+   public void invalidateAll() {
+      synchronized (entries) {
+         generation++;
+         invalidations.add(entries.size());
+         entries.clear();
+         headKeysByBranch.clear();
+         weight = 0;
+      }
+   }
+
+   private void removed(Key key, Entry entry) {
+      weight -= entry.getWeight();
+      if (entry.isHead()) {
+         Set<Key> keys = headKeysByBranch.get(key.branchId);
+         if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+               headKeysByBranch.remove(key.branchId);
+            }
+         }
+      }
+   }
+
+   public void clearStatistics() {
+      hits.reset();
+      misses.reset();
+      evictions.reset();
+      invalidations.reset();
+   }
+
+   @Override
+   public long getHits() {
+      return hits.sum();
+   }
+
+   @Override
+   public long getMisses() {
+      return misses.sum();
+   }
+
+   @Override
+   public long getEvictions() {
+      return evictions.sum();
+   }
+
+   @Override
+   public long getInvalidations() {
+      return invalidations.sum();
+   }
+
+   @Override
+   public int getEntries() {
+      synchronized (entries) {
+         return entries.size();
+      }
+   }
+
+   @Override
+   public long getWeight() {
+      synchronized (entries) {
+         return weight;
+      }
+   }
+
+   @Override
+   public long getCapacity() {
+      return capacity;
+   }
+
+   @Override
+   public double getHitRatio() {
+      long hitCount = getHits();
+      long total = hitCount + getMisses();
+      return total == 0 ? 0.0 : (double) hitCount / total;
+   }
+
+   /**
+    * Identifies the data loaded for one artifact; the flags capture the load options that change which rows are
+    * returned.
+    */
+   public static final class Key {
+      private final long branchId;
+      private final long transactionId;
+      private final long viewId;
+      private final long artifactId;
+      private final int flags;
+
+      public Key(BranchId branch, TransactionId transaction, ArtifactId view, ArtifactId artifact, int flags) {
+         this.branchId = branch.getId();
+         this.transactionId = transaction.getId();
+         this.viewId = view.getId();
+         this.artifactId = artifact.getId();
+         this.flags = flags;
+      }
+
+      @Override
+      public int hashCode() {
+         int result = Long.hashCode(artifactId);
+         result = 31 * result + Long.hashCode(branchId);
+         result = 31 * result + Long.hashCode(transactionId);
+         result = 31 * result + Long.hashCode(viewId);
+         result = 31 * result + flags;
+         return result;
+      }
+
+      @Override
+      public boolean equals(Object obj) {
+         if (this == obj) {
+            return true;
+         }
+         if (!(obj instanceof Key)) {
+            return false;
+         }
+         Key other = (Key) obj;
+         return artifactId == other.artifactId && transactionId == other.transactionId && viewId == other.viewId && flags == other.flags && branchId == other.branchId;
+      }
+
+      @Override
+      public String toString() {
+         return "Key [branch=" + branchId + ", tx=" + transactionId + ", view=" + viewId + ", art=" + artifactId + ", flags=" + flags + "]";
+      }
+   }
+
+   /**
+    * Data rows loaded for one artifact. The artifact is null when it did not exist for the key; the rows are never
+    * handed out directly, callers clone them first.
+    */
+   public static final class Entry {
+      private final ArtifactData artifact;
+      private final List<AttributeData<?>> attributes;
+      private final List<RelationData> relations;
+      private final boolean head;
+
+      public Entry(ArtifactData artifact, List<AttributeData<?>> attributes, List<RelationData> relations, boolean head) {
+         this.artifact = artifact;
+         this.attributes = Collections.unmodifiableList(attributes);
+         this.relations = Collections.unmodifiableList(relations);
+         this.head = head;
+      }
+
+      public ArtifactData getArtifact() {
+         return artifact;
+      }
+
+      public List<AttributeData<?>> getAttributes() {
+         return attributes;
+      }
+
+      public List<RelationData> getRelations() {
+         return relations;
+      }
+
+      public boolean isHead() {
+         return head;
+      }
+
+      public int getWeight() {
+         return 1 + attributes.size() + relations.size();
+      }
+   }
+}
@@ -0,0 +1,488 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.core.internal.loader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.osee.framework.core.data.ArtifactId;
+import org.eclipse.osee.framework.core.data.AttributeId;
+import org.eclipse.osee.framework.core.data.AttributeTypeId;
+import org.eclipse.osee.framework.core.data.BranchId;
+import org.eclipse.osee.framework.core.data.GammaId;
+import org.eclipse.osee.framework.core.data.RelationId;
+import org.eclipse.osee.framework.core.data.RelationTypeToken;
+import org.eclipse.osee.framework.core.data.TransactionId;
+import org.eclipse.osee.framework.core.enums.LoadLevel;
+import org.eclipse.osee.framework.core.executor.HasCancellation;
+import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
+import org.eclipse.osee.orcs.OrcsSession;
+import org.eclipse.osee.orcs.core.ds.ArtifactData;
+import org.eclipse.osee.orcs.core.ds.AttributeData;
+import org.eclipse.osee.orcs.core.ds.DataFactory;
+import org.eclipse.osee.orcs.core.ds.DataLoader;
+import org.eclipse.osee.orcs.core.ds.DataLoaderFactory;
+import org.eclipse.osee.orcs.core.ds.LoadDataHandler;
+import org.eclipse.osee.orcs.core.ds.LoadDataHandlerDecorator;
+import org.eclipse.osee.orcs.core.ds.LoadDescription;
+import org.eclipse.osee.orcs.core.ds.Options;
+import org.eclipse.osee.orcs.core.ds.OptionsUtil;
+import org.eclipse.osee.orcs.core.ds.RelationData;
+import org.eclipse.osee.orcs.core.ds.ResultObjectDescription;
+import org.eclipse.osee.orcs.core.internal.loader.ArtifactDataCache.Entry;
+import org.eclipse.osee.orcs.core.internal.loader.ArtifactDataCache.Key;
+import org.eclipse.osee.orcs.core.internal.transaction.TxDataLoaderImpl.TransactionProvider;
+
+/**
+ * Loads artifacts by id through an {@link ArtifactDataCache}. Only artifacts missing from the cache are read from the
+ * data store, and data is delivered in the same order as a data store load: the description, then artifacts,
+ * attributes and relations, each sorted by artifact id. Loads restricted to attribute or relation ids/types bypass the
+ * cache.
+ *
+ * @author agent
+ */
+public class CachingDataLoader implements DataLoader {
+
+   private final Collection<AttributeId> attributeIds = new HashSet<>();
+   private final Collection<AttributeTypeId> attributeTypes = new HashSet<>();
+   private final Collection<RelationId> relationIds = new HashSet<>();
+   private final Collection<RelationTypeToken> relationTypes = new HashSet<>();
+   private final Options options = OptionsUtil.createOptions();
+
+   private final DataLoaderFactory delegateFactory;
+   private final ArtifactDataCache cache;
+   private final DataFactory dataFactory;
+   private final TransactionProvider txProvider;
+   private final OrcsSession session;
+   private final BranchId branch;
+   private final Collection<ArtifactId> artifactIds;
+
+   public CachingDataLoader(DataLoaderFactory delegateFactory, ArtifactDataCache cache, DataFactory dataFactory, TransactionProvider txProvider, OrcsSession session, BranchId branch, Collection<ArtifactId> artifactIds) {
+      this.delegateFactory = delegateFactory;
+      this.cache = cache;
+      this.dataFactory = dataFactory;
+      this.txProvider = txProvider;
+      this.session = session;
+      this.branch = branch;
+      this.artifactIds = artifactIds;
+   }
+
+   @Override
+   public DataLoader setOptions(Options source) {
+      options.setFrom(source);
+      return this;
+   }
+
+   @Override
+   public DataLoader includeDeletedArtifacts() {
+      return includeDeletedArtifacts(true);
+   }
+
+   @Override
+   public DataLoader includeDeletedArtifacts(boolean enabled) {
+      OptionsUtil.setIncludeDeletedArtifacts(options, enabled);
+      return this;
+   }
+
+   @Override
+   public DataLoader includeDeletedAttributes() {
+      return includeDeletedAttributes(true);
+   }
+
+   @Override
+   public DataLoader includeDeletedAttributes(boolean enabled) {
+      OptionsUtil.setIncludeDeletedAttributes(options, enabled);
+      return this;
+   }
+
+   @Override
+   public DataLoader includeDeletedRelations() {
+      return includeDeletedRelations(true);
+   }
+
+   @Override
+   public DataLoader includeDeletedRelations(boolean enabled) {
+      OptionsUtil.setIncludeDeletedRelations(options, enabled);
+      return this;
+   }
+
+   @Override
+   public boolean areDeletedArtifactsIncluded() {
+      return OptionsUtil.areDeletedArtifactsIncluded(options);
+   }
+
+   @Override
+   public boolean areDeletedAttributesIncluded() {
+      return OptionsUtil.areDeletedAttributesIncluded(options);
+   }
+
+   @Override
+   public boolean areDeletedRelationsIncluded() {
+      return OptionsUtil.areDeletedRelationsIncluded(options);
+   }
+
+   @Override
+   public DataLoader fromTransaction(TransactionId transactionId) {
+      OptionsUtil.setFromTransaction(options, transactionId);
+      return this;
+   }
+
+   @Override
+   public DataLoader fromBranchView(ArtifactId viewId) {
+      OptionsUtil.setFromBranchView(options, viewId);
+      return this;
+   }
+
+   @Override
+   public DataLoader fromHeadTransaction() {
+      OptionsUtil.setHeadTransaction(options);
+      return this;
+   }
+
+   @Override
+   public boolean isHeadTransaction() {
+      return !OptionsUtil.isHistorical(options);
+   }
+
+   @Override
+   public LoadLevel getLoadLevel() {
+      return OptionsUtil.getLoadLevel(options);
+   }
+
+   @Override
+   public DataLoader withLoadLevel(LoadLevel loadLevel) {
+      OptionsUtil.setLoadLevel(options, loadLevel);
+      return this;
+   }
+
+   @Override
+   public DataLoader withAttributeIds(Collection<AttributeId> attributeIds) {
+      this.attributeIds.addAll(attributeIds);
+      return this;
+   }
+
+   @Override
+   public DataLoader withRelationIds(Collection<RelationId> relationIds) {
+      this.relationIds.addAll(relationIds);
+      return this;
+   }
+
+   @Override
+   public DataLoader withAttributeTypes(AttributeTypeId... attributeType) {
+      return withAttributeTypes(Arrays.asList(attributeType));
+   }
+
+   @Override
+   public DataLoader withAttributeTypes(Collection<? extends AttributeTypeId> attributeTypes) {
+      this.attributeTypes.addAll(attributeTypes);
+      return this;
+   }
+
+   @Override
+   public DataLoader withRelationTypes(RelationTypeToken... relationType) {
+      return withRelationTypes(Arrays.asList(relationType));
+   }
+
+   @Override
+   public DataLoader withRelationTypes(Collection<? extends RelationTypeToken> relationTypes) {
+      this.relationTypes.addAll(relationTypes);
+      return this;
+   }
+
+   @Override
+   public void load(LoadDataHandler handler) {
+      load(null, handler);
+   }
+
+   @Override
+   public void load(HasCancellation cancellation, LoadDataHandler handler) {
+      if (!isCacheable()) {
+         newDelegate(artifactIds).load(cancellation, handler);
+         return;
+      }
+      long generation = cache.getGeneration();
+      Options loadOptions = options.clone();
+      boolean head = OptionsUtil.isHeadTransaction(loadOptions);
+      TransactionId transaction =
+         head ? txProvider.getHeadTransaction(session, branch) : OptionsUtil.getFromTransaction(loadOptions);
+      ArtifactId view = OptionsUtil.getFromBranchView(loadOptions);
+      int flags = toFlags(loadOptions);
+
+      Map<ArtifactId, Key> keys = new LinkedHashMap<>();
+      Set<ArtifactId> uniqueIds = new HashSet<>();
+      for (ArtifactId artifactId : artifactIds) {
+         uniqueIds.add(ArtifactId.create(artifactId));
+      }
+      List<ArtifactId> sortedIds = new ArrayList<>(uniqueIds);
+      sortedIds.sort(Comparator.comparing(ArtifactId::getId));
+      for (ArtifactId artifactId : sortedIds) {
+         keys.put(artifactId, new Key(branch, transaction, view, artifactId, flags));
+      }
+
+      Map<ArtifactId, Entry> hits = new HashMap<>();
+      List<ArtifactId> misses = new ArrayList<>();
+      for (Map.Entry<ArtifactId, Key> key : keys.entrySet()) {
+         Entry entry = cache.get(key.getValue());
+         if (entry != null) {
+            hits.put(key.getKey(), entry);
+         } else {
+            misses.add(key.getKey());
+         }
+      }
+
+      if (head && !misses.isEmpty()) {
+         // Mixing cached rows with a second head read could straddle a commit
+         hits.clear();
+         misses = sortedIds;
+      }
+
+      if (hits.isEmpty()) {
+         RecordingHandler recorder = new RecordingHandler(handler, keys.keySet());
+         newDelegate(misses).load(cancellation, recorder);
+         if (!head || transaction.equals(recorder.getTransaction())) {
+            store(keys, recorder, head, generation);
+         }
+      } else if (misses.isEmpty()) {
+         replay(cancellation, handler, new CachedLoadDescription(session, loadOptions, branch, transaction), keys,
+            hits);
+      } else {
+         RecordingHandler recorder = new RecordingHandler(null, new HashSet<>(misses));
+         newDelegate(misses).load(cancellation, recorder);
+         Map<ArtifactId, Entry> loaded = store(keys, recorder, head, generation);
+         hits.putAll(loaded);
+         replay(cancellation, handler, recorder.getDescription(), keys, hits);
+      }
+   }
+
+   private boolean isCacheable() {
+      return cache.isEnabled() && attributeIds.isEmpty() && attributeTypes.isEmpty() && relationIds.isEmpty() && relationTypes.isEmpty();
+   }
+
+   /**
+    * A head load and a historical load at the head transaction read the same rows, but only the historical one marks
+    * its version data historical and sets stripe ids, so the two are cached apart
+    */
+   private static int toFlags(Options options) {
+      int flags = OptionsUtil.getLoadLevel(options).ordinal() << 4;
+      flags |= OptionsUtil.areDeletedArtifactsIncluded(options) ? 1 : 0;
+      flags |= OptionsUtil.areDeletedAttributesIncluded(options) ? 2 : 0;
+      flags |= OptionsUtil.areDeletedRelationsIncluded(options) ? 4 : 0;
+      flags |= OptionsUtil.isHistorical(options) ? 8 : 0;
+      return flags;
+   }
+
+   private DataLoader newDelegate(Collection<ArtifactId> ids) {
+      DataLoader loader = delegateFactory.newDataLoaderFromIds(session, branch, ids);
+      loader.setOptions(options);
+      loader.withAttributeIds(attributeIds);
+      loader.withAttributeTypes(attributeTypes);
+      loader.withRelationIds(relationIds);
+      loader.withRelationTypes(relationTypes);
+      return loader;
+   }
+
+   private Map<ArtifactId, Entry> store(Map<ArtifactId, Key> keys, RecordingHandler recorder, boolean head,
+      long generation) {
+      Map<ArtifactId, Entry> stored = new HashMap<>();
+      for (ArtifactId artifactId : recorder.getArtifactIds()) {
+         ArtifactData artifact = recorder.artifacts.get(artifactId);
+         List<AttributeData<?>> attributes = new ArrayList<>();
+         for (AttributeData<?> attribute : recorder.getAttributes(artifactId)) {
+            attributes.add(cloneAttribute(attribute));
+         }
+         List<RelationData> relations = new ArrayList<>();
+         for (RelationData relation : recorder.getRelations(artifactId)) {
+            relations.add(dataFactory.clone(relation));
+         }
+         Entry entry =
+            new Entry(artifact != null ? dataFactory.clone(artifact) : null, attributes, relations, head);
+         cache.put(keys.get(artifactId), entry, generation);
+         stored.put(artifactId, entry);
+      }
+      return stored;
+   }
+
+   private void replay(HasCancellation cancellation, LoadDataHandler handler, LoadDescription description,
+      Map<ArtifactId, Key> keys, Map<ArtifactId, Entry> entries) {
+      Exception saveException = null;
+      try {
+         handler.onLoadStart();
+         checkCancelled(cancellation);
+         handler.onLoadDescription(description);
+         for (ArtifactId artifactId : keys.keySet()) {
+            ArtifactData artifact = entries.get(artifactId).getArtifact();
+            if (artifact != null) {
+               handler.onData(dataFactory.clone(artifact));
+            }
+         }
+         checkCancelled(cancellation);
+         for (ArtifactId artifactId : keys.keySet()) {
+            for (AttributeData<?> attribute : entries.get(artifactId).getAttributes()) {
+               handler.onData(cloneAttribute(attribute));
+            }
+         }
+         checkCancelled(cancellation);
+         for (ArtifactId artifactId : keys.keySet()) {
+            for (RelationData relation : entries.get(artifactId).getRelations()) {
+               handler.onData(dataFactory.clone(relation));
+            }
+         }
+      } catch (Exception ex) {
+         saveException = ex;
+      } finally {
+         try {
+            handler.onLoadEnd();
+         } catch (OseeCoreException ex) {
+            if (saveException == null) {
+               saveException = ex;
+            }
+         }
+      }
+      if (saveException != null) {
+         OseeCoreException.wrapAndThrow(saveException);
+      }
+   }
+
+   @SuppressWarnings({"unchecked", "rawtypes"})
+   private AttributeData<?> cloneAttribute(AttributeData<?> source) {
+      return dataFactory.clone((AttributeData) source);
+   }
+
+   private static void checkCancelled(HasCancellation cancellation) {
+      if (cancellation != null) {
+         cancellation.checkForCancelled();
+      }
+   }
+
+   /**
+    * Groups the rows of a data store load by artifact, optionally forwarding them to the caller's handler. A relation
+    * is recorded against each of its sides that was requested, once per gamma.
+    */
+   private static final class RecordingHandler extends LoadDataHandlerDecorator {
+      private final Set<ArtifactId> requested;
+      private final Map<ArtifactId, ArtifactData> artifacts = new HashMap<>();
+      private final Map<ArtifactId, List<AttributeData<?>>> attributes = new HashMap<>();
+      private final Map<ArtifactId, Map<GammaId, RelationData>> relations = new HashMap<>();
+      private LoadDescription description;
+
+      public RecordingHandler(LoadDataHandler handler, Set<ArtifactId> requested) {
+         super(handler);
+         this.requested = requested;
+      }
+
+      public LoadDescription getDescription() {
+         return description;
+      }
+
+      public TransactionId getTransaction() {
+         return description != null ? description.getTransaction() : TransactionId.SENTINEL;
+      }
+
+      public Set<ArtifactId> getArtifactIds() {
+         return requested;
+      }
+
+      public List<AttributeData<?>> getAttributes(ArtifactId artifactId) {
+         return attributes.getOrDefault(artifactId, new ArrayList<>());
+      }
+
+      public Collection<RelationData> getRelations(ArtifactId artifactId) {
+         Map<GammaId, RelationData> byGamma = relations.get(artifactId);
+         return byGamma != null ? byGamma.values() : new ArrayList<>();
+      }
+
+      @Override
+      public void onLoadDescription(LoadDescription data) {
+         description = data;
+         super.onLoadDescription(data);
+      }
+
+      @Override
+      public void onData(ArtifactData data) {
+         artifacts.put(ArtifactId.create(data), data);
+         super.onData(data);
+      }
+
+      @Override
+      public <T> void onData(AttributeData<T> data) {
+         attributes.computeIfAbsent(ArtifactId.create(data.getArtifactId()), key -> new ArrayList<>()).add(data);
+         super.onData(data);
+      }
+
+      @Override
+      public void onData(RelationData data) {
+         record(ArtifactId.create(data.getArtifactIdA()), data);
+         record(ArtifactId.create(data.getArtifactIdB()), data);
+         super.onData(data);
+      }
+
+      private void record(ArtifactId side, RelationData data) {
+         if (requested.contains(side)) {
+            relations.computeIfAbsent(side, key -> new LinkedHashMap<>()).putIfAbsent(
+               data.getVersion().getGammaId(), data);
+         }
+      }
+   }
+
+   private static final class CachedLoadDescription implements LoadDescription {
+      private final OrcsSession session;
+      private final Options options;
+      private final BranchId branch;
+      private final TransactionId transaction;
+
+      public CachedLoadDescription(OrcsSession session, Options options, BranchId branch, TransactionId transaction) {
+         this.session = session;
+         this.options = options;
+         this.branch = branch;
+         this.transaction = transaction;
+      }
+
+      @Override
+      public OrcsSession getSession() {
+         return session;
+      }
+
+      @Override
+      public Options getOptions() {
+         return options;
+      }
+
+      @Override
+      public BranchId getBranch() {
+         return branch;
+      }
+
+      @Override
+      public TransactionId getTransaction() {
+         return transaction;
+      }
+
+      @Override
+      public boolean isMultiBranch() {
+         return false;
+      }
+
+      @Override
+      public ResultObjectDescription getObjectDescription() {
+         return null;
+      }
+   }
+}
@@ -0,0 +1,63 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.core.internal.loader;
+
+import java.util.Collection;
+import org.eclipse.osee.framework.core.data.ArtifactId;
+import org.eclipse.osee.framework.core.data.BranchId;
+import org.eclipse.osee.framework.core.executor.HasCancellation;
+import org.eclipse.osee.framework.jdk.core.util.Conditions;
+import org.eclipse.osee.orcs.OrcsSession;
+import org.eclipse.osee.orcs.core.ds.DataFactory;
+import org.eclipse.osee.orcs.core.ds.DataLoader;
+import org.eclipse.osee.orcs.core.ds.DataLoaderFactory;
+import org.eclipse.osee.orcs.core.ds.QueryContext;
+import org.eclipse.osee.orcs.core.internal.transaction.TxDataLoaderImpl.TransactionProvider;
+
+/**
+ * @author agent
+ */
+public class CachingDataLoaderFactory implements DataLoaderFactory {
+
+   private final DataLoaderFactory delegate;
+   private final ArtifactDataCache cache;
+   private final DataFactory dataFactory;
+   private final TransactionProvider txProvider;
+
+   public CachingDataLoaderFactory(DataLoaderFactory delegate, ArtifactDataCache cache, DataFactory dataFactory, TransactionProvider txProvider) {
+      this.delegate = delegate;
+      this.cache = cache;
+      this.dataFactory = dataFactory;
+      this.txProvider = txProvider;
+   }
+
+   @Override
+   public int getCount(HasCancellation cancellation, QueryContext queryContext) {
+      return delegate.getCount(cancellation, queryContext);
+   }
+
+   @Override
+   public DataLoader newDataLoader(QueryContext queryContext) {
+      return delegate.newDataLoader(queryContext);
+   }
+
+   @Override
+   public DataLoader newDataLoaderFromIds(OrcsSession session, BranchId branch, Collection<ArtifactId> artifactIds) {
+      Conditions.checkNotNull(branch, "branch");
+      if (!cache.isEnabled()) {
+         return delegate.newDataLoaderFromIds(session, branch, artifactIds);
+      }
+      return new CachingDataLoader(delegate, cache, dataFactory, txProvider, session, branch, artifactIds);
+   }
+}
@@ -26,6 +26,7 @@ import org.eclipse.osee.orcs.OrcsSession;
 import org.eclipse.osee.orcs.core.ds.TransactionData;
 import org.eclipse.osee.orcs.core.ds.TransactionResult;
 import org.eclipse.osee.orcs.core.ds.TxDataStore;
+import org.eclipse.osee.orcs.core.internal.loader.ArtifactDataCache;
 
 /**
  * @author Roberto E. Escobar
@@ -35,12 +36,14 @@ public class TxCallableFactory {
    private final Log logger;
    private final TxDataStore txDataStore;
    private final TxDataManager txManager;
+   private final ArtifactDataCache artifactCache;
 
-   public TxCallableFactory(Log logger, TxDataStore txDataStore, TxDataManager txManager) {
+   public TxCallableFactory(Log logger, TxDataStore txDataStore, TxDataManager txManager, ArtifactDataCache artifactCache) {
       super();
       this.logger = logger;
       this.txDataStore = txDataStore;
       this.txManager = txManager;
+      this.artifactCache = artifactCache;
    }
 
    public CancellableCallable<Integer> purgeTransactions(OrcsSession session,
@@ -48,7 +51,11 @@ public class TxCallableFactory {
       return new AbstractTxCallable<Integer>("PurgeTransactions", session) {
          @Override
          protected Integer innerCall() throws Exception {
-            return txDataStore.purgeTransactions(getSession(), transactions).call();
+            try {
+               return txDataStore.purgeTransactions(getSession(), transactions).call();
+            } finally {
+               artifactCache.invalidateAll();
+            }
          }
       };
    }
@@ -72,6 +79,7 @@ public class TxCallableFactory {
             try {
                txManager.startTx(txData);
                TransactionResult result = doCommit();
+               artifactCache.invalidate(txData.getBranch());
                txManager.txCommitSuccess(txData);
                if (result != null) {
                   transaction = result.getTransaction();
@@ -13,11 +13,13 @@
 
 package org.eclipse.osee.orcs.db.internal;
 
+import org.eclipse.osee.orcs.db.internal.callable.Callable_JUnit_TestSuite;
 import org.eclipse.osee.orcs.db.internal.change.Change_JUnit_TestSuite;
 import org.eclipse.osee.orcs.db.internal.loader.Loader_JUnit_TestSuite;
 import org.eclipse.osee.orcs.db.internal.proxy.Proxy_JUnit_TestSuite;
 import org.eclipse.osee.orcs.db.internal.resource.Resource_JUnit_TestSuite;
 import org.eclipse.osee.orcs.db.internal.search.Query_JUnit_TestSuite;
+import org.eclipse.osee.orcs.db.internal.sql.join.Join_JUnit_TestSuite;
 import org.eclipse.osee.orcs.db.internal.transaction.Transaction_JUnit_TestSuite;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -27,11 +29,13 @@ import org.junit.runners.Suite;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+   Callable_JUnit_TestSuite.class,
    Change_JUnit_TestSuite.class,
    Loader_JUnit_TestSuite.class,
    Proxy_JUnit_TestSuite.class,
    Resource_JUnit_TestSuite.class,
    Query_JUnit_TestSuite.class,
+   Join_JUnit_TestSuite.class,
    Transaction_JUnit_TestSuite.class})
 public class Internal_JUnit_TestSuite {
    // Test Suite
@@ -0,0 +1,83 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.orcs.db.internal.callable;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import java.util.Collections;
+import org.eclipse.osee.console.admin.Console;
+import org.eclipse.osee.jdbc.JdbcClient;
+import org.eclipse.osee.logger.Log;
+import org.eclipse.osee.orcs.OrcsSession;
+import org.eclipse.osee.orcs.db.internal.sql.join.SqlJoinFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test Case for {@link DatastoreRewriteListeners}
+ *
+ * @author agent
+ */
+public class DatastoreRewriteListenersTest {
+
+   private final Log logger = mock(Log.class);
+   private final OrcsSession session = mock(OrcsSession.class);
+   private final JdbcClient jdbcClient = mock(JdbcClient.class);
+   private Runnable listener;
+
+   @Before
+   public void setup() {
+      listener = mock(Runnable.class);
+      DatastoreRewriteListeners.add(listener);
+   }
+
+   @After
+   public void tearDown() {
+      DatastoreRewriteListeners.remove(listener);
+   }
+
+   @Test
+   public void testPurgeAttributesNotifiesListeners() throws Exception {
+      new PurgeAttributesDatabaseTxCallable(logger, session, jdbcClient, mock(SqlJoinFactory.class),
+         Collections.emptyList(), mock(Console.class)).call();
+
+      verify(listener).run();
+   }
+
+   @Test
+   public void testTxCurrentsFixNotifiesListeners() throws Exception {
+      newTxCurrentsCallable(false).call();
+      verify(listener, never()).run();
+
+      newTxCurrentsCallable(true).call();
+      verify(listener, times(1)).run();
+   }
+
+   @Test
+   public void testRemovedListenerNotNotified() throws Exception {
+      DatastoreRewriteListeners.remove(listener);
+
+      newTxCurrentsCallable(true).call();
+      verify(listener, never()).run();
+   }
+
+   private InvalidTxCurrentsAndModTypesCallable newTxCurrentsCallable(boolean isFixOperationEnabled) {
+      return new InvalidTxCurrentsAndModTypesCallable(logger, session, jdbcClient, "test", "osee_txs", "gamma_id",
+         isFixOperationEnabled, false);
+   }
+}
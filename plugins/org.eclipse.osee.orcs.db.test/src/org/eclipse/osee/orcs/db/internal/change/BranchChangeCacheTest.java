@@ -0,0 +1,154 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.db.internal.change;
+
+import static org.eclipse.osee.orcs.db.internal.change.ChangeTestUtility.createChange;
+import static org.eclipse.osee.orcs.db.internal.change.ChangeTestUtility.createItem;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import org.eclipse.osee.framework.core.data.BranchId;
+import org.eclipse.osee.framework.core.data.TransactionId;
+import org.eclipse.osee.framework.core.enums.ModificationType;
+import org.eclipse.osee.framework.core.model.change.ChangeItem;
+import org.eclipse.osee.framework.jdk.core.type.DoubleKeyHashMap;
+import org.eclipse.osee.orcs.db.internal.change.BranchChangeCache.CachedChanges;
+import org.junit.Test;
+
+/**
+ * Test Case for {@link BranchChangeCache}
+ *
+ * @author agent
+ */
+public class BranchChangeCacheTest {
+
+   private static final BranchId SOURCE = BranchId.valueOf(71L);
+   private static final BranchId OTHER_SOURCE = BranchId.valueOf(72L);
+   private static final TransactionId BASELINE = TransactionId.valueOf(10L);
+   private static final TransactionId DESTINATION = TransactionId.valueOf(20L);
+   private static final TransactionId HEAD = TransactionId.valueOf(30L);
+
+   @Test
+   public void testCachedChangesAreCopies() {
+      BranchChangeCache cache = new BranchChangeCache();
+      DoubleKeyHashMap<Integer, Long, ChangeItem> changes = createChanges(2);
+      cache.put(SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL, HEAD, changes, cache.getGeneration());
+
+      changes.get(1, 0L).getCurrentVersion().setModType(ModificationType.DELETED);
+
+      CachedChanges cached = cache.get(SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL);
+      assertNotNull(cached);
+      assertEquals(HEAD, cached.getSourceHead());
+      ChangeItem item = cached.getChanges().get(1, 0L);
+      assertEquals(ModificationType.MODIFIED, item.getCurrentVersion().getModType());
+
+      item.getNetChange().setModType(ModificationType.DELETED);
+      ChangeItem again = cache.get(SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL).getChanges().get(1, 0L);
+      assertNotSame(item, again);
+      assertEquals(ModificationType.MODIFIED, again.getNetChange().getModType());
+   }
+
+   @Test
+   public void testKeyedByDestinationAndMerge() {
+      BranchChangeCache cache = new BranchChangeCache();
+      cache.put(SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL, HEAD, createChanges(1), cache.getGeneration());
+
+      assertNull(cache.get(SOURCE, BASELINE, TransactionId.valueOf(21L), TransactionId.SENTINEL));
+      assertNull(cache.get(SOURCE, BASELINE, DESTINATION, TransactionId.valueOf(40L)));
+      assertNull(cache.get(OTHER_SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL));
+      assertNotNull(cache.get(SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL));
+   }
+
+   @Test
+   public void testEvictsLeastRecentlyUsedByItemCount() {
+      BranchChangeCache cache = new BranchChangeCache(5);
+      cache.put(SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL, HEAD, createChanges(2), cache.getGeneration());
+      cache.put(OTHER_SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL, HEAD, createChanges(2),
+         cache.getGeneration());
+      assertEquals(4, cache.getItemCount());
+
+      cache.get(SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL);
+      cache.put(SOURCE, BASELINE, TransactionId.valueOf(21L), TransactionId.SENTINEL, HEAD, createChanges(2),
+         cache.getGeneration());
+
+      assertEquals(2, cache.size());
+      assertEquals(4, cache.getItemCount());
+      assertNull(cache.get(OTHER_SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL));
+      assertNotNull(cache.get(SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL));
+
+      cache.put(OTHER_SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL, HEAD, createChanges(6),
+         cache.getGeneration());
+      assertNull(cache.get(OTHER_SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL));
+   }
+
+   @Test
+   public void testInvalidate() {
+      BranchChangeCache cache = new BranchChangeCache();
+      cache.put(SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL, HEAD, createChanges(1), cache.getGeneration());
+      cache.put(SOURCE, BASELINE, TransactionId.valueOf(21L), TransactionId.SENTINEL, HEAD, createChanges(1),
+         cache.getGeneration());
+      cache.put(OTHER_SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL, HEAD, createChanges(1),
+         cache.getGeneration());
+
+      cache.invalidate(SOURCE);
+
+      assertEquals(1, cache.size());
+      assertEquals(1, cache.getItemCount());
+      assertNotNull(cache.get(OTHER_SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL));
+   }
+
+   @Test
+   public void testInvalidateAll() {
+      BranchChangeCache cache = new BranchChangeCache();
+      cache.put(SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL, HEAD, createChanges(1), cache.getGeneration());
+      cache.put(OTHER_SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL, HEAD, createChanges(2),
+         cache.getGeneration());
+
+      cache.invalidateAll();
+
+      assertEquals(0, cache.size());
+      assertEquals(0, cache.getItemCount());
+   }
+
+   @Test
+   public void testChangesLoadedAcrossInvalidationAreNotKept() {
+      BranchChangeCache cache = new BranchChangeCache();
+      long generation = cache.getGeneration();
+
+      // a rewrite lands while the changes are loading
+      cache.invalidateAll();
+      cache.put(SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL, HEAD, createChanges(1), generation);
+      assertNull(cache.get(SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL));
+
+      generation = cache.getGeneration();
+      cache.invalidate(OTHER_SOURCE);
+      cache.put(SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL, HEAD, createChanges(1), generation);
+      assertNull(cache.get(SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL));
+
+      cache.put(SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL, HEAD, createChanges(1), cache.getGeneration());
+      assertNotNull(cache.get(SOURCE, BASELINE, DESTINATION, TransactionId.SENTINEL));
+   }
+
+   private DoubleKeyHashMap<Integer, Long, ChangeItem> createChanges(int count) {
+      DoubleKeyHashMap<Integer, Long, ChangeItem> changes = new DoubleKeyHashMap<>();
+      for (long index = 0; index < count; index++) {
+         ChangeItem item = createItem(index, createChange(1L, ModificationType.NEW), null,
+            createChange(100L + index, ModificationType.MODIFIED), null,
+            createChange(100L + index, ModificationType.MODIFIED));
+         changes.put(1, index, item);
+      }
+      return changes;
+   }
+}
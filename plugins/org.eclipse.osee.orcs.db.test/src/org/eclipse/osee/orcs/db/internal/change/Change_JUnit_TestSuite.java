@@ -17,7 +17,12 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
-@Suite.SuiteClasses({ComputeNetChangeTest.class, ChangeItemConflictTest.class, MissingChangeItemFactoryTest.class})
+@Suite.SuiteClasses({
+   ComputeNetChangeTest.class,
+   ChangeItemConflictTest.class,
+   MissingChangeItemFactoryTest.class,
+   BranchChangeCacheTest.class,
+   LoadDeltasBetweenBranchesTest.class})
 /**
  * @author Roberto E. Escobar
  */
@@ -0,0 +1,361 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.orcs.db.internal.change;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.RETURNS_MOCKS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.eclipse.osee.framework.core.OrcsTokenService;
+import org.eclipse.osee.framework.core.data.BranchId;
+import org.eclipse.osee.framework.core.data.TransactionId;
+import org.eclipse.osee.framework.core.data.TransactionToken;
+import org.eclipse.osee.framework.core.enums.CoreArtifactTypes;
+import org.eclipse.osee.framework.core.enums.CoreRelationTypes;
+import org.eclipse.osee.framework.core.enums.ModificationType;
+import org.eclipse.osee.framework.core.model.change.ChangeItem;
+import org.eclipse.osee.jdbc.JdbcClient;
+import org.eclipse.osee.jdbc.JdbcService;
+import org.eclipse.osee.jdbc.JdbcStatement;
+import org.eclipse.osee.jdbc.OseePreparedStatement;
+import org.eclipse.osee.orcs.OrcsApi;
+import org.eclipse.osee.orcs.db.internal.sql.join.SqlJoinFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test Case for the incremental use of {@link BranchChangeCache} by {@link LoadDeltasBetweenBranches}. The source
+ * branch's artifact and relation versions are kept in memory and served to the change queries.
+ *
+ * @author agent
+ */
+public class LoadDeltasBetweenBranchesTest {
+
+   private static final BranchId SOURCE = BranchId.valueOf(71L);
+   private static final BranchId DESTINATION = BranchId.valueOf(570L);
+   private static final TransactionId BASELINE = TransactionId.valueOf(10L);
+   private static final TransactionToken DESTINATION_TX = TransactionToken.valueOf(20L, DESTINATION);
+
+   private final List<TxRow> rows = new ArrayList<>();
+   private final List<Long> sinceQueried = new ArrayList<>();
+   private final Map<Long, List<Long>> joinIds = new HashMap<>();
+   private JdbcClient jdbcClient;
+   private SqlJoinFactory joinFactory;
+   private OrcsTokenService tokenService;
+   private OrcsApi orcsApi;
+   private MissingChangeItemFactory missingChangeItemFactory;
+   private BranchChangeCache changeCache;
+
+   @Before
+   public void setUp() {
+      jdbcClient = mock(JdbcClient.class, invocation -> {
+         Object[] args = invocation.getArguments();
+         String method = invocation.getMethod().getName();
+         if (method.equals("fetch") && args.length == 3 && args[1] instanceof String) {
+            String sql = (String) args[1];
+            if (sql.contains("baseline_transaction_id")) {
+               return BASELINE;
+            } else if (sql.contains("max(transaction_id)")) {
+               return TransactionId.valueOf(getHead());
+            }
+         } else if (method.equals("runQueryWithMaxFetchSize") && args[0] instanceof Consumer) {
+            @SuppressWarnings("unchecked")
+            Consumer<JdbcStatement> consumer = (Consumer<JdbcStatement>) args[0];
+            String sql = (String) args[1];
+            if (sql.contains("FROM osee_artifact item, txsOuter")) {
+               return selectChanges(consumer, (TransactionId) args[5], false);
+            } else if (sql.contains("FROM osee_relation item, txsOuter")) {
+               return selectChanges(consumer, (TransactionId) args[5], true);
+            } else if (sql.contains("SELECT DISTINCT item.art_id")) {
+               return selectTouched(consumer, (TransactionId) args[3], false);
+            } else if (sql.contains("SELECT DISTINCT item.gamma_id as item_id FROM osee_relation item")) {
+               return selectTouched(consumer, (TransactionId) args[3], true);
+            } else if (sql.contains("FROM osee_join_id jid")) {
+               return selectNotCurrent(consumer, (Long) args[2]);
+            }
+            return 0;
+         } else if (method.equals("getBatchStatement")) {
+            return newBatchStatement();
+         }
+         return RETURNS_MOCKS.answer(invocation);
+      });
+      JdbcService jdbcService = mock(JdbcService.class);
+      when(jdbcService.getClient()).thenReturn(jdbcClient);
+      joinFactory = new SqlJoinFactory();
+      joinFactory.setJdbcService(jdbcService);
+
+      tokenService = mock(OrcsTokenService.class);
+      when(tokenService.getArtifactTypeOrCreate(anyLong())).thenReturn(CoreArtifactTypes.Artifact);
+      when(tokenService.getRelationTypeOrCreate(anyLong())).thenReturn(CoreRelationTypes.DefaultHierarchical);
+      orcsApi = mock(OrcsApi.class, RETURNS_DEEP_STUBS);
+      missingChangeItemFactory = mock(MissingChangeItemFactory.class);
+      changeCache = new BranchChangeCache();
+   }
+
+   @Test
+   public void testNewTransactionsAreMergedIntoCachedChanges() {
+      commit(11L, art(1L, 101L, ModificationType.NEW), art(2L, 102L, ModificationType.NEW));
+      assertEquals(gammas(1L, 101L, 2L, 102L), compare(changeCache));
+      assertEquals(TransactionId.SENTINEL.getId(), sinceQueried.get(0));
+
+      commit(12L, art(1L, 111L, ModificationType.MODIFIED), art(3L, 103L, ModificationType.NEW));
+      sinceQueried.clear();
+      Map<Long, Long> incremental = compare(changeCache);
+
+      assertEquals(gammas(1L, 111L, 2L, 102L, 3L, 103L), incremental);
+      // only the changes after the cached head were read
+      assertEquals(Long.valueOf(11L), sinceQueried.get(0));
+      assertEquals(compare(null), incremental);
+
+      sinceQueried.clear();
+      assertEquals(incremental, compare(changeCache));
+      assertEquals("an unchanged head is served from the cache", 0, sinceQueried.size());
+   }
+
+   @Test
+   public void testPurgedTransactionIsNotReusedAfterInvalidation() {
+      commit(11L, art(1L, 101L, ModificationType.NEW), art(2L, 102L, ModificationType.NEW));
+      commit(12L, art(1L, 111L, ModificationType.MODIFIED), art(3L, 103L, ModificationType.NEW));
+      assertEquals(gammas(1L, 111L, 2L, 102L, 3L, 103L), compare(changeCache));
+
+      // purge the head transaction in place, as the purge transaction callable does, then commit past it
+      purge(12L);
+      changeCache.invalidateAll();
+      commit(13L, art(4L, 104L, ModificationType.NEW));
+
+      sinceQueried.clear();
+      Map<Long, Long> afterPurge = compare(changeCache);
+      assertEquals(gammas(1L, 101L, 2L, 102L, 4L, 104L), afterPurge);
+      assertEquals(TransactionId.SENTINEL.getId(), sinceQueried.get(0));
+      assertEquals(compare(null), afterPurge);
+   }
+
+   @Test
+   public void testPurgedHeadIsDetectedWithoutInvalidation() {
+      commit(11L, art(1L, 101L, ModificationType.NEW), art(2L, 102L, ModificationType.NEW));
+      commit(12L, art(3L, 103L, ModificationType.NEW));
+      assertEquals(gammas(1L, 101L, 2L, 102L, 3L, 103L), compare(changeCache));
+
+      // a rewrite this server was not told about leaves the head behind the cached one
+      purge(12L);
+
+      sinceQueried.clear();
+      assertEquals(gammas(1L, 101L, 2L, 102L), compare(changeCache));
+      assertEquals(TransactionId.SENTINEL.getId(), sinceQueried.get(0));
+   }
+
+   @Test
+   public void testReplacedRelationIsDroppedFromCachedChanges() {
+      commit(11L, art(1L, 101L, ModificationType.NEW), rel(1L, 201L, ModificationType.NEW),
+         rel(2L, 202L, ModificationType.NEW));
+      assertEquals(gammas(1L, 101L, 201L, 201L, 202L, 202L), compare(changeCache));
+
+      // the replaced relation's old row keeps transaction 11, it is only marked not current
+      commit(12L, rel(1L, 211L, ModificationType.MODIFIED));
+      sinceQueried.clear();
+      Map<Long, Long> incremental = compare(changeCache);
+
+      assertEquals(gammas(1L, 101L, 202L, 202L, 211L, 211L), incremental);
+      assertEquals(Long.valueOf(11L), sinceQueried.get(0));
+      assertEquals(compare(null), incremental);
+   }
+
+   private Map<Long, Long> compare(BranchChangeCache cache) {
+      TransactionToken sourceTx = TransactionToken.valueOf(getHead(), SOURCE);
+      List<ChangeItem> changes = new LoadDeltasBetweenBranches(jdbcClient, joinFactory, tokenService, SOURCE,
+         DESTINATION, sourceTx, DESTINATION_TX, BranchId.SENTINEL, orcsApi, missingChangeItemFactory, null,
+         cache).call();
+      Map<Long, Long> gammas = new HashMap<>();
+      for (ChangeItem change : changes) {
+         gammas.put(change.getItemId().getId(), change.getCurrentVersion().getGammaId().getId());
+      }
+      return gammas;
+   }
+
+   private static Map<Long, Long> gammas(long... itemAndGammaIds) {
+      Map<Long, Long> gammas = new HashMap<>();
+      for (int index = 0; index < itemAndGammaIds.length; index += 2) {
+         gammas.put(itemAndGammaIds[index], itemAndGammaIds[index + 1]);
+      }
+      return gammas;
+   }
+
+   private long getHead() {
+      long head = BASELINE.getId();
+      for (TxRow row : rows) {
+         head = Math.max(head, row.transactionId);
+      }
+      return head;
+   }
+
+   private void commit(long transactionId, TxRow... written) {
+      for (TxRow row : written) {
+         for (TxRow existing : rows) {
+            if (existing.isRelation == row.isRelation && existing.itemKey == row.itemKey) {
+               existing.isCurrent = false;
+            }
+         }
+         row.transactionId = transactionId;
+         rows.add(row);
+      }
+   }
+
+   private void purge(long transactionId) {
+      Set<Long> purgedArtIds = new LinkedHashSet<>();
+      for (Iterator<TxRow> iterator = rows.iterator(); iterator.hasNext();) {
+         TxRow row = iterator.next();
+         if (row.transactionId == transactionId) {
+            purgedArtIds.add(row.itemKey);
+            iterator.remove();
+         }
+      }
+      for (Long artId : purgedArtIds) {
+         TxRow latest = null;
+         for (TxRow row : rows) {
+            if (row.itemKey == artId && (latest == null || row.transactionId > latest.transactionId)) {
+               latest = row;
+            }
+         }
+         if (latest != null) {
+            latest.isCurrent = true;
+         }
+      }
+   }
+
+   private int selectChanges(Consumer<JdbcStatement> consumer, TransactionId since, boolean isRelation) {
+      sinceQueried.add(since.getId());
+      int count = 0;
+      for (TxRow row : new ArrayList<>(rows)) {
+         if (row.isRelation == isRelation && row.isCurrent && row.transactionId > since.getId() && row.transactionId != BASELINE.getId()) {
+            consumer.accept(row.toStatement());
+            count++;
+         }
+      }
+      return count;
+   }
+
+   private int selectTouched(Consumer<JdbcStatement> consumer, TransactionId since, boolean isRelation) {
+      Set<Long> touched = new LinkedHashSet<>();
+      for (TxRow row : new ArrayList<>(rows)) {
+         if (row.isRelation == isRelation && row.transactionId > since.getId()) {
+            touched.add(row.getItemId());
+         }
+      }
+      for (Long itemId : touched) {
+         JdbcStatement stmt = mock(JdbcStatement.class);
+         when(stmt.getLong("item_id")).thenReturn(itemId);
+         consumer.accept(stmt);
+      }
+      return touched.size();
+   }
+
+   private int selectNotCurrent(Consumer<JdbcStatement> consumer, Long queryId) {
+      int count = 0;
+      for (Long gammaId : joinIds.getOrDefault(queryId, new ArrayList<>())) {
+         boolean isCurrent = false;
+         for (TxRow row : new ArrayList<>(rows)) {
+            isCurrent |= row.gammaId == gammaId && row.isCurrent;
+         }
+         if (!isCurrent) {
+            JdbcStatement stmt = mock(JdbcStatement.class);
+            when(stmt.getLong("gamma_id")).thenReturn(gammaId);
+            consumer.accept(stmt);
+            count++;
+         }
+      }
+      return count;
+   }
+
+   /**
+    * Records the ids added to a join by its query id, so the queries reading the join can be answered
+    */
+   private OseePreparedStatement newBatchStatement() {
+      List<Object[]> batch = new ArrayList<>();
+      return mock(OseePreparedStatement.class, invocation -> {
+         String method = invocation.getMethod().getName();
+         if (method.equals("addToBatch")) {
+            Object[] params = invocation.getArguments();
+            if (params.length == 1 && params[0] instanceof Object[]) {
+               params = (Object[]) params[0];
+            }
+            batch.add(params);
+            if (params.length == 2 && params[1] instanceof Long) {
+               joinIds.computeIfAbsent((Long) params[0], key -> new ArrayList<>()).add((Long) params[1]);
+            }
+         } else if (method.equals("size") || method.equals("execute")) {
+            return batch.size();
+         }
+         return null;
+      });
+   }
+
+   private static TxRow art(long artId, long gammaId, ModificationType modType) {
+      return new TxRow(artId, gammaId, modType, false);
+   }
+
+   /**
+    * @param relationKey identifies the relation (type, sides and order) across the gammas it is written with
+    */
+   private static TxRow rel(long relationKey, long gammaId, ModificationType modType) {
+      return new TxRow(relationKey, gammaId, modType, true);
+   }
+
+   private static final class TxRow {
+      private final long itemKey;
+      private final long gammaId;
+      private final ModificationType modType;
+      private final boolean isRelation;
+      private long transactionId;
+      private boolean isCurrent = true;
+
+      private TxRow(long itemKey, long gammaId, ModificationType modType, boolean isRelation) {
+         this.itemKey = itemKey;
+         this.gammaId = gammaId;
+         this.modType = modType;
+         this.isRelation = isRelation;
+      }
+
+      /**
+       * @return the id the change is keyed by: the artifact id, or the gamma for a relation
+       */
+      private long getItemId() {
+         return isRelation ? gammaId : itemKey;
+      }
+
+      private JdbcStatement toStatement() {
+         JdbcStatement stmt = mock(JdbcStatement.class);
+         when(stmt.getLong("gamma_id")).thenReturn(gammaId);
+         when(stmt.getInt("mod_type")).thenReturn(modType.getId().intValue());
+         when(stmt.getLong("app_id")).thenReturn(1L);
+         when(stmt.getString("app_value")).thenReturn("Base");
+         when(stmt.getLong("transaction_id")).thenReturn(transactionId);
+         when(stmt.getLong("item_id")).thenReturn(isRelation ? 0L : itemKey);
+         when(stmt.getLong("item_type_id")).thenReturn(
+            isRelation ? CoreRelationTypes.DefaultHierarchical.getId() : CoreArtifactTypes.Artifact.getId());
+         when(stmt.getLong("item_first")).thenReturn(itemKey);
+         return stmt;
+      }
+   }
+}
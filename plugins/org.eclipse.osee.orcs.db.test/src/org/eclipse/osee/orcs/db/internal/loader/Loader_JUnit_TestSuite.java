@@ -20,7 +20,7 @@ import org.junit.runners.Suite;
  * @author Roberto E. Escobar
  */
 @RunWith(Suite.class)
-@Suite.SuiteClasses({DataFactoryImplTest.class, LoaderSqlHandlerFactoryUtilTest.class})
+@Suite.SuiteClasses({DataFactoryImplTest.class, LoaderSqlHandlerFactoryUtilTest.class, SqlObjectLoaderTest.class})
 public class Loader_JUnit_TestSuite {
    // Test Suite
 }
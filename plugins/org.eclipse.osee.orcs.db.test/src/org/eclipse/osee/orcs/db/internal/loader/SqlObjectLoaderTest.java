@@ -0,0 +1,214 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.orcs.db.internal.loader;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.eclipse.osee.framework.core.OrcsTokenService;
+import org.eclipse.osee.framework.core.data.ArtifactId;
+import org.eclipse.osee.framework.core.data.BranchId;
+import org.eclipse.osee.framework.core.data.TransactionId;
+import org.eclipse.osee.framework.core.enums.CoreBranches;
+import org.eclipse.osee.framework.core.enums.LoadLevel;
+import org.eclipse.osee.framework.core.executor.ExecutorAdmin;
+import org.eclipse.osee.jdbc.JdbcClient;
+import org.eclipse.osee.jdbc.JdbcDbType;
+import org.eclipse.osee.logger.Log;
+import org.eclipse.osee.orcs.OrcsSession;
+import org.eclipse.osee.orcs.core.ds.ArtifactData;
+import org.eclipse.osee.orcs.core.ds.AttributeData;
+import org.eclipse.osee.orcs.core.ds.LoadDataHandlerAdapter;
+import org.eclipse.osee.orcs.core.ds.LoadDescription;
+import org.eclipse.osee.orcs.core.ds.Options;
+import org.eclipse.osee.orcs.core.ds.OptionsUtil;
+import org.eclipse.osee.orcs.core.ds.OrcsDataHandler;
+import org.eclipse.osee.orcs.core.ds.RelationData;
+import org.eclipse.osee.orcs.db.internal.OrcsObjectFactory;
+import org.eclipse.osee.orcs.db.internal.loader.criteria.CriteriaArtifact;
+import org.eclipse.osee.orcs.db.internal.loader.criteria.CriteriaAttribute;
+import org.eclipse.osee.orcs.db.internal.loader.criteria.CriteriaOrcsLoad;
+import org.eclipse.osee.orcs.db.internal.loader.criteria.CriteriaRelation;
+import org.eclipse.osee.orcs.db.internal.loader.criteria.CriteriaRelation2;
+import org.eclipse.osee.orcs.db.internal.loader.handlers.LoaderSqlHandlerFactoryUtil;
+import org.eclipse.osee.orcs.db.internal.loader.processor.AbstractLoadProcessor;
+import org.eclipse.osee.orcs.db.internal.loader.processor.ArtifactLoadProcessor;
+import org.eclipse.osee.orcs.db.internal.loader.processor.AttributeLoadProcessor;
+import org.eclipse.osee.orcs.db.internal.loader.processor.RelationLoadProcessor;
+import org.eclipse.osee.orcs.db.internal.sql.SqlContext;
+import org.eclipse.osee.orcs.db.internal.sql.join.Id4JoinQuery;
+import org.eclipse.osee.orcs.db.internal.sql.join.SqlJoinFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test Case for {@link SqlObjectLoader} partitioned artifact loading
+ *
+ * @author agent
+ */
+public class SqlObjectLoaderTest {
+   private static final BranchId BRANCH = CoreBranches.COMMON;
+   private static final int ARTIFACT_COUNT = 50;
+   private static final int PARTITION_COUNT = 4;
+
+   private ExecutorService executor;
+   private JdbcClient jdbcClient;
+   private SqlJoinFactory joinFactory;
+   private SqlObjectLoader loader;
+   private final List<ArtifactId> artifactIds = new ArrayList<>();
+
+   @Before
+   public void setup() {
+      executor = Executors.newFixedThreadPool(PARTITION_COUNT);
+      ExecutorAdmin executorAdmin = mock(ExecutorAdmin.class);
+      when(executorAdmin.schedule(anyString(), any(Callable.class), any())).thenAnswer(
+         invocation -> executor.submit((Callable<?>) invocation.getArguments()[1]));
+
+      jdbcClient = mock(JdbcClient.class);
+      when(jdbcClient.getDbType()).thenReturn(JdbcDbType.postgresql);
+      joinFactory = mock(SqlJoinFactory.class);
+      when(joinFactory.createArtifactLoadJoinQuery()).thenAnswer(
+         invocation -> new Id4JoinQuery(jdbcClient, null, ARTIFACT_COUNT));
+
+      loader = new FakeRowsLoader(mock(Log.class), executorAdmin, jdbcClient, joinFactory,
+         mock(OrcsObjectFactory.class), mock(OrcsTokenService.class));
+
+      for (int i = 0; i < ARTIFACT_COUNT; i++) {
+         artifactIds.add(ArtifactId.valueOf(1000L + i * 7 % ARTIFACT_COUNT));
+      }
+      Collections.shuffle(artifactIds);
+   }
+
+   @After
+   public void tearDown() {
+      executor.shutdownNow();
+   }
+
+   @Test
+   public void testPartitionedLoadMatchesSerialLoad() {
+      List<String> serial = load(1, LoadLevel.ALL);
+      List<String> partitioned = load(PARTITION_COUNT, LoadLevel.ALL);
+
+      assertEquals(ARTIFACT_COUNT * 5 + 1, serial.size());
+      assertEquals("artifact:1000", serial.get(1));
+      assertEquals(serial, partitioned);
+   }
+
+   @Test
+   public void testPartitionedLoadMatchesSerialLoadArtifactsOnly() {
+      List<String> serial = load(1, LoadLevel.ARTIFACT_DATA);
+      List<String> partitioned = load(PARTITION_COUNT, LoadLevel.ARTIFACT_DATA);
+
+      assertEquals(ARTIFACT_COUNT + 1, serial.size());
+      assertEquals(serial, partitioned);
+   }
+
+   private List<String> load(int partitionCount, LoadLevel loadLevel) {
+      ArtifactJoinPartitioner partitioner = new ArtifactJoinPartitioner(joinFactory);
+      for (ArtifactId artifactId : artifactIds) {
+         partitioner.add(BRANCH, artifactId, TransactionId.SENTINEL, ArtifactId.SENTINEL);
+      }
+      List<Id4JoinQuery> joins = partitioner.createJoins(partitionCount);
+      assertEquals(partitionCount, joins.size());
+
+      Options options = OptionsUtil.createOptions();
+      OptionsUtil.setLoadLevel(options, loadLevel);
+      LoadSqlContext loadContext = new LoadSqlContext(mock(OrcsSession.class), options, BRANCH);
+      CriteriaOrcsLoad criteria = new CriteriaOrcsLoad(new CriteriaArtifact(),
+         new CriteriaAttribute(Collections.emptyList(), Collections.emptyList()),
+         new CriteriaRelation(Collections.emptyList(), Collections.emptyList()),
+         new CriteriaRelation2(Collections.emptyList()));
+
+      RecordingHandler handler = new RecordingHandler();
+      loader.loadArtifacts(null, handler, joins, criteria, loadContext, 100);
+      return handler.events;
+   }
+
+   private static final class RecordingHandler extends LoadDataHandlerAdapter {
+      private final List<String> events = new ArrayList<>();
+
+      @Override
+      public void onLoadDescription(LoadDescription data) {
+         events.add("description");
+      }
+
+      @Override
+      public void onData(ArtifactData data) {
+         events.add(data.toString());
+      }
+
+      @Override
+      public <T> void onData(AttributeData<T> data) {
+         events.add(data.toString());
+      }
+
+      @Override
+      public void onData(RelationData data) {
+         events.add(data.toString());
+      }
+   }
+
+   /**
+    * Stands in for the database: each load returns rows for the artifacts bound to the load sql, in artifact id order
+    * as the loader sql would
+    */
+   private static final class FakeRowsLoader extends SqlObjectLoader {
+
+      public FakeRowsLoader(Log logger, ExecutorAdmin executorAdmin, JdbcClient jdbcClient, SqlJoinFactory joinFactory, OrcsObjectFactory objectFactory, OrcsTokenService tokenService) {
+         super(logger, executorAdmin, jdbcClient, joinFactory, LoaderSqlHandlerFactoryUtil.createHandlerFactory(),
+            objectFactory, null, tokenService, PARTITION_COUNT);
+      }
+
+      @Override
+      protected TransactionId loadHeadTransactionId(BranchId branch) {
+         return TransactionId.valueOf(42);
+      }
+
+      @SuppressWarnings("unchecked")
+      @Override
+      protected <H> void load(AbstractLoadProcessor<H> processor, H handler, SqlContext loadContext, int fetchSize) {
+         long[] artifactIds = null;
+         int arrays = 0;
+         for (Object parameter : loadContext.getParameters()) {
+            if (parameter instanceof long[] && ++arrays == 2) {
+               artifactIds = ((long[]) parameter).clone();
+            }
+         }
+         Arrays.sort(artifactIds);
+         for (long artifactId : artifactIds) {
+            if (processor instanceof ArtifactLoadProcessor) {
+               ((OrcsDataHandler<ArtifactData>) handler).onData(mock(ArtifactData.class, "artifact:" + artifactId));
+            } else if (processor instanceof AttributeLoadProcessor) {
+               OrcsDataHandler<AttributeData<?>> attributeHandler = (OrcsDataHandler<AttributeData<?>>) handler;
+               attributeHandler.onData(mock(AttributeData.class, "attribute:" + artifactId + ".1"));
+               attributeHandler.onData(mock(AttributeData.class, "attribute:" + artifactId + ".2"));
+            } else {
+               String stream = processor instanceof RelationLoadProcessor ? "relation:" : "relation2:";
+               ((OrcsDataHandler<RelationData>) handler).onData(mock(RelationData.class, stream + artifactId));
+            }
+         }
+      }
+   }
+}
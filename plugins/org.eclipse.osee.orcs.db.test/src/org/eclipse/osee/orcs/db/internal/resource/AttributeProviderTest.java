@@ -162,4 +162,39 @@ public class AttributeProviderTest {
       Assert.assertFalse(provider.exists(savedLocator));
       Assert.assertFalse(file.exists());
    }
+
+   @Test
+   public void testIdenticalContentStoredOnce() throws Exception {
+      byte[] data = Utility.generateData(4001).getBytes("UTF-8");
+      SystemProperties properties = new MockSystemPreferences() {
+         @Override
+         public String getValue(String key) {
+            return folder.getRoot().getAbsolutePath();
+         }
+      };
+      AttributeProvider provider = new AttributeProvider();
+      provider.setSystemProperties(properties);
+      provider.start();
+
+      PropertyStore options = new PropertyStore();
+      IResourceLocator first = provider.save(new ResourceLocator(new URI("attr://123/first.txt")),
+         new MockResource("first.txt", new URI("file://path"), data, false), options);
+      IResourceLocator second = provider.save(new ResourceLocator(new URI("attr://456/second.txt")),
+         new MockResource("second.txt", new URI("file://path"), data, false), options);
+
+      File firstFile = new File(folder.getRoot().getAbsolutePath() + "/attr/123/", "first.txt");
+      File secondFile = new File(folder.getRoot().getAbsolutePath() + "/attr/456/", "second.txt");
+      Assert.assertTrue(Arrays.equals(data, Lib.fileToBytes(firstFile)));
+      Assert.assertTrue(Arrays.equals(data, Lib.fileToBytes(secondFile)));
+      Assert.assertTrue(provider.getContentStore().getRoot().startsWith(folder.getRoot().toPath()));
+
+      try (InputStream inputStream = provider.acquire(second, options).getContent()) {
+         Assert.assertTrue(Arrays.equals(data, Lib.inputStreamToBytes(inputStream)));
+      }
+
+      Assert.assertEquals(IResourceManager.OK, provider.delete(first));
+      Assert.assertFalse(provider.exists(first));
+      Assert.assertTrue(provider.exists(second));
+      Assert.assertTrue(Arrays.equals(data, Lib.fileToBytes(secondFile)));
+   }
 }
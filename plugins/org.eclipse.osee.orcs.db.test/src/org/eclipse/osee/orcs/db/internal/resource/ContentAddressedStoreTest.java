@@ -0,0 +1,207 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.db.internal.resource;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.osee.framework.jdk.core.util.Lib;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test Case for {@link ContentAddressedStore}
+ *
+ * @author agent
+ */
+public class ContentAddressedStoreTest {
+
+   @Rule
+   public TemporaryFolder folder = new TemporaryFolder();
+
+   private ContentAddressedStore store;
+   private Path attributes;
+
+   @Before
+   public void setUp() throws Exception {
+      store = new ContentAddressedStore(folder.newFolder("cas").toPath());
+      attributes = folder.newFolder("attr").toPath();
+   }
+
+   @Test
+   public void testIdenticalContentSharesBlob() throws Exception {
+      byte[] content = "identical content".getBytes(StandardCharsets.UTF_8);
+      Path first = attributes.resolve("123/first.txt");
+      Path second = attributes.resolve("456/second.txt");
+
+      store.save(new ByteArrayInputStream(content), first, false);
+      store.save(new ByteArrayInputStream(content), second, false);
+
+      assertArrayEquals(content, Files.readAllBytes(first));
+      assertArrayEquals(content, Files.readAllBytes(second));
+
+      Path blob = store.store(new ByteArrayInputStream(content));
+      assumeTrue(store.getReferenceCount(blob) >= 0);
+      assertTrue(Files.isSameFile(blob, first));
+      assertTrue(Files.isSameFile(blob, second));
+      assertEquals(2, store.getReferenceCount(blob));
+
+      assertTrue(store.release(first));
+      assertFalse(Files.exists(first));
+      assertTrue(Files.exists(blob));
+      assertEquals(1, store.getReferenceCount(blob));
+
+      assertTrue(store.release(second));
+      assertFalse(Files.exists(blob));
+      assertFalse(store.release(second));
+   }
+
+   @Test
+   public void testOverwriteReleasesPreviousContent() throws Exception {
+      Path target = attributes.resolve("123/data.txt");
+      store.save(new ByteArrayInputStream("old".getBytes(StandardCharsets.UTF_8)), target, false);
+      Path oldBlob = store.store(new ByteArrayInputStream("old".getBytes(StandardCharsets.UTF_8)));
+      assumeTrue(store.getReferenceCount(oldBlob) >= 0);
+
+      store.save(new ByteArrayInputStream("new".getBytes(StandardCharsets.UTF_8)), target, true);
+
+      assertEquals("new", new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+      assertFalse(Files.exists(oldBlob));
+   }
+
+   @Test
+   public void testStoredContentIsReadOnly() throws Exception {
+      Path target = attributes.resolve("123/data.txt");
+      store.save(new ByteArrayInputStream("shared".getBytes(StandardCharsets.UTF_8)), target, false);
+      assumeTrue(store.getReferenceCount(target) >= 0);
+
+      Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(target);
+      assertFalse(permissions.contains(PosixFilePermission.OWNER_WRITE));
+      assertFalse(permissions.contains(PosixFilePermission.GROUP_WRITE));
+      assertFalse(permissions.contains(PosixFilePermission.OTHERS_WRITE));
+
+      // new content is linked in place of the old rather than written through the shared file
+      store.save(new ByteArrayInputStream("changed".getBytes(StandardCharsets.UTF_8)), target, true);
+      assertEquals("changed", new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+   }
+
+   @Test
+   public void testReleaseRemovesEmptyDirectories() throws Exception {
+      Path target = attributes.resolve("12/34/data.txt");
+      Path sibling = attributes.resolve("12/56/data.txt");
+      store.save(new ByteArrayInputStream("data".getBytes(StandardCharsets.UTF_8)), target, false);
+      store.save(new ByteArrayInputStream("other".getBytes(StandardCharsets.UTF_8)), sibling, false);
+      Path blob = store.store(new ByteArrayInputStream("data".getBytes(StandardCharsets.UTF_8)));
+      assumeTrue(store.getReferenceCount(blob) >= 0);
+
+      assertTrue(store.release(target));
+      ContentAddressedStore.deleteEmptyDirectories(target.getParent(), attributes);
+
+      assertFalse(Files.exists(target.getParent()));
+      assertTrue(Files.exists(sibling));
+      assertFalse(Files.exists(blob.getParent()));
+      assertTrue(Files.exists(attributes));
+      assertTrue(Files.exists(store.getRoot()));
+   }
+
+   @Test
+   public void testConcurrentSaveAndReleaseOfSameContent() throws Exception {
+      byte[] content = "contended content".getBytes(StandardCharsets.UTF_8);
+      int threads = 4;
+      int iterations = 200;
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      try {
+         List<Future<?>> futures = new ArrayList<>();
+         for (int thread = 0; thread < threads; thread++) {
+            Path target = attributes.resolve("thread" + thread + "/data.txt");
+            futures.add(executor.submit(() -> {
+               for (int iteration = 0; iteration < iterations; iteration++) {
+                  store.save(new ByteArrayInputStream(content), target, false);
+                  assertArrayEquals(content, Files.readAllBytes(target));
+                  assertTrue(store.release(target));
+               }
+               return null;
+            }));
+         }
+         for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+         }
+      } finally {
+         executor.shutdownNow();
+      }
+
+      assertFalse(Files.exists(store.getBlobPath(sha256(content))));
+   }
+
+   @Test
+   public void testClosedMappedStreamIsUnmapped() throws Exception {
+      byte[] content = new byte[(int) ContentAddressedStore.MAP_THRESHOLD + 1];
+      Path target = attributes.resolve("789/large.bin");
+      store.save(new ByteArrayInputStream(content), target, false);
+
+      InputStream inputStream = ContentAddressedStore.openStream(target);
+      assertEquals(content.length, inputStream.available());
+      inputStream.close();
+      try {
+         inputStream.read();
+         fail("Expected a closed stream");
+      } catch (IOException ex) {
+         // buffer released
+      }
+      // closing twice is harmless
+      inputStream.close();
+   }
+
+   @Test
+   public void testLargeContentRead() throws Exception {
+      byte[] content = new byte[(int) ContentAddressedStore.MAP_THRESHOLD * 3 + 17];
+      new Random(3).nextBytes(content);
+      Path target = attributes.resolve("789/large.bin");
+      store.save(new ByteArrayInputStream(content), target, false);
+
+      try (InputStream inputStream = ContentAddressedStore.openStream(target)) {
+         assertEquals(content.length, inputStream.available());
+         assertArrayEquals(content, Lib.inputStreamToBytes(inputStream));
+      }
+   }
+
+   private static String sha256(byte[] content) throws Exception {
+      StringBuilder builder = new StringBuilder();
+      for (byte value : MessageDigest.getInstance("SHA-256").digest(content)) {
+         builder.append(String.format("%02x", value));
+      }
+      return builder.toString();
+   }
+}
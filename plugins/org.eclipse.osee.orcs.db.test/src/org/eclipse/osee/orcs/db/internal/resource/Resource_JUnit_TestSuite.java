@@ -17,7 +17,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
-@Suite.SuiteClasses({AttributeProviderTest.class})
+@Suite.SuiteClasses({AttributeProviderTest.class, ContentAddressedStoreTest.class})
 /**
  * @author Roberto E. Escobar
  */
@@ -14,6 +14,7 @@
 package org.eclipse.osee.orcs.db.internal.search;
 
 import org.eclipse.osee.orcs.db.internal.search.handlers.Handlers_JUnit_TestSuite;
+import org.eclipse.osee.orcs.db.internal.search.indexer.Indexer_JUnit_TestSuite;
 import org.eclipse.osee.orcs.db.internal.search.language.LanguageTestSuite;
 import org.eclipse.osee.orcs.db.internal.search.tagger.Tagger_JUnit_TestSuite;
 import org.eclipse.osee.orcs.db.internal.search.util.Utility_Test_Suite;
@@ -26,6 +27,7 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
    Handlers_JUnit_TestSuite.class,
+   Indexer_JUnit_TestSuite.class,
    LanguageTestSuite.class,
    Tagger_JUnit_TestSuite.class,
    Utility_Test_Suite.class})
@@ -1,5 +1,5 @@
 /*********************************************************************
- * Copyright (c) 2004, 2007 Boeing
+ * Copyright (c) 2026 Boeing
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,17 +13,14 @@
 
 package org.eclipse.osee.orcs.db.internal.search.indexer;
 
-import java.util.concurrent.Callable;
-import org.eclipse.osee.framework.core.OrcsTokenService;
-import org.eclipse.osee.orcs.OrcsSession;
-import org.eclipse.osee.orcs.search.IndexerCollector;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
 
 /**
- * @author Roberto E. Escobar
+ * @author Ryan D. Brooks
  */
-public interface IndexerCallableFactory {
-
-   Callable<?> createIndexerTaskCallable(OrcsSession session, OrcsTokenService tokenService, IndexerCollector collector,
-      Long queryId);
-
+@RunWith(Suite.class)
+@Suite.SuiteClasses({IndexingPipelineTest.class})
+public class Indexer_JUnit_TestSuite {
+   // Test Suite
 }
@@ -0,0 +1,349 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.db.internal.search.indexer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.osee.framework.core.OrcsTokenService;
+import org.eclipse.osee.framework.core.data.GammaId;
+import org.eclipse.osee.framework.core.enums.CoreAttributeTypes;
+import org.eclipse.osee.framework.core.enums.JoinItem;
+import org.eclipse.osee.framework.core.executor.ExecutorAdmin;
+import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
+import org.eclipse.osee.jdbc.JdbcClient;
+import org.eclipse.osee.jdbc.JdbcConnection;
+import org.eclipse.osee.jdbc.JdbcTransaction;
+import org.eclipse.osee.logger.Log;
+import org.eclipse.osee.orcs.OrcsSession;
+import org.eclipse.osee.orcs.OseeDb;
+import org.eclipse.osee.orcs.core.ds.IndexedResource;
+import org.eclipse.osee.orcs.core.ds.OrcsDataHandler;
+import org.eclipse.osee.orcs.db.internal.search.Engines;
+import org.eclipse.osee.orcs.db.internal.search.tagger.TaggingEngine;
+import org.eclipse.osee.orcs.search.IndexerCollector;
+import org.eclipse.osee.orcs.statistics.IndexerStageStatistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+/**
+ * Test Case for {@link IndexingPipeline}
+ *
+ * @author agent
+ */
+public class IndexingPipelineTest {
+
+   private static final Long QUERY_ID = 88L;
+
+   // @formatter:off
+   @Mock private Log logger;
+   @Mock private ExecutorAdmin executorAdmin;
+   @Mock private JdbcClient jdbcClient;
+   @Mock private JdbcConnection connection;
+   @Mock private IndexedResourceLoader loader;
+   @Mock private OrcsTokenService tokenService;
+   @Mock private OrcsSession session;
+   @Mock private IndexerCollector collector;
+   // @formatter:on
+
+   private final Map<String, ExecutorService> executors = new ConcurrentHashMap<>();
+   private final List<Object[]> insertedTags = new ArrayList<>();
+   private TaggingEngine taggingEngine;
+
+   @Before
+   public void setUp() {
+      initMocks(this);
+      taggingEngine = Engines.newTaggingEngine(logger);
+
+      doAnswer(invocation -> {
+         executors.put(invocation.getArgument(0), Executors.newFixedThreadPool(invocation.getArgument(1)));
+         return null;
+      }).when(executorAdmin).createFixedPoolExecutor(anyString(), anyInt());
+      doAnswer(invocation -> {
+         Callable<?> callable = invocation.getArgument(1);
+         return executors.get(invocation.getArgument(0)).submit(callable);
+      }).when(executorAdmin).schedule(anyString(), any(), any());
+      doAnswer(invocation -> {
+         ExecutorService executor = executors.remove(invocation.getArgument(0));
+         if (executor != null) {
+            executor.shutdownNow();
+         }
+         return null;
+      }).when(executorAdmin).shutdown(anyString());
+
+      doAnswer(invocation -> {
+         JdbcTransaction transaction = invocation.getArgument(0);
+         transaction.handleTxWork(connection);
+         return null;
+      }).when(jdbcClient).runTransaction(any(JdbcTransaction.class));
+      doAnswer(invocation -> {
+         Iterable<Object[]> rows = invocation.getArgument(2);
+         int count = 0;
+         for (Object[] row : rows) {
+            if (OseeDb.OSEE_SEARCH_TAGS_TABLE.getInsertSql().equals(invocation.getArgument(1))) {
+               insertedTags.add(row);
+            }
+            count++;
+         }
+         return count;
+      }).when(jdbcClient).runBatchUpdate(eq(connection), anyString(), any());
+
+      doReturn(CoreAttributeTypes.Name).when(tokenService).getAttributeTypeOrSentinel(anyLong());
+   }
+
+   @After
+   public void tearDown() {
+      for (ExecutorService executor : executors.values()) {
+         executor.shutdownNow();
+      }
+   }
+
+   @Test
+   public void testTagsWrittenForQueryId() throws Exception {
+      loadTwoResources();
+
+      IndexingPipeline pipeline = newPipeline(2);
+      pipeline.start();
+      try {
+         Future<?> future = pipeline.submitTaskId(session, tokenService, collector, QUERY_ID);
+         assertEquals(4L, future.get(10, TimeUnit.SECONDS));
+      } finally {
+         pipeline.stop();
+      }
+
+      Set<Long> gammas = new HashSet<>();
+      for (Object[] row : insertedTags) {
+         gammas.add((Long) row[1]);
+      }
+      assertEquals(4, insertedTags.size());
+      assertEquals(2, gammas.size());
+      verify(jdbcClient).runPreparedUpdate(connection, JoinItem.TAG_GAMMA_QUEUE.getDeleteSql(), QUERY_ID);
+      verify(collector).onIndexTaskSubmit(QUERY_ID);
+      verify(collector).onIndexItemComplete(eq(QUERY_ID), eq(11L), eq(2), anyLong());
+      verify(collector).onIndexTaskComplete(eq(QUERY_ID), anyLong(), anyLong());
+      assertEquals(0, pipeline.getWorkersInQueue());
+
+      // the write stage records its statistics after the task's future completes
+      List<IndexerStageStatistics> stages = pipeline.getStageStatistics();
+      for (int wait = 0; wait < 100 && stages.get(3).getTasksProcessed() == 0; wait++) {
+         Thread.sleep(20);
+         stages = pipeline.getStageStatistics();
+      }
+      assertEquals(4, stages.size());
+      assertEquals("fetch", stages.get(0).getName());
+      assertEquals(2, stages.get(0).getItemsProcessed());
+      assertEquals(4, stages.get(3).getItemsProcessed());
+      for (IndexerStageStatistics stage : stages) {
+         assertEquals(1, stage.getTasksProcessed());
+      }
+   }
+
+   @Test
+   public void testEmptyQueryIdIsNotWritten() throws Exception {
+      IndexingPipeline pipeline = newPipeline(2);
+      pipeline.start();
+      try {
+         Future<?> future = pipeline.submitTaskId(session, tokenService, collector, QUERY_ID);
+         assertEquals(-1L, future.get(10, TimeUnit.SECONDS));
+      } finally {
+         pipeline.stop();
+      }
+      assertTrue(insertedTags.isEmpty());
+      assertEquals(0, pipeline.getStageStatistics().get(1).getTasksProcessed());
+   }
+
+   @Test
+   public void testContentBeyondLoadBufferIsStreamed() throws Exception {
+      loadTwoResources();
+
+      // only the first resource fits the load buffer, the second is read by the tag stage
+      IndexingPipeline pipeline = newPipeline(2, 1, 10000L, false, IndexerConstants.INDEXER_CACHE_LIMIT);
+      pipeline.start();
+      try {
+         Future<?> future = pipeline.submitTaskId(session, tokenService, collector, QUERY_ID);
+         assertEquals(4L, future.get(10, TimeUnit.SECONDS));
+      } finally {
+         pipeline.stop();
+      }
+
+      assertEquals(4, insertedTags.size());
+      verify(collector).onIndexItemComplete(eq(QUERY_ID), eq(11L), eq(2), anyLong());
+      verify(collector).onIndexItemComplete(eq(QUERY_ID), eq(12L), eq(2), anyLong());
+      assertEquals(1, pipeline.getStageStatistics().get(1).getItemsProcessed());
+   }
+
+   @Test
+   public void testTagsWrittenInCacheLimitBatches() throws Exception {
+      loadTwoResources();
+
+      IndexingPipeline pipeline = newPipeline(2, 1024, 10000L, false, 3);
+      pipeline.start();
+      try {
+         pipeline.submitTaskId(session, tokenService, collector, QUERY_ID).get(10, TimeUnit.SECONDS);
+      } finally {
+         pipeline.stop();
+      }
+
+      assertEquals(4, insertedTags.size());
+      verify(jdbcClient, times(2)).runBatchUpdate(eq(connection), eq(OseeDb.OSEE_SEARCH_TAGS_TABLE.getInsertSql()),
+         any());
+   }
+
+   @Test
+   public void testCacheAllWritesTagsInOneBatch() throws Exception {
+      loadTwoResources();
+
+      IndexingPipeline pipeline = newPipeline(2, 1024, 10000L, true, 3);
+      pipeline.start();
+      try {
+         pipeline.submitTaskId(session, tokenService, collector, QUERY_ID).get(10, TimeUnit.SECONDS);
+      } finally {
+         pipeline.stop();
+      }
+
+      assertEquals(4, insertedTags.size());
+      verify(jdbcClient, times(1)).runBatchUpdate(eq(connection), eq(OseeDb.OSEE_SEARCH_TAGS_TABLE.getInsertSql()),
+         any());
+   }
+
+   @Test
+   public void testFullQueueRejectsSubmitAfterTimeout() throws Exception {
+      CountDownLatch release = new CountDownLatch(1);
+      CountDownLatch fetching = new CountDownLatch(1);
+      doAnswer(invocation -> {
+         fetching.countDown();
+         release.await();
+         return null;
+      }).when(loader).loadSource(any(), any(), any());
+
+      IndexingPipeline pipeline = newPipeline(1, 1024, 100L, false, IndexerConstants.INDEXER_CACHE_LIMIT);
+      pipeline.start();
+      try {
+         pipeline.submitTaskId(session, tokenService, null, 1L);
+         assertTrue(fetching.await(10, TimeUnit.SECONDS));
+         pipeline.submitTaskId(session, tokenService, null, 2L);
+
+         Future<?> rejected = pipeline.submitTaskId(session, tokenService, collector, 3L);
+         assertTrue(rejected.isDone());
+         try {
+            rejected.get();
+            fail("Expected the submit to be rejected");
+         } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof OseeCoreException);
+         }
+         verify(collector).onIndexTaskError(eq(3L), any(OseeCoreException.class));
+         assertEquals(2, pipeline.getWorkersInQueue());
+      } finally {
+         release.countDown();
+         pipeline.stop();
+      }
+   }
+
+   @Test
+   public void testFullQueueDelaysSubmit() throws Exception {
+      CountDownLatch release = new CountDownLatch(1);
+      CountDownLatch fetching = new CountDownLatch(1);
+      doAnswer(invocation -> {
+         fetching.countDown();
+         release.await();
+         return null;
+      }).when(loader).loadSource(any(), any(), any());
+
+      IndexingPipeline pipeline = newPipeline(1);
+      pipeline.start();
+      try {
+         // the only fetch worker holds the first task, the second fills the queue
+         Future<?> first = pipeline.submitTaskId(session, tokenService, null, 1L);
+         assertTrue(fetching.await(10, TimeUnit.SECONDS));
+         pipeline.submitTaskId(session, tokenService, null, 2L);
+         assertEquals(1, pipeline.getStageStatistics().get(0).getQueueDepth());
+
+         ExecutorService submitter = Executors.newSingleThreadExecutor();
+         try {
+            Future<?> third = submitter.submit(() -> pipeline.submitTaskId(session, tokenService, null, 3L));
+            Thread.sleep(200);
+            assertFalse(third.isDone());
+
+            release.countDown();
+            third.get(10, TimeUnit.SECONDS);
+            assertEquals(-1L, first.get(10, TimeUnit.SECONDS));
+         } finally {
+            submitter.shutdownNow();
+         }
+      } finally {
+         release.countDown();
+         pipeline.stop();
+      }
+   }
+
+   private void loadTwoResources() {
+      doAnswer(invocation -> {
+         OrcsDataHandler<IndexedResource> handler = invocation.getArgument(0);
+         handler.onData(newResource(11L, "hello world"));
+         handler.onData(newResource(12L, "hello again"));
+         // duplicate gamma is only tagged once
+         handler.onData(newResource(12L, "ignored"));
+         return null;
+      }).when(loader).loadSource(any(), eq(QUERY_ID), eq(tokenService));
+   }
+
+   private IndexingPipeline newPipeline(int capacity) {
+      return newPipeline(capacity, IndexerConstants.DEFAULT_LOAD_BUFFER_BYTES, 10000L,
+         IndexerConstants.INDEXER_CACHE_ALL_ITEMS, IndexerConstants.INDEXER_CACHE_LIMIT);
+   }
+
+   private IndexingPipeline newPipeline(int capacity, int loadBufferBytes, long submitTimeoutMillis, boolean isCacheAll, int cacheLimit) {
+      return new IndexingPipeline(logger, executorAdmin, jdbcClient, taggingEngine, loader, 1, 2, 2, 1, capacity,
+         capacity, loadBufferBytes, submitTimeoutMillis, isCacheAll, cacheLimit);
+   }
+
+   private IndexedResource newResource(long gammaId, String content) throws Exception {
+      IndexedResource resource = mock(IndexedResource.class);
+      when(resource.getGammaId()).thenReturn(GammaId.valueOf(gammaId));
+      when(resource.getAttributeType()).thenReturn(CoreAttributeTypes.Name);
+      when(resource.getResourceInput()).thenReturn(
+         new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+      return resource;
+   }
+}
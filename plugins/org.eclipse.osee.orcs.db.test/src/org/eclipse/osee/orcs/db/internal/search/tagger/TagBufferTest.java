@@ -0,0 +1,91 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.db.internal.search.tagger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+/**
+ * Test Case for {@link TagBuffer}
+ *
+ * @author agent
+ */
+public class TagBufferTest {
+
+   @Test
+   public void testDuplicatesDroppedPerGamma() {
+      TagBuffer buffer = new TagBuffer(4);
+      buffer.startGamma(11L);
+      assertTrue(buffer.add(5L));
+      assertFalse(buffer.add(5L));
+      assertTrue(buffer.add(0L));
+      assertFalse(buffer.add(0L));
+      assertTrue(buffer.add(-7L));
+      assertEquals(3, buffer.getGammaTagCount());
+
+      buffer.startGamma(12L);
+      assertTrue(buffer.add(5L));
+      assertEquals(1, buffer.getGammaTagCount());
+      assertEquals(4, buffer.size());
+
+      List<Object[]> rows = new ArrayList<>();
+      buffer.asInsertData().forEach(rows::add);
+      assertEquals(4, rows.size());
+      assertArrayEquals(new Object[] {5L, 11L}, rows.get(0));
+      assertArrayEquals(new Object[] {0L, 11L}, rows.get(1));
+      assertArrayEquals(new Object[] {-7L, 11L}, rows.get(2));
+      assertArrayEquals(new Object[] {5L, 12L}, rows.get(3));
+   }
+
+   @Test
+   public void testClearKeepsCurrentGammaState() {
+      TagBuffer buffer = new TagBuffer(4);
+      buffer.startGamma(11L);
+      buffer.add(5L);
+      buffer.clear();
+
+      assertTrue(buffer.isEmpty());
+      assertFalse(buffer.add(5L));
+      assertTrue(buffer.add(6L));
+      assertEquals(1, buffer.size());
+      assertEquals(11L, buffer.getGammaId(0));
+      assertEquals(6L, buffer.getTag(0));
+   }
+
+   @Test
+   public void testGrowth() {
+      TagBuffer buffer = new TagBuffer(16);
+      Random random = new Random(7);
+      Set<Long> expected = new HashSet<>();
+      buffer.startGamma(1L);
+      for (int i = 0; i < 10000; i++) {
+         long tag = random.nextInt(5000);
+         assertEquals(expected.add(tag), buffer.add(tag));
+      }
+      assertEquals(expected.size(), buffer.size());
+      assertEquals(expected.size(), buffer.getGammaTagCount());
+
+      buffer.startGamma(2L);
+      assertEquals(0, buffer.getGammaTagCount());
+      assertTrue(buffer.add(1L));
+   }
+}
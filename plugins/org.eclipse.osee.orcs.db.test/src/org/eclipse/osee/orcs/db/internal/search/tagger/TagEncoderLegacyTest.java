@@ -0,0 +1,190 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.db.internal.search.tagger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.BeforeClass;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Compares {@link TagEncoder} and {@link TagBuffer} with the binary search encoder and boxed per gamma tag sets they
+ * replaced. The encodings must be identical since they are matched against tags already stored in the database.
+ *
+ * @author agent
+ */
+public class TagEncoderLegacyTest {
+
+   private static final char[] legacyTagChars = "0123456789abcdefghilmnoprstuvwy".toCharArray();
+   private static final String ALPHABET =
+      "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789\t\n\r _-'\u00e9\u00fc\u4e2d";
+   private static final int WORDS_PER_GAMMA = 200;
+   private static final int PASSES = 5;
+
+   private static List<String> words;
+
+   @BeforeClass
+   public static void setUpClass() {
+      Random random = new Random(42);
+      words = new ArrayList<>();
+      for (int i = 0; i < 50000; i++) {
+         int length = 1 + random.nextInt(24);
+         StringBuilder builder = new StringBuilder(length);
+         for (int j = 0; j < length; j++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+         }
+         words.add(builder.toString());
+      }
+   }
+
+   @Test
+   public void testEncodingMatchesLegacyEncoder() {
+      TagEncoder encoder = new TagEncoder();
+      List<Long> actual = new ArrayList<>();
+      List<Long> expected = new ArrayList<>();
+      for (String word : words) {
+         encoder.encode(word, (text, codedTag) -> actual.add(codedTag));
+         legacyEncode(word, (text, codedTag) -> expected.add(codedTag));
+      }
+      assertEquals(expected, actual);
+   }
+
+   @Test
+   public void testBufferedTagsMatchLegacyTagSets() {
+      Map<Long, Set<Long>> expected = legacyPath();
+      TagBuffer buffer = bufferedPath();
+
+      Map<Long, Set<Long>> actual = new HashMap<>();
+      for (int index = 0; index < buffer.size(); index++) {
+         boolean added =
+            actual.computeIfAbsent(buffer.getGammaId(index), gammaId -> new HashSet<>()).add(buffer.getTag(index));
+         assertTrue("duplicate tag for gamma " + buffer.getGammaId(index), added);
+      }
+      assertEquals(expected, actual);
+   }
+
+   /**
+    * Times a reindex of the words through both paths. Wall clock timings are not stable enough to assert on in a
+    * build, so this is run by hand when the encoder or buffer changes.
+    */
+   @Ignore
+   @Test
+   public void testReindexThroughput() {
+      long legacyNanos = 0;
+      long bufferedNanos = 0;
+      // first pass warms up both paths
+      for (int pass = 0; pass <= PASSES; pass++) {
+         long start = System.nanoTime();
+         Map<Long, Set<Long>> legacyTags = legacyPath();
+         long legacyTime = System.nanoTime() - start;
+
+         start = System.nanoTime();
+         TagBuffer bufferedTags = bufferedPath();
+         long bufferedTime = System.nanoTime() - start;
+
+         long legacyCount = 0;
+         for (Set<Long> stored : legacyTags.values()) {
+            legacyCount += stored.size();
+         }
+         assertEquals(legacyCount, bufferedTags.size());
+         if (pass > 0) {
+            legacyNanos += legacyTime;
+            bufferedNanos += bufferedTime;
+         }
+      }
+      System.out.printf("TagEncoder reindex of %d words x %d: legacy [%d ms] buffered [%d ms]\n", words.size(), PASSES,
+         legacyNanos / 1000000, bufferedNanos / 1000000);
+   }
+
+   private Map<Long, Set<Long>> legacyPath() {
+      Map<Long, Set<Long>> toStore = new HashMap<>();
+      long gammaId = 0;
+      Set<Long> tags = null;
+      for (int index = 0; index < words.size(); index++) {
+         if (index % WORDS_PER_GAMMA == 0) {
+            tags = new HashSet<>();
+            toStore.put(++gammaId, tags);
+         }
+         Set<Long> current = tags;
+         legacyEncode(words.get(index), (text, codedTag) -> current.add(codedTag));
+      }
+      return toStore;
+   }
+
+   private TagBuffer bufferedPath() {
+      TagEncoder encoder = new TagEncoder();
+      TagBuffer buffer = new TagBuffer(1024);
+      TagCollector collector = new TagCollector() {
+         @Override
+         public void addTag(String word, Long codedTag) {
+            buffer.add(codedTag);
+         }
+
+         @Override
+         public void addCodedTag(CharSequence word, long codedTag) {
+            buffer.add(codedTag);
+         }
+      };
+      long gammaId = 0;
+      for (int index = 0; index < words.size(); index++) {
+         if (index % WORDS_PER_GAMMA == 0) {
+            buffer.startGamma(++gammaId);
+         }
+         encoder.encode(words.get(index), collector);
+      }
+      return buffer;
+   }
+
+   /**
+    * The encoder as it was before the lookup table replaced the binary search
+    */
+   private static void legacyEncode(String text, TagCollector collector) {
+      int tagBitsPos = 0;
+      long tagBits = 0;
+      for (int index = 0; index < text.length(); index++) {
+         char c = text.charAt(index);
+
+         if (c == '\t' || c == '\n' || c == '\r' || tagBitsPos == 60) {
+            if (tagBitsPos > 10) {
+               collector.addTag(text, tagBits);
+            }
+            tagBits = 0;
+            tagBitsPos = 0;
+         } else {
+            if (c >= 'A' && c <= 'Z') {
+               c += 32;
+            }
+            int pos = Arrays.binarySearch(legacyTagChars, c);
+            if (pos < 0) {
+               tagBits |= 0x3F << (long) tagBitsPos;
+            } else {
+               tagBits |= pos << (long) tagBitsPos;
+            }
+            tagBitsPos += 4;
+         }
+      }
+      if (tagBits != 0) {
+         collector.addTag(text, tagBits);
+      }
+   }
+}
@@ -20,7 +20,11 @@ import org.junit.runners.Suite;
  * @author Roberto E. Escobar
  */
 @RunWith(Suite.class)
-@Suite.SuiteClasses({TagEncoderTest.class, TagProcessorTest.class})
+@Suite.SuiteClasses({
+   TagBufferTest.class,
+   TagEncoderTest.class,
+   TagEncoderLegacyTest.class,
+   TagProcessorTest.class})
 public class Tagger_JUnit_TestSuite {
    // Test Suite
 }
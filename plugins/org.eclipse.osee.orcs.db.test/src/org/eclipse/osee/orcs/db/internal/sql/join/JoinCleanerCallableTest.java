@@ -0,0 +1,146 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.db.internal.sql.join;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import org.eclipse.osee.jdbc.JdbcClient;
+import org.eclipse.osee.jdbc.JdbcStatement;
+import org.eclipse.osee.logger.Log;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test Case for {@link JoinCleanerCallable}
+ *
+ * @author agent
+ */
+public class JoinCleanerCallableTest {
+
+   private static final String TABLE_A = "osee_join_id";
+   private static final String TABLE_B = "osee_join_id4";
+   private static final int ROWS_PER_QUERY_ID = 3;
+
+   private final Map<String, TreeSet<Long>> expiredQueryIds = new TreeMap<>();
+   private JdbcClient jdbcClient;
+   private Log logger;
+
+   @Before
+   public void setup() {
+      expiredQueryIds.clear();
+      expiredQueryIds.put(TABLE_A, new TreeSet<>(Arrays.asList(1L, 2L, 3L, 4L, 5L)));
+      expiredQueryIds.put(TABLE_B, new TreeSet<>(Arrays.asList(10L)));
+      logger = mock(Log.class);
+      jdbcClient = mock(JdbcClient.class, invocation -> {
+         Object[] args = invocation.getArguments();
+         switch (invocation.getMethod().getName()) {
+            case "runQuery":
+               return selectTables(args);
+            case "runQueryWithLimit":
+               return selectQueryIds(args);
+            case "runPreparedUpdate":
+               return delete(args);
+            default:
+               return null;
+         }
+      });
+   }
+
+   @SuppressWarnings("unchecked")
+   private int selectTables(Object[] args) {
+      Consumer<JdbcStatement> consumer = (Consumer<JdbcStatement>) args[0];
+      int count = 0;
+      for (Map.Entry<String, TreeSet<Long>> entry : expiredQueryIds.entrySet()) {
+         if (!entry.getValue().isEmpty()) {
+            JdbcStatement stmt = mock(JdbcStatement.class);
+            when(stmt.getString("table_name")).thenReturn(entry.getKey());
+            consumer.accept(stmt);
+            count++;
+         }
+      }
+      return count;
+   }
+
+   @SuppressWarnings("unchecked")
+   private int selectQueryIds(Object[] args) {
+      Consumer<JdbcStatement> consumer = (Consumer<JdbcStatement>) args[0];
+      int limit = (Integer) args[1];
+      int count = 0;
+      for (Long queryId : expiredQueryIds.get(args[3]).tailSet((Long) args[4], false)) {
+         if (count == limit) {
+            break;
+         }
+         JdbcStatement stmt = mock(JdbcStatement.class);
+         when(stmt.getLong("query_id")).thenReturn(queryId);
+         consumer.accept(stmt);
+         count++;
+      }
+      return count;
+   }
+
+   private int delete(Object[] args) {
+      String sql = (String) args[0];
+      TreeSet<Long> queryIds = expiredQueryIds.get(args[1]);
+      Set<Long> inRange = queryIds.subSet((Long) args[2], true, (Long) args[3], true);
+      if (sql.startsWith("DELETE FROM osee_join_cleanup")) {
+         int count = inRange.size();
+         inRange.clear();
+         return count;
+      }
+      return inRange.size() * ROWS_PER_QUERY_ID;
+   }
+
+   @Test
+   public void testReclaimedRowsPerTable() {
+      JoinCleanerCallable cleaner = new JoinCleanerCallable(logger, jdbcClient, 2, Long.MAX_VALUE / 2);
+      cleaner.run();
+
+      Map<String, Long> expected = new HashMap<>();
+      expected.put(TABLE_A, 5L * ROWS_PER_QUERY_ID);
+      expected.put(TABLE_B, 1L * ROWS_PER_QUERY_ID);
+      assertEquals(expected, cleaner.getReclaimedRows());
+      assertTrue(expiredQueryIds.get(TABLE_A).isEmpty());
+      assertTrue(expiredQueryIds.get(TABLE_B).isEmpty());
+
+      // nothing left to reclaim so the totals are unchanged
+      cleaner.run();
+      assertEquals(expected, cleaner.getReclaimedRows());
+   }
+
+   @Test
+   public void testTimeBudgetDefersRemainingChunks() {
+      JoinCleanerCallable cleaner = new JoinCleanerCallable(logger, jdbcClient, 2, 0);
+
+      cleaner.run();
+      assertEquals(Long.valueOf(2L * ROWS_PER_QUERY_ID), cleaner.getReclaimedRows().get(TABLE_A));
+      assertNull(cleaner.getReclaimedRows().get(TABLE_B));
+      assertEquals(3, expiredQueryIds.get(TABLE_A).size());
+
+      cleaner.run();
+      cleaner.run();
+      cleaner.run();
+      assertEquals(Long.valueOf(5L * ROWS_PER_QUERY_ID), cleaner.getReclaimedRows().get(TABLE_A));
+      assertEquals(Long.valueOf(1L * ROWS_PER_QUERY_ID), cleaner.getReclaimedRows().get(TABLE_B));
+   }
+}
@@ -20,7 +20,7 @@ import org.junit.runners.Suite;
  * @author Roberto E. Escobar
  */
 @RunWith(Suite.class)
-@Suite.SuiteClasses({TransactionWriterTest.class})
+@Suite.SuiteClasses({TransactionWriterTest.class, TxSqlBuilderImplTest.class})
 public class Transaction_JUnit_TestSuite {
    // Test Suite
 }
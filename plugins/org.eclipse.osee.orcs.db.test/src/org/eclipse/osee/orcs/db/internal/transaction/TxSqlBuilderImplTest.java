@@ -0,0 +1,156 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.db.internal.transaction;
+
+import static org.eclipse.osee.framework.core.enums.CoreBranches.COMMON;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.eclipse.osee.framework.core.data.ApplicabilityId;
+import org.eclipse.osee.framework.core.data.GammaId;
+import org.eclipse.osee.framework.core.enums.ModificationType;
+import org.eclipse.osee.framework.jdk.core.type.ItemDoesNotExist;
+import org.eclipse.osee.jdbc.JdbcClient;
+import org.eclipse.osee.jdbc.JdbcStatement;
+import org.eclipse.osee.orcs.OseeDb;
+import org.eclipse.osee.orcs.core.ds.OrcsChangeSet;
+import org.eclipse.osee.orcs.core.ds.OrcsVisitor;
+import org.eclipse.osee.orcs.data.TransactionReadable;
+import org.eclipse.osee.orcs.db.internal.IdentityManager;
+import org.eclipse.osee.orcs.db.internal.sql.join.IdJoinQuery;
+import org.eclipse.osee.orcs.db.internal.sql.join.SqlJoinFactory;
+import org.eclipse.osee.orcs.db.internal.transaction.TransactionWriter.SqlOrderEnum;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * Test Case for {@link TxSqlBuilderImpl}
+ *
+ * @author agent
+ */
+public class TxSqlBuilderImplTest {
+
+   private static final Long QUERY_ID = 88L;
+
+   //@formatter:off
+   @Mock private SqlJoinFactory joinFactory;
+   @Mock private IdentityManager idManager;
+   @Mock private JdbcClient jdbcClient;
+   @Mock private TransactionReadable tx;
+   @Mock private OrcsChangeSet changeSet;
+   @Mock private IdJoinQuery lookupJoin;
+   @Mock private IdJoinQuery notCurrentJoin;
+   //@formatter:on
+
+   private TxWriteStatistics statistics;
+   private TxSqlBuilderImpl builder;
+
+   @Before
+   public void setUp() {
+      MockitoAnnotations.initMocks(this);
+      statistics = new TxWriteStatistics();
+      builder = new TxSqlBuilderImpl(joinFactory, idManager, jdbcClient, statistics);
+
+      when(tx.getBranch()).thenReturn(COMMON);
+      when(lookupJoin.getQueryId()).thenReturn(QUERY_ID);
+      when(joinFactory.createIdJoinQuery()).thenReturn(lookupJoin, notCurrentJoin);
+   }
+
+   @Test
+   public void testDeletedTupleApplicabilityResolvedWithOneJoin() {
+      List<GammaId> gammas = deleteTuples(7);
+      List<JdbcStatement> rows = new ArrayList<>();
+      for (GammaId gamma : gammas) {
+         JdbcStatement row = mock(JdbcStatement.class);
+         when(row.getLong("gamma_id")).thenReturn(gamma.getId());
+         when(row.getLong("app_id")).thenReturn(ApplicabilityId.BASE.getId());
+         rows.add(row);
+      }
+      doAnswer(invocation -> {
+         Consumer<JdbcStatement> consumer = invocation.getArgument(0);
+         rows.forEach(consumer);
+         return rows.size();
+      }).when(jdbcClient).runQuery(any(Consumer.class), anyString(), eq(QUERY_ID), eq(COMMON));
+
+      builder.accept(tx, changeSet);
+
+      verify(lookupJoin, times(7)).add(any(GammaId.class));
+      verify(lookupJoin).store();
+      verify(lookupJoin).close();
+      verify(jdbcClient, never()).fetch(any(), anyString(), any(), any());
+
+      List<Object[]> txs = builder.getInsertData(SqlOrderEnum.TXS);
+      assertEquals(7, txs.size());
+      for (Object[] row : txs) {
+         assertEquals(ModificationType.DELETED, row[4]);
+         assertEquals(ApplicabilityId.BASE, row[5]);
+      }
+
+      assertEquals(1, statistics.getTransactions());
+      assertEquals(7, statistics.getLookups());
+      assertEquals(5, statistics.getLookupRoundTrips());
+      assertEquals(2, statistics.getRoundTripsSaved());
+   }
+
+   @Test
+   public void testFewLookupsIssuedIndividually() {
+      deleteTuples(2);
+      when(jdbcClient.fetch(eq(ApplicabilityId.SENTINEL), anyString(), eq(COMMON), any())).thenReturn(
+         ApplicabilityId.BASE);
+
+      builder.accept(tx, changeSet);
+
+      verify(jdbcClient, times(2)).fetch(eq(ApplicabilityId.SENTINEL), anyString(), eq(COMMON), any());
+      verify(lookupJoin, never()).store();
+      assertEquals(2, builder.getInsertData(SqlOrderEnum.TXS).size());
+      assertEquals(2, statistics.getLookups());
+      assertEquals(0, statistics.getRoundTripsSaved());
+   }
+
+   @Test(expected = ItemDoesNotExist.class)
+   public void testDeletedTupleNotFound() {
+      deleteTuples(1);
+      when(jdbcClient.fetch(eq(ApplicabilityId.SENTINEL), anyString(), eq(COMMON), any())).thenReturn(
+         ApplicabilityId.SENTINEL);
+
+      builder.accept(tx, changeSet);
+   }
+
+   private List<GammaId> deleteTuples(int count) {
+      List<GammaId> gammas = new ArrayList<>();
+      for (int index = 0; index < count; index++) {
+         gammas.add(GammaId.valueOf(8000L + index));
+      }
+      doAnswer(invocation -> {
+         OrcsVisitor visitor = invocation.getArgument(0);
+         for (GammaId gamma : gammas) {
+            visitor.deleteTuple(COMMON, OseeDb.TUPLE2, gamma);
+         }
+         return null;
+      }).when(changeSet).accept(any());
+      return gammas;
+   }
+}
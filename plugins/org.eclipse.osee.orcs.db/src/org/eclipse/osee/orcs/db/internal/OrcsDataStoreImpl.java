@@ -13,6 +13,7 @@
 
 package org.eclipse.osee.orcs.db.internal;
 
+import java.util.Map;
 import org.eclipse.osee.activity.api.ActivityLog;
 import org.eclipse.osee.framework.core.OrcsTokenService;
 import org.eclipse.osee.framework.core.executor.ExecutorAdmin;
@@ -28,6 +29,7 @@ import org.eclipse.osee.orcs.core.ds.OrcsTypesDataStore;
 import org.eclipse.osee.orcs.core.ds.QueryEngineIndexer;
 import org.eclipse.osee.orcs.db.internal.branch.BranchStoreImpl;
 import org.eclipse.osee.orcs.db.internal.branch.KeyValueModule;
+import org.eclipse.osee.orcs.db.internal.callable.DatastoreRewriteListeners;
 import org.eclipse.osee.orcs.db.internal.loader.LoaderModule;
 import org.eclipse.osee.orcs.db.internal.search.QueryModule;
 import org.eclipse.osee.orcs.db.internal.sql.join.SqlJoinFactory;
@@ -50,6 +52,8 @@ public class OrcsDataStoreImpl implements OrcsDataStore {
    private OrcsTypesDataStore typesDataStore;
    private DataModuleFactory dataModuleFactory;
    private QueryModule queryModule;
+   private LoaderModule loaderModule;
+   private BranchStoreImpl branchStore;
    private IdentityManager idManager;
    private SqlJoinFactory joinFactory;
    private ActivityLog activityLog;
@@ -90,12 +94,14 @@ public class OrcsDataStoreImpl implements OrcsDataStore {
       TypesModule typesModule = new TypesModule(logger, jdbcClient, joinFactory);
       typesDataStore = typesModule.createTypesDataStore();
 
-      LoaderModule loaderModule = new LoaderModule(logger, jdbcClient, idManager, joinFactory, resourceManager);
+      loaderModule =
+         new LoaderModule(logger, executorAdmin, jdbcClient, idManager, joinFactory, resourceManager, properties);
+      loaderModule.start();
 
       queryModule = new QueryModule(logger, executorAdmin, jdbcClient, joinFactory);
-      queryModule.startIndexer(resourceManager);
+      queryModule.startIndexer(resourceManager, properties);
 
-      BranchStoreImpl branchStore =
+      branchStore =
          new BranchStoreImpl(logger, jdbcClient, joinFactory, idManager, properties, executorAdmin, resourceManager);
 
       TxModule txModule = new TxModule(logger, jdbcClient, joinFactory, idManager, activityLog);
@@ -118,6 +124,10 @@ public class OrcsDataStoreImpl implements OrcsDataStore {
    public void stop() throws Exception {
       queryModule.stopIndexer();
       queryModule = null;
+      loaderModule.stop();
+      loaderModule = null;
+      branchStore.stop();
+      branchStore = null;
    }
 
    @Override
@@ -140,4 +150,18 @@ public class OrcsDataStoreImpl implements OrcsDataStore {
       return jdbcService;
    }
 
+   @Override
+   public Map<String, Long> getJoinCleanupReclaimedRows() {
+      return joinFactory.getJoinCleanupReclaimedRows();
+   }
+
+   @Override
+   public void addRewriteListener(Runnable listener) {
+      DatastoreRewriteListeners.add(listener);
+   }
+
+   @Override
+   public void removeRewriteListener(Runnable listener) {
+      DatastoreRewriteListeners.remove(listener);
+   }
 }
@@ -50,9 +50,11 @@ import org.eclipse.osee.orcs.db.internal.callable.BranchCopyTxCallable;
 import org.eclipse.osee.orcs.db.internal.callable.BranchInheritACLCallable;
 import org.eclipse.osee.orcs.db.internal.callable.CommitBranchDatabaseTxCallable;
 import org.eclipse.osee.orcs.db.internal.callable.CreateBranchDatabaseTxCallable;
+import org.eclipse.osee.orcs.db.internal.callable.DatastoreRewriteListeners;
 import org.eclipse.osee.orcs.db.internal.callable.ExportBranchDatabaseCallable;
 import org.eclipse.osee.orcs.db.internal.callable.ImportBranchDatabaseCallable;
 import org.eclipse.osee.orcs.db.internal.callable.PurgeBranchDatabaseCallable;
+import org.eclipse.osee.orcs.db.internal.change.BranchChangeCache;
 import org.eclipse.osee.orcs.db.internal.change.LoadDeltasBetweenTxsOnTheSameBranch;
 import org.eclipse.osee.orcs.db.internal.change.MissingChangeItemFactory;
 import org.eclipse.osee.orcs.db.internal.change.MissingChangeItemFactoryImpl;
@@ -80,6 +82,8 @@ public class BranchStoreImpl implements BranchDataStore {
    private final SystemProperties preferences;
    private final ExecutorAdmin executorAdmin;
    private final IResourceManager resourceManager;
+   private final BranchChangeCache changeCache = new BranchChangeCache();
+   private final Runnable changeCacheRewriteListener = changeCache::invalidateAll;
    private MissingChangeItemFactory missingChangeItemFactory;
    private DataLoaderFactory dataLoaderFactory;
 
@@ -91,6 +95,12 @@ public class BranchStoreImpl implements BranchDataStore {
       this.preferences = preferences;
       this.executorAdmin = executorAdmin;
       this.resourceManager = resourceManager;
+      DatastoreRewriteListeners.add(changeCacheRewriteListener);
+   }
+
+   public void stop() {
+      DatastoreRewriteListeners.remove(changeCacheRewriteListener);
+      changeCache.invalidateAll();
    }
 
    @Override
@@ -127,7 +137,8 @@ public class BranchStoreImpl implements BranchDataStore {
 
       try {
          return new CommitBranchDatabaseTxCallable(idManager, committer, jdbcClient, joinFactory, tokenService, source,
-            destination, sourceTx, destinationTx, mergeBranch, orcsApi, getMissingChangeItemFactoryImpl()).call();
+            destination, sourceTx, destinationTx, mergeBranch, orcsApi, getMissingChangeItemFactoryImpl(),
+            executorAdmin).call();
       } catch (Exception ex) {
          throw OseeCoreException.wrap(ex);
       }
@@ -135,6 +146,7 @@ public class BranchStoreImpl implements BranchDataStore {
 
    @Override
    public Callable<Void> purgeBranch(OrcsSession session, Branch toDelete) {
+      changeCache.invalidate(toDelete);
       return new PurgeBranchDatabaseCallable(logger, session, jdbcClient, toDelete);
    }
 
@@ -144,7 +156,7 @@ public class BranchStoreImpl implements BranchDataStore {
       BranchId mergeBranch =
          getMergeBranchId(orcsApi.getQueryFactory().branchQuery(), sourceTx.getBranch(), destinationTx.getBranch());
       return new LoadDeltasBetweenTxsOnTheSameBranch(jdbcClient, joinFactory, tokenService, sourceTx, destinationTx,
-         mergeBranch, orcsApi, getMissingChangeItemFactoryImpl()).compareTransactions();
+         mergeBranch, orcsApi, getMissingChangeItemFactoryImpl(), executorAdmin, changeCache).compareTransactions();
    }
 
    private BranchId getMergeBranchId(BranchQuery branchQuery, BranchId source, BranchId destination) {
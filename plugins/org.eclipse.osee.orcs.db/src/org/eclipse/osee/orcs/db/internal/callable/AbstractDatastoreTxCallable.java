@@ -38,10 +38,21 @@ public abstract class AbstractDatastoreTxCallable<T> extends AbstractDatastoreCa
          value = work.getResult();
       } finally {
          onExecutionComplete();
+         if (isInPlaceRewrite()) {
+            DatastoreRewriteListeners.notifyRewritten();
+         }
       }
       return value;
    }
 
+   /**
+    * @return true when this work rewrites or removes existing rows without creating a transaction; data cached from
+    * those rows is dropped once the work completes (see {@link DatastoreRewriteListeners})
+    */
+   protected boolean isInPlaceRewrite() {
+      return false;
+   }
+
    protected void onExecutionStart() {
       //
    }
@@ -30,6 +30,7 @@ import org.eclipse.osee.framework.core.enums.ConflictStatus;
 import org.eclipse.osee.framework.core.enums.ModificationType;
 import org.eclipse.osee.framework.core.enums.TransactionDetailsType;
 import org.eclipse.osee.framework.core.enums.TxCurrent;
+import org.eclipse.osee.framework.core.executor.ExecutorAdmin;
 import org.eclipse.osee.framework.core.model.change.ChangeItem;
 import org.eclipse.osee.framework.core.model.change.ChangeItemUtil;
 import org.eclipse.osee.framework.core.model.change.ChangeVersion;
@@ -76,8 +77,9 @@ public class CommitBranchDatabaseTxCallable extends AbstractDatastoreTxCallable<
    private final QueryFactory queryFactory;
    private final OrcsApi orcsApi;
    private final MissingChangeItemFactory missingChangeItemFactory;
+   private final ExecutorAdmin executorAdmin;
 
-   public CommitBranchDatabaseTxCallable(IdentityManager idManager, ArtifactId committer, JdbcClient jdbcClient, SqlJoinFactory joinFactory, OrcsTokenService tokenService, Branch sourceBranch, BranchId destinationBranch, TransactionToken sourceTx, TransactionToken destinationTx, BranchId mergeBranch, OrcsApi orcsApi, MissingChangeItemFactory missingChangeItemFactory) {
+   public CommitBranchDatabaseTxCallable(IdentityManager idManager, ArtifactId committer, JdbcClient jdbcClient, SqlJoinFactory joinFactory, OrcsTokenService tokenService, Branch sourceBranch, BranchId destinationBranch, TransactionToken sourceTx, TransactionToken destinationTx, BranchId mergeBranch, OrcsApi orcsApi, MissingChangeItemFactory missingChangeItemFactory, ExecutorAdmin executorAdmin) {
       super(null, null, jdbcClient);
       this.joinFactory = joinFactory;
       this.idManager = idManager;
@@ -91,12 +93,14 @@ public class CommitBranchDatabaseTxCallable extends AbstractDatastoreTxCallable<
       this.orcsApi = orcsApi;
       this.queryFactory = orcsApi.getQueryFactory();
       this.missingChangeItemFactory = missingChangeItemFactory;
+      this.executorAdmin = executorAdmin;
    }
 
    @Override
    protected TransactionId handleTxWork(JdbcConnection connection) {
       List<ChangeItem> changes = new LoadDeltasBetweenBranches(getJdbcClient(), joinFactory, tokenService, sourceBranch,
-         destinationBranch, sourceTx, destinationTx, mergeBranch, orcsApi, missingChangeItemFactory).call();
+         destinationBranch, sourceTx, destinationTx, mergeBranch, orcsApi, missingChangeItemFactory, executorAdmin,
+         null).call();
 
       changes = ChangeItemUtil.computeNetChangesAndFilter(changes);
 
@@ -101,6 +101,11 @@ public class ConsolidateRelationsDatabaseTxCallable extends AbstractDatastoreTxC
       counter = 0;
    }
 
+   @Override
+   protected boolean isInPlaceRewrite() {
+      return true;
+   }
+
    @Override
    protected Object handleTxWork(JdbcConnection connection) {
       this.connection = connection;
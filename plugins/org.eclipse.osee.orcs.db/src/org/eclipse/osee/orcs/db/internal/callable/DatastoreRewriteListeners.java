@@ -0,0 +1,49 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.orcs.db.internal.callable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Listeners run after datastore work that rewrites or removes existing rows in place, without creating a transaction
+ * (purges, relation consolidation, tx_current repair). Caches keyed by branch and transaction cannot detect such
+ * changes and register here to be dropped. Shared by the data store and the datastore console commands, which are
+ * separate components.
+ *
+ * @author agent
+ */
+public final class DatastoreRewriteListeners {
+
+   private static final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+   private DatastoreRewriteListeners() {
+      // Utility class
+   }
+
+   public static void add(Runnable listener) {
+      listeners.add(listener);
+   }
+
+   public static void remove(Runnable listener) {
+      listeners.remove(listener);
+   }
+
+   public static void notifyRewritten() {
+      for (Runnable listener : listeners) {
+         listener.run();
+      }
+   }
+}
@@ -161,6 +161,11 @@ public class InvalidTxCurrentsAndModTypesCallable extends AbstractDatastoreTxCal
       }
    }
 
+   @Override
+   protected boolean isInPlaceRewrite() {
+      return isFixOperationEnabled;
+   }
+
    @Override
    protected Void handleTxWork(JdbcConnection connection) {
       checkForCancelled();
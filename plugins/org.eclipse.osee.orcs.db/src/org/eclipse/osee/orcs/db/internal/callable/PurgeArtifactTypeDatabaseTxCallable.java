@@ -28,6 +28,11 @@ public final class PurgeArtifactTypeDatabaseTxCallable extends AbstractDatastore
       super(logger, session, jdbcClient);
    }
 
+   @Override
+   protected boolean isInPlaceRewrite() {
+      return true;
+   }
+
    @Override
    protected Void handleTxWork(JdbcConnection connection) {
       throw new UnsupportedOperationException("operation is not currently supported");
@@ -57,6 +57,11 @@ public final class PurgeAttributeTypeDatabaseTxCallable extends AbstractDatastor
       this.typesToPurge = typesToPurge;
    }
 
+   @Override
+   protected boolean isInPlaceRewrite() {
+      return true;
+   }
+
    @Override
    protected Void handleTxWork(JdbcConnection connection) {
       List<Object[]> gammasAndBranchIds = retrieveBranchAndGammaIds(connection, typesToPurge);
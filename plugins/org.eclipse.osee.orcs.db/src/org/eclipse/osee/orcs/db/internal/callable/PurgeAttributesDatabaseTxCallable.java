@@ -39,6 +39,11 @@ public final class PurgeAttributesDatabaseTxCallable extends AbstractDatastoreTx
       this.console = console;
    }
 
+   @Override
+   protected boolean isInPlaceRewrite() {
+      return true;
+   }
+
    @Override
    protected Void handleTxWork(JdbcConnection connection) {
       try (IdJoinQuery idJoin = joinFactory.createIdJoinQuery(connection)) {
@@ -52,6 +52,11 @@ public final class PurgeRelationTypeDatabaseTxCallable extends AbstractDatastore
       this.typesToPurge = typesToPurge;
    }
 
+   @Override
+   protected boolean isInPlaceRewrite() {
+      return true;
+   }
+
    @Override
    protected Void handleTxWork(JdbcConnection connection) {
       List<Object[]> gammaIds = retrieveGammaIds(connection, typesToPurge);
@@ -103,6 +103,11 @@ public class PurgeTransactionTxCallable extends AbstractDatastoreTxCallable<Inte
       return txs;
    }
 
+   @Override
+   protected boolean isInPlaceRewrite() {
+      return true;
+   }
+
    @Override
    protected Integer handleTxWork(JdbcConnection connection) {
       Conditions.checkNotNull(txIdsToDelete, "transaction ids to delete");
@@ -14,12 +14,9 @@
 package org.eclipse.osee.orcs.db.internal.change;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import org.eclipse.osee.framework.core.OrcsTokenService;
 import org.eclipse.osee.framework.core.data.ArtifactId;
 import org.eclipse.osee.framework.core.data.ArtifactTypeId;
@@ -31,7 +28,8 @@ import org.eclipse.osee.framework.core.enums.ModificationType;
 import org.eclipse.osee.framework.core.model.change.ChangeIgnoreType;
 import org.eclipse.osee.framework.core.model.change.ChangeItem;
 import org.eclipse.osee.framework.core.model.change.ChangeItemUtil;
-import org.eclipse.osee.framework.jdk.core.util.Collections;
+import org.eclipse.osee.framework.jdk.core.type.LongHashMap;
+import org.eclipse.osee.framework.jdk.core.type.LongHashSet;
 import org.eclipse.osee.jdbc.JdbcClient;
 
 public class AddSyntheticArtifactChangeData {
@@ -42,6 +40,7 @@ public class AddSyntheticArtifactChangeData {
    private static final String ART_TYPE_ID_QUERY =
       "select art.art_id, art.art_type_id from osee_artifact art, osee_txs txs where txs.BRANCH_ID = ? " //
          + "and art.GAMMA_ID = txs.GAMMA_ID and txs.tx_current = 1 and art_id in (%s)";
+   private static final int MAX_IN_CLAUSE_IDS = 999;
 
    public AddSyntheticArtifactChangeData(List<ChangeItem> changeItems, JdbcClient jdbcClient, BranchId branch, OrcsTokenService tokenService) {
       this.changeItems = changeItems;
@@ -61,9 +60,9 @@ public class AddSyntheticArtifactChangeData {
       List<ChangeItem> attrItems = new ArrayList<>();
       Map<ArtifactId, ChangeItem> syntheticArtifactChanges = new HashMap<>();
 
-      Set<Long> artIds = new HashSet<>();
+      LongHashSet artIds = new LongHashSet();
       for (ChangeItem item : changeItems) {
-         artIds.add(item.getArtId().getId());
+         artIds.add(item.getArtId());
          if (item.getChangeType().isAttributeChange()) {
             ChangeItem attributeChange = item;
             ArtifactId artIdToCheck = attributeChange.getArtId();
@@ -82,7 +81,7 @@ public class AddSyntheticArtifactChangeData {
          }
       }
 
-      Map<Long, Long> artIdToArtTypeid = getArtIdToArtTypeIdMap(branch, artIds);
+      LongHashMap<Long> artIdToArtTypeid = getArtIdToArtTypeIdMap(branch, artIds);
       for (ChangeItem change : syntheticArtifactChanges.values()) {
          ArtifactTypeToken artifactTypeToken = ArtifactTypeToken.SENTINEL;
          if (isAllowableChange(change.getIgnoreType())) {
@@ -98,14 +97,21 @@ public class AddSyntheticArtifactChangeData {
       return changeItems;
    }
 
-   private Map<Long, Long> getArtIdToArtTypeIdMap(BranchId branchId, Set<Long> artIds) {
-      Map<Long, Long> map = new HashMap<>();
-      if (!artIds.isEmpty()) {
-         for (Collection<Long> ids : Collections.subDivide(new ArrayList<>(artIds), 999)) {
-            String query = String.format(ART_TYPE_ID_QUERY, Collections.toString(",", ids));
-            jdbcClient.runQuery(stmt -> map.put(stmt.getLong("art_id"), stmt.getLong("art_type_id")), query,
-               branchId.getId());
+   private LongHashMap<Long> getArtIdToArtTypeIdMap(BranchId branchId, LongHashSet artIds) {
+      LongHashMap<Long> map = new LongHashMap<>(artIds.size());
+      long[] ids = artIds.toArray();
+      for (int start = 0; start < ids.length; start += MAX_IN_CLAUSE_IDS) {
+         int end = Math.min(ids.length, start + MAX_IN_CLAUSE_IDS);
+         StringBuilder idList = new StringBuilder();
+         for (int index = start; index < end; index++) {
+            if (index > start) {
+               idList.append(',');
+            }
+            idList.append(ids[index]);
          }
+         String query = String.format(ART_TYPE_ID_QUERY, idList);
+         jdbcClient.runQuery(stmt -> map.put(stmt.getLong("art_id"), stmt.getLong("art_type_id")), query,
+            branchId.getId());
       }
       return map;
    }
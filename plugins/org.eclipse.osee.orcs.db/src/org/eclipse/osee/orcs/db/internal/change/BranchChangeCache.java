@@ -0,0 +1,205 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.db.internal.change;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.osee.framework.core.data.BranchId;
+import org.eclipse.osee.framework.core.data.TransactionId;
+import org.eclipse.osee.framework.core.model.change.ChangeItem;
+import org.eclipse.osee.framework.core.model.change.ChangeVersion;
+import org.eclipse.osee.framework.jdk.core.type.DoubleKeyHashMap;
+
+/**
+ * Remembers the change items computed between a source branch and a destination transaction, along with the source
+ * branch head they were computed at, so the next comparison of the same branches only recomputes the items written to
+ * the source branch after that head. Items are copied on the way in and out because callers compute net changes and
+ * add synthetic items in place. The least recently used comparisons are evicted once the cache holds more than its
+ * maximum number of items.
+ * <p>
+ * A cached comparison is only valid while the source branch's transactions are append only. Purges and other in place
+ * rewrites of transaction rows must call {@link #invalidateAll()}; changes computed while such a rewrite ran are not
+ * remembered (see {@link #getGeneration()}).
+ *
+ * @author agent
+ */
+public class BranchChangeCache {
+
+   public static final int DEFAULT_MAX_ITEMS = 250000;
+
+   private final int maxItems;
+   private final LinkedHashMap<List<Long>, CachedChanges> entries = new LinkedHashMap<>(16, 0.75f, true);
+   private int itemCount;
+   private long generation;
+
+   public BranchChangeCache() {
+      this(DEFAULT_MAX_ITEMS);
+   }
+
+   public BranchChangeCache(int maxItems) {
+      this.maxItems = maxItems;
+   }
+
+   /**
+    * @return a copy of the changes last computed for these branches or null if there are none
+    */
+   public synchronized CachedChanges get(BranchId source, TransactionId sourceBaseline, TransactionId destination,
+      TransactionId merge) {
+      CachedChanges cached = entries.get(toKey(source, sourceBaseline, destination, merge));
+      return cached == null ? null : new CachedChanges(source, cached.getSourceHead(), copy(cached.getChanges()));
+   }
+
+   /**
+    * @return a value that changes whenever comparisons are invalidated; read it before loading changes and pass it to
+    * {@link #put} so changes loaded across an invalidation are discarded
+    */
+   public synchronized long getGeneration() {
+      return generation;
+   }
+
+   /**
+    * Remembers the changes unless the cache was invalidated since <code>loadGeneration</code> was read
+    */
+   public synchronized void put(BranchId source, TransactionId sourceBaseline, TransactionId destination,
+      TransactionId merge, TransactionId sourceHead, DoubleKeyHashMap<Integer, Long, ChangeItem> changes,
+      long loadGeneration) {
+      if (loadGeneration != generation) {
+         return;
+      }
+      int size = countItems(changes);
+      List<Long> key = toKey(source, sourceBaseline, destination, merge);
+      CachedChanges previous = entries.remove(key);
+      if (previous != null) {
+         itemCount -= previous.getItemCount();
+      }
+      if (size <= maxItems) {
+         entries.put(key, new CachedChanges(source, sourceHead, copy(changes)));
+         itemCount += size;
+         evict();
+      }
+   }
+
+   /**
+    * Forgets every comparison whose source is the given branch
+    */
+   public synchronized void invalidate(BranchId source) {
+      generation++;
+      for (Iterator<CachedChanges> iterator = entries.values().iterator(); iterator.hasNext();) {
+         CachedChanges cached = iterator.next();
+         if (cached.getSource().equals(source)) {
+            itemCount -= cached.getItemCount();
+            iterator.remove();
+         }
+      }
+   }
+
+   /**
+    * Forgets every comparison; used when transaction rows are purged or rewritten in place
+    */
+   public synchronized void invalidateAll() {
+      generation++;
+      entries.clear();
+      itemCount = 0;
+   }
+
+   public synchronized int size() {
+      return entries.size();
+   }
+
+   public synchronized int getItemCount() {
+      return itemCount;
+   }
+
+   private void evict() {
+      Iterator<CachedChanges> iterator = entries.values().iterator();
+      while (itemCount > maxItems && iterator.hasNext()) {
+         itemCount -= iterator.next().getItemCount();
+         iterator.remove();
+      }
+   }
+
+   private static List<Long> toKey(BranchId source, TransactionId sourceBaseline, TransactionId destination,
+      TransactionId merge) {
+      return Arrays.asList(source.getId(), sourceBaseline.getId(), destination.getId(), merge.getId());
+   }
+
+   private static int countItems(DoubleKeyHashMap<Integer, Long, ChangeItem> changes) {
+      int count = 0;
+      for (Map<Long, ChangeItem> items : changes.getInnerMaps()) {
+         count += items.size();
+      }
+      return count;
+   }
+
+   private static DoubleKeyHashMap<Integer, Long, ChangeItem> copy(DoubleKeyHashMap<Integer, Long, ChangeItem> changes) {
+      DoubleKeyHashMap<Integer, Long, ChangeItem> copy = new DoubleKeyHashMap<>();
+      for (Integer tableType : changes.getKeySetOne()) {
+         for (Map.Entry<Long, ChangeItem> entry : changes.getSubHash(tableType).entrySet()) {
+            copy.put(tableType, entry.getKey(), copy(entry.getValue()));
+         }
+      }
+      return copy;
+   }
+
+   private static ChangeItem copy(ChangeItem source) {
+      ChangeItem item = new ChangeItem();
+      item.copy(source);
+      item.setRelOrder(source.getRelOrder());
+      item.setBaselineVersion(copy(source.getBaselineVersion()));
+      item.setFirstNonCurrentChange(copy(source.getFirstNonCurrentChange()));
+      item.setCurrentVersion(copy(source.getCurrentVersion()));
+      item.setDestinationVersion(copy(source.getDestinationVersion()));
+      item.setNetChange(copy(source.getNetChange()));
+      return item;
+   }
+
+   private static ChangeVersion copy(ChangeVersion source) {
+      return new ChangeVersion(source.getTransactionToken(), source.getValue(), source.getGammaId(),
+         source.getModType(), source.getApplicabilityToken(), source.getUri());
+   }
+
+   public static final class CachedChanges {
+      private final BranchId source;
+      private final TransactionId sourceHead;
+      private final DoubleKeyHashMap<Integer, Long, ChangeItem> changes;
+
+      private CachedChanges(BranchId source, TransactionId sourceHead, DoubleKeyHashMap<Integer, Long, ChangeItem> changes) {
+         this.source = source;
+         this.sourceHead = sourceHead;
+         this.changes = changes;
+      }
+
+      public BranchId getSource() {
+         return source;
+      }
+
+      /**
+       * @return the last transaction on the source branch when the changes were computed
+       */
+      public TransactionId getSourceHead() {
+         return sourceHead;
+      }
+
+      public DoubleKeyHashMap<Integer, Long, ChangeItem> getChanges() {
+         return changes;
+      }
+
+      private int getItemCount() {
+         return countItems(changes);
+      }
+   }
+}
@@ -10,8 +10,17 @@
  *******************************************************************************/
 package org.eclipse.osee.orcs.db.internal.change;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import org.eclipse.osee.framework.core.OrcsTokenService;
 import org.eclipse.osee.framework.core.data.ApplicabilityId;
@@ -26,17 +35,23 @@ import org.eclipse.osee.framework.core.data.TransactionToken;
 import org.eclipse.osee.framework.core.data.TupleTypeId;
 import org.eclipse.osee.framework.core.enums.ModificationType;
 import org.eclipse.osee.framework.core.enums.TxCurrent;
+import org.eclipse.osee.framework.core.executor.ExecutorAdmin;
 import org.eclipse.osee.framework.core.model.change.ChangeItem;
 import org.eclipse.osee.framework.core.model.change.ChangeItemUtil;
 import org.eclipse.osee.framework.core.model.change.ChangeVersion;
 import org.eclipse.osee.framework.jdk.core.type.DoubleKeyHashMap;
+import org.eclipse.osee.framework.jdk.core.type.LongHashMap;
+import org.eclipse.osee.framework.jdk.core.type.LongHashSet;
+import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
 import org.eclipse.osee.framework.jdk.core.util.Conditions;
 import org.eclipse.osee.jdbc.JdbcClient;
 import org.eclipse.osee.jdbc.JdbcStatement;
 import org.eclipse.osee.jdbc.SqlTable;
 import org.eclipse.osee.orcs.OrcsApi;
 import org.eclipse.osee.orcs.OseeDb;
+import org.eclipse.osee.orcs.db.internal.change.BranchChangeCache.CachedChanges;
 import org.eclipse.osee.orcs.db.internal.sql.join.ExportImportJoinQuery;
+import org.eclipse.osee.orcs.db.internal.sql.join.IdJoinQuery;
 import org.eclipse.osee.orcs.db.internal.sql.join.SqlJoinFactory;
 import org.eclipse.osee.orcs.search.ApplicabilityQuery;
 
@@ -48,32 +63,64 @@ import org.eclipse.osee.orcs.search.ApplicabilityQuery;
  */
 public class LoadDeltasBetweenBranches {
    // @formatter:off
-      private static final String SELECT_ALL_SOURCE_ADDRESSING =
+   private static final String SELECT_SOURCE_ADDRESSING =
       "with\n" + "txsOuter as (select transaction_id, gamma_id, mod_type, app_id from %s txs where \n" +
-         "branch_id = ? and txs.tx_current <> ? and transaction_id <> ? AND \n" +
+         "branch_id = ? and txs.tx_current <> ? and transaction_id <> ? and transaction_id > ? AND \n" +
          "NOT EXISTS (SELECT 1 FROM %s txs1 WHERE txs1.branch_id = ? AND txs1.transaction_id = ? \n" +
-         "AND txs1.gamma_id = txs.gamma_id and txs1.mod_type = txs.mod_type and txs1.app_id = txs.app_id)) \n" +
+         "AND txs1.gamma_id = txs.gamma_id and txs1.mod_type = txs.mod_type and txs1.app_id = txs.app_id)) \n";
+
+   private static final String SELECT_TOUCHED_ITEMS =
+      "SELECT DISTINCT item.%s as item_id FROM %s item, %s txs WHERE txs.branch_id = ? AND txs.transaction_id > ? AND txs.gamma_id = item.gamma_id";
+
+   private static final String SELECT_NOT_CURRENT_GAMMAS =
+      "SELECT jid.id as gamma_id FROM osee_join_id jid WHERE jid.query_id = ? AND NOT EXISTS (SELECT 1 FROM %s txs WHERE txs.branch_id = ? AND txs.gamma_id = jid.id AND txs.tx_current <> ?)";
+
+   /**
+    * The item tables a branch change can be in, with the select reading that table's changes from txsOuter
+    */
+   private static enum ChangeTable {
+      ATTRIBUTE(1, "attr_id", "osee_attribute",
          "SELECT 1 as table_type, attr_type_id as item_type_id, attr_id as item_id, art_id as item_first, 0 as item_second, 0 as item_third, 0 as item_fourth, item.value as item_value, item.uri as item_uri, item.gamma_id, mod_type, app_id, transaction_id, kv.value as app_value \n" +
-         "FROM osee_attribute item, txsOuter, osee_key_value kv where txsOuter.gamma_id = item.gamma_id AND txsOuter.app_id = kv.key\n" +
-         "UNION ALL\n" +
+         "FROM osee_attribute item, txsOuter, osee_key_value kv where txsOuter.gamma_id = item.gamma_id AND txsOuter.app_id = kv.key"),
+      ARTIFACT(2, "art_id", "osee_artifact",
          "SELECT 2 as table_type, art_type_id as item_type_id, art_id as item_id, 0 as item_first, 0 as item_second, 0 as item_third, 0 as item_fourth, 'na' as item_value, 'na' as item_uri, item.gamma_id, mod_type, app_id, transaction_id, kv.value as app_value \n" +
-         "FROM osee_artifact item, txsOuter, osee_key_value kv where txsOuter.gamma_id = item.gamma_id AND txsOuter.app_id = kv.key\n" +
-         "UNION ALL\n" +
+         "FROM osee_artifact item, txsOuter, osee_key_value kv where txsOuter.gamma_id = item.gamma_id AND txsOuter.app_id = kv.key"),
+      RELATION_LINK(3, "rel_link_id", "osee_relation_link",
          "SELECT 3 as table_type, rel_link_type_id as item_type_id, rel_link_id as item_id,  a_art_id as item_first, b_art_id as item_second, 0 as item_third, 0 as item_fourth, rationale as item_value, 'na' as item_uri, item.gamma_id, mod_type, app_id, transaction_id, kv.value as app_value \n" +
-         "FROM osee_relation_link item, txsOuter,osee_key_value kv where txsOuter.gamma_id = item.gamma_id AND txsOuter.app_id = kv.key\n" +
-         "UNION ALL\n" +
+         "FROM osee_relation_link item, txsOuter,osee_key_value kv where txsOuter.gamma_id = item.gamma_id AND txsOuter.app_id = kv.key"),
+      TUPLE2(4, "gamma_id", "osee_tuple2",
          "SELECT 4 as table_type, tuple_type as item_type_id, 0 as item_id, e1 as item_first, e2 as item_second, 0 as item_third, 0 as item_fourth, 'na' as item_value, 'na' as item_uri, item.gamma_id, mod_type, app_id, transaction_id, 'Base' as app_value \n" +
-         "from osee_tuple2 item, txsOuter where txsOuter.gamma_id = item.gamma_id\n" +
-         "UNION ALL\n" +
+         "from osee_tuple2 item, txsOuter where txsOuter.gamma_id = item.gamma_id"),
+      TUPLE3(5, "gamma_id", "osee_tuple3",
          "SELECT 5 as table_type, tuple_type as item_type_id, 0 as item_id, e1 as item_first, e2 as item_second, e3 as item_third, 0 as item_fourth, 'na' as item_value, 'na' as item_uri, item.gamma_id, mod_type, app_id, transaction_id, 'Base' as app_value \n" +
-         "from osee_tuple3 item, txsOuter where txsOuter.gamma_id = item.gamma_id\n" +
-         "UNION ALL\n" +
+         "from osee_tuple3 item, txsOuter where txsOuter.gamma_id = item.gamma_id"),
+      TUPLE4(6, "gamma_id", "osee_tuple4",
          "SELECT 6 as table_type, tuple_type as item_type_id, 0 as item_id, e1 as item_first, e2 as item_second, e3 as item_third, e4 as item_fourth, 'na' as item_value, 'na' as item_uri, item.gamma_id, mod_type, app_id, transaction_id, 'Base' as app_value \n" +
-         "from osee_tuple4 item, txsOuter where txsOuter.gamma_id = item.gamma_id\n" +
-         "UNION ALL\n" +
+         "from osee_tuple4 item, txsOuter where txsOuter.gamma_id = item.gamma_id"),
+      RELATION(7, "gamma_id", "osee_relation",
          "SELECT 7 as table_type, rel_type as item_type_id, 0 as item_id,  a_art_id as item_first, b_art_id as item_second, rel_art_id as item_third, rel_order as item_fourth, 'na' as item_value, 'na' as item_uri, item.gamma_id, mod_type, app_id, transaction_id, kv.value as app_value \n" +
-         "FROM osee_relation item, txsOuter,osee_key_value kv where txsOuter.gamma_id = item.gamma_id AND txsOuter.app_id = kv.key";
-         ;
+         "FROM osee_relation item, txsOuter,osee_key_value kv where txsOuter.gamma_id = item.gamma_id AND txsOuter.app_id = kv.key");
+
+      private final int tableType;
+      private final String itemIdColumn;
+      private final String tableName;
+      private final String selectChanges;
+
+      private ChangeTable(int tableType, String itemIdColumn, String tableName, String selectChanges) {
+         this.tableType = tableType;
+         this.itemIdColumn = itemIdColumn;
+         this.tableName = tableName;
+         this.selectChanges = selectChanges;
+      }
+
+      /**
+       * @return true when the table's changes are keyed by gamma, so a replaced item leaves its change under the old
+       * gamma rather than being recomputed under the same key
+       */
+      private boolean isKeyedByGamma() {
+         return itemIdColumn.equals("gamma_id");
+      }
+   }
 
          private static final String NON_MATCH_APP="023ef52a-eb74-4ac0-8826-db44093dbe31";
          //note: this is just for giving tuples a value that shouldn't ever be matched by a user. If you are relying on this value, please reconsider the code you are writing.
@@ -82,6 +129,10 @@ public class LoadDeltasBetweenBranches {
 
    // @formatter:on
    private static final String SELECT_BASE_TX = "select baseline_transaction_id from osee_branch where branch_id = ?";
+   private static final String SELECT_HEAD_TX = "select max(transaction_id) from osee_tx_details where branch_id = ?";
+   private static final String SELECT_APPLICABILITY_NAMES =
+      "SELECT kv.key, kv.value FROM osee_join_id jid, osee_key_value kv WHERE jid.query_id = ? AND kv.key = jid.id";
+   private static final String CHANGE_LOADER_ID = "Branch Change Loader";
 
    private final JdbcClient jdbcClient;
    private final SqlJoinFactory joinFactory;
@@ -94,8 +145,14 @@ public class LoadDeltasBetweenBranches {
    private final MissingChangeItemFactory missingChangeItemFactory;
    private final OrcsApi orcsApi;
    private final TransactionId mergeTxId;
-
-   public LoadDeltasBetweenBranches(JdbcClient jdbcClient, SqlJoinFactory joinFactory, OrcsTokenService tokenService, BranchId sourceBranch, BranchId destinationBranch, TransactionToken sourceTx, TransactionToken destinationTx, BranchId mergeBranch, OrcsApi orcsApi, MissingChangeItemFactory missingChangeItemFactory) {
+   private final ExecutorAdmin executorAdmin;
+   private final BranchChangeCache changeCache;
+   private final Queue<ChangeVersion> unnamedApplicability = new ConcurrentLinkedQueue<>();
+
+   /**
+    * @param changeCache when null, the changes are always computed from scratch and are not remembered
+    */
+   public LoadDeltasBetweenBranches(JdbcClient jdbcClient, SqlJoinFactory joinFactory, OrcsTokenService tokenService, BranchId sourceBranch, BranchId destinationBranch, TransactionToken sourceTx, TransactionToken destinationTx, BranchId mergeBranch, OrcsApi orcsApi, MissingChangeItemFactory missingChangeItemFactory, ExecutorAdmin executorAdmin, BranchChangeCache changeCache) {
       this.jdbcClient = jdbcClient;
       this.joinFactory = joinFactory;
       this.tokenService = tokenService;
@@ -107,6 +164,8 @@ public class LoadDeltasBetweenBranches {
       this.applicabilityQuery = orcsApi.getQueryFactory().applicabilityQuery();
       this.missingChangeItemFactory = missingChangeItemFactory;
       this.orcsApi = orcsApi;
+      this.executorAdmin = executorAdmin;
+      this.changeCache = changeCache;
 
       if (mergeBranch.isValid()) {
          mergeTxId = orcsApi.getQueryFactory().transactionQuery().andIsHead(mergeBranch).getResults().getExactlyOne();
@@ -115,10 +174,13 @@ public class LoadDeltasBetweenBranches {
       }
    }
 
-   private ApplicabilityToken getApplicabilityToken(ApplicabilityId appId) {
-      String byKey = orcsApi.getKeyValueOps().getByKey(appId.getId());
-      ApplicabilityToken toReturn = ApplicabilityToken.valueOf(appId.getId(), byKey);
-      return toReturn;
+   /**
+    * Gives the version a placeholder token holding only the applicability id; its name is filled in for all such
+    * versions at once by {@link #nameApplicability()}
+    */
+   private void setUnnamedApplicability(ChangeVersion version, ApplicabilityId appId) {
+      version.setApplicabilityToken(ApplicabilityToken.valueOf(appId.getId(), null));
+      unnamedApplicability.add(version);
    }
 
    private boolean hasMergeBranch() {
@@ -130,16 +192,148 @@ public class LoadDeltasBetweenBranches {
          "Unable to compute deltas between transactions on the same branch [%s]", sourceBranch);
 
       TransactionId sourceBaselineTxId = jdbcClient.fetch(TransactionId.SENTINEL, SELECT_BASE_TX, sourceBranch);
-      DoubleKeyHashMap<Integer, Long, ChangeItem> newChangeData = this.loadSourceBranchChanges(sourceBaselineTxId);
-      List<ChangeItem> changes = loadItemsbyId(newChangeData, sourceBaselineTxId);
+
+      DoubleKeyHashMap<Integer, Long, ChangeItem> changeData;
+      if (changeCache == null) {
+         changeData = loadChanges(sourceBaselineTxId, TransactionId.SENTINEL, null);
+      } else {
+         // read before the changes so anything committed or purged while they load is recomputed next time
+         long generation = changeCache.getGeneration();
+         TransactionId sourceHead = jdbcClient.fetch(TransactionId.SENTINEL, SELECT_HEAD_TX, sourceBranch);
+         CachedChanges cached = changeCache.get(sourceBranch, sourceBaselineTxId, destinationTx, mergeTxId);
+         if (cached == null || cached.getSourceHead().getId() > sourceHead.getId()) {
+            // nothing cached, or its head was purged by a rewrite this server was not told about
+            changeData = loadChanges(sourceBaselineTxId, TransactionId.SENTINEL, null);
+         } else if (cached.getSourceHead().equals(sourceHead)) {
+            changeData = cached.getChanges();
+         } else {
+            changeData = loadChanges(sourceBaselineTxId, cached.getSourceHead(), cached.getChanges());
+         }
+         changeCache.put(sourceBranch, sourceBaselineTxId, destinationTx, mergeTxId, sourceHead, changeData,
+            generation);
+      }
+      List<ChangeItem> changes = new LinkedList<>(changeData.allValues());
 
       changes.addAll(
          missingChangeItemFactory.createMissingChanges(changes, sourceTx, destinationTx, applicabilityQuery));
       return changes;
    }
 
-   private List<ChangeItem> loadItemsbyId(DoubleKeyHashMap<Integer, Long, ChangeItem> changeData,
+   /**
+    * Loads the items changed on the source branch after the given transaction. When previously computed changes are
+    * given, every item written to the source branch after that transaction is replaced in them by its recomputed
+    * change, or removed if it no longer differs from the baseline. A change keyed by gamma is also removed once its
+    * gamma is no longer current, since replacing it (e.g. a relation written again with a new gamma) only marks the old
+    * gamma's row not current and leaves that row's transaction unchanged.
+    */
+   private DoubleKeyHashMap<Integer, Long, ChangeItem> loadChanges(TransactionId sourceBaselineTxId,
+      TransactionId since, DoubleKeyHashMap<Integer, Long, ChangeItem> previousChanges) {
+      SqlTable txsTable = OseeDb.getTxsTable(orcsApi.getQueryFactory().branchQuery().isArchived(sourceBranch));
+
+      Map<ChangeTable, LongHashMap<ChangeItem>> changesByTable = new EnumMap<>(ChangeTable.class);
+      Map<ChangeTable, LongHashSet> touchedByTable = new EnumMap<>(ChangeTable.class);
+      LongHashSet notCurrentGammas = new LongHashSet();
+      List<Runnable> loaders = new ArrayList<>();
+      for (ChangeTable table : ChangeTable.values()) {
+         LongHashMap<ChangeItem> tableChanges = new LongHashMap<>();
+         changesByTable.put(table, tableChanges);
+         loaders.add(() -> loadSourceBranchChanges(table, txsTable, sourceBaselineTxId, since, tableChanges));
+         if (previousChanges != null) {
+            LongHashSet touched = new LongHashSet();
+            touchedByTable.put(table, touched);
+            loaders.add(() -> loadTouchedItems(table, txsTable, since, touched));
+         }
+      }
+      if (previousChanges != null) {
+         loaders.add(() -> loadNotCurrentGammas(txsTable, previousChanges, notCurrentGammas));
+      }
+      runInParallel(loaders);
+
+      DoubleKeyHashMap<Integer, Long, ChangeItem> newChangeData = new DoubleKeyHashMap<>();
+      for (Entry<ChangeTable, LongHashMap<ChangeItem>> entry : changesByTable.entrySet()) {
+         Integer tableType = entry.getKey().tableType;
+         entry.getValue().forEach((itemId, change) -> newChangeData.put(tableType, itemId, change));
+      }
+      loadItemsbyId(newChangeData, sourceBaselineTxId);
+      nameApplicability();
+
+      if (previousChanges == null) {
+         return newChangeData;
+      }
+      for (Entry<ChangeTable, LongHashSet> entry : touchedByTable.entrySet()) {
+         Integer tableType = entry.getKey().tableType;
+         entry.getValue().forEach(itemId -> previousChanges.remove(tableType, itemId));
+         if (entry.getKey().isKeyedByGamma()) {
+            notCurrentGammas.forEach(gammaId -> previousChanges.remove(tableType, gammaId));
+         }
+      }
+      for (Entry<ChangeTable, LongHashMap<ChangeItem>> entry : changesByTable.entrySet()) {
+         Integer tableType = entry.getKey().tableType;
+         entry.getValue().forEach((itemId, change) -> previousChanges.put(tableType, itemId, change));
+      }
+      return previousChanges;
+   }
+
+   /**
+    * Runs the tasks concurrently, each on its own connection, and waits for all of them
+    */
+   private void runInParallel(List<Runnable> tasks) {
+      if (executorAdmin == null || tasks.size() < 2) {
+         tasks.forEach(Runnable::run);
+         return;
+      }
+      List<Future<Void>> futures = new ArrayList<>(tasks.size());
+      for (Runnable task : tasks) {
+         futures.add(executorAdmin.schedule(CHANGE_LOADER_ID, () -> {
+            task.run();
+            return null;
+         }, null));
+      }
+      try {
+         for (Future<Void> future : futures) {
+            future.get();
+         }
+      } catch (InterruptedException ex) {
+         Thread.currentThread().interrupt();
+         throw OseeCoreException.wrap(ex);
+      } catch (ExecutionException ex) {
+         throw OseeCoreException.wrap(ex.getCause());
+      } finally {
+         for (Future<Void> future : futures) {
+            future.cancel(true);
+         }
+      }
+   }
+
+   /**
+    * Fills in the names of all applicability tokens left unnamed while loading with one query
+    */
+   private void nameApplicability() {
+      if (unnamedApplicability.isEmpty()) {
+         return;
+      }
+      LongHashSet appIds = new LongHashSet();
+      for (ChangeVersion version : unnamedApplicability) {
+         appIds.add(version.getApplicabilityToken().getId());
+      }
+      Map<Long, String> names = new HashMap<>();
+      try (IdJoinQuery join = joinFactory.createIdJoinQuery()) {
+         appIds.forEach(join::add);
+         join.store();
+         jdbcClient.runQuery(stmt -> names.put(stmt.getLong("key"), stmt.getString("value")),
+            SELECT_APPLICABILITY_NAMES, join.getQueryId());
+      }
+      for (ChangeVersion version; (version = unnamedApplicability.poll()) != null;) {
+         Long appId = version.getApplicabilityToken().getId();
+         version.setApplicabilityToken(ApplicabilityToken.valueOf(appId, names.get(appId)));
+      }
+   }
+
+   private void loadItemsbyId(DoubleKeyHashMap<Integer, Long, ChangeItem> changeData,
       TransactionId sourceBaselineTxId) {
+      if (changeData.isEmpty()) {
+         return;
+      }
       try (ExportImportJoinQuery idJoin = joinFactory.createExportImportJoinQuery()) {
          for (Integer i : changeData.getKeySetOne()) {
             for (ChangeItem item : changeData.allValues(i)) {
@@ -148,101 +342,130 @@ public class LoadDeltasBetweenBranches {
          }
          idJoin.store();
 
+         // each load sets a different version of the items, so they can run side by side
+         List<Runnable> loaders = new ArrayList<>();
          if (hasMergeBranch()) {
-            loadCurrentVersionData(idJoin, changeData, mergeBranch, mergeTxId, true);
+            loaders.add(() -> loadCurrentVersionData(idJoin, changeData, mergeBranch, mergeTxId, true));
          }
-         loadCurrentVersionData(idJoin, changeData, destinationBranch, destinationTx, false);
+         loaders.add(() -> loadCurrentVersionData(idJoin, changeData, destinationBranch, destinationTx, false));
+         loaders.add(() -> loadNonCurrentSourceVersionData(idJoin, changeData, sourceBaselineTxId));
+         runInParallel(loaders);
+      }
+   }
+
+   private void loadTouchedItems(ChangeTable table, SqlTable txsTable, TransactionId since, LongHashSet touched) {
+      String sql = String.format(SELECT_TOUCHED_ITEMS, table.itemIdColumn, table.tableName, txsTable);
+      jdbcClient.runQueryWithMaxFetchSize(stmt -> touched.add(stmt.getLong("item_id")), sql, sourceBranch, since);
+   }
 
-         loadNonCurrentSourceVersionData(idJoin, changeData, sourceBaselineTxId);
+   /**
+    * Collects the gammas of the previously computed changes keyed by gamma that no longer have a current row on the
+    * source branch
+    */
+   private void loadNotCurrentGammas(SqlTable txsTable, DoubleKeyHashMap<Integer, Long, ChangeItem> previousChanges,
+      LongHashSet notCurrentGammas) {
+      try (IdJoinQuery join = joinFactory.createIdJoinQuery()) {
+         for (ChangeTable table : ChangeTable.values()) {
+            Map<Long, ChangeItem> tableChanges = previousChanges.getSubHash(table.tableType);
+            if (table.isKeyedByGamma() && tableChanges != null) {
+               tableChanges.keySet().forEach(join::add);
+            }
+         }
+         if (join.isEmpty()) {
+            return;
+         }
+         join.store();
+         String sql = String.format(SELECT_NOT_CURRENT_GAMMAS, txsTable);
+         jdbcClient.runQueryWithMaxFetchSize(stmt -> notCurrentGammas.add(stmt.getLong("gamma_id")), sql,
+            join.getQueryId(), sourceBranch, TxCurrent.NOT_CURRENT);
       }
-      List<ChangeItem> list = new LinkedList<>(changeData.allValues());
-      return list;
    }
 
-   private DoubleKeyHashMap<Integer, Long, ChangeItem> loadSourceBranchChanges(TransactionId sourceBaselineTxId) {
-      DoubleKeyHashMap<Integer, Long, ChangeItem> hashChangeData = new DoubleKeyHashMap<>();
+   private void loadSourceBranchChanges(ChangeTable table, SqlTable txsTable, TransactionId sourceBaselineTxId,
+      TransactionId since, LongHashMap<ChangeItem> changes) {
 
       Consumer<JdbcStatement> consumer = stmt -> {
          GammaId gammaId = GammaId.valueOf(stmt.getLong("gamma_id"));
          ModificationType modType = ModificationType.valueOf(stmt.getInt("mod_type"));
          ApplicabilityId appId = ApplicabilityId.valueOf(stmt.getLong("app_id"));
          TransactionToken txToken = TransactionToken.valueOf(stmt.getLong("transaction_id"), sourceBranch);
-         int tableType = stmt.getInt("table_type");
          Long itemId = stmt.getLong("item_id");
          Long itemTypeId = stmt.getLong("item_type_id");
-         switch (tableType) {
-            case 1:
+         switch (table) {
+            case ATTRIBUTE:
                ArtifactId artId = ArtifactId.valueOf(stmt.getLong("item_first"));
                String value = stmt.getString("item_value");
                String uri = stmt.getString("item_uri");
-               hashChangeData.put(1, itemId,
+               changes.put(itemId,
                   ChangeItemUtil.newAttributeChange(AttributeId.valueOf(itemId),
                      tokenService.getAttributeTypeOrCreate(itemTypeId), artId, gammaId, modType, value, uri,
                      ApplicabilityToken.valueOf(stmt.getLong("app_id"), stmt.getString("app_value")), txToken));
                break;
 
-            case 2: {
-               hashChangeData.put(2, itemId,
+            case ARTIFACT: {
+               changes.put(itemId,
                   ChangeItemUtil.newArtifactChange(ArtifactId.valueOf(itemId),
                      tokenService.getArtifactTypeOrCreate(itemTypeId), gammaId, modType,
                      ApplicabilityToken.valueOf(stmt.getLong("app_id"), stmt.getString("app_value")), txToken));
                break;
             }
-            case 3: {
+            case RELATION_LINK: {
                ArtifactId aArtId = ArtifactId.valueOf(stmt.getLong("item_first"));
                ArtifactId bArtId = ArtifactId.valueOf(stmt.getLong("item_second"));
                String rationale = stmt.getString("item_value");
-               hashChangeData.put(3, itemId,
+               changes.put(itemId,
                   ChangeItemUtil.newRelationChange(RelationId.valueOf(itemId),
                      tokenService.getRelationTypeOrCreate(itemTypeId), gammaId, modType, aArtId, bArtId, rationale,
                      ApplicabilityToken.valueOf(stmt.getLong("app_id"), stmt.getString("app_value")), txToken));
                break;
             }
-            case 4: {
+            case TUPLE2: {
                long e1 = stmt.getLong("item_first");
                long e2 = stmt.getLong("item_second");
-               hashChangeData.put(4, gammaId.getId(), ChangeItemUtil.newTupleChange(TupleTypeId.valueOf(itemTypeId),
-                  gammaId, getApplicabilityToken(appId), modType, txToken, e1, e2));
+               ChangeItem change = ChangeItemUtil.newTupleChange(TupleTypeId.valueOf(itemTypeId), gammaId, null,
+                  modType, txToken, e1, e2);
+               setUnnamedApplicability(change.getCurrentVersion(), appId);
+               changes.put(gammaId.getId(), change);
                break;
             }
-            case 5: {
+            case TUPLE3: {
                long e1 = stmt.getLong("item_first");
                long e2 = stmt.getLong("item_second");
                long e3 = stmt.getLong("item_third");
-               hashChangeData.put(5, gammaId.getId(), ChangeItemUtil.newTupleChange(TupleTypeId.valueOf(itemTypeId),
-                  gammaId, getApplicabilityToken(appId), modType, txToken, e1, e2, e3));
+               ChangeItem change = ChangeItemUtil.newTupleChange(TupleTypeId.valueOf(itemTypeId), gammaId, null,
+                  modType, txToken, e1, e2, e3);
+               setUnnamedApplicability(change.getCurrentVersion(), appId);
+               changes.put(gammaId.getId(), change);
                break;
             }
-            case 6: {
+            case TUPLE4: {
                long e1 = stmt.getLong("item_first");
                long e2 = stmt.getLong("item_second");
                long e3 = stmt.getLong("item_third");
                long e4 = stmt.getLong("item_fourth");
-               hashChangeData.put(6, gammaId.getId(), ChangeItemUtil.newTupleChange(TupleTypeId.valueOf(itemTypeId),
-                  gammaId, getApplicabilityToken(appId), modType, txToken, e1, e2, e3, e4));
+               ChangeItem change = ChangeItemUtil.newTupleChange(TupleTypeId.valueOf(itemTypeId), gammaId, null,
+                  modType, txToken, e1, e2, e3, e4);
+               setUnnamedApplicability(change.getCurrentVersion(), appId);
+               changes.put(gammaId.getId(), change);
                break;
             }
-            case 7: {
+            case RELATION: {
                ArtifactId aArtId = ArtifactId.valueOf(stmt.getLong("item_first"));
                ArtifactId bArtId = ArtifactId.valueOf(stmt.getLong("item_second"));
                ArtifactId relArtId = ArtifactId.valueOf(stmt.getLong("item_third"));
                int relOrder = stmt.getInt("item_fourth");
-               hashChangeData.put(7, gammaId.getId(),
+               changes.put(gammaId.getId(),
                   ChangeItemUtil.newRelationChange2(tokenService.getRelationTypeOrCreate(itemTypeId), gammaId, modType,
                      aArtId, bArtId, relArtId, relOrder,
                      ApplicabilityToken.valueOf(stmt.getLong("app_id"), stmt.getString("app_value")), txToken));
                break;
             }
-
          }
       };
-      SqlTable txsTable = OseeDb.getTxsTable(orcsApi.getQueryFactory().branchQuery().isArchived(sourceBranch));
-      String sql = String.format(SELECT_ALL_SOURCE_ADDRESSING, txsTable, txsTable);
+      String sql = String.format(SELECT_SOURCE_ADDRESSING, txsTable, txsTable) + table.selectChanges;
 
-      jdbcClient.runQueryWithMaxFetchSize(consumer, sql, sourceBranch, TxCurrent.NOT_CURRENT, sourceBaselineTxId,
+      jdbcClient.runQueryWithMaxFetchSize(consumer, sql, sourceBranch, TxCurrent.NOT_CURRENT, sourceBaselineTxId, since,
          sourceBranch, sourceBaselineTxId);
-
-      return hashChangeData;
    }
 
    private void loadCurrentVersionData(ExportImportJoinQuery idJoin,
@@ -260,8 +483,7 @@ public class LoadDeltasBetweenBranches {
             change.getNetChange().setGammaId(gammaId);
             change.getNetChange().setModType(ModificationType.MERGED);
             if (appValue.equals(NON_MATCH_APP)) {
-
-               change.getNetChange().setApplicabilityToken(getApplicabilityToken(appId));
+               setUnnamedApplicability(change.getNetChange(), appId);
             } else {
                change.getNetChange().setApplicabilityToken(ApplicabilityToken.valueOf(appId.getId(), appValue));
             }
@@ -270,8 +492,7 @@ public class LoadDeltasBetweenBranches {
             change.getDestinationVersion().setModType(ModificationType.valueOf(stmt.getInt("mod_type")));
             change.getDestinationVersion().setGammaId(gammaId);
             if (appValue.equals(NON_MATCH_APP)) {
-
-               change.getDestinationVersion().setApplicabilityToken(getApplicabilityToken(appId));
+               setUnnamedApplicability(change.getDestinationVersion(), appId);
             } else {
                change.getDestinationVersion().setApplicabilityToken(
                   ApplicabilityToken.valueOf(appId.getId(), appValue));
@@ -388,11 +609,13 @@ public class LoadDeltasBetweenBranches {
 
    private void setVersionData(ChangeVersion versionedChange, GammaId gammaId, ModificationType modType, String value,
       ApplicabilityId appId) {
-      this.setVersionData(versionedChange, gammaId, modType, value, getApplicabilityToken(appId));
+      if (setVersionData(versionedChange, gammaId, modType, value, (ApplicabilityToken) null)) {
+         setUnnamedApplicability(versionedChange, appId);
+      }
    }
 
-   private void setVersionData(ChangeVersion versionedChange, GammaId gammaId, ModificationType modType, String value,
-      ApplicabilityToken app) {
+   private boolean setVersionData(ChangeVersion versionedChange, GammaId gammaId, ModificationType modType,
+      String value, ApplicabilityToken app) {
       // Tolerates the case of having more than one version of an item on a
       // baseline transaction by picking the most recent one
       if (versionedChange.getGammaId() == null || versionedChange.getGammaId().getId().compareTo(gammaId.getId()) < 0) {
@@ -400,6 +623,8 @@ public class LoadDeltasBetweenBranches {
          versionedChange.setModType(modType);
          versionedChange.setGammaId(gammaId);
          versionedChange.setApplicabilityToken(app);
+         return true;
       }
+      return false;
    }
 }
\ No newline at end of file
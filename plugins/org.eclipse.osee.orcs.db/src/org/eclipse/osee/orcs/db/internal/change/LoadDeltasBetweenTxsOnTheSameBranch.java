@@ -27,6 +27,7 @@ import org.eclipse.osee.framework.core.data.RelationId;
 import org.eclipse.osee.framework.core.data.TransactionToken;
 import org.eclipse.osee.framework.core.data.TupleTypeId;
 import org.eclipse.osee.framework.core.enums.ModificationType;
+import org.eclipse.osee.framework.core.executor.ExecutorAdmin;
 import org.eclipse.osee.framework.core.model.change.ChangeItem;
 import org.eclipse.osee.framework.core.model.change.ChangeItemUtil;
 import org.eclipse.osee.framework.jdk.core.type.DoubleKeyHashMap;
@@ -84,8 +85,10 @@ public class LoadDeltasBetweenTxsOnTheSameBranch {
    private final JdbcClient jdbcClient;
    private final BranchId mergeBranch;
    private final boolean isArchived;
+   private final ExecutorAdmin executorAdmin;
+   private final BranchChangeCache changeCache;
 
-   public LoadDeltasBetweenTxsOnTheSameBranch(JdbcClient jdbcClient, SqlJoinFactory joinFactory, OrcsTokenService tokenService, TransactionToken sourceTx, TransactionToken destinationTx, BranchId mergeBranch, OrcsApi orcsApi, MissingChangeItemFactory missingChangeItemFactory) {
+   public LoadDeltasBetweenTxsOnTheSameBranch(JdbcClient jdbcClient, SqlJoinFactory joinFactory, OrcsTokenService tokenService, TransactionToken sourceTx, TransactionToken destinationTx, BranchId mergeBranch, OrcsApi orcsApi, MissingChangeItemFactory missingChangeItemFactory, ExecutorAdmin executorAdmin, BranchChangeCache changeCache) {
       this.jdbcClient = jdbcClient;
       this.joinFactory = joinFactory;
       this.tokenService = tokenService;
@@ -94,6 +97,8 @@ public class LoadDeltasBetweenTxsOnTheSameBranch {
       this.missingChangeItemFactory = missingChangeItemFactory;
       this.mergeBranch = mergeBranch;
       this.orcsApi = orcsApi;
+      this.executorAdmin = executorAdmin;
+      this.changeCache = changeCache;
       isArchived = orcsApi.getQueryFactory().branchQuery().isArchived(destinationTx.getBranch());
    }
 
@@ -278,7 +283,8 @@ public class LoadDeltasBetweenTxsOnTheSameBranch {
             orcsApi.getQueryFactory().applicabilityQuery()));
       } else {
          changes = new LoadDeltasBetweenBranches(jdbcClient, joinFactory, tokenService, sourceTx.getBranch(),
-            destinationTx.getBranch(), sourceTx, destinationTx, mergeBranch, orcsApi, missingChangeItemFactory).call();
+            destinationTx.getBranch(), sourceTx, destinationTx, mergeBranch, orcsApi, missingChangeItemFactory,
+            executorAdmin, changeCache).call();
       }
 
       // Calculate and set the mod types
@@ -18,7 +18,6 @@ import com.google.common.collect.Multimap;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -32,6 +31,7 @@ import org.eclipse.osee.framework.core.enums.ModificationType;
 import org.eclipse.osee.framework.core.model.change.ChangeItem;
 import org.eclipse.osee.framework.core.model.change.ChangeItemUtil;
 import org.eclipse.osee.framework.jdk.core.type.Id;
+import org.eclipse.osee.framework.jdk.core.type.LongHashSet;
 import org.eclipse.osee.framework.jdk.core.type.OseeStateException;
 import org.eclipse.osee.framework.jdk.core.util.Conditions;
 import org.eclipse.osee.orcs.core.ds.ArtifactData;
@@ -60,7 +60,7 @@ public class MissingChangeItemFactoryImpl implements MissingChangeItemFactory {
    public Collection<ChangeItem> createMissingChanges(List<ChangeItem> changes, TransactionToken sourceTx,
       TransactionToken destTx, ApplicabilityQuery applicQuery) {
       if (changes != null && !changes.isEmpty()) {
-         Set<ArtifactId> modifiedArtIds = new HashSet<>();
+         LongHashSet modifiedArtIds = new LongHashSet();
          Multimap<ArtifactId, Id> modifiedAttrIds = LinkedListMultimap.create();
          Multimap<ArtifactId, Id> modifiedRels = LinkedListMultimap.create();
          Multimap<ArtifactId, Id> modifiedTuples = LinkedListMultimap.create();
@@ -83,12 +83,13 @@ public class MissingChangeItemFactoryImpl implements MissingChangeItemFactory {
             }
          }
 
-         Set<ArtifactId> allArtIds = new HashSet<>(modifiedArtIds);
+         LongHashSet allArtIds = new LongHashSet(modifiedArtIds.size() + modifiedAttrIds.keySet().size());
+         modifiedArtIds.forEach(allArtIds::add);
          allArtIds.addAll(modifiedAttrIds.keySet());
 
          allArtIds.addAll(modifiedRels.keySet());
          allArtIds.addAll(modifiedTuples.keySet());
-         Set<ArtifactId> missingArtIds = Collections.EMPTY_SET;
+         LongHashSet missingArtIds = new LongHashSet(0);
 
          try {
             missingArtIds = determineWhichArtifactsNotOnDestination(allArtIds, destTx);
@@ -117,9 +118,12 @@ public class MissingChangeItemFactoryImpl implements MissingChangeItemFactory {
       return toReturn;
    }
 
-   private Set<ArtifactId> determineWhichArtifactsNotOnDestination(Set<ArtifactId> artIds, TransactionToken destTx) {
-      DataLoader loader = dataLoaderFactory.newDataLoaderFromIds(null, destTx.getBranch(), artIds);
-      final Set<ArtifactId> missingArtIds = new LinkedHashSet<>(artIds);
+   private LongHashSet determineWhichArtifactsNotOnDestination(LongHashSet artIds, TransactionToken destTx) {
+      // the loader joins on these ids and returns data in query order, so the set's iteration order is not used
+      DataLoader loader =
+         dataLoaderFactory.newDataLoaderFromIds(null, destTx.getBranch(), artIds.asSet(ArtifactId::valueOf));
+      final LongHashSet missingArtIds = new LongHashSet(artIds.size());
+      artIds.forEach(missingArtIds::add);
       loader.includeDeletedArtifacts();
       loader.fromTransaction(destTx);
       loader.fromBranchView(destTx.getBranch().getViewId());
@@ -135,13 +139,13 @@ public class MissingChangeItemFactoryImpl implements MissingChangeItemFactory {
    }
 
    private Collection<ChangeItem> createMissingChangeItems(TransactionToken sourceTx, TransactionToken destTx,
-      final Set<ArtifactId> modifiedArtIds, final Multimap<ArtifactId, Id> modifiedAttrIds,
-      final Multimap<ArtifactId, Id> modifiedRels, final Set<ArtifactId> missingArtIds,
-      final Set<ArtifactId> allArtIds) {
+      final LongHashSet modifiedArtIds, final Multimap<ArtifactId, Id> modifiedAttrIds,
+      final Multimap<ArtifactId, Id> modifiedRels, final LongHashSet missingArtIds, final LongHashSet allArtIds) {
       final Set<ChangeItem> toReturn = new LinkedHashSet<>();
       final Set<RelationData> relations = new LinkedHashSet<>();
 
-      DataLoader loader = dataLoaderFactory.newDataLoaderFromIds(null, sourceTx.getBranch(), missingArtIds);
+      DataLoader loader =
+         dataLoaderFactory.newDataLoaderFromIds(null, sourceTx.getBranch(), missingArtIds.asSet(ArtifactId::valueOf));
       loader.withLoadLevel(LoadLevel.ALL);
       loader.includeDeletedArtifacts();
       loader.fromTransaction(sourceTx);
@@ -0,0 +1,99 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.db.internal.loader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.eclipse.osee.framework.jdk.core.type.Id;
+import org.eclipse.osee.orcs.db.internal.sql.join.Id4JoinQuery;
+import org.eclipse.osee.orcs.db.internal.sql.join.SqlJoinFactory;
+
+/**
+ * Buffers artifact load join rows (branch, artifact, transaction, view) and splits them into contiguous ranges ordered
+ * by branch and artifact id. Loader SQL orders by the same columns, so loading the ranges in order yields the same
+ * sequence of rows as a single load of the whole join.
+ *
+ * @author agent
+ */
+public final class ArtifactJoinPartitioner {
+   private static final int INITIAL_CAPACITY = 64;
+
+   private final SqlJoinFactory joinFactory;
+   private long[][] rows = new long[4][INITIAL_CAPACITY];
+   private int size;
+
+   public ArtifactJoinPartitioner(SqlJoinFactory joinFactory) {
+      this.joinFactory = joinFactory;
+   }
+
+   public void add(Id branch, Id artifact, Id transaction, Id view) {
+      if (size == rows[0].length) {
+         for (int i = 0; i < rows.length; i++) {
+            rows[i] = Arrays.copyOf(rows[i], size * 2);
+         }
+      }
+      rows[0][size] = branch.getId();
+      rows[1][size] = artifact.getId();
+      rows[2][size] = transaction.getId();
+      rows[3][size] = view.getId();
+      size++;
+   }
+
+   public int size() {
+      return size;
+   }
+
+   public boolean isEmpty() {
+      return size == 0;
+   }
+
+   /**
+    * @return partitionCount joins (fewer when there are not enough rows) covering every buffered row, in ascending
+    * branch and artifact id order
+    */
+   public List<Id4JoinQuery> createJoins(int partitionCount) {
+      int count = Math.max(1, Math.min(partitionCount, size));
+      List<Id4JoinQuery> joins = new ArrayList<>(count);
+      if (count == 1) {
+         Id4JoinQuery join = joinFactory.createArtifactLoadJoinQuery();
+         for (int i = 0; i < size; i++) {
+            join.add(rows[0][i], rows[1][i], rows[2][i], rows[3][i]);
+         }
+         joins.add(join);
+         return joins;
+      }
+
+      Integer[] order = new Integer[size];
+      for (int i = 0; i < size; i++) {
+         order[i] = i;
+      }
+      Arrays.sort(order, Comparator.<Integer> comparingLong(index -> rows[0][index]).thenComparingLong(
+         index -> rows[1][index]));
+
+      int start = 0;
+      for (int partition = 0; partition < count; partition++) {
+         int end = (int) ((long) size * (partition + 1) / count);
+         Id4JoinQuery join = joinFactory.createArtifactLoadJoinQuery();
+         for (int i = start; i < end; i++) {
+            int row = order[i];
+            join.add(rows[0][row], rows[1][row], rows[2][row], rows[3][row]);
+         }
+         joins.add(join);
+         start = end;
+      }
+      return joins;
+   }
+}
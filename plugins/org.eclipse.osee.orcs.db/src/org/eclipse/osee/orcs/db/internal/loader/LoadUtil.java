@@ -22,6 +22,7 @@ public final class LoadUtil {
 
    private static final int MINIMUM_FETCH_SIZE = 10;
    private static final int APPROXIMATE_NUMBER_OF_SUB_ITEMS = 20;
+   private static final int MINIMUM_PARTITION_SIZE = 2500;
 
    private LoadUtil() {
       // Utility class
@@ -42,4 +43,13 @@ public final class LoadUtil {
       return fetchSize;
    }
 
+   /**
+    * @return number of artifact id ranges to load concurrently, at most parallelism, such that each range holds at
+    * least MINIMUM_PARTITION_SIZE artifacts
+    */
+   public static int computePartitionCount(int parallelism, int artifactCount) {
+      int maxPartitions = Math.max(1, artifactCount / MINIMUM_PARTITION_SIZE);
+      return Math.max(1, Math.min(parallelism, maxPartitions));
+   }
+
 }
@@ -14,9 +14,11 @@
 package org.eclipse.osee.orcs.db.internal.loader;
 
 import org.eclipse.osee.framework.core.OrcsTokenService;
+import org.eclipse.osee.framework.core.executor.ExecutorAdmin;
 import org.eclipse.osee.framework.resource.management.IResourceManager;
 import org.eclipse.osee.jdbc.JdbcClient;
 import org.eclipse.osee.logger.Log;
+import org.eclipse.osee.orcs.SystemProperties;
 import org.eclipse.osee.orcs.core.ds.DataFactory;
 import org.eclipse.osee.orcs.core.ds.DataLoaderFactory;
 import org.eclipse.osee.orcs.db.internal.IdentityManager;
@@ -31,18 +33,37 @@ import org.eclipse.osee.orcs.db.internal.sql.join.SqlJoinFactory;
  * @author Roberto E. Escobar
  */
 public class LoaderModule {
+   /**
+    * Number of artifact id ranges a large load is split into and loaded concurrently; 1 disables partitioned loading
+    */
+   public static final String LOAD_PARALLELISM = "orcs.db.artifact.load.parallelism";
+   public static final int DEFAULT_LOAD_PARALLELISM = 4;
+   private static final int LOADER_POOL_SIZE = 8;
+
    private final Log logger;
+   private final ExecutorAdmin executorAdmin;
    private final JdbcClient jdbcClient;
    private final IdentityManager idFactory;
    private final SqlJoinFactory joinFactory;
    private final IResourceManager resourceManager;
+   private final SystemProperties properties;
 
-   public LoaderModule(Log logger, JdbcClient jdbcClient, IdentityManager idFactory, SqlJoinFactory joinFactory, IResourceManager resourceManager) {
+   public LoaderModule(Log logger, ExecutorAdmin executorAdmin, JdbcClient jdbcClient, IdentityManager idFactory, SqlJoinFactory joinFactory, IResourceManager resourceManager, SystemProperties properties) {
       this.logger = logger;
+      this.executorAdmin = executorAdmin;
       this.jdbcClient = jdbcClient;
       this.idFactory = idFactory;
       this.joinFactory = joinFactory;
       this.resourceManager = resourceManager;
+      this.properties = properties;
+   }
+
+   public void start() {
+      executorAdmin.createFixedPoolExecutor(SqlObjectLoader.LOADER_EXECUTOR_ID, LOADER_POOL_SIZE);
+   }
+
+   public void stop() {
+      executorAdmin.shutdown(SqlObjectLoader.LOADER_EXECUTOR_ID);
    }
 
    public AttributeDataProxyFactory createProxyDataFactory() {
@@ -65,7 +86,20 @@ public class LoaderModule {
    public SqlObjectLoader createSqlObjectLoader(OrcsObjectFactory objectFactory,
       DynamicLoadProcessor dynamicLoadProcessor, OrcsTokenService tokenService) {
       SqlHandlerFactory handlerFactory = LoaderSqlHandlerFactoryUtil.createHandlerFactory();
-      return new SqlObjectLoader(logger, jdbcClient, joinFactory, handlerFactory, objectFactory, dynamicLoadProcessor,
-         tokenService);
+      return new SqlObjectLoader(logger, executorAdmin, jdbcClient, joinFactory, handlerFactory, objectFactory,
+         dynamicLoadProcessor, tokenService, getLoadParallelism());
+   }
+
+   private int getLoadParallelism() {
+      int parallelism = DEFAULT_LOAD_PARALLELISM;
+      if (properties != null) {
+         try {
+            parallelism = Integer.parseInt(
+               properties.getCachedValue(LOAD_PARALLELISM, String.valueOf(DEFAULT_LOAD_PARALLELISM)).trim());
+         } catch (Exception ex) {
+            logger.warn(ex, "Invalid [%s] - using default [%s]", LOAD_PARALLELISM, DEFAULT_LOAD_PARALLELISM);
+         }
+      }
+      return Math.max(1, Math.min(parallelism, LOADER_POOL_SIZE));
    }
 }
@@ -13,8 +13,15 @@
 
 package org.eclipse.osee.orcs.db.internal.loader;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.eclipse.osee.framework.core.OrcsTokenService;
 import org.eclipse.osee.framework.core.data.ArtifactId;
@@ -26,7 +33,9 @@ import org.eclipse.osee.framework.core.enums.BranchState;
 import org.eclipse.osee.framework.core.enums.BranchType;
 import org.eclipse.osee.framework.core.enums.LoadLevel;
 import org.eclipse.osee.framework.core.enums.TransactionDetailsType;
+import org.eclipse.osee.framework.core.executor.ExecutorAdmin;
 import org.eclipse.osee.framework.core.executor.HasCancellation;
+import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
 import org.eclipse.osee.framework.jdk.core.util.Lib;
 import org.eclipse.osee.jdbc.JdbcClient;
 import org.eclipse.osee.jdbc.JdbcStatement;
@@ -44,6 +53,7 @@ import org.eclipse.osee.orcs.core.ds.RelationData;
 import org.eclipse.osee.orcs.core.ds.ResultObjectDescription;
 import org.eclipse.osee.orcs.data.TransactionReadable;
 import org.eclipse.osee.orcs.db.internal.OrcsObjectFactory;
+import org.eclipse.osee.orcs.db.internal.loader.criteria.CriteriaArtifact;
 import org.eclipse.osee.orcs.db.internal.loader.criteria.CriteriaOrcsLoad;
 import org.eclipse.osee.orcs.db.internal.loader.data.TransactionDataImpl;
 import org.eclipse.osee.orcs.db.internal.loader.processor.AbstractLoadProcessor;
@@ -65,24 +75,32 @@ import org.eclipse.osee.orcs.db.internal.sql.join.SqlJoinFactory;
  * @author Andrew M. Finkbeiner
  */
 public class SqlObjectLoader {
+   public static final String LOADER_EXECUTOR_ID = "orcs.db.artifact.loader";
+   private static final long PARTITION_POLL_MILLIS = 250L;
+   private static final Object END_OF_PARTITION = new Object();
+
    private final ArtifactLoadProcessor artifactProcessor;
    private final AttributeLoadProcessor attributeProcessor;
    private final RelationLoadProcessor relationProcessor;
    private final RelationLoadProcessor2 relationProcessor2;
    private final DynamicLoadProcessor dynamicProcessor;
    private final Log logger;
+   private final ExecutorAdmin executorAdmin;
    private final JdbcClient jdbcClient;
    private final SqlJoinFactory joinFactory;
    private final SqlHandlerFactory handlerFactory;
    private final OrcsTokenService tokenService;
+   private final int loadParallelism;
 
-   public SqlObjectLoader(Log logger, JdbcClient jdbcClient, SqlJoinFactory joinFactory, SqlHandlerFactory handlerFactory, OrcsObjectFactory objectFactory, DynamicLoadProcessor dynamicProcessor, OrcsTokenService tokenService) {
+   public SqlObjectLoader(Log logger, ExecutorAdmin executorAdmin, JdbcClient jdbcClient, SqlJoinFactory joinFactory, SqlHandlerFactory handlerFactory, OrcsObjectFactory objectFactory, DynamicLoadProcessor dynamicProcessor, OrcsTokenService tokenService, int loadParallelism) {
       this.logger = logger;
+      this.executorAdmin = executorAdmin;
       this.jdbcClient = jdbcClient;
       this.joinFactory = joinFactory;
       this.handlerFactory = handlerFactory;
       this.dynamicProcessor = dynamicProcessor;
       this.tokenService = tokenService;
+      this.loadParallelism = loadParallelism;
 
       artifactProcessor = new ArtifactLoadProcessor(objectFactory);
       attributeProcessor = new AttributeLoadProcessor(logger, objectFactory, tokenService);
@@ -98,6 +116,13 @@ public class SqlObjectLoader {
       return jdbcClient;
    }
 
+   /**
+    * @return the load parallelism set on the options, or the server configured default when the options do not set one
+    */
+   public int getLoadParallelism(Options options) {
+      return OptionsUtil.getLoadParallelism(options, loadParallelism);
+   }
+
    private void checkCancelled(HasCancellation cancellation) throws CancellationException {
       if (cancellation != null) {
          cancellation.checkForCancelled();
@@ -125,7 +150,7 @@ public class SqlObjectLoader {
       try {
          if (!join.isEmpty()) {
             join.store();
-            criteria.setQueryId(join.getQueryId());
+            criteria.setArtifactJoin(join);
 
             loadArtifacts(cancellation, handler, criteria, loadContext, fetchSize);
 
@@ -138,6 +163,155 @@ public class SqlObjectLoader {
       }
    }
 
+   /**
+    * Loads the artifacts of each join concurrently, one pooled connection per partition and data stream. Partitions must
+    * be ordered by branch and artifact id (see {@link ArtifactJoinPartitioner}); the handler then receives the same
+    * sequence it would from a single sequential load: all artifacts, then attributes, then relations, in partition
+    * order. Rows of the partition being handed to the handler are streamed as they are read; at most joins.size()
+    * partition loads run ahead of it, so only their rows are held in memory.
+    */
+   public void loadArtifacts(HasCancellation cancellation, LoadDataHandler handler, List<Id4JoinQuery> joins,
+      CriteriaOrcsLoad criteria, LoadSqlContext loadContext, int fetchSize) {
+      if (joins.size() == 1) {
+         loadArtifacts(cancellation, handler, joins.get(0), criteria, loadContext, fetchSize);
+         return;
+      }
+      logger.trace("Sql Artifact Load - partitions[%s] loadSqlContext[%s]", joins.size(), loadContext);
+      List<PartitionLoad<?>> loads = new ArrayList<>();
+      try {
+         for (Id4JoinQuery join : joins) {
+            join.store();
+            checkCancelled(cancellation);
+         }
+         checkCancelled(cancellation);
+         loadDescription(handler, loadContext);
+
+         LoadLevel loadLevel = OptionsUtil.getLoadLevel(loadContext.getOptions());
+         List<CriteriaOrcsLoad> partitions = new ArrayList<>(joins.size());
+         for (Id4JoinQuery join : joins) {
+            partitions.add(criteria.copyFor(join));
+         }
+         for (CriteriaOrcsLoad partition : partitions) {
+            loads.add(
+               new PartitionLoad<>(cancellation, artifactProcessor, partition.getArtifactCriteria(), loadContext));
+         }
+         if (isAttributeLoadingAllowed(loadLevel)) {
+            for (CriteriaOrcsLoad partition : partitions) {
+               loads.add(
+                  new PartitionLoad<>(cancellation, attributeProcessor, partition.getAttributeCriteria(), loadContext));
+            }
+         }
+         if (isRelationLoadingAllowed(loadLevel)) {
+            for (CriteriaOrcsLoad partition : partitions) {
+               loads.add(
+                  new PartitionLoad<>(cancellation, relationProcessor, partition.getRelationCriteria(), loadContext));
+            }
+            for (CriteriaOrcsLoad partition : partitions) {
+               loads.add(
+                  new PartitionLoad<>(cancellation, relationProcessor2, partition.getRelationCriteria2(), loadContext));
+            }
+         }
+
+         int window = joins.size();
+         for (int i = 0; i < Math.min(window, loads.size()); i++) {
+            loads.get(i).schedule();
+         }
+         for (int i = 0; i < loads.size(); i++) {
+            loads.get(i).drainTo(cancellation, handler);
+            if (i + window < loads.size()) {
+               loads.get(i + window).schedule();
+            }
+         }
+      } finally {
+         for (PartitionLoad<?> load : loads) {
+            load.cancel();
+         }
+         for (Id4JoinQuery join : joins) {
+            join.close();
+         }
+      }
+   }
+
+   /**
+    * One data stream of one partition. Rows are queued as they are read so the loading thread can hand them to the
+    * handler while the partition is still being loaded.
+    */
+   private final class PartitionLoad<T> implements Callable<Void> {
+      private final BlockingQueue<Object> rows = new LinkedBlockingQueue<>();
+      private final HasCancellation cancellation;
+      private final AbstractLoadProcessor<OrcsDataHandler<T>> processor;
+      private final Criteria criteria;
+      private final LoadSqlContext loadContext;
+      private Future<Void> future;
+
+      PartitionLoad(HasCancellation cancellation, AbstractLoadProcessor<OrcsDataHandler<T>> processor, Criteria criteria, LoadSqlContext loadContext) {
+         this.cancellation = cancellation;
+         this.processor = processor;
+         this.criteria = criteria;
+         this.loadContext = loadContext;
+      }
+
+      @Override
+      public Void call() {
+         try {
+            checkCancelled(cancellation);
+            LoadSqlContext partitionContext =
+               new LoadSqlContext(loadContext.getSession(), loadContext.getOptions(), loadContext.getBranch());
+            writeSql(criteria, partitionContext);
+            int partitionSize = ((CriteriaArtifact) criteria).getArtifactJoin().size();
+            OrcsDataHandler<T> queueHandler = rows::add;
+            load(processor, queueHandler, partitionContext, LoadUtil.computeFetchSize(partitionSize));
+         } finally {
+            rows.add(END_OF_PARTITION);
+         }
+         return null;
+      }
+
+      void schedule() {
+         future = executorAdmin.schedule(LOADER_EXECUTOR_ID, this, null);
+      }
+
+      void cancel() {
+         if (future != null) {
+            future.cancel(true);
+         }
+      }
+
+      void drainTo(HasCancellation cancellation, LoadDataHandler handler) {
+         while (true) {
+            checkCancelled(cancellation);
+            Object data;
+            try {
+               data = rows.poll(PARTITION_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+               Thread.currentThread().interrupt();
+               throw OseeCoreException.wrap(ex);
+            }
+            if (data == END_OF_PARTITION || data == null && future.isDone()) {
+               awaitCompletion();
+               return;
+            } else if (data instanceof ArtifactData) {
+               handler.onData((ArtifactData) data);
+            } else if (data instanceof AttributeData) {
+               handler.onData((AttributeData) data);
+            } else if (data != null) {
+               handler.onData((RelationData) data);
+            }
+         }
+      }
+
+      private void awaitCompletion() {
+         try {
+            future.get();
+         } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw OseeCoreException.wrap(ex);
+         } catch (ExecutionException ex) {
+            throw OseeCoreException.wrap(ex.getCause());
+         }
+      }
+   }
+
    public void loadBranches(List<? super Branch> branches, QuerySqlContext loadContext) {
       logger.trace("Sql Branch Load - loadContext[%s]", loadContext);
 
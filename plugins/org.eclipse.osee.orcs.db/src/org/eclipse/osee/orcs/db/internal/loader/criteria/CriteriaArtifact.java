@@ -15,29 +15,33 @@ package org.eclipse.osee.orcs.db.internal.loader.criteria;
 
 import org.eclipse.osee.framework.jdk.core.type.Id;
 import org.eclipse.osee.orcs.core.ds.Criteria;
+import org.eclipse.osee.orcs.db.internal.sql.join.Id4JoinQuery;
 
 /**
  * @author Roberto E. Escobar
  */
 public class CriteriaArtifact extends Criteria {
 
-   private Long id;
+   private Id4JoinQuery artifactJoin;
 
    public CriteriaArtifact() {
       super();
-      this.id = Id.SENTINEL;
    }
 
    public Long getQueryId() {
-      return id;
+      return artifactJoin == null ? Id.SENTINEL : artifactJoin.getQueryId();
    }
 
-   protected void setQueryId(Long id) {
-      this.id = id;
+   public Id4JoinQuery getArtifactJoin() {
+      return artifactJoin;
+   }
+
+   protected void setArtifactJoin(Id4JoinQuery artifactJoin) {
+      this.artifactJoin = artifactJoin;
    }
 
    @Override
    public String toString() {
-      return "CriteriaArtifactQid [queryId=" + id + "]";
+      return "CriteriaArtifactQid [queryId=" + getQueryId() + "]";
    }
 }
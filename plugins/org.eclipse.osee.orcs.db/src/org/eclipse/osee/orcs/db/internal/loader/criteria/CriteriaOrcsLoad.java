@@ -14,6 +14,7 @@
 package org.eclipse.osee.orcs.db.internal.loader.criteria;
 
 import org.eclipse.osee.orcs.core.ds.Criteria;
+import org.eclipse.osee.orcs.db.internal.sql.join.Id4JoinQuery;
 
 /**
  * @author Roberto E. Escobar
@@ -33,11 +34,24 @@ public class CriteriaOrcsLoad extends Criteria {
       this.relationCriteria2 = relationCriteria2;
    }
 
-   public void setQueryId(Long id) {
-      artifactCriteria.setQueryId(id);
-      attributeCriteria.setQueryId(id);
-      relationCriteria.setQueryId(id);
-      relationCriteria2.setQueryId(id);
+   public void setArtifactJoin(Id4JoinQuery artifactJoin) {
+      artifactCriteria.setArtifactJoin(artifactJoin);
+      attributeCriteria.setArtifactJoin(artifactJoin);
+      relationCriteria.setArtifactJoin(artifactJoin);
+      relationCriteria2.setArtifactJoin(artifactJoin);
+   }
+
+   /**
+    * Creates an equivalent load criteria bound to the given artifact join so that partitions of a single load can write
+    * their sql independently.
+    */
+   public CriteriaOrcsLoad copyFor(Id4JoinQuery artifactJoin) {
+      CriteriaOrcsLoad copy = new CriteriaOrcsLoad(new CriteriaArtifact(),
+         new CriteriaAttribute(attributeCriteria.getIds(), attributeCriteria.getTypes()),
+         new CriteriaRelation(relationCriteria.getIds(), relationCriteria.getTypes()),
+         new CriteriaRelation2(relationCriteria2.getTypes()));
+      copy.setArtifactJoin(artifactJoin);
+      return copy;
    }
 
    public Criteria getArtifactCriteria() {
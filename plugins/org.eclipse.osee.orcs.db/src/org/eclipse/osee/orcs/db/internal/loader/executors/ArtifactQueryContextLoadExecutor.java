@@ -13,21 +13,21 @@
 
 package org.eclipse.osee.orcs.db.internal.loader.executors;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Consumer;
 import org.eclipse.osee.framework.core.data.ArtifactId;
 import org.eclipse.osee.framework.core.data.BranchId;
 import org.eclipse.osee.framework.core.data.RelationalConstants;
 import org.eclipse.osee.framework.core.data.TransactionId;
 import org.eclipse.osee.framework.core.executor.HasCancellation;
+import org.eclipse.osee.framework.jdk.core.type.LongHashSet;
 import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
 import org.eclipse.osee.jdbc.JdbcClient;
 import org.eclipse.osee.jdbc.JdbcStatement;
 import org.eclipse.osee.orcs.core.ds.LoadDataHandler;
 import org.eclipse.osee.orcs.core.ds.Options;
 import org.eclipse.osee.orcs.core.ds.OptionsUtil;
+import org.eclipse.osee.orcs.db.internal.loader.ArtifactJoinPartitioner;
 import org.eclipse.osee.orcs.db.internal.loader.LoadSqlContext;
 import org.eclipse.osee.orcs.db.internal.loader.LoadUtil;
 import org.eclipse.osee.orcs.db.internal.loader.SqlObjectLoader;
@@ -56,11 +56,14 @@ public class ArtifactQueryContextLoadExecutor extends AbstractLoadExecutor {
    public void load(HasCancellation cancellation, LoadDataHandler handler, CriteriaOrcsLoad criteria, Options options) {
       int fetchSize = computeFetchSize(queryContext);
 
-      Id4JoinQuery join = createId4Join(getJdbcClient(), cancellation, fetchSize);
+      ArtifactJoinPartitioner partitioner = createArtifactRows(cancellation, fetchSize);
 
       OptionsUtil.setFromBranchView(options, queryContext.getBranch().getViewId());
       LoadSqlContext loadContext = new LoadSqlContext(queryContext.getSession(), options, queryContext.getBranch());
-      getLoader().loadArtifacts(cancellation, handler, join, criteria, loadContext, fetchSize);
+
+      int partitionCount = LoadUtil.computePartitionCount(getLoader().getLoadParallelism(options), partitioner.size());
+      List<Id4JoinQuery> joins = partitioner.createJoins(partitionCount);
+      getLoader().loadArtifacts(cancellation, handler, joins, criteria, loadContext, fetchSize);
    }
 
    private int computeFetchSize(SqlContext sqlContext) {
@@ -71,8 +74,8 @@ public class ArtifactQueryContextLoadExecutor extends AbstractLoadExecutor {
       return LoadUtil.computeFetchSize(fetchSize);
    }
 
-   private Id4JoinQuery createId4Join(JdbcClient jdbcClient, HasCancellation cancellation, int fetchSize) {
-      Id4JoinQuery artifactJoin = joinFactory.createId4JoinQuery();
+   private ArtifactJoinPartitioner createArtifactRows(HasCancellation cancellation, int fetchSize) {
+      ArtifactJoinPartitioner artifactRows = new ArtifactJoinPartitioner(joinFactory);
       try {
          for (AbstractJoinQuery join : queryContext.getJoins()) {
             join.store();
@@ -80,15 +83,15 @@ public class ArtifactQueryContextLoadExecutor extends AbstractLoadExecutor {
          }
          TransactionId transactionId = OptionsUtil.getFromTransaction(queryContext.getOptions());
          ArtifactId viewId = OptionsUtil.getFromBranchView(queryContext.getOptions());
-         Set<ArtifactId> ids = new HashSet<>();
+         LongHashSet ids = new LongHashSet();
          Consumer<JdbcStatement> consumer = stmt -> {
             checkCancelled(cancellation);
-            ArtifactId artifact = ArtifactId.valueOf(stmt.getLong("art_id"));
-            BranchId branch = BranchId.valueOf(stmt.getLong("branch_id"));
+            long artId = stmt.getLong("art_id");
             // Do not add more than once to join table
-            if (!ids.contains(artifact)) {
-               artifactJoin.add(branch, artifact, transactionId, viewId);
-               ids.add(artifact);
+            if (ids.add(artId)) {
+               ArtifactId artifact = ArtifactId.valueOf(artId);
+               BranchId branch = BranchId.valueOf(stmt.getLong("branch_id"));
+               artifactRows.add(branch, artifact, transactionId, viewId);
             }
             checkCancelled(cancellation);
          };
@@ -105,7 +108,7 @@ public class ArtifactQueryContextLoadExecutor extends AbstractLoadExecutor {
             }
          }
       }
-      return artifactJoin;
+      return artifactRows;
    }
 
 }
@@ -14,6 +14,7 @@
 package org.eclipse.osee.orcs.db.internal.loader.executors;
 
 import java.util.Collection;
+import java.util.List;
 import org.eclipse.osee.framework.core.data.ArtifactId;
 import org.eclipse.osee.framework.core.data.BranchId;
 import org.eclipse.osee.framework.core.data.TransactionId;
@@ -23,6 +24,7 @@ import org.eclipse.osee.orcs.OrcsSession;
 import org.eclipse.osee.orcs.core.ds.LoadDataHandler;
 import org.eclipse.osee.orcs.core.ds.Options;
 import org.eclipse.osee.orcs.core.ds.OptionsUtil;
+import org.eclipse.osee.orcs.db.internal.loader.ArtifactJoinPartitioner;
 import org.eclipse.osee.orcs.db.internal.loader.LoadSqlContext;
 import org.eclipse.osee.orcs.db.internal.loader.LoadUtil;
 import org.eclipse.osee.orcs.db.internal.loader.SqlObjectLoader;
@@ -52,13 +54,25 @@ public class LoadExecutor extends AbstractLoadExecutor {
    public void load(HasCancellation cancellation, LoadDataHandler handler, CriteriaOrcsLoad criteria, Options options) {
       checkCancelled(cancellation);
 
-      Id4JoinQuery join = joinFactory.createId4JoinQuery();
       TransactionId transactionId = OptionsUtil.getFromTransaction(options);
-      for (ArtifactId artId : artifactIds) {
-         join.add(branch, artId, transactionId);
-      }
       LoadSqlContext loadContext = new LoadSqlContext(session, options, branch);
       int fetchSize = LoadUtil.computeFetchSize(artifactIds.size());
-      getLoader().loadArtifacts(cancellation, handler, join, criteria, loadContext, fetchSize);
+
+      int partitionCount =
+         LoadUtil.computePartitionCount(getLoader().getLoadParallelism(options), artifactIds.size());
+      if (partitionCount > 1) {
+         ArtifactJoinPartitioner partitioner = new ArtifactJoinPartitioner(joinFactory);
+         for (ArtifactId artId : artifactIds) {
+            partitioner.add(branch, artId, transactionId, ArtifactId.SENTINEL);
+         }
+         List<Id4JoinQuery> joins = partitioner.createJoins(partitionCount);
+         getLoader().loadArtifacts(cancellation, handler, joins, criteria, loadContext, fetchSize);
+      } else {
+         Id4JoinQuery join = joinFactory.createArtifactLoadJoinQuery();
+         for (ArtifactId artId : artifactIds) {
+            join.add(branch, artId, transactionId);
+         }
+         getLoader().loadArtifacts(cancellation, handler, join, criteria, loadContext, fetchSize);
+      }
    }
 }
\ No newline at end of file
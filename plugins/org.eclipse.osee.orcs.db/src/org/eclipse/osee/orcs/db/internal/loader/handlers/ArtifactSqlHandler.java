@@ -47,15 +47,16 @@ public class ArtifactSqlHandler extends SqlHandler<CriteriaArtifact> {
 
    @Override
    public void addTables(AbstractSqlWriter writer) {
-      jArtAlias = writer.addTable(OseeDb.OSEE_JOIN_ID4_TABLE);
+      jArtAlias = writer.addTable(criteria.getArtifactJoin());
       artAlias = writer.addTable(OseeDb.ARTIFACT_TABLE);
       txsAlias = writer.addTable(OseeDb.TXS_TABLE, ObjectType.ARTIFACT);
    }
 
    @Override
    public void addPredicates(AbstractSqlWriter writer) {
-      writer.writeEqualsAnd(artAlias, "art_id", jArtAlias, "id2");
-      writer.writeEqualsParameterAnd(jArtAlias, "query_id", criteria.getQueryId());
+      writer.writeEquals(artAlias, "art_id", jArtAlias, "id2");
+      writer.writeAndQueryId(jArtAlias, criteria.getArtifactJoin());
+      writer.writeAnd();
       writer.writeEqualsAnd(artAlias, txsAlias, "gamma_id");
       writer.writeTxBranchFilter(txsAlias);
    }
@@ -56,7 +56,7 @@ public class AttributeSqlHandler extends SqlHandler<CriteriaAttribute> {
 
    @Override
    public void addTables(AbstractSqlWriter writer) {
-      jArtAlias = writer.addTable(OseeDb.OSEE_JOIN_ID4_TABLE);
+      jArtAlias = writer.addTable(criteria.getArtifactJoin());
 
       if (criteria.getIds().size() > 1) {
          jIdAlias = writer.addTable(OseeDb.OSEE_JOIN_ID_TABLE);
@@ -76,10 +76,7 @@ public class AttributeSqlHandler extends SqlHandler<CriteriaAttribute> {
       writer.write(".art_id = ");
       writer.write(jArtAlias);
       writer.write(".id2");
-      writer.writeAnd();
-      writer.write(jArtAlias);
-      writer.write(".query_id = ?");
-      writer.addParameter(criteria.getQueryId());
+      writer.writeAndQueryId(jArtAlias, criteria.getArtifactJoin());
 
       Collection<AttributeId> ids = criteria.getIds();
       if (!ids.isEmpty()) {
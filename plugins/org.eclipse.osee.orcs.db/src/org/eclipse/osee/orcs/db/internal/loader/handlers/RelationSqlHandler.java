@@ -58,7 +58,7 @@ public class RelationSqlHandler extends SqlHandler<CriteriaRelation> {
 
    @Override
    public void addTables(AbstractSqlWriter writer) {
-      jArtAlias = writer.addTable(OseeDb.OSEE_JOIN_ID4_TABLE);
+      jArtAlias = writer.addTable(criteria.getArtifactJoin());
 
       if (criteria.getIds().size() > 1) {
          jIdAlias = writer.addTable(OseeDb.OSEE_JOIN_ID_TABLE);
@@ -85,10 +85,7 @@ public class RelationSqlHandler extends SqlHandler<CriteriaRelation> {
    public void addPredicates(AbstractSqlWriter writer) {
       writer.write("(%s.a_art_id = %s.id2 OR %s.b_art_id = %s.id2)", relationAlias, jArtAlias, relationAlias,
          jArtAlias);
-      writer.writeAnd();
-      writer.write(jArtAlias);
-      writer.write(".query_id = ?");
-      writer.addParameter(criteria.getQueryId());
+      writer.writeAndQueryId(jArtAlias, criteria.getArtifactJoin());
 
       Collection<RelationId> ids = criteria.getIds();
       if (!ids.isEmpty()) {
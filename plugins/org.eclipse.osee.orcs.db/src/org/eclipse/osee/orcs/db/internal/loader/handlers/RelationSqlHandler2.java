@@ -55,7 +55,7 @@ public class RelationSqlHandler2 extends SqlHandler<CriteriaRelation2> {
 
    @Override
    public void addTables(AbstractSqlWriter writer) {
-      jArtAlias = writer.addTable(OseeDb.OSEE_JOIN_ID4_TABLE);
+      jArtAlias = writer.addTable(criteria.getArtifactJoin());
 
       typeIds = getLocalTypeIds();
       if (typeIds.size() > 1) {
@@ -78,10 +78,7 @@ public class RelationSqlHandler2 extends SqlHandler<CriteriaRelation2> {
    public void addPredicates(AbstractSqlWriter writer) {
       writer.write("(%s.a_art_id = %s.id2 OR %s.b_art_id = %s.id2)", relationAlias, jArtAlias, relationAlias,
          jArtAlias);
-      writer.writeAnd();
-      writer.write(jArtAlias);
-      writer.write(".query_id = ?");
-      writer.addParameter(criteria.getQueryId());
+      writer.writeAndQueryId(jArtAlias, criteria.getArtifactJoin());
 
       if (!typeIds.isEmpty()) {
          writer.writeAnd();
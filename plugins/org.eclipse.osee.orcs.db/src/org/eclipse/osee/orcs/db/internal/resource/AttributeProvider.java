@@ -14,11 +14,11 @@
 package org.eclipse.osee.orcs.db.internal.resource;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collection;
 import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
@@ -30,16 +30,23 @@ import org.eclipse.osee.framework.resource.management.IResource;
 import org.eclipse.osee.framework.resource.management.IResourceLocator;
 import org.eclipse.osee.framework.resource.management.IResourceManager;
 import org.eclipse.osee.framework.resource.management.IResourceProvider;
+import org.eclipse.osee.framework.resource.management.StandardOptions;
 import org.eclipse.osee.framework.resource.management.util.OptionsProcessor;
+import org.eclipse.osee.framework.resource.management.util.Resource;
 import org.eclipse.osee.orcs.SystemProperties;
 
 /**
+ * Binary attribute content is kept in a {@link ContentAddressedStore}; each <code>attr://</code> path is a link to the
+ * shared copy of its content. The stored files are read-only; new content replaces a file through
+ * {@link #save(IResourceLocator, IResource, PropertyStore)} with overwrite.
+ *
  * @author Roberto E. Escobar
  */
 public class AttributeProvider implements IResourceProvider {
 
    private String binaryDataPath;
    private String attributeDataPath;
+   private ContentAddressedStore contentStore;
    private SystemProperties preferences;
    private boolean isInitialized;
 
@@ -55,12 +62,16 @@ public class AttributeProvider implements IResourceProvider {
    public void start() {
       binaryDataPath = ResourceConstants.getBinaryDataPath(preferences);
       attributeDataPath = ResourceConstants.getAttributeDataPath(preferences);
+      if (binaryDataPath != null) {
+         contentStore = new ContentAddressedStore(Paths.get(ResourceConstants.getContentStorePath(preferences)));
+      }
       isInitialized = true;
    }
 
    public void stop() {
       binaryDataPath = null;
       attributeDataPath = null;
+      contentStore = null;
       isInitialized = false;
    }
 
@@ -81,6 +92,11 @@ public class AttributeProvider implements IResourceProvider {
       return binaryDataPath;
    }
 
+   public ContentAddressedStore getContentStore() {
+      ensureInitialized();
+      return contentStore;
+   }
+
    private URI resolve(IResourceLocator locator) {
       StringBuilder builder = new StringBuilder(getAttributeDataPath());
       builder.append(locator.getRawPath());
@@ -99,10 +115,16 @@ public class AttributeProvider implements IResourceProvider {
       File file = new File(resolve(locator));
       if (!file.exists()) {
          toReturn = IResourceManager.RESOURCE_NOT_FOUND;
-      } else if (file.exists() == true && file.canWrite() == true) {
-         boolean result = Lib.deleteFileAndEmptyParents(getBinaryDataPath(), file);
-         if (result) {
-            toReturn = IResourceManager.OK;
+      } else {
+         // stored content is read-only because it may be shared, so only the directory must be writable
+         try {
+            if (getContentStore().release(file.toPath())) {
+               ContentAddressedStore.deleteEmptyDirectories(file.toPath().getParent(),
+                  Paths.get(getAttributeDataPath()));
+               toReturn = IResourceManager.OK;
+            }
+         } catch (IOException ex) {
+            OseeCoreException.wrapAndThrow(ex);
          }
       }
       return toReturn;
@@ -111,27 +133,27 @@ public class AttributeProvider implements IResourceProvider {
    @Override
    public IResource acquire(IResourceLocator locator, PropertyStore options) {
       OptionsProcessor optionsProcessor = new OptionsProcessor(resolve(locator), locator, null, options);
-      return optionsProcessor.getResourceToServer();
+      IResource resource = optionsProcessor.getResourceToServer();
+      if (resource instanceof Resource) {
+         resource = new StoredResource(resource.getLocation(), resource.isCompressed());
+      }
+      return resource;
    }
 
    @Override
    public IResourceLocator save(IResourceLocator locator, IResource resource, PropertyStore options) {
       IResourceLocator toReturn = null;
       OptionsProcessor optionsProcessor = new OptionsProcessor(resolve(locator), locator, resource, options);
-      OutputStream outputStream = null;
       InputStream inputStream = null;
       try {
          File storageFile = optionsProcessor.getStorageFile();
          IResource resourceToStore = optionsProcessor.getResourceToStore();
 
-         outputStream = new FileOutputStream(storageFile);
          inputStream = resourceToStore.getContent();
-         Lib.inputStreamToOutputStream(inputStream, outputStream);
+         getContentStore().save(inputStream, storageFile.toPath(),
+            options.getBoolean(StandardOptions.Overwrite.name()));
          toReturn = optionsProcessor.getActualResouceLocator();
-      } catch (IOException ex) {
-         OseeCoreException.wrapAndThrow(ex);
       } finally {
-         Lib.close(outputStream);
          Lib.close(inputStream);
       }
       if (toReturn == null) {
@@ -151,4 +173,21 @@ public class AttributeProvider implements IResourceProvider {
    public Collection<String> getSupportedProtocols() {
       return Arrays.asList(ResourceConstants.ATTRIBUTE_RESOURCE_PROTOCOL);
    }
+
+   private static final class StoredResource extends Resource {
+
+      public StoredResource(URI uri, boolean isCompressed) {
+         super(uri, isCompressed);
+      }
+
+      @Override
+      public InputStream getContent() {
+         Path path = Paths.get(getLocation());
+         try {
+            return ContentAddressedStore.openStream(path);
+         } catch (IOException ex) {
+            throw new OseeCoreException(ex, "Unable to read resource [%s]", path);
+         }
+      }
+   }
 }
@@ -0,0 +1,424 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.db.internal.resource;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
+
+/**
+ * Keeps each distinct binary attribute content once, in a file named by the SHA-256 hash of the content. Attribute
+ * locator paths are hard links to the blob holding their content, so identical content saved for many gammas and
+ * branches shares one copy on disk while every existing <code>attr://</code> path still resolves to an ordinary file.
+ * The file system's link count is the reference count: a blob whose only remaining link is its own entry in the store
+ * is no longer referenced and is removed when the last locator pointing at it is released.
+ * <p>
+ * Because every link to a blob is the same file, writing to a locator path in place would change the content of every
+ * locator sharing it. Blobs are therefore made read-only; new content for a locator must be saved with overwrite,
+ * which releases the old link and links the locator to the blob of the new content (copy on write).
+ * <p>
+ * Linking a blob and releasing its last link are serialized per content hash, so a blob cannot be removed between
+ * the check that it exists and the creation of the new link. The locks are held by this class, so every server sharing
+ * the binary data path must do so through one process.
+ * <p>
+ * When the file system cannot create hard links the content is copied to the locator path instead, which behaves
+ * exactly like the store did before content addressing.
+ *
+ * @author agent
+ */
+public class ContentAddressedStore {
+
+   private static final String HASH_ALGORITHM = "SHA-256";
+   private static final String TEMP_DIRECTORY = "tmp";
+   private static final char[] HEX = "0123456789abcdef".toCharArray();
+   private static final int LOCK_STRIPES = 64;
+   private static final int MAX_ATTEMPTS = 3;
+   private static final Object[] LOCKS = new Object[LOCK_STRIPES];
+
+   static {
+      for (int index = 0; index < LOCK_STRIPES; index++) {
+         LOCKS[index] = new Object();
+      }
+   }
+
+   /**
+    * Content at least this large is read through a memory mapped buffer; smaller content is cheaper to read directly
+    */
+   public static final long MAP_THRESHOLD = 64 * 1024;
+
+   private final Path root;
+
+   public ContentAddressedStore(Path root) {
+      this.root = root;
+   }
+
+   public Path getRoot() {
+      return root;
+   }
+
+   /**
+    * Writes the content to the path, sharing the content's blob with any other path holding the same bytes
+    */
+   public void save(InputStream content, Path target, boolean overwrite) {
+      Path temp = null;
+      try {
+         MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+         temp = writeTemp(new DigestInputStream(content, digest));
+         String hash = toHex(digest.digest());
+         if (overwrite) {
+            release(target);
+         }
+         synchronized (getLock(hash)) {
+            Path blob = getBlobPath(hash);
+            moveIntoPlace(temp, blob);
+            link(blob, target);
+         }
+      } catch (IOException | NoSuchAlgorithmException ex) {
+         throw new OseeCoreException(ex, "Unable to store content at [%s]", target);
+      } finally {
+         deleteQuietly(temp);
+      }
+   }
+
+   /**
+    * Streams the content into the store and returns the blob holding it. A blob no locator links to is removed by the
+    * next release of the same content.
+    */
+   public Path store(InputStream content) {
+      Path temp = null;
+      try {
+         MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+         temp = writeTemp(new DigestInputStream(content, digest));
+         String hash = toHex(digest.digest());
+         synchronized (getLock(hash)) {
+            Path blob = getBlobPath(hash);
+            moveIntoPlace(temp, blob);
+            return blob;
+         }
+      } catch (IOException | NoSuchAlgorithmException ex) {
+         throw new OseeCoreException(ex, "Unable to store content in [%s]", root);
+      } finally {
+         deleteQuietly(temp);
+      }
+   }
+
+   private Path writeTemp(InputStream content) throws IOException {
+      Path tempDirectory = Files.createDirectories(root.resolve(TEMP_DIRECTORY));
+      Path temp = Files.createTempFile(tempDirectory, "blob", null);
+      try (InputStream inputStream = content) {
+         Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+      } catch (IOException ex) {
+         deleteQuietly(temp);
+         throw ex;
+      }
+      return temp;
+   }
+
+   /**
+    * Must hold the lock of the blob's hash
+    */
+   private void moveIntoPlace(Path temp, Path blob) throws IOException {
+      for (int attempt = 1; !Files.exists(blob); attempt++) {
+         try {
+            Files.createDirectories(blob.getParent());
+            try {
+               Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+               Files.move(temp, blob);
+            }
+            blob.toFile().setWritable(false, false);
+         } catch (NoSuchFileException ex) {
+            // the blob's directory was removed by the release of other content sharing it
+            if (attempt >= MAX_ATTEMPTS) {
+               throw ex;
+            }
+         }
+      }
+   }
+
+   /**
+    * Must hold the lock of the blob's hash
+    */
+   private void link(Path blob, Path target) throws IOException {
+      for (int attempt = 1;; attempt++) {
+         try {
+            Files.createDirectories(target.getParent());
+            Files.createLink(target, blob);
+            return;
+         } catch (FileAlreadyExistsException ex) {
+            throw ex;
+         } catch (NoSuchFileException ex) {
+            // the target's directory was removed by the release of another locator in it
+            if (attempt >= MAX_ATTEMPTS) {
+               throw ex;
+            }
+         } catch (UnsupportedOperationException | FileSystemException ex) {
+            // without hard links the blob cannot be shared, so it only exists long enough to be copied
+            Files.copy(blob, target);
+            target.toFile().setWritable(true, true);
+            if (getLinkCount(blob) <= 1) {
+               deleteBlob(blob);
+            }
+            return;
+         }
+      }
+   }
+
+   /**
+    * Deletes the path and, when it was the last reference to its blob, the blob as well
+    *
+    * @return true if the path existed and was deleted
+    */
+   public boolean release(Path target) throws IOException {
+      if (!Files.isRegularFile(target)) {
+         return false;
+      }
+      if (getLinkCount(target) <= 1) {
+         deleteFile(target);
+         return true;
+      }
+      String hash = hash(target);
+      synchronized (getLock(hash)) {
+         if (!Files.isRegularFile(target)) {
+            return false;
+         }
+         Path blob = getBlobPath(hash);
+         boolean isShared = Files.exists(blob) && Files.isSameFile(blob, target);
+         deleteFile(target);
+         if (isShared && getLinkCount(blob) == 1) {
+            deleteBlob(blob);
+         }
+      }
+      return true;
+   }
+
+   private void deleteBlob(Path blob) {
+      try {
+         deleteFile(blob);
+      } catch (IOException ex) {
+         // left for the next release of the same content
+         return;
+      }
+      deleteEmptyDirectories(blob.getParent(), root);
+   }
+
+   /**
+    * Removes the directory and its parents, up to but not including <code>base</code>, for as long as they are empty
+    */
+   public static void deleteEmptyDirectories(Path directory, Path base) {
+      Path stop = base.toAbsolutePath().normalize();
+      Path current = directory.toAbsolutePath().normalize();
+      while (current != null && !current.equals(stop) && current.startsWith(stop)) {
+         try {
+            Files.delete(current);
+         } catch (IOException ex) {
+            // not empty, or already gone
+            return;
+         }
+         current = current.getParent();
+      }
+   }
+
+   private static void deleteFile(Path path) throws IOException {
+      try {
+         Files.delete(path);
+      } catch (AccessDeniedException ex) {
+         // file systems that refuse to delete read-only files
+         path.toFile().setWritable(true, true);
+         Files.delete(path);
+      }
+   }
+
+   private static Object getLock(String hash) {
+      return LOCKS[(hash.hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES];
+   }
+
+   /**
+    * @return the number of locator paths sharing the blob, or -1 if the file system does not report link counts
+    */
+   public int getReferenceCount(Path blob) throws IOException {
+      int links = getLinkCount(blob);
+      return links < 0 ? links : links - 1;
+   }
+
+   private int getLinkCount(Path path) throws IOException {
+      try {
+         return (Integer) Files.getAttribute(path, "unix:nlink");
+      } catch (UnsupportedOperationException | IllegalArgumentException ex) {
+         return -1;
+      }
+   }
+
+   public Path getBlobPath(String hash) {
+      return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+   }
+
+   /**
+    * Opens the content of the path, through a memory mapped buffer for large content so reads are served from the page
+    * cache without copying into the Java heap. Closing the stream unmaps the buffer.
+    */
+   public static InputStream openStream(Path path) throws IOException {
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+         long size = channel.size();
+         if (size >= MAP_THRESHOLD && size <= Integer.MAX_VALUE) {
+            return new MappedInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+         }
+      }
+      return new BufferedInputStream(Files.newInputStream(path));
+   }
+
+   private static String hash(Path path) throws IOException {
+      try (InputStream inputStream = Files.newInputStream(path)) {
+         MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+         byte[] buffer = new byte[8192];
+         int count;
+         while ((count = inputStream.read(buffer)) != -1) {
+            digest.update(buffer, 0, count);
+         }
+         return toHex(digest.digest());
+      } catch (NoSuchAlgorithmException ex) {
+         throw new IOException(ex);
+      }
+   }
+
+   private static String toHex(byte[] bytes) {
+      char[] chars = new char[bytes.length * 2];
+      for (int index = 0; index < bytes.length; index++) {
+         chars[index * 2] = HEX[(bytes[index] >> 4) & 0x0F];
+         chars[index * 2 + 1] = HEX[bytes[index] & 0x0F];
+      }
+      return new String(chars);
+   }
+
+   private static void deleteQuietly(Path path) {
+      if (path != null) {
+         try {
+            Files.deleteIfExists(path);
+         } catch (IOException ex) {
+            // left for the next release of the same content
+         }
+      }
+   }
+
+   private static final class MappedInputStream extends InputStream {
+      private MappedByteBuffer buffer;
+
+      private MappedInputStream(MappedByteBuffer buffer) {
+         this.buffer = buffer;
+      }
+
+      private MappedByteBuffer getBuffer() throws IOException {
+         if (buffer == null) {
+            throw new IOException("Stream closed");
+         }
+         return buffer;
+      }
+
+      @Override
+      public int read() throws IOException {
+         ByteBuffer current = getBuffer();
+         return current.hasRemaining() ? current.get() & 0xFF : -1;
+      }
+
+      @Override
+      public int read(byte[] bytes, int offset, int length) throws IOException {
+         ByteBuffer current = getBuffer();
+         if (length == 0) {
+            return 0;
+         }
+         if (!current.hasRemaining()) {
+            return -1;
+         }
+         int count = Math.min(length, current.remaining());
+         current.get(bytes, offset, count);
+         return count;
+      }
+
+      @Override
+      public long skip(long count) throws IOException {
+         ByteBuffer current = getBuffer();
+         int skipped = (int) Math.max(0, Math.min(count, current.remaining()));
+         current.position(current.position() + skipped);
+         return skipped;
+      }
+
+      @Override
+      public int available() throws IOException {
+         return getBuffer().remaining();
+      }
+
+      @Override
+      public void close() {
+         MappedByteBuffer toUnmap = buffer;
+         buffer = null;
+         if (toUnmap != null) {
+            BufferCleaner.unmap(toUnmap);
+         }
+      }
+   }
+
+   /**
+    * Releases a mapped buffer's memory and file handle immediately instead of waiting for it to be garbage collected.
+    * Falls back to the garbage collector when the JVM does not offer a cleaner.
+    */
+   private static final class BufferCleaner {
+      private static final Object UNSAFE;
+      private static final Method INVOKE_CLEANER;
+
+      static {
+         Object unsafe = null;
+         Method invokeCleaner = null;
+         try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+         } catch (Exception ex) {
+            unsafe = null;
+            invokeCleaner = null;
+         }
+         UNSAFE = unsafe;
+         INVOKE_CLEANER = invokeCleaner;
+      }
+
+      private static void unmap(MappedByteBuffer buffer) {
+         if (INVOKE_CLEANER != null) {
+            try {
+               INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } catch (Exception ex) {
+               // left to the garbage collector
+            }
+         }
+      }
+   }
+}
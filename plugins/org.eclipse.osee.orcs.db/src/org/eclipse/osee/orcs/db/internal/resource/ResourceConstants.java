@@ -29,6 +29,7 @@ public final class ResourceConstants {
    public static final String ZIP_EXTENSION = "zip";
    public static final String EXCHANGE_RESOURCE_PROTOCOL = "exchange";
    public static final String ATTRIBUTE_RESOURCE_PROTOCOL = "attr";
+   public static final String CONTENT_STORE_DIRECTORY = "cas";
 
    public static String getExchangeDataPath(SystemProperties preferences) {
       String binaryDataPath = getBinaryDataPath(preferences);
@@ -40,6 +41,11 @@ public final class ResourceConstants {
       return binaryDataPath + File.separator + ResourceConstants.ATTRIBUTE_RESOURCE_PROTOCOL + File.separator;
    }
 
+   public static String getContentStorePath(SystemProperties preferences) {
+      String binaryDataPath = getBinaryDataPath(preferences);
+      return binaryDataPath + File.separator + ResourceConstants.CONTENT_STORE_DIRECTORY + File.separator;
+   }
+
    public static String getBinaryDataPath(SystemProperties preferences) {
       return preferences.getValue(OseeClient.OSEE_APPLICATION_SERVER_DATA);
    }
@@ -22,6 +22,7 @@ import org.eclipse.osee.jdbc.JdbcClient;
 import org.eclipse.osee.jdbc.SqlTable;
 import org.eclipse.osee.logger.Log;
 import org.eclipse.osee.orcs.OseeDb;
+import org.eclipse.osee.orcs.SystemProperties;
 import org.eclipse.osee.orcs.core.ds.DataLoaderFactory;
 import org.eclipse.osee.orcs.core.ds.QueryEngineIndexer;
 import org.eclipse.osee.orcs.db.internal.search.QuerySqlContext.ObjectQueryType;
@@ -30,10 +31,9 @@ import org.eclipse.osee.orcs.db.internal.search.engines.ObjectQueryCallableFacto
 import org.eclipse.osee.orcs.db.internal.search.engines.QueryFilterFactoryImpl;
 import org.eclipse.osee.orcs.db.internal.search.engines.QuerySqlContextFactoryImpl;
 import org.eclipse.osee.orcs.db.internal.search.indexer.IndexedResourceLoader;
-import org.eclipse.osee.orcs.db.internal.search.indexer.IndexerCallableFactory;
-import org.eclipse.osee.orcs.db.internal.search.indexer.IndexerCallableFactoryImpl;
+import org.eclipse.osee.orcs.db.internal.search.indexer.IndexerConstants;
+import org.eclipse.osee.orcs.db.internal.search.indexer.IndexingPipeline;
 import org.eclipse.osee.orcs.db.internal.search.indexer.IndexingTaskConsumer;
-import org.eclipse.osee.orcs.db.internal.search.indexer.IndexingTaskConsumerImpl;
 import org.eclipse.osee.orcs.db.internal.search.indexer.QueryEngineIndexerImpl;
 import org.eclipse.osee.orcs.db.internal.search.indexer.data.GammaQueueIndexerDataSourceLoader;
 import org.eclipse.osee.orcs.db.internal.search.language.EnglishLanguage;
@@ -90,12 +90,38 @@ public final class Engines {
          handlerFactory, ObjectQueryType.TX);
    }
 
-   public static QueryEngineIndexer newIndexingEngine(Log logger, JdbcClient jdbcClient, SqlJoinFactory sqlJoinFactory,
-      TaggingEngine taggingEngine, ExecutorAdmin executorAdmin, IResourceManager resourceManager) {
+   public static IndexingPipeline newIndexingPipeline(Log logger, JdbcClient jdbcClient, TaggingEngine taggingEngine,
+      ExecutorAdmin executorAdmin, IResourceManager resourceManager, SystemProperties properties) {
       IndexedResourceLoader resourceLoader = new GammaQueueIndexerDataSourceLoader(logger, jdbcClient, resourceManager);
-      IndexerCallableFactory callableFactory =
-         new IndexerCallableFactoryImpl(logger, jdbcClient, taggingEngine, resourceLoader);
-      IndexingTaskConsumer indexConsumer = new IndexingTaskConsumerImpl(executorAdmin, callableFactory);
+      return new IndexingPipeline(logger, executorAdmin, jdbcClient, taggingEngine, resourceLoader,
+         getInt(logger, properties, IndexerConstants.INDEXER_FETCH_WORKERS, IndexerConstants.DEFAULT_FETCH_WORKERS),
+         getInt(logger, properties, IndexerConstants.INDEXER_LOAD_WORKERS, IndexerConstants.DEFAULT_LOAD_WORKERS),
+         getInt(logger, properties, IndexerConstants.INDEXER_TAG_WORKERS, IndexerConstants.DEFAULT_TAG_WORKERS),
+         getInt(logger, properties, IndexerConstants.INDEXER_WRITE_WORKERS, IndexerConstants.DEFAULT_WRITE_WORKERS),
+         getInt(logger, properties, IndexerConstants.INDEXER_PENDING_CAPACITY,
+            IndexerConstants.DEFAULT_PENDING_CAPACITY),
+         getInt(logger, properties, IndexerConstants.INDEXER_STAGE_CAPACITY, IndexerConstants.DEFAULT_STAGE_CAPACITY),
+         getInt(logger, properties, IndexerConstants.INDEXER_LOAD_BUFFER_BYTES,
+            IndexerConstants.DEFAULT_LOAD_BUFFER_BYTES),
+         getInt(logger, properties, IndexerConstants.INDEXER_SUBMIT_TIMEOUT,
+            IndexerConstants.DEFAULT_SUBMIT_TIMEOUT_MILLIS),
+         IndexerConstants.INDEXER_CACHE_ALL_ITEMS, IndexerConstants.INDEXER_CACHE_LIMIT);
+   }
+
+   private static int getInt(Log logger, SystemProperties properties, String key, int defaultValue) {
+      int value = defaultValue;
+      if (properties != null) {
+         try {
+            value = Integer.parseInt(properties.getCachedValue(key, String.valueOf(defaultValue)).trim());
+         } catch (Exception ex) {
+            logger.warn(ex, "Invalid [%s] - using default [%s]", key, defaultValue);
+         }
+      }
+      return value > 0 ? value : defaultValue;
+   }
+
+   public static QueryEngineIndexer newIndexingEngine(Log logger, JdbcClient jdbcClient, SqlJoinFactory sqlJoinFactory,
+      IndexingTaskConsumer indexConsumer) {
       return new QueryEngineIndexerImpl(logger, jdbcClient, sqlJoinFactory, indexConsumer);
    }
 }
\ No newline at end of file
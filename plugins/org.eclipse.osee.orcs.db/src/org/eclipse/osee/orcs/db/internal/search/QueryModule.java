@@ -15,12 +15,14 @@ package org.eclipse.osee.orcs.db.internal.search;
 
 import static org.eclipse.osee.orcs.db.internal.search.Engines.newArtifactQueryEngine;
 import static org.eclipse.osee.orcs.db.internal.search.Engines.newIndexingEngine;
+import static org.eclipse.osee.orcs.db.internal.search.Engines.newIndexingPipeline;
 import static org.eclipse.osee.orcs.db.internal.search.Engines.newTaggingEngine;
 import org.eclipse.osee.framework.core.OrcsTokenService;
 import org.eclipse.osee.framework.core.executor.ExecutorAdmin;
 import org.eclipse.osee.framework.resource.management.IResourceManager;
 import org.eclipse.osee.jdbc.JdbcClient;
 import org.eclipse.osee.logger.Log;
+import org.eclipse.osee.orcs.SystemProperties;
 import org.eclipse.osee.orcs.core.ds.DataLoaderFactory;
 import org.eclipse.osee.orcs.core.ds.KeyValueStore;
 import org.eclipse.osee.orcs.core.ds.QueryEngine;
@@ -29,7 +31,7 @@ import org.eclipse.osee.orcs.db.internal.loader.SqlObjectLoader;
 import org.eclipse.osee.orcs.db.internal.search.engines.ArtifactQuerySqlContextFactoryImpl;
 import org.eclipse.osee.orcs.db.internal.search.engines.ObjectQueryCallableFactory;
 import org.eclipse.osee.orcs.db.internal.search.engines.QueryEngineImpl;
-import org.eclipse.osee.orcs.db.internal.search.indexer.IndexerConstants;
+import org.eclipse.osee.orcs.db.internal.search.indexer.IndexingPipeline;
 import org.eclipse.osee.orcs.db.internal.search.tagger.TaggingEngine;
 import org.eclipse.osee.orcs.db.internal.sql.join.SqlJoinFactory;
 
@@ -44,6 +46,7 @@ public class QueryModule {
    private final SqlJoinFactory sqlJoinFactory;
 
    private TaggingEngine taggingEngine;
+   private IndexingPipeline indexingPipeline;
    private QueryEngineIndexer queryIndexer;
 
    public QueryModule(Log logger, ExecutorAdmin executorAdmin, JdbcClient jdbcClient, SqlJoinFactory sqlJoinFactory) {
@@ -53,18 +56,22 @@ public class QueryModule {
       this.sqlJoinFactory = sqlJoinFactory;
    }
 
-   public void startIndexer(IResourceManager resourceManager) throws Exception {
+   public void startIndexer(IResourceManager resourceManager, SystemProperties properties) throws Exception {
       taggingEngine = newTaggingEngine(logger);
-      queryIndexer =
-         newIndexingEngine(logger, jdbcClient, sqlJoinFactory, taggingEngine, executorAdmin, resourceManager);
+      indexingPipeline =
+         newIndexingPipeline(logger, jdbcClient, taggingEngine, executorAdmin, resourceManager, properties);
+      queryIndexer = newIndexingEngine(logger, jdbcClient, sqlJoinFactory, indexingPipeline);
 
-      executorAdmin.createFixedPoolExecutor(IndexerConstants.INDEXING_CONSUMER_EXECUTOR_ID, 4);
+      indexingPipeline.start();
    }
 
    public void stopIndexer() throws Exception {
+      if (indexingPipeline != null) {
+         indexingPipeline.stop();
+         indexingPipeline = null;
+      }
       queryIndexer = null;
       taggingEngine = null;
-      executorAdmin.shutdown(IndexerConstants.INDEXING_CONSUMER_EXECUTOR_ID);
    }
 
    public QueryEngineIndexer getQueryIndexer() {
@@ -24,4 +24,22 @@ public final class IndexerConstants {
    public static final boolean INDEXER_CACHE_ALL_ITEMS = false;
    public static final int INDEX_QUERY_ID_LOADER_TOTAL_RETRIES = 10;
 
+   public static final String INDEXER_FETCH_WORKERS = "orcs.indexer.fetch.workers";
+   public static final String INDEXER_LOAD_WORKERS = "orcs.indexer.load.workers";
+   public static final String INDEXER_TAG_WORKERS = "orcs.indexer.tag.workers";
+   public static final String INDEXER_WRITE_WORKERS = "orcs.indexer.write.workers";
+   public static final String INDEXER_PENDING_CAPACITY = "orcs.indexer.pending.capacity";
+   public static final String INDEXER_STAGE_CAPACITY = "orcs.indexer.stage.capacity";
+   public static final String INDEXER_LOAD_BUFFER_BYTES = "orcs.indexer.load.buffer.bytes";
+   public static final String INDEXER_SUBMIT_TIMEOUT = "orcs.indexer.submit.timeout";
+
+   public static final int DEFAULT_FETCH_WORKERS = 2;
+   public static final int DEFAULT_LOAD_WORKERS = 2;
+   public static final int DEFAULT_TAG_WORKERS = Math.max(2, Runtime.getRuntime().availableProcessors() - 1);
+   public static final int DEFAULT_WRITE_WORKERS = 2;
+   public static final int DEFAULT_PENDING_CAPACITY = 1000;
+   public static final int DEFAULT_STAGE_CAPACITY = 8;
+   public static final int DEFAULT_LOAD_BUFFER_BYTES = 16 * 1024 * 1024;
+   public static final int DEFAULT_SUBMIT_TIMEOUT_MILLIS = 30000;
+
 }
@@ -0,0 +1,325 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.db.internal.search.indexer;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.osee.framework.core.OrcsTokenService;
+import org.eclipse.osee.framework.core.data.GammaId;
+import org.eclipse.osee.framework.core.data.TaggerTypeToken;
+import org.eclipse.osee.framework.core.executor.ExecutorAdmin;
+import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
+import org.eclipse.osee.framework.jdk.core.util.Lib;
+import org.eclipse.osee.jdbc.JdbcClient;
+import org.eclipse.osee.logger.Log;
+import org.eclipse.osee.orcs.OrcsSession;
+import org.eclipse.osee.orcs.core.ds.IndexedResource;
+import org.eclipse.osee.orcs.db.internal.search.indexer.callable.consumer.StoreSearchTagsDatabaseTxCallable;
+import org.eclipse.osee.orcs.db.internal.search.tagger.TagBuffer;
+import org.eclipse.osee.orcs.db.internal.search.tagger.TagCollector;
+import org.eclipse.osee.orcs.db.internal.search.tagger.TaggingEngine;
+import org.eclipse.osee.orcs.search.IndexerCollector;
+import org.eclipse.osee.orcs.statistics.IndexerStageStatistics;
+
+/**
+ * Indexes tag queue query ids in four stages connected by bounded queues:
+ * <ol>
+ * <li>fetch - reads the attribute rows of the query id's gammas</li>
+ * <li>load - reads the content of each attribute, including content kept in the binary data store</li>
+ * <li>tag - encodes the content into search tags</li>
+ * <li>write - replaces the stored tags and removes the query id from the tag queue in one transaction</li>
+ * </ol>
+ * Each stage has its own workers, so database, file and CPU bound work overlap instead of running one after the other
+ * on a single thread per query id.
+ * <p>
+ * Memory held by a task is bounded: the load stage reads content ahead only up to its byte budget and leaves the rest
+ * to be streamed by the tag stage, and the write stage sends tags to the database in batches of the cache limit unless
+ * every item is cached.
+ *
+ * @author agent
+ */
+public class IndexingPipeline implements IndexingTaskConsumer {
+
+   private final Map<Long, IndexingTask> tasks = new ConcurrentHashMap<>();
+
+   private final Log logger;
+   private final ExecutorAdmin executorAdmin;
+   private final JdbcClient jdbcClient;
+   private final TaggingEngine taggingEngine;
+   private final IndexedResourceLoader loader;
+   private final List<IndexingStage> stages;
+   private final int loadBufferBytes;
+   private final long submitTimeoutMillis;
+   private final boolean isCacheAll;
+   private final int cacheLimit;
+
+   public IndexingPipeline(Log logger, ExecutorAdmin executorAdmin, JdbcClient jdbcClient, TaggingEngine taggingEngine, IndexedResourceLoader loader, int fetchWorkers, int loadWorkers, int tagWorkers, int writeWorkers, int pendingCapacity, int stageCapacity, int loadBufferBytes, long submitTimeoutMillis, boolean isCacheAll, int cacheLimit) {
+      this.logger = logger;
+      this.executorAdmin = executorAdmin;
+      this.jdbcClient = jdbcClient;
+      this.taggingEngine = taggingEngine;
+      this.loader = loader;
+      this.loadBufferBytes = loadBufferBytes;
+      this.submitTimeoutMillis = submitTimeoutMillis;
+      this.isCacheAll = isCacheAll;
+      this.cacheLimit = cacheLimit;
+
+      IndexingStage fetch = new IndexingStage(logger, "fetch", fetchWorkers, pendingCapacity, this::fetch, this::fail);
+      IndexingStage load = new IndexingStage(logger, "load", loadWorkers, stageCapacity, this::load, this::fail);
+      IndexingStage tag = new IndexingStage(logger, "tag", tagWorkers, stageCapacity, this::tag, this::fail);
+      IndexingStage write = new IndexingStage(logger, "write", writeWorkers, stageCapacity, this::write, this::fail);
+      fetch.setNext(load);
+      load.setNext(tag);
+      tag.setNext(write);
+      stages = Arrays.asList(fetch, load, tag, write);
+   }
+
+   public void start() {
+      for (IndexingStage stage : stages) {
+         stage.start(executorAdmin);
+      }
+   }
+
+   public void stop() {
+      for (IndexingStage stage : stages) {
+         stage.stop(executorAdmin);
+         stage.drain();
+      }
+      for (IndexingTask task : tasks.values()) {
+         task.getFuture().cancel(true);
+      }
+      tasks.clear();
+   }
+
+   @Override
+   public Long cancelTaskId(Collection<Long> taskIds) {
+      Long toReturn = 0L;
+      for (Long item : taskIds) {
+         IndexingTask task = tasks.get(item);
+         if (task != null && task.getFuture().cancel(true)) {
+            toReturn++;
+         }
+      }
+      return toReturn;
+   }
+
+   @Override
+   public int getWorkersInQueue() {
+      return tasks.size();
+   }
+
+   /**
+    * Waits up to the submit timeout for space in the fetch stage's queue. A task that cannot be queued in time is
+    * rejected: its future completes exceptionally and its query id is left in the tag queue to be indexed later.
+    */
+   @Override
+   public Future<?> submitTaskId(OrcsSession session, OrcsTokenService tokenService, IndexerCollector collector,
+      Long queryId) throws Exception {
+      IndexingTask task = new IndexingTask(session, tokenService, collector, queryId);
+      tasks.put(queryId, task);
+      task.getFuture().whenComplete((result, throwable) -> tasks.remove(queryId, task));
+      if (collector != null) {
+         collector.onIndexTaskSubmit(queryId);
+      }
+      if (!stages.get(0).offer(task, submitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+         reject(task);
+      }
+      return task.getFuture();
+   }
+
+   @Override
+   public List<IndexerStageStatistics> getStageStatistics() {
+      List<IndexerStageStatistics> statistics = new ArrayList<>(stages.size());
+      for (IndexingStage stage : stages) {
+         statistics.add(stage.getStatistics());
+      }
+      return statistics;
+   }
+
+   @Override
+   public void clearStatistics() {
+      for (IndexingStage stage : stages) {
+         stage.clearStatistics();
+      }
+   }
+
+   private int fetch(IndexingTask task) {
+      task.markStarted();
+      logger.debug("Tagging: [%s]", task.getQueryId());
+      Map<Long, IndexedResource> sources = new LinkedHashMap<>();
+      loader.loadSource(source -> sources.putIfAbsent(source.getGammaId().getId(), source), task.getQueryId(),
+         task.getTokenService());
+      if (sources.isEmpty()) {
+         logger.warn("Empty gamma query id: %s", task.getQueryId());
+         complete(task, -1L);
+         return -1;
+      }
+      task.setResources(new ArrayList<>(sources.values()));
+      return sources.size();
+   }
+
+   /**
+    * Reads content ahead until the task's buffered bytes reach the load buffer limit
+    */
+   private int load(IndexingTask task) {
+      List<IndexedResource> resources = task.getResources();
+      List<byte[]> contents = new ArrayList<>();
+      long bufferedBytes = 0;
+      int loaded = 0;
+      for (int index = 0; index < resources.size() && bufferedBytes < loadBufferBytes; index++) {
+         IndexedResource source = resources.get(index);
+         byte[] content = null;
+         if (isTaggable(task, source)) {
+            try (InputStream inputStream = source.getResourceInput()) {
+               content = inputStream != null ? Lib.inputStreamToBytes(inputStream) : new byte[0];
+               bufferedBytes += content.length;
+               loaded++;
+            } catch (Exception ex) {
+               logger.error(ex, "Unable to tag - [%s]", source.getGammaId());
+            }
+         }
+         contents.add(content);
+      }
+      task.setContents(contents.toArray(new byte[contents.size()][]));
+      return loaded;
+   }
+
+   private int tag(IndexingTask task) {
+      List<IndexedResource> resources = task.getResources();
+      byte[][] contents = task.getContents();
+      TagBuffer tagBuffer = new TagBuffer(resources.size() * 16);
+      PipelineTagCollector tagCollector = new PipelineTagCollector(task, tagBuffer);
+      for (int index = 0; index < resources.size(); index++) {
+         long startItemTime = System.currentTimeMillis();
+         IndexedResource source = resources.get(index);
+         GammaId gamma = source.getGammaId();
+         tagCollector.setCurrentGamma(gamma.getId());
+         try {
+            if (index < contents.length) {
+               if (contents[index] != null) {
+                  tagIt(task, source, new ByteArrayInputStream(contents[index]), tagCollector);
+               }
+            } else if (isTaggable(task, source)) {
+               // beyond the load stage's byte budget, so streamed here instead of buffered
+               try (InputStream inputStream = source.getResourceInput()) {
+                  if (inputStream != null) {
+                     tagIt(task, source, inputStream, tagCollector);
+                  }
+               }
+            }
+         } catch (Exception ex) {
+            logger.error(ex, "Unable to tag - [%s]", gamma);
+         } finally {
+            if (task.getCollector() != null) {
+               task.getCollector().onIndexItemComplete(task.getQueryId(), gamma.getId(),
+                  tagBuffer.getGammaTagCount(), System.currentTimeMillis() - startItemTime);
+            }
+         }
+      }
+      task.setTags(tagBuffer);
+      return tagBuffer.size();
+   }
+
+   private int write(IndexingTask task) throws Exception {
+      Integer stored =
+         new StoreSearchTagsDatabaseTxCallable(logger, task.getSession(), jdbcClient, task, isCacheAll, cacheLimit).call();
+      logger.debug("End Tagging: [%s] totalTags[%s]", task.getQueryId(), task.getTags().size());
+      complete(task, task.getTags().size());
+      return stored;
+   }
+
+   private TaggerTypeToken getTaggerType(IndexingTask task, IndexedResource source) {
+      return task.getTokenService().getAttributeTypeOrSentinel(source.getAttributeType().getId()).getTaggerType();
+   }
+
+   private boolean isTaggable(IndexingTask task, IndexedResource source) {
+      TaggerTypeToken taggerType = getTaggerType(task, source);
+      if (!taggerType.isValid()) {
+         logger.error("Field has invalid tagger[%s] provider and cannot be tagged - [Gamma: %s]", taggerType,
+            source.getGammaId());
+      }
+      return taggerType.isValid();
+   }
+
+   private void tagIt(IndexingTask task, IndexedResource source, InputStream content, TagCollector tagCollector) throws Exception {
+      taggingEngine.getTagger(getTaggerType(task, source)).tagIt(content, tagCollector);
+   }
+
+   private void complete(IndexingTask task, long totalTags) {
+      if (task.getCollector() != null) {
+         task.getCollector().onIndexTaskComplete(task.getQueryId(), task.getWaitTime(), task.getProcessingTime());
+      }
+      task.getFuture().complete(totalTags);
+   }
+
+   private void fail(IndexingTask task, Throwable throwable) {
+      logger.error(throwable, "Unable to store tags - tagQueueQueryId [%d]", task.getQueryId());
+      if (task.getCollector() != null) {
+         task.getCollector().onIndexTaskError(task.getQueryId(), throwable);
+         task.getCollector().onIndexTaskComplete(task.getQueryId(), task.getWaitTime(), task.getProcessingTime());
+      }
+      task.getFuture().completeExceptionally(
+         new OseeCoreException(throwable, "Unable to store tags - tagQueueQueryId [%d]", task.getQueryId()));
+   }
+
+   private void reject(IndexingTask task) {
+      OseeCoreException ex = new OseeCoreException("Indexer queue full - tagQueueQueryId [%d] left in the tag queue",
+         task.getQueryId());
+      logger.warn("Indexer queue full - tagQueueQueryId [%d] left in the tag queue", task.getQueryId());
+      task.markStarted();
+      if (task.getCollector() != null) {
+         task.getCollector().onIndexTaskError(task.getQueryId(), ex);
+         task.getCollector().onIndexTaskComplete(task.getQueryId(), task.getWaitTime(), task.getProcessingTime());
+      }
+      task.getFuture().completeExceptionally(ex);
+   }
+
+   private static final class PipelineTagCollector implements TagCollector {
+
+      private final IndexingTask task;
+      private final TagBuffer tagBuffer;
+      private long gammaId;
+
+      public PipelineTagCollector(IndexingTask task, TagBuffer tagBuffer) {
+         this.task = task;
+         this.tagBuffer = tagBuffer;
+      }
+
+      public void setCurrentGamma(long gammaId) {
+         this.gammaId = gammaId;
+         tagBuffer.startGamma(gammaId);
+      }
+
+      @Override
+      public void addTag(String word, Long codedTag) {
+         addCodedTag(word, codedTag);
+      }
+
+      @Override
+      public void addCodedTag(CharSequence word, long codedTag) {
+         if (tagBuffer.add(codedTag) && task.getCollector() != null) {
+            task.getCollector().onIndexItemAdded(task.getQueryId(), gammaId, word.toString(), codedTag);
+         }
+      }
+   }
+}
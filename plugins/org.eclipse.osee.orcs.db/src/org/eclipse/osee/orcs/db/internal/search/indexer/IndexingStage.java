@@ -0,0 +1,243 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.db.internal.search.indexer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.osee.framework.core.executor.ExecutorAdmin;
+import org.eclipse.osee.logger.Log;
+import org.eclipse.osee.orcs.statistics.IndexerStageStatistics;
+
+/**
+ * One step of the {@link IndexingPipeline}: a fixed number of workers take tasks from a bounded queue, process them
+ * and put them on the queue of the next stage. A full queue blocks the stage feeding it, which is what keeps a slow
+ * stage from letting work pile up in memory.
+ *
+ * @author agent
+ */
+public final class IndexingStage {
+
+   public interface StageWork {
+      /**
+       * @return the number of items (attributes or tags) processed for the task, or -1 if the task is finished and must
+       * not be passed to the next stage
+       */
+      int process(IndexingTask task) throws Exception;
+   }
+
+   public interface StageFailureHandler {
+      void onFailure(IndexingTask task, Throwable throwable);
+   }
+
+   private final Log logger;
+   private final String name;
+   private final String executorId;
+   private final int workers;
+   private final BlockingQueue<IndexingTask> queue;
+   private final StageWork work;
+   private final StageFailureHandler failureHandler;
+   private IndexingStage next;
+
+   private final LongAdder tasksProcessed = new LongAdder();
+   private final LongAdder itemsProcessed = new LongAdder();
+   private final LongAdder busyNanos = new LongAdder();
+   private volatile long statisticsStart = System.nanoTime();
+
+   private final List<Future<?>> running = new ArrayList<>();
+
+   public IndexingStage(Log logger, String name, int workers, int queueCapacity, StageWork work, StageFailureHandler failureHandler) {
+      this.logger = logger;
+      this.name = name;
+      this.executorId = IndexerConstants.INDEXING_CONSUMER_EXECUTOR_ID + "." + name;
+      this.workers = Math.max(1, workers);
+      this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+      this.work = work;
+      this.failureHandler = failureHandler;
+   }
+
+   public String getName() {
+      return name;
+   }
+
+   public void setNext(IndexingStage next) {
+      this.next = next;
+   }
+
+   /**
+    * Waits for space in this stage's queue
+    */
+   public void put(IndexingTask task) throws InterruptedException {
+      queue.put(task);
+   }
+
+   /**
+    * Waits up to <code>timeout</code> for space in this stage's queue
+    *
+    * @return false if the queue stayed full
+    */
+   public boolean offer(IndexingTask task, long timeout, TimeUnit unit) throws InterruptedException {
+      return queue.offer(task, timeout, unit);
+   }
+
+   public synchronized void start(ExecutorAdmin executorAdmin) {
+      executorAdmin.createFixedPoolExecutor(executorId, workers);
+      for (int index = 0; index < workers; index++) {
+         running.add(executorAdmin.schedule(executorId, new Worker(), null));
+      }
+   }
+
+   public synchronized void stop(ExecutorAdmin executorAdmin) {
+      for (Future<?> future : running) {
+         future.cancel(true);
+      }
+      running.clear();
+      executorAdmin.shutdown(executorId);
+   }
+
+   /**
+    * Removes the tasks still waiting in this stage's queue
+    */
+   public List<IndexingTask> drain() {
+      List<IndexingTask> drained = new ArrayList<>();
+      queue.drainTo(drained);
+      return drained;
+   }
+
+   private void process(IndexingTask task) throws InterruptedException {
+      long start = System.nanoTime();
+      int items;
+      try {
+         items = work.process(task);
+      } catch (Exception ex) {
+         failureHandler.onFailure(task, ex);
+         items = -1;
+      } finally {
+         busyNanos.add(System.nanoTime() - start);
+         tasksProcessed.increment();
+      }
+      if (items >= 0) {
+         itemsProcessed.add(items);
+         if (next != null && !task.isDone()) {
+            next.put(task);
+         }
+      }
+   }
+
+   private final class Worker implements Callable<Void> {
+
+      @Override
+      public Void call() {
+         try {
+            while (!Thread.currentThread().isInterrupted()) {
+               IndexingTask task = queue.take();
+               if (!task.isDone()) {
+                  process(task);
+               }
+            }
+         } catch (InterruptedException ex) {
+            // stage stopped
+         } catch (RuntimeException ex) {
+            logger.error(ex, "Indexer stage [%s] worker stopped unexpectedly", name);
+         }
+         return null;
+      }
+   }
+
+   public void clearStatistics() {
+      tasksProcessed.reset();
+      itemsProcessed.reset();
+      busyNanos.reset();
+      statisticsStart = System.nanoTime();
+   }
+
+   public IndexerStageStatistics getStatistics() {
+      long elapsedNanos = Math.max(1L, System.nanoTime() - statisticsStart);
+      long items = itemsProcessed.sum();
+      return new StageStatistics(name, workers, queue.size(), queue.size() + queue.remainingCapacity(),
+         tasksProcessed.sum(), items, busyNanos.sum() / 1000000L, items * 1000000000.0 / elapsedNanos);
+   }
+
+   private static final class StageStatistics implements IndexerStageStatistics {
+      private final String name;
+      private final int workers;
+      private final int queueDepth;
+      private final int queueCapacity;
+      private final long tasksProcessed;
+      private final long itemsProcessed;
+      private final long busyTime;
+      private final double throughput;
+
+      public StageStatistics(String name, int workers, int queueDepth, int queueCapacity, long tasksProcessed, long itemsProcessed, long busyTime, double throughput) {
+         this.name = name;
+         this.workers = workers;
+         this.queueDepth = queueDepth;
+         this.queueCapacity = queueCapacity;
+         this.tasksProcessed = tasksProcessed;
+         this.itemsProcessed = itemsProcessed;
+         this.busyTime = busyTime;
+         this.throughput = throughput;
+      }
+
+      @Override
+      public String getName() {
+         return name;
+      }
+
+      @Override
+      public int getWorkers() {
+         return workers;
+      }
+
+      @Override
+      public int getQueueDepth() {
+         return queueDepth;
+      }
+
+      @Override
+      public int getQueueCapacity() {
+         return queueCapacity;
+      }
+
+      @Override
+      public long getTasksProcessed() {
+         return tasksProcessed;
+      }
+
+      @Override
+      public long getItemsProcessed() {
+         return itemsProcessed;
+      }
+
+      @Override
+      public long getBusyTime() {
+         return busyTime;
+      }
+
+      @Override
+      public double getThroughput() {
+         return throughput;
+      }
+
+      @Override
+      public String toString() {
+         return "StageStatistics [name=" + name + ", workers=" + workers + ", queue=" + queueDepth + "/" + queueCapacity + ", tasks=" + tasksProcessed + ", items=" + itemsProcessed + "]";
+      }
+   }
+}
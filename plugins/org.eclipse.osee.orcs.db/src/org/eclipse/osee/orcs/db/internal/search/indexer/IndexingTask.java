@@ -0,0 +1,122 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.db.internal.search.indexer;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.osee.framework.core.OrcsTokenService;
+import org.eclipse.osee.orcs.OrcsSession;
+import org.eclipse.osee.orcs.core.ds.IndexedResource;
+import org.eclipse.osee.orcs.db.internal.search.tagger.TagBuffer;
+import org.eclipse.osee.orcs.search.IndexerCollector;
+
+/**
+ * The gammas of one tag queue query id as they move through the {@link IndexingPipeline}. Each stage fills in the
+ * state the next stage needs; a task is only ever worked on by one stage at a time.
+ *
+ * @author agent
+ */
+public final class IndexingTask {
+
+   private final OrcsSession session;
+   private final OrcsTokenService tokenService;
+   private final IndexerCollector collector;
+   private final Long queryId;
+   private final CompletableFuture<Long> future = new CompletableFuture<>();
+   private final long submitTime = System.currentTimeMillis();
+
+   private long startTime;
+   private List<IndexedResource> resources;
+   private byte[][] contents;
+   private TagBuffer tags;
+
+   public IndexingTask(OrcsSession session, OrcsTokenService tokenService, IndexerCollector collector, Long queryId) {
+      this.session = session;
+      this.tokenService = tokenService;
+      this.collector = collector;
+      this.queryId = queryId;
+   }
+
+   public OrcsSession getSession() {
+      return session;
+   }
+
+   public OrcsTokenService getTokenService() {
+      return tokenService;
+   }
+
+   public IndexerCollector getCollector() {
+      return collector;
+   }
+
+   public Long getQueryId() {
+      return queryId;
+   }
+
+   public CompletableFuture<Long> getFuture() {
+      return future;
+   }
+
+   public boolean isDone() {
+      return future.isDone();
+   }
+
+   public void markStarted() {
+      startTime = System.currentTimeMillis();
+   }
+
+   public long getWaitTime() {
+      return startTime - submitTime;
+   }
+
+   public long getProcessingTime() {
+      return System.currentTimeMillis() - startTime;
+   }
+
+   public List<IndexedResource> getResources() {
+      return resources;
+   }
+
+   public void setResources(List<IndexedResource> resources) {
+      this.resources = resources;
+   }
+
+   /**
+    * Content of the resources read ahead by the load stage, by resource index; an entry is null when its content could
+    * not be read. The load stage stops reading ahead once its byte budget is used, so the array can be shorter than the
+    * resource list; the remaining resources are read by the tag stage as it tags them.
+    */
+   public byte[][] getContents() {
+      return contents;
+   }
+
+   public void setContents(byte[][] contents) {
+      this.contents = contents;
+   }
+
+   public TagBuffer getTags() {
+      return tags;
+   }
+
+   public void setTags(TagBuffer tags) {
+      this.tags = tags;
+      // content is no longer needed once tagged
+      this.contents = null;
+   }
+
+   @Override
+   public String toString() {
+      return "IndexingTask [queryId=" + queryId + ", resources=" + (resources != null ? resources.size() : 0) + "]";
+   }
+}
@@ -14,10 +14,12 @@
 package org.eclipse.osee.orcs.db.internal.search.indexer;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.Future;
 import org.eclipse.osee.framework.core.OrcsTokenService;
 import org.eclipse.osee.orcs.OrcsSession;
 import org.eclipse.osee.orcs.search.IndexerCollector;
+import org.eclipse.osee.orcs.statistics.IndexerStageStatistics;
 
 /**
  * @author Roberto E. Escobar
@@ -31,4 +33,8 @@ public interface IndexingTaskConsumer {
    Future<?> submitTaskId(OrcsSession session, OrcsTokenService tokenService, IndexerCollector collector,
       final Long queryId) throws Exception;
 
+   List<IndexerStageStatistics> getStageStatistics();
+
+   void clearStatistics();
+
 }
\ No newline at end of file
@@ -69,7 +69,12 @@ public class QueryEngineIndexerImpl implements QueryEngineIndexer {
 
    @Override
    public CancellableCallable<IndexerData> getIndexerData(OrcsSession session) {
-      return new IndexerDatabaseStatisticsCallable(logger, session, jdbcClient);
+      return new IndexerDatabaseStatisticsCallable(logger, session, jdbcClient, consumer);
+   }
+
+   @Override
+   public void clearStatistics() {
+      consumer.clearStatistics();
    }
 
    @Override
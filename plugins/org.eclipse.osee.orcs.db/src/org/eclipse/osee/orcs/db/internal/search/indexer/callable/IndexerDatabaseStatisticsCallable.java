@@ -18,6 +18,7 @@ import org.eclipse.osee.logger.Log;
 import org.eclipse.osee.orcs.OrcsSession;
 import org.eclipse.osee.orcs.core.ds.IndexerData;
 import org.eclipse.osee.orcs.db.internal.callable.AbstractDatastoreCallable;
+import org.eclipse.osee.orcs.db.internal.search.indexer.IndexingTaskConsumer;
 
 /**
  * @author Roberto E. Escobar
@@ -29,8 +30,11 @@ public class IndexerDatabaseStatisticsCallable extends AbstractDatastoreCallable
    private static final String SELECT_TOTAL_QUERY_IDS_IN_QUEUE =
       "select count(DISTINCT query_id) from osee_tag_gamma_queue";
 
-   public IndexerDatabaseStatisticsCallable(Log logger, OrcsSession session, JdbcClient jdbcClient) {
+   private final IndexingTaskConsumer consumer;
+
+   public IndexerDatabaseStatisticsCallable(Log logger, OrcsSession session, JdbcClient jdbcClient, IndexingTaskConsumer consumer) {
       super(logger, session, jdbcClient);
+      this.consumer = consumer;
    }
 
    @Override
@@ -39,6 +43,8 @@ public class IndexerDatabaseStatisticsCallable extends AbstractDatastoreCallable
 
       indexerData.setTotalItemsInQueue(getJdbcClient().fetch(-1L, SELECT_TOTAL_QUERY_IDS_IN_QUEUE));
       indexerData.setTotalTags(getJdbcClient().fetch(-1L, SELECT_TOTAL_TAGS));
+      indexerData.setWorkersInQueue(consumer.getWorkersInQueue());
+      indexerData.setStageStatistics(consumer.getStageStatistics());
 
       return indexerData;
    }
@@ -0,0 +1,88 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.db.internal.search.indexer.callable.consumer;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.osee.framework.core.enums.JoinItem;
+import org.eclipse.osee.jdbc.JdbcClient;
+import org.eclipse.osee.jdbc.JdbcConnection;
+import org.eclipse.osee.logger.Log;
+import org.eclipse.osee.orcs.OrcsSession;
+import org.eclipse.osee.orcs.OseeDb;
+import org.eclipse.osee.orcs.core.ds.IndexedResource;
+import org.eclipse.osee.orcs.db.internal.callable.AbstractDatastoreTxCallable;
+import org.eclipse.osee.orcs.db.internal.search.indexer.IndexingTask;
+import org.eclipse.osee.orcs.db.internal.search.tagger.TagBuffer;
+
+/**
+ * Replaces the stored search tags of a tagged {@link IndexingTask} and removes its query id from the tag queue in one
+ * transaction. Unless every item is cached, the tags are sent to the database in batches of at most the cache limit
+ * rows.
+ *
+ * @author agent
+ */
+public final class StoreSearchTagsDatabaseTxCallable extends AbstractDatastoreTxCallable<Integer> {
+
+   private static final String DELETE_SEARCH_TAGS = "delete from osee_search_tags where gamma_id = ?";
+
+   private final IndexingTask task;
+   private final boolean isCacheAll;
+   private final int cacheLimit;
+
+   public StoreSearchTagsDatabaseTxCallable(Log logger, OrcsSession session, JdbcClient jdbcClient, IndexingTask task, boolean isCacheAll, int cacheLimit) {
+      super(logger, session, jdbcClient);
+      this.task = task;
+      this.isCacheAll = isCacheAll;
+      this.cacheLimit = cacheLimit;
+   }
+
+   @Override
+   protected Integer handleTxWork(JdbcConnection connection) {
+      deleteTags(connection, task.getResources());
+      int stored = storeTags(connection, task.getTags());
+      getJdbcClient().runPreparedUpdate(connection, JoinItem.TAG_GAMMA_QUEUE.getDeleteSql(), task.getQueryId());
+      return stored;
+   }
+
+   private int deleteTags(JdbcConnection connection, List<IndexedResource> sources) {
+      int numberDeleted = 0;
+      if (!sources.isEmpty()) {
+         List<Object[]> datas = new ArrayList<>(sources.size());
+         for (IndexedResource source : sources) {
+            datas.add(new Object[] {source.getGammaId()});
+         }
+         numberDeleted = getJdbcClient().runBatchUpdate(connection, DELETE_SEARCH_TAGS, datas);
+      }
+      return numberDeleted;
+   }
+
+   private int storeTags(JdbcConnection connection, TagBuffer tagBuffer) {
+      int updated = 0;
+      if (tagBuffer != null && !tagBuffer.isEmpty()) {
+         if (getLogger().isDebugEnabled()) {
+            for (int index = 0; index < tagBuffer.size(); index++) {
+               getLogger().debug("Storing: gamma:[%s] tag:[%s]", tagBuffer.getGammaId(index), tagBuffer.getTag(index));
+            }
+         }
+         int batchSize = isCacheAll || cacheLimit <= 0 ? tagBuffer.size() : cacheLimit;
+         for (int from = 0; from < tagBuffer.size(); from += batchSize) {
+            int to = Math.min(tagBuffer.size(), from + batchSize);
+            updated += getJdbcClient().runBatchUpdate(connection, OseeDb.OSEE_SEARCH_TAGS_TABLE.getInsertSql(),
+               tagBuffer.asInsertData(from, to));
+         }
+      }
+      return updated;
+   }
+}
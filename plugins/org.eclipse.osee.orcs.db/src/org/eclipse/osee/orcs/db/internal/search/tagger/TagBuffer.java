@@ -0,0 +1,188 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.db.internal.search.tagger;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Growable buffer of (gamma id, coded tag) pairs held in primitive arrays until they are written to the search tag
+ * table. Tags are de-duplicated per gamma: {@link #startGamma(long)} begins a new gamma and {@link #add(long)} only
+ * keeps a tag the first time it is seen for that gamma.
+ *
+ * @author agent
+ */
+public final class TagBuffer {
+
+   private static final long EMPTY = 0L;
+   private static final int INITIAL_SEEN_CAPACITY = 64;
+
+   private long[] gammaIds;
+   private long[] tags;
+   private int size;
+
+   private long currentGamma;
+   private long[] seen = new long[INITIAL_SEEN_CAPACITY];
+   private int seenCount;
+   private boolean seenEmptyTag;
+
+   public TagBuffer(int initialCapacity) {
+      int capacity = Math.max(16, initialCapacity);
+      gammaIds = new long[capacity];
+      tags = new long[capacity];
+   }
+
+   public void startGamma(long gammaId) {
+      currentGamma = gammaId;
+      if (seen.length > INITIAL_SEEN_CAPACITY * 16) {
+         seen = new long[INITIAL_SEEN_CAPACITY];
+      } else if (seenCount > 0) {
+         Arrays.fill(seen, EMPTY);
+      }
+      seenCount = 0;
+      seenEmptyTag = false;
+   }
+
+   /**
+    * @return true if the tag had not yet been added for the current gamma
+    */
+   public boolean add(long codedTag) {
+      if (!markSeen(codedTag)) {
+         return false;
+      }
+      if (size == tags.length) {
+         int capacity = tags.length << 1;
+         gammaIds = Arrays.copyOf(gammaIds, capacity);
+         tags = Arrays.copyOf(tags, capacity);
+      }
+      gammaIds[size] = currentGamma;
+      tags[size] = codedTag;
+      size++;
+      return true;
+   }
+
+   private boolean markSeen(long codedTag) {
+      if (codedTag == EMPTY) {
+         boolean added = !seenEmptyTag;
+         seenEmptyTag = true;
+         return added;
+      }
+      if ((seenCount + 1) * 2 > seen.length) {
+         rehash(seen.length << 1);
+      }
+      int mask = seen.length - 1;
+      int index = mix(codedTag) & mask;
+      while (seen[index] != EMPTY) {
+         if (seen[index] == codedTag) {
+            return false;
+         }
+         index = (index + 1) & mask;
+      }
+      seen[index] = codedTag;
+      seenCount++;
+      return true;
+   }
+
+   private void rehash(int capacity) {
+      long[] previous = seen;
+      seen = new long[capacity];
+      int mask = capacity - 1;
+      for (long value : previous) {
+         if (value != EMPTY) {
+            int index = mix(value) & mask;
+            while (seen[index] != EMPTY) {
+               index = (index + 1) & mask;
+            }
+            seen[index] = value;
+         }
+      }
+   }
+
+   private static int mix(long value) {
+      long hash = value * 0x9E3779B97F4A7C15L;
+      return (int) (hash ^ (hash >>> 32));
+   }
+
+   /**
+    * Number of distinct tags added since the last call to {@link #startGamma(long)}
+    */
+   public int getGammaTagCount() {
+      return seenCount + (seenEmptyTag ? 1 : 0);
+   }
+
+   public int size() {
+      return size;
+   }
+
+   public boolean isEmpty() {
+      return size == 0;
+   }
+
+   public long getGammaId(int index) {
+      return gammaIds[index];
+   }
+
+   public long getTag(int index) {
+      return tags[index];
+   }
+
+   /**
+    * Empties the buffer while keeping the de-duplication state of the current gamma, so a gamma whose tags were
+    * flushed part way through does not store the same tag twice
+    */
+   public void clear() {
+      size = 0;
+   }
+
+   /**
+    * Rows of {coded tag, gamma id} in insertion order, matching the column order of the search tag insert statement.
+    * The rows are created while iterating rather than held in a list.
+    */
+   public Iterable<Object[]> asInsertData() {
+      return asInsertData(0, size);
+   }
+
+   /**
+    * @return the (tag, gamma id) rows from index <code>fromIndex</code> (inclusive) to <code>toIndex</code> (exclusive)
+    */
+   public Iterable<Object[]> asInsertData(int fromIndex, int toIndex) {
+      if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+         throw new IndexOutOfBoundsException("from [" + fromIndex + "] to [" + toIndex + "] size [" + size + "]");
+      }
+      return () -> new Iterator<Object[]>() {
+         private int index = fromIndex;
+
+         @Override
+         public boolean hasNext() {
+            return index < toIndex;
+         }
+
+         @Override
+         public Object[] next() {
+            if (index >= toIndex) {
+               throw new NoSuchElementException();
+            }
+            Object[] row = new Object[] {tags[index], gammaIds[index]};
+            index++;
+            return row;
+         }
+      };
+   }
+
+   @Override
+   public String toString() {
+      return "TagBuffer [size=" + size + ", currentGamma=" + currentGamma + ", gammaTags=" + getGammaTagCount() + "]";
+   }
+}
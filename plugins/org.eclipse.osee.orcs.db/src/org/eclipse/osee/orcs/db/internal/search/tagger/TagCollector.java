@@ -19,4 +19,12 @@ package org.eclipse.osee.orcs.db.internal.search.tagger;
 public interface TagCollector {
 
    public void addTag(String word, Long codedTag);
+
+   /**
+    * Called by {@link TagEncoder} for each coded tag; collectors on a hot path override this to avoid boxing the tag
+    * and creating a string for the word.
+    */
+   public default void addCodedTag(CharSequence word, long codedTag) {
+      addTag(word.toString(), codedTag);
+   }
 }
@@ -53,39 +53,56 @@ public class TagEncoder {
       'w',
       'y'};
 
+   private static final int UNKNOWN_CHAR_CODE = 0x3F;
+   private static final int SEPARATOR_CODE = -1;
+
+   /**
+    * Code for every char value below 128 (upper case letters share the code of their lower case form); all other chars
+    * encode as {@link #UNKNOWN_CHAR_CODE}
+    */
+   private static final int[] charCodes = new int[128];
+
+   static {
+      Arrays.fill(charCodes, UNKNOWN_CHAR_CODE);
+      for (int index = 0; index < tagChars.length; index++) {
+         char c = tagChars[index];
+         charCodes[c] = index;
+         if (c >= 'a' && c <= 'z') {
+            charCodes[c - 32] = index;
+         }
+      }
+      charCodes['\t'] = SEPARATOR_CODE;
+      charCodes['\n'] = SEPARATOR_CODE;
+      charCodes['\r'] = SEPARATOR_CODE;
+   }
+
    /**
     * Create a bit-packed tag that will fit in a 64-bit integer that can provide an extremely quick search mechanism for
     * for the first pass. The second pass will do a full text search to provide more exact matches. The tag will
     * represent up to 12 characters (all that can be stuffed into 64-bits). Longer search tags will be turned into
     * consecutive search tags
     */
-   public void encode(String text, TagCollector collector) {
+   public void encode(CharSequence text, TagCollector collector) {
       int tagBitsPos = 0;
       long tagBits = 0;
       for (int index = 0; index < text.length(); index++) {
          char c = text.charAt(index);
+         int code = c < 128 ? charCodes[c] : UNKNOWN_CHAR_CODE;
 
-         if (c == '\t' || c == '\n' || c == '\r' || tagBitsPos == 60) {
+         if (code == SEPARATOR_CODE || tagBitsPos == 60) {
             if (tagBitsPos > 10) {
-               collector.addTag(text, tagBits);
+               collector.addCodedTag(text, tagBits);
             }
             tagBits = 0;
             tagBitsPos = 0;
          } else {
-            if (c >= 'A' && c <= 'Z') {
-               c += 32;
-            }
-            int pos = Arrays.binarySearch(tagChars, c);
-            if (pos < 0) {
-               tagBits |= 0x3F << (long) tagBitsPos;
-            } else {
-               tagBits |= pos << (long) tagBitsPos;
-            }
+            // int shift (distance taken mod 32, result sign extended) to stay compatible with previously stored tags
+            tagBits |= code << tagBitsPos;
             tagBitsPos += 4;
          }
       }
       if (tagBits != 0) {
-         collector.addTag(text, tagBits);
+         collector.addCodedTag(text, tagBits);
       }
    }
 
@@ -13,8 +13,13 @@
 
 package org.eclipse.osee.orcs.db.internal.search.tagger;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.Scanner;
+import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
 import org.eclipse.osee.framework.jdk.core.util.Strings;
 import org.eclipse.osee.orcs.db.internal.search.util.WordsUtil;
 
@@ -33,23 +38,52 @@ public class TagProcessor {
 
    public void collectFromString(String value, TagCollector tagCollector) {
       if (Strings.isValid(value)) {
-         Scanner scanner = new Scanner(value);
-         while (scanner.hasNext()) {
-            processWord(scanner.next(), tagCollector);
+         int wordStart = -1;
+         for (int index = 0; index < value.length(); index++) {
+            if (Character.isWhitespace(value.charAt(index))) {
+               if (wordStart >= 0) {
+                  processWord(value.substring(wordStart, index), tagCollector);
+                  wordStart = -1;
+               }
+            } else if (wordStart < 0) {
+               wordStart = index;
+            }
+         }
+         if (wordStart >= 0) {
+            processWord(value.substring(wordStart), tagCollector);
          }
-         scanner.close();
       }
    }
 
+   /**
+    * Splits the UTF-8 stream on white space the same way a {@link Scanner} with its default delimiter would, without
+    * the regular expression matching per token
+    */
    public void collectFromInputStream(InputStream inputStream, TagCollector tagCollector) {
       if (inputStream != null) {
-         Scanner scanner = new Scanner(inputStream, "UTF-8");
+         Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+         char[] buffer = new char[8192];
+         StringBuilder word = new StringBuilder(64);
          try {
-            while (scanner.hasNext()) {
-               processWord(scanner.next(), tagCollector);
+            int count;
+            while ((count = reader.read(buffer)) != -1) {
+               for (int index = 0; index < count; index++) {
+                  char c = buffer[index];
+                  if (Character.isWhitespace(c)) {
+                     if (word.length() > 0) {
+                        processWord(word.toString(), tagCollector);
+                        word.setLength(0);
+                     }
+                  } else {
+                     word.append(c);
+                  }
+               }
+            }
+            if (word.length() > 0) {
+               processWord(word.toString(), tagCollector);
             }
-         } finally {
-            scanner.close();
+         } catch (IOException ex) {
+            throw new OseeCoreException(ex, "Unable to read tag source");
          }
       }
    }
@@ -80,7 +80,7 @@ public class WordsUtil {
 
    public static String[] splitOnPunctuation(String original) {
       List<String> toReturn = new ArrayList<>();
-      StringBuffer buffer = new StringBuffer();
+      StringBuilder buffer = new StringBuilder();
       for (int index = 0; index < original.length(); index++) {
          char c = original.charAt(index);
          int pos = Arrays.binarySearch(PUNCTUATION, c);
@@ -36,6 +36,7 @@ import org.eclipse.osee.orcs.core.ds.QueryData;
 import org.eclipse.osee.orcs.db.internal.search.handlers.GetReferenceDetailsHandler;
 import org.eclipse.osee.orcs.db.internal.sql.join.AbstractJoinQuery;
 import org.eclipse.osee.orcs.db.internal.sql.join.CharJoinQuery;
+import org.eclipse.osee.orcs.db.internal.sql.join.Id4JoinQuery;
 import org.eclipse.osee.orcs.db.internal.sql.join.IdJoinQuery;
 import org.eclipse.osee.orcs.db.internal.sql.join.SqlJoinFactory;
 
@@ -479,13 +480,36 @@ public abstract class AbstractSqlWriter implements HasOptions {
 
    public String addTable(SqlTable table, ObjectType objectType) {
       String alias = getNextAlias(table.getPrefix(), objectType);
-      getTableEntries().add(String.format("%s %s", table.getName(), alias));
+      addTableEntry(String.format("%s %s", table.getName(), alias), alias);
+      return alias;
+   }
+
+   /**
+    * Adds the osee_join_id4 table for the given join, or when the join is parameter bound, an unnest of its id arrays
+    * aliased as if it were the join table. Must be called from addTables so the array parameters precede those of the
+    * predicates.
+    */
+   public String addTable(Id4JoinQuery join) {
+      if (!join.isParameterBound()) {
+         return addTable(OseeDb.OSEE_JOIN_ID4_TABLE);
+      }
+      String alias = getNextAlias(OseeDb.OSEE_JOIN_ID4_TABLE.getPrefix(), OseeDb.OSEE_JOIN_ID4_TABLE.getObjectType());
+      long[][] columns = join.getParameterColumns();
+      String unnest = jdbcClient.getDbType().getUnnestSql(columns.length);
+      addTableEntry(String.format("%s AS %s (id1, id2, id3, id4)", unnest, alias), alias);
+      for (long[] column : columns) {
+         addParameter(column);
+      }
+      return alias;
+   }
+
+   private void addTableEntry(String tableEntry, String alias) {
+      getTableEntries().add(tableEntry);
       if (multiTableHintParameter.length() > 0) {
          multiTableHintParameter = multiTableHintParameter + " " + alias;
       } else {
          multiTableHintParameter = alias;
       }
-      return alias;
    }
 
    public String getMultiTableHintParameter() {
@@ -570,6 +594,17 @@ public abstract class AbstractSqlWriter implements HasOptions {
       writeAnd();
    }
 
+   /**
+    * Writes the query_id predicate for a join added with {@link #addTable(Id4JoinQuery)}, preceded by AND. Nothing is
+    * written for parameter bound joins since their rows are already restricted to the join's entries.
+    */
+   public void writeAndQueryId(String joinAlias, Id4JoinQuery join) {
+      if (!join.isParameterBound()) {
+         writeAnd();
+         writeEqualsParameter(joinAlias, "query_id", join.getQueryId());
+      }
+   }
+
    protected void addJoin(AbstractJoinQuery join) {
       getContext().getJoins().add(join);
    }
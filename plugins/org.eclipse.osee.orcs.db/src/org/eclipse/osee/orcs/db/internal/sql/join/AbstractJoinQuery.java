@@ -38,7 +38,7 @@ public abstract class AbstractJoinQuery implements AutoCloseable {
    private final Long queryId;
    private final JdbcClient jdbcClient;
    private final JdbcConnection connection;
-   private final OseePreparedStatement addressing;
+   private OseePreparedStatement addressing;
    private boolean wasStored;
 
    protected AbstractJoinQuery(JoinItem joinItem, JdbcClient jdbcClient, JdbcConnection connection) {
@@ -46,7 +46,13 @@ public abstract class AbstractJoinQuery implements AutoCloseable {
       this.queryId = random.nextLong();
       this.jdbcClient = jdbcClient;
       this.connection = connection;
-      this.addressing = jdbcClient.getBatchStatement(connection, joinItem.getInsertSql());
+   }
+
+   private OseePreparedStatement getAddressing() {
+      if (addressing == null) {
+         addressing = jdbcClient.getBatchStatement(connection, joinItem.getInsertSql());
+      }
+      return addressing;
    }
 
    public boolean isEmpty() {
@@ -54,7 +60,7 @@ public abstract class AbstractJoinQuery implements AutoCloseable {
    }
 
    public int size() {
-      return addressing.size();
+      return addressing == null ? 0 : addressing.size();
    }
 
    public Long getQueryId() {
@@ -65,15 +71,23 @@ public abstract class AbstractJoinQuery implements AutoCloseable {
       return wasStored;
    }
 
+   /**
+    * @return true when the entries are bound directly as statement parameters instead of being inserted into the join
+    * table; in that case store() and close() do not touch the database
+    */
+   public boolean isParameterBound() {
+      return false;
+   }
+
    public void store() {
       if (wasStored) {
          throw new OseeCoreException("Cannot store query id twice");
-      } else {
+      } else if (!isParameterBound()) {
          jdbcClient.runPreparedUpdate(connection, OseeDb.OSEE_JOIN_CLEANUP_TABLE.getInsertSql(), queryId,
             joinItem.getJoinTableName(), getIssuedAt(), DEFAULT_JOIN_EXPIRATION_SECONDS);
-         addressing.execute();
-         wasStored = true;
+         getAddressing().execute();
       }
+      wasStored = true;
    }
 
    private Long getIssuedAt() {
@@ -82,10 +96,13 @@ public abstract class AbstractJoinQuery implements AutoCloseable {
 
    @Override
    public void close() {
+      if (isParameterBound()) {
+         return;
+      }
       if (wasStored) {
          jdbcClient.runPreparedUpdate(connection, joinItem.getDeleteSql(), queryId);
          jdbcClient.runPreparedUpdate(connection, DELETE_FROM_JOIN_CLEANUP, queryId);
-      } else {
+      } else if (addressing != null) {
          addressing.close();
       }
    }
@@ -103,20 +120,20 @@ public abstract class AbstractJoinQuery implements AutoCloseable {
    }
 
    protected void addToBatch(Object obj1) {
-      addressing.addToBatch(queryId, obj1);
+      getAddressing().addToBatch(queryId, obj1);
    }
 
    protected void addToBatch(Object obj1, Object obj2) {
-      addressing.addToBatch(queryId, obj1, obj2);
+      getAddressing().addToBatch(queryId, obj1, obj2);
    }
 
    protected void addToBatch(Object obj1, Object obj2, Object obj3, Object obj4) {
-      addressing.addToBatch(queryId, obj1, obj2, obj3, obj4);
+      getAddressing().addToBatch(queryId, obj1, obj2, obj3, obj4);
    }
 
    public void addAll(Iterable<?> values) {
       for (Object value : values) {
-         addressing.addToBatch(queryId, value);
+         getAddressing().addToBatch(queryId, value);
       }
    }
 
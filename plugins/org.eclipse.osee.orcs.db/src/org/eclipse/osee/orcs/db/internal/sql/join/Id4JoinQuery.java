@@ -13,35 +13,114 @@
 
 package org.eclipse.osee.orcs.db.internal.sql.join;
 
+import java.util.Arrays;
 import org.eclipse.osee.framework.core.data.ArtifactId;
 import org.eclipse.osee.framework.core.data.TransactionId;
 import org.eclipse.osee.framework.core.enums.JoinItem;
 import org.eclipse.osee.framework.jdk.core.type.Id;
+import org.eclipse.osee.framework.jdk.core.type.OseeStateException;
 import org.eclipse.osee.jdbc.JdbcClient;
 import org.eclipse.osee.jdbc.JdbcConnection;
 
 /**
+ * When created with a maximum array size greater than zero, entries are buffered in memory and bound to the load
+ * statement as four bigint arrays (see {@link org.eclipse.osee.jdbc.JdbcDbType#getUnnestSql(int)}) so that no rows are
+ * written to osee_join_id4. Once the maximum is exceeded the buffered entries are spilled to the join table and the
+ * query behaves as a regular join.
+ *
  * @author Morgan E. Cook
  */
 public class Id4JoinQuery extends AbstractJoinQuery {
+   private static final int INITIAL_ARRAY_CAPACITY = 64;
+
+   private final int maxArraySize;
+   private long[][] columns;
+   private int arraySize;
+
    public Id4JoinQuery(JdbcClient jdbcClient, JdbcConnection connection) {
+      this(jdbcClient, connection, 0);
+   }
+
+   public Id4JoinQuery(JdbcClient jdbcClient, JdbcConnection connection, int maxArraySize) {
       super(JoinItem.ID4, jdbcClient, connection);
+      this.maxArraySize = maxArraySize;
+      if (maxArraySize > 0) {
+         columns = new long[4][INITIAL_ARRAY_CAPACITY];
+      }
    }
 
    public void add(Id id_1, Id id_2, Id id_3, Id id_4) {
-      addToBatch(id_1, id_2, id_3, id_4);
+      addRow(id_1.getId(), id_2.getId(), id_3.getId(), id_4.getId());
    }
 
    public void add(Id id_1, Id id_2, Id id_3, int id_4) {
-      addToBatch(id_1, id_2, id_3, id_4);
+      addRow(id_1.getId(), id_2.getId(), id_3.getId(), id_4);
    }
 
    public void add(Id id_1, Id id_2, Id id_3) {
-      addToBatch(id_1, id_2, id_3, ArtifactId.SENTINEL);
+      addRow(id_1.getId(), id_2.getId(), id_3.getId(), ArtifactId.SENTINEL.getId());
 
    }
 
    public void add(Id id_1, Id id_2) {
-      addToBatch(id_1, id_2, TransactionId.SENTINEL, ArtifactId.SENTINEL);
+      addRow(id_1.getId(), id_2.getId(), TransactionId.SENTINEL.getId(), ArtifactId.SENTINEL.getId());
+   }
+
+   public void add(long id_1, long id_2, long id_3, long id_4) {
+      addRow(id_1, id_2, id_3, id_4);
+   }
+
+   private void addRow(long id1, long id2, long id3, long id4) {
+      if (columns != null) {
+         if (arraySize < maxArraySize) {
+            if (arraySize == columns[0].length) {
+               int newCapacity = Math.min(maxArraySize, arraySize * 2);
+               for (int i = 0; i < columns.length; i++) {
+                  columns[i] = Arrays.copyOf(columns[i], newCapacity);
+               }
+            }
+            columns[0][arraySize] = id1;
+            columns[1][arraySize] = id2;
+            columns[2][arraySize] = id3;
+            columns[3][arraySize] = id4;
+            arraySize++;
+            return;
+         }
+         spillToJoinTable();
+      }
+      addToBatch(id1, id2, id3, id4);
+   }
+
+   private void spillToJoinTable() {
+      long[][] buffered = columns;
+      columns = null;
+      for (int i = 0; i < arraySize; i++) {
+         addToBatch(buffered[0][i], buffered[1][i], buffered[2][i], buffered[3][i]);
+      }
+      arraySize = 0;
+   }
+
+   @Override
+   public boolean isParameterBound() {
+      return columns != null;
+   }
+
+   @Override
+   public int size() {
+      return isParameterBound() ? arraySize : super.size();
+   }
+
+   /**
+    * @return the id1, id2, id3 and id4 columns, each trimmed to {@link #size()}, to be bound in that order
+    */
+   public long[][] getParameterColumns() {
+      if (!isParameterBound()) {
+         throw new OseeStateException("Join query [%s] is not parameter bound", getQueryId());
+      }
+      long[][] toReturn = new long[columns.length][];
+      for (int i = 0; i < columns.length; i++) {
+         toReturn[i] = Arrays.copyOf(columns[i], arraySize);
+      }
+      return toReturn;
    }
 }
@@ -13,77 +13,119 @@
 
 package org.eclipse.osee.orcs.db.internal.sql.join;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.eclipse.osee.jdbc.JdbcClient;
-import org.eclipse.osee.jdbc.JdbcStatement;
-import org.eclipse.osee.jdbc.OseePreparedStatement;
 import org.eclipse.osee.logger.Log;
 
 /**
- * If -1 is found in the expires_in column, it means never expire.
+ * Removes expired join entries one table at a time. Expired query ids are walked in query_id order in chunks of at most
+ * batchSize ids; each chunk is removed with a single set-based delete against the join table followed by one against
+ * osee_join_cleanup, so a backlog of abandoned joins costs a handful of statements per chunk rather than one per query
+ * id. A run stops once its time budget is spent and the remainder is picked up by the next run. If -1 is found in the
+ * expires_in column, it means never expire.
  *
  * @author Roberto E. Escobar
  */
 public class JoinCleanerCallable implements Runnable {
-   private final static String DELETE_JOIN_CLEANUP = "DELETE FROM osee_join_cleanup WHERE query_id = ?";
-   private final static String SELECT_FROM_JOIN_CLEANUP = "SELECT * from osee_join_cleanup order by table_name";
+   private static final int DEFAULT_BATCH_SIZE = 1000;
+   private static final long DEFAULT_TIME_BUDGET_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+   private static final String EXPIRED = "expires_in <> -1 AND issued_at + expires_in < ?";
+
+   private static final String SELECT_EXPIRED_TABLES =
+      "SELECT DISTINCT table_name FROM osee_join_cleanup WHERE " + EXPIRED;
+
+   private static final String SELECT_EXPIRED_QUERY_IDS =
+      "SELECT query_id FROM osee_join_cleanup WHERE table_name = ? AND query_id > ? AND " + EXPIRED + " ORDER BY query_id";
+
+   private static final String EXPIRED_IN_RANGE =
+      "SELECT query_id FROM osee_join_cleanup WHERE table_name = ? AND query_id BETWEEN ? AND ? AND " + EXPIRED;
+
+   private static final String DELETE_JOIN_ROWS = "DELETE FROM %s WHERE query_id IN (" + EXPIRED_IN_RANGE + ")";
+
+   private static final String DELETE_JOIN_CLEANUP =
+      "DELETE FROM osee_join_cleanup WHERE table_name = ? AND query_id BETWEEN ? AND ? AND " + EXPIRED;
 
    private final Log logger;
    private final JdbcClient jdbcClient;
-   private String previousTableName;
-   private long currentTime;
-   private OseePreparedStatement joinDelete;
-   private OseePreparedStatement cleanupDelete;
+   private final int batchSize;
+   private final long timeBudgetMillis;
+   private final Map<String, AtomicLong> reclaimedRows = new ConcurrentHashMap<>();
 
    public JoinCleanerCallable(Log logger, JdbcClient jdbcClient) {
-      this.logger = logger;
-      this.jdbcClient = jdbcClient;
+      this(logger, jdbcClient, DEFAULT_BATCH_SIZE, DEFAULT_TIME_BUDGET_MILLIS);
    }
 
-   private boolean isExpired(long issuedAt, long lifetime, long currentTime) {
-      return lifetime != -1 && issuedAt + lifetime < currentTime;
+   public JoinCleanerCallable(Log logger, JdbcClient jdbcClient, int batchSize, long timeBudgetMillis) {
+      this.logger = logger;
+      this.jdbcClient = jdbcClient;
+      this.batchSize = batchSize;
+      this.timeBudgetMillis = timeBudgetMillis;
    }
 
-   private void resetForNextCall() {
-      previousTableName = "";
-      currentTime = System.currentTimeMillis() / 1000;
-      joinDelete = null;
-      cleanupDelete = jdbcClient.getBatchStatement(DELETE_JOIN_CLEANUP);
+   /**
+    * @return total join table rows reclaimed by this cleaner since it was created, keyed by join table name
+    */
+   public Map<String, Long> getReclaimedRows() {
+      Map<String, Long> toReturn = new TreeMap<>();
+      reclaimedRows.forEach((table, count) -> toReturn.put(table, count.get()));
+      return toReturn;
    }
 
    @Override
    public void run() {
+      long currentTime = System.currentTimeMillis() / 1000;
+      long deadline = System.currentTimeMillis() + timeBudgetMillis;
+      Map<String, Long> reclaimedThisRun = new TreeMap<>();
       try {
-         resetForNextCall();
-         try {
-            jdbcClient.runQuery(this::processRow, SELECT_FROM_JOIN_CLEANUP);
-         } finally {
-            cleanupDelete.execute();
-            if (joinDelete != null) {
-               joinDelete.execute();
+         List<String> tableNames = new ArrayList<>();
+         jdbcClient.runQuery(stmt -> tableNames.add(stmt.getString("table_name")), SELECT_EXPIRED_TABLES,
+            currentTime);
+         Collections.sort(tableNames);
+
+         for (String tableName : tableNames) {
+            long reclaimed = cleanTable(tableName, currentTime, deadline);
+            reclaimedRows.computeIfAbsent(tableName, key -> new AtomicLong()).addAndGet(reclaimed);
+            reclaimedThisRun.put(tableName, reclaimed);
+            if (System.currentTimeMillis() >= deadline) {
+               logger.info("Join cleanup time budget of [%s] ms reached; remaining expired joins deferred to next run",
+                  timeBudgetMillis);
+               break;
             }
          }
       } catch (Exception ex) {
          logger.error(ex, "Error cleaning join tables");
+      } finally {
+         if (!reclaimedThisRun.isEmpty()) {
+            logger.info("Join cleanup reclaimed rows per table %s", reclaimedThisRun);
+         }
       }
    }
 
-   private void processRow(JdbcStatement stmt) {
-      long issuedAt = stmt.getLong("issued_at");
-      long expiresIn = stmt.getLong("expires_in");
-
-      if (isExpired(issuedAt, expiresIn, currentTime)) {
-         String tableName = stmt.getString("table_name");
-         if (!tableName.equals(previousTableName)) {
-            if (joinDelete != null) {
-               joinDelete.execute();
-            }
-            joinDelete = jdbcClient.getBatchStatement("DELETE FROM " + tableName + " WHERE query_id = ?");
-            previousTableName = tableName;
+   private long cleanTable(String tableName, long currentTime, long deadline) {
+      String deleteJoinRows = String.format(DELETE_JOIN_ROWS, tableName);
+      long reclaimed = 0;
+      long lastQueryId = Long.MIN_VALUE;
+      List<Long> chunk = new ArrayList<>(batchSize);
+      do {
+         chunk.clear();
+         jdbcClient.runQueryWithLimit(stmt -> chunk.add(stmt.getLong("query_id")), batchSize, SELECT_EXPIRED_QUERY_IDS,
+            tableName, lastQueryId, currentTime);
+         if (!chunk.isEmpty()) {
+            long firstId = chunk.get(0);
+            long lastId = chunk.get(chunk.size() - 1);
+            reclaimed += jdbcClient.runPreparedUpdate(deleteJoinRows, tableName, firstId, lastId, currentTime);
+            jdbcClient.runPreparedUpdate(DELETE_JOIN_CLEANUP, tableName, firstId, lastId, currentTime);
+            lastQueryId = lastId;
          }
-
-         Long queryId = stmt.getLong("query_id");
-         joinDelete.addToBatch(queryId);
-         cleanupDelete.addToBatch(queryId);
-      }
+      } while (chunk.size() == batchSize && System.currentTimeMillis() < deadline);
+      return reclaimed;
    }
-}
\ No newline at end of file
+}
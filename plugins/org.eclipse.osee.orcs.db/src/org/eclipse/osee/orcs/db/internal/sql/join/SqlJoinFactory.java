@@ -13,6 +13,8 @@
 
 package org.eclipse.osee.orcs.db.internal.sql.join;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.eclipse.osee.framework.core.executor.ExecutorAdmin;
 import org.eclipse.osee.jdbc.JdbcClient;
@@ -27,10 +29,12 @@ public class SqlJoinFactory {
 
    public static final String JOIN_CLEANER__EXECUTOR_ID = "join.cleaner.executor.id";
    private static final long DEFAULT_JOIN_CLEANER__PERIOD_MINUTES = 60L; // 60 minutes;
+   private static final int DEFAULT_ARRAY_BINDING__MAX_IDS = 10000;
 
    private Log logger;
    private JdbcClient jdbcClient;
    private ExecutorAdmin executorAdmin;
+   private JoinCleanerCallable joinCleaner;
 
    public void setLogger(Log logger) {
       this.logger = logger;
@@ -45,8 +49,8 @@ public class SqlJoinFactory {
    }
 
    public void start() throws Exception {
-      Runnable runnable = new JoinCleanerCallable(logger, jdbcClient);
-      executorAdmin.scheduleAtFixedRate(JOIN_CLEANER__EXECUTOR_ID, runnable, DEFAULT_JOIN_CLEANER__PERIOD_MINUTES,
+      joinCleaner = new JoinCleanerCallable(logger, jdbcClient);
+      executorAdmin.scheduleAtFixedRate(JOIN_CLEANER__EXECUTOR_ID, joinCleaner, DEFAULT_JOIN_CLEANER__PERIOD_MINUTES,
          DEFAULT_JOIN_CLEANER__PERIOD_MINUTES, TimeUnit.MINUTES);
    }
 
@@ -56,6 +60,13 @@ public class SqlJoinFactory {
       }
    }
 
+   /**
+    * @return rows reclaimed from each join table by the scheduled join cleaner since this factory was started
+    */
+   public Map<String, Long> getJoinCleanupReclaimedRows() {
+      return joinCleaner == null ? Collections.emptyMap() : joinCleaner.getReclaimedRows();
+   }
+
    public IdJoinQuery createIdJoinQuery() {
       return createIdJoinQuery(null);
    }
@@ -72,6 +83,16 @@ public class SqlJoinFactory {
       return new Id4JoinQuery(jdbcClient, connection);
    }
 
+   /**
+    * Creates the join used to drive artifact loads. When the database supports array binding, up to
+    * DEFAULT_ARRAY_BINDING__MAX_IDS entries are bound as statement parameters instead of being written to the join
+    * table; larger sets fall back to osee_join_id4.
+    */
+   public Id4JoinQuery createArtifactLoadJoinQuery() {
+      int maxArraySize = jdbcClient.getDbType().isArrayBindingSupported() ? DEFAULT_ARRAY_BINDING__MAX_IDS : 0;
+      return new Id4JoinQuery(jdbcClient, null, maxArraySize);
+   }
+
    public TagQueueJoinQuery createTagQueueJoinQuery() {
       return createTagQueueJoinQuery(null);
    }
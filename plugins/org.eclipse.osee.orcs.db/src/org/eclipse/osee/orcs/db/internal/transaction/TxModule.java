@@ -38,6 +38,7 @@ import org.eclipse.osee.orcs.db.internal.callable.SetTransactionTxCallable;
 import org.eclipse.osee.orcs.db.internal.health.PurgeUnusedBackingDataAndTransactions;
 import org.eclipse.osee.orcs.db.internal.sql.join.SqlJoinFactory;
 import org.eclipse.osee.orcs.search.QueryFactory;
+import org.eclipse.osee.orcs.statistics.TransactionStatistics;
 
 /**
  * @author Roberto E. Escobar
@@ -49,6 +50,7 @@ public class TxModule {
    private final SqlJoinFactory sqlJoinFactory;
    private final IdentityManager idManager;
    private final ActivityLog activityLog;
+   private final TxWriteStatistics statistics = new TxWriteStatistics();
    private static final String UPDATE_TRANSACTION_COMMIT_ART_ID =
       "UPDATE osee_tx_details SET commit_art_id = ? WHERE transaction_id = ?";
 
@@ -69,7 +71,7 @@ public class TxModule {
 
          @Override
          public Callable<TransactionResult> commitTransaction(OrcsSession session, TransactionData data) {
-            TxSqlBuilderImpl builder = new TxSqlBuilderImpl(sqlJoinFactory, idManager, jdbcClient);
+            TxSqlBuilderImpl builder = new TxSqlBuilderImpl(sqlJoinFactory, idManager, jdbcClient, statistics);
             TransactionWriter writer = new TransactionWriter(logger, jdbcClient, builder);
             return new CommitTransactionDatabaseTxCallable(logger, session, jdbcClient, idManager, processors, writer,
                data);
@@ -115,6 +117,16 @@ public class TxModule {
             ArtifactId artifact, BranchId branch) {
             return new LoadArtifactHistory(logger, session, queryFactory, tokenService, jdbcClient, artifact, branch);
          }
+
+         @Override
+         public TransactionStatistics getStatistics() {
+            return statistics;
+         }
+
+         @Override
+         public void clearStatistics() {
+            statistics.clear();
+         }
       };
    }
 }
\ No newline at end of file
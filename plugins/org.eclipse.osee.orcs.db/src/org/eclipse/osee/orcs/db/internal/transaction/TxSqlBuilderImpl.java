@@ -16,6 +16,7 @@ package org.eclipse.osee.orcs.db.internal.transaction;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -46,6 +47,7 @@ import org.eclipse.osee.orcs.core.ds.DataProxy;
 import org.eclipse.osee.orcs.core.ds.OrcsChangeSet;
 import org.eclipse.osee.orcs.core.ds.OrcsData;
 import org.eclipse.osee.orcs.core.ds.OrcsVisitor;
+import org.eclipse.osee.orcs.core.ds.OrcsVisitorAdapter;
 import org.eclipse.osee.orcs.core.ds.RelationData;
 import org.eclipse.osee.orcs.core.ds.TupleData;
 import org.eclipse.osee.orcs.core.ds.VersionData;
@@ -57,24 +59,47 @@ import org.eclipse.osee.orcs.db.internal.sql.join.SqlJoinFactory;
 import org.eclipse.osee.orcs.db.internal.transaction.TransactionWriter.SqlOrderEnum;
 
 /**
+ * Before visiting the change set, the existing applicability of deleted tuples and branch categories and the existing
+ * gamma of changed relations are gathered and resolved together, with one join query per table once there are enough
+ * of them, rather than with a select per item while the rows are built.
+ *
  * @author Roberto E. Escobar
  */
 public class TxSqlBuilderImpl implements OrcsVisitor, TxSqlBuilder {
 
+   private static final String SELECT_APPLICABILITY =
+      "SELECT app_id from osee_txs where branch_id = ? and gamma_id = ?";
+
+   private static final String SELECT_APPLICABILITY_BY_GAMMA_JOIN =
+      "SELECT txs.gamma_id, txs.app_id FROM osee_join_id jid, osee_txs txs WHERE jid.query_id = ? AND txs.gamma_id = jid.id AND txs.branch_id = ?";
+
+   private static final String SELECT_RELATION_GAMMA_BY_JOIN =
+      "SELECT rel.rel_type, rel.a_art_id, rel.b_art_id, rel.rel_order, rel.rel_art_id, rel.gamma_id FROM osee_join_id4 jid, osee_relation rel WHERE jid.query_id = ? AND rel.rel_type = jid.id1 AND rel.a_art_id = jid.id2 AND rel.b_art_id = jid.id3 AND rel.rel_order = jid.id4";
+
+   /**
+    * Statements needed to resolve lookups through a join: registering and filling the join, the query itself, and
+    * deleting the join rows and their cleanup entry. Smaller sets of lookups are issued one at a time.
+    */
+   private static final int JOIN_ROUND_TRIPS = 5;
+
    private final SqlJoinFactory sqlJoinFactory;
    private final IdentityManager idManager;
    private final JdbcClient jdbcClient;
+   private final TxWriteStatistics statistics;
 
    private TransactionToken txId;
    private List<DataProxy<?>> binaryStores;
    private HashCollection<SqlOrderEnum, Object[]> dataItemInserts;
    private Map<SqlOrderEnum, IdJoinQuery> txNotCurrentsJoin;
    private Map<SqlOrderEnum, Id4JoinQuery> txNotCurrentsJoin4;
+   private Map<GammaId, ApplicabilityId> applicabilities;
+   private Map<RelationKey, GammaId> relationGammas;
 
-   public TxSqlBuilderImpl(SqlJoinFactory sqlJoinFactory, IdentityManager idManager, JdbcClient jdbcClient) {
+   public TxSqlBuilderImpl(SqlJoinFactory sqlJoinFactory, IdentityManager idManager, JdbcClient jdbcClient, TxWriteStatistics statistics) {
       this.sqlJoinFactory = sqlJoinFactory;
       this.idManager = idManager;
       this.jdbcClient = jdbcClient;
+      this.statistics = statistics;
       clear();
    }
 
@@ -108,6 +133,8 @@ public class TxSqlBuilderImpl implements OrcsVisitor, TxSqlBuilder {
       dataItemInserts = null;
       txNotCurrentsJoin = null;
       binaryStores = null;
+      applicabilities = null;
+      relationGammas = null;
    }
 
    @Override
@@ -117,12 +144,74 @@ public class TxSqlBuilderImpl implements OrcsVisitor, TxSqlBuilder {
       dataItemInserts = new HashCollection<>();
       txNotCurrentsJoin = new HashMap<>();
       txNotCurrentsJoin4 = new HashMap<>();
+      applicabilities = new HashMap<>();
+      relationGammas = new HashMap<>();
+
+      resolveLookups(tx.getBranch(), changeSet);
 
       addRow(SqlOrderEnum.TXS_DETAIL, tx.getBranch(), txId, tx.getAuthor(), tx.getDate(), tx.getComment(),
          tx.getTxType(), -1, OseeCodeVersion.getVersionId());
       changeSet.accept(this);
    }
 
+   private void resolveLookups(BranchId branch, OrcsChangeSet changeSet) {
+      LookupCollector collector = new LookupCollector(branch);
+      changeSet.accept(collector);
+      int roundTrips = resolveApplicabilities(branch, collector.gammas) + resolveRelationGammas(collector.relations);
+      statistics.record(collector.lookups, roundTrips);
+   }
+
+   private int resolveApplicabilities(BranchId branch, Set<GammaId> gammas) {
+      if (gammas.size() <= JOIN_ROUND_TRIPS) {
+         for (GammaId gammaId : gammas) {
+            applicabilities.put(gammaId, jdbcClient.fetch(ApplicabilityId.SENTINEL, SELECT_APPLICABILITY, branch, gammaId));
+         }
+         return gammas.size();
+      }
+      IdJoinQuery join = createJoin();
+      try {
+         for (GammaId gammaId : gammas) {
+            join.add(gammaId);
+         }
+         join.store();
+         jdbcClient.runQuery(stmt -> applicabilities.putIfAbsent(GammaId.valueOf(stmt.getLong("gamma_id")),
+            ApplicabilityId.valueOf(stmt.getLong("app_id"))), SELECT_APPLICABILITY_BY_GAMMA_JOIN, join.getQueryId(),
+            branch);
+      } finally {
+         join.close();
+      }
+      return JOIN_ROUND_TRIPS;
+   }
+
+   private int resolveRelationGammas(Set<RelationKey> relations) {
+      if (relations.size() <= JOIN_ROUND_TRIPS) {
+         for (RelationKey key : relations) {
+            GammaId gammaId = GammaId.valueOf(jdbcClient.fetch(0L,
+               OseeSql.SELECT_RELATION_GAMMA_RT_A_ART_B_ART_ORDER_REL_ART.getSql(), key.relationType, key.artifactA,
+               key.artifactB, key.relOrder, key.relationArtifact));
+            relationGammas.put(key, gammaId);
+         }
+         return relations.size();
+      }
+      Id4JoinQuery join = create4Join();
+      try {
+         for (RelationKey key : relations) {
+            join.add(key.relationType, key.artifactA, key.artifactB, key.relOrder);
+         }
+         join.store();
+         jdbcClient.runQuery(stmt -> {
+            RelationKey key = new RelationKey(stmt.getLong("rel_type"), stmt.getLong("a_art_id"),
+               stmt.getLong("b_art_id"), stmt.getInt("rel_order"), stmt.getLong("rel_art_id"));
+            if (relations.contains(key)) {
+               relationGammas.putIfAbsent(key, GammaId.valueOf(stmt.getLong("gamma_id")));
+            }
+         }, SELECT_RELATION_GAMMA_BY_JOIN, join.getQueryId());
+      } finally {
+         join.close();
+      }
+      return JOIN_ROUND_TRIPS;
+   }
+
    @Override
    public void visit(ArtifactData data) {
       boolean isOtherChange =
@@ -211,8 +300,7 @@ public class TxSqlBuilderImpl implements OrcsVisitor, TxSqlBuilder {
    }
 
    private void deleteTuple(BranchId branch, SqlOrderEnum tupleTable, GammaId gammaId) {
-      ApplicabilityId applicability = jdbcClient.fetch(ApplicabilityId.SENTINEL,
-         "SELECT app_id from osee_txs where branch_id = ? and gamma_id = ?", branch, gammaId);
+      ApplicabilityId applicability = getApplicability(branch, gammaId);
       if (applicability.isInvalid()) {
          throw new ItemDoesNotExist("Tuple not found on branch [%s] with gammaId [%s]", branch, gammaId);
       }
@@ -229,8 +317,7 @@ public class TxSqlBuilderImpl implements OrcsVisitor, TxSqlBuilder {
 
    @Override
    public void deleteBranchCategory(BranchId branch, GammaId gammaId) {
-      ApplicabilityId applicability = jdbcClient.fetch(ApplicabilityId.SENTINEL,
-         "SELECT app_id from osee_txs where branch_id = ? and gamma_id = ?", branch, gammaId);
+      ApplicabilityId applicability = getApplicability(branch, gammaId);
 
       addRow(SqlOrderEnum.TXS, txId, gammaId, ModificationType.DELETED, TxCurrent.DELETED, branch, applicability);
 
@@ -243,6 +330,13 @@ public class TxSqlBuilderImpl implements OrcsVisitor, TxSqlBuilder {
 
    }
 
+   private ApplicabilityId getApplicability(BranchId branch, GammaId gammaId) {
+      if (txId.getBranch().equals(branch)) {
+         return applicabilities.getOrDefault(gammaId, ApplicabilityId.SENTINEL);
+      }
+      return jdbcClient.fetch(ApplicabilityId.SENTINEL, SELECT_APPLICABILITY, branch, gammaId);
+   }
+
    @Override
    public void visit(BranchCategoryData data) {
       updateTxValues(data);
@@ -277,10 +371,7 @@ public class TxSqlBuilderImpl implements OrcsVisitor, TxSqlBuilder {
             if (data.getVersion().getGammaId().isValid() && !data.isDirty()) {
                reuseGamma = true;
             } else {
-               GammaId gId = GammaId.valueOf(
-                  jdbcClient.fetch(0L, OseeSql.SELECT_RELATION_GAMMA_RT_A_ART_B_ART_ORDER_REL_ART.getSql(),
-                     data.getType().getId(), data.getArtifactIdA().getId(), data.getArtifactIdB().getId(),
-                     data.getRelOrder(), data.getRelationArtifact().getId()));
+               GammaId gId = relationGammas.getOrDefault(new RelationKey(data), GammaId.SENTINEL);
                if (gId.isValid()) {
                   data.getVersion().setGammaId(gId);
                   reuseGamma = true;
@@ -381,4 +472,89 @@ public class TxSqlBuilderImpl implements OrcsVisitor, TxSqlBuilder {
    private void addRow(SqlOrderEnum sqlKey, Object... data) {
       dataItemInserts.put(sqlKey, data);
    }
-}
\ No newline at end of file
+
+   private boolean isGammaLookupNeeded(RelationData data) {
+      return !isNewAndDeleted(data) && !reuseGamma(data) && data.getType().isNewRelationTable() && !(data.getVersion().getGammaId().isValid() && !data.isDirty());
+   }
+
+   /**
+    * Gathers the lookups {@link TxSqlBuilderImpl} would otherwise issue one at a time while visiting the change set
+    */
+   private final class LookupCollector extends OrcsVisitorAdapter {
+      private final BranchId branch;
+      private final Set<GammaId> gammas = new LinkedHashSet<>();
+      private final Set<RelationKey> relations = new LinkedHashSet<>();
+      private int lookups;
+
+      private LookupCollector(BranchId branch) {
+         this.branch = branch;
+      }
+
+      @Override
+      public void visit(RelationData data) {
+         if (isGammaLookupNeeded(data)) {
+            relations.add(new RelationKey(data));
+            lookups++;
+         }
+      }
+
+      @Override
+      public void deleteTuple(BranchId branch, SqlTable tupleTable, GammaId gammaId) {
+         addGamma(branch, gammaId);
+      }
+
+      @Override
+      public void deleteBranchCategory(BranchId branch, GammaId gammaId) {
+         addGamma(branch, gammaId);
+      }
+
+      private void addGamma(BranchId branch, GammaId gammaId) {
+         if (this.branch.equals(branch)) {
+            gammas.add(gammaId);
+            lookups++;
+         }
+      }
+   }
+
+   private static final class RelationKey {
+      private final long relationType;
+      private final long artifactA;
+      private final long artifactB;
+      private final int relOrder;
+      private final long relationArtifact;
+
+      private RelationKey(RelationData data) {
+         this(data.getType().getId(), data.getArtifactIdA().getId(), data.getArtifactIdB().getId(),
+            data.getRelOrder(), data.getRelationArtifact().getId());
+      }
+
+      private RelationKey(long relationType, long artifactA, long artifactB, int relOrder, long relationArtifact) {
+         this.relationType = relationType;
+         this.artifactA = artifactA;
+         this.artifactB = artifactB;
+         this.relOrder = relOrder;
+         this.relationArtifact = relationArtifact;
+      }
+
+      @Override
+      public int hashCode() {
+         int result = Long.hashCode(relationType);
+         result = 31 * result + Long.hashCode(artifactA);
+         result = 31 * result + Long.hashCode(artifactB);
+         result = 31 * result + relOrder;
+         return 31 * result + Long.hashCode(relationArtifact);
+      }
+
+      @Override
+      public boolean equals(Object obj) {
+         if (this == obj) {
+            return true;
+         }
+         if (!(obj instanceof RelationKey)) {
+            return false;
+         }
+         RelationKey other = (RelationKey) obj;
+         return relationType == other.relationType && artifactA == other.artifactA && artifactB == other.artifactB && relOrder == other.relOrder && relationArtifact == other.relationArtifact;
+      }
+   }
+}
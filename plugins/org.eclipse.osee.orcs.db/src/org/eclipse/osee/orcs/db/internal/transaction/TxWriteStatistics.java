@@ -0,0 +1,77 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.db.internal.transaction;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.osee.orcs.statistics.TransactionStatistics;
+
+/**
+ * @author agent
+ */
+public class TxWriteStatistics implements TransactionStatistics {
+
+   private final LongAdder transactions = new LongAdder();
+   private final LongAdder lookups = new LongAdder();
+   private final LongAdder lookupRoundTrips = new LongAdder();
+   private final AtomicLong maxRoundTripsSaved = new AtomicLong();
+   private volatile long lastRoundTripsSaved;
+
+   public void record(int lookupCount, int roundTrips) {
+      long saved = lookupCount - roundTrips;
+      transactions.increment();
+      lookups.add(lookupCount);
+      lookupRoundTrips.add(roundTrips);
+      lastRoundTripsSaved = saved;
+      maxRoundTripsSaved.accumulateAndGet(saved, Math::max);
+   }
+
+   public void clear() {
+      transactions.reset();
+      lookups.reset();
+      lookupRoundTrips.reset();
+      maxRoundTripsSaved.set(0);
+      lastRoundTripsSaved = 0;
+   }
+
+   @Override
+   public long getTransactions() {
+      return transactions.sum();
+   }
+
+   @Override
+   public long getLookups() {
+      return lookups.sum();
+   }
+
+   @Override
+   public long getLookupRoundTrips() {
+      return lookupRoundTrips.sum();
+   }
+
+   @Override
+   public long getRoundTripsSaved() {
+      return getLookups() - getLookupRoundTrips();
+   }
+
+   @Override
+   public long getLastRoundTripsSaved() {
+      return lastRoundTripsSaved;
+   }
+
+   @Override
+   public long getMaxRoundTripsSaved() {
+      return maxRoundTripsSaved.get();
+   }
+}
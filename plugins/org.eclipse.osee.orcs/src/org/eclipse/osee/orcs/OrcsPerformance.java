@@ -13,7 +13,10 @@
 
 package org.eclipse.osee.orcs;
 
+import java.util.Map;
+import org.eclipse.osee.orcs.statistics.ArtifactCacheStatistics;
 import org.eclipse.osee.orcs.statistics.IndexerStatistics;
+import org.eclipse.osee.orcs.statistics.TransactionStatistics;
 
 /**
  * @author Roberto E. Escobar
@@ -24,4 +27,17 @@ public interface OrcsPerformance {
 
    void clearIndexerStatistics();
 
+   ArtifactCacheStatistics getArtifactCacheStatistics();
+
+   void clearArtifactCacheStatistics();
+
+   TransactionStatistics getTransactionStatistics();
+
+   void clearTransactionStatistics();
+
+   /**
+    * @return rows reclaimed from each join table by the scheduled join cleaner, keyed by join table name
+    */
+   Map<String, Long> getJoinCleanupStatistics();
+
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.statistics;
+
+/**
+ * @author agent
+ */
+public interface ArtifactCacheStatistics {
+
+   public long getHits();
+
+   public long getMisses();
+
+   public long getEvictions();
+
+   public long getInvalidations();
+
+   public int getEntries();
+
+   public long getWeight();
+
+   public long getCapacity();
+
+   public double getHitRatio();
+}
@@ -0,0 +1,39 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.statistics;
+
+/**
+ * @author agent
+ */
+public interface IndexerStageStatistics {
+
+   public String getName();
+
+   public int getWorkers();
+
+   public int getQueueDepth();
+
+   public int getQueueCapacity();
+
+   public long getTasksProcessed();
+
+   public long getItemsProcessed();
+
+   public long getBusyTime();
+
+   /**
+    * @return items processed per second of elapsed time since the statistics were last cleared
+    */
+   public double getThroughput();
+}
@@ -13,6 +13,8 @@
 
 package org.eclipse.osee.orcs.statistics;
 
+import java.util.List;
+
 /**
  * @author Roberto E. Escobar
  */
@@ -45,4 +47,6 @@ public interface IndexerStatistics {
    public long getTotalQueryIdsInQueue();
 
    public int getWorkersInQueue();
+
+   public List<IndexerStageStatistics> getStageStatistics();
 }
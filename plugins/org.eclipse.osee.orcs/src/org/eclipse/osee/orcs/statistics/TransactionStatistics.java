@@ -0,0 +1,38 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.orcs.statistics;
+
+/**
+ * @author agent
+ */
+public interface TransactionStatistics {
+
+   public long getTransactions();
+
+   /**
+    * @return existing applicability and relation gamma lookups the committed transactions needed
+    */
+   public long getLookups();
+
+   /**
+    * @return database round trips issued to resolve those lookups
+    */
+   public long getLookupRoundTrips();
+
+   public long getRoundTripsSaved();
+
+   public long getLastRoundTripsSaved();
+
+   public long getMaxRoundTripsSaved();
+}
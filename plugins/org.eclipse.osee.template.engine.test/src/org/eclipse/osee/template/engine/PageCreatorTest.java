@@ -21,16 +21,26 @@ import static org.eclipse.osee.template.engine.OseeTemplateTestTokens.RealizePag
 import static org.eclipse.osee.template.engine.OseeTemplateTestTokens.TestMainPage_WithIncludeFileHtml;
 import static org.eclipse.osee.template.engine.OseeTemplateTestTokens.TestValues_IncludeHtml;
 import static org.eclipse.osee.template.engine.OseeTemplateTestTokens.TestValues_KeyValueHtml;
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.HashSet;
 import java.util.Set;
 import org.eclipse.osee.framework.jdk.core.type.IResourceRegistry;
 import org.eclipse.osee.framework.jdk.core.type.OseeArgumentException;
 import org.eclipse.osee.framework.jdk.core.type.Pair;
+import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
 import org.eclipse.osee.framework.jdk.core.type.ResourceRegistry;
+import org.eclipse.osee.framework.jdk.core.type.ResourceToken;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.BeforeClass;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.MockitoAnnotations;
 
 /**
@@ -42,6 +52,9 @@ public class PageCreatorTest {
 
    private static final IResourceRegistry registry = new ResourceRegistry();
 
+   @Rule
+   public TemporaryFolder folder = new TemporaryFolder();
+
    @BeforeClass
    public static void setup() {
       OseeTemplateTestTokens.register(registry);
@@ -227,4 +240,40 @@ public class PageCreatorTest {
       Assert.assertEquals(expected, actual);
    }
 
-}
\ No newline at end of file
+   @Test
+   public void realizePage_SameTemplateDifferentSubstitutions() {
+      String actual = PageFactory.realizePage(registry, RealizePage_MainPageHtml, "header", "headerA", "key1",
+         "value1", "key2", "value2");
+      Assert.assertEquals("headerA\n\nvalue1\n\nvalue2".replaceAll("\\R", System.lineSeparator()),
+         actual.strip().replaceAll("\\R", System.lineSeparator()));
+
+      actual = PageFactory.realizePage(registry, RealizePage_MainPageHtml, "header", "headerB", "key1", "value3",
+         "key2", "value4");
+      Assert.assertEquals("headerB\n\nvalue3\n\nvalue4".replaceAll("\\R", System.lineSeparator()),
+         actual.strip().replaceAll("\\R", System.lineSeparator()));
+   }
+
+   @Test
+   public void realizePage_ModifiedTemplate() throws IOException {
+      File templateFile = folder.newFile("modified.html");
+      ResourceToken template = new ResourceToken(0x1234L, templateFile.getName()) {
+         @Override
+         public URL getUrl() {
+            try {
+               return templateFile.toURI().toURL();
+            } catch (MalformedURLException ex) {
+               throw new OseeCoreException(ex);
+            }
+         }
+      };
+      PageCreator page = PageFactory.newPageCreator(registry, "key", "value");
+
+      Files.write(templateFile.toPath(), "<?key?> one".getBytes(StandardCharsets.UTF_8));
+      Assert.assertEquals("value one", page.realizePage(template));
+      Assert.assertEquals("value one", page.realizePage(template));
+
+      Files.write(templateFile.toPath(), "<?key?> two".getBytes(StandardCharsets.UTF_8));
+      Assert.assertTrue(templateFile.setLastModified(templateFile.lastModified() + 2000));
+      Assert.assertEquals("value two", page.realizePage(template));
+   }
+}
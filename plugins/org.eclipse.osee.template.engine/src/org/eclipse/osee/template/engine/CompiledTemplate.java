@@ -0,0 +1,98 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+package org.eclipse.osee.template.engine;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.osee.framework.jdk.core.type.ResourceToken;
+
+/**
+ * A template resource scanned once into its literal text and its processing instructions so realizing a page is a
+ * straight append of the segments. Rules and substitutions are looked up by name when the page is realized, so one
+ * compiled template serves every {@link PageCreator} regardless of its substitutions.
+ *
+ * @author agent
+ */
+final class CompiledTemplate {
+
+   interface Segment {
+      void appendTo(PageCreator creator, Appendable page) throws IOException;
+   }
+
+   private final long version;
+   private final List<Segment> segments;
+
+   private CompiledTemplate(long version, List<Segment> segments) {
+      this.version = version;
+      this.segments = segments;
+   }
+
+   /**
+    * @return the last modified time of the resource this template was compiled from
+    */
+   public long getVersion() {
+      return version;
+   }
+
+   public void appendTo(PageCreator creator, Appendable page) throws IOException {
+      for (Segment segment : segments) {
+         segment.appendTo(creator, page);
+      }
+   }
+
+   public static final class Builder {
+      private final List<Segment> segments = new ArrayList<>();
+      private final StringBuilder literal = new StringBuilder();
+
+      public Builder appendLiteral(CharSequence text) {
+         literal.append(text);
+         return this;
+      }
+
+      public Builder appendInclude(ResourceToken resource, boolean processInstructions) {
+         add((creator, page) -> creator.appendTemplate(resource, processInstructions, page));
+         return this;
+      }
+
+      /**
+       * @param missingMessage format for the exception thrown when the page creator has no rule named key
+       */
+      public Builder appendRule(String key, Map<String, String> attributes, String token, String missingMessage) {
+         Map<String, String> ruleAttributes = Collections.unmodifiableMap(attributes);
+         add((creator, page) -> creator.applyRule(key, ruleAttributes, token, missingMessage, page));
+         return this;
+      }
+
+      private void add(Segment segment) {
+         flushLiteral();
+         segments.add(segment);
+      }
+
+      private void flushLiteral() {
+         if (literal.length() > 0) {
+            String text = literal.toString();
+            segments.add((creator, page) -> page.append(text));
+            literal.setLength(0);
+         }
+      }
+
+      public CompiledTemplate build(long version) {
+         flushLiteral();
+         return new CompiledTemplate(version, new ArrayList<>(segments));
+      }
+   }
+}
@@ -13,8 +13,11 @@
 
 package org.eclipse.osee.template.engine;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -27,6 +30,7 @@ import java.util.regex.Pattern;
 import org.eclipse.osee.framework.jdk.core.type.IResourceRegistry;
 import org.eclipse.osee.framework.jdk.core.type.OseeArgumentException;
 import org.eclipse.osee.framework.jdk.core.type.OseeCoreException;
+import org.eclipse.osee.framework.jdk.core.type.Pair;
 import org.eclipse.osee.framework.jdk.core.type.ResourceToken;
 import org.eclipse.osee.framework.jdk.core.util.Strings;
 
@@ -49,6 +53,13 @@ public final class PageCreator {
    private static final Pattern includeInstructionParseAttribute = Pattern.compile("parse=\"(.)+\"");
    private static final int NumOfCharsInTypicalSmallPage = 7000;
 
+   /**
+    * Templates compiled by any page creator keyed by resource url and whether processing instructions are processed,
+    * replaced when the resource's last modified time changes
+    */
+   private static final ConcurrentHashMap<Pair<String, Boolean>, CompiledTemplate> compiledTemplates =
+      new ConcurrentHashMap<>();
+
    private final IResourceRegistry registry;
    private final ConcurrentHashMap<String, AppendableRule<?>> substitutions = new ConcurrentHashMap<>();
 
@@ -175,10 +186,44 @@ public final class PageCreator {
    }
 
    private Appendable realizePage(ResourceToken templateResource, Appendable page, boolean processInstructions) {
-      return realizePage(templateResource.getInputStream(), page, processInstructions);
+      try {
+         appendTemplate(templateResource, processInstructions, page);
+      } catch (IOException ex) {
+         throw new OseeCoreException(ex);
+      }
+      return page;
+   }
+
+   void appendTemplate(ResourceToken templateResource, boolean processInstructions, Appendable page) throws IOException {
+      getCompiledTemplate(templateResource, processInstructions).appendTo(this, page);
+   }
+
+   private CompiledTemplate getCompiledTemplate(ResourceToken templateResource, boolean processInstructions) {
+      URL url = templateResource.getUrl();
+      long version = getLastModified(url);
+      Pair<String, Boolean> key = new Pair<>(url.toExternalForm(), processInstructions);
+      CompiledTemplate template = compiledTemplates.get(key);
+      if (template == null || template.getVersion() != version) {
+         template = compile(templateResource.getInputStream(), processInstructions, version);
+         compiledTemplates.put(key, template);
+      }
+      return template;
    }
 
-   private Appendable realizePage(InputStream template, Appendable page, boolean processInstructions) {
+   private static long getLastModified(URL url) {
+      try {
+         if ("file".equals(url.getProtocol())) {
+            // avoid URLConnection which opens an input stream for file urls
+            return new File(url.toURI()).lastModified();
+         }
+         return url.openConnection().getLastModified();
+      } catch (IOException | URISyntaxException | IllegalArgumentException ex) {
+         return 0L;
+      }
+   }
+
+   private CompiledTemplate compile(InputStream template, boolean processInstructions, long version) {
+      CompiledTemplate.Builder builder = new CompiledTemplate.Builder();
       Scanner scanner = new Scanner(template, "UTF-8");
       try {
          scanner.useDelimiter(xmlProcessingInstructionStartOrEnd);
@@ -186,15 +231,13 @@ public final class PageCreator {
          boolean isProcessingInstruction =
             processInstructions ? scanner.findInLine(xmlProcessingInstructionStart) != null : false;
          while (scanner.hasNext()) {
-            processToken(page, scanner.next(), isProcessingInstruction);
+            compileToken(builder, scanner.next(), isProcessingInstruction);
             isProcessingInstruction = processInstructions ? !isProcessingInstruction : false;
          }
-      } catch (IOException ex) {
-         throw new OseeCoreException(ex);
       } finally {
          scanner.close();
       }
-      return page;
+      return builder.build(version);
    }
 
    private Long toUniversalId(String token) {
@@ -213,48 +256,44 @@ public final class PageCreator {
       return null;
    }
 
-   private void processToken(Appendable page, String token, boolean isProcessingInstruction) throws IOException {
+   private void compileToken(CompiledTemplate.Builder builder, String token, boolean isProcessingInstruction) {
       if (isProcessingInstruction) {
          if (token.startsWith("include")) {
-            appendInclude(page, token);
+            ResourceToken resource = registry.getResourceToken(toUniversalId(token));
+            builder.appendLiteral(getIncludeHeader(resource.getName()));
+            builder.appendInclude(resource, parseInclude(token));
          } else if (token.startsWith("xml ") || token.startsWith("mso-application ")) {
-            page.append("<?");
-            page.append(token);
-            page.append("?>");
+            builder.appendLiteral("<?").appendLiteral(token).appendLiteral("?>");
          } else if (token.startsWith("rule")) {
             // get rule name
             String ruleName = getRuleNamefromToken(token);
             if (!Strings.isValid(ruleName)) {
                throw new OseeArgumentException("no rule name specified in token %s", token);
             }
-            AppendableRule<?> rule = substitutions.get(ruleName);
-            if (rule == null) {
-               throw new OseeArgumentException("no rule was found for token %s", token);
-            }
             Map<String, String> attributes = new HashMap<>();
             // parse the arguments
             parseArgumentList(token, attributes);
-            try {
-               rule.applyTo(page, attributes);
-            } catch (IOException ex) {
-               throw new OseeCoreException(ex);
-            }
+            builder.appendRule(ruleName, attributes, token, "no rule was found for token %s");
          } else {
-            AppendableRule<?> rule = substitutions.get(token);
-            if (rule == null) {
-               throw new OseeArgumentException("no substitution was found for token %s", token);
-            }
             Map<String, String> attributes = new HashMap<>();
             // parse the arguments
             parseArgumentList(token, attributes);
-            try {
-               rule.applyTo(page, attributes);
-            } catch (IOException ex) {
-               throw new OseeCoreException(ex);
-            }
+            builder.appendRule(token, attributes, token, "no substitution was found for token %s");
          }
       } else {
-         page.append(token);
+         builder.appendLiteral(token);
+      }
+   }
+
+   void applyRule(String ruleName, Map<String, String> attributes, String token, String missingMessage, Appendable page) {
+      AppendableRule<?> rule = substitutions.get(ruleName);
+      if (rule == null) {
+         throw new OseeArgumentException(missingMessage, token);
+      }
+      try {
+         rule.applyTo(page, attributes);
+      } catch (IOException ex) {
+         throw new OseeCoreException(ex);
       }
    }
 
@@ -289,19 +328,18 @@ public final class PageCreator {
       Long universalId = toUniversalId(tokenStr);
       boolean parseInclude = parseInclude(tokenStr);
       ResourceToken token = registry.getResourceToken(universalId);
-      String name = token.getName();
 
+      page.append(getIncludeHeader(token.getName()));
+      appendTemplate(token, parseInclude, page);
+   }
+
+   private String getIncludeHeader(String name) {
       if (name.endsWith(".css")) {
-         page.append("/* ");
-         page.append(name);
-         page.append(" */\n");
+         return "/* " + name + " */\n";
       } else if (name.endsWith(".html")) {
-         page.append("<!-- ");
-         page.append(name);
-         page.append(" -->\n");
+         return "<!-- " + name + " -->\n";
       }
-
-      page.append(realizePage(token, parseInclude));
+      return "";
    }
 
    @Override
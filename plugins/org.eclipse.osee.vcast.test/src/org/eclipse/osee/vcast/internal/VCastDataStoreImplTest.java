@@ -0,0 +1,169 @@
+/*********************************************************************
+ * Copyright (c) 2026 Boeing
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Boeing - initial API and implementation
+ **********************************************************************/
+
+
+package org.eclipse.osee.vcast.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.osee.jdbc.JdbcClient;
+import org.eclipse.osee.jdbc.JdbcConnection;
+import org.eclipse.osee.jdbc.JdbcStatement;
+import org.eclipse.osee.logger.Log;
+import org.eclipse.osee.vcast.model.VCastFunction;
+import org.eclipse.osee.vcast.model.VCastMcdcCoveragePairRow;
+import org.eclipse.osee.vcast.model.VCastStatementCoverage;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * @author agent
+ */
+public class VCastDataStoreImplTest {
+
+   private static final int FUNCTION_ID = 7;
+   private static final String PAIR_ROWS_TABLE = "mcdc_coverage_pair_rows";
+
+   // @formatter:off
+   @Mock private JdbcClient client;
+   @Mock private JdbcConnection connection;
+   @Mock private Log logger;
+   // @formatter:on
+
+   private final List<List<Object>> queries = new ArrayList<>();
+   private final List<Map<String, Object>> pairRows = new ArrayList<>();
+   private final List<Map<String, Object>> statementRows = new ArrayList<>();
+   private VCastDataStoreImpl dataStore;
+
+   @Before
+   public void setup() {
+      MockitoAnnotations.initMocks(this);
+      when(client.getConnection()).thenReturn(connection);
+      when(client.getStatement(connection, true)).thenAnswer(invocation -> newStatement());
+
+      pairRows.add(row("id", 1, "mcdc_id", 100, "row_value", 1, "row_result", 1, "hit_count", 1, "max_hit_count", 1));
+      pairRows.add(row("id", 2, "mcdc_id", 100, "row_value", 3, "row_result", 0, "hit_count", 0, "max_hit_count", 1));
+      pairRows.add(row("id", 3, "mcdc_id", 200, "row_value", 2, "row_result", 0, "hit_count", 1, "max_hit_count", 1));
+
+      statementRows.add(mcdcRow(11, 3, 100, "a", 1));
+      statementRows.add(mcdcRow(11, 3, 100, "b", 2));
+      statementRows.add(mcdcRow(12, 5, 200, "", 0));
+      statementRows.add(row("sc_id", 13, "line", 6, "mcdc_id", 0, "hit_count", 1, "max_hit_count", 1));
+      statementRows.add(row("sc_id", 14, "line", 0, "mcdc_id", 0, "hit_count", 0, "max_hit_count", 0));
+
+      dataStore = new VCastDataStoreImpl(client, logger);
+      dataStore.setIsMCDC();
+   }
+
+   @Test
+   public void testMcdcPairRowsReadOncePerFunction() {
+      VCastFunction function = new VCastFunction(FUNCTION_ID, 1, 1, "Foo", "Foo", 6, 2, 2);
+      List<VCastStatementCoverage> lines = new ArrayList<>(dataStore.getStatementCoverageLines(function));
+
+      assertEquals(4, lines.size());
+      assertEquals(Arrays.asList(1, 2), rowIds(lines.get(0)));
+      assertEquals(Arrays.asList(1, 2), rowIds(lines.get(1)));
+      assertEquals(Collections.singletonList(3), rowIds(lines.get(2)));
+      assertTrue(lines.get(3).getCoverageRows().isEmpty());
+
+      // conditions of the same decision share pair rows but not the list holding them
+      assertNotSame(lines.get(0).getCoverageRows(), lines.get(1).getCoverageRows());
+      assertEquals("1 (Pa)", lines.get(0).getAbbrevCondition());
+      assertEquals("RESULT", lines.get(2).getAbbrevCondition());
+
+      int pairQueries = 0;
+      for (List<Object> query : queries) {
+         if (String.valueOf(query.get(0)).contains(PAIR_ROWS_TABLE)) {
+            pairQueries++;
+            assertTrue(query.contains(FUNCTION_ID));
+         }
+      }
+      assertEquals(1, pairQueries);
+   }
+
+   private JdbcStatement newStatement() {
+      JdbcStatement stmt = mock(JdbcStatement.class);
+      List<Map<String, Object>> results = new ArrayList<>();
+      Map<String, Object> current = new HashMap<>();
+      doAnswer(invocation -> {
+         queries.add(Arrays.asList(invocation.getArguments()));
+         results.addAll(rowsFor(invocation.getArgument(0)));
+         return null;
+      }).when(stmt).runPreparedQuery(anyString(), any());
+      when(stmt.next()).thenAnswer(invocation -> {
+         current.clear();
+         Iterator<Map<String, Object>> iterator = results.iterator();
+         if (iterator.hasNext()) {
+            current.putAll(iterator.next());
+            iterator.remove();
+            return true;
+         }
+         return false;
+      });
+      when(stmt.getInt(anyString())).thenAnswer(
+         invocation -> (Integer) current.getOrDefault(invocation.getArgument(0), 0));
+      when(stmt.getString(anyString())).thenAnswer(invocation -> (String) current.get(invocation.getArgument(0)));
+      return stmt;
+   }
+
+   private List<Map<String, Object>> rowsFor(String query) {
+      if (query.contains(PAIR_ROWS_TABLE)) {
+         return pairRows;
+      } else if (query.contains("statement_coverage")) {
+         return statementRows;
+      } else if (query.equals("SELECT COUNT(1) FROM mcdc_coverage")) {
+         return Collections.singletonList(row("count(1)", 1));
+      }
+      return Collections.emptyList();
+   }
+
+   private Map<String, Object> mcdcRow(int statementId, int line, int mcdcId, String variable, int condIndex) {
+      Map<String, Object> row = row("sc_id", statementId, "line", line, "mcdc_id", mcdcId, "hit_count", 0,
+         "max_hit_count", 1, "num_conditions", 6, "cond_index", condIndex);
+      row.put("cond_variable", variable);
+      row.put("cond_expr", variable);
+      row.put("simplified_expr", "a and b");
+      return row;
+   }
+
+   private Map<String, Object> row(Object... columnsAndValues) {
+      Map<String, Object> row = new HashMap<>();
+      for (int i = 0; i < columnsAndValues.length; i += 2) {
+         row.put((String) columnsAndValues[i], columnsAndValues[i + 1]);
+      }
+      return row;
+   }
+
+   private List<Integer> rowIds(VCastStatementCoverage coverage) {
+      List<Integer> ids = new ArrayList<>();
+      for (VCastMcdcCoveragePairRow pairRow : coverage.getCoverageRows()) {
+         ids.add(pairRow.getId());
+      }
+      return ids;
+   }
+}
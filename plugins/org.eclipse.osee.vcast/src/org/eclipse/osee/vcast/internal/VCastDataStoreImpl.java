@@ -15,6 +15,8 @@ package org.eclipse.osee.vcast.internal;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import org.eclipse.osee.jdbc.JdbcClient;
 import org.eclipse.osee.jdbc.JdbcConnection;
 import org.eclipse.osee.jdbc.JdbcStatement;
@@ -612,6 +614,7 @@ public class VCastDataStoreImpl implements VCastDataStore {
 
    private Collection<VCastStatementCoverage> getStatementCoverageLinesWithMCDC(VCastFunction function) {
       Collection<VCastStatementCoverage> toReturn = new ArrayList<>();
+      Map<Integer, ArrayList<VCastMcdcCoveragePairRow>> mcdcIdToPairRows = queryMcdcPairs(function.getId());
 
       JdbcStatement stmt = getStatement();
 
@@ -659,8 +662,10 @@ public class VCastDataStoreImpl implements VCastDataStore {
                // Not an MCDC pair so name wont matter
                variableFullName = null;
             }
+            ArrayList<VCastMcdcCoveragePairRow> pairRows = mcdcIdToPairRows.get(mcdc_id);
             toReturn.add(new VCastStatementCoverage(id, function.getId(), line, hit_count, max_hit_count, isMCDCPair,
-               variableFullName, cond_expr, num_conditions, cond_index, queryMcdcPairs(mcdc_id)));
+               variableFullName, cond_expr, num_conditions, cond_index,
+               pairRows == null ? new ArrayList<>() : new ArrayList<>(pairRows)));
          }
 
       } catch (Exception ex) {
@@ -671,17 +676,22 @@ public class VCastDataStoreImpl implements VCastDataStore {
       return toReturn;
    }
 
-   private ArrayList<VCastMcdcCoveragePairRow> queryMcdcPairs(int mcdcId) {
+   /**
+    * Reads the pair rows of every MCDC condition in the function with one query rather than one query per statement
+    * row
+    */
+   private Map<Integer, ArrayList<VCastMcdcCoveragePairRow>> queryMcdcPairs(int functionId) {
 
-      ArrayList<VCastMcdcCoveragePairRow> mcdcCoveragePairRows = new ArrayList<VCastMcdcCoveragePairRow>();
+      Map<Integer, ArrayList<VCastMcdcCoveragePairRow>> mcdcIdToPairRows = new HashMap<>();
       JdbcStatement rowStmt = getStatement();
 
       try {
          // @formatter:off
-         String query = "SELECT * FROM mcdc_coverage_pair_rows WHERE mcdc_id = ?";
+         String query = "SELECT pr.* FROM mcdc_coverage_pair_rows pr, mcdc_coverage mcdc" +
+            " WHERE pr.mcdc_id = mcdc.id AND mcdc.function_id = ? ORDER BY pr.mcdc_id, pr.id";
          // @formatter:on
 
-         rowStmt.runPreparedQuery(query, mcdcId);
+         rowStmt.runPreparedQuery(query, functionId);
 
          while (rowStmt.next()) {
             Integer id = rowStmt.getInt("id");
@@ -692,14 +702,14 @@ public class VCastDataStoreImpl implements VCastDataStore {
             Integer max_hit_count = rowStmt.getInt("max_hit_count");
             VCastMcdcCoveragePairRow pairRow =
                new VCastMcdcCoveragePairRow(id, mcdc_id, row_value, row_result, hit_count, max_hit_count);
-            mcdcCoveragePairRows.add(pairRow);
+            mcdcIdToPairRows.computeIfAbsent(mcdc_id, key -> new ArrayList<>()).add(pairRow);
          }
       } catch (Exception ex) {
          logger.error(ex.toString());
       } finally {
          rowStmt.close();
       }
-      return mcdcCoveragePairRows;
+      return mcdcIdToPairRows;
    }
 
    @Override